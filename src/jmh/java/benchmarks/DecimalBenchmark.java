@@ -0,0 +1,69 @@
+package benchmarks;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.binance.connector.client.utils.DecimalWriter;
+
+/**
+ * {@link DecimalWriter} against the {@link DecimalFormat} it replaces, on a price, a quantity,
+ * a value needing the fallback and a BigDecimal. Run with {@code -t} to compare under contention.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(1)
+public class DecimalBenchmark {
+    @Param({"30000.5", "0.00012", "0.30000000000000004"})
+    public double value;
+
+    private DecimalFormat decimalFormat;
+    private BigDecimal bigDecimal;
+
+    @Setup
+    public void setup() {
+        decimalFormat = new DecimalFormat("#,##0.###", new DecimalFormatSymbols(Locale.ENGLISH));
+        decimalFormat.setMaximumFractionDigits(30);
+        decimalFormat.setGroupingUsed(false);
+        bigDecimal = BigDecimal.valueOf(value);
+    }
+
+    @Benchmark
+    public String decimalFormat() {
+        return decimalFormat.format(value);
+    }
+
+    @Benchmark
+    public String decimalWriter() {
+        return DecimalWriter.toString(value);
+    }
+
+    @Benchmark
+    public String decimalFormatBigDecimal() {
+        return decimalFormat.format(bigDecimal);
+    }
+
+    @Benchmark
+    public String decimalWriterBigDecimal() {
+        return DecimalWriter.toString(bigDecimal);
+    }
+}
@@ -0,0 +1,46 @@
+package benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.binance.connector.client.utils.JSONParser;
+
+/**
+ * Sorting and serialization of the params of a WebSocket API new order.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JSONParserBenchmark {
+    private JSONObject parameters;
+
+    @Setup
+    public void setup() {
+        parameters = Payloads.newOrderJSONObject();
+    }
+
+    @Benchmark
+    public Map<String, Object> sortJSONObject() {
+        return JSONParser.sortJSONObject(parameters);
+    }
+
+    @Benchmark
+    public String buildJSONString() {
+        return JSONParser.buildJSONString("b7a2e1c4", "order.place", parameters);
+    }
+}
@@ -0,0 +1,70 @@
+package benchmarks;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.json.JSONObject;
+
+/**
+ * Payloads shared by the benchmarks, sized like real requests and stream events.
+ */
+final class Payloads {
+    static final String NEW_ORDER_QUERY = "symbol=BTCUSDT&side=SELL&type=LIMIT&timeInForce=GTC&quantity=0.2"
+            + "&price=30000&newClientOrderId=my_order_1&recvWindow=5000&timestamp=1683189275000";
+
+    static final String TRADE_EVENT = "{\"e\":\"trade\",\"E\":1672515782136,\"s\":\"BNBBTC\",\"t\":12345,"
+            + "\"p\":\"0.001\",\"q\":\"100\",\"b\":88,\"a\":50,\"T\":1672515782136,\"m\":true,\"M\":true}";
+
+    static final String BOOK_TICKER_EVENT = "{\"u\":400900217,\"s\":\"BNBUSDT\",\"b\":\"25.35190000\","
+            + "\"B\":\"31.21000000\",\"a\":\"25.36520000\",\"A\":\"40.66000000\"}";
+
+    static final String DEPTH_UPDATE_EVENT = "{\"e\":\"depthUpdate\",\"E\":1672515782136,\"s\":\"BNBBTC\","
+            + "\"U\":157,\"u\":160,"
+            + "\"b\":[[\"0.0024\",\"10\"],[\"0.0023\",\"12.5\"],[\"0.0022\",\"3\"],[\"0.0021\",\"0\"],[\"0.0020\",\"100\"]],"
+            + "\"a\":[[\"0.0026\",\"100\"],[\"0.0027\",\"2.25\"],[\"0.0028\",\"0\"],[\"0.0029\",\"7\"],[\"0.0030\",\"1\"]]}";
+
+    static final String ORDER_RESPONSE = "{\"symbol\":\"BTCUSDT\",\"orderId\":28,\"orderListId\":-1,"
+            + "\"clientOrderId\":\"6gCrw2kRUAF9CvJDGP16IP\",\"transactTime\":1507725176595,\"price\":\"0.00000000\","
+            + "\"origQty\":\"10.00000000\",\"executedQty\":\"10.00000000\",\"cummulativeQuoteQty\":\"10.00000000\","
+            + "\"status\":\"FILLED\",\"timeInForce\":\"GTC\",\"type\":\"MARKET\",\"side\":\"SELL\","
+            + "\"workingTime\":1507725176595,\"selfTradePreventionMode\":\"NONE\"}";
+
+    private Payloads() {
+    }
+
+    /**
+     * Message of the all market tickers stream, with one 24hr ticker per symbol.
+     */
+    static String allTickers(int symbols) {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < symbols; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("{\"e\":\"24hrTicker\",\"E\":1672515782136,\"s\":\"SYM").append(i).append("USDT\",")
+                    .append("\"p\":\"0.0015\",\"P\":\"250.000\",\"w\":\"0.0018\",\"x\":\"0.0009\",\"c\":\"0.0025\",")
+                    .append("\"Q\":\"10\",\"b\":\"0.0024\",\"B\":\"10\",\"a\":\"0.0026\",\"A\":\"100\",\"o\":\"0.0010\",")
+                    .append("\"h\":\"0.0025\",\"l\":\"0.0010\",\"v\":\"10000\",\"q\":\"18\",\"O\":0,\"C\":86400000,")
+                    .append("\"F\":0,\"L\":18150,\"n\":18151}");
+        }
+        return builder.append(']').toString();
+    }
+
+    static Map<String, Object> newOrderParameters() {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("symbol", "BTCUSDT");
+        parameters.put("side", "SELL");
+        parameters.put("type", "LIMIT");
+        parameters.put("timeInForce", "GTC");
+        parameters.put("quantity", 0.2);
+        parameters.put("price", 30000.5);
+        parameters.put("newClientOrderId", "my_order_1");
+        parameters.put("recvWindow", 5000);
+        parameters.put("timestamp", 1683189275000L);
+        return parameters;
+    }
+
+    static JSONObject newOrderJSONObject() {
+        return new JSONObject(newOrderParameters());
+    }
+}
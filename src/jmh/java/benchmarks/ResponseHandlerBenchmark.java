@@ -0,0 +1,94 @@
+package benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.binance.connector.client.utils.BinanceResponse;
+import com.binance.connector.client.utils.ResponseHandler;
+import com.binance.connector.client.utils.httpclient.HttpClientSingleton;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+/**
+ * Round trip of a request to a local {@link MockWebServer} answering with a new order response,
+ * so the numbers cover OkHttp and the response handling but not the network.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseHandlerBenchmark {
+    private MockWebServer mockWebServer;
+    private OkHttpClient client;
+    private Request request;
+
+    @Setup
+    public void setup() throws IOException {
+        mockWebServer = new MockWebServer();
+        mockWebServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest recordedRequest) {
+                return new MockResponse()
+                        .addHeader("Content-Type", "application/json;charset=UTF-8")
+                        .addHeader("X-MBX-USED-WEIGHT-1M", "1")
+                        .addHeader("X-MBX-ORDER-COUNT-10S", "1")
+                        .setBody(Payloads.ORDER_RESPONSE);
+            }
+        });
+        mockWebServer.start();
+        client = HttpClientSingleton.getHttpClient();
+        request = new Request.Builder().url(mockWebServer.url("/api/v3/order?" + Payloads.NEW_ORDER_QUERY)).build();
+    }
+
+    @TearDown(Level.Iteration)
+    public void drainRecordedRequests() throws InterruptedException {
+        while (mockWebServer.takeRequest(0, TimeUnit.MILLISECONDS) != null) {
+            continue;
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        mockWebServer.shutdown();
+    }
+
+    @Benchmark
+    public String handleResponse() {
+        return ResponseHandler.handleResponse(client, request, false, null);
+    }
+
+    @Benchmark
+    public String handleResponseShowLimitUsage() {
+        return ResponseHandler.handleResponse(client, request, true, null);
+    }
+
+    @Benchmark
+    public BinanceResponse handleResponseWithMetadata() {
+        return ResponseHandler.handleResponseWithMetadata(client, request, null);
+    }
+
+    @Benchmark
+    public String handleResponseAsync() {
+        return ResponseHandler.handleResponseAsync(client, request, false, null).join();
+    }
+}
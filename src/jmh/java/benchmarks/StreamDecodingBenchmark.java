@@ -0,0 +1,119 @@
+package benchmarks;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.binance.connector.client.enums.Side;
+import com.binance.connector.client.utils.decoder.StreamDecoder;
+
+/**
+ * Decoding of stream events down to their numeric fields, through org.json as a callback does it by hand,
+ * against the {@link StreamDecoder} writing into reusable events.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StreamDecodingBenchmark {
+    private Blackhole sink;
+    private StreamDecoder decoder;
+    private ByteBuffer depthUpdateFrame;
+
+    @Setup
+    public void setup() {
+        depthUpdateFrame = ByteBuffer.wrap(Payloads.DEPTH_UPDATE_EVENT.getBytes(StandardCharsets.UTF_8)).asReadOnlyBuffer();
+        decoder = new StreamDecoder()
+                .onTrade(event -> {
+                    sink.consume(event.getTradeId());
+                    sink.consume(event.getPrice());
+                    sink.consume(event.getQuantity());
+                })
+                .onBookTicker(event -> {
+                    sink.consume(event.getUpdateId());
+                    sink.consume(event.getBidPrice());
+                    sink.consume(event.getAskPrice());
+                })
+                .onDepthUpdate(event -> {
+                    sink.consume(event.getLastUpdateId());
+                    for (Side side : Side.values()) {
+                        for (int i = 0; i < event.count(side); i++) {
+                            sink.consume(event.price(side, i));
+                            sink.consume(event.quantity(side, i));
+                        }
+                    }
+                });
+    }
+
+    @Benchmark
+    public void trade(Blackhole blackhole) {
+        JSONObject event = new JSONObject(Payloads.TRADE_EVENT);
+        blackhole.consume(event.getLong("t"));
+        blackhole.consume(Double.parseDouble(event.getString("p")));
+        blackhole.consume(Double.parseDouble(event.getString("q")));
+    }
+
+    @Benchmark
+    public void bookTicker(Blackhole blackhole) {
+        JSONObject event = new JSONObject(Payloads.BOOK_TICKER_EVENT);
+        blackhole.consume(event.getLong("u"));
+        blackhole.consume(Double.parseDouble(event.getString("b")));
+        blackhole.consume(Double.parseDouble(event.getString("a")));
+    }
+
+    @Benchmark
+    public void depthUpdate(Blackhole blackhole) {
+        JSONObject event = new JSONObject(Payloads.DEPTH_UPDATE_EVENT);
+        blackhole.consume(event.getLong("u"));
+        consumeLevels(event.getJSONArray("b"), blackhole);
+        consumeLevels(event.getJSONArray("a"), blackhole);
+    }
+
+    private static void consumeLevels(JSONArray levels, Blackhole blackhole) {
+        for (int i = 0; i < levels.length(); i++) {
+            JSONArray level = levels.getJSONArray(i);
+            blackhole.consume(Double.parseDouble(level.getString(0)));
+            blackhole.consume(Double.parseDouble(level.getString(1)));
+        }
+    }
+
+    @Benchmark
+    public boolean decoderTrade(Blackhole blackhole) {
+        sink = blackhole;
+        return decoder.decode(Payloads.TRADE_EVENT);
+    }
+
+    @Benchmark
+    public boolean decoderBookTicker(Blackhole blackhole) {
+        sink = blackhole;
+        return decoder.decode(Payloads.BOOK_TICKER_EVENT);
+    }
+
+    @Benchmark
+    public boolean decoderDepthUpdate(Blackhole blackhole) {
+        sink = blackhole;
+        return decoder.decode(Payloads.DEPTH_UPDATE_EVENT);
+    }
+
+    @Benchmark
+    public boolean decoderDepthUpdateFrame(Blackhole blackhole) {
+        sink = blackhole;
+        return decoder.decode(depthUpdateFrame);
+    }
+}
@@ -0,0 +1,76 @@
+package benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.binance.connector.client.enums.TickerField;
+import com.binance.connector.client.impl.marketdata.TickerCache;
+
+/**
+ * One message of the all market tickers stream applied to a {@link TickerCache}, against parsing it with
+ * org.json into a map of the latest ticker per symbol, and a read of the latest price from each.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TickerCacheBenchmark {
+    @Param({"2000"})
+    private int symbols;
+
+    private String message;
+    private TickerCache cache;
+    private Map<String, JSONObject> tickers;
+
+    @Setup
+    public void setup() {
+        message = Payloads.allTickers(symbols);
+        cache = new TickerCache();
+        cache.onMessage(message);
+        tickers = new HashMap<>();
+        jsonUpdate();
+    }
+
+    @Benchmark
+    public long cacheUpdate() {
+        cache.onMessage(message);
+        return cache.getUpdateCount();
+    }
+
+    @Benchmark
+    public int jsonUpdate() {
+        JSONArray array = new JSONArray(message);
+        for (int i = 0; i < array.length(); i++) {
+            JSONObject ticker = array.getJSONObject(i);
+            tickers.put(ticker.getString("s"), ticker);
+        }
+        return tickers.size();
+    }
+
+    @Benchmark
+    public double cacheRead() {
+        return cache.get("SYM1000USDT", TickerField.LAST_PRICE);
+    }
+
+    @Benchmark
+    public double jsonRead() {
+        return Double.parseDouble(tickers.get("SYM1000USDT").getString("c"));
+    }
+}
@@ -0,0 +1,80 @@
+package benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.binance.connector.client.enums.OrderType;
+import com.binance.connector.client.enums.Side;
+import com.binance.connector.client.enums.TimeInForce;
+import com.binance.connector.client.requests.NewOrderRequest;
+import com.binance.connector.client.utils.QueryEncoder;
+import com.binance.connector.client.utils.UrlBuilder;
+import com.binance.connector.client.utils.signaturegenerator.HmacSignatureGenerator;
+
+/**
+ * Query building of a new order, from a parameter Map and from a {@link NewOrderRequest},
+ * with and without the HMAC signature.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UrlBuilderBenchmark {
+    private static final String BASE_URL = "https://api.binance.com";
+    private static final String URL_PATH = "/api/v3/order";
+    private static final String SECRET_KEY = "NhqPtmdSJYdKjVHjA7PZj4Mge3R5YNiP1e3UZjInClVN65XAbvqqM6A7H5fATj0j";
+
+    private Map<String, Object> parameters;
+    private NewOrderRequest request;
+    private HmacSignatureGenerator hmac;
+
+    @Setup
+    public void setup() {
+        parameters = Payloads.newOrderParameters();
+        request = new NewOrderRequest()
+                .symbol("BTCUSDT")
+                .side(Side.SELL)
+                .type(OrderType.LIMIT)
+                .timeInForce(TimeInForce.GTC)
+                .quantity(2, 1)
+                .price(300005, 1)
+                .newClientOrderId("my_order_1")
+                .recvWindow(5000);
+        hmac = new HmacSignatureGenerator(SECRET_KEY);
+    }
+
+    @Benchmark
+    public String joinQueryParameters() {
+        return UrlBuilder.joinQueryParameters(parameters);
+    }
+
+    @Benchmark
+    public String buildFullUrl() {
+        return UrlBuilder.buildFullUrl(BASE_URL, URL_PATH, parameters);
+    }
+
+    @Benchmark
+    public String signedUrlFromMap() {
+        return QueryEncoder.get().appendParameters(parameters).appendSignature(hmac).toUrl(BASE_URL, URL_PATH);
+    }
+
+    @Benchmark
+    public String signedUrlFromRequest() {
+        QueryEncoder encoder = QueryEncoder.get();
+        request.writeTo(encoder);
+        return encoder.appendParameter("timestamp", 1683189275000L).appendSignature(hmac).toUrl(BASE_URL, URL_PATH);
+    }
+}
@@ -0,0 +1,76 @@
+package benchmarks;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.binance.connector.client.enums.RequestType;
+import com.binance.connector.client.utils.WebSocketConnection;
+import com.binance.connector.client.utils.httpclient.WebSocketApiHttpClientSingleton;
+import com.binance.connector.client.utils.signaturegenerator.HmacSignatureGenerator;
+import com.binance.connector.client.utils.websocketapi.WebSocketApiRequestHandler;
+
+import okhttp3.Request;
+
+/**
+ * Building and signing of a WebSocket API new order, up to the text frame handed to the socket, and the
+ * completion of its future by the response. The request handler consumes its params, so each invocation
+ * copies them first.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WebSocketApiRequestBenchmark {
+    private static final String SECRET_KEY = "NhqPtmdSJYdKjVHjA7PZj4Mge3R5YNiP1e3UZjInClVN65XAbvqqM6A7H5fATj0j";
+    private static final String API_KEY = "vmPUZE6mv9SD5VNHk4HlWFsOr6aKE2zvsw0MuIgwCIPy6utIco14y7Ju91duEh8A";
+    private static final String REQUEST_ID = "56374a46-3061-486b-a311-99ee972eb648";
+    private static final String RESPONSE = "{\"id\":\"" + REQUEST_ID + "\",\"status\":200,\"result\":{\"orderId\":12569099453}}";
+
+    private JSONObject parameters;
+    private WebSocketApiRequestHandler handler;
+    private String sent;
+
+    @Setup
+    public void setup() {
+        Request request = new Request.Builder().url("wss://ws-api.binance.com:443/ws-api/v3").build();
+        WebSocketConnection connection = new WebSocketConnection(null, null, null, null, null, request, WebSocketApiHttpClientSingleton.getHttpClient()) {
+            @Override
+            public void send(String message) {
+                sent = message;
+            }
+        };
+        handler = new WebSocketApiRequestHandler(connection, API_KEY, new HmacSignatureGenerator(SECRET_KEY));
+        handler.setRequestTimeout(0, TimeUnit.MILLISECONDS);
+        parameters = Payloads.newOrderJSONObject();
+        parameters.remove("timestamp");
+        parameters.put("requestId", REQUEST_ID);
+    }
+
+    @Benchmark
+    public String publicRequest() {
+        CompletableFuture<String> response = handler.request(RequestType.PUBLIC, "order.place", new JSONObject(parameters.toMap()));
+        handler.onMessage(RESPONSE);
+        return sent + response.join();
+    }
+
+    @Benchmark
+    public String signedRequest() {
+        CompletableFuture<String> response = handler.request(RequestType.SIGNED, "order.place", new JSONObject(parameters.toMap()));
+        handler.onMessage(RESPONSE);
+        return sent + response.join();
+    }
+}
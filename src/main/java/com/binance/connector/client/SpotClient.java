@@ -1,5 +1,7 @@
 package com.binance.connector.client;
 
+import java.util.concurrent.Executor;
+
 import com.binance.connector.client.impl.spot.AutoInvest;
 import com.binance.connector.client.impl.spot.Blvt;
 import com.binance.connector.client.impl.spot.C2C;
@@ -24,12 +26,23 @@ import com.binance.connector.client.impl.spot.UserData;
 import com.binance.connector.client.impl.spot.VIPLoans;
 import com.binance.connector.client.impl.spot.Wallet;
 import com.binance.connector.client.utils.ProxyAuth;
+import com.binance.connector.client.utils.httpclient.HttpClientConfig;
+import com.binance.connector.client.utils.metrics.RequestMetrics;
+import com.binance.connector.client.utils.ratelimit.RateLimiter;
+
+import okhttp3.OkHttpClient;
 
 
 public interface SpotClient {
     void setShowLimitUsage(boolean showLimitUsage);
     void setProxy(ProxyAuth proxy);
     void unsetProxy();
+    void setHttpClientConfig(HttpClientConfig httpClientConfig);
+    void setHttpClient(OkHttpClient httpClient);
+    OkHttpClient getHttpClient();
+    void setExecutor(Executor executor);
+    void setRateLimiter(RateLimiter rateLimiter);
+    void setRequestMetrics(RequestMetrics requestMetrics);
     AutoInvest createAutoInvest();
     Blvt createBlvt();
     C2C createC2C();
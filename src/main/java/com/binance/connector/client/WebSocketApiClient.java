@@ -1,11 +1,15 @@
 package com.binance.connector.client;
 
+import java.util.concurrent.TimeUnit;
+
+import com.binance.connector.client.enums.SessionState;
 import com.binance.connector.client.impl.websocketapi.WebSocketApiAccount;
 import com.binance.connector.client.impl.websocketapi.WebSocketApiAuth;
 import com.binance.connector.client.impl.websocketapi.WebSocketApiGeneral;
 import com.binance.connector.client.impl.websocketapi.WebSocketApiMarket;
 import com.binance.connector.client.impl.websocketapi.WebSocketApiTrade;
 import com.binance.connector.client.impl.websocketapi.WebSocketApiUserDataStream;
+import com.binance.connector.client.utils.ReconnectPolicy;
 import com.binance.connector.client.utils.websocketcallback.WebSocketClosedCallback;
 import com.binance.connector.client.utils.websocketcallback.WebSocketClosingCallback;
 import com.binance.connector.client.utils.websocketcallback.WebSocketFailureCallback;
@@ -16,6 +20,10 @@ public interface WebSocketApiClient {
     void connect(WebSocketMessageCallback onMessageCallback);
     void connect(WebSocketOpenCallback onOpenCallback, WebSocketMessageCallback onMessageCallback, WebSocketClosingCallback onClosingCallback, WebSocketClosedCallback onClosedCallback, WebSocketFailureCallback onFailureCallback);
     void close();
+    void setRequestTimeout(long timeout, TimeUnit unit);
+    void setAutoLogon(boolean enabled);
+    void setReconnectPolicy(ReconnectPolicy policy);
+    SessionState getSessionState();
     WebSocketApiAccount account();
     WebSocketApiAuth auth();
     WebSocketApiGeneral general();
@@ -1,14 +1,24 @@
 package com.binance.connector.client;
 
 import java.util.ArrayList;
+import java.util.concurrent.Executor;
 
+import com.binance.connector.client.enums.OverflowPolicy;
+import com.binance.connector.client.utils.DispatchQueue;
+import com.binance.connector.client.utils.ReconnectPolicy;
 import com.binance.connector.client.utils.websocketcallback.WebSocketClosedCallback;
 import com.binance.connector.client.utils.websocketcallback.WebSocketClosingCallback;
 import com.binance.connector.client.utils.websocketcallback.WebSocketFailureCallback;
+import com.binance.connector.client.utils.websocketcallback.WebSocketGapCallback;
 import com.binance.connector.client.utils.websocketcallback.WebSocketMessageCallback;
 import com.binance.connector.client.utils.websocketcallback.WebSocketOpenCallback;
 
 public interface WebSocketStreamClient {
+    void setCallbackExecutor(Executor callbackExecutor);
+    void setDispatchQueue(int capacity, OverflowPolicy policy);
+    DispatchQueue getDispatchQueue(int connectionId);
+    void setReconnectPolicy(ReconnectPolicy policy);
+    void setGapCallback(WebSocketGapCallback onGapCallback);
     int aggTradeStream(String symbol, WebSocketMessageCallback callback);
     int aggTradeStream(String symbol, WebSocketOpenCallback onOpenCallback, WebSocketMessageCallback onMessageCallback, WebSocketClosingCallback onClosingCallback, WebSocketClosedCallback onClosedCallback, WebSocketFailureCallback onFailureCallback);
     int tradeStream(String symbol, WebSocketMessageCallback callback);
@@ -0,0 +1,13 @@
+package com.binance.connector.client.enums;
+
+/**
+ * Price and volume columns of the candles kept by a candle series.
+ */
+public enum CandleField {
+    OPEN,
+    HIGH,
+    LOW,
+    CLOSE,
+    VOLUME,
+    QUOTE_VOLUME
+}
@@ -0,0 +1,7 @@
+package com.binance.connector.client.enums;
+
+public enum NewOrderRespType {
+    ACK,
+    RESULT,
+    FULL
+}
@@ -0,0 +1,11 @@
+package com.binance.connector.client.enums;
+
+public enum OrderType {
+    LIMIT,
+    MARKET,
+    STOP_LOSS,
+    STOP_LOSS_LIMIT,
+    TAKE_PROFIT,
+    TAKE_PROFIT_LIMIT,
+    LIMIT_MAKER
+}
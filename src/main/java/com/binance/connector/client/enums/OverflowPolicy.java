@@ -0,0 +1,8 @@
+package com.binance.connector.client.enums;
+
+public enum OverflowPolicy {
+    BLOCK,
+    DROP_OLDEST,
+    DROP_NEWEST,
+    CONFLATE
+}
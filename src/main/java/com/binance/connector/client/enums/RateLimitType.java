@@ -0,0 +1,33 @@
+package com.binance.connector.client.enums;
+
+import java.util.concurrent.TimeUnit;
+
+public enum RateLimitType {
+    REQUEST_WEIGHT("X-MBX-USED-WEIGHT-1M", 6000, TimeUnit.MINUTES.toMillis(1)),
+    SAPI_IP_WEIGHT("X-SAPI-USED-IP-WEIGHT-1M", 12000, TimeUnit.MINUTES.toMillis(1)),
+    SAPI_UID_WEIGHT("X-SAPI-USED-UID-WEIGHT-1M", 180000, TimeUnit.MINUTES.toMillis(1)),
+    ORDERS_10S("X-MBX-ORDER-COUNT-10S", 100, TimeUnit.SECONDS.toMillis(10)),
+    ORDERS_1D("X-MBX-ORDER-COUNT-1D", 200000, TimeUnit.DAYS.toMillis(1));
+
+    private final String header;
+    private final int defaultLimit;
+    private final long intervalMillis;
+
+    RateLimitType(String header, int defaultLimit, long intervalMillis) {
+        this.header = header;
+        this.defaultLimit = defaultLimit;
+        this.intervalMillis = intervalMillis;
+    }
+
+    public String getHeader() {
+        return header;
+    }
+
+    public int getDefaultLimit() {
+        return defaultLimit;
+    }
+
+    public long getIntervalMillis() {
+        return intervalMillis;
+    }
+}
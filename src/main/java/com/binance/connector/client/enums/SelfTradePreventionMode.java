@@ -0,0 +1,8 @@
+package com.binance.connector.client.enums;
+
+public enum SelfTradePreventionMode {
+    EXPIRE_TAKER,
+    EXPIRE_MAKER,
+    EXPIRE_BOTH,
+    NONE
+}
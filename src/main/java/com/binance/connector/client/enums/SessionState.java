@@ -0,0 +1,7 @@
+package com.binance.connector.client.enums;
+
+public enum SessionState {
+    LOGGED_OUT,
+    LOGGING_ON,
+    AUTHORIZED
+}
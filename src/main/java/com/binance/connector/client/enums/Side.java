@@ -0,0 +1,6 @@
+package com.binance.connector.client.enums;
+
+public enum Side {
+    BUY,
+    SELL
+}
@@ -0,0 +1,43 @@
+package com.binance.connector.client.enums;
+
+/**
+ * Fields of the ticker and book ticker stream events, with the key they are sent under.
+ */
+public enum TickerField {
+    EVENT_TIME('E', true),
+    PRICE_CHANGE('p', false),
+    PRICE_CHANGE_PERCENT('P', false),
+    WEIGHTED_AVG_PRICE('w', false),
+    LAST_PRICE('c', false),
+    LAST_QTY('Q', false),
+    OPEN_PRICE('o', false),
+    HIGH_PRICE('h', false),
+    LOW_PRICE('l', false),
+    VOLUME('v', false),
+    QUOTE_VOLUME('q', false),
+    TRADE_COUNT('n', true),
+    BID_PRICE('b', false),
+    BID_QTY('B', false),
+    ASK_PRICE('a', false),
+    ASK_QTY('A', false),
+    BOOK_UPDATE_ID('u', true);
+
+    private final char key;
+    private final boolean integral;
+
+    TickerField(char key, boolean integral) {
+        this.key = key;
+        this.integral = integral;
+    }
+
+    public char getKey() {
+        return key;
+    }
+
+    /**
+     * @return true for a count, id or timestamp, read with getLong
+     */
+    public boolean isIntegral() {
+        return integral;
+    }
+}
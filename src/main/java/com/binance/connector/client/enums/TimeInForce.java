@@ -0,0 +1,7 @@
+package com.binance.connector.client.enums;
+
+public enum TimeInForce {
+    GTC,
+    IOC,
+    FOK
+}
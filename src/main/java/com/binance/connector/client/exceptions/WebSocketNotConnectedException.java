@@ -0,0 +1,14 @@
+package com.binance.connector.client.exceptions;
+
+/**
+ * Thrown when a message is sent while no WebSocket connection is open, before it reaches the server.
+ */
+public class WebSocketNotConnectedException extends BinanceConnectorException {
+
+    private static final long serialVersionUID = 1L;
+
+    public WebSocketNotConnectedException(String fullErrMsg) {
+        super(fullErrMsg);
+    }
+
+}
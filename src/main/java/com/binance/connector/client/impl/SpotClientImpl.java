@@ -1,5 +1,7 @@
 package com.binance.connector.client.impl;
 
+import java.util.concurrent.Executor;
+
 import com.binance.connector.client.SpotClient;
 import com.binance.connector.client.enums.DefaultUrls;
 import com.binance.connector.client.impl.spot.AutoInvest;
@@ -25,16 +27,29 @@ import com.binance.connector.client.impl.spot.Trade;
 import com.binance.connector.client.impl.spot.UserData;
 import com.binance.connector.client.impl.spot.VIPLoans;
 import com.binance.connector.client.impl.spot.Wallet;
+import com.binance.connector.client.exceptions.BinanceConnectorException;
 import com.binance.connector.client.utils.ProxyAuth;
+import com.binance.connector.client.utils.RequestHandler;
+import com.binance.connector.client.utils.httpclient.HttpClientConfig;
+import com.binance.connector.client.utils.metrics.RequestMetrics;
+import com.binance.connector.client.utils.ratelimit.RateLimiter;
 import com.binance.connector.client.utils.signaturegenerator.HmacSignatureGenerator;
 import com.binance.connector.client.utils.signaturegenerator.SignatureGenerator;
 
+import okhttp3.OkHttpClient;
+
 public class SpotClientImpl implements SpotClient {
     private final String apiKey;
     private final SignatureGenerator signatureGenerator;
     private final String baseUrl;
     private boolean showLimitUsage = false;
     private ProxyAuth proxy = null;
+    private HttpClientConfig httpClientConfig = HttpClientConfig.defaultConfig();
+    private OkHttpClient httpClient;
+    private OkHttpClient proxiedHttpClient;
+    private Executor executor = null;
+    private RateLimiter rateLimiter = null;
+    private RequestMetrics requestMetrics = null;
 
     public SpotClientImpl() {
         this(DefaultUrls.PROD_URL);
@@ -69,126 +84,216 @@ public class SpotClientImpl implements SpotClient {
     }
 
     @Override
-    public void setProxy(ProxyAuth proxy) {
+    public synchronized void setProxy(ProxyAuth proxy) {
         this.proxy = proxy;
+        this.proxiedHttpClient = null;
     }
     
     @Override
-    public void unsetProxy() {
+    public synchronized void unsetProxy() {
         this.proxy = null;
+        this.proxiedHttpClient = null;
+    }
+
+    /**
+     * Replaces the transport settings. A new {@link OkHttpClient} with its own connection pool
+     * is built from {@code httpClientConfig} when the next module is created.
+     *
+     * @param httpClientConfig transport settings
+     */
+    @Override
+    public synchronized void setHttpClientConfig(HttpClientConfig httpClientConfig) {
+        if (httpClientConfig == null) {
+            throw new BinanceConnectorException("[SpotClientImpl] HttpClientConfig cannot be null");
+        }
+        this.httpClientConfig = httpClientConfig;
+        this.httpClient = null;
+        this.proxiedHttpClient = null;
+    }
+
+    /**
+     * Uses the given client for all requests, so that several {@link SpotClient} instances
+     * can explicitly share one connection pool and dispatcher.
+     *
+     * @param httpClient client to share
+     */
+    @Override
+    public synchronized void setHttpClient(OkHttpClient httpClient) {
+        if (httpClient == null) {
+            throw new BinanceConnectorException("[SpotClientImpl] OkHttpClient cannot be null");
+        }
+        this.httpClient = httpClient;
+        this.proxiedHttpClient = null;
+    }
+
+    /**
+     * @return the client owned by this instance, built on first use
+     */
+    @Override
+    public synchronized OkHttpClient getHttpClient() {
+        if (httpClient == null) {
+            httpClient = httpClientConfig.buildHttpClient();
+        }
+        return httpClient;
+    }
+
+    /**
+     * Runs the blocking calls behind the {@code Async} methods on the given executor,
+     * e.g. {@link com.binance.connector.client.utils.ExecutorFactory#newVirtualThreadExecutor()}.
+     * When unset, asynchronous requests are enqueued on the OkHttp dispatcher.
+     *
+     * @param executor executor for asynchronous requests, or null to use the dispatcher
+     */
+    @Override
+    public synchronized void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Paces the requests of the modules created afterwards against the exchange rate limits.
+     * Share one {@link RateLimiter} between all clients using the same IP or account.
+     *
+     * @param rateLimiter limiter, or null to send requests without client side pacing
+     */
+    @Override
+    public synchronized void setRateLimiter(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+        this.proxiedHttpClient = null;
+    }
+
+    /**
+     * Reports the latency, status, error code and size of every request of the modules created afterwards,
+     * e.g. to a {@link com.binance.connector.client.utils.metrics.InMemoryRequestMetrics}.
+     *
+     * @param requestMetrics metrics, or null to stop reporting
+     */
+    @Override
+    public synchronized void setRequestMetrics(RequestMetrics requestMetrics) {
+        this.requestMetrics = requestMetrics;
+    }
+
+    private synchronized RequestHandler createRequestHandler() {
+        if (proxiedHttpClient == null) {
+            proxiedHttpClient = HttpClientConfig.withProxy(getHttpClient(), proxy);
+            if (rateLimiter != null) {
+                proxiedHttpClient = proxiedHttpClient.newBuilder().addInterceptor(rateLimiter).build();
+            }
+        }
+        return new RequestHandler(apiKey, signatureGenerator, proxy, proxiedHttpClient, executor, requestMetrics);
     }
 
     @Override
     public AutoInvest createAutoInvest() {
-        return new AutoInvest(baseUrl, apiKey, signatureGenerator, showLimitUsage, proxy);
+        return new AutoInvest(baseUrl, createRequestHandler(), showLimitUsage);
     }
 
     @Override
     public Blvt createBlvt() {
-        return new Blvt(baseUrl, apiKey, signatureGenerator, showLimitUsage, proxy);
+        return new Blvt(baseUrl, createRequestHandler(), showLimitUsage);
     }
 
     @Override
     public C2C createC2C() {
-        return new C2C(baseUrl, apiKey, signatureGenerator, showLimitUsage, proxy);
+        return new C2C(baseUrl, createRequestHandler(), showLimitUsage);
     }
 
     @Override
     public Convert createConvert() {
-        return new Convert(baseUrl, apiKey, signatureGenerator, showLimitUsage, proxy);
+        return new Convert(baseUrl, createRequestHandler(), showLimitUsage);
     }
 
     @Override
     public CryptoLoans createCryptoLoans() {
-        return new CryptoLoans(baseUrl, apiKey, signatureGenerator, showLimitUsage, proxy);
+        return new CryptoLoans(baseUrl, createRequestHandler(), showLimitUsage);
     }
 
     @Override
     public Fiat createFiat() {
-        return new Fiat(baseUrl, apiKey, signatureGenerator, showLimitUsage, proxy);
+        return new Fiat(baseUrl, createRequestHandler(), showLimitUsage);
     }
 
     @Override
     public Futures createFutures() {
-        return new Futures(baseUrl, apiKey, signatureGenerator, showLimitUsage, proxy);
+        return new Futures(baseUrl, createRequestHandler(), showLimitUsage);
     }
 
     @Override
     public GiftCard createGiftCard() {
-        return new GiftCard(baseUrl, apiKey, signatureGenerator, showLimitUsage, proxy); }
+        return new GiftCard(baseUrl, createRequestHandler(), showLimitUsage);
+    }
 
     @Override
     public Margin createMargin() {
-        return new Margin(baseUrl, apiKey, signatureGenerator, showLimitUsage, proxy);
+        return new Margin(baseUrl, createRequestHandler(), showLimitUsage);
     }
 
     @Override
     public Market createMarket() {
-        return new Market(baseUrl, apiKey, showLimitUsage, proxy);
+        return new Market(baseUrl, createRequestHandler(), showLimitUsage);
     }
 
     @Override
     public Mining createMining() {
-        return new Mining(baseUrl, apiKey, signatureGenerator, showLimitUsage, proxy);
+        return new Mining(baseUrl, createRequestHandler(), showLimitUsage);
     }
 
     @Override
     public NFT createNFT() {
-        return new NFT(baseUrl, apiKey, signatureGenerator, showLimitUsage, proxy);
+        return new NFT(baseUrl, createRequestHandler(), showLimitUsage);
     }
 
     @Override
     public Pay createPay() {
-        return new Pay(baseUrl, apiKey, signatureGenerator, showLimitUsage, proxy);
+        return new Pay(baseUrl, createRequestHandler(), showLimitUsage);
     }
 
     @Override
     public PortfolioMargin createPortfolioMargin() {
-        return new PortfolioMargin(baseUrl, apiKey, signatureGenerator, showLimitUsage, proxy);
+        return new PortfolioMargin(baseUrl, createRequestHandler(), showLimitUsage);
     }
 
     @Override
     public Rebate createRebate() {
-        return new Rebate(baseUrl, apiKey, signatureGenerator, showLimitUsage, proxy);
+        return new Rebate(baseUrl, createRequestHandler(), showLimitUsage);
     }
 
     @Override
     public SimpleEarn createSimpleEarn() {
-        return new SimpleEarn(baseUrl, apiKey, signatureGenerator, showLimitUsage, proxy);
+        return new SimpleEarn(baseUrl, createRequestHandler(), showLimitUsage);
     }
 
     @Override
     public SpotAlgo createSpotAlgo() {
-        return new SpotAlgo(baseUrl, apiKey, signatureGenerator, showLimitUsage, proxy);
+        return new SpotAlgo(baseUrl, createRequestHandler(), showLimitUsage);
     }
 
     @Override
     public Staking createStaking() {
-        return new Staking(baseUrl, apiKey, signatureGenerator, showLimitUsage, proxy);
+        return new Staking(baseUrl, createRequestHandler(), showLimitUsage);
     }
 
     @Override
     public SubAccount createSubAccount() {
-        return new SubAccount(baseUrl, apiKey, signatureGenerator, showLimitUsage, proxy);
+        return new SubAccount(baseUrl, createRequestHandler(), showLimitUsage);
     }
 
     @Override
     public Trade createTrade() {
-        return new Trade(baseUrl, apiKey, signatureGenerator, showLimitUsage, proxy);
+        return new Trade(baseUrl, createRequestHandler(), showLimitUsage);
     }
 
     @Override
     public UserData createUserData() {
-        return new UserData(baseUrl, apiKey, showLimitUsage, proxy);
+        return new UserData(baseUrl, createRequestHandler(), showLimitUsage);
     }
 
     @Override
     public VIPLoans createVIPLoans() {
-        return new VIPLoans(baseUrl, apiKey, signatureGenerator, showLimitUsage, proxy);
+        return new VIPLoans(baseUrl, createRequestHandler(), showLimitUsage);
     }
 
     @Override
     public Wallet createWallet() {
-        return new Wallet(baseUrl, apiKey, signatureGenerator, showLimitUsage, proxy);
+        return new Wallet(baseUrl, createRequestHandler(), showLimitUsage);
     }
 }
@@ -1,15 +1,21 @@
 package com.binance.connector.client.impl;
 
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
 import com.binance.connector.client.WebSocketApiClient;
 import com.binance.connector.client.enums.Category;
 import com.binance.connector.client.enums.DefaultUrls;
+import com.binance.connector.client.enums.SessionState;
 import com.binance.connector.client.exceptions.BinanceConnectorException;
+import com.binance.connector.client.exceptions.WebSocketNotConnectedException;
 import com.binance.connector.client.impl.websocketapi.WebSocketApiAccount;
 import com.binance.connector.client.impl.websocketapi.WebSocketApiAuth;
 import com.binance.connector.client.impl.websocketapi.WebSocketApiGeneral;
 import com.binance.connector.client.impl.websocketapi.WebSocketApiMarket;
 import com.binance.connector.client.impl.websocketapi.WebSocketApiTrade;
 import com.binance.connector.client.impl.websocketapi.WebSocketApiUserDataStream;
+import com.binance.connector.client.utils.ReconnectPolicy;
 import com.binance.connector.client.utils.RequestBuilder;
 import com.binance.connector.client.utils.WebSocketConnection;
 import com.binance.connector.client.utils.httpclient.WebSocketApiHttpClientSingleton;
@@ -26,6 +32,7 @@ import okhttp3.Request;
 
 public class WebSocketApiClientImpl implements WebSocketApiClient {
     private static final OkHttpClient client = WebSocketApiHttpClientSingleton.getHttpClient();
+    private static final long NO_MAX_AGE = 0L;
     private final SignatureGenerator signatureGenerator;
     private final String apiKey;
     private final String baseUrl;
@@ -35,6 +42,9 @@ public class WebSocketApiClientImpl implements WebSocketApiClient {
     private final WebSocketFailureCallback noopFailureCallback = (throwable, response) -> { };
     private WebSocketConnection connection; 
     private WebSocketApiRequestHandler requestHandler;
+    private long requestTimeoutMillis = WebSocketApiRequestHandler.DEFAULT_REQUEST_TIMEOUT_MILLIS;
+    private boolean autoLogon;
+    private ReconnectPolicy reconnectPolicy;
 
     public WebSocketApiClientImpl() {
         this("", null);
@@ -56,7 +66,7 @@ public class WebSocketApiClientImpl implements WebSocketApiClient {
     
     private void checkRequestHandler() {
         if (this.requestHandler == null) {
-            throw new BinanceConnectorException("No WebSocket API connection to submit request. Please connect first.");
+            throw new WebSocketNotConnectedException("No WebSocket API connection to submit request. Please connect first.");
         }
     }
 
@@ -65,15 +75,95 @@ public class WebSocketApiClientImpl implements WebSocketApiClient {
         connect(noopOpenCallback, onMessageCallback, noopClosingCallback, noopClosedCallback, noopFailureCallback);
     }
 
+    /**
+     * Every message is passed to {@code onMessageCallback}, responses also complete the CompletableFuture
+     * returned by their request. Requests still waiting for a response fail when the connection is closed or lost.
+     */
     @Override
     public void connect(WebSocketOpenCallback onOpenCallback, WebSocketMessageCallback onMessageCallback, WebSocketClosingCallback onClosingCallback, WebSocketClosedCallback onClosedCallback, WebSocketFailureCallback onFailureCallback) {
         Request request = RequestBuilder.buildWebSocketRequest(baseUrl);
 
-        this.connection = new WebSocketConnection(onOpenCallback, onMessageCallback, onClosingCallback, onClosedCallback, onFailureCallback, request, client);
-        this.requestHandler = new WebSocketApiRequestHandler(this.connection, this.apiKey, this.signatureGenerator);
+        // the handler needs the connection and the callbacks of the connection need the handler
+        AtomicReference<WebSocketApiRequestHandler> handler = new AtomicReference<>();
+        this.connection = new WebSocketConnection(
+                response -> {
+                    handler.get().onConnected();
+                    onOpenCallback.onOpen(response);
+                },
+                message -> {
+                    handler.get().onMessage(message);
+                    onMessageCallback.onMessage(message);
+                },
+                onClosingCallback,
+                (code, reason) -> {
+                    handler.get().onDisconnected("Connection closed: " + code + " " + reason);
+                    onClosedCallback.onClosed(code, reason);
+                },
+                (t, response) -> {
+                    handler.get().onDisconnected("Connection failed: " + t.getMessage());
+                    onFailureCallback.onFailure(t, response);
+                },
+                request, client);
+        handler.set(new WebSocketApiRequestHandler(this.connection, this.apiKey, this.signatureGenerator));
+        handler.get().setRequestTimeout(requestTimeoutMillis, TimeUnit.MILLISECONDS);
+        handler.get().setAutoLogon(autoLogon);
+        if (this.reconnectPolicy != null) {
+            this.connection.setReconnectPolicy(this.reconnectPolicy);
+        }
+        this.requestHandler = handler.get();
         this.connection.connect();
     }
 
+    /**
+     * @param timeout time to wait for the response of each request sent afterwards, 0 to wait forever
+     * @param unit unit of {@code timeout}
+     */
+    @Override
+    public void setRequestTimeout(long timeout, TimeUnit unit) {
+        this.requestTimeoutMillis = unit.toMillis(timeout);
+        if (this.requestHandler != null) {
+            this.requestHandler.setRequestTimeout(timeout, unit);
+        }
+    }
+
+    /**
+     * Logs the session on with {@code session.logon} each time the connection opens, including after a
+     * reconnection. Once logged on, signed requests are sent without signature. Needs an Ed25519 key.
+     *
+     * @param enabled true to log on automatically
+     */
+    @Override
+    public void setAutoLogon(boolean enabled) {
+        if (enabled) {
+            WebSocketApiRequestHandler.checkLogon(this.apiKey, this.signatureGenerator);
+        }
+        this.autoLogon = enabled;
+        if (this.requestHandler != null) {
+            this.requestHandler.setAutoLogon(enabled);
+        }
+    }
+
+    /**
+     * @param policy how the connection is opened again after it is lost, set before connecting; requests
+     *               pending when the connection is lost fail and are not sent again
+     */
+    @Override
+    public void setReconnectPolicy(ReconnectPolicy policy) {
+        if (policy != null && policy.getMaxConnectionAgeMillis() > NO_MAX_AGE) {
+            throw new BinanceConnectorException("[WebSocketApiClientImpl] Connections cannot be replaced at a maximum age, "
+                    + "responses would be lost with the replaced connection.");
+        }
+        this.reconnectPolicy = policy;
+    }
+
+    /**
+     * @return authentication state of the connection, {@link SessionState#LOGGED_OUT} before connecting
+     */
+    @Override
+    public SessionState getSessionState() {
+        return this.requestHandler == null ? SessionState.LOGGED_OUT : this.requestHandler.getSessionState();
+    }
+
     @Override
     public void close() {
         this.connection.close();
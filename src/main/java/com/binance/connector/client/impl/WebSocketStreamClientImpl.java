@@ -4,14 +4,18 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.binance.connector.client.WebSocketStreamClient;
 import com.binance.connector.client.enums.DefaultUrls;
+import com.binance.connector.client.enums.OverflowPolicy;
 import com.binance.connector.client.exceptions.BinanceConnectorException;
+import com.binance.connector.client.utils.DispatchQueue;
 import com.binance.connector.client.utils.ParameterChecker;
+import com.binance.connector.client.utils.ReconnectPolicy;
 import com.binance.connector.client.utils.RequestBuilder;
 import com.binance.connector.client.utils.UrlBuilder;
 import com.binance.connector.client.utils.WebSocketConnection;
@@ -19,6 +23,7 @@ import com.binance.connector.client.utils.httpclient.WebSocketStreamHttpClientSi
 import com.binance.connector.client.utils.websocketcallback.WebSocketClosedCallback;
 import com.binance.connector.client.utils.websocketcallback.WebSocketClosingCallback;
 import com.binance.connector.client.utils.websocketcallback.WebSocketFailureCallback;
+import com.binance.connector.client.utils.websocketcallback.WebSocketGapCallback;
 import com.binance.connector.client.utils.websocketcallback.WebSocketMessageCallback;
 import com.binance.connector.client.utils.websocketcallback.WebSocketOpenCallback;
 
@@ -43,6 +48,11 @@ public class WebSocketStreamClientImpl implements WebSocketStreamClient {
     private final WebSocketClosingCallback noopClosingCallback = (code, reason) -> { };
     private final WebSocketClosedCallback noopClosedCallback = (code, reason) -> { };
     private final WebSocketFailureCallback noopFailureCallback = (throwable, response) -> { };
+    private Executor callbackExecutor = null;
+    private ReconnectPolicy reconnectPolicy = null;
+    private WebSocketGapCallback gapCallback = null;
+    private int dispatchQueueCapacity;
+    private OverflowPolicy overflowPolicy = null;
 
     public WebSocketStreamClientImpl() {
         this.baseUrl = DefaultUrls.WS_URL;
@@ -52,6 +62,77 @@ public class WebSocketStreamClientImpl implements WebSocketStreamClient {
         this.baseUrl = baseUrl;
     }
 
+    /**
+     * @param baseUrl Base URL of the WebSocket streams
+     * @param callbackExecutor executor running the callbacks of every connection opened by this client,
+     *                         e.g. {@link com.binance.connector.client.utils.ExecutorFactory#newVirtualThreadExecutor()}
+     */
+    public WebSocketStreamClientImpl(String baseUrl, Executor callbackExecutor) {
+        this.baseUrl = baseUrl;
+        this.callbackExecutor = callbackExecutor;
+    }
+
+    /**
+     * Runs the callbacks of connections opened afterwards on the given executor instead of the OkHttp reader thread.
+     * Messages of one connection are still delivered in order, one at a time.
+     *
+     * @param callbackExecutor executor for callbacks, or null to run them on the reader thread
+     */
+    @Override
+    public void setCallbackExecutor(Executor callbackExecutor) {
+        this.callbackExecutor = callbackExecutor;
+    }
+
+    /**
+     * Puts a bounded queue between the reader thread and the callbacks of connections opened afterwards,
+     * drained on the callback executor, or on a shared pool of daemon threads when none is set.
+     * Depth and drop counters of each queue are available from {@link #getDispatchQueue(int)}.
+     *
+     * @param capacity number of queued messages per connection, rounded up to a power of two
+     * @param policy what to do with messages arriving while the queue is full, or null to remove the queue
+     */
+    @Override
+    public void setDispatchQueue(int capacity, OverflowPolicy policy) {
+        this.dispatchQueueCapacity = capacity;
+        this.overflowPolicy = policy;
+    }
+
+    /**
+     * @param connectionId The connection ID
+     * @return the dispatch queue of the connection, or null if it has none
+     */
+    @Override
+    public DispatchQueue getDispatchQueue(int connectionId) {
+        WebSocketConnection connection = connections.get(connectionId);
+        if (null == connection) {
+            throw new BinanceConnectorException("Connection ID " + connectionId + " does not exist!");
+        }
+        return connection.getDispatchQueue();
+    }
+
+    /**
+     * Reconnects connections opened afterwards when they fail or are closed by the server, and replaces them
+     * before the server closes them after 24 hours. Streams subscribed on the connection are subscribed again.
+     *
+     * @param policy backoff and maximum connection age, e.g. {@link ReconnectPolicy#defaultPolicy()},
+     *               or null to leave lost connections closed
+     */
+    @Override
+    public void setReconnectPolicy(ReconnectPolicy policy) {
+        this.reconnectPolicy = policy;
+    }
+
+    /**
+     * Tells when connections opened afterwards were reopened after a loss, so that local state built from
+     * their messages can be synchronised again.
+     *
+     * @param onGapCallback callback, or null
+     */
+    @Override
+    public void setGapCallback(WebSocketGapCallback onGapCallback) {
+        this.gapCallback = onGapCallback;
+    }
+
     /**
      * The Aggregate Trade Streams push trade information that is aggregated for a single taker order.
      * <br><br>
@@ -609,6 +690,12 @@ public class WebSocketStreamClientImpl implements WebSocketStreamClient {
             Request request
     ) {
         WebSocketConnection connection = new WebSocketConnection(onOpenCallback, onMessageCallback, onClosingCallback, onClosedCallback, onFailureCallback, request, client);
+        connection.setCallbackExecutor(callbackExecutor);
+        if (null != overflowPolicy) {
+            connection.setDispatchQueue(dispatchQueueCapacity, overflowPolicy, callbackExecutor);
+        }
+        connection.setReconnectPolicy(reconnectPolicy);
+        connection.setGapCallback(gapCallback);
         connection.connect();
         int connectionId = connection.getConnectionId();
         connections.put(connectionId, connection);
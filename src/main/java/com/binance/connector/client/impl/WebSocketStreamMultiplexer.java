@@ -0,0 +1,411 @@
+package com.binance.connector.client.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.binance.connector.client.enums.DefaultUrls;
+import com.binance.connector.client.exceptions.BinanceConnectorException;
+import com.binance.connector.client.utils.ExecutorFactory;
+import com.binance.connector.client.utils.ParameterChecker;
+import com.binance.connector.client.utils.ReconnectPolicy;
+import com.binance.connector.client.utils.RequestBuilder;
+import com.binance.connector.client.utils.UrlBuilder;
+import com.binance.connector.client.utils.WebSocketConnection;
+import com.binance.connector.client.utils.httpclient.WebSocketStreamHttpClientSingleton;
+import com.binance.connector.client.utils.websocketcallback.WebSocketGapCallback;
+import com.binance.connector.client.utils.websocketcallback.WebSocketMessageCallback;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+
+/**
+ * <h2>Multiplexed WebSocket Streams</h2>
+ * Subscribes and unsubscribes streams at runtime with the {@code SUBSCRIBE} and {@code UNSUBSCRIBE} methods
+ * of <a href="https://binance-docs.github.io/apidocs/spot/en/#live-subscribing-unsubscribing-to-streams">
+ * Live Subscribing/Unsubscribing to streams</a>, over as few {@code /stream} connections as the limit of
+ * streams per connection allows.
+ * <br>
+ * Every {@code {"stream":..,"data":..}} envelope is routed to the callback of its stream, which receives
+ * the {@code data} part, i.e. the same event a single stream connection would deliver. Stream names are
+ * sent as given, e.g. {@code btcusdt@trade} or {@code !miniTicker@arr}.
+ * <pre>
+ * WebSocketStreamMultiplexer multiplexer = new WebSocketStreamMultiplexer();
+ * List&lt;String&gt; streams = new ArrayList&lt;&gt;();
+ * for (String symbol : symbols) {
+ *     streams.add(symbol + "@bookTicker");
+ * }
+ * multiplexer.subscribe(streams, event -&gt; onBookTicker(event));
+ * ...
+ * multiplexer.unsubscribe("btcusdt@bookTicker");
+ * </pre>
+ * Binance accepts at most 5 incoming messages per second on each connection. Subscriptions and
+ * unsubscriptions are queued on their connection and sent in batches, at most
+ * {@link #MAX_MESSAGES_PER_SECOND} messages per second, so subscribing in a loop is safe; subscribing to
+ * a collection at once still saves the wait.
+ * <br>
+ * A connection closed or failed without a {@link ReconnectPolicy} is dropped along with its streams, which
+ * can then be subscribed again on a new connection.
+ */
+public class WebSocketStreamMultiplexer {
+    public static final int MAX_STREAMS_PER_CONNECTION = 1024;
+    public static final int MAX_MESSAGES_PER_SECOND = 5;
+    private static final long MESSAGE_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(1) / MAX_MESSAGES_PER_SECOND;
+    private static final long NO_DELAY = 0L;
+    private static final Logger logger = LoggerFactory.getLogger(WebSocketStreamMultiplexer.class);
+    private static final OkHttpClient client = WebSocketStreamHttpClientSingleton.getHttpClient();
+    private static final String STREAM_PREFIX = "{\"stream\":\"";
+    private static final String DATA_PREFIX = "\",\"data\":";
+    private static final int FIRST_ID = 1;
+    private static final int NOT_FOUND = -1;
+    private static final int MIN_STREAMS = 1;
+
+    private final String baseUrl;
+    private final int maxStreamsPerConnection;
+    private final Map<String, WebSocketMessageCallback> callbacks = new ConcurrentHashMap<>();
+    private final Map<String, StreamConnection> streamConnections = new HashMap<>();
+    private final List<StreamConnection> connections = new ArrayList<>();
+    private final AtomicInteger requestId = new AtomicInteger(FIRST_ID);
+    private Executor callbackExecutor = null;
+    private ReconnectPolicy reconnectPolicy = null;
+    private WebSocketGapCallback gapCallback = null;
+
+    public WebSocketStreamMultiplexer() {
+        this(DefaultUrls.WS_URL);
+    }
+
+    public WebSocketStreamMultiplexer(String baseUrl) {
+        this(baseUrl, MAX_STREAMS_PER_CONNECTION);
+    }
+
+    /**
+     * @param baseUrl Base URL of the WebSocket streams
+     * @param maxStreamsPerConnection streams packed into one connection before another is opened,
+     *                                at most {@link #MAX_STREAMS_PER_CONNECTION}
+     */
+    public WebSocketStreamMultiplexer(String baseUrl, int maxStreamsPerConnection) {
+        if (maxStreamsPerConnection < MIN_STREAMS || maxStreamsPerConnection > MAX_STREAMS_PER_CONNECTION) {
+            throw new BinanceConnectorException("[WebSocketStreamMultiplexer] Streams per connection must be between 1 and " + MAX_STREAMS_PER_CONNECTION + ".");
+        }
+        this.baseUrl = baseUrl;
+        this.maxStreamsPerConnection = maxStreamsPerConnection;
+    }
+
+    /**
+     * Runs the callbacks of connections opened afterwards on the given executor instead of the OkHttp reader thread.
+     *
+     * @param executor executor for callbacks, or null to run them on the reader thread
+     */
+    public synchronized void setCallbackExecutor(Executor executor) {
+        this.callbackExecutor = executor;
+    }
+
+    /**
+     * Reconnects connections opened afterwards and subscribes their streams again, see
+     * {@link WebSocketStreamClientImpl#setReconnectPolicy(ReconnectPolicy)}.
+     *
+     * @param policy backoff and maximum connection age, or null to leave lost connections closed
+     */
+    public synchronized void setReconnectPolicy(ReconnectPolicy policy) {
+        this.reconnectPolicy = policy;
+    }
+
+    /**
+     * @param onGapCallback called when a connection opened afterwards has been reopened after a loss, or null
+     */
+    public synchronized void setGapCallback(WebSocketGapCallback onGapCallback) {
+        this.gapCallback = onGapCallback;
+    }
+
+    /**
+     * Subscribes to a stream, on a connection with room left or on a new one. Subscribing again to
+     * a stream only replaces its callback.
+     *
+     * @param stream Name of the stream, e.g. btcusdt@trade
+     * @param callback Callback receiving the data of each event of the stream
+     */
+    public void subscribe(String stream, WebSocketMessageCallback callback) {
+        subscribe(Collections.singletonList(stream), callback);
+    }
+
+    /**
+     * Subscribes to streams. The streams are queued on their connection and sent with the other changes
+     * queued on it, in one message.
+     *
+     * @param streams Names of the streams
+     * @param callback Callback receiving the data of each event of any of the streams
+     */
+    public synchronized void subscribe(Collection<String> streams, WebSocketMessageCallback callback) {
+        ParameterChecker.checkParameterType(streams, Collection.class, "streams");
+        ParameterChecker.checkParameterType(callback, WebSocketMessageCallback.class, "callback");
+        for (String stream : streams) {
+            ParameterChecker.checkParameterType(stream, String.class, "stream");
+            if (callbacks.containsKey(stream)) {
+                callbacks.put(stream, callback);
+                continue;
+            }
+            StreamConnection queued = queuedOn(stream);
+            if (queued != null && queued.toSubscribe.containsKey(stream)) {
+                queued.toSubscribe.put(stream, callback);
+            } else if (queued != null) {
+                // still subscribed on the server, the unsubscription is dropped
+                queued.toUnsubscribe.remove(stream);
+                queued.streams.add(stream);
+                callbacks.put(stream, callback);
+                streamConnections.put(stream, queued);
+            } else {
+                StreamConnection connection = connectionWithRoom();
+                connection.streams.add(stream);
+                connection.toSubscribe.put(stream, callback);
+                connection.scheduleFlush();
+            }
+        }
+    }
+
+    /**
+     * Unsubscribes from a stream. A connection left without streams is closed.
+     *
+     * @param stream Name of the stream
+     */
+    public void unsubscribe(String stream) {
+        unsubscribe(Collections.singletonList(stream));
+    }
+
+    /**
+     * Unsubscribes from streams. Their events stop being delivered at once, the unsubscription is queued
+     * on their connection.
+     *
+     * @param streams Names of the streams
+     */
+    public synchronized void unsubscribe(Collection<String> streams) {
+        Set<StreamConnection> changed = new LinkedHashSet<>();
+        for (String stream : streams) {
+            StreamConnection connection = streamConnections.remove(stream);
+            if (connection != null) {
+                callbacks.remove(stream);
+                connection.toUnsubscribe.add(stream);
+            } else {
+                connection = queuedOn(stream);
+                if (connection == null || connection.toSubscribe.remove(stream) == null) {
+                    logger.info("Stream {} is not subscribed", stream);
+                    continue;
+                }
+            }
+            connection.streams.remove(stream);
+            changed.add(connection);
+        }
+        for (StreamConnection connection : changed) {
+            if (connection.streams.isEmpty()) {
+                connection.close();
+                connections.remove(connection);
+            } else {
+                connection.scheduleFlush();
+            }
+        }
+    }
+
+    /**
+     * @return names of the streams whose subscription was sent
+     */
+    public synchronized Set<String> getStreams() {
+        return new HashSet<>(streamConnections.keySet());
+    }
+
+    /**
+     * @return number of connections open or being opened
+     */
+    public synchronized int getConnectionCount() {
+        return connections.size();
+    }
+
+    /**
+     * Closes every connection and forgets all subscriptions.
+     */
+    public synchronized void close() {
+        Iterator<StreamConnection> iter = connections.iterator();
+        while (iter.hasNext()) {
+            iter.next().close();
+            iter.remove();
+        }
+        streamConnections.clear();
+        callbacks.clear();
+        logger.info("All multiplexed connections are closed!");
+    }
+
+    private StreamConnection connectionWithRoom() {
+        for (StreamConnection connection : connections) {
+            if (connection.streams.size() < maxStreamsPerConnection && connection.isAlive()) {
+                return connection;
+            }
+        }
+        Request request = RequestBuilder.buildWebSocketRequest(UrlBuilder.buildStreamUrl(baseUrl, null));
+        StreamConnection connection = new StreamConnection(request);
+        connections.add(connection);
+        return connection;
+    }
+
+    /**
+     * @return the connection the stream has a queued subscription or unsubscription on, or null
+     */
+    private StreamConnection queuedOn(String stream) {
+        for (StreamConnection connection : connections) {
+            if (connection.toSubscribe.containsKey(stream) || connection.toUnsubscribe.contains(stream)) {
+                return connection;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Sends the changes queued on a connection, one message per call and no more than
+     * {@link #MAX_MESSAGES_PER_SECOND} per second.
+     */
+    private synchronized void flush(StreamConnection connection) {
+        connection.flushTask = null;
+        if (!connections.contains(connection)) {
+            return;
+        }
+        try {
+            if (!connection.toUnsubscribe.isEmpty()) {
+                connection.send("UNSUBSCRIBE", new ArrayList<>(connection.toUnsubscribe));
+                connection.toUnsubscribe.clear();
+            } else if (!connection.toSubscribe.isEmpty()) {
+                connection.send("SUBSCRIBE", new ArrayList<>(connection.toSubscribe.keySet()));
+                for (Map.Entry<String, WebSocketMessageCallback> entry : connection.toSubscribe.entrySet()) {
+                    callbacks.put(entry.getKey(), entry.getValue());
+                    streamConnections.put(entry.getKey(), connection);
+                }
+                connection.toSubscribe.clear();
+            }
+        } catch (BinanceConnectorException e) {
+            if (connection.reconnectPolicy == null) {
+                lost(connection, e);
+                return;
+            }
+            // sent once the connection is reopened
+            logger.debug("[Connection {}] Not connected, subscription changes kept queued", connection.connection.getConnectionId());
+        }
+        connection.scheduleFlush();
+    }
+
+    /**
+     * Forgets a connection closed or failed without a reconnect policy, along with its streams.
+     */
+    private synchronized void lost(StreamConnection connection, Throwable t) {
+        if (connection.reconnectPolicy != null || !connections.remove(connection)) {
+            return;
+        }
+        logger.error("[Connection {}] Lost, streams {} are no longer subscribed", connection.connection.getConnectionId(),
+                connection.streams, t);
+        for (String stream : connection.streams) {
+            if (streamConnections.remove(stream, connection)) {
+                callbacks.remove(stream);
+            }
+        }
+        connection.close();
+    }
+
+    private void route(String message) {
+        if (message.startsWith(STREAM_PREFIX)) {
+            int streamEnd = message.indexOf('"', STREAM_PREFIX.length());
+            if (streamEnd != NOT_FOUND && message.startsWith(DATA_PREFIX, streamEnd)) {
+                WebSocketMessageCallback callback = callbacks.get(message.substring(STREAM_PREFIX.length(), streamEnd));
+                if (callback != null) {
+                    callback.onMessage(message.substring(streamEnd + DATA_PREFIX.length(), message.lastIndexOf('}')));
+                }
+                return;
+            }
+        }
+        routeParsed(message);
+    }
+
+    /**
+     * Envelopes not in the usual field order, and responses to the subscription requests.
+     */
+    private void routeParsed(String message) {
+        try {
+            JSONObject json = new JSONObject(message);
+            if (json.has("stream")) {
+                WebSocketMessageCallback callback = callbacks.get(json.getString("stream"));
+                if (callback != null) {
+                    callback.onMessage(json.get("data").toString());
+                }
+            } else if (json.has("error")) {
+                logger.error("Subscription request {} failed: {}", json.opt("id"), json.get("error"));
+            }
+        } catch (JSONException e) {
+            logger.warn("Unexpected message {}", message);
+        }
+    }
+
+    private final class StreamConnection {
+        private final Set<String> streams = new HashSet<>();
+        private final Map<String, WebSocketMessageCallback> toSubscribe = new LinkedHashMap<>();
+        private final Set<String> toUnsubscribe = new LinkedHashSet<>();
+        private final ReconnectPolicy reconnectPolicy;
+        private final WebSocketConnection connection;
+        private ScheduledFuture<?> flushTask;
+        private long nextSendAt;
+
+        private StreamConnection(Request request) {
+            reconnectPolicy = WebSocketStreamMultiplexer.this.reconnectPolicy;
+            connection = new WebSocketConnection(response -> { }, WebSocketStreamMultiplexer.this::route, (code, reason) -> { },
+                    (code, reason) -> lost(this, null), (t, response) -> lost(this, t), request, client);
+            connection.setCallbackExecutor(callbackExecutor);
+            connection.setReconnectPolicy(reconnectPolicy);
+            connection.setGapCallback(gapCallback);
+            connection.connect();
+        }
+
+        /**
+         * @return false if the connection was lost and will not be reopened
+         */
+        private boolean isAlive() {
+            return reconnectPolicy != null || connection.isConnected();
+        }
+
+        private void scheduleFlush() {
+            if (flushTask != null || (toSubscribe.isEmpty() && toUnsubscribe.isEmpty())) {
+                return;
+            }
+            long delay = Math.max(NO_DELAY, nextSendAt - System.currentTimeMillis());
+            flushTask = ExecutorFactory.sharedScheduler().schedule(() -> flush(this), delay, TimeUnit.MILLISECONDS);
+        }
+
+        private void send(String method, List<String> names) {
+            JSONObject message = new JSONObject();
+            message.put("method", method);
+            message.put("params", new JSONArray(names));
+            message.put("id", requestId.getAndIncrement());
+            nextSendAt = System.currentTimeMillis() + MESSAGE_INTERVAL_MILLIS;
+            connection.send(message.toString());
+        }
+
+        private void close() {
+            if (flushTask != null) {
+                flushTask.cancel(false);
+                flushTask = null;
+            }
+            connection.close();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.binance.connector.client.impl.marketdata;
+
+import java.util.Arrays;
+
+/**
+ * Price levels of one side of a book in two parallel primitive arrays, sorted so that the best level is last.
+ * Most updates land near the top of the book, so inserting or removing a level only shifts the few levels
+ * above it.
+ */
+final class BookSide {
+    private static final int INITIAL_LEVELS = 256;
+    private static final int NONE = 0;
+    private static final int ONE = 1;
+    private static final double EMPTY = 0d;
+
+    private final boolean bids;
+    private double[] prices = new double[INITIAL_LEVELS];
+    private double[] quantities = new double[INITIAL_LEVELS];
+    private int count;
+
+    BookSide(boolean bids) {
+        this.bids = bids;
+    }
+
+    int depth() {
+        return count;
+    }
+
+    void clear() {
+        count = NONE;
+    }
+
+    /**
+     * @param level 0 for the best level
+     */
+    double price(int level) {
+        return level < count ? prices[count - ONE - level] : Double.NaN;
+    }
+
+    double quantity(int level) {
+        return level < count ? quantities[count - ONE - level] : Double.NaN;
+    }
+
+    /**
+     * Sets the quantity of a level, a zero quantity removes it.
+     */
+    void update(double price, double quantity) {
+        int index = search(price);
+        if (index >= NONE) {
+            if (quantity == EMPTY) {
+                System.arraycopy(prices, index + ONE, prices, index, count - index - ONE);
+                System.arraycopy(quantities, index + ONE, quantities, index, count - index - ONE);
+                count--;
+            } else {
+                quantities[index] = quantity;
+            }
+            return;
+        }
+        if (quantity == EMPTY) {
+            return;
+        }
+        index = -(index + ONE);
+        if (count == prices.length) {
+            prices = Arrays.copyOf(prices, count + count);
+            quantities = Arrays.copyOf(quantities, count + count);
+        }
+        System.arraycopy(prices, index, prices, index + ONE, count - index);
+        System.arraycopy(quantities, index, quantities, index + ONE, count - index);
+        prices[index] = price;
+        quantities[index] = quantity;
+        count++;
+    }
+
+    /**
+     * @return number of levels copied, best first
+     */
+    int top(int levels, double[] topPrices, double[] topQuantities) {
+        int n = Math.min(levels, count);
+        for (int level = NONE; level < n; level++) {
+            topPrices[level] = prices[count - ONE - level];
+            topQuantities[level] = quantities[count - ONE - level];
+        }
+        return n;
+    }
+
+    /**
+     * @return average price of taking {@code quantity} from this side, best levels first, or NaN if the side is too thin
+     */
+    double vwap(double quantity) {
+        double remaining = quantity;
+        double notional = EMPTY;
+        for (int index = count - ONE; index >= NONE && remaining > EMPTY; index--) {
+            double taken = Math.min(remaining, quantities[index]);
+            notional += taken * prices[index];
+            remaining -= taken;
+        }
+        return remaining > EMPTY || quantity <= EMPTY ? Double.NaN : notional / quantity;
+    }
+
+    /**
+     * Binary search in storage order: ascending prices for bids, descending prices for asks.
+     *
+     * @return index of the level, or -(insertion point + 1)
+     */
+    private int search(double price) {
+        int low = NONE;
+        int high = count - ONE;
+        while (low <= high) {
+            int middle = (low + high) >>> ONE;
+            int comparison = bids ? Double.compare(prices[middle], price) : Double.compare(price, prices[middle]);
+            if (comparison < NONE) {
+                low = middle + ONE;
+            } else if (comparison > NONE) {
+                high = middle - ONE;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + ONE);
+    }
+}
@@ -0,0 +1,211 @@
+package com.binance.connector.client.impl.marketdata;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.binance.connector.client.exceptions.BinanceConnectorException;
+
+/**
+ * Synchronisation of one order book with the diff depth stream: events are buffered until a snapshot arrives,
+ * replayed on top of it, then applied as long as each one starts right after the previous one.
+ * <br>
+ * Not thread-safe: the owner serialises all the calls, and fetches the snapshots requested through its
+ * {@link Fetcher}, calling {@link #onFetchStarted(int)} when the request goes out and handing the result back
+ * with {@link #onSnapshot(int, String)} or {@link #onSnapshotFailure(int, Throwable)}. Events received before
+ * the request goes out are older than the snapshot and are dropped rather than buffered, so a book waiting for
+ * its turn to fetch holds no events.
+ */
+final class BookSync {
+    private static final int MAX_BUFFERED_EVENTS = 10000;
+    private static final long NEXT_ID = 1L;
+    private static final Logger logger = LoggerFactory.getLogger(BookSync.class);
+
+    /**
+     * Fetches the snapshots of a book for its owner.
+     */
+    interface Fetcher {
+        /**
+         * Starts fetching a snapshot, to be handed back with the generation.
+         *
+         * @param again true if the snapshot fetched last was older than the buffered events, so the fetch
+         *              keeps the turn it had
+         */
+        void fetch(BookSync sync, int generation, boolean again);
+
+        /**
+         * Calls {@link BookSync#retry(int)} with the generation after a delay.
+         */
+        void retryLater(BookSync sync, int generation);
+    }
+
+    private final String symbol;
+    private final Fetcher fetcher;
+    private final OrderBook book = new OrderBook();
+    private final DepthUpdate update = new DepthUpdate();
+    private final List<String> buffered = new ArrayList<>();
+    private boolean synced;
+    private boolean fetching;
+    private boolean requested;
+    private int generation;
+    private long resyncCount;
+
+    BookSync(String symbol, Fetcher fetcher) {
+        this.symbol = symbol;
+        this.fetcher = fetcher;
+    }
+
+    String getSymbol() {
+        return symbol;
+    }
+
+    OrderBook book() {
+        return book;
+    }
+
+    /**
+     * @return event time of the last event applied or buffered, in milliseconds
+     */
+    long getLastEventTime() {
+        return update.getEventTime();
+    }
+
+    boolean isSynchronized() {
+        return synced;
+    }
+
+    long getResyncCount() {
+        return resyncCount;
+    }
+
+    /**
+     * @return generation of the book, incremented by each {@link #resync()}
+     */
+    int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * @param data message received from the diff depth stream
+     * @return true if the event was applied to the synchronised book
+     */
+    boolean onEvent(String data) {
+        if (!synced) {
+            buffer(data);
+            return false;
+        }
+        if (!update.read(data) || !update.isFor(symbol) || update.getLastUpdateId() <= book.getLastUpdateId()) {
+            // not a depth event of this symbol, or already applied, e.g. received again around a connection replacement
+            return false;
+        }
+        if (update.getFirstUpdateId() > book.getLastUpdateId() + NEXT_ID) {
+            logger.warn("[BookSync] {} missed updates {} to {}, synchronising again", symbol,
+                    book.getLastUpdateId() + NEXT_ID, update.getFirstUpdateId() - NEXT_ID);
+            resync();
+            buffer(data);
+            return false;
+        }
+        update.applyTo(book);
+        return true;
+    }
+
+    /**
+     * Drops the levels and fetches a new snapshot on the next event.
+     */
+    void resync() {
+        synced = false;
+        fetching = false;
+        requested = false;
+        generation++;
+        resyncCount++;
+        buffered.clear();
+        book.clear();
+        book.setLastUpdateId(DepthUpdate.NO_UPDATE_ID);
+    }
+
+    /**
+     * @param expectedGeneration generation the snapshot was requested for
+     * @param snapshot REST depth snapshot
+     * @return true if the book is now synchronised
+     */
+    boolean onSnapshot(int expectedGeneration, String snapshot) {
+        if (expectedGeneration != generation) {
+            return false;
+        }
+        fetching = false;
+        requested = false;
+        if (!update.read(snapshot)) {
+            onSnapshotFailure(expectedGeneration, new BinanceConnectorException("[BookSync] No lastUpdateId in snapshot"));
+            return false;
+        }
+        book.clear();
+        update.applyTo(book);
+        for (String data : buffered) {
+            if (!update.read(data) || !update.isFor(symbol) || update.getLastUpdateId() <= book.getLastUpdateId()) {
+                continue;
+            }
+            if (update.getFirstUpdateId() > book.getLastUpdateId() + NEXT_ID) {
+                // the snapshot is older than the buffered events
+                logger.info("[BookSync] {} snapshot {} is older than the buffered events, fetching again", symbol, book.getLastUpdateId());
+                book.clear();
+                buffered.clear();
+                fetching = true;
+                fetcher.fetch(this, generation, true);
+                return false;
+            }
+            update.applyTo(book);
+        }
+        buffered.clear();
+        synced = true;
+        logger.info("[BookSync] {} synchronised at update {}", symbol, book.getLastUpdateId());
+        return true;
+    }
+
+    void onSnapshotFailure(int expectedGeneration, Throwable t) {
+        if (expectedGeneration != generation) {
+            return;
+        }
+        logger.warn("[BookSync] Failed to fetch {} snapshot, retrying", symbol, t);
+        fetching = true;
+        requested = false;
+        buffered.clear();
+        fetcher.retryLater(this, expectedGeneration);
+    }
+
+    /**
+     * Starts buffering the events, called when the snapshot request of the generation goes out.
+     */
+    void onFetchStarted(int expectedGeneration) {
+        if (expectedGeneration == generation && fetching) {
+            requested = true;
+        }
+    }
+
+    void retry(int expectedGeneration) {
+        if (expectedGeneration == generation && !synced) {
+            fetch();
+        }
+    }
+
+    private void buffer(String data) {
+        if (!fetching) {
+            fetch();
+        }
+        if (!requested) {
+            // the snapshot is requested after this event was received, it already includes it
+            return;
+        }
+        if (buffered.size() == MAX_BUFFERED_EVENTS) {
+            // the snapshot is late, the events it misses will be detected as a gap and fetched again
+            buffered.clear();
+        }
+        buffered.add(data);
+    }
+
+    private void fetch() {
+        fetching = true;
+        fetcher.fetch(this, generation, false);
+    }
+}
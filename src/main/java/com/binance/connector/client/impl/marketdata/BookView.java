@@ -0,0 +1,104 @@
+package com.binance.connector.client.impl.marketdata;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.binance.connector.client.enums.Side;
+
+/**
+ * Top levels of a book published by its single writer for lock-free readers.
+ * <br>
+ * The levels are laid out in one flat array: a version, the header, then the bid prices, bid quantities,
+ * ask prices and ask quantities. The version is odd while the writer copies the levels, so a reader retries
+ * until it has read the whole array between two equal even versions.
+ */
+final class BookView {
+    private static final int VERSION = 0;
+    private static final int LAST_UPDATE_ID = 1;
+    private static final int SYNCED = 2;
+    private static final int BID_DEPTH = 3;
+    private static final int ASK_DEPTH = 4;
+    private static final int HEADER_LENGTH = 5;
+    private static final int SIDE_ARRAYS = 4;
+    private static final int START = 0;
+    private static final long VERSION_STEP = 1L;
+    private static final long WRITING = 1L;
+    private static final long EVEN = 0L;
+    private static final long TRUE = 1L;
+    private static final long FALSE = 0L;
+
+    private final int levels;
+    private final AtomicLongArray slots;
+    private final double[] scratchPrices;
+    private final double[] scratchQuantities;
+
+    BookView(int levels) {
+        this.levels = levels;
+        this.slots = new AtomicLongArray(HEADER_LENGTH + SIDE_ARRAYS * levels);
+        this.scratchPrices = new double[levels];
+        this.scratchQuantities = new double[levels];
+        slots.set(LAST_UPDATE_ID, DepthUpdate.NO_UPDATE_ID);
+    }
+
+    /**
+     * Copies the top levels of the book, called by the writer only.
+     */
+    void publish(OrderBook book, boolean synced) {
+        long version = slots.get(VERSION);
+        slots.set(VERSION, version + VERSION_STEP);
+        slots.lazySet(LAST_UPDATE_ID, book.getLastUpdateId());
+        slots.lazySet(SYNCED, synced ? TRUE : FALSE);
+        slots.lazySet(BID_DEPTH, write(book, Side.BUY, HEADER_LENGTH));
+        slots.lazySet(ASK_DEPTH, write(book, Side.SELL, HEADER_LENGTH + levels + levels));
+        slots.lazySet(VERSION, version + VERSION_STEP + VERSION_STEP);
+    }
+
+    /**
+     * Copies the levels as they were after one publication.
+     */
+    void read(String symbol, OrderBookSnapshot into) {
+        int capacity = Math.min(levels, into.capacity());
+        while (true) {
+            long version = slots.get(VERSION);
+            if ((version & WRITING) == EVEN) {
+                long lastUpdateId = slots.get(LAST_UPDATE_ID);
+                boolean synced = slots.get(SYNCED) == TRUE;
+                int bids = Math.min(capacity, (int) slots.get(BID_DEPTH));
+                int asks = Math.min(capacity, (int) slots.get(ASK_DEPTH));
+                copy(into, Side.BUY, HEADER_LENGTH, bids);
+                copy(into, Side.SELL, HEADER_LENGTH + levels + levels, asks);
+                if (slots.get(VERSION) == version) {
+                    into.set(symbol, synced, lastUpdateId, bids, asks);
+                    return;
+                }
+            }
+            Thread.yield();
+        }
+    }
+
+    /**
+     * @return the best price of the side, read without a snapshot, or NaN if the side is empty
+     */
+    double best(Side side) {
+        int depth = (int) slots.get(side == Side.BUY ? BID_DEPTH : ASK_DEPTH);
+        int offset = side == Side.BUY ? HEADER_LENGTH : HEADER_LENGTH + levels + levels;
+        return depth > START ? Double.longBitsToDouble(slots.get(offset)) : Double.NaN;
+    }
+
+    private long write(OrderBook book, Side side, int offset) {
+        int count = book.top(side, levels, scratchPrices, scratchQuantities);
+        for (int i = START; i < count; i++) {
+            slots.lazySet(offset + i, Double.doubleToRawLongBits(scratchPrices[i]));
+            slots.lazySet(offset + levels + i, Double.doubleToRawLongBits(scratchQuantities[i]));
+        }
+        return count;
+    }
+
+    private void copy(OrderBookSnapshot into, Side side, int offset, int count) {
+        double[] prices = into.prices(side);
+        double[] quantities = into.quantities(side);
+        for (int i = START; i < count; i++) {
+            prices[i] = Double.longBitsToDouble(slots.get(offset + i));
+            quantities[i] = Double.longBitsToDouble(slots.get(offset + levels + i));
+        }
+    }
+}
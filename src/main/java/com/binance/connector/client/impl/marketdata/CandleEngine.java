@@ -0,0 +1,504 @@
+package com.binance.connector.client.impl.marketdata;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.binance.connector.client.enums.CandleField;
+import com.binance.connector.client.exceptions.BinanceConnectorException;
+import com.binance.connector.client.impl.spot.Market;
+import com.binance.connector.client.utils.ParameterChecker;
+import com.binance.connector.client.utils.decoder.AggTradeEvent;
+import com.binance.connector.client.utils.decoder.JsonScanner;
+import com.binance.connector.client.utils.decoder.KlineEvent;
+import com.binance.connector.client.utils.decoder.StreamDecoder;
+import com.binance.connector.client.utils.decoder.TradeEvent;
+import com.binance.connector.client.utils.websocketcallback.WebSocketMessageCallback;
+
+/**
+ * Builds the candles of a symbol at any interval, seeded from the REST klines and rolled forward from the
+ * trade, aggregate trade or kline streams.
+ * <br>
+ * Candles are aligned to multiples of the interval since the epoch, as the Binance klines up to a day are, and
+ * weekly candles to multiples of a week since Monday 1970-01-05, as the weekly klines open on Monday 00:00 UTC.
+ * Klines are resampled when the interval is a multiple of theirs: repeated updates of the same kline replace
+ * its previous values and a candle closes once a kline or trade of a later candle arrives, or as soon as a
+ * closed kline completes it. Intervals without any trade are filled with flat candles at the previous close,
+ * so the open time of each candle of the series is one interval after the previous one.
+ * <pre>
+ * CandleEngine engine = CandleEngine.builder().symbol("BTCUSDT").interval("5m").build();
+ * engine.seed(market, "1m", 1000);
+ * client.klineStream("btcusdt", "1m", engine);
+ * </pre>
+ * Feed an engine from one kind of stream only, and seed it before the first stream event: history older
+ * than the candle being built is ignored. The closed candles are kept in a {@link CandleSeries}.
+ */
+public final class CandleEngine implements WebSocketMessageCallback {
+    public static final int DEFAULT_CAPACITY = 1000;
+    private static final long NONE = Long.MIN_VALUE;
+    private static final long ONE_MILLI = 1L;
+    private static final long NO_TRADES = 0L;
+    private static final int MIN = 1;
+    private static final int START = 0;
+    private static final int FIELDS = CandleField.values().length;
+    private static final int OPEN = CandleField.OPEN.ordinal();
+    private static final int HIGH = CandleField.HIGH.ordinal();
+    private static final int LOW = CandleField.LOW.ordinal();
+    private static final int CLOSE = CandleField.CLOSE.ordinal();
+    private static final int VOLUME = CandleField.VOLUME.ordinal();
+    private static final int QUOTE_VOLUME = CandleField.QUOTE_VOLUME.ordinal();
+    private static final int UNIT_LENGTH = 1;
+    private static final long DAYS_PER_WEEK = 7L;
+    private static final long WEEK_MILLIS = TimeUnit.DAYS.toMillis(DAYS_PER_WEEK);
+    /** The epoch was a Thursday, the first Monday followed four days later. */
+    private static final long FIRST_MONDAY_MILLIS = TimeUnit.DAYS.toMillis(4);
+    private static final long EPOCH = 0L;
+
+    private final String symbol;
+    private final long intervalMillis;
+    private final long originMillis;
+    private final CandleSeries series;
+    private final CandleListener listener;
+    private final StreamDecoder decoder;
+    private final JsonScanner scanner = new JsonScanner();
+    private final double[] base = new double[FIELDS];
+    private final double[] kline = new double[FIELDS];
+    private final double[] row = new double[FIELDS];
+    private final double[] candle = new double[FIELDS];
+    private long baseTrades;
+    private boolean baseEmpty = true;
+    private long klineOpenTime = NONE;
+    private long klineTrades;
+    private long rowTrades;
+    private boolean forming;
+    private long openTime;
+    private long closedUntil = NONE;
+    private double lastClose;
+
+    private CandleEngine(Builder builder) {
+        this.symbol = builder.symbol;
+        this.intervalMillis = builder.intervalMillis;
+        this.originMillis = intervalMillis % WEEK_MILLIS == START ? FIRST_MONDAY_MILLIS : EPOCH;
+        this.series = new CandleSeries(intervalMillis, builder.capacity);
+        this.listener = builder.listener;
+        this.decoder = new StreamDecoder()
+                .onTrade(this::onTrade)
+                .onAggTrade(this::onAggTrade)
+                .onKline(this::onKline);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @param interval interval such as 1s, 5s, 15m, 4h, 1d or 1w
+     * @return the interval in milliseconds
+     */
+    public static long intervalMillis(String interval) {
+        ParameterChecker.checkParameterType(interval, String.class, "interval");
+        int unitIndex = interval.length() - UNIT_LENGTH;
+        long count = NONE;
+        if (unitIndex >= MIN) {
+            try {
+                count = Long.parseLong(interval.substring(START, unitIndex));
+            } catch (NumberFormatException e) {
+                count = NONE;
+            }
+        }
+        TimeUnit unit = null;
+        if (count >= MIN) {
+            switch (interval.charAt(unitIndex)) {
+                case 's':
+                    unit = TimeUnit.SECONDS;
+                    break;
+                case 'm':
+                    unit = TimeUnit.MINUTES;
+                    break;
+                case 'h':
+                    unit = TimeUnit.HOURS;
+                    break;
+                case 'd':
+                    unit = TimeUnit.DAYS;
+                    break;
+                case 'w':
+                    unit = TimeUnit.DAYS;
+                    count *= DAYS_PER_WEEK;
+                    break;
+                default:
+                    break;
+            }
+        }
+        if (unit == null) {
+            throw new BinanceConnectorException("[CandleEngine] Unsupported interval: " + interval);
+        }
+        return unit.toMillis(count);
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public long getIntervalMillis() {
+        return intervalMillis;
+    }
+
+    /**
+     * @return the closed candles
+     */
+    public CandleSeries getSeries() {
+        return series;
+    }
+
+    @Override
+    public void onMessage(String data) {
+        decoder.decode(data);
+    }
+
+    /**
+     * Seeds the candles from the klines endpoint.
+     *
+     * @param market market endpoints the klines are fetched from
+     * @param klineInterval interval of the klines fetched, which the interval of the engine is a multiple of
+     * @param limit number of klines, up to 1000
+     * @return number of klines read
+     */
+    public int seed(Market market, String klineInterval, int limit) {
+        ParameterChecker.checkParameterType(market, Market.class, "market");
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("symbol", symbol);
+        parameters.put("interval", klineInterval);
+        parameters.put("limit", limit);
+        return seed(market.klines(parameters));
+    }
+
+    /**
+     * Seeds the candles from a response of the klines or uiKlines endpoints, oldest kline first.
+     * The newest kline is kept open, to be replaced by the stream updates of the same kline.
+     *
+     * @param response response in String format
+     * @return number of klines read
+     */
+    public synchronized int seed(CharSequence response) {
+        scanner.reset(response);
+        if (!scanner.enterArray()) {
+            throw new BinanceConnectorException("[CandleEngine] Klines response is not an array.");
+        }
+        int count = START;
+        while (scanner.nextElement()) {
+            if (!scanner.enterArray() || !scanner.nextElement()) {
+                throw new BinanceConnectorException("[CandleEngine] Kline is not an array.");
+            }
+            long klineOpen = scanner.readLong();
+            for (int field = OPEN; field <= VOLUME; field++) {
+                scanner.nextElement();
+                row[field] = scanner.readDouble();
+            }
+            scanner.nextElement();
+            long klineClose = scanner.readLong();
+            scanner.nextElement();
+            row[QUOTE_VOLUME] = scanner.readDouble();
+            scanner.nextElement();
+            rowTrades = scanner.readLong();
+            while (scanner.nextElement()) {
+                scanner.skipValue();
+            }
+            applyKline(klineOpen, klineClose, false);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Adds a trade of the symbol; events of other symbols are ignored.
+     */
+    public void onTrade(TradeEvent event) {
+        if (symbol.equals(event.getSymbol())) {
+            onTrade(event.getTradeTime(), event.getPrice(), event.getQuantity());
+        }
+    }
+
+    /**
+     * Adds an aggregate trade of the symbol; events of other symbols are ignored.
+     */
+    public void onAggTrade(AggTradeEvent event) {
+        if (symbol.equals(event.getSymbol())) {
+            onTrade(event.getTradeTime(), event.getPrice(), event.getQuantity());
+        }
+    }
+
+    /**
+     * Applies a kline update of the symbol; events of other symbols are ignored.
+     */
+    public synchronized void onKline(KlineEvent event) {
+        if (!symbol.equals(event.getSymbol())) {
+            return;
+        }
+        row[OPEN] = event.getOpen();
+        row[HIGH] = event.getHigh();
+        row[LOW] = event.getLow();
+        row[CLOSE] = event.getClose();
+        row[VOLUME] = event.getVolume();
+        row[QUOTE_VOLUME] = event.getQuoteVolume();
+        rowTrades = event.getTradeCount();
+        applyKline(event.getOpenTime(), event.getCloseTime(), event.isClosed());
+    }
+
+    /**
+     * Adds a trade to the candle of its time. Trades of a candle already closed are ignored.
+     *
+     * @param time trade time in milliseconds
+     * @param price price of the trade
+     * @param quantity quantity of the trade
+     */
+    public synchronized void onTrade(long time, double price, double quantity) {
+        if (!accept(align(time))) {
+            return;
+        }
+        if (baseEmpty) {
+            base[OPEN] = price;
+            base[HIGH] = price;
+            base[LOW] = price;
+            baseEmpty = false;
+        } else {
+            base[HIGH] = Math.max(base[HIGH], price);
+            base[LOW] = Math.min(base[LOW], price);
+        }
+        base[CLOSE] = price;
+        base[VOLUME] += quantity;
+        base[QUOTE_VOLUME] += price * quantity;
+        baseTrades++;
+    }
+
+    /**
+     * Closes the candle being built and fills the candles without trades once their interval has passed.
+     * Call it periodically when building short candles from trades, so that they close without waiting for
+     * the next trade.
+     *
+     * @param now current time in milliseconds
+     */
+    public synchronized void advance(long now) {
+        long bucket = align(now);
+        if (forming && bucket > openTime) {
+            closeCandle();
+            fill(bucket);
+        } else if (!forming && closedUntil != NONE && bucket > closedUntil) {
+            fill(bucket);
+        }
+    }
+
+    /**
+     * @return true if a candle is being built
+     */
+    public synchronized boolean hasCurrent() {
+        return forming;
+    }
+
+    /**
+     * @return open time of the candle being built
+     */
+    public synchronized long getCurrentOpenTime() {
+        return openTime;
+    }
+
+    /**
+     * @param field field to read
+     * @return value of the field for the candle being built so far, NaN if there is none
+     */
+    public synchronized double getCurrent(CandleField field) {
+        if (!forming) {
+            return Double.NaN;
+        }
+        merge();
+        return candle[field.ordinal()];
+    }
+
+    private void applyKline(long klineOpen, long klineClose, boolean closed) {
+        long klineInterval = klineClose + ONE_MILLI - klineOpen;
+        if (klineInterval < MIN || klineInterval > intervalMillis || intervalMillis % klineInterval != START) {
+            throw new BinanceConnectorException("[CandleEngine] Klines of " + klineInterval + "ms cannot be resampled to "
+                    + intervalMillis + "ms.");
+        }
+        if (klineOpenTime != NONE && klineOpen < klineOpenTime) {
+            return;
+        }
+        if (klineOpenTime != NONE && klineOpen > klineOpenTime) {
+            commitKline();
+        }
+        if (!accept(align(klineOpen))) {
+            return;
+        }
+        System.arraycopy(row, START, kline, START, FIELDS);
+        klineTrades = rowTrades;
+        klineOpenTime = klineOpen;
+        if (closed && klineClose + ONE_MILLI >= openTime + intervalMillis) {
+            closeCandle();
+        }
+    }
+
+    /**
+     * Makes the candle of {@code bucket} the one being built, closing the previous ones.
+     *
+     * @return false if the candle is already closed
+     */
+    private boolean accept(long bucket) {
+        if (bucket < closedUntil || forming && bucket < openTime) {
+            return false;
+        }
+        if (forming && bucket > openTime) {
+            closeCandle();
+            fill(bucket);
+        }
+        if (!forming) {
+            forming = true;
+            openTime = bucket;
+            Arrays.fill(base, START);
+            baseTrades = NO_TRADES;
+            baseEmpty = true;
+            klineOpenTime = NONE;
+        }
+        return true;
+    }
+
+    /**
+     * Folds the kline being updated into the candle, before a later kline replaces it.
+     */
+    private void commitKline() {
+        merge();
+        System.arraycopy(candle, START, base, START, FIELDS);
+        baseTrades += klineTrades;
+        baseEmpty = false;
+        klineOpenTime = NONE;
+    }
+
+    /**
+     * Combines the trades and klines of the candle being built into {@code candle}.
+     */
+    private void merge() {
+        if (klineOpenTime == NONE) {
+            System.arraycopy(base, START, candle, START, FIELDS);
+            return;
+        }
+        if (baseEmpty) {
+            System.arraycopy(kline, START, candle, START, FIELDS);
+            return;
+        }
+        candle[OPEN] = base[OPEN];
+        candle[HIGH] = Math.max(base[HIGH], kline[HIGH]);
+        candle[LOW] = Math.min(base[LOW], kline[LOW]);
+        candle[CLOSE] = kline[CLOSE];
+        candle[VOLUME] = base[VOLUME] + kline[VOLUME];
+        candle[QUOTE_VOLUME] = base[QUOTE_VOLUME] + kline[QUOTE_VOLUME];
+    }
+
+    private void closeCandle() {
+        merge();
+        long trades = klineOpenTime == NONE ? baseTrades : baseTrades + klineTrades;
+        series.append(openTime, candle, trades);
+        lastClose = candle[CLOSE];
+        closedUntil = openTime + intervalMillis;
+        forming = false;
+        klineOpenTime = NONE;
+        notifyListener();
+    }
+
+    /**
+     * Appends flat candles at the last close from the last closed candle up to {@code bucket}.
+     */
+    private void fill(long bucket) {
+        if ((bucket - closedUntil) / intervalMillis > series.capacity()) {
+            closedUntil = bucket - series.capacity() * intervalMillis;
+        }
+        Arrays.fill(candle, lastClose);
+        candle[VOLUME] = START;
+        candle[QUOTE_VOLUME] = START;
+        while (closedUntil < bucket) {
+            series.append(closedUntil, candle, NO_TRADES);
+            closedUntil += intervalMillis;
+            notifyListener();
+        }
+    }
+
+    private void notifyListener() {
+        if (listener != null) {
+            listener.onClose(this);
+        }
+    }
+
+    private long align(long time) {
+        return time - Math.floorMod(time - originMillis, intervalMillis);
+    }
+
+    public static final class Builder {
+        private String symbol;
+        private long intervalMillis = NONE;
+        private int capacity = DEFAULT_CAPACITY;
+        private CandleListener listener;
+
+        private Builder() {
+        }
+
+        /**
+         * @param name symbol of the candles, e.g. BTCUSDT
+         * @return Builder
+         */
+        public Builder symbol(String name) {
+            ParameterChecker.checkParameterType(name, String.class, "symbol");
+            this.symbol = name.toUpperCase();
+            return this;
+        }
+
+        /**
+         * @param interval interval of the candles such as 1s, 5s, 15m, 4h, 1d or 1w
+         * @return Builder
+         */
+        public Builder interval(String interval) {
+            this.intervalMillis = CandleEngine.intervalMillis(interval);
+            return this;
+        }
+
+        /**
+         * @param millis interval of the candles in milliseconds
+         * @return Builder
+         */
+        public Builder intervalMillis(long millis) {
+            if (millis < MIN) {
+                throw new BinanceConnectorException("[CandleEngine] Interval must be positive.");
+            }
+            this.intervalMillis = millis;
+            return this;
+        }
+
+        /**
+         * @param candles number of closed candles kept, 1000 by default
+         * @return Builder
+         */
+        public Builder capacity(int candles) {
+            if (candles < MIN) {
+                throw new BinanceConnectorException("[CandleEngine] Capacity must be positive.");
+            }
+            this.capacity = candles;
+            return this;
+        }
+
+        /**
+         * @param candleListener called after each candle is closed, may be null
+         * @return Builder
+         */
+        public Builder listener(CandleListener candleListener) {
+            this.listener = candleListener;
+            return this;
+        }
+
+        public CandleEngine build() {
+            if (symbol == null) {
+                throw new BinanceConnectorException("[CandleEngine] A symbol is required.");
+            }
+            if (intervalMillis == NONE) {
+                throw new BinanceConnectorException("[CandleEngine] An interval is required.");
+            }
+            return new CandleEngine(this);
+        }
+    }
+}
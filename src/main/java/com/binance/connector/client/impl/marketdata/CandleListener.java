@@ -0,0 +1,12 @@
+package com.binance.connector.client.impl.marketdata;
+
+@FunctionalInterface
+public interface CandleListener {
+    /**
+     * onClose will be called after a candle has been closed and appended to the series of the engine,
+     * on the thread that closed it and while holding the lock of the engine.
+     *
+     * @param engine the engine, whose last closed candle is the newest of its series
+     */
+    void onClose(CandleEngine engine);
+}
@@ -0,0 +1,139 @@
+package com.binance.connector.client.impl.marketdata;
+
+import com.binance.connector.client.enums.CandleField;
+
+/**
+ * Closed candles of a symbol at one interval, kept in a fixed-capacity ring of primitive columns.
+ * <br>
+ * Each field is a {@code double[]} column and the open times and trade counts are {@code long[]} columns, so
+ * indicators scan contiguous arrays rather than candle objects. Once the ring is full, each new candle replaces
+ * the oldest. Candles are indexed from 0, the oldest kept, to {@link #size()} - 1, the newest;
+ * {@link #copy(CandleField, double[])} copies a column in that order.
+ * <br>
+ * The series is written by its {@link CandleEngine} and can be read from any thread.
+ */
+public final class CandleSeries {
+    private static final int START = 0;
+    private static final int NEXT = 1;
+
+    private final long intervalMillis;
+    private final int capacity;
+    private final long[] openTimes;
+    private final long[] tradeCounts;
+    private final double[][] columns;
+    private int head;
+    private int size;
+    private long appended;
+
+    CandleSeries(long intervalMillis, int capacity) {
+        this.intervalMillis = intervalMillis;
+        this.capacity = capacity;
+        this.openTimes = new long[capacity];
+        this.tradeCounts = new long[capacity];
+        this.columns = new double[CandleField.values().length][capacity];
+    }
+
+    public long getIntervalMillis() {
+        return intervalMillis;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * @return number of candles kept, up to the capacity
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * @return number of candles appended since the series was created, including the ones overwritten
+     */
+    public synchronized long getAppendedCount() {
+        return appended;
+    }
+
+    /**
+     * @param index index of the candle, 0 for the oldest kept
+     * @return open time of the candle in milliseconds
+     */
+    public synchronized long getOpenTime(int index) {
+        return openTimes[slot(index)];
+    }
+
+    /**
+     * @param index index of the candle, 0 for the oldest kept
+     * @return number of trades of the candle
+     */
+    public synchronized long getTradeCount(int index) {
+        return tradeCounts[slot(index)];
+    }
+
+    /**
+     * @param field column to read
+     * @param index index of the candle, 0 for the oldest kept
+     * @return value of the field for the candle
+     */
+    public synchronized double get(CandleField field, int index) {
+        return columns[field.ordinal()][slot(index)];
+    }
+
+    /**
+     * Copies the newest values of a column, oldest first.
+     *
+     * @param field column to copy
+     * @param into array filled from index 0
+     * @return number of values copied, the smaller of the size and the length of {@code into}
+     */
+    public synchronized int copy(CandleField field, double[] into) {
+        double[] column = columns[field.ordinal()];
+        int count = Math.min(size, into.length);
+        int from = Math.floorMod(head - count, capacity);
+        int firstPart = Math.min(count, capacity - from);
+        System.arraycopy(column, from, into, START, firstPart);
+        System.arraycopy(column, START, into, firstPart, count - firstPart);
+        return count;
+    }
+
+    /**
+     * Copies the open times of the newest candles, oldest first.
+     *
+     * @param into array filled from index 0
+     * @return number of values copied, the smaller of the size and the length of {@code into}
+     */
+    public synchronized int copyOpenTimes(long[] into) {
+        int count = Math.min(size, into.length);
+        int from = Math.floorMod(head - count, capacity);
+        int firstPart = Math.min(count, capacity - from);
+        System.arraycopy(openTimes, from, into, START, firstPart);
+        System.arraycopy(openTimes, START, into, firstPart, count - firstPart);
+        return count;
+    }
+
+    /**
+     * Appends a candle, overwriting the oldest once the ring is full.
+     *
+     * @param openTime open time of the candle
+     * @param values values indexed by the ordinal of their {@link CandleField}
+     * @param tradeCount number of trades
+     */
+    synchronized void append(long openTime, double[] values, long tradeCount) {
+        openTimes[head] = openTime;
+        tradeCounts[head] = tradeCount;
+        for (int field = START; field < columns.length; field++) {
+            columns[field][head] = values[field];
+        }
+        head = head + NEXT == capacity ? START : head + NEXT;
+        size = Math.min(size + NEXT, capacity);
+        appended++;
+    }
+
+    private int slot(int index) {
+        if (index < START || index >= size) {
+            throw new IndexOutOfBoundsException("Candle " + index + " of " + size);
+        }
+        return Math.floorMod(head - size + index, capacity);
+    }
+}
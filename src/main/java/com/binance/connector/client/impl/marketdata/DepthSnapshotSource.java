@@ -0,0 +1,15 @@
+package com.binance.connector.client.impl.marketdata;
+
+import java.util.concurrent.CompletableFuture;
+
+@FunctionalInterface
+public interface DepthSnapshotSource {
+    /**
+     * Fetches the order book of a symbol, as returned by the REST depth endpoint.
+     *
+     * @param symbol symbol of the book
+     * @param limit number of levels per side
+     * @return future completed with the response in String format
+     */
+    CompletableFuture<String> fetch(String symbol, int limit);
+}
@@ -0,0 +1,176 @@
+package com.binance.connector.client.impl.marketdata;
+
+import java.util.Arrays;
+
+import com.binance.connector.client.enums.Side;
+import com.binance.connector.client.utils.decoder.JsonScanner;
+
+/**
+ * Levels of a diff depth event or of a depth snapshot, read into reusable arrays.
+ */
+final class DepthUpdate {
+    static final long NO_UPDATE_ID = -1L;
+    static final long NO_EVENT_TIME = 0L;
+    private static final int INITIAL_LEVELS = 64;
+    private static final int NONE = 0;
+    private static final String DATA_KEY = "data";
+    private static final String LAST_UPDATE_ID_KEY = "lastUpdateId";
+    private static final String BIDS_KEY = "bids";
+    private static final String ASKS_KEY = "asks";
+
+    private final JsonScanner scanner = new JsonScanner();
+    private final Levels bids = new Levels();
+    private final Levels asks = new Levels();
+    private CharSequence message;
+    private int symbolStart;
+    private int symbolEnd;
+    private long firstUpdateId;
+    private long lastUpdateId;
+    private long eventTime;
+
+    /**
+     * Reads a {@code depthUpdate} event, raw or combined, or a REST depth snapshot.
+     *
+     * @return false if the message holds no update id, e.g. the response to a SUBSCRIBE
+     */
+    boolean read(CharSequence text) {
+        message = text;
+        symbolStart = NONE;
+        symbolEnd = NONE;
+        firstUpdateId = NO_UPDATE_ID;
+        lastUpdateId = NO_UPDATE_ID;
+        eventTime = NO_EVENT_TIME;
+        bids.count = NONE;
+        asks.count = NONE;
+        scanner.reset(text);
+        if (scanner.enterObject()) {
+            readObject();
+        }
+        return lastUpdateId != NO_UPDATE_ID;
+    }
+
+    /**
+     * @return first update id of a diff event, {@link #NO_UPDATE_ID} for a snapshot
+     */
+    long getFirstUpdateId() {
+        return firstUpdateId;
+    }
+
+    long getLastUpdateId() {
+        return lastUpdateId;
+    }
+
+    /**
+     * @return event time of a diff event in milliseconds, {@link #NO_EVENT_TIME} for a snapshot
+     */
+    long getEventTime() {
+        return eventTime;
+    }
+
+    /**
+     * @return true if the event is for the symbol, or holds no symbol as a snapshot
+     */
+    boolean isFor(String symbol) {
+        int length = symbolEnd - symbolStart;
+        if (length == NONE) {
+            return true;
+        }
+        if (length != symbol.length()) {
+            return false;
+        }
+        for (int i = NONE; i < length; i++) {
+            if (message.charAt(symbolStart + i) != symbol.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    void applyTo(OrderBook book) {
+        bids.applyTo(book, Side.BUY);
+        asks.applyTo(book, Side.SELL);
+        book.setLastUpdateId(lastUpdateId);
+    }
+
+    private void readObject() {
+        while (scanner.nextField()) {
+            switch (scanner.tokenChar()) {
+                case 'U':
+                    firstUpdateId = scanner.readLong();
+                    break;
+                case 'u':
+                    lastUpdateId = scanner.readLong();
+                    break;
+                case 'E':
+                    eventTime = scanner.readLong();
+                    break;
+                case 's':
+                    scanner.readStringToken();
+                    symbolStart = scanner.tokenStart();
+                    symbolEnd = scanner.tokenEnd();
+                    break;
+                case 'b':
+                    bids.read(scanner);
+                    break;
+                case 'a':
+                    asks.read(scanner);
+                    break;
+                default:
+                    readNamedField();
+                    break;
+            }
+        }
+    }
+
+    private void readNamedField() {
+        if (scanner.tokenIs(LAST_UPDATE_ID_KEY)) {
+            lastUpdateId = scanner.readLong();
+        } else if (scanner.tokenIs(BIDS_KEY)) {
+            bids.read(scanner);
+        } else if (scanner.tokenIs(ASKS_KEY)) {
+            asks.read(scanner);
+        } else if (scanner.tokenIs(DATA_KEY) && scanner.enterObject()) {
+            readObject();
+        } else {
+            scanner.skipValue();
+        }
+    }
+
+    private static final class Levels {
+        private double[] prices = new double[INITIAL_LEVELS];
+        private double[] quantities = new double[INITIAL_LEVELS];
+        private int count;
+
+        private void read(JsonScanner scanner) {
+            count = NONE;
+            if (!scanner.enterArray()) {
+                scanner.skipValue();
+                return;
+            }
+            while (scanner.nextElement()) {
+                if (!scanner.enterArray()) {
+                    scanner.skipValue();
+                    continue;
+                }
+                if (count == prices.length) {
+                    prices = Arrays.copyOf(prices, count + count);
+                    quantities = Arrays.copyOf(quantities, count + count);
+                }
+                scanner.nextElement();
+                prices[count] = scanner.readDouble();
+                scanner.nextElement();
+                quantities[count] = scanner.readDouble();
+                count++;
+                while (scanner.nextElement()) {
+                    scanner.skipValue();
+                }
+            }
+        }
+
+        private void applyTo(OrderBook book, Side side) {
+            for (int i = NONE; i < count; i++) {
+                book.update(side, prices[i], quantities[i]);
+            }
+        }
+    }
+}
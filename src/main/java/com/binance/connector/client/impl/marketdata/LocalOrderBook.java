@@ -0,0 +1,212 @@
+package com.binance.connector.client.impl.marketdata;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.binance.connector.client.enums.Side;
+import com.binance.connector.client.impl.spot.Market;
+import com.binance.connector.client.utils.ExecutorFactory;
+import com.binance.connector.client.utils.ParameterChecker;
+import com.binance.connector.client.utils.websocketcallback.WebSocketGapCallback;
+import com.binance.connector.client.utils.websocketcallback.WebSocketMessageCallback;
+
+/**
+ * Order book of one symbol kept in sync with the diff depth stream, following
+ * <a href="https://binance-docs.github.io/apidocs/spot/en/#how-to-manage-a-local-order-book-correctly">
+ * How to manage a local order book correctly</a>.
+ * <br>
+ * Pass the book as the callback of {@code diffDepthStream}. The first event triggers the fetch of a REST
+ * snapshot; events received meanwhile are buffered, then those newer than the snapshot are applied on top of it.
+ * From then on every event must start right after the previous one: an event whose first update id {@code U}
+ * leaves a gap after the last applied id makes the book drop its levels and synchronise again. A failed snapshot
+ * is fetched again after a delay. Set the book as the gap callback of the connection to synchronise it again
+ * after a reconnection.
+ * <br>
+ * Updates and queries are synchronized on the book; queries read the primitive levels in place and allocate nothing.
+ */
+public final class LocalOrderBook implements WebSocketMessageCallback, WebSocketGapCallback {
+    public static final int DEFAULT_SNAPSHOT_LIMIT = 1000;
+    private static final long RETRY_DELAY_MILLIS = 1000L;
+    private static final Logger logger = LoggerFactory.getLogger(LocalOrderBook.class);
+
+    private final int snapshotLimit;
+    private final DepthSnapshotSource snapshotSource;
+    private final BookSync sync;
+    private OrderBookListener listener;
+
+    /**
+     * @param symbol symbol of the book, e.g. BTCUSDT
+     * @param market market endpoints the snapshots are fetched from
+     */
+    public LocalOrderBook(String symbol, Market market) {
+        this(symbol, DEFAULT_SNAPSHOT_LIMIT, marketSource(market));
+    }
+
+    /**
+     * @param symbol symbol of the book, e.g. BTCUSDT
+     * @param snapshotLimit number of levels per side of the snapshots, up to 5000
+     * @param snapshotSource source of the snapshots
+     */
+    public LocalOrderBook(String symbol, int snapshotLimit, DepthSnapshotSource snapshotSource) {
+        ParameterChecker.checkParameterType(symbol, String.class, "symbol");
+        ParameterChecker.checkParameterType(snapshotSource, DepthSnapshotSource.class, "snapshotSource");
+        this.snapshotLimit = snapshotLimit;
+        this.snapshotSource = snapshotSource;
+        this.sync = new BookSync(symbol.toUpperCase(), new Fetcher());
+    }
+
+    /**
+     * @param bookListener called after each update of the synchronised book, may be null
+     */
+    public synchronized void setListener(OrderBookListener bookListener) {
+        this.listener = bookListener;
+    }
+
+    @Override
+    public synchronized void onMessage(String data) {
+        if (sync.onEvent(data)) {
+            notifyListener();
+        }
+    }
+
+    /**
+     * Synchronises the book again, as messages were missed while the connection was down.
+     */
+    @Override
+    public void onGap(int connectionId, long disconnectedAt, long reconnectedAt) {
+        resync();
+    }
+
+    /**
+     * Drops the levels and fetches a new snapshot on the next event.
+     */
+    public synchronized void resync() {
+        sync.resync();
+    }
+
+    public String getSymbol() {
+        return sync.getSymbol();
+    }
+
+    /**
+     * @return true once a snapshot has been applied and until a gap is detected
+     */
+    public synchronized boolean isSynchronized() {
+        return sync.isSynchronized();
+    }
+
+    /**
+     * @return number of times the book was synchronised again after a gap
+     */
+    public synchronized long getResyncCount() {
+        return sync.getResyncCount();
+    }
+
+    public synchronized long getLastUpdateId() {
+        return sync.book().getLastUpdateId();
+    }
+
+    public synchronized double bestBid() {
+        return sync.book().bestBid();
+    }
+
+    public synchronized double bestAsk() {
+        return sync.book().bestAsk();
+    }
+
+    /**
+     * @see OrderBook#depth(Side)
+     */
+    public synchronized int depth(Side side) {
+        return sync.book().depth(side);
+    }
+
+    /**
+     * @see OrderBook#price(Side, int)
+     */
+    public synchronized double price(Side side, int level) {
+        return sync.book().price(side, level);
+    }
+
+    /**
+     * @see OrderBook#quantity(Side, int)
+     */
+    public synchronized double quantity(Side side, int level) {
+        return sync.book().quantity(side, level);
+    }
+
+    /**
+     * @see OrderBook#top(Side, int, double[], double[])
+     */
+    public synchronized int top(Side side, int levels, double[] prices, double[] quantities) {
+        return sync.book().top(side, levels, prices, quantities);
+    }
+
+    /**
+     * @see OrderBook#vwap(Side, double)
+     */
+    public synchronized double vwap(Side side, double quantity) {
+        return sync.book().vwap(side, quantity);
+    }
+
+    private synchronized void onSnapshot(int generation, String snapshot) {
+        if (sync.onSnapshot(generation, snapshot)) {
+            notifyListener();
+        }
+    }
+
+    private synchronized void onSnapshotFailure(int generation, Throwable t) {
+        sync.onSnapshotFailure(generation, t);
+    }
+
+    private synchronized void retry(int generation) {
+        sync.retry(generation);
+    }
+
+    private void notifyListener() {
+        if (null != listener) {
+            try {
+                listener.onUpdate(this);
+            } catch (RuntimeException e) {
+                logger.error("[LocalOrderBook] Listener failed", e);
+            }
+        }
+    }
+
+    static DepthSnapshotSource marketSource(Market market) {
+        ParameterChecker.checkParameterType(market, Market.class, "market");
+        return (symbol, limit) -> {
+            Map<String, Object> parameters = new LinkedHashMap<>();
+            parameters.put("symbol", symbol);
+            parameters.put("limit", limit);
+            return market.depthAsync(parameters);
+        };
+    }
+
+    /**
+     * Fetches from the snapshot source and hands the result back under the lock of the book.
+     */
+    private final class Fetcher implements BookSync.Fetcher {
+        @Override
+        public void fetch(BookSync bookSync, int generation, boolean again) {
+            logger.info("[LocalOrderBook] Fetching {} snapshot", bookSync.getSymbol());
+            bookSync.onFetchStarted(generation);
+            snapshotSource.fetch(bookSync.getSymbol(), snapshotLimit).whenComplete((snapshot, t) -> {
+                if (null == t) {
+                    onSnapshot(generation, snapshot);
+                } else {
+                    onSnapshotFailure(generation, t);
+                }
+            });
+        }
+
+        @Override
+        public void retryLater(BookSync bookSync, int generation) {
+            ExecutorFactory.sharedScheduler().schedule(() -> retry(generation), RETRY_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.binance.connector.client.impl.marketdata;
+
+import com.binance.connector.client.enums.Side;
+
+/**
+ * Price levels of a symbol, with the id of the last update applied to them.
+ * <br>
+ * Levels are held in primitive arrays sorted by price; queries read them in place and allocate nothing.
+ * The {@link Side#BUY} side of the book holds the bids, the {@link Side#SELL} side the asks.
+ * Not thread-safe, see {@link LocalOrderBook} for a book kept in sync with the streams.
+ */
+public final class OrderBook {
+    private static final int BEST = 0;
+    private final BookSide bids = new BookSide(true);
+    private final BookSide asks = new BookSide(false);
+    private long lastUpdateId;
+
+    public long getLastUpdateId() {
+        return lastUpdateId;
+    }
+
+    public void setLastUpdateId(long lastUpdateId) {
+        this.lastUpdateId = lastUpdateId;
+    }
+
+    /**
+     * Sets the quantity at a price level.
+     *
+     * @param side BUY for a bid, SELL for an ask
+     * @param price price of the level
+     * @param quantity quantity of the level, 0 removes it
+     */
+    public void update(Side side, double price, double quantity) {
+        sideOf(side).update(price, quantity);
+    }
+
+    /**
+     * Removes all the levels.
+     */
+    public void clear() {
+        bids.clear();
+        asks.clear();
+    }
+
+    /**
+     * @param side BUY for the bids, SELL for the asks
+     * @return number of levels on the side
+     */
+    public int depth(Side side) {
+        return sideOf(side).depth();
+    }
+
+    /**
+     * @param side BUY for the bids, SELL for the asks
+     * @param level 0 for the best level
+     * @return price of the level, or NaN if the side has fewer levels
+     */
+    public double price(Side side, int level) {
+        return sideOf(side).price(level);
+    }
+
+    /**
+     * @param side BUY for the bids, SELL for the asks
+     * @param level 0 for the best level
+     * @return quantity of the level, or NaN if the side has fewer levels
+     */
+    public double quantity(Side side, int level) {
+        return sideOf(side).quantity(level);
+    }
+
+    public double bestBid() {
+        return bids.price(BEST);
+    }
+
+    public double bestAsk() {
+        return asks.price(BEST);
+    }
+
+    /**
+     * Copies the best levels of a side into arrays owned by the caller.
+     *
+     * @param side BUY for the bids, SELL for the asks
+     * @param levels maximum number of levels to copy
+     * @param prices receives the prices, best first
+     * @param quantities receives the quantities
+     * @return number of levels copied
+     */
+    public int top(Side side, int levels, double[] prices, double[] quantities) {
+        return sideOf(side).top(levels, prices, quantities);
+    }
+
+    /**
+     * Volume weighted average price of taking a quantity from one side of the book, e.g. the asks for
+     * a market buy.
+     *
+     * @param side side taken from, SELL for the asks
+     * @param quantity quantity to take
+     * @return the average price, or NaN if the side holds less than the quantity
+     */
+    public double vwap(Side side, double quantity) {
+        return sideOf(side).vwap(quantity);
+    }
+
+    private BookSide sideOf(Side side) {
+        return side == Side.BUY ? bids : asks;
+    }
+}
@@ -0,0 +1,12 @@
+package com.binance.connector.client.impl.marketdata;
+
+@FunctionalInterface
+public interface OrderBookListener {
+    /**
+     * onUpdate will be called after a snapshot or a diff event has been applied to a synchronised book,
+     * on the thread that applied it and while holding the lock of the book.
+     *
+     * @param book the book, to be read without blocking
+     */
+    void onUpdate(LocalOrderBook book);
+}
@@ -0,0 +1,600 @@
+package com.binance.connector.client.impl.marketdata;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.binance.connector.client.enums.DefaultUrls;
+import com.binance.connector.client.enums.Side;
+import com.binance.connector.client.exceptions.BinanceConnectorException;
+import com.binance.connector.client.impl.spot.Market;
+import com.binance.connector.client.utils.ExecutorFactory;
+import com.binance.connector.client.utils.ParameterChecker;
+import com.binance.connector.client.utils.RingBuffer;
+import com.binance.connector.client.utils.SymbolRegistry;
+import com.binance.connector.client.utils.ratelimit.EndpointWeights;
+import com.binance.connector.client.utils.websocketcallback.WebSocketGapCallback;
+import com.binance.connector.client.utils.websocketcallback.WebSocketMessageCallback;
+
+import okhttp3.HttpUrl;
+
+/**
+ * Order books of many symbols kept in sync with their diff depth streams, sharded across a fixed set of threads.
+ * <br>
+ * Each symbol is assigned to the shard with the fewest symbols when it is added. Pass the manager as the callback
+ * of the depth streams, raw or combined, e.g. with {@link #getStreams(int)} on a
+ * {@link com.binance.connector.client.impl.WebSocketStreamMultiplexer}: a message is only scanned for its symbol
+ * and queued to the shard of the book. Each shard thread is the single writer of its books, which follow the
+ * same synchronisation as a {@link LocalOrderBook} without any lock.
+ * <br>
+ * After each update the top levels of a book are published for readers, which copy them with
+ * {@link #snapshot(String, OrderBookSnapshot)} from any thread, without locking and always as they were after one
+ * update.
+ * <br>
+ * REST snapshots are fetched one at a time at a pace that keeps their weight within a budget per minute, so that
+ * the books restored together after a reconnection, see {@link #onGap(int, long, long)}, do not exceed the
+ * request weight limit. A book waiting for its turn drops its events instead of buffering them, and a book whose
+ * snapshot turns out to be older than its buffered events fetches again ahead of the others.
+ * {@link #getShardStats(int)} reports the update rate and lag of each shard to balance load.
+ */
+public final class OrderBookManager implements WebSocketMessageCallback, WebSocketGapCallback {
+    public static final int DEFAULT_TOP_LEVELS = 20;
+    public static final int DEFAULT_SNAPSHOT_WEIGHT_PER_MINUTE = 1200;
+    public static final int DEFAULT_QUEUE_CAPACITY = 8192;
+    private static final long MINUTE_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    private static final long SECOND_MILLIS = TimeUnit.SECONDS.toMillis(1);
+    private static final long RETRY_DELAY_MILLIS = 1000L;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long BLOCK_PARK_NANOS = 50000L;
+    private static final long NO_LAG = 0L;
+    private static final long ONE_UPDATE = 1L;
+    private static final int MIN = 1;
+    private static final int START = 0;
+    private static final int NOT_FOUND = -1;
+    private static final String SYMBOL_FIELD = "\"s\":\"";
+    private static final Logger logger = LoggerFactory.getLogger(OrderBookManager.class);
+
+    private final int snapshotLimit;
+    private final int topLevels;
+    private final DepthSnapshotSource snapshotSource;
+    private final long fetchIntervalMillis;
+    private final SymbolRegistry symbols = new SymbolRegistry();
+    private final Shard[] shards;
+    private final Deque<Book> pendingFetches = new ConcurrentLinkedDeque<>();
+    private final ScheduledFuture<?> pacer;
+    private volatile Book[] books = new Book[START];
+    private volatile boolean closed;
+
+    private OrderBookManager(Builder builder) {
+        this.snapshotLimit = builder.snapshotLimit;
+        this.topLevels = builder.topLevels;
+        this.snapshotSource = builder.snapshotSource;
+        int weight = EndpointWeights.of("GET", HttpUrl.get(DefaultUrls.PROD_URL + "/api/v3/depth?limit=" + snapshotLimit)).getWeight();
+        this.fetchIntervalMillis = Math.max(MIN, MINUTE_MILLIS * weight / builder.snapshotWeightPerMinute);
+        ThreadFactory threadFactory = ExecutorFactory.daemonThreadFactory("binance-connector-order-book-");
+        this.shards = new Shard[builder.shards];
+        for (int i = START; i < shards.length; i++) {
+            shards[i] = new Shard(i, builder.queueCapacity, threadFactory);
+        }
+        this.pacer = ExecutorFactory.sharedScheduler().scheduleAtFixedRate(this::fetchNext, fetchIntervalMillis,
+                fetchIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Adds the book of a symbol; it is synchronised once the events of its stream arrive.
+     *
+     * @param symbol symbol, e.g. BTCUSDT
+     */
+    public synchronized void add(String symbol) {
+        ParameterChecker.checkParameterType(symbol, String.class, "symbol");
+        String name = symbol.toUpperCase();
+        int id = symbols.register(name);
+        Book[] current = books;
+        if (id < current.length && current[id] != null) {
+            return;
+        }
+        Shard shard = shards[START];
+        for (Shard candidate : shards) {
+            if (candidate.symbolCount < shard.symbolCount) {
+                shard = candidate;
+            }
+        }
+        shard.symbolCount++;
+        Book[] grown = Arrays.copyOf(current, Math.max(current.length, id + MIN));
+        grown[id] = new Book(name, shard);
+        books = grown;
+    }
+
+    /**
+     * @param symbolList symbols, e.g. BTCUSDT
+     */
+    public void add(Collection<String> symbolList) {
+        for (String symbol : symbolList) {
+            add(symbol);
+        }
+    }
+
+    /**
+     * @param speed update speed of the streams in milliseconds, 100 or 1000
+     * @return names of the diff depth streams of the books, e.g. btcusdt@depth@100ms
+     */
+    public ArrayList<String> getStreams(int speed) {
+        ArrayList<String> streams = new ArrayList<>();
+        for (Book book : books) {
+            if (book != null) {
+                streams.add(String.format("%s@depth@%sms", book.symbol.toLowerCase(), speed));
+            }
+        }
+        return streams;
+    }
+
+    @Override
+    public void onMessage(String data) {
+        Book book = bookOf(data);
+        if (book != null) {
+            book.shard.post(data);
+        }
+    }
+
+    /**
+     * Synchronises every book again, as messages were missed while a connection was down. The snapshots are
+     * fetched at the configured pace as the books receive their next events.
+     */
+    @Override
+    public void onGap(int connectionId, long disconnectedAt, long reconnectedAt) {
+        resyncAll();
+    }
+
+    /**
+     * Drops the levels of every book and fetches new snapshots on their next events.
+     */
+    public void resyncAll() {
+        for (Book book : books) {
+            if (book != null) {
+                book.shard.execute(book::resync);
+            }
+        }
+    }
+
+    /**
+     * Copies the top levels of a book as they were after one update.
+     *
+     * @param symbol symbol, e.g. BTCUSDT
+     * @param into snapshot to fill, reused across calls
+     * @return false if the symbol was never added
+     */
+    public boolean snapshot(String symbol, OrderBookSnapshot into) {
+        Book book = find(symbol);
+        if (book == null) {
+            return false;
+        }
+        book.view.read(book.symbol, into);
+        return true;
+    }
+
+    /**
+     * @return a snapshot holding the configured number of top levels
+     */
+    public OrderBookSnapshot newSnapshot() {
+        return new OrderBookSnapshot(topLevels);
+    }
+
+    /**
+     * @return the latest best bid of the symbol, or NaN if it is not known
+     */
+    public double bestBid(String symbol) {
+        Book book = find(symbol);
+        return book == null ? Double.NaN : book.view.best(Side.BUY);
+    }
+
+    /**
+     * @return the latest best ask of the symbol, or NaN if it is not known
+     */
+    public double bestAsk(String symbol) {
+        Book book = find(symbol);
+        return book == null ? Double.NaN : book.view.best(Side.SELL);
+    }
+
+    public int getShardCount() {
+        return shards.length;
+    }
+
+    /**
+     * @param symbol symbol, e.g. BTCUSDT
+     * @return shard the book of the symbol is assigned to, or -1 if it was never added
+     */
+    public int getShard(String symbol) {
+        Book book = find(symbol);
+        return book == null ? NOT_FOUND : book.shard.index;
+    }
+
+    public OrderBookShardStats getShardStats(int shard) {
+        return shards[shard].stats();
+    }
+
+    /**
+     * @return milliseconds between two snapshot fetches, derived from their weight and the budget
+     */
+    public long getFetchIntervalMillis() {
+        return fetchIntervalMillis;
+    }
+
+    /**
+     * @return number of snapshot fetches waiting for their turn
+     */
+    public int getPendingFetchCount() {
+        return pendingFetches.size();
+    }
+
+    /**
+     * Stops the shard threads and the snapshot fetches. The books are no longer updated.
+     */
+    public void close() {
+        closed = true;
+        pacer.cancel(false);
+        for (Shard shard : shards) {
+            LockSupport.unpark(shard.thread);
+        }
+    }
+
+    private Book find(String symbol) {
+        int id = symbols.find(symbol);
+        if (id == NOT_FOUND) {
+            id = symbols.find(symbol.toUpperCase());
+        }
+        Book[] current = books;
+        return id >= START && id < current.length ? current[id] : null;
+    }
+
+    private Book bookOf(String data) {
+        int field = data.indexOf(SYMBOL_FIELD);
+        if (field == NOT_FOUND) {
+            return null;
+        }
+        int start = field + SYMBOL_FIELD.length();
+        int end = data.indexOf('"', start);
+        if (end == NOT_FOUND) {
+            return null;
+        }
+        int id = symbols.find(data, start, end);
+        Book[] current = books;
+        return id >= START && id < current.length ? current[id] : null;
+    }
+
+    /**
+     * Starts the next snapshot fetch still wanted by its book, run by the pacer.
+     */
+    private void fetchNext() {
+        for (Book book = pendingFetches.poll(); book != null; book = pendingFetches.poll()) {
+            book.queued.set(false);
+            if (book.fetchWanted()) {
+                book.startFetch();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Book of one symbol, only touched by the thread of its shard apart from the published view and the
+     * generation read by the pacer.
+     */
+    private final class Book implements BookSync.Fetcher {
+        private final String symbol;
+        private final Shard shard;
+        private final BookSync sync;
+        private final BookView view = new BookView(topLevels);
+        private final AtomicBoolean queued = new AtomicBoolean();
+        private volatile int generation;
+        private volatile int requestedGeneration;
+
+        private Book(String symbol, Shard shard) {
+            this.symbol = symbol;
+            this.shard = shard;
+            this.sync = new BookSync(symbol, this);
+        }
+
+        private void onEvent(String data) {
+            long resyncs = sync.getResyncCount();
+            boolean applied = sync.onEvent(data);
+            if (applied) {
+                view.publish(sync.book(), true);
+                shard.onUpdate(sync.getLastEventTime());
+            }
+            afterChange(resyncs);
+        }
+
+        private void resync() {
+            long resyncs = sync.getResyncCount();
+            sync.resync();
+            afterChange(resyncs);
+        }
+
+        private void onSnapshot(int snapshotGeneration, String snapshot) {
+            long resyncs = sync.getResyncCount();
+            if (sync.onSnapshot(snapshotGeneration, snapshot)) {
+                view.publish(sync.book(), true);
+            }
+            afterChange(resyncs);
+        }
+
+        private void afterChange(long resyncs) {
+            if (sync.getResyncCount() != resyncs) {
+                shard.resyncCount += sync.getResyncCount() - resyncs;
+                view.publish(sync.book(), false);
+            }
+            generation = sync.getGeneration();
+        }
+
+        @Override
+        public void fetch(BookSync bookSync, int fetchGeneration, boolean again) {
+            generation = fetchGeneration;
+            requestedGeneration = fetchGeneration;
+            if (!queued.compareAndSet(false, true)) {
+                return;
+            }
+            if (again) {
+                pendingFetches.addFirst(this);
+            } else {
+                pendingFetches.addLast(this);
+            }
+        }
+
+        @Override
+        public void retryLater(BookSync bookSync, int fetchGeneration) {
+            ExecutorFactory.sharedScheduler().schedule(() -> shard.execute(() -> sync.retry(fetchGeneration)),
+                    RETRY_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+
+        /**
+         * A book is queued at most once; a request made before a resync is no longer wanted.
+         */
+        private boolean fetchWanted() {
+            return requestedGeneration == generation;
+        }
+
+        private void startFetch() {
+            int fetchGeneration = requestedGeneration;
+            logger.info("[OrderBookManager] Fetching {} snapshot", symbol);
+            // queued before the request goes out: the shard buffers the events received after it
+            shard.execute(() -> sync.onFetchStarted(fetchGeneration));
+            try {
+                snapshotSource.fetch(symbol, snapshotLimit).whenComplete((snapshot, t) -> {
+                    if (null == t) {
+                        shard.execute(() -> onSnapshot(fetchGeneration, snapshot));
+                    } else {
+                        shard.execute(() -> sync.onSnapshotFailure(fetchGeneration, t));
+                    }
+                });
+            } catch (RuntimeException e) {
+                shard.execute(() -> sync.onSnapshotFailure(fetchGeneration, e));
+            }
+        }
+    }
+
+    /**
+     * Queue and thread of a set of books. The counters are written by the shard thread only.
+     */
+    private final class Shard implements Runnable {
+        private final int index;
+        private final RingBuffer<Object> queue;
+        private final Thread thread;
+        private final LongAdder blockedCount = new LongAdder();
+        private int symbolCount;
+        private volatile boolean parked;
+        private volatile long updateCount;
+        private volatile long lastLagMillis;
+        private volatile long maxLagMillis;
+        private volatile long resyncCount;
+        private volatile double updatesPerSecond;
+        private long windowStart = System.currentTimeMillis();
+        private long windowStartCount;
+
+        private Shard(int index, int queueCapacity, ThreadFactory threadFactory) {
+            this.index = index;
+            this.queue = new RingBuffer<>(queueCapacity);
+            this.thread = threadFactory.newThread(this);
+            thread.start();
+        }
+
+        /**
+         * @param entry message of a book of the shard, or a task to run on the shard thread
+         */
+        private void post(Object entry) {
+            if (!queue.offer(entry)) {
+                blockedCount.increment();
+                while (!queue.offer(entry)) {
+                    if (closed) {
+                        return;
+                    }
+                    LockSupport.parkNanos(BLOCK_PARK_NANOS);
+                }
+            }
+            if (parked) {
+                LockSupport.unpark(thread);
+            }
+        }
+
+        private void execute(Runnable task) {
+            post(task);
+        }
+
+        @Override
+        public void run() {
+            while (!closed) {
+                Object entry = queue.poll();
+                if (entry == null) {
+                    roll(System.currentTimeMillis());
+                    parked = true;
+                    if (queue.isEmpty() && !closed) {
+                        LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                    }
+                    parked = false;
+                    continue;
+                }
+                try {
+                    if (entry instanceof String) {
+                        String data = (String) entry;
+                        Book book = bookOf(data);
+                        if (book != null) {
+                            book.onEvent(data);
+                        }
+                    } else {
+                        ((Runnable) entry).run();
+                    }
+                } catch (RuntimeException e) {
+                    logger.error("[OrderBookManager] Shard {} failed to process a message", index, e);
+                }
+            }
+        }
+
+        private void onUpdate(long eventTime) {
+            long now = System.currentTimeMillis();
+            updateCount = updateCount + ONE_UPDATE;
+            if (eventTime != DepthUpdate.NO_EVENT_TIME) {
+                long lag = Math.max(NO_LAG, now - eventTime);
+                lastLagMillis = lag;
+                if (lag > maxLagMillis) {
+                    maxLagMillis = lag;
+                }
+            }
+            roll(now);
+        }
+
+        private void roll(long now) {
+            long elapsed = now - windowStart;
+            if (elapsed >= SECOND_MILLIS) {
+                long count = updateCount;
+                updatesPerSecond = (double) (count - windowStartCount) * SECOND_MILLIS / elapsed;
+                windowStart = now;
+                windowStartCount = count;
+            }
+        }
+
+        private OrderBookShardStats stats() {
+            int symbolTotal;
+            synchronized (OrderBookManager.this) {
+                symbolTotal = symbolCount;
+            }
+            return new OrderBookShardStats(index, symbolTotal, queue.size())
+                    .updates(updateCount, updatesPerSecond)
+                    .lag(lastLagMillis, maxLagMillis)
+                    .counts(resyncCount, blockedCount.sum());
+        }
+    }
+
+    public static final class Builder {
+        private int shards = Runtime.getRuntime().availableProcessors();
+        private int snapshotLimit = LocalOrderBook.DEFAULT_SNAPSHOT_LIMIT;
+        private int topLevels = DEFAULT_TOP_LEVELS;
+        private int snapshotWeightPerMinute = DEFAULT_SNAPSHOT_WEIGHT_PER_MINUTE;
+        private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+        private DepthSnapshotSource snapshotSource;
+
+        private Builder() {
+        }
+
+        /**
+         * @param shardCount number of threads the books are spread over, the number of processors by default
+         * @return Builder
+         */
+        public Builder shards(int shardCount) {
+            if (shardCount < MIN) {
+                throw new BinanceConnectorException("[OrderBookManager] Shards must be positive.");
+            }
+            this.shards = shardCount;
+            return this;
+        }
+
+        /**
+         * @param market market endpoints the snapshots are fetched from
+         * @return Builder
+         */
+        public Builder market(Market market) {
+            this.snapshotSource = LocalOrderBook.marketSource(market);
+            return this;
+        }
+
+        /**
+         * @param source source of the snapshots
+         * @return Builder
+         */
+        public Builder snapshotSource(DepthSnapshotSource source) {
+            if (source == null) {
+                throw new BinanceConnectorException("[OrderBookManager] Snapshot source cannot be null.");
+            }
+            this.snapshotSource = source;
+            return this;
+        }
+
+        /**
+         * @param limit number of levels per side of the snapshots, up to 5000; deeper snapshots weigh more
+         * @return Builder
+         */
+        public Builder snapshotLimit(int limit) {
+            if (limit < MIN) {
+                throw new BinanceConnectorException("[OrderBookManager] Snapshot limit must be positive.");
+            }
+            this.snapshotLimit = limit;
+            return this;
+        }
+
+        /**
+         * @param weight request weight the snapshot fetches may use per minute, leaving the rest of the limit
+         *               to the other requests of the process
+         * @return Builder
+         */
+        public Builder snapshotWeightPerMinute(int weight) {
+            if (weight < MIN) {
+                throw new BinanceConnectorException("[OrderBookManager] Snapshot weight must be positive.");
+            }
+            this.snapshotWeightPerMinute = weight;
+            return this;
+        }
+
+        /**
+         * @param levels number of levels per side published for readers
+         * @return Builder
+         */
+        public Builder topLevels(int levels) {
+            if (levels < MIN) {
+                throw new BinanceConnectorException("[OrderBookManager] Top levels must be positive.");
+            }
+            this.topLevels = levels;
+            return this;
+        }
+
+        /**
+         * @param capacity messages each shard can queue before the stream thread waits
+         * @return Builder
+         */
+        public Builder queueCapacity(int capacity) {
+            if (capacity < MIN) {
+                throw new BinanceConnectorException("[OrderBookManager] Queue capacity must be positive.");
+            }
+            this.queueCapacity = capacity;
+            return this;
+        }
+
+        public OrderBookManager build() {
+            if (snapshotSource == null) {
+                throw new BinanceConnectorException("[OrderBookManager] A market or snapshot source is required.");
+            }
+            return new OrderBookManager(this);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.binance.connector.client.impl.marketdata;
+
+/**
+ * Load of one shard of an {@link OrderBookManager}, as it was when the stats were taken.
+ */
+public final class OrderBookShardStats {
+    private final int shard;
+    private final int symbolCount;
+    private final int queueDepth;
+    private long updateCount;
+    private double updatesPerSecond;
+    private long lastLagMillis;
+    private long maxLagMillis;
+    private long resyncCount;
+    private long blockedCount;
+
+    OrderBookShardStats(int shard, int symbolCount, int queueDepth) {
+        this.shard = shard;
+        this.symbolCount = symbolCount;
+        this.queueDepth = queueDepth;
+    }
+
+    OrderBookShardStats updates(long count, double perSecond) {
+        this.updateCount = count;
+        this.updatesPerSecond = perSecond;
+        return this;
+    }
+
+    OrderBookShardStats lag(long lastMillis, long maxMillis) {
+        this.lastLagMillis = lastMillis;
+        this.maxLagMillis = maxMillis;
+        return this;
+    }
+
+    OrderBookShardStats counts(long resyncs, long blocked) {
+        this.resyncCount = resyncs;
+        this.blockedCount = blocked;
+        return this;
+    }
+
+    public int getShard() {
+        return shard;
+    }
+
+    public int getSymbolCount() {
+        return symbolCount;
+    }
+
+    /**
+     * @return number of messages waiting for the shard thread
+     */
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    /**
+     * @return number of events applied to the synchronised books of the shard
+     */
+    public long getUpdateCount() {
+        return updateCount;
+    }
+
+    /**
+     * @return events applied per second over the last full second
+     */
+    public double getUpdatesPerSecond() {
+        return updatesPerSecond;
+    }
+
+    /**
+     * @return milliseconds between the event time of the last applied event and the time it was applied
+     */
+    public long getLastLagMillis() {
+        return lastLagMillis;
+    }
+
+    public long getMaxLagMillis() {
+        return maxLagMillis;
+    }
+
+    /**
+     * @return number of times a book of the shard was synchronised again
+     */
+    public long getResyncCount() {
+        return resyncCount;
+    }
+
+    /**
+     * @return number of messages that had to wait for room in the full queue of the shard
+     */
+    public long getBlockedCount() {
+        return blockedCount;
+    }
+
+    @Override
+    public String toString() {
+        return "OrderBookShardStats{shard=" + shard + ", symbols=" + symbolCount + ", queueDepth=" + queueDepth
+                + ", updates=" + updateCount + ", updatesPerSecond=" + updatesPerSecond + ", lastLagMillis=" + lastLagMillis
+                + ", maxLagMillis=" + maxLagMillis + ", resyncs=" + resyncCount + ", blocked=" + blockedCount + "}";
+    }
+}
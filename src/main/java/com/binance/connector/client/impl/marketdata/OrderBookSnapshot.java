@@ -0,0 +1,119 @@
+package com.binance.connector.client.impl.marketdata;
+
+import com.binance.connector.client.enums.Side;
+
+/**
+ * Top levels of one book copied out of an {@link OrderBookManager}, meant to be reused across reads.
+ * Level 0 is the best level of each side.
+ */
+public final class OrderBookSnapshot {
+    private static final int NONE = 0;
+    private static final double EMPTY = 0d;
+
+    private final double[] bidPrices;
+    private final double[] bidQuantities;
+    private final double[] askPrices;
+    private final double[] askQuantities;
+    private String symbol;
+    private boolean synced;
+    private long lastUpdateId;
+    private int bidDepth;
+    private int askDepth;
+
+    /**
+     * @param levels number of levels per side to hold, should match the top levels of the manager
+     */
+    public OrderBookSnapshot(int levels) {
+        this.bidPrices = new double[levels];
+        this.bidQuantities = new double[levels];
+        this.askPrices = new double[levels];
+        this.askQuantities = new double[levels];
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    /**
+     * @return true if the book was synchronised when the snapshot was taken, false while it is waiting for a REST snapshot
+     */
+    public boolean isSynchronized() {
+        return synced;
+    }
+
+    public long getLastUpdateId() {
+        return lastUpdateId;
+    }
+
+    /**
+     * @return number of levels copied on the side
+     */
+    public int depth(Side side) {
+        return side == Side.BUY ? bidDepth : askDepth;
+    }
+
+    /**
+     * @param level 0 for the best level
+     * @return price of the level, or NaN beyond the copied levels
+     */
+    public double price(Side side, int level) {
+        return level < depth(side) ? prices(side)[level] : Double.NaN;
+    }
+
+    /**
+     * @param level 0 for the best level
+     * @return quantity of the level, or NaN beyond the copied levels
+     */
+    public double quantity(Side side, int level) {
+        return level < depth(side) ? quantities(side)[level] : Double.NaN;
+    }
+
+    public double bestBid() {
+        return price(Side.BUY, NONE);
+    }
+
+    public double bestAsk() {
+        return price(Side.SELL, NONE);
+    }
+
+    /**
+     * @param side side to take liquidity from
+     * @param quantity quantity to fill
+     * @return average price of filling the quantity from the best level down, or NaN if the copied levels are too thin
+     */
+    public double vwap(Side side, double quantity) {
+        double[] prices = prices(side);
+        double[] quantities = quantities(side);
+        double remaining = quantity;
+        double notional = EMPTY;
+        for (int level = NONE; level < depth(side) && remaining > EMPTY; level++) {
+            double taken = Math.min(remaining, quantities[level]);
+            notional += taken * prices[level];
+            remaining -= taken;
+        }
+        return remaining > EMPTY || quantity <= EMPTY ? Double.NaN : notional / quantity;
+    }
+
+    /**
+     * @return number of levels per side the snapshot can hold
+     */
+    public int capacity() {
+        return bidPrices.length;
+    }
+
+    double[] prices(Side side) {
+        return side == Side.BUY ? bidPrices : askPrices;
+    }
+
+    double[] quantities(Side side) {
+        return side == Side.BUY ? bidQuantities : askQuantities;
+    }
+
+    void set(String bookSymbol, boolean bookSynced, long bookLastUpdateId, int bids, int asks) {
+        this.symbol = bookSymbol;
+        this.synced = bookSynced;
+        this.lastUpdateId = bookLastUpdateId;
+        this.bidDepth = bids;
+        this.askDepth = asks;
+    }
+}
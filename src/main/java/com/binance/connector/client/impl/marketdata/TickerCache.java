@@ -0,0 +1,272 @@
+package com.binance.connector.client.impl.marketdata;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.binance.connector.client.enums.TickerField;
+import com.binance.connector.client.utils.SymbolRegistry;
+import com.binance.connector.client.utils.decoder.ByteText;
+import com.binance.connector.client.utils.decoder.JsonScanner;
+import com.binance.connector.client.utils.websocketcallback.WebSocketBinaryCallback;
+import com.binance.connector.client.utils.websocketcallback.WebSocketMessageCallback;
+
+/**
+ * Latest ticker values of every symbol, kept up to date from the ticker streams.
+ * <br>
+ * Pass the cache as the callback of {@code allTickerStream}, {@code allMiniTickerStream},
+ * {@code allRollingWindowTicker}, the single symbol ticker streams or {@code bookTicker}, raw or combined.
+ * Each message is scanned once and its values are written in place into one flat array, a row of primitive
+ * fields per symbol id, so updates create no objects. Fields missing from an event keep their previous value;
+ * price and quantity fields never received read as NaN. Use one cache per ticker window, the fields of the
+ * 24h and rolling window tickers share the same keys.
+ * <br>
+ * Messages are applied one at a time. Any number of threads can read without locking: single fields are
+ * always current, {@link #snapshot(int, TickerSnapshot)} copies a consistent row guarded by a version
+ * that is odd while the row is being written.
+ */
+public final class TickerCache implements WebSocketMessageCallback, WebSocketBinaryCallback {
+    private static final TickerField[] FIELDS = TickerField.values();
+    private static final int KEY_RANGE = 128;
+    private static final TickerField[] FIELDS_BY_KEY = new TickerField[KEY_RANGE];
+    private static final int VERSION_SLOTS = 1;
+    private static final int ROW_LENGTH = FIELDS.length + VERSION_SLOTS;
+    private static final int INITIAL_SYMBOLS = 1024;
+    private static final int START = 0;
+    private static final int NEXT_ID = 1;
+    private static final long VERSION_STEP = 1L;
+    private static final long WRITING = 1L;
+    private static final long NO_FIELDS = 0L;
+    private static final long FIELD_BIT = 1L;
+    private static final long NAN_BITS = Double.doubleToRawLongBits(Double.NaN);
+    private static final char SYMBOL_KEY = 's';
+    private static final String DATA_KEY = "data";
+
+    static {
+        for (TickerField field : FIELDS) {
+            FIELDS_BY_KEY[field.getKey()] = field;
+        }
+    }
+
+    private final SymbolRegistry symbols;
+    private final JsonScanner scanner = new JsonScanner();
+    private final ByteText frame = new ByteText();
+    private final long[] pending = new long[FIELDS.length];
+    private volatile AtomicLongArray rows = new AtomicLongArray(INITIAL_SYMBOLS * ROW_LENGTH);
+    private volatile int rowCount;
+    private volatile long updateCount;
+
+    public TickerCache() {
+        this(new SymbolRegistry());
+    }
+
+    /**
+     * @param symbols registry giving the symbol ids, may be shared with other caches
+     */
+    public TickerCache(SymbolRegistry symbols) {
+        this.symbols = symbols;
+    }
+
+    @Override
+    public void onMessage(String data) {
+        update(data);
+    }
+
+    /**
+     * Applies a binary frame in place, without decoding it to a String.
+     */
+    @Override
+    public synchronized void onMessage(ByteBuffer data) {
+        update(frame.wrap(data));
+    }
+
+    /**
+     * Applies a ticker event, an array of ticker events, or a combined stream message holding either.
+     *
+     * @param message message received from a ticker stream
+     */
+    public synchronized void update(CharSequence message) {
+        scanner.reset(message);
+        if (scanner.enterArray()) {
+            readArray();
+        } else if (scanner.enterObject()) {
+            readObject();
+        }
+    }
+
+    /**
+     * @param symbol symbol, e.g. BTCUSDT
+     * @return the id to read the symbol with, or {@link SymbolRegistry#NOT_FOUND} if no ticker was received for it
+     */
+    public int symbolId(String symbol) {
+        int id = symbols.find(symbol);
+        return id < rowCount ? id : SymbolRegistry.NOT_FOUND;
+    }
+
+    /**
+     * @param symbolId id returned by {@link #symbolId(String)}
+     * @return the symbol
+     */
+    public String symbolOf(int symbolId) {
+        return symbols.nameOf(symbolId);
+    }
+
+    /**
+     * @param symbolId id returned by {@link #symbolId(String)}
+     * @param field field to read
+     * @return the latest value of the field
+     */
+    public double get(int symbolId, TickerField field) {
+        long bits = rows.get(symbolId * ROW_LENGTH + VERSION_SLOTS + field.ordinal());
+        return field.isIntegral() ? bits : Double.longBitsToDouble(bits);
+    }
+
+    /**
+     * @param symbolId id returned by {@link #symbolId(String)}
+     * @param field integral field to read, e.g. {@link TickerField#EVENT_TIME}
+     * @return the latest value of the field
+     */
+    public long getLong(int symbolId, TickerField field) {
+        long bits = rows.get(symbolId * ROW_LENGTH + VERSION_SLOTS + field.ordinal());
+        return field.isIntegral() ? bits : (long) Double.longBitsToDouble(bits);
+    }
+
+    /**
+     * @param symbol symbol, e.g. BTCUSDT
+     * @param field field to read
+     * @return the latest value of the field, or NaN if no ticker was received for the symbol
+     */
+    public double get(String symbol, TickerField field) {
+        int id = symbolId(symbol);
+        return id == SymbolRegistry.NOT_FOUND ? Double.NaN : get(id, field);
+    }
+
+    /**
+     * Copies all the fields of a symbol as they were after one update.
+     *
+     * @param symbolId id returned by {@link #symbolId(String)}
+     * @param into snapshot to fill, reused across calls
+     * @return false if no ticker was received for the symbol
+     */
+    public boolean snapshot(int symbolId, TickerSnapshot into) {
+        if (symbolId < START || symbolId >= rowCount) {
+            return false;
+        }
+        long[] values = into.values();
+        int base = symbolId * ROW_LENGTH;
+        while (true) {
+            AtomicLongArray table = rows;
+            long version = table.get(base);
+            if ((version & WRITING) == NO_FIELDS) {
+                for (int i = START; i < values.length; i++) {
+                    values[i] = table.get(base + VERSION_SLOTS + i);
+                }
+                if (table.get(base) == version) {
+                    into.setSymbol(symbols.nameOf(symbolId));
+                    return true;
+                }
+            }
+            Thread.yield();
+        }
+    }
+
+    /**
+     * @return number of symbols with a ticker, their ids run from 0 to size - 1
+     */
+    public int size() {
+        return rowCount;
+    }
+
+    /**
+     * @return number of symbol updates applied
+     */
+    public long getUpdateCount() {
+        return updateCount;
+    }
+
+    private void readArray() {
+        while (scanner.nextElement()) {
+            if (scanner.enterObject()) {
+                readObject();
+            } else {
+                scanner.skipValue();
+            }
+        }
+    }
+
+    private void readObject() {
+        int symbolId = SymbolRegistry.NOT_FOUND;
+        long present = NO_FIELDS;
+        while (scanner.nextField()) {
+            char key = scanner.tokenChar();
+            TickerField field = key < KEY_RANGE ? FIELDS_BY_KEY[key] : null;
+            if (key == SYMBOL_KEY) {
+                scanner.readStringToken();
+                symbolId = symbols.register(scanner.text(), scanner.tokenStart(), scanner.tokenEnd());
+            } else if (null != field) {
+                int index = field.ordinal();
+                pending[index] = field.isIntegral() ? scanner.readLong() : Double.doubleToRawLongBits(scanner.readDouble());
+                present |= FIELD_BIT << index;
+            } else if (scanner.tokenIs(DATA_KEY)) {
+                if (scanner.enterArray()) {
+                    readArray();
+                } else if (scanner.enterObject()) {
+                    readObject();
+                } else {
+                    scanner.skipValue();
+                }
+            } else {
+                scanner.skipValue();
+            }
+        }
+        if (symbolId != SymbolRegistry.NOT_FOUND && present != NO_FIELDS) {
+            write(symbolId, present);
+        }
+    }
+
+    private void write(int symbolId, long present) {
+        AtomicLongArray table = rowsFor(symbolId);
+        int base = symbolId * ROW_LENGTH;
+        long version = table.get(base);
+        table.set(base, version + VERSION_STEP);
+        for (int i = START; i < FIELDS.length; i++) {
+            if ((present & (FIELD_BIT << i)) != NO_FIELDS) {
+                table.lazySet(base + VERSION_SLOTS + i, pending[i]);
+            }
+        }
+        table.lazySet(base, version + VERSION_STEP + VERSION_STEP);
+        updateCount = updateCount + VERSION_STEP;
+    }
+
+    /**
+     * Rows are added in id order; the array is published before the row count so that
+     * readers never see an id without its row.
+     */
+    private AtomicLongArray rowsFor(int symbolId) {
+        AtomicLongArray table = rows;
+        int count = rowCount;
+        if (symbolId < count) {
+            return table;
+        }
+        int capacity = table.length() / ROW_LENGTH;
+        if (symbolId >= capacity) {
+            while (symbolId >= capacity) {
+                capacity += capacity;
+            }
+            AtomicLongArray grown = new AtomicLongArray(capacity * ROW_LENGTH);
+            for (int i = START; i < count * ROW_LENGTH; i++) {
+                grown.lazySet(i, table.get(i));
+            }
+            table = grown;
+        }
+        for (int id = count; id <= symbolId; id++) {
+            for (TickerField field : FIELDS) {
+                if (!field.isIntegral()) {
+                    table.lazySet(id * ROW_LENGTH + VERSION_SLOTS + field.ordinal(), NAN_BITS);
+                }
+            }
+        }
+        rows = table;
+        rowCount = symbolId + NEXT_ID;
+        return table;
+    }
+}
@@ -0,0 +1,33 @@
+package com.binance.connector.client.impl.marketdata;
+
+import com.binance.connector.client.enums.TickerField;
+
+/**
+ * Values of one symbol copied out of a {@link TickerCache}, meant to be reused across reads.
+ */
+public final class TickerSnapshot {
+    private final long[] values = new long[TickerField.values().length];
+    private String symbol;
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public double get(TickerField field) {
+        long bits = values[field.ordinal()];
+        return field.isIntegral() ? bits : Double.longBitsToDouble(bits);
+    }
+
+    public long getLong(TickerField field) {
+        long bits = values[field.ordinal()];
+        return field.isIntegral() ? bits : (long) Double.longBitsToDouble(bits);
+    }
+
+    long[] values() {
+        return values;
+    }
+
+    void setSymbol(String symbol) {
+        this.symbol = symbol;
+    }
+}
@@ -1,6 +1,7 @@
 package com.binance.connector.client.impl.spot;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import com.binance.connector.client.enums.HttpMethod;
 import com.binance.connector.client.utils.ParameterChecker;
@@ -34,6 +35,12 @@ public class AutoInvest {
         this.showLimitUsage = showLimitUsage;
     }
 
+    public AutoInvest(String baseUrl, RequestHandler requestHandler, boolean showLimitUsage) {
+        this.baseUrl = baseUrl;
+        this.requestHandler = requestHandler;
+        this.showLimitUsage = showLimitUsage;
+    }
+
     private final String TARGET_ASSET_LIST = "/sapi/v1/lending/auto-invest/target-asset/list";
     /**
      * GET /sapi/v1/lending/auto-invest/target-asset/list
@@ -54,6 +61,16 @@ public class AutoInvest {
         return requestHandler.sendSignedRequest(baseUrl, TARGET_ASSET_LIST, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #targetAssetList(Map)}.
+     * <br>
+     * @param parameters see {@link #targetAssetList(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> targetAssetListAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, TARGET_ASSET_LIST, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String TARGET_ASSET_ROI_LIST = "/sapi/v1/lending/auto-invest/target-asset/roi/list";
     /**
      * ROI return list for target asset
@@ -78,6 +95,18 @@ public class AutoInvest {
         return requestHandler.sendSignedRequest(baseUrl, TARGET_ASSET_ROI_LIST, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #targetAssetRoiList(Map)}.
+     * <br>
+     * @param parameters see {@link #targetAssetRoiList(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> targetAssetRoiListAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "targetAsset", String.class);
+        ParameterChecker.checkParameter(parameters, "hisRoiType", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, TARGET_ASSET_ROI_LIST, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String ALL_SOURCE_AND_TARGET_ASSETS = "/sapi/v1/lending/auto-invest/all/asset";
     /**
      * Query all source assets and target assets
@@ -98,6 +127,16 @@ public class AutoInvest {
         return requestHandler.sendSignedRequest(baseUrl, ALL_SOURCE_AND_TARGET_ASSETS, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #allSourceAndTargetAssets(Map)}.
+     * <br>
+     * @param parameters see {@link #allSourceAndTargetAssets(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> allSourceAndTargetAssetsAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, ALL_SOURCE_AND_TARGET_ASSETS, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String SOURCE_ASSET_LIST = "/sapi/v1/lending/auto-invest/source-asset/list";
     /**
      * Query Source Asset to be used for investment
@@ -124,6 +163,17 @@ public class AutoInvest {
         return requestHandler.sendSignedRequest(baseUrl, SOURCE_ASSET_LIST, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #sourceAssetList(Map)}.
+     * <br>
+     * @param parameters see {@link #sourceAssetList(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> sourceAssetListAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "usageType", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, SOURCE_ASSET_LIST, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String CHANGE_PLAN_STATUS = "/sapi/v1/lending/auto-invest/plan/edit-status";
     /**
      * Change Plan Status
@@ -147,6 +197,18 @@ public class AutoInvest {
         return requestHandler.sendPublicRequest(baseUrl, CHANGE_PLAN_STATUS, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #changePlanStatus(Map)}.
+     * <br>
+     * @param parameters see {@link #changePlanStatus(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> changePlanStatusAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "planId", Long.class);
+        ParameterChecker.checkParameter(parameters, "status", String.class);
+        return requestHandler.sendPublicRequestAsync(baseUrl, CHANGE_PLAN_STATUS, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String PLANS = "/sapi/v1/lending/auto-invest/plan/list";
     /**
      * Query plan lists
@@ -168,6 +230,17 @@ public class AutoInvest {
         return requestHandler.sendPublicRequest(baseUrl, PLANS, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #plansList(Map)}.
+     * <br>
+     * @param parameters see {@link #plansList(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> plansListAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "planType", String.class);
+        return requestHandler.sendPublicRequestAsync(baseUrl, PLANS, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String HOLDING_PLAN = "/sapi/v1/lending/auto-invest/plan/id";
     /**
      * Query holding details of the plan
@@ -190,6 +263,16 @@ public class AutoInvest {
         return requestHandler.sendPublicRequest(baseUrl, HOLDING_PLAN, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #holdingPlan(Map)}.
+     * <br>
+     * @param parameters see {@link #holdingPlan(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> holdingPlanAsync(Map<String, Object> parameters) {
+        return requestHandler.sendPublicRequestAsync(baseUrl, HOLDING_PLAN, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String PLAN_SUBSCRIPTIONS_HISTORY = "/sapi/v1/lending/auto-invest/history/list";
     /**
      * Query the transaction history of plan subscriptions
@@ -217,6 +300,16 @@ public class AutoInvest {
         return requestHandler.sendPublicRequest(baseUrl, PLAN_SUBSCRIPTIONS_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #planSubsHistory(Map)}.
+     * <br>
+     * @param parameters see {@link #planSubsHistory(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> planSubsHistoryAsync(Map<String, Object> parameters) {
+        return requestHandler.sendPublicRequestAsync(baseUrl, PLAN_SUBSCRIPTIONS_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String INDEX_INFO = "/sapi/v1/lending/auto-invest/index/info";
     /**
      * Query index details
@@ -239,6 +332,17 @@ public class AutoInvest {
         return requestHandler.sendSignedRequest(baseUrl, INDEX_INFO, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #indexInfo(Map)}.
+     * <br>
+     * @param parameters see {@link #indexInfo(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> indexInfoAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "indexId", Long.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, INDEX_INFO, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String INDEX_USER_SUMMARY = "/sapi/v1/lending/auto-invest/index/user-summary";
     /**
      * Details on users Index-Linked plan position details
@@ -261,6 +365,17 @@ public class AutoInvest {
         return requestHandler.sendSignedRequest(baseUrl, INDEX_USER_SUMMARY, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #userIndexPlans(Map)}.
+     * <br>
+     * @param parameters see {@link #userIndexPlans(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> userIndexPlansAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "indexId", Long.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, INDEX_USER_SUMMARY, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String ONE_TIME_TRANSACTION = "/sapi/v1/lending/auto-invest/one-off";
     /**
      * One time transaction
@@ -296,6 +411,19 @@ public class AutoInvest {
         return requestHandler.sendSignedRequest(baseUrl, ONE_TIME_TRANSACTION, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #submitOneTimeTransaction(Map)}.
+     * <br>
+     * @param parameters see {@link #submitOneTimeTransaction(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> submitOneTimeTransactionAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "sourceType", String.class);
+        ParameterChecker.checkRequiredParameter(parameters, "subscriptionAmount");
+        ParameterChecker.checkParameter(parameters, "sourceAsset", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, ONE_TIME_TRANSACTION, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String ONE_TIME_TRANSACTION_STATUS = "/sapi/v1/lending/auto-invest/one-off/status";
     /**
      * Transaction status for one-time transaction
@@ -319,6 +447,17 @@ public class AutoInvest {
         return requestHandler.sendSignedRequest(baseUrl, ONE_TIME_TRANSACTION_STATUS, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #oneTimeTransactionStatus(Map)}.
+     * <br>
+     * @param parameters see {@link #oneTimeTransactionStatus(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> oneTimeTransactionStatusAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "transactionId", Long.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, ONE_TIME_TRANSACTION_STATUS, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String REDEEM_INDEX_PLAN = "/sapi/v1/lending/auto-invest/redeem";
     /**
      * To redeem index-Linked plan holdings
@@ -344,6 +483,18 @@ public class AutoInvest {
         return requestHandler.sendSignedRequest(baseUrl, REDEEM_INDEX_PLAN, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #redeemIndexPlan(Map)}.
+     * <br>
+     * @param parameters see {@link #redeemIndexPlan(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> redeemIndexPlanAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "indexId", Long.class);
+        ParameterChecker.checkParameter(parameters, "redemptionPercentage", Integer.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, REDEEM_INDEX_PLAN, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String INDEX_LINKED_PLAN_REDEMPTION_HISTORY = "/sapi/v1/lending/auto-invest/redeem/history";
     /**
      * Get the history of Index Linked Plan Redemption transactions
@@ -374,6 +525,17 @@ public class AutoInvest {
         return requestHandler.sendSignedRequest(baseUrl, INDEX_LINKED_PLAN_REDEMPTION_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #indexPlanRedeemHistory(Map)}.
+     * <br>
+     * @param parameters see {@link #indexPlanRedeemHistory(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> indexPlanRedeemHistoryAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "requestId", Long.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, INDEX_LINKED_PLAN_REDEMPTION_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String INDEX_LINKED_PLAN_REBALANCE_DETAILS = "/sapi/v1/lending/auto-invest/rebalance/history";
     /**
      * GET /sapi/v1/lending/auto-invest/rebalance/history
@@ -394,4 +556,14 @@ public class AutoInvest {
     public String indexPlanRebalanceInfo(Map<String, Object> parameters) {
         return requestHandler.sendSignedRequest(baseUrl, INDEX_LINKED_PLAN_REBALANCE_DETAILS, parameters, HttpMethod.GET, showLimitUsage);
     }
+
+    /**
+     * Asynchronous version of {@link #indexPlanRebalanceInfo(Map)}.
+     * <br>
+     * @param parameters see {@link #indexPlanRebalanceInfo(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> indexPlanRebalanceInfoAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, INDEX_LINKED_PLAN_REBALANCE_DETAILS, parameters, HttpMethod.GET, showLimitUsage);
+    }
 }
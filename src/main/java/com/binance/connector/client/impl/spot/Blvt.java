@@ -1,6 +1,7 @@
 package com.binance.connector.client.impl.spot;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import com.binance.connector.client.enums.HttpMethod;
 import com.binance.connector.client.utils.ParameterChecker;
@@ -34,6 +35,12 @@ public class Blvt {
         this.showLimitUsage = showLimitUsage;
     }
 
+    public Blvt(String baseUrl, RequestHandler requestHandler, boolean showLimitUsage) {
+        this.baseUrl = baseUrl;
+        this.requestHandler = requestHandler;
+        this.showLimitUsage = showLimitUsage;
+    }
+
     private final String BLVT_INFO = "/sapi/v1/blvt/tokenInfo";
     /**
      * GET /sapi/v1/blvt/tokenInfo
@@ -51,6 +58,16 @@ public class Blvt {
         return requestHandler.sendApiRequest(baseUrl, BLVT_INFO, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #blvtInfo(Map)}.
+     * <br>
+     * @param parameters see {@link #blvtInfo(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> blvtInfoAsync(Map<String, Object> parameters) {
+        return requestHandler.sendApiRequestAsync(baseUrl, BLVT_INFO, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String SUBSCRIBE = "/sapi/v1/blvt/subscribe";
     /**
      * POST /sapi/v1/blvt/subscribe
@@ -72,6 +89,18 @@ public class Blvt {
         return requestHandler.sendSignedRequest(baseUrl, SUBSCRIBE, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #subscribe(Map)}.
+     * <br>
+     * @param parameters see {@link #subscribe(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> subscribeAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "tokenName", String.class);
+        ParameterChecker.checkRequiredParameter(parameters, "cost");
+        return requestHandler.sendSignedRequestAsync(baseUrl, SUBSCRIBE, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String SUBSCRIPTION_RECORD = "/sapi/v1/blvt/subscribe/record";
     /**
      * GET /sapi/v1/blvt/subscribe/record
@@ -94,6 +123,16 @@ public class Blvt {
         return requestHandler.sendSignedRequest(baseUrl, SUBSCRIPTION_RECORD, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #subscriptionRecord(Map)}.
+     * <br>
+     * @param parameters see {@link #subscriptionRecord(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> subscriptionRecordAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, SUBSCRIPTION_RECORD, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String REDEEM = "/sapi/v1/blvt/redeem";
     /**
      * POST /sapi/v1/blvt/redeem
@@ -115,6 +154,18 @@ public class Blvt {
         return requestHandler.sendSignedRequest(baseUrl, REDEEM, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #redeem(Map)}.
+     * <br>
+     * @param parameters see {@link #redeem(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> redeemAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "tokenName", String.class);
+        ParameterChecker.checkRequiredParameter(parameters, "amount");
+        return requestHandler.sendSignedRequestAsync(baseUrl, REDEEM, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String REDEEM_RECORD = "/sapi/v1/blvt/redeem/record";
     /**
      * GET /sapi/v1/blvt/redeem/record
@@ -137,6 +188,16 @@ public class Blvt {
         return requestHandler.sendSignedRequest(baseUrl, REDEEM_RECORD, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #redeemRecord(Map)}.
+     * <br>
+     * @param parameters see {@link #redeemRecord(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> redeemRecordAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, REDEEM_RECORD, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String USER_LIMIT = "/sapi/v1/blvt/userLimit";
     /**
      * GET /sapi/v1/blvt/userLimit
@@ -154,4 +215,14 @@ public class Blvt {
     public String userLimit(Map<String, Object> parameters) {
         return requestHandler.sendSignedRequest(baseUrl, USER_LIMIT, parameters, HttpMethod.GET, showLimitUsage);
     }
+
+    /**
+     * Asynchronous version of {@link #userLimit(Map)}.
+     * <br>
+     * @param parameters see {@link #userLimit(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> userLimitAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, USER_LIMIT, parameters, HttpMethod.GET, showLimitUsage);
+    }
 }
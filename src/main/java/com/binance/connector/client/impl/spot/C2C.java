@@ -1,6 +1,7 @@
 package com.binance.connector.client.impl.spot;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import com.binance.connector.client.enums.HttpMethod;
 import com.binance.connector.client.utils.ParameterChecker;
@@ -34,6 +35,12 @@ public class C2C {
         this.showLimitUsage = showLimitUsage;
     }
 
+    public C2C(String baseUrl, RequestHandler requestHandler, boolean showLimitUsage) {
+        this.baseUrl = baseUrl;
+        this.requestHandler = requestHandler;
+        this.showLimitUsage = showLimitUsage;
+    }
+
     private final String LIST_ORDER_HISTORY = "/sapi/v1/c2c/orderMatch/listUserOrderHistory";
     /**
      * GET /sapi/v1/c2c/orderMatch/listUserOrderHistory
@@ -56,4 +63,15 @@ public class C2C {
         ParameterChecker.checkParameter(parameters, "tradeType", String.class);
         return requestHandler.sendSignedRequest(baseUrl, LIST_ORDER_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
     }
+
+    /**
+     * Asynchronous version of {@link #listUserOrderHistory(Map)}.
+     * <br>
+     * @param parameters see {@link #listUserOrderHistory(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> listUserOrderHistoryAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "tradeType", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, LIST_ORDER_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
+    }
 }
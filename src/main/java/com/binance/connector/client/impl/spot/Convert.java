@@ -1,6 +1,7 @@
 package com.binance.connector.client.impl.spot;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import com.binance.connector.client.enums.HttpMethod;
 import com.binance.connector.client.utils.ParameterChecker;
@@ -34,6 +35,12 @@ public class Convert {
         this.showLimitUsage = showLimitUsage;
     }
 
+    public Convert(String baseUrl, RequestHandler requestHandler, boolean showLimitUsage) {
+        this.baseUrl = baseUrl;
+        this.requestHandler = requestHandler;
+        this.showLimitUsage = showLimitUsage;
+    }
+
     private final String TRADE_FLOW = "/sapi/v1/convert/tradeFlow";
     /**
      * GET /sapi/v1/convert/tradeFlow
@@ -56,6 +63,18 @@ public class Convert {
         return requestHandler.sendSignedRequest(baseUrl, TRADE_FLOW, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #tradeFlow(Map)}.
+     * <br>
+     * @param parameters see {@link #tradeFlow(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> tradeFlowAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "startTime", Long.class);
+        ParameterChecker.checkParameter(parameters, "endTime", Long.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, TRADE_FLOW, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String EXCHANGE_INFO = "/sapi/v1/convert/exchangeInfo";
     /**
      * GET /sapi/v1/convert/exchangeInfo
@@ -74,6 +93,16 @@ public class Convert {
         return requestHandler.sendPublicRequest(baseUrl, EXCHANGE_INFO, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #exchangeInfo(Map)}.
+     * <br>
+     * @param parameters see {@link #exchangeInfo(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> exchangeInfoAsync(Map<String, Object> parameters) {
+        return requestHandler.sendPublicRequestAsync(baseUrl, EXCHANGE_INFO, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String ASSET_QUANTITY_PRECISION = "/sapi/v1/convert/assetInfo";
     /**
      * GET /sapi/v1/convert/assetInfo
@@ -91,6 +120,16 @@ public class Convert {
         return requestHandler.sendSignedRequest(baseUrl, ASSET_QUANTITY_PRECISION, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #assetQuantityPrecision(Map)}.
+     * <br>
+     * @param parameters see {@link #assetQuantityPrecision(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> assetQuantityPrecisionAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, ASSET_QUANTITY_PRECISION, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String QUOTE_INQUIRY = "/sapi/v1/convert/getQuote";
     /**
      * POST /sapi/v1/convert/getQuote
@@ -116,6 +155,18 @@ public class Convert {
         return requestHandler.sendSignedRequest(baseUrl, QUOTE_INQUIRY, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #quoteInquiry(Map)}.
+     * <br>
+     * @param parameters see {@link #quoteInquiry(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> quoteInquiryAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "fromAsset", String.class);
+        ParameterChecker.checkParameter(parameters, "toAsset", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, QUOTE_INQUIRY, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String ACCEPT_QUOTE = "/sapi/v1/convert/acceptQuote";
     /**
      * POST /sapi/v1/convert/acceptQuote
@@ -135,6 +186,17 @@ public class Convert {
         return requestHandler.sendSignedRequest(baseUrl, ACCEPT_QUOTE, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #acceptQuote(Map)}.
+     * <br>
+     * @param parameters see {@link #acceptQuote(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> acceptQuoteAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "quoteId", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, ACCEPT_QUOTE, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String ORDER_STATUS = "/sapi/v1/convert/orderStatus";
     /**
      * GET /sapi/v1/convert/orderStatus
@@ -153,4 +215,14 @@ public class Convert {
     public String orderStatus(Map<String, Object> parameters) {
         return requestHandler.sendSignedRequest(baseUrl, ORDER_STATUS, parameters, HttpMethod.GET, showLimitUsage);
     }
+
+    /**
+     * Asynchronous version of {@link #orderStatus(Map)}.
+     * <br>
+     * @param parameters see {@link #orderStatus(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> orderStatusAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, ORDER_STATUS, parameters, HttpMethod.GET, showLimitUsage);
+    }
 }
@@ -1,6 +1,7 @@
 package com.binance.connector.client.impl.spot;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import com.binance.connector.client.enums.HttpMethod;
 import com.binance.connector.client.utils.ParameterChecker;
@@ -34,6 +35,12 @@ public class CryptoLoans {
         this.showLimitUsage = showLimitUsage;
     }
 
+    public CryptoLoans(String baseUrl, RequestHandler requestHandler, boolean showLimitUsage) {
+        this.baseUrl = baseUrl;
+        this.requestHandler = requestHandler;
+        this.showLimitUsage = showLimitUsage;
+    }
+
     private final String LOAN_INCOME = "/sapi/v1/loan/income";
     /**
      * GET /sapi/v1/loan/income
@@ -57,6 +64,17 @@ public class CryptoLoans {
         return requestHandler.sendSignedRequest(baseUrl, LOAN_INCOME, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #loanIncome(Map)}.
+     * <br>
+     * @param parameters see {@link #loanIncome(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> loanIncomeAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "asset", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, LOAN_INCOME, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String LOAN_BORROW = "/sapi/v1/loan/borrow";
     /**
      * POST /sapi/v1/loan/borrow
@@ -81,6 +99,19 @@ public class CryptoLoans {
         ParameterChecker.checkParameter(parameters, "loanTerm", Integer.class);
         return requestHandler.sendSignedRequest(baseUrl, LOAN_BORROW, parameters, HttpMethod.POST, showLimitUsage);
     }
+
+    /**
+     * Asynchronous version of {@link #loanBorrow(Map)}.
+     * <br>
+     * @param parameters see {@link #loanBorrow(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> loanBorrowAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "loanCoin", String.class);
+        ParameterChecker.checkParameter(parameters, "collateralCoin", String.class);
+        ParameterChecker.checkParameter(parameters, "loanTerm", Integer.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, LOAN_BORROW, parameters, HttpMethod.POST, showLimitUsage);
+    }
     
     private final String LOAN_BORROW_HISTORY = "/sapi/v1/loan/borrow/history";
     /**
@@ -106,6 +137,16 @@ public class CryptoLoans {
         return requestHandler.sendSignedRequest(baseUrl, LOAN_BORROW_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #loanBorrowHistory(Map)}.
+     * <br>
+     * @param parameters see {@link #loanBorrowHistory(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> loanBorrowHistoryAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, LOAN_BORROW_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String LOAN_ONGOING_ORDERS = "/sapi/v1/loan/ongoing/orders";
     /**
      * GET /sapi/v1/loan/ongoing/orders
@@ -128,6 +169,16 @@ public class CryptoLoans {
         return requestHandler.sendSignedRequest(baseUrl, LOAN_ONGOING_ORDERS, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #loanOngoingOrders(Map)}.
+     * <br>
+     * @param parameters see {@link #loanOngoingOrders(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> loanOngoingOrdersAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, LOAN_ONGOING_ORDERS, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String LOAN_REPAY = "/sapi/v1/loan/repay";
     /**
      * POST /sapi/v1/loan/repay
@@ -151,6 +202,18 @@ public class CryptoLoans {
         return requestHandler.sendSignedRequest(baseUrl, LOAN_REPAY, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #loanRepay(Map)}.
+     * <br>
+     * @param parameters see {@link #loanRepay(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> loanRepayAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "orderId", Long.class);
+        ParameterChecker.checkRequiredParameter(parameters, "amount");
+        return requestHandler.sendSignedRequestAsync(baseUrl, LOAN_REPAY, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String LOAN_REPAY_HISTORY = "/sapi/v1/loan/repay/history";
     /**
      * GET /sapi/v1/loan/repay/history
@@ -175,6 +238,16 @@ public class CryptoLoans {
         return requestHandler.sendSignedRequest(baseUrl, LOAN_REPAY_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #loanRepayHistory(Map)}.
+     * <br>
+     * @param parameters see {@link #loanRepayHistory(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> loanRepayHistoryAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, LOAN_REPAY_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String LOAN_ADJUST_LTV = "/sapi/v1/loan/adjust/ltv";
     /**
      * POST /sapi/v1/loan/adjust/ltv
@@ -196,6 +269,18 @@ public class CryptoLoans {
         ParameterChecker.checkRequiredParameter(parameters, "amount");
         return requestHandler.sendSignedRequest(baseUrl, LOAN_ADJUST_LTV, parameters, HttpMethod.POST, showLimitUsage);
     }
+
+    /**
+     * Asynchronous version of {@link #loanAdjustLTV(Map)}.
+     * <br>
+     * @param parameters see {@link #loanAdjustLTV(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> loanAdjustLTVAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "orderId", Long.class);
+        ParameterChecker.checkRequiredParameter(parameters, "amount");
+        return requestHandler.sendSignedRequestAsync(baseUrl, LOAN_ADJUST_LTV, parameters, HttpMethod.POST, showLimitUsage);
+    }
     
     private final String LOAN_ADJUST_LTV_HISTORY = "/sapi/v1/loan/ltv/adjustment/history";
     /**
@@ -221,6 +306,16 @@ public class CryptoLoans {
         return requestHandler.sendSignedRequest(baseUrl, LOAN_ADJUST_LTV_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #loanAdjustLTVHistory(Map)}.
+     * <br>
+     * @param parameters see {@link #loanAdjustLTVHistory(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> loanAdjustLTVHistoryAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, LOAN_ADJUST_LTV_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String LOANABLE_ASSETS_DATA = "/sapi/v1/loan/loanable/data";
     /**
      * GET /sapi/v1/loan/loanable/data
@@ -240,6 +335,16 @@ public class CryptoLoans {
         return requestHandler.sendSignedRequest(baseUrl, LOANABLE_ASSETS_DATA, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #loanAssetsData(Map)}.
+     * <br>
+     * @param parameters see {@link #loanAssetsData(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> loanAssetsDataAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, LOANABLE_ASSETS_DATA, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String COLLATERAL_ASSETS_DATA = "/sapi/v1/loan/collateral/data";
     /**
      * GET /sapi/v1/loan/collateral/data
@@ -259,6 +364,16 @@ public class CryptoLoans {
         return requestHandler.sendSignedRequest(baseUrl, COLLATERAL_ASSETS_DATA, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #collateralAssetsData(Map)}.
+     * <br>
+     * @param parameters see {@link #collateralAssetsData(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> collateralAssetsDataAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, COLLATERAL_ASSETS_DATA, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String COLLATERAL_REPAY_RATE = "/sapi/v1/loan/repay/collateral/rate";
     /**
      * GET /sapi/v1/loan/repay/collateral/rate
@@ -282,6 +397,19 @@ public class CryptoLoans {
         return requestHandler.sendSignedRequest(baseUrl, COLLATERAL_REPAY_RATE, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #collateralRepayRate(Map)}.
+     * <br>
+     * @param parameters see {@link #collateralRepayRate(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> collateralRepayRateAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "loanCoin", String.class);
+        ParameterChecker.checkParameter(parameters, "collateralCoin", String.class);
+        ParameterChecker.checkRequiredParameter(parameters, "repayAmount");
+        return requestHandler.sendSignedRequestAsync(baseUrl, COLLATERAL_REPAY_RATE, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String CUSTOMIZE_MARGIN_CALL = "/sapi/v1/loan/customize/margin_call";
     /**
      * GET /sapi/v1/loan/customize/margin_call
@@ -303,6 +431,17 @@ public class CryptoLoans {
         return requestHandler.sendSignedRequest(baseUrl, CUSTOMIZE_MARGIN_CALL, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #customizeMarginCall(Map)}.
+     * <br>
+     * @param parameters see {@link #customizeMarginCall(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> customizeMarginCallAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkRequiredParameter(parameters, "marginCall");
+        return requestHandler.sendSignedRequestAsync(baseUrl, CUSTOMIZE_MARGIN_CALL, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String FLEXIBLE_LOAN_BORROW = "/sapi/v1/loan/flexible/borrow";
     /**
      * POST /sapi/v1/loan/flexible/borrow
@@ -326,6 +465,18 @@ public class CryptoLoans {
         return requestHandler.sendSignedRequest(baseUrl, FLEXIBLE_LOAN_BORROW, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #flexibleLoanBorrow(Map)}.
+     * <br>
+     * @param parameters see {@link #flexibleLoanBorrow(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> flexibleLoanBorrowAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "loanCoin", String.class);
+        ParameterChecker.checkParameter(parameters, "collateralCoin", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, FLEXIBLE_LOAN_BORROW, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String FLEXIBLE_LOAN_ONGOING_ORDERS = "/sapi/v1/loan/flexible/ongoing/orders";
     /**
      * GET /sapi/v1/loan/flexible/ongoing/orders
@@ -347,6 +498,16 @@ public class CryptoLoans {
         return requestHandler.sendSignedRequest(baseUrl, FLEXIBLE_LOAN_ONGOING_ORDERS, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #flexibleLoanOngoingOrders(Map)}.
+     * <br>
+     * @param parameters see {@link #flexibleLoanOngoingOrders(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> flexibleLoanOngoingOrdersAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, FLEXIBLE_LOAN_ONGOING_ORDERS, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String FLEXIBLE_LOAN_BORROW_HISTORY = "/sapi/v1/loan/flexible/borrow/history";
     /**
      * GET /sapi/v1/loan/flexible/borrow/history
@@ -370,6 +531,16 @@ public class CryptoLoans {
         return requestHandler.sendSignedRequest(baseUrl, FLEXIBLE_LOAN_BORROW_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #flexibleLoanBorrowHistory(Map)}.
+     * <br>
+     * @param parameters see {@link #flexibleLoanBorrowHistory(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> flexibleLoanBorrowHistoryAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, FLEXIBLE_LOAN_BORROW_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String FLEXIBLE_LOAN_REPAY = "/sapi/v1/loan/flexible/repay";
     /**
      * POST /sapi/v1/loan/flexible/repay
@@ -395,6 +566,19 @@ public class CryptoLoans {
         return requestHandler.sendSignedRequest(baseUrl, FLEXIBLE_LOAN_REPAY, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #flexibleLoanRepay(Map)}.
+     * <br>
+     * @param parameters see {@link #flexibleLoanRepay(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> flexibleLoanRepayAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "loanCoin", String.class);
+        ParameterChecker.checkParameter(parameters, "collateralCoin", String.class);
+        ParameterChecker.checkRequiredParameter(parameters, "repayAmount");
+        return requestHandler.sendSignedRequestAsync(baseUrl, FLEXIBLE_LOAN_REPAY, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String FLEXIBLE_LOAN_REPAY_HISTORY = "/sapi/v1/loan/flexible/repay/history";
     /**
      * GET /sapi/v1/loan/flexible/repay/history
@@ -418,6 +602,16 @@ public class CryptoLoans {
         return requestHandler.sendSignedRequest(baseUrl, FLEXIBLE_LOAN_REPAY_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #flexibleLoanRepayHistory(Map)}.
+     * <br>
+     * @param parameters see {@link #flexibleLoanRepayHistory(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> flexibleLoanRepayHistoryAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, FLEXIBLE_LOAN_REPAY_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String FLEXIBLE_LOAN_ADJUST_LTV = "/sapi/v1/loan/flexible/adjust/ltv";
     /**
      * POST /sapi/v1/loan/flexible/adjust/ltv
@@ -443,6 +637,20 @@ public class CryptoLoans {
         return requestHandler.sendSignedRequest(baseUrl, FLEXIBLE_LOAN_ADJUST_LTV, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #flexibleLoanAdjustLtv(Map)}.
+     * <br>
+     * @param parameters see {@link #flexibleLoanAdjustLtv(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> flexibleLoanAdjustLtvAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "loanCoin", String.class);
+        ParameterChecker.checkParameter(parameters, "collateralCoin", String.class);
+        ParameterChecker.checkRequiredParameter(parameters, "adjustmentAmount");
+        ParameterChecker.checkParameter(parameters, "direction", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, FLEXIBLE_LOAN_ADJUST_LTV, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String FLEXIBLE_LOAN_LTV_ADJUST_HISTORY = "/sapi/v1/loan/flexible/ltv/adjustment/history";
     /**
      * GET /sapi/v1/loan/flexible/ltv/adjustment/history
@@ -466,6 +674,16 @@ public class CryptoLoans {
         return requestHandler.sendSignedRequest(baseUrl, FLEXIBLE_LOAN_LTV_ADJUST_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #flexibleLoanLtvAdjustHistory(Map)}.
+     * <br>
+     * @param parameters see {@link #flexibleLoanLtvAdjustHistory(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> flexibleLoanLtvAdjustHistoryAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, FLEXIBLE_LOAN_LTV_ADJUST_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String FLEXIBLE_LOAN_ASSETS = "/sapi/v1/loan/flexible/loanable/data";
     /**
      * Get interest rate and borrow limit of flexible loanable assets. The borrow limit is shown in USD value.
@@ -487,6 +705,16 @@ public class CryptoLoans {
         return requestHandler.sendSignedRequest(baseUrl, FLEXIBLE_LOAN_ASSETS, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #flexibleLoanAssets(Map)}.
+     * <br>
+     * @param parameters see {@link #flexibleLoanAssets(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> flexibleLoanAssetsAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, FLEXIBLE_LOAN_ASSETS, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String FLEXIBLE_LOAN_COLLATERAL_ASSETS = "/sapi/v1/loan/flexible/collateral/data";
     /**
      * Get LTV information and collateral limit of flexible loan's collateral assets. The collateral limit is shown in USD value.
@@ -507,4 +735,14 @@ public class CryptoLoans {
     public String flexibleLoanCollateralAssets(Map<String, Object> parameters) {
         return requestHandler.sendSignedRequest(baseUrl, FLEXIBLE_LOAN_COLLATERAL_ASSETS, parameters, HttpMethod.GET, showLimitUsage);
     }
+
+    /**
+     * Asynchronous version of {@link #flexibleLoanCollateralAssets(Map)}.
+     * <br>
+     * @param parameters see {@link #flexibleLoanCollateralAssets(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> flexibleLoanCollateralAssetsAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, FLEXIBLE_LOAN_COLLATERAL_ASSETS, parameters, HttpMethod.GET, showLimitUsage);
+    }
 }
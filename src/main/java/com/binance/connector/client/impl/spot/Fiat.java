@@ -1,6 +1,7 @@
 package com.binance.connector.client.impl.spot;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import com.binance.connector.client.enums.HttpMethod;
 import com.binance.connector.client.utils.ParameterChecker;
@@ -34,6 +35,12 @@ public class Fiat {
         this.showLimitUsage = showLimitUsage;
     }
 
+    public Fiat(String baseUrl, RequestHandler requestHandler, boolean showLimitUsage) {
+        this.baseUrl = baseUrl;
+        this.requestHandler = requestHandler;
+        this.showLimitUsage = showLimitUsage;
+    }
+
     private final String ORDERS = "/sapi/v1/fiat/orders";
     /**
      * GET /sapi/v1/fiat/orders
@@ -57,6 +64,17 @@ public class Fiat {
         return requestHandler.sendSignedRequest(baseUrl, ORDERS, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #orders(Map)}.
+     * <br>
+     * @param parameters see {@link #orders(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> ordersAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "transactionType", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, ORDERS, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String PAYMENTS = "/sapi/v1/fiat/payments";
     /**
      * GET /sapi/v1/fiat/payments
@@ -79,4 +97,15 @@ public class Fiat {
         ParameterChecker.checkParameter(parameters, "transactionType", String.class);
         return requestHandler.sendSignedRequest(baseUrl, PAYMENTS, parameters, HttpMethod.GET, showLimitUsage);
     }
+
+    /**
+     * Asynchronous version of {@link #payments(Map)}.
+     * <br>
+     * @param parameters see {@link #payments(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> paymentsAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "transactionType", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, PAYMENTS, parameters, HttpMethod.GET, showLimitUsage);
+    }
 }
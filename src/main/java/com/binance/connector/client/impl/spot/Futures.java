@@ -1,6 +1,7 @@
 package com.binance.connector.client.impl.spot;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import com.binance.connector.client.enums.HttpMethod;
 import com.binance.connector.client.utils.ParameterChecker;
@@ -34,6 +35,12 @@ public class Futures {
         this.showLimitUsage = showLimitUsage;
     }
 
+    public Futures(String baseUrl, RequestHandler requestHandler, boolean showLimitUsage) {
+        this.baseUrl = baseUrl;
+        this.requestHandler = requestHandler;
+        this.showLimitUsage = showLimitUsage;
+    }
+
     private final String FUTURES_TRANSFER = "/sapi/v1/futures/transfer";
     /**
      * Execute transfer between spot account and futures account.
@@ -62,6 +69,19 @@ public class Futures {
         return requestHandler.sendSignedRequest(baseUrl, FUTURES_TRANSFER, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #futuresTransfer(Map)}.
+     * <br>
+     * @param parameters see {@link #futuresTransfer(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> futuresTransferAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "asset", String.class);
+        ParameterChecker.checkRequiredParameter(parameters, "amount");
+        ParameterChecker.checkParameter(parameters, "type", Integer.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, FUTURES_TRANSFER, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     /**
      * GET /sapi/v1/futures/transfer
      * <br>
@@ -85,6 +105,18 @@ public class Futures {
         return requestHandler.sendSignedRequest(baseUrl, FUTURES_TRANSFER, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #futuresTransferHistory(Map)}.
+     * <br>
+     * @param parameters see {@link #futuresTransferHistory(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> futuresTransferHistoryAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "asset", String.class);
+        ParameterChecker.checkParameter(parameters, "startTime", Long.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, FUTURES_TRANSFER, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String HISTORICAL_DATA = "/sapi/v1/futures/histDataLink";
     /**
      * GET /sapi/v1/futures/histDataLink
@@ -113,4 +145,18 @@ public class Futures {
         ParameterChecker.checkParameter(parameters, "endTime", Long.class);
         return requestHandler.sendSignedRequest(baseUrl, HISTORICAL_DATA, parameters, HttpMethod.GET, showLimitUsage);
     }
+
+    /**
+     * Asynchronous version of {@link #futuresOrderBookHistory(Map)}.
+     * <br>
+     * @param parameters see {@link #futuresOrderBookHistory(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> futuresOrderBookHistoryAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        ParameterChecker.checkParameter(parameters, "dataType", String.class);
+        ParameterChecker.checkParameter(parameters, "startTime", Long.class);
+        ParameterChecker.checkParameter(parameters, "endTime", Long.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, HISTORICAL_DATA, parameters, HttpMethod.GET, showLimitUsage);
+    }
 }
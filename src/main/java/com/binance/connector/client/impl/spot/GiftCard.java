@@ -1,6 +1,7 @@
 package com.binance.connector.client.impl.spot;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import com.binance.connector.client.enums.HttpMethod;
 import com.binance.connector.client.utils.ParameterChecker;
@@ -34,6 +35,12 @@ public class GiftCard {
         this.showLimitUsage = showLimitUsage;
     }
 
+    public GiftCard(String baseUrl, RequestHandler requestHandler, boolean showLimitUsage) {
+        this.baseUrl = baseUrl;
+        this.requestHandler = requestHandler;
+        this.showLimitUsage = showLimitUsage;
+    }
+
     private final String CREATE_CODE = "/sapi/v1/giftcard/createCode";
     /**
      * This API is for creating a Binance Code. To get started with, please make sure:
@@ -62,6 +69,18 @@ public class GiftCard {
         return requestHandler.sendSignedRequest(baseUrl, CREATE_CODE, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #createCode(Map)}.
+     * <br>
+     * @param parameters see {@link #createCode(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> createCodeAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "token", String.class);
+        ParameterChecker.checkParameter(parameters, "amount", Double.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, CREATE_CODE, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String REDEEM_CODE = "/sapi/v1/giftcard/redeemCode";
     /**
      * This API is for redeeming the Binance Code. Once redeemed, the coins will be deposited in your funding wallet. <br>
@@ -90,6 +109,17 @@ public class GiftCard {
         return requestHandler.sendSignedRequest(baseUrl, REDEEM_CODE, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #redeemCode(Map)}.
+     * <br>
+     * @param parameters see {@link #redeemCode(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> redeemCodeAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "code", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, REDEEM_CODE, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String VERIFY = "/sapi/v1/giftcard/verify";
     /**
      * This API is for verifying whether the Binance Code is valid or not by entering Binance Code or reference number. <br>
@@ -113,6 +143,17 @@ public class GiftCard {
         return requestHandler.sendSignedRequest(baseUrl, VERIFY, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #verify(Map)}.
+     * <br>
+     * @param parameters see {@link #verify(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> verifyAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "referenceNo", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, VERIFY, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String RSA_PUB = "/sapi/v1/giftcard/cryptography/rsa-public-key";
     /**
      * This API is for fetching the RSA Public Key. This RSA Public key will be used to encrypt the card code.
@@ -132,6 +173,16 @@ public class GiftCard {
         return requestHandler.sendSignedRequest(baseUrl, RSA_PUB, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #rsaPublicKey(Map)}.
+     * <br>
+     * @param parameters see {@link #rsaPublicKey(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> rsaPublicKeyAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, RSA_PUB, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String CREATE_DUAL_TOKEN_CODE = "/sapi/v1/giftcard/buyCode";
     /**
      * This API is for buying a fixed-value Binance Code, which means your Binance Code will be redeemable to a token that is different to the token that you are paying in. If the token you’re paying and the redeemable token are the same, please use the Create Binance Code endpoint.
@@ -167,6 +218,19 @@ public class GiftCard {
         return requestHandler.sendSignedRequest(baseUrl, CREATE_DUAL_TOKEN_CODE, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #createDualTokensCode(Map)}.
+     * <br>
+     * @param parameters see {@link #createDualTokensCode(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> createDualTokensCodeAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "baseToken", String.class);
+        ParameterChecker.checkParameter(parameters, "faceToken", String.class);
+        ParameterChecker.checkParameter(parameters, "baseTokenAmount", Double.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, CREATE_DUAL_TOKEN_CODE, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String TOKEN_LIMIT = "/sapi/v1/giftcard/buyCode/token-limit";
     /**
      * This API is to help you verify which tokens are available for you to purchase fixed-value gift cards.
@@ -188,4 +252,15 @@ public class GiftCard {
         ParameterChecker.checkParameter(parameters, "baseToken", String.class);
         return requestHandler.sendSignedRequest(baseUrl, TOKEN_LIMIT, parameters, HttpMethod.GET, showLimitUsage);
     }
+
+    /**
+     * Asynchronous version of {@link #tokensLimit(Map)}.
+     * <br>
+     * @param parameters see {@link #tokensLimit(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> tokensLimitAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "baseToken", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, TOKEN_LIMIT, parameters, HttpMethod.GET, showLimitUsage);
+    }
 }
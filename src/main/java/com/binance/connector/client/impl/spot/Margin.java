@@ -1,8 +1,10 @@
 package com.binance.connector.client.impl.spot;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import com.binance.connector.client.enums.HttpMethod;
+import com.binance.connector.client.utils.BinanceResponse;
 import com.binance.connector.client.utils.ParameterChecker;
 import com.binance.connector.client.utils.ProxyAuth;
 import com.binance.connector.client.utils.RequestHandler;
@@ -34,6 +36,12 @@ public class Margin {
         this.showLimitUsage = showLimitUsage;
     }
 
+    public Margin(String baseUrl, RequestHandler requestHandler, boolean showLimitUsage) {
+        this.baseUrl = baseUrl;
+        this.requestHandler = requestHandler;
+        this.showLimitUsage = showLimitUsage;
+    }
+
     private final String ALL_ASSETS = "/sapi/v1/margin/allAssets";
     /**
      * GET /sapi/v1/margin/allAssets
@@ -46,6 +54,25 @@ public class Margin {
         return requestHandler.sendApiRequest(baseUrl, ALL_ASSETS, null, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #allAssets()}.
+     * <br>
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> allAssetsAsync() {
+        return requestHandler.sendApiRequestAsync(baseUrl, ALL_ASSETS, null, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #allAssets()}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @return BinanceResponse
+     */
+    public BinanceResponse allAssetsWithMetadata() {
+        return requestHandler.sendApiRequestWithMetadata(baseUrl, ALL_ASSETS, null, HttpMethod.GET);
+    }
+
     private final String ALL_PAIRS = "/sapi/v1/margin/allPairs";
     /**
      * GET /sapi/v1/margin/allPairs
@@ -58,6 +85,25 @@ public class Margin {
         return requestHandler.sendApiRequest(baseUrl, ALL_PAIRS, null, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #allPairs()}.
+     * <br>
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> allPairsAsync() {
+        return requestHandler.sendApiRequestAsync(baseUrl, ALL_PAIRS, null, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #allPairs()}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @return BinanceResponse
+     */
+    public BinanceResponse allPairsWithMetadata() {
+        return requestHandler.sendApiRequestWithMetadata(baseUrl, ALL_PAIRS, null, HttpMethod.GET);
+    }
+
     private final String PRICE_INDEX = "/sapi/v1/margin/priceIndex";
     /**
      * GET /sapi/v1/margin/priceIndex
@@ -76,6 +122,29 @@ public class Margin {
         return requestHandler.sendApiRequest(baseUrl, PRICE_INDEX, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #priceIndex(Map)}.
+     * <br>
+     * @param parameters see {@link #priceIndex(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> priceIndexAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        return requestHandler.sendApiRequestAsync(baseUrl, PRICE_INDEX, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #priceIndex(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #priceIndex(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse priceIndexWithMetadata(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        return requestHandler.sendApiRequestWithMetadata(baseUrl, PRICE_INDEX, parameters, HttpMethod.GET);
+    }
+
     private final String ORDER = "/sapi/v1/margin/order";
     /**
      * Post a new order for margin account.
@@ -113,6 +182,33 @@ public class Margin {
         return requestHandler.sendSignedRequest(baseUrl, ORDER, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #newOrder(Map)}.
+     * <br>
+     * @param parameters see {@link #newOrder(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> newOrderAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        ParameterChecker.checkParameter(parameters, "side", String.class);
+        ParameterChecker.checkParameter(parameters, "type", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, ORDER, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #newOrder(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #newOrder(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse newOrderWithMetadata(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        ParameterChecker.checkParameter(parameters, "side", String.class);
+        ParameterChecker.checkParameter(parameters, "type", String.class);
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, ORDER, parameters, HttpMethod.POST);
+    }
+
     /**
      * Cancel an active order for margin account.
      * <br><br>
@@ -137,6 +233,29 @@ public class Margin {
         return requestHandler.sendSignedRequest(baseUrl, ORDER, parameters, HttpMethod.DELETE, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #cancelOrder(Map)}.
+     * <br>
+     * @param parameters see {@link #cancelOrder(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> cancelOrderAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, ORDER, parameters, HttpMethod.DELETE, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #cancelOrder(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #cancelOrder(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse cancelOrderWithMetadata(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, ORDER, parameters, HttpMethod.DELETE);
+    }
+
     private final String OPEN_ORDERS = "/sapi/v1/margin/openOrders";
     /**
      * Cancels all active orders on a symbol for margin account.
@@ -160,6 +279,29 @@ public class Margin {
         return requestHandler.sendSignedRequest(baseUrl, OPEN_ORDERS, parameters, HttpMethod.DELETE, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #cancelOpenOrders(Map)}.
+     * <br>
+     * @param parameters see {@link #cancelOpenOrders(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> cancelOpenOrdersAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, OPEN_ORDERS, parameters, HttpMethod.DELETE, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #cancelOpenOrders(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #cancelOpenOrders(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse cancelOpenOrdersWithMetadata(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, OPEN_ORDERS, parameters, HttpMethod.DELETE);
+    }
+
     private final String TRANSFER_HISTORY = "/sapi/v1/margin/transfer";
     /**
      * GET /sapi/v1/margin/transfer
@@ -184,6 +326,27 @@ public class Margin {
         return requestHandler.sendSignedRequest(baseUrl, TRANSFER_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #transferHistory(Map)}.
+     * <br>
+     * @param parameters see {@link #transferHistory(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> transferHistoryAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, TRANSFER_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #transferHistory(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #transferHistory(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse transferHistoryWithMetadata(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, TRANSFER_HISTORY, parameters, HttpMethod.GET);
+    }
+
     private final String REPAY_RECORD = "/sapi/v1/margin/repay";
     /**
      * GET /sapi/v1/margin/repay
@@ -210,6 +373,29 @@ public class Margin {
         return requestHandler.sendSignedRequest(baseUrl, REPAY_RECORD, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #repayRecord(Map)}.
+     * <br>
+     * @param parameters see {@link #repayRecord(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> repayRecordAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "asset", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, REPAY_RECORD, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #repayRecord(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #repayRecord(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse repayRecordWithMetadata(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "asset", String.class);
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, REPAY_RECORD, parameters, HttpMethod.GET);
+    }
+
     private final String INTEREST_HISTORY = "/sapi/v1/margin/interestHistory";
     /**
      * GET /sapi/v1/margin/interestHistory
@@ -234,6 +420,27 @@ public class Margin {
         return requestHandler.sendSignedRequest(baseUrl, INTEREST_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #interestHistory(Map)}.
+     * <br>
+     * @param parameters see {@link #interestHistory(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> interestHistoryAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, INTEREST_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #interestHistory(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #interestHistory(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse interestHistoryWithMetadata(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, INTEREST_HISTORY, parameters, HttpMethod.GET);
+    }
+
     private final String FORCE_LIQUIDATION_RECORD = "/sapi/v1/margin/forceLiquidationRec";
     /**
      * GET /sapi/v1/margin/forceLiquidationRec
@@ -256,6 +463,27 @@ public class Margin {
         return requestHandler.sendSignedRequest(baseUrl, FORCE_LIQUIDATION_RECORD, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #forceLiquidationRec(Map)}.
+     * <br>
+     * @param parameters see {@link #forceLiquidationRec(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> forceLiquidationRecAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, FORCE_LIQUIDATION_RECORD, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #forceLiquidationRec(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #forceLiquidationRec(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse forceLiquidationRecWithMetadata(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, FORCE_LIQUIDATION_RECORD, parameters, HttpMethod.GET);
+    }
+
     private final String ACCOUNT = "/sapi/v1/margin/account";
     /**
      * GET /sapi/v1/margin/account
@@ -273,6 +501,27 @@ public class Margin {
         return requestHandler.sendSignedRequest(baseUrl, ACCOUNT, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #account(Map)}.
+     * <br>
+     * @param parameters see {@link #account(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> accountAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, ACCOUNT, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #account(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #account(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse accountWithMetadata(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, ACCOUNT, parameters, HttpMethod.GET);
+    }
+
     /**
      * GET /sapi/v1/margin/order
      * <br>
@@ -294,6 +543,29 @@ public class Margin {
         return requestHandler.sendSignedRequest(baseUrl, ORDER, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #getOrder(Map)}.
+     * <br>
+     * @param parameters see {@link #getOrder(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> getOrderAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, ORDER, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #getOrder(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #getOrder(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse getOrderWithMetadata(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, ORDER, parameters, HttpMethod.GET);
+    }
+
     /**
      * GET /sapi/v1/margin/openOrders
      * <br>
@@ -311,6 +583,27 @@ public class Margin {
         return requestHandler.sendSignedRequest(baseUrl, OPEN_ORDERS, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #getOpenOrders(Map)}.
+     * <br>
+     * @param parameters see {@link #getOpenOrders(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> getOpenOrdersAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, OPEN_ORDERS, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #getOpenOrders(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #getOpenOrders(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse getOpenOrdersWithMetadata(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, OPEN_ORDERS, parameters, HttpMethod.GET);
+    }
+
     private final String ALL_ORDERS = "/sapi/v1/margin/allOrders";
     /**
      * GET /sapi/v1/margin/allOrders
@@ -335,6 +628,29 @@ public class Margin {
         return requestHandler.sendSignedRequest(baseUrl, ALL_ORDERS, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #getAllOrders(Map)}.
+     * <br>
+     * @param parameters see {@link #getAllOrders(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> getAllOrdersAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, ALL_ORDERS, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #getAllOrders(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #getAllOrders(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse getAllOrdersWithMetadata(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, ALL_ORDERS, parameters, HttpMethod.GET);
+    }
+
     private final String OCO_ORDER = "/sapi/v1/margin/order/oco";
     /**
      * Send in a new OCO for a margin account.
@@ -376,6 +692,37 @@ public class Margin {
         return requestHandler.sendSignedRequest(baseUrl, OCO_ORDER, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #ocoOrder(Map)}.
+     * <br>
+     * @param parameters see {@link #ocoOrder(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> ocoOrderAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        ParameterChecker.checkParameter(parameters, "side", String.class);
+        ParameterChecker.checkRequiredParameter(parameters, "quantity");
+        ParameterChecker.checkRequiredParameter(parameters, "price");
+        ParameterChecker.checkRequiredParameter(parameters, "stopPrice");
+        return requestHandler.sendSignedRequestAsync(baseUrl, OCO_ORDER, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #ocoOrder(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #ocoOrder(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse ocoOrderWithMetadata(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        ParameterChecker.checkParameter(parameters, "side", String.class);
+        ParameterChecker.checkRequiredParameter(parameters, "quantity");
+        ParameterChecker.checkRequiredParameter(parameters, "price");
+        ParameterChecker.checkRequiredParameter(parameters, "stopPrice");
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, OCO_ORDER, parameters, HttpMethod.POST);
+    }
+
     private final String ORDER_LIST = "/sapi/v1/margin/orderList";
     /**
      * Cancel an entire Order List for a margin account.
@@ -401,6 +748,29 @@ public class Margin {
         return requestHandler.sendSignedRequest(baseUrl, ORDER_LIST, parameters, HttpMethod.DELETE, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #cancelOcoOrder(Map)}.
+     * <br>
+     * @param parameters see {@link #cancelOcoOrder(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> cancelOcoOrderAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, ORDER_LIST, parameters, HttpMethod.DELETE, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #cancelOcoOrder(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #cancelOcoOrder(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse cancelOcoOrderWithMetadata(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, ORDER_LIST, parameters, HttpMethod.DELETE);
+    }
+
     /**
      * Retrieves a specific OCO based on provided optional parameters.
      * <br><br>
@@ -423,6 +793,27 @@ public class Margin {
         return requestHandler.sendSignedRequest(baseUrl, ORDER_LIST, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #getOcoOrder(Map)}.
+     * <br>
+     * @param parameters see {@link #getOcoOrder(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> getOcoOrderAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, ORDER_LIST, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #getOcoOrder(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #getOcoOrder(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse getOcoOrderWithMetadata(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, ORDER_LIST, parameters, HttpMethod.GET);
+    }
+
     private final String GET_ALL_OCO = "/sapi/v1/margin/allOrderList";
     /**
      * Retrieves all OCO for a specific margin account based on provided optional parameters.
@@ -448,6 +839,27 @@ public class Margin {
         return requestHandler.sendSignedRequest(baseUrl, GET_ALL_OCO, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #getAllOcoOrders(Map)}.
+     * <br>
+     * @param parameters see {@link #getAllOcoOrders(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> getAllOcoOrdersAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, GET_ALL_OCO, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #getAllOcoOrders(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #getAllOcoOrders(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse getAllOcoOrdersWithMetadata(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, GET_ALL_OCO, parameters, HttpMethod.GET);
+    }
+
     private final String GET_OPEN_OCO = "/sapi/v1/margin/openOrderList";
     /**
      * GET /sapi/v1/margin/openOrderList
@@ -467,6 +879,27 @@ public class Margin {
         return requestHandler.sendSignedRequest(baseUrl, GET_OPEN_OCO, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #getOcoOpenOrders(Map)}.
+     * <br>
+     * @param parameters see {@link #getOcoOpenOrders(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> getOcoOpenOrdersAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, GET_OPEN_OCO, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #getOcoOpenOrders(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #getOcoOpenOrders(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse getOcoOpenOrdersWithMetadata(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, GET_OPEN_OCO, parameters, HttpMethod.GET);
+    }
+
     private final String MY_TRADES = "/sapi/v1/margin/myTrades";
     /**
      * GET /sapi/v1/margin/myTrades
@@ -491,6 +924,29 @@ public class Margin {
         return requestHandler.sendSignedRequest(baseUrl, MY_TRADES, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #trades(Map)}.
+     * <br>
+     * @param parameters see {@link #trades(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> tradesAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, MY_TRADES, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #trades(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #trades(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse tradesWithMetadata(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, MY_TRADES, parameters, HttpMethod.GET);
+    }
+
     private final String MAX_BORROW = "/sapi/v1/margin/maxBorrowable";
     /**
      * GET /sapi/v1/margin/maxBorrowable
@@ -511,6 +967,29 @@ public class Margin {
         return requestHandler.sendSignedRequest(baseUrl, MAX_BORROW, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #maxBorrow(Map)}.
+     * <br>
+     * @param parameters see {@link #maxBorrow(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> maxBorrowAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "asset", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, MAX_BORROW, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #maxBorrow(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #maxBorrow(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse maxBorrowWithMetadata(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "asset", String.class);
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, MAX_BORROW, parameters, HttpMethod.GET);
+    }
+
     private final String MAX_TRANSFERABLE = "/sapi/v1/margin/maxTransferable";
     /**
      * GET /sapi/v1/margin/maxTransferable
@@ -531,16 +1010,39 @@ public class Margin {
         return requestHandler.sendSignedRequest(baseUrl, MAX_TRANSFERABLE, parameters, HttpMethod.GET, showLimitUsage);
     }
 
-    private final String ISOLATED_ACCOUNT = "/sapi/v1/margin/isolated/account";
     /**
-     * GET /sapi/v1/margin/isolated/account
+     * Asynchronous version of {@link #maxTransferable(Map)}.
      * <br>
-     * @param
-     * parameters Map of String,Object pair
-     *            where String is the name of the parameter and Object is the value of the parameter
-     * <br><br>
-     * symbols -- optional/string -- Max 5 symbols can be sent; separated by ",". e.g. "BTCUSDT,BNBUSDT,ADAUSDT" <br>
-     * recvWindow -- optional/long -- The value cannot be greater than 60000 <br>
+     * @param parameters see {@link #maxTransferable(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> maxTransferableAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "asset", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, MAX_TRANSFERABLE, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #maxTransferable(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #maxTransferable(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse maxTransferableWithMetadata(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "asset", String.class);
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, MAX_TRANSFERABLE, parameters, HttpMethod.GET);
+    }
+
+    private final String ISOLATED_ACCOUNT = "/sapi/v1/margin/isolated/account";
+    /**
+     * GET /sapi/v1/margin/isolated/account
+     * <br>
+     * @param
+     * parameters Map of String,Object pair
+     *            where String is the name of the parameter and Object is the value of the parameter
+     * <br><br>
+     * symbols -- optional/string -- Max 5 symbols can be sent; separated by ",". e.g. "BTCUSDT,BNBUSDT,ADAUSDT" <br>
+     * recvWindow -- optional/long -- The value cannot be greater than 60000 <br>
      * @return String
      * @see <a href="https://binance-docs.github.io/apidocs/spot/en/#query-isolated-margin-account-info-user_data">
      *     https://binance-docs.github.io/apidocs/spot/en/#query-isolated-margin-account-info-user_data</a>
@@ -549,6 +1051,27 @@ public class Margin {
         return requestHandler.sendSignedRequest(baseUrl, ISOLATED_ACCOUNT, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #isolatedAccount(Map)}.
+     * <br>
+     * @param parameters see {@link #isolatedAccount(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> isolatedAccountAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, ISOLATED_ACCOUNT, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #isolatedAccount(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #isolatedAccount(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse isolatedAccountWithMetadata(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, ISOLATED_ACCOUNT, parameters, HttpMethod.GET);
+    }
+
     /**
      * DELETE /sapi/v1/margin/isolated/account
      * <br>
@@ -567,6 +1090,29 @@ public class Margin {
         return requestHandler.sendSignedRequest(baseUrl, ISOLATED_ACCOUNT, parameters, HttpMethod.DELETE, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #disableIsolatedAccount(Map)}.
+     * <br>
+     * @param parameters see {@link #disableIsolatedAccount(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> disableIsolatedAccountAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, ISOLATED_ACCOUNT, parameters, HttpMethod.DELETE, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #disableIsolatedAccount(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #disableIsolatedAccount(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse disableIsolatedAccountWithMetadata(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, ISOLATED_ACCOUNT, parameters, HttpMethod.DELETE);
+    }
+
     /**
      * Enable isolated margin account for a specific symbol.
      * <br><br>
@@ -587,6 +1133,29 @@ public class Margin {
         return requestHandler.sendSignedRequest(baseUrl, ISOLATED_ACCOUNT, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #enableIsolatedAccount(Map)}.
+     * <br>
+     * @param parameters see {@link #enableIsolatedAccount(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> enableIsolatedAccountAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, ISOLATED_ACCOUNT, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #enableIsolatedAccount(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #enableIsolatedAccount(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse enableIsolatedAccountWithMetadata(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, ISOLATED_ACCOUNT, parameters, HttpMethod.POST);
+    }
+
     private final String ISOLATED_ACCOUNT_LIMIT = "/sapi/v1/margin/isolated/accountLimit";
     /**
      * Query enabled isolated margin account limit.
@@ -606,6 +1175,27 @@ public class Margin {
         return requestHandler.sendSignedRequest(baseUrl, ISOLATED_ACCOUNT_LIMIT, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #getIsolatedAccountLimit(Map)}.
+     * <br>
+     * @param parameters see {@link #getIsolatedAccountLimit(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> getIsolatedAccountLimitAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, ISOLATED_ACCOUNT_LIMIT, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #getIsolatedAccountLimit(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #getIsolatedAccountLimit(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse getIsolatedAccountLimitWithMetadata(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, ISOLATED_ACCOUNT_LIMIT, parameters, HttpMethod.GET);
+    }
+
     private final String ALL_ISOLATED_SYMBOL = "/sapi/v1/margin/isolated/allPairs";
     /**
      * GET /sapi/v1/margin/isolated/allPairs
@@ -623,6 +1213,27 @@ public class Margin {
         return requestHandler.sendSignedRequest(baseUrl, ALL_ISOLATED_SYMBOL, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #getAllIsolatedSymbols(Map)}.
+     * <br>
+     * @param parameters see {@link #getAllIsolatedSymbols(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> getAllIsolatedSymbolsAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, ALL_ISOLATED_SYMBOL, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #getAllIsolatedSymbols(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #getAllIsolatedSymbols(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse getAllIsolatedSymbolsWithMetadata(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, ALL_ISOLATED_SYMBOL, parameters, HttpMethod.GET);
+    }
+
     private final String BNB_BURN = "/sapi/v1/bnbBurn";
     /**
      * POST /sapi/v1/bnbBurn
@@ -642,6 +1253,27 @@ public class Margin {
         return requestHandler.sendSignedRequest(baseUrl, BNB_BURN, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #bnbBurn(Map)}.
+     * <br>
+     * @param parameters see {@link #bnbBurn(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> bnbBurnAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, BNB_BURN, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #bnbBurn(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #bnbBurn(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse bnbBurnWithMetadata(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, BNB_BURN, parameters, HttpMethod.POST);
+    }
+
     /**
      * GET /sapi/v1/bnbBurn
      * <br>
@@ -658,6 +1290,27 @@ public class Margin {
         return requestHandler.sendSignedRequest(baseUrl, BNB_BURN, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #getBnbBurn(Map)}.
+     * <br>
+     * @param parameters see {@link #getBnbBurn(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> getBnbBurnAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, BNB_BURN, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #getBnbBurn(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #getBnbBurn(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse getBnbBurnWithMetadata(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, BNB_BURN, parameters, HttpMethod.GET);
+    }
+
     private final String INTEREST_RATE_HIST = "/sapi/v1/margin/interestRateHistory";
     /**
      * GET /sapi/v1/margin/interestRateHistory
@@ -680,6 +1333,29 @@ public class Margin {
         return requestHandler.sendSignedRequest(baseUrl, INTEREST_RATE_HIST, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #interestRateHistory(Map)}.
+     * <br>
+     * @param parameters see {@link #interestRateHistory(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> interestRateHistoryAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "asset", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, INTEREST_RATE_HIST, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #interestRateHistory(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #interestRateHistory(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse interestRateHistoryWithMetadata(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "asset", String.class);
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, INTEREST_RATE_HIST, parameters, HttpMethod.GET);
+    }
+
     private final String CROSS_MARGIN_DATA = "/sapi/v1/margin/crossMarginData";
     /**
      * Get cross margin fee data collection with any vip level or user's current specific data as https://www.binance.com/en/margin-fee.
@@ -701,6 +1377,27 @@ public class Margin {
         return requestHandler.sendSignedRequest(baseUrl, CROSS_MARGIN_DATA, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #crossMarginData(Map)}.
+     * <br>
+     * @param parameters see {@link #crossMarginData(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> crossMarginDataAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, CROSS_MARGIN_DATA, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #crossMarginData(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #crossMarginData(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse crossMarginDataWithMetadata(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, CROSS_MARGIN_DATA, parameters, HttpMethod.GET);
+    }
+
     private final String CROSS_MARGIN_COLLATERAL_RATIO = "/sapi/v1/margin/crossMarginCollateralRatio";
     /**
      * Get cross margin collateral ratio
@@ -716,6 +1413,25 @@ public class Margin {
         return requestHandler.sendApiRequest(baseUrl, CROSS_MARGIN_COLLATERAL_RATIO, null, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #crossMarginCollateralRatio()}.
+     * <br>
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> crossMarginCollateralRatioAsync() {
+        return requestHandler.sendApiRequestAsync(baseUrl, CROSS_MARGIN_COLLATERAL_RATIO, null, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #crossMarginCollateralRatio()}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @return BinanceResponse
+     */
+    public BinanceResponse crossMarginCollateralRatioWithMetadata() {
+        return requestHandler.sendApiRequestWithMetadata(baseUrl, CROSS_MARGIN_COLLATERAL_RATIO, null, HttpMethod.GET);
+    }
+
     private final String ADJUST_CROSS_MARGIN_MAX_LEVERAGE = "/sapi/v1/margin/max-leverage";
     /**
      * Adjust cross margin max leverage
@@ -736,6 +1452,29 @@ public class Margin {
         ParameterChecker.checkParameter(parameters, "maxLeverage", Integer.class);
         return requestHandler.sendSignedRequest(baseUrl, ADJUST_CROSS_MARGIN_MAX_LEVERAGE, parameters, HttpMethod.POST, showLimitUsage);
     }
+
+    /**
+     * Asynchronous version of {@link #adjustCrossMarginMaxLeverage(Map)}.
+     * <br>
+     * @param parameters see {@link #adjustCrossMarginMaxLeverage(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> adjustCrossMarginMaxLeverageAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "maxLeverage", Integer.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, ADJUST_CROSS_MARGIN_MAX_LEVERAGE, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #adjustCrossMarginMaxLeverage(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #adjustCrossMarginMaxLeverage(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse adjustCrossMarginMaxLeverageWithMetadata(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "maxLeverage", Integer.class);
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, ADJUST_CROSS_MARGIN_MAX_LEVERAGE, parameters, HttpMethod.POST);
+    }
     
     private final String ISOLATED_MARGIN_DATA = "/sapi/v1/margin/isolatedMarginData";
     /**
@@ -758,6 +1497,27 @@ public class Margin {
         return requestHandler.sendSignedRequest(baseUrl, ISOLATED_MARGIN_DATA, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #isolatedMarginData(Map)}.
+     * <br>
+     * @param parameters see {@link #isolatedMarginData(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> isolatedMarginDataAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, ISOLATED_MARGIN_DATA, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #isolatedMarginData(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #isolatedMarginData(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse isolatedMarginDataWithMetadata(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, ISOLATED_MARGIN_DATA, parameters, HttpMethod.GET);
+    }
+
     private final String ISOLATED_MARGIN_TIER = "/sapi/v1/margin/isolatedMarginTier";
     /**
      * Get isolated margin tier data collection with any tier as https://www.binance.com/en/margin-data.
@@ -780,6 +1540,29 @@ public class Margin {
         return requestHandler.sendSignedRequest(baseUrl, ISOLATED_MARGIN_TIER, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #isolatedMarginTier(Map)}.
+     * <br>
+     * @param parameters see {@link #isolatedMarginTier(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> isolatedMarginTierAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, ISOLATED_MARGIN_TIER, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #isolatedMarginTier(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #isolatedMarginTier(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse isolatedMarginTierWithMetadata(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, ISOLATED_MARGIN_TIER, parameters, HttpMethod.GET);
+    }
+
     private final String ORDER_RATE_LIMIT = "/sapi/v1/margin/rateLimit/order";
     /**
      * Displays the user's current margin order count usage for all intervals.
@@ -801,6 +1584,27 @@ public class Margin {
         return requestHandler.sendSignedRequest(baseUrl, ORDER_RATE_LIMIT, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #orderRateLimit(Map)}.
+     * <br>
+     * @param parameters see {@link #orderRateLimit(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> orderRateLimitAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, ORDER_RATE_LIMIT, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #orderRateLimit(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #orderRateLimit(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse orderRateLimitWithMetadata(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, ORDER_RATE_LIMIT, parameters, HttpMethod.GET);
+    }
+
     private final String AVAILABLE_INVENTORY = "/sapi/v1/margin/available-inventory";
     /**
      * Get the available margin inventory
@@ -822,6 +1626,29 @@ public class Margin {
         return requestHandler.sendSignedRequest(baseUrl, AVAILABLE_INVENTORY, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #availableInventory(Map)}.
+     * <br>
+     * @param parameters see {@link #availableInventory(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> availableInventoryAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "type", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, AVAILABLE_INVENTORY, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #availableInventory(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #availableInventory(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse availableInventoryWithMetadata(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "type", String.class);
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, AVAILABLE_INVENTORY, parameters, HttpMethod.GET);
+    }
+
     private final String CAPITAL_FLOW = "/sapi/v1/margin/capital-flow";
     /**
      * Get cross or isolated margin capital flow
@@ -849,6 +1676,27 @@ public class Margin {
         return requestHandler.sendSignedRequest(baseUrl, CAPITAL_FLOW, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #capitalFlow(Map)}.
+     * <br>
+     * @param parameters see {@link #capitalFlow(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> capitalFlowAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, CAPITAL_FLOW, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #capitalFlow(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #capitalFlow(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse capitalFlowWithMetadata(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, CAPITAL_FLOW, parameters, HttpMethod.GET);
+    }
+
     private final String DELIST_SCHEDULE = "/sapi/v1/margin/delist-schedule";
     /**
      * Get tokens or symbols delist schedule for cross margin and isolated margin
@@ -869,6 +1717,27 @@ public class Margin {
         return requestHandler.sendApiRequest(baseUrl, DELIST_SCHEDULE, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #delistSchedule(Map)}.
+     * <br>
+     * @param parameters see {@link #delistSchedule(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> delistScheduleAsync(Map<String, Object> parameters) {
+        return requestHandler.sendApiRequestAsync(baseUrl, DELIST_SCHEDULE, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #delistSchedule(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #delistSchedule(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse delistScheduleWithMetadata(Map<String, Object> parameters) {
+        return requestHandler.sendApiRequestWithMetadata(baseUrl, DELIST_SCHEDULE, parameters, HttpMethod.GET);
+    }
+
     private final String NEXT_HOURLY_INTEREST_RATE = "/sapi/v1/margin/next-hourly-interest-rate";
     /**
      * Get the next hourly interest estimation
@@ -892,6 +1761,31 @@ public class Margin {
         return requestHandler.sendSignedRequest(baseUrl, NEXT_HOURLY_INTEREST_RATE, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #nextHourlyInterestRate(Map)}.
+     * <br>
+     * @param parameters see {@link #nextHourlyInterestRate(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> nextHourlyInterestRateAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "assets", String.class);
+        ParameterChecker.checkParameter(parameters, "isIsolated", Boolean.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, NEXT_HOURLY_INTEREST_RATE, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #nextHourlyInterestRate(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #nextHourlyInterestRate(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse nextHourlyInterestRateWithMetadata(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "assets", String.class);
+        ParameterChecker.checkParameter(parameters, "isIsolated", Boolean.class);
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, NEXT_HOURLY_INTEREST_RATE, parameters, HttpMethod.GET);
+    }
+
     private final String SMALL_LIABILITY_ASSETS = "/sapi/v1/margin/exchange-small-liability";
     /**
      * Query the assets suitable for small liability exchanges.
@@ -912,6 +1806,27 @@ public class Margin {
         return requestHandler.sendSignedRequest(baseUrl, SMALL_LIABILITY_ASSETS, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #smallLiabilityAssets(Map)}.
+     * <br>
+     * @param parameters see {@link #smallLiabilityAssets(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> smallLiabilityAssetsAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, SMALL_LIABILITY_ASSETS, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #smallLiabilityAssets(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #smallLiabilityAssets(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse smallLiabilityAssetsWithMetadata(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, SMALL_LIABILITY_ASSETS, parameters, HttpMethod.GET);
+    }
+
     private final String EXCHANGE_SMALL_LIABILITY = "/sapi/v1/margin/exchange-small-liability";
     /**
      * Convert cross margin assets with low liability value
@@ -934,6 +1849,29 @@ public class Margin {
         return requestHandler.sendSignedRequest(baseUrl, EXCHANGE_SMALL_LIABILITY, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #exchangeSmallLiability(Map)}.
+     * <br>
+     * @param parameters see {@link #exchangeSmallLiability(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> exchangeSmallLiabilityAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkRequiredParameter(parameters, "assetNames");
+        return requestHandler.sendSignedRequestAsync(baseUrl, EXCHANGE_SMALL_LIABILITY, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #exchangeSmallLiability(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #exchangeSmallLiability(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse exchangeSmallLiabilityWithMetadata(Map<String, Object> parameters) {
+        ParameterChecker.checkRequiredParameter(parameters, "assetNames");
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, EXCHANGE_SMALL_LIABILITY, parameters, HttpMethod.POST);
+    }
+
     private final String SMALL_LIABILITY_EXCHANGE_HISTORY = "/sapi/v1/margin/exchange-small-liability-history";
     /**
      * Get the conversion history of low liabilities
@@ -960,6 +1898,31 @@ public class Margin {
         return requestHandler.sendSignedRequest(baseUrl, SMALL_LIABILITY_EXCHANGE_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #smallLiabilityExchangeHistory(Map)}.
+     * <br>
+     * @param parameters see {@link #smallLiabilityExchangeHistory(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> smallLiabilityExchangeHistoryAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkRequiredParameter(parameters, "current");
+        ParameterChecker.checkRequiredParameter(parameters, "size");
+        return requestHandler.sendSignedRequestAsync(baseUrl, SMALL_LIABILITY_EXCHANGE_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #smallLiabilityExchangeHistory(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #smallLiabilityExchangeHistory(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse smallLiabilityExchangeHistoryWithMetadata(Map<String, Object> parameters) {
+        ParameterChecker.checkRequiredParameter(parameters, "current");
+        ParameterChecker.checkRequiredParameter(parameters, "size");
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, SMALL_LIABILITY_EXCHANGE_HISTORY, parameters, HttpMethod.GET);
+    }
+
     private final String LEVERAGE_BRACKET = "/sapi/v1/margin/leverageBracket";
     /**
      * Get the liability assets leverage bracket in Cross Margin Pro Mode
@@ -975,6 +1938,25 @@ public class Margin {
         return requestHandler.sendApiRequest(baseUrl, LEVERAGE_BRACKET, null, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #leverageBracket()}.
+     * <br>
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> leverageBracketAsync() {
+        return requestHandler.sendApiRequestAsync(baseUrl, LEVERAGE_BRACKET, null, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #leverageBracket()}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @return BinanceResponse
+     */
+    public BinanceResponse leverageBracketWithMetadata() {
+        return requestHandler.sendApiRequestWithMetadata(baseUrl, LEVERAGE_BRACKET, null, HttpMethod.GET);
+    }
+
   
     private final String TRADE_COEFF = "/sapi/v1/margin/tradeCoeff";
     /**
@@ -994,5 +1976,26 @@ public class Margin {
      */
     public String tradeCoeff(Map<String, Object> parameters) {
         return requestHandler.sendApiRequest(baseUrl, TRADE_COEFF, parameters, HttpMethod.GET, showLimitUsage);
-    }  
+    }
+
+    /**
+     * Asynchronous version of {@link #tradeCoeff(Map)}.
+     * <br>
+     * @param parameters see {@link #tradeCoeff(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> tradeCoeffAsync(Map<String, Object> parameters) {
+        return requestHandler.sendApiRequestAsync(baseUrl, TRADE_COEFF, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #tradeCoeff(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #tradeCoeff(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse tradeCoeffWithMetadata(Map<String, Object> parameters) {
+        return requestHandler.sendApiRequestWithMetadata(baseUrl, TRADE_COEFF, parameters, HttpMethod.GET);
+    }
 }
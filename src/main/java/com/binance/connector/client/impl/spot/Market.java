@@ -2,9 +2,11 @@ package com.binance.connector.client.impl.spot;
 
 import java.util.ArrayList;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import com.binance.connector.client.enums.HttpMethod;
 import com.binance.connector.client.exceptions.BinanceConnectorException;
+import com.binance.connector.client.utils.BinanceResponse;
 import com.binance.connector.client.utils.JSONParser;
 import com.binance.connector.client.utils.ParameterChecker;
 import com.binance.connector.client.utils.ProxyAuth;
@@ -28,6 +30,12 @@ public class Market {
         this.requestHandler = new RequestHandler(apiKey, proxy);
         this.showLimitUsage = showLimitUsage;
     }
+
+    public Market(String baseUrl, RequestHandler requestHandler, boolean showLimitUsage) {
+        this.baseUrl = baseUrl;
+        this.requestHandler = requestHandler;
+        this.showLimitUsage = showLimitUsage;
+    }
     private final String PING = "/api/v3/ping";
     /**
      * Test connectivity to the Rest API.
@@ -42,6 +50,25 @@ public class Market {
         return requestHandler.sendPublicRequest(baseUrl, PING, null, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #ping()}.
+     * <br>
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> pingAsync() {
+        return requestHandler.sendPublicRequestAsync(baseUrl, PING, null, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #ping()}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @return BinanceResponse
+     */
+    public BinanceResponse pingWithMetadata() {
+        return requestHandler.sendPublicRequestWithMetadata(baseUrl, PING, null, HttpMethod.GET);
+    }
+
     private final String TIME = "/api/v3/time";
     /**
      * Test connectivity to the Rest API and get the current server time.
@@ -56,6 +83,25 @@ public class Market {
         return requestHandler.sendPublicRequest(baseUrl, TIME, null, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #time()}.
+     * <br>
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> timeAsync() {
+        return requestHandler.sendPublicRequestAsync(baseUrl, TIME, null, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #time()}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @return BinanceResponse
+     */
+    public BinanceResponse timeWithMetadata() {
+        return requestHandler.sendPublicRequestWithMetadata(baseUrl, TIME, null, HttpMethod.GET);
+    }
+
     private final String EXCHANGE_INFO = "/api/v3/exchangeInfo";
     /**
      * Current exchange trading rules and symbol information.
@@ -74,26 +120,33 @@ public class Market {
      *     https://binance-docs.github.io/apidocs/spot/en/#exchange-information</a>
      */
     public String exchangeInfo(Map<String, Object> parameters) {
-        if (parameters.containsKey("symbol") && parameters.containsKey("symbols")) {
-            throw new BinanceConnectorException("symbol and symbols cannot be sent together.");
-        }
-        if ((parameters.containsKey("symbol") && parameters.containsKey("permissions"))
-             || parameters.containsKey("symbols") && parameters.containsKey("permissions")) {
-            throw new BinanceConnectorException("permissions cannot be sent together with symbol or symbols.");
-        }
-        if (parameters.containsKey("symbols")) {
-            ParameterChecker.checkParameterType(parameters.get("symbols"), ArrayList.class, "symbols");
-            parameters.put("symbols", JSONParser.getJSONArray(
-                                    (ArrayList<?>) parameters.get("symbols"), "symbols"));
-        }
-        if (parameters.containsKey("permissions")) {
-            ParameterChecker.checkParameterType(parameters.get("permissions"), ArrayList.class, "permissions");
-            parameters.put("permissions", JSONParser.getJSONArray(
-                                    (ArrayList<?>) parameters.get("permissions"), "permissions"));
-        }
+        checkExchangeInfoParameters(parameters);
         return requestHandler.sendPublicRequest(baseUrl, EXCHANGE_INFO, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #exchangeInfo(Map)}.
+     * <br>
+     * @param parameters see {@link #exchangeInfo(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> exchangeInfoAsync(Map<String, Object> parameters) {
+        checkExchangeInfoParameters(parameters);
+        return requestHandler.sendPublicRequestAsync(baseUrl, EXCHANGE_INFO, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #exchangeInfo(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #exchangeInfo(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse exchangeInfoWithMetadata(Map<String, Object> parameters) {
+        checkExchangeInfoParameters(parameters);
+        return requestHandler.sendPublicRequestWithMetadata(baseUrl, EXCHANGE_INFO, parameters, HttpMethod.GET);
+    }
+
     private final String DEPTH = "/api/v3/depth";
     /**
      * GET /api/v3/depth
@@ -114,6 +167,29 @@ public class Market {
         return requestHandler.sendPublicRequest(baseUrl, DEPTH, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #depth(Map)}.
+     * <br>
+     * @param parameters see {@link #depth(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> depthAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        return requestHandler.sendPublicRequestAsync(baseUrl, DEPTH, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #depth(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #depth(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse depthWithMetadata(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        return requestHandler.sendPublicRequestWithMetadata(baseUrl, DEPTH, parameters, HttpMethod.GET);
+    }
+
     private final String TRADES = "/api/v3/trades";
     /**
      * Get recent trades.
@@ -135,6 +211,29 @@ public class Market {
         return requestHandler.sendPublicRequest(baseUrl, TRADES, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #trades(Map)}.
+     * <br>
+     * @param parameters see {@link #trades(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> tradesAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        return requestHandler.sendPublicRequestAsync(baseUrl, TRADES, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #trades(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #trades(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse tradesWithMetadata(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        return requestHandler.sendPublicRequestWithMetadata(baseUrl, TRADES, parameters, HttpMethod.GET);
+    }
+
     private final String HISTORICAL_TRADES = "/api/v3/historicalTrades";
     /**
      * Get older market trades.
@@ -158,6 +257,29 @@ public class Market {
         return requestHandler.sendApiRequest(baseUrl, HISTORICAL_TRADES, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #historicalTrades(Map)}.
+     * <br>
+     * @param parameters see {@link #historicalTrades(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> historicalTradesAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        return requestHandler.sendApiRequestAsync(baseUrl, HISTORICAL_TRADES, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #historicalTrades(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #historicalTrades(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse historicalTradesWithMetadata(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        return requestHandler.sendApiRequestWithMetadata(baseUrl, HISTORICAL_TRADES, parameters, HttpMethod.GET);
+    }
+
     private final String AGG_TRADES = "/api/v3/aggTrades";
     /**
      * Get compressed, aggregate trades. Trades that fill at the time, from the same order,
@@ -183,6 +305,29 @@ public class Market {
         return requestHandler.sendPublicRequest(baseUrl, AGG_TRADES, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #aggTrades(Map)}.
+     * <br>
+     * @param parameters see {@link #aggTrades(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> aggTradesAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        return requestHandler.sendPublicRequestAsync(baseUrl, AGG_TRADES, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #aggTrades(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #aggTrades(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse aggTradesWithMetadata(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        return requestHandler.sendPublicRequestWithMetadata(baseUrl, AGG_TRADES, parameters, HttpMethod.GET);
+    }
+
     private final String KLINES = "/api/v3/klines";
     /**
      * Kline/candlestick bars for a symbol.
@@ -210,6 +355,31 @@ public class Market {
         return requestHandler.sendPublicRequest(baseUrl, KLINES, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #klines(Map)}.
+     * <br>
+     * @param parameters see {@link #klines(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> klinesAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        ParameterChecker.checkParameter(parameters, "interval", String.class);
+        return requestHandler.sendPublicRequestAsync(baseUrl, KLINES, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #klines(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #klines(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse klinesWithMetadata(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        ParameterChecker.checkParameter(parameters, "interval", String.class);
+        return requestHandler.sendPublicRequestWithMetadata(baseUrl, KLINES, parameters, HttpMethod.GET);
+    }
+
     private final String UIKLINES = "/api/v3/uiKlines";
     /**
      * The request is similar to klines having the same parameters and response.
@@ -237,6 +407,31 @@ public class Market {
         return requestHandler.sendPublicRequest(baseUrl, UIKLINES, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #uiKlines(Map)}.
+     * <br>
+     * @param parameters see {@link #uiKlines(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> uiKlinesAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        ParameterChecker.checkParameter(parameters, "interval", String.class);
+        return requestHandler.sendPublicRequestAsync(baseUrl, UIKLINES, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #uiKlines(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #uiKlines(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse uiKlinesWithMetadata(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        ParameterChecker.checkParameter(parameters, "interval", String.class);
+        return requestHandler.sendPublicRequestWithMetadata(baseUrl, UIKLINES, parameters, HttpMethod.GET);
+    }
+
     private final String AVG_PRICE = "/api/v3/avgPrice";
     /**
      * Current average price for a symbol.
@@ -257,6 +452,29 @@ public class Market {
         return requestHandler.sendPublicRequest(baseUrl, AVG_PRICE, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #averagePrice(Map)}.
+     * <br>
+     * @param parameters see {@link #averagePrice(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> averagePriceAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        return requestHandler.sendPublicRequestAsync(baseUrl, AVG_PRICE, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #averagePrice(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #averagePrice(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse averagePriceWithMetadata(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        return requestHandler.sendPublicRequestWithMetadata(baseUrl, AVG_PRICE, parameters, HttpMethod.GET);
+    }
+
     private final String TICKER_24H = "/api/v3/ticker/24hr";
     /**
      * 24 hour rolling window price change statistics. Careful when accessing this with no symbol.
@@ -275,17 +493,33 @@ public class Market {
      *     https://binance-docs.github.io/apidocs/spot/en/#24hr-ticker-price-change-statistics</a>
      */
     public String ticker24H(Map<String, Object> parameters) {
-        if (parameters.containsKey("symbol") && parameters.containsKey("symbols")) {
-            throw new BinanceConnectorException("symbol and symbols cannot be sent together.");
-        }
-        if (parameters.containsKey("symbols")) {
-            ParameterChecker.checkParameterType(parameters.get("symbols"), ArrayList.class, "symbols");
-            parameters.put("symbols", JSONParser.getJSONArray(
-                    (ArrayList<?>) parameters.get("symbols"), "symbols"));
-        }
+        checkSymbols(parameters, false);
         return requestHandler.sendPublicRequest(baseUrl, TICKER_24H, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #ticker24H(Map)}.
+     * <br>
+     * @param parameters see {@link #ticker24H(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> ticker24HAsync(Map<String, Object> parameters) {
+        checkSymbols(parameters, false);
+        return requestHandler.sendPublicRequestAsync(baseUrl, TICKER_24H, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #ticker24H(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #ticker24H(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse ticker24HWithMetadata(Map<String, Object> parameters) {
+        checkSymbols(parameters, false);
+        return requestHandler.sendPublicRequestWithMetadata(baseUrl, TICKER_24H, parameters, HttpMethod.GET);
+    }
+
     private final String TICKER_SYMBOL = "/api/v3/ticker/price";
     /**
      * Latest price for a symbol or symbols.
@@ -303,17 +537,33 @@ public class Market {
      *     https://binance-docs.github.io/apidocs/spot/en/#symbol-price-ticker</a>
      */
     public String tickerSymbol(Map<String, Object> parameters) {
-        if (parameters.containsKey("symbol") && parameters.containsKey("symbols")) {
-            throw new BinanceConnectorException("symbol and symbols cannot be sent together.");
-        }
-        if (parameters.containsKey("symbols")) {
-            ParameterChecker.checkParameterType(parameters.get("symbols"), ArrayList.class, "symbols");
-            parameters.put("symbols", JSONParser.getJSONArray(
-                    (ArrayList<?>) parameters.get("symbols"), "symbols"));
-        }
+        checkSymbols(parameters, false);
         return requestHandler.sendPublicRequest(baseUrl, TICKER_SYMBOL, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #tickerSymbol(Map)}.
+     * <br>
+     * @param parameters see {@link #tickerSymbol(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> tickerSymbolAsync(Map<String, Object> parameters) {
+        checkSymbols(parameters, false);
+        return requestHandler.sendPublicRequestAsync(baseUrl, TICKER_SYMBOL, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #tickerSymbol(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #tickerSymbol(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse tickerSymbolWithMetadata(Map<String, Object> parameters) {
+        checkSymbols(parameters, false);
+        return requestHandler.sendPublicRequestWithMetadata(baseUrl, TICKER_SYMBOL, parameters, HttpMethod.GET);
+    }
+
     private final String BOOK_TICKER = "/api/v3/ticker/bookTicker";
     /**
      * Best price/qty on the order book for a symbol or symbols.
@@ -331,17 +581,33 @@ public class Market {
      *     https://binance-docs.github.io/apidocs/spot/en/#symbol-order-book-ticker</a>
      */
     public String bookTicker(Map<String, Object> parameters) {
-        if (parameters.containsKey("symbol") && parameters.containsKey("symbols")) {
-            throw new BinanceConnectorException("symbol and symbols cannot be sent together.");
-        }
-        if (parameters.containsKey("symbols")) {
-            ParameterChecker.checkParameterType(parameters.get("symbols"), ArrayList.class, "symbols");
-            parameters.put("symbols", JSONParser.getJSONArray(
-                    (ArrayList<?>) parameters.get("symbols"), "symbols"));
-        }
+        checkSymbols(parameters, false);
         return requestHandler.sendPublicRequest(baseUrl, BOOK_TICKER, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #bookTicker(Map)}.
+     * <br>
+     * @param parameters see {@link #bookTicker(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> bookTickerAsync(Map<String, Object> parameters) {
+        checkSymbols(parameters, false);
+        return requestHandler.sendPublicRequestAsync(baseUrl, BOOK_TICKER, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #bookTicker(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #bookTicker(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse bookTickerWithMetadata(Map<String, Object> parameters) {
+        checkSymbols(parameters, false);
+        return requestHandler.sendPublicRequestWithMetadata(baseUrl, BOOK_TICKER, parameters, HttpMethod.GET);
+    }
+
     private final String TICKER = "/api/v3/ticker";
     /**
      * The window used to compute statistics will be no more than 59999ms from the requested windowSize.
@@ -363,19 +629,33 @@ public class Market {
      *     https://binance-docs.github.io/apidocs/spot/en/#rolling-window-price-change-statistics</a>
      */
     public String ticker(Map<String, Object> parameters) {
-        if (parameters.containsKey("symbol") && parameters.containsKey("symbols")) {
-            throw new BinanceConnectorException("symbol and symbols cannot be sent together.");
-        }
-        if (parameters.containsKey("symbols")) {
-            ParameterChecker.checkParameterType(parameters.get("symbols"), ArrayList.class, "symbols");
-            parameters.put("symbols", JSONParser.getJSONArray(
-                    (ArrayList<?>) parameters.get("symbols"), "symbols"));
-        } else {
-            ParameterChecker.checkParameter(parameters, "symbol", String.class);
-        }
+        checkSymbols(parameters, true);
         return requestHandler.sendPublicRequest(baseUrl, TICKER, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #ticker(Map)}.
+     * <br>
+     * @param parameters see {@link #ticker(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> tickerAsync(Map<String, Object> parameters) {
+        checkSymbols(parameters, true);
+        return requestHandler.sendPublicRequestAsync(baseUrl, TICKER, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #ticker(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #ticker(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse tickerWithMetadata(Map<String, Object> parameters) {
+        checkSymbols(parameters, true);
+        return requestHandler.sendPublicRequestWithMetadata(baseUrl, TICKER, parameters, HttpMethod.GET);
+    }
+
     private final String TRADING_DAY = "/api/v3/ticker/tradingDay";
     /**
      * Price change statistics for a trading day.
@@ -396,6 +676,54 @@ public class Market {
      *     https://binance-docs.github.io/apidocs/spot/en/#trading-day-ticker</a>
      */
     public String tradingDayTicker(Map<String, Object> parameters) {
+        checkSymbols(parameters, true);
+        return requestHandler.sendPublicRequest(baseUrl, TRADING_DAY, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Asynchronous version of {@link #tradingDayTicker(Map)}.
+     * <br>
+     * @param parameters see {@link #tradingDayTicker(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> tradingDayTickerAsync(Map<String, Object> parameters) {
+        checkSymbols(parameters, true);
+        return requestHandler.sendPublicRequestAsync(baseUrl, TRADING_DAY, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #tradingDayTicker(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #tradingDayTicker(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse tradingDayTickerWithMetadata(Map<String, Object> parameters) {
+        checkSymbols(parameters, true);
+        return requestHandler.sendPublicRequestWithMetadata(baseUrl, TRADING_DAY, parameters, HttpMethod.GET);
+    }
+
+    private static void checkExchangeInfoParameters(Map<String, Object> parameters) {
+        if (parameters.containsKey("symbol") && parameters.containsKey("symbols")) {
+            throw new BinanceConnectorException("symbol and symbols cannot be sent together.");
+        }
+        if ((parameters.containsKey("symbol") && parameters.containsKey("permissions"))
+             || parameters.containsKey("symbols") && parameters.containsKey("permissions")) {
+            throw new BinanceConnectorException("permissions cannot be sent together with symbol or symbols.");
+        }
+        if (parameters.containsKey("symbols")) {
+            ParameterChecker.checkParameterType(parameters.get("symbols"), ArrayList.class, "symbols");
+            parameters.put("symbols", JSONParser.getJSONArray(
+                                    (ArrayList<?>) parameters.get("symbols"), "symbols"));
+        }
+        if (parameters.containsKey("permissions")) {
+            ParameterChecker.checkParameterType(parameters.get("permissions"), ArrayList.class, "permissions");
+            parameters.put("permissions", JSONParser.getJSONArray(
+                                    (ArrayList<?>) parameters.get("permissions"), "permissions"));
+        }
+    }
+
+    private static void checkSymbols(Map<String, Object> parameters, boolean symbolRequired) {
         if (parameters.containsKey("symbol") && parameters.containsKey("symbols")) {
             throw new BinanceConnectorException("symbol and symbols cannot be sent together.");
         }
@@ -403,9 +731,8 @@ public class Market {
             ParameterChecker.checkParameterType(parameters.get("symbols"), ArrayList.class, "symbols");
             parameters.put("symbols", JSONParser.getJSONArray(
                     (ArrayList<?>) parameters.get("symbols"), "symbols"));
-        } else {
+        } else if (symbolRequired) {
             ParameterChecker.checkParameter(parameters, "symbol", String.class);
         }
-        return requestHandler.sendPublicRequest(baseUrl, TRADING_DAY, parameters, HttpMethod.GET, showLimitUsage);
     }
 }
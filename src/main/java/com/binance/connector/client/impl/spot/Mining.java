@@ -1,6 +1,7 @@
 package com.binance.connector.client.impl.spot;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import com.binance.connector.client.enums.HttpMethod;
 import com.binance.connector.client.utils.ParameterChecker;
@@ -34,6 +35,12 @@ public class Mining {
         this.showLimitUsage = showLimitUsage;
     }
 
+    public Mining(String baseUrl, RequestHandler requestHandler, boolean showLimitUsage) {
+        this.baseUrl = baseUrl;
+        this.requestHandler = requestHandler;
+        this.showLimitUsage = showLimitUsage;
+    }
+
     private final String ALGO = "/sapi/v1/mining/pub/algoList";
     /**
      * GET /sapi/v1/mining/pub/algoList
@@ -51,6 +58,16 @@ public class Mining {
         return requestHandler.sendSignedRequest(baseUrl, ALGO, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #algorithm(Map)}.
+     * <br>
+     * @param parameters see {@link #algorithm(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> algorithmAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, ALGO, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String COIN_NAME = "/sapi/v1/mining/pub/coinList";
     /**
      * GET /sapi/v1/mining/pub/coinList
@@ -68,6 +85,16 @@ public class Mining {
         return requestHandler.sendSignedRequest(baseUrl, COIN_NAME, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #coinName(Map)}.
+     * <br>
+     * @param parameters see {@link #coinName(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> coinNameAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, COIN_NAME, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String DETAIL_MINER_LIST = "/sapi/v1/mining/worker/detail";
     /**
      * GET /sapi/v1/mining/worker/detail
@@ -91,6 +118,19 @@ public class Mining {
         return requestHandler.sendSignedRequest(baseUrl, DETAIL_MINER_LIST, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #detailMinerList(Map)}.
+     * <br>
+     * @param parameters see {@link #detailMinerList(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> detailMinerListAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "algo", String.class);
+        ParameterChecker.checkParameter(parameters, "userName", String.class);
+        ParameterChecker.checkParameter(parameters, "workerName", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, DETAIL_MINER_LIST, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String MINER_LIST = "/sapi/v1/mining/worker/list";
     /**
      * GET /sapi/v1/mining/worker/list
@@ -121,6 +161,18 @@ public class Mining {
         return requestHandler.sendSignedRequest(baseUrl, MINER_LIST, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #minerList(Map)}.
+     * <br>
+     * @param parameters see {@link #minerList(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> minerListAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "algo", String.class);
+        ParameterChecker.checkParameter(parameters, "userName", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, MINER_LIST, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String EARNING_LIST = "/sapi/v1/mining/payment/list";
     /**
      * GET /sapi/v1/mining/payment/list
@@ -147,6 +199,18 @@ public class Mining {
         return requestHandler.sendSignedRequest(baseUrl, EARNING_LIST, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #earningList(Map)}.
+     * <br>
+     * @param parameters see {@link #earningList(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> earningListAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "algo", String.class);
+        ParameterChecker.checkParameter(parameters, "userName", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, EARNING_LIST, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String BONUS_LIST = "/sapi/v1/mining/payment/other";
     /**
      * GET /sapi/v1/mining/payment/other
@@ -173,6 +237,18 @@ public class Mining {
         return requestHandler.sendSignedRequest(baseUrl, BONUS_LIST, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #bonusList(Map)}.
+     * <br>
+     * @param parameters see {@link #bonusList(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> bonusListAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "algo", String.class);
+        ParameterChecker.checkParameter(parameters, "userName", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, BONUS_LIST, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String HASHRATE_RESALE_LIST = "/sapi/v1/mining/hash-transfer/config/details/list";
     /**
      * GET /sapi/v1/mining/hash-transfer/config/details/list
@@ -192,6 +268,16 @@ public class Mining {
         return requestHandler.sendSignedRequest(baseUrl, HASHRATE_RESALE_LIST, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #hashrateResaleList(Map)}.
+     * <br>
+     * @param parameters see {@link #hashrateResaleList(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> hashrateResaleListAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, HASHRATE_RESALE_LIST, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String HASHRATE_RESALE_DETAIL = "/sapi/v1/mining/hash-transfer/profit/details";
     /**
      * GET /sapi/v1/mining/hash-transfer/profit/details
@@ -215,6 +301,18 @@ public class Mining {
         return requestHandler.sendSignedRequest(baseUrl, HASHRATE_RESALE_DETAIL, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #hashrateResaleDetail(Map)}.
+     * <br>
+     * @param parameters see {@link #hashrateResaleDetail(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> hashrateResaleDetailAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "configId", Integer.class);
+        ParameterChecker.checkParameter(parameters, "userName", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, HASHRATE_RESALE_DETAIL, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String HASHRATE_RESALE_REQUEST = "/sapi/v1/mining/hash-transfer/config";
     /**
      * GET /sapi/v1/mining/hash-transfer/config
@@ -244,6 +342,22 @@ public class Mining {
         return requestHandler.sendSignedRequest(baseUrl, HASHRATE_RESALE_REQUEST, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #hashrateResaleRequest(Map)}.
+     * <br>
+     * @param parameters see {@link #hashrateResaleRequest(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> hashrateResaleRequestAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "userName", String.class);
+        ParameterChecker.checkParameter(parameters, "algo", String.class);
+        ParameterChecker.checkParameter(parameters, "endDate", Long.class);
+        ParameterChecker.checkParameter(parameters, "startDate", Long.class);
+        ParameterChecker.checkParameter(parameters, "toPoolUser", String.class);
+        ParameterChecker.checkParameter(parameters, "hashRate", Long.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, HASHRATE_RESALE_REQUEST, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String CANCEL_HASHRATE_RESALE_CONFIG = "/sapi/v1/mining/hash-transfer/config/cancel";
     /**
      * GET /sapi/v1/mining/hash-transfer/config/cancel
@@ -265,6 +379,18 @@ public class Mining {
         return requestHandler.sendSignedRequest(baseUrl, CANCEL_HASHRATE_RESALE_CONFIG, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #cancelHashrateResaleConfig(Map)}.
+     * <br>
+     * @param parameters see {@link #cancelHashrateResaleConfig(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> cancelHashrateResaleConfigAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "configId", Integer.class);
+        ParameterChecker.checkParameter(parameters, "userName", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, CANCEL_HASHRATE_RESALE_CONFIG, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String STATSTICS_LIST = "/sapi/v1/mining/statistics/user/status";
     /**
      * GET /sapi/v1/mining/statistics/user/status
@@ -286,6 +412,18 @@ public class Mining {
         return requestHandler.sendSignedRequest(baseUrl, STATSTICS_LIST, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #statsticsList(Map)}.
+     * <br>
+     * @param parameters see {@link #statsticsList(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> statsticsListAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "algo", String.class);
+        ParameterChecker.checkParameter(parameters, "userName", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, STATSTICS_LIST, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String ACCOUNT_LIST = "/sapi/v1/mining/statistics/user/list";
     /**
      * GET /sapi/v1/mining/statistics/user/list
@@ -307,6 +445,18 @@ public class Mining {
         return requestHandler.sendSignedRequest(baseUrl, ACCOUNT_LIST, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #accountList(Map)}.
+     * <br>
+     * @param parameters see {@link #accountList(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> accountListAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "algo", String.class);
+        ParameterChecker.checkParameter(parameters, "userName", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, ACCOUNT_LIST, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String ACCOUNT_EARNING = "/sapi/v1/mining/payment/uid";
     /**
      * GET /sapi/v1/mining/payment/uid
@@ -329,4 +479,15 @@ public class Mining {
         ParameterChecker.checkParameter(parameters, "algo", String.class);
         return requestHandler.sendSignedRequest(baseUrl, ACCOUNT_EARNING, parameters, HttpMethod.GET, showLimitUsage);
     }
+
+    /**
+     * Asynchronous version of {@link #accountEarning(Map)}.
+     * <br>
+     * @param parameters see {@link #accountEarning(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> accountEarningAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "algo", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, ACCOUNT_EARNING, parameters, HttpMethod.GET, showLimitUsage);
+    }
 }
@@ -1,6 +1,7 @@
 package com.binance.connector.client.impl.spot;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import com.binance.connector.client.enums.HttpMethod;
 import com.binance.connector.client.utils.ParameterChecker;
@@ -34,6 +35,12 @@ public class NFT {
         this.showLimitUsage = showLimitUsage;
     }
 
+    public NFT(String baseUrl, RequestHandler requestHandler, boolean showLimitUsage) {
+        this.baseUrl = baseUrl;
+        this.requestHandler = requestHandler;
+        this.showLimitUsage = showLimitUsage;
+    }
+
     private final String TRANSACTIONS = "/sapi/v1/nft/history/transactions";
     /**
      * GET /sapi/v1/pay/transactions
@@ -58,6 +65,17 @@ public class NFT {
         return requestHandler.sendSignedRequest(baseUrl, TRANSACTIONS, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #transactionsHistory(Map)}.
+     * <br>
+     * @param parameters see {@link #transactionsHistory(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> transactionsHistoryAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "orderType", Integer.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, TRANSACTIONS, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String DEPOSIT = "/sapi/v1/nft/history/deposit";
     /**
      * GET /sapi/v1/nft/history/deposit
@@ -79,6 +97,16 @@ public class NFT {
         return requestHandler.sendSignedRequest(baseUrl, DEPOSIT, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #depositHistory(Map)}.
+     * <br>
+     * @param parameters see {@link #depositHistory(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> depositHistoryAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, DEPOSIT, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String WITHDRAW = "/sapi/v1/nft/history/withdraw";
     /**
      * GET /sapi/v1/nft/history/withdraw
@@ -100,6 +128,16 @@ public class NFT {
         return requestHandler.sendSignedRequest(baseUrl, WITHDRAW, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #withdrawHistory(Map)}.
+     * <br>
+     * @param parameters see {@link #withdrawHistory(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> withdrawHistoryAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, WITHDRAW, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String GET_ASSET = "/sapi/v1/nft/user/getAsset";
     /**
      * GET /sapi/v1/nft/user/getAsset
@@ -118,4 +156,14 @@ public class NFT {
     public String getAsset(Map<String, Object> parameters) {
         return requestHandler.sendSignedRequest(baseUrl, GET_ASSET, parameters, HttpMethod.GET, showLimitUsage);
     }
+
+    /**
+     * Asynchronous version of {@link #getAsset(Map)}.
+     * <br>
+     * @param parameters see {@link #getAsset(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> getAssetAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, GET_ASSET, parameters, HttpMethod.GET, showLimitUsage);
+    }
 }
@@ -1,6 +1,7 @@
 package com.binance.connector.client.impl.spot;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import com.binance.connector.client.enums.HttpMethod;
 import com.binance.connector.client.utils.ProxyAuth;
@@ -33,6 +34,12 @@ public class Pay {
         this.showLimitUsage = showLimitUsage;
     }
 
+    public Pay(String baseUrl, RequestHandler requestHandler, boolean showLimitUsage) {
+        this.baseUrl = baseUrl;
+        this.requestHandler = requestHandler;
+        this.showLimitUsage = showLimitUsage;
+    }
+
     private final String TRANSACTIONS = "/sapi/v1/pay/transactions";
     /**
      * GET /sapi/v1/pay/transactions
@@ -52,4 +59,14 @@ public class Pay {
     public String transactions(Map<String, Object> parameters) {
         return requestHandler.sendSignedRequest(baseUrl, TRANSACTIONS, parameters, HttpMethod.GET, showLimitUsage);
     }
+
+    /**
+     * Asynchronous version of {@link #transactions(Map)}.
+     * <br>
+     * @param parameters see {@link #transactions(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> transactionsAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, TRANSACTIONS, parameters, HttpMethod.GET, showLimitUsage);
+    }
 }
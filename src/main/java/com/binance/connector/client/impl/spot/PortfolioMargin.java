@@ -1,6 +1,7 @@
 package com.binance.connector.client.impl.spot;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import com.binance.connector.client.enums.HttpMethod;
 import com.binance.connector.client.utils.ParameterChecker;
@@ -34,6 +35,12 @@ public class PortfolioMargin {
         this.showLimitUsage = showLimitUsage;
     }
 
+    public PortfolioMargin(String baseUrl, RequestHandler requestHandler, boolean showLimitUsage) {
+        this.baseUrl = baseUrl;
+        this.requestHandler = requestHandler;
+        this.showLimitUsage = showLimitUsage;
+    }
+
     private final String ACCOUNT = "/sapi/v1/portfolio/account";
     /**
      * GET /sapi/v1/portfolio/account
@@ -51,6 +58,16 @@ public class PortfolioMargin {
         return requestHandler.sendSignedRequest(baseUrl, ACCOUNT, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #getAccount(Map)}.
+     * <br>
+     * @param parameters see {@link #getAccount(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> getAccountAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, ACCOUNT, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String COLLATERAL_RATE = "/sapi/v1/portfolio/collateralRate";
     /**
      * Portfolio Margin Collateral Rate
@@ -70,6 +87,16 @@ public class PortfolioMargin {
         return requestHandler.sendSignedRequest(baseUrl, COLLATERAL_RATE, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #collateralRate(Map)}.
+     * <br>
+     * @param parameters see {@link #collateralRate(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> collateralRateAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, COLLATERAL_RATE, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String PM_LOAN = "/sapi/v1/portfolio/pmLoan";
     /**
      * Query Portfolio Margin Bankruptcy Loan Record
@@ -89,6 +116,16 @@ public class PortfolioMargin {
         return requestHandler.sendSignedRequest(baseUrl, PM_LOAN, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #bankruptcyLoanRecord(Map)}.
+     * <br>
+     * @param parameters see {@link #bankruptcyLoanRecord(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> bankruptcyLoanRecordAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, PM_LOAN, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String REPAY = "/sapi/v1/portfolio/repay";
     /**
      * Repay Portfolio Margin Bankruptcy Loan
@@ -109,6 +146,16 @@ public class PortfolioMargin {
         return requestHandler.sendSignedRequest(baseUrl, REPAY, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #repay(Map)}.
+     * <br>
+     * @param parameters see {@link #repay(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> repayAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, REPAY, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String INTEREST_HISTORY = "/sapi/v1/portfolio/interest-history";
     /**
      * Query interest history of negative balance for portfolio margin.
@@ -133,6 +180,16 @@ public class PortfolioMargin {
         return requestHandler.sendSignedRequest(baseUrl, INTEREST_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #interestHistory(Map)}.
+     * <br>
+     * @param parameters see {@link #interestHistory(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> interestHistoryAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, INTEREST_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String ASSET_INDEX_PRICE = "/sapi/v1/portfolio/asset-index-price";
     /**
      * Query Portfolio Margin Asset Index Price
@@ -153,6 +210,16 @@ public class PortfolioMargin {
         return requestHandler.sendApiRequest(baseUrl, ASSET_INDEX_PRICE, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #assetIndexPrice(Map)}.
+     * <br>
+     * @param parameters see {@link #assetIndexPrice(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> assetIndexPriceAsync(Map<String, Object> parameters) {
+        return requestHandler.sendApiRequestAsync(baseUrl, ASSET_INDEX_PRICE, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String AUTO_COLLECTION = "/sapi/v1/portfolio/auto-collection";
     /**
      * Transfers all assets from Futures Account to Margin account
@@ -175,6 +242,16 @@ public class PortfolioMargin {
         return requestHandler.sendSignedRequest(baseUrl, AUTO_COLLECTION, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #autoCollection(Map)}.
+     * <br>
+     * @param parameters see {@link #autoCollection(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> autoCollectionAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, AUTO_COLLECTION, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
 
     private final String ASSET_COLLECTION = "/sapi/v1/portfolio/asset-collection";
     /**
@@ -198,6 +275,17 @@ public class PortfolioMargin {
         return requestHandler.sendSignedRequest(baseUrl, ASSET_COLLECTION, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #assetCollection(Map)}.
+     * <br>
+     * @param parameters see {@link #assetCollection(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> assetCollectionAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "asset", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, ASSET_COLLECTION, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String BNB_TRANSFER = "/sapi/v1/portfolio/bnb-transfer";
     /**
      * BNB transfer can be between Margin Account and USDM Account
@@ -222,6 +310,18 @@ public class PortfolioMargin {
         return requestHandler.sendSignedRequest(baseUrl, BNB_TRANSFER, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #bnbTransfer(Map)}.
+     * <br>
+     * @param parameters see {@link #bnbTransfer(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> bnbTransferAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "transferSide", String.class);
+        ParameterChecker.checkRequiredParameter(parameters, "amount");
+        return requestHandler.sendSignedRequestAsync(baseUrl, BNB_TRANSFER, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String SWITCH_AUTO_REPAY_FUTURES = "/sapi/v1/portfolio/repay-futures-switch";
     /**
      * Change Auto-repay-futures Status
@@ -244,6 +344,17 @@ public class PortfolioMargin {
         return requestHandler.sendSignedRequest(baseUrl, SWITCH_AUTO_REPAY_FUTURES, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #switchAutoRepayFutures(Map)}.
+     * <br>
+     * @param parameters see {@link #switchAutoRepayFutures(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> switchAutoRepayFuturesAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkRequiredParameter(parameters, "autoRepay");
+        return requestHandler.sendSignedRequestAsync(baseUrl, SWITCH_AUTO_REPAY_FUTURES, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String AUTO_REPAY_FUTURES_STATUS = "/sapi/v1/portfolio/repay-futures-switch";
     /**
      * Query Auto-repay-futures Status
@@ -264,6 +375,16 @@ public class PortfolioMargin {
         return requestHandler.sendSignedRequest(baseUrl, AUTO_REPAY_FUTURES_STATUS, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #autoRepayFuturesStatus(Map)}.
+     * <br>
+     * @param parameters see {@link #autoRepayFuturesStatus(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> autoRepayFuturesStatusAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, AUTO_REPAY_FUTURES_STATUS, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String REPAY_FUTURES = "/sapi/v1/portfolio/repay-futures-negative-balance";
     /**
      * Repay futures Negative Balance
@@ -284,6 +405,16 @@ public class PortfolioMargin {
         return requestHandler.sendSignedRequest(baseUrl, REPAY_FUTURES, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #repayFutures(Map)}.
+     * <br>
+     * @param parameters see {@link #repayFutures(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> repayFuturesAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, REPAY_FUTURES, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String ASSET_LEVERAGE = "/sapi/v1/portfolio/margin-asset-leverage";
     /**
      * GET /sapi/v1/portfolio/margin-asset-leverage
@@ -295,4 +426,13 @@ public class PortfolioMargin {
     public String assetLeverage() {
         return requestHandler.sendSignedRequest(baseUrl, ASSET_LEVERAGE, null, HttpMethod.GET, showLimitUsage);
     }
+
+    /**
+     * Asynchronous version of {@link #assetLeverage()}.
+     * <br>
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> assetLeverageAsync() {
+        return requestHandler.sendSignedRequestAsync(baseUrl, ASSET_LEVERAGE, null, HttpMethod.GET, showLimitUsage);
+    }
 }
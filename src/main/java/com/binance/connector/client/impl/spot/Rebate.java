@@ -1,6 +1,7 @@
 package com.binance.connector.client.impl.spot;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import com.binance.connector.client.enums.HttpMethod;
 import com.binance.connector.client.utils.ProxyAuth;
@@ -33,6 +34,12 @@ public class Rebate {
         this.showLimitUsage = showLimitUsage;
     }
 
+    public Rebate(String baseUrl, RequestHandler requestHandler, boolean showLimitUsage) {
+        this.baseUrl = baseUrl;
+        this.requestHandler = requestHandler;
+        this.showLimitUsage = showLimitUsage;
+    }
+
     private final String TAX_QUERY = "/sapi/v1/rebate/taxQuery";
     /**
      * GET /sapi/v1/rebate/taxQuery
@@ -52,4 +59,14 @@ public class Rebate {
     public String taxQuery(Map<String, Object> parameters) {
         return requestHandler.sendSignedRequest(baseUrl, TAX_QUERY, parameters, HttpMethod.GET, showLimitUsage);
     }
+
+    /**
+     * Asynchronous version of {@link #taxQuery(Map)}.
+     * <br>
+     * @param parameters see {@link #taxQuery(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> taxQueryAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, TAX_QUERY, parameters, HttpMethod.GET, showLimitUsage);
+    }
 }
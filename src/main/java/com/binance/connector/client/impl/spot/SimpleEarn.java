@@ -1,6 +1,7 @@
 package com.binance.connector.client.impl.spot;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import com.binance.connector.client.enums.HttpMethod;
 import com.binance.connector.client.utils.ParameterChecker;
@@ -34,6 +35,12 @@ public class SimpleEarn {
         this.showLimitUsage = showLimitUsage;
     }
 
+    public SimpleEarn(String baseUrl, RequestHandler requestHandler, boolean showLimitUsage) {
+        this.baseUrl = baseUrl;
+        this.requestHandler = requestHandler;
+        this.showLimitUsage = showLimitUsage;
+    }
+
     private final String FLEXIBLE_PRODUCT_LIST = "/sapi/v1/simple-earn/flexible/list";
     /**
      * Get available Simple Earn flexible product list
@@ -56,6 +63,16 @@ public class SimpleEarn {
         return requestHandler.sendSignedRequest(baseUrl, FLEXIBLE_PRODUCT_LIST, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #flexibleProductList(Map)}.
+     * <br>
+     * @param parameters see {@link #flexibleProductList(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> flexibleProductListAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, FLEXIBLE_PRODUCT_LIST, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String LOCKED_PRODUCT_LIST = "/sapi/v1/simple-earn/locked/list";
     /**
      * GET /sapi/v1/simple-earn/locked/list
@@ -76,6 +93,16 @@ public class SimpleEarn {
         return requestHandler.sendSignedRequest(baseUrl, LOCKED_PRODUCT_LIST, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #lockedProductList(Map)}.
+     * <br>
+     * @param parameters see {@link #lockedProductList(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> lockedProductListAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, LOCKED_PRODUCT_LIST, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String SUBSCRIBE_FLEXIBLE_PRODUCT = "/sapi/v1/simple-earn/flexible/subscribe";
     /**
      * POST /sapi/v1/simple-earn/flexible/subscribe
@@ -99,6 +126,18 @@ public class SimpleEarn {
         return requestHandler.sendSignedRequest(baseUrl, SUBSCRIBE_FLEXIBLE_PRODUCT, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #subscribeFlexibleProduct(Map)}.
+     * <br>
+     * @param parameters see {@link #subscribeFlexibleProduct(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> subscribeFlexibleProductAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "productId", String.class);
+        ParameterChecker.checkRequiredParameter(parameters, "amount");
+        return requestHandler.sendSignedRequestAsync(baseUrl, SUBSCRIBE_FLEXIBLE_PRODUCT, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String SUBSCRIBE_LOCKED_PRODUCT = "/sapi/v1/simple-earn/locked/subscribe";
     /**
      * POST /sapi/v1/simple-earn/locked/subscribe
@@ -122,6 +161,18 @@ public class SimpleEarn {
         return requestHandler.sendSignedRequest(baseUrl, SUBSCRIBE_LOCKED_PRODUCT, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #subscribeLockedProduct(Map)}.
+     * <br>
+     * @param parameters see {@link #subscribeLockedProduct(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> subscribeLockedProductAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "projectId", String.class);
+        ParameterChecker.checkRequiredParameter(parameters, "amount");
+        return requestHandler.sendSignedRequestAsync(baseUrl, SUBSCRIBE_LOCKED_PRODUCT, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String REDEEM_FLEXIBLE_PRODUCT = "/sapi/v1/simple-earn/flexible/redeem";
     /**
      * POST /sapi/v1/simple-earn/flexible/redeem
@@ -144,6 +195,17 @@ public class SimpleEarn {
         return requestHandler.sendSignedRequest(baseUrl, REDEEM_FLEXIBLE_PRODUCT, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #redeemFlexibleProduct(Map)}.
+     * <br>
+     * @param parameters see {@link #redeemFlexibleProduct(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> redeemFlexibleProductAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "productId", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, REDEEM_FLEXIBLE_PRODUCT, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String REDEEM_LOCKED_PRODUCT = "/sapi/v1/simple-earn/locked/redeem";
     /**
      * POST /sapi/v1/simple-earn/locked/redeem
@@ -163,6 +225,17 @@ public class SimpleEarn {
         return requestHandler.sendSignedRequest(baseUrl, REDEEM_LOCKED_PRODUCT, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #redeemLockedProduct(Map)}.
+     * <br>
+     * @param parameters see {@link #redeemLockedProduct(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> redeemLockedProductAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "positionId", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, REDEEM_LOCKED_PRODUCT, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String FLEXIBLE_PRODUCT_POSITION = "/sapi/v1/simple-earn/flexible/position";
     /**
      * GET /sapi/v1/simple-earn/flexible/position
@@ -184,6 +257,16 @@ public class SimpleEarn {
         return requestHandler.sendSignedRequest(baseUrl, FLEXIBLE_PRODUCT_POSITION, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #flexibleProductPosition(Map)}.
+     * <br>
+     * @param parameters see {@link #flexibleProductPosition(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> flexibleProductPositionAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, FLEXIBLE_PRODUCT_POSITION, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String LOCKED_PRODUCT_POSITION = "/sapi/v1/simple-earn/locked/position";
     /**
      * GET /sapi/v1/simple-earn/locked/position
@@ -206,6 +289,16 @@ public class SimpleEarn {
         return requestHandler.sendSignedRequest(baseUrl, LOCKED_PRODUCT_POSITION, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #lockedProductPosition(Map)}.
+     * <br>
+     * @param parameters see {@link #lockedProductPosition(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> lockedProductPositionAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, LOCKED_PRODUCT_POSITION, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String SIMPLE_ACCOUNT = "/sapi/v1/simple-earn/account";
     /**
      * GET /sapi/v1/simple-earn/account
@@ -223,6 +316,16 @@ public class SimpleEarn {
         return requestHandler.sendSignedRequest(baseUrl, SIMPLE_ACCOUNT, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #simpleAccount(Map)}.
+     * <br>
+     * @param parameters see {@link #simpleAccount(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> simpleAccountAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, SIMPLE_ACCOUNT, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String FLEXIBLE_SUBSCRIPTION_RECORD = "/sapi/v1/simple-earn/flexible/history/subscriptionRecord";
     /**
      * GET /sapi/v1/simple-earn/flexible/history/subscriptionRecord
@@ -247,6 +350,16 @@ public class SimpleEarn {
         return requestHandler.sendSignedRequest(baseUrl, FLEXIBLE_SUBSCRIPTION_RECORD, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #flexibleSubscriptionRecord(Map)}.
+     * <br>
+     * @param parameters see {@link #flexibleSubscriptionRecord(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> flexibleSubscriptionRecordAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, FLEXIBLE_SUBSCRIPTION_RECORD, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String LOCKED_SUBSCRIPTION_RECORD = "/sapi/v1/simple-earn/locked/history/subscriptionRecord";
     /**
      * GET /sapi/v1/simple-earn/locked/history/subscriptionRecord
@@ -270,6 +383,16 @@ public class SimpleEarn {
         return requestHandler.sendSignedRequest(baseUrl, LOCKED_SUBSCRIPTION_RECORD, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #lockedSubscriptionRecord(Map)}.
+     * <br>
+     * @param parameters see {@link #lockedSubscriptionRecord(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> lockedSubscriptionRecordAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, LOCKED_SUBSCRIPTION_RECORD, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String FLEXIBLE_REDEMPTION_RECORD = "/sapi/v1/simple-earn/flexible/history/redemptionRecord";
     /**
      * GET /sapi/v1/simple-earn/flexible/history/redemptionRecord
@@ -293,6 +416,16 @@ public class SimpleEarn {
         return requestHandler.sendSignedRequest(baseUrl, FLEXIBLE_REDEMPTION_RECORD, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #flexibleRedemptionRecord(Map)}.
+     * <br>
+     * @param parameters see {@link #flexibleRedemptionRecord(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> flexibleRedemptionRecordAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, FLEXIBLE_REDEMPTION_RECORD, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String LOCKED_REDEMPTION_RECORD = "/sapi/v1/simple-earn/locked/history/redemptionRecord";
     /**
      * GET /sapi/v1/simple-earn/locked/history/redemptionRecord
@@ -317,6 +450,16 @@ public class SimpleEarn {
         return requestHandler.sendSignedRequest(baseUrl, LOCKED_REDEMPTION_RECORD, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #lockedRedemptionRecord(Map)}.
+     * <br>
+     * @param parameters see {@link #lockedRedemptionRecord(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> lockedRedemptionRecordAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, LOCKED_REDEMPTION_RECORD, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String FLEXIBLE_REWARDS_HISTORY = "/sapi/v1/simple-earn/flexible/history/rewardsRecord";
     /**
      * GET /sapi/v1/simple-earn/flexible/history/rewardsRecord
@@ -341,6 +484,17 @@ public class SimpleEarn {
         return requestHandler.sendSignedRequest(baseUrl, FLEXIBLE_REWARDS_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #flexibleRewardsHistory(Map)}.
+     * <br>
+     * @param parameters see {@link #flexibleRewardsHistory(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> flexibleRewardsHistoryAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "type", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, FLEXIBLE_REWARDS_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String LOCKED_REWARDS_HISTORY = "/sapi/v1/simple-earn/locked/history/rewardsRecord";
     /**
      * GET /sapi/v1/simple-earn/locked/history/rewardsRecord
@@ -364,6 +518,16 @@ public class SimpleEarn {
         return requestHandler.sendSignedRequest(baseUrl, LOCKED_REWARDS_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #lockedRewardsHistory(Map)}.
+     * <br>
+     * @param parameters see {@link #lockedRewardsHistory(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> lockedRewardsHistoryAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, LOCKED_REWARDS_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String SET_FLEXIBLE_AUTO_SUBSCRIBE = "/sapi/v1/simple-earn/flexible/setAutoSubscribe";
     /**
      * POST /sapi/v1/simple-earn/flexible/setAutoSubscribe
@@ -385,6 +549,18 @@ public class SimpleEarn {
         return requestHandler.sendSignedRequest(baseUrl, SET_FLEXIBLE_AUTO_SUBSCRIBE, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #setFlexibleAutoSubscribe(Map)}.
+     * <br>
+     * @param parameters see {@link #setFlexibleAutoSubscribe(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> setFlexibleAutoSubscribeAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "productId", String.class);
+        ParameterChecker.checkParameter(parameters, "autoSubscribe", Boolean.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, SET_FLEXIBLE_AUTO_SUBSCRIBE, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String SET_LOCKED_AUTO_SUBSCRIBE = "/sapi/v1/simple-earn/locked/setAutoSubscribe";
     /**
      * POST /sapi/v1/simple-earn/locked/setAutoSubscribe
@@ -406,6 +582,18 @@ public class SimpleEarn {
         return requestHandler.sendSignedRequest(baseUrl, SET_LOCKED_AUTO_SUBSCRIBE, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #setLockedAutoSubscribe(Map)}.
+     * <br>
+     * @param parameters see {@link #setLockedAutoSubscribe(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> setLockedAutoSubscribeAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "positionId", String.class);
+        ParameterChecker.checkParameter(parameters, "autoSubscribe", Boolean.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, SET_LOCKED_AUTO_SUBSCRIBE, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String FLEXIBLE_PERSONAL_LEFT_QUOTA = "/sapi/v1/simple-earn/flexible/personalLeftQuota";
     /**
      * GET /sapi/v1/simple-earn/flexible/personalLeftQuota
@@ -425,6 +613,17 @@ public class SimpleEarn {
         return requestHandler.sendSignedRequest(baseUrl, FLEXIBLE_PERSONAL_LEFT_QUOTA, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #flexiblePersonalLeftQuota(Map)}.
+     * <br>
+     * @param parameters see {@link #flexiblePersonalLeftQuota(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> flexiblePersonalLeftQuotaAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "productId", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, FLEXIBLE_PERSONAL_LEFT_QUOTA, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String LOCKED_PERSONAL_LEFT_QUOTA = "/sapi/v1/simple-earn/locked/personalLeftQuota";
     /**
      * GET /sapi/v1/simple-earn/locked/personalLeftQuota
@@ -444,6 +643,17 @@ public class SimpleEarn {
         return requestHandler.sendSignedRequest(baseUrl, LOCKED_PERSONAL_LEFT_QUOTA, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #lockedPersonalLeftQuota(Map)}.
+     * <br>
+     * @param parameters see {@link #lockedPersonalLeftQuota(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> lockedPersonalLeftQuotaAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "projectId", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, LOCKED_PERSONAL_LEFT_QUOTA, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String FLEXIBLE_SUBSCRIPTION_PREVIEW = "/sapi/v1/simple-earn/flexible/subscriptionPreview";
     /**
      * GET /sapi/v1/simple-earn/flexible/subscriptionPreview
@@ -465,6 +675,18 @@ public class SimpleEarn {
         return requestHandler.sendSignedRequest(baseUrl, FLEXIBLE_SUBSCRIPTION_PREVIEW, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #flexibleSubscriptionPreview(Map)}.
+     * <br>
+     * @param parameters see {@link #flexibleSubscriptionPreview(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> flexibleSubscriptionPreviewAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "productId", String.class);
+        ParameterChecker.checkRequiredParameter(parameters, "amount");
+        return requestHandler.sendSignedRequestAsync(baseUrl, FLEXIBLE_SUBSCRIPTION_PREVIEW, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String LOCKED_SUBSCRIPTION_PREVIEW = "/sapi/v1/simple-earn/locked/subscriptionPreview";
     /**
      * GET /sapi/v1/simple-earn/locked/subscriptionPreview
@@ -487,6 +709,18 @@ public class SimpleEarn {
         return requestHandler.sendSignedRequest(baseUrl, LOCKED_SUBSCRIPTION_PREVIEW, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #lockedSubscriptionPreview(Map)}.
+     * <br>
+     * @param parameters see {@link #lockedSubscriptionPreview(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> lockedSubscriptionPreviewAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "projectId", String.class);
+        ParameterChecker.checkRequiredParameter(parameters, "amount");
+        return requestHandler.sendSignedRequestAsync(baseUrl, LOCKED_SUBSCRIPTION_PREVIEW, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String RATE_HISTORY = "/sapi/v1/simple-earn/flexible/history/rateHistory";
     /**
      * GET /sapi/v1/simple-earn/flexible/history/rateHistory
@@ -510,6 +744,17 @@ public class SimpleEarn {
         return requestHandler.sendSignedRequest(baseUrl, RATE_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #rateHistory(Map)}.
+     * <br>
+     * @param parameters see {@link #rateHistory(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> rateHistoryAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "productId", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, RATE_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String COLLATERAL_RECORD = "/sapi/v1/simple-earn/flexible/history/collateralRecord";
     /**
      * GET /sapi/v1/simple-earn/flexible/history/collateralRecord
@@ -531,4 +776,14 @@ public class SimpleEarn {
     public String collateralRecord(Map<String, Object> parameters) {
         return requestHandler.sendSignedRequest(baseUrl, COLLATERAL_RECORD, parameters, HttpMethod.GET, showLimitUsage);
     }
+
+    /**
+     * Asynchronous version of {@link #collateralRecord(Map)}.
+     * <br>
+     * @param parameters see {@link #collateralRecord(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> collateralRecordAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, COLLATERAL_RECORD, parameters, HttpMethod.GET, showLimitUsage);
+    }
 }
@@ -1,6 +1,7 @@
 package com.binance.connector.client.impl.spot;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import com.binance.connector.client.enums.HttpMethod;
 import com.binance.connector.client.utils.ParameterChecker;
@@ -34,6 +35,12 @@ public class SpotAlgo {
         this.showLimitUsage = showLimitUsage;
     }
 
+    public SpotAlgo(String baseUrl, RequestHandler requestHandler, boolean showLimitUsage) {
+        this.baseUrl = baseUrl;
+        this.requestHandler = requestHandler;
+        this.showLimitUsage = showLimitUsage;
+    }
+
     private final String TWAP_ORDER = "/sapi/v1/algo/spot/newOrderTwap";
     /**
      * Place a new spot TWAP order with Algo service.
@@ -65,6 +72,20 @@ public class SpotAlgo {
         return requestHandler.sendSignedRequest(baseUrl, TWAP_ORDER, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #twapOrder(Map)}.
+     * <br>
+     * @param parameters see {@link #twapOrder(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> twapOrderAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        ParameterChecker.checkParameter(parameters, "side", String.class);
+        ParameterChecker.checkRequiredParameter(parameters, "quantity");
+        ParameterChecker.checkParameter(parameters, "duration", Long.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, TWAP_ORDER, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String CANCEL_ORDER = "/sapi/v1/algo/spot/order";
     /**
      * Cancel an open TWAP order
@@ -87,6 +108,17 @@ public class SpotAlgo {
         return requestHandler.sendPublicRequest(baseUrl, CANCEL_ORDER, parameters, HttpMethod.DELETE, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #cancelOrder(Map)}.
+     * <br>
+     * @param parameters see {@link #cancelOrder(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> cancelOrderAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "algoId", Long.class);
+        return requestHandler.sendPublicRequestAsync(baseUrl, CANCEL_ORDER, parameters, HttpMethod.DELETE, showLimitUsage);
+    }
+
     private final String OPEN_ORDERS = "/sapi/v1/algo/spot/openOrders";
     /**
      * Get all open SPOT TWAP orders
@@ -107,6 +139,16 @@ public class SpotAlgo {
         return requestHandler.sendPublicRequest(baseUrl, OPEN_ORDERS, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #getOpenOrders(Map)}.
+     * <br>
+     * @param parameters see {@link #getOpenOrders(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> getOpenOrdersAsync(Map<String, Object> parameters) {
+        return requestHandler.sendPublicRequestAsync(baseUrl, OPEN_ORDERS, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String HISTORICAL_ORDERS = "/sapi/v1/algo/spot/historicalOrders";
     /**
      * Get all historical SPOT TWAP orders
@@ -133,6 +175,16 @@ public class SpotAlgo {
         return requestHandler.sendPublicRequest(baseUrl, HISTORICAL_ORDERS, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #getHistoricalOrders(Map)}.
+     * <br>
+     * @param parameters see {@link #getHistoricalOrders(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> getHistoricalOrdersAsync(Map<String, Object> parameters) {
+        return requestHandler.sendPublicRequestAsync(baseUrl, HISTORICAL_ORDERS, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String SUB_ORDERS = "/sapi/v1/algo/spot/subOrders";
     /**
      * Get respective sub orders for a specified algoId
@@ -156,4 +208,15 @@ public class SpotAlgo {
         ParameterChecker.checkParameter(parameters, "algoId", Long.class);
         return requestHandler.sendPublicRequest(baseUrl, SUB_ORDERS, parameters, HttpMethod.GET, showLimitUsage);
     }
+
+    /**
+     * Asynchronous version of {@link #getSubOrders(Map)}.
+     * <br>
+     * @param parameters see {@link #getSubOrders(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> getSubOrdersAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "algoId", Long.class);
+        return requestHandler.sendPublicRequestAsync(baseUrl, SUB_ORDERS, parameters, HttpMethod.GET, showLimitUsage);
+    }
 }
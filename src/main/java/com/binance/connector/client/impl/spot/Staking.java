@@ -1,6 +1,7 @@
 package com.binance.connector.client.impl.spot;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import com.binance.connector.client.enums.HttpMethod;
 import com.binance.connector.client.utils.ParameterChecker;
@@ -34,6 +35,12 @@ public class Staking {
         this.showLimitUsage = showLimitUsage;
     }
 
+    public Staking(String baseUrl, RequestHandler requestHandler, boolean showLimitUsage) {
+        this.baseUrl = baseUrl;
+        this.requestHandler = requestHandler;
+        this.showLimitUsage = showLimitUsage;
+    }
+
     private final String SUB_ETH_STAKING = "/sapi/v2/eth-staking/eth/stake";
     /**
      * Stake ETH to get WBETH
@@ -56,6 +63,17 @@ public class Staking {
         return requestHandler.sendSignedRequest(baseUrl, SUB_ETH_STAKING, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #subEthStaking(Map)}.
+     * <br>
+     * @param parameters see {@link #subEthStaking(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> subEthStakingAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkRequiredParameter(parameters, "amount");
+        return requestHandler.sendSignedRequestAsync(baseUrl, SUB_ETH_STAKING, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String REDEEM_ETH = "/sapi/v1/eth-staking/eth/redeem";
     /**
      * Redeem WBETH or BETH and get ETH
@@ -79,6 +97,17 @@ public class Staking {
         return requestHandler.sendSignedRequest(baseUrl, REDEEM_ETH, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #redeemEthStaking(Map)}.
+     * <br>
+     * @param parameters see {@link #redeemEthStaking(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> redeemEthStakingAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkRequiredParameter(parameters, "amount");
+        return requestHandler.sendSignedRequestAsync(baseUrl, REDEEM_ETH, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String ETH_STAKING_HISTORY = "/sapi/v1/eth-staking/eth/history/stakingHistory";
     /**
      * GET /sapi/v1/eth-staking/eth/history/stakingHistory
@@ -100,6 +129,16 @@ public class Staking {
         return requestHandler.sendSignedRequest(baseUrl, ETH_STAKING_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #ethStakingSubHistory(Map)}.
+     * <br>
+     * @param parameters see {@link #ethStakingSubHistory(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> ethStakingSubHistoryAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, ETH_STAKING_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String ETH_STAKING_REDEEM_HISTORY = "/sapi/v1/eth-staking/eth/history/redemptionHistory";
     /**
      * GET /sapi/v1/eth-staking/eth/history/redemptionHistory
@@ -121,6 +160,16 @@ public class Staking {
         return requestHandler.sendSignedRequest(baseUrl, ETH_STAKING_REDEEM_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #ethStakingRedeemHistory(Map)}.
+     * <br>
+     * @param parameters see {@link #ethStakingRedeemHistory(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> ethStakingRedeemHistoryAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, ETH_STAKING_REDEEM_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String ETH_STAKING_REWARDS_HISTORY = "/sapi/v1/eth-staking/eth/history/rewardsHistory";
     /**
      * GET /sapi/v1/eth-staking/eth/history/rewardsHistory
@@ -142,6 +191,16 @@ public class Staking {
         return requestHandler.sendSignedRequest(baseUrl, ETH_STAKING_REWARDS_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #ethStakingRewardsHistory(Map)}.
+     * <br>
+     * @param parameters see {@link #ethStakingRewardsHistory(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> ethStakingRewardsHistoryAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, ETH_STAKING_REWARDS_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String ETH_STAKING_QUOTA = "/sapi/v1/eth-staking/eth/quota";
     /**
      * GET /sapi/v1/eth-staking/eth/quota
@@ -159,6 +218,16 @@ public class Staking {
         return requestHandler.sendSignedRequest(baseUrl, ETH_STAKING_QUOTA, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #ethStakingQuota(Map)}.
+     * <br>
+     * @param parameters see {@link #ethStakingQuota(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> ethStakingQuotaAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, ETH_STAKING_QUOTA, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String ETH_STAKING_RATE_HISTORY = "/sapi/v1/eth-staking/eth/history/rateHistory";
     /**
      * GET /sapi/v1/eth-staking/eth/history/rateHistory
@@ -180,6 +249,16 @@ public class Staking {
         return requestHandler.sendSignedRequest(baseUrl, ETH_STAKING_RATE_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #ethStakingRateHistory(Map)}.
+     * <br>
+     * @param parameters see {@link #ethStakingRateHistory(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> ethStakingRateHistoryAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, ETH_STAKING_RATE_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String ETH_STAKING_ACCOUNT = "/sapi/v2/eth-staking/account";
     /**
      * GET /sapi/v2/eth-staking/account
@@ -197,6 +276,16 @@ public class Staking {
         return requestHandler.sendSignedRequest(baseUrl, ETH_STAKING_ACCOUNT, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #ethStakingAccount(Map)}.
+     * <br>
+     * @param parameters see {@link #ethStakingAccount(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> ethStakingAccountAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, ETH_STAKING_ACCOUNT, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String WRAP_WBETH = "/sapi/v1/eth-staking/wbeth/wrap";
     /**
      * POST /sapi/v1/eth-staking/wbeth/wrap
@@ -216,6 +305,17 @@ public class Staking {
         return requestHandler.sendSignedRequest(baseUrl, WRAP_WBETH, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #wrapEthStakingWbeth(Map)}.
+     * <br>
+     * @param parameters see {@link #wrapEthStakingWbeth(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> wrapEthStakingWbethAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkRequiredParameter(parameters, "amount");
+        return requestHandler.sendSignedRequestAsync(baseUrl, WRAP_WBETH, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String ETH_STAKING_WBETH_WRAP_HISTORY = "/sapi/v1/eth-staking/wbeth/history/wrapHistory";
     /**
      * GET /sapi/v1/eth-staking/wbeth/history/wrapHistory
@@ -237,6 +337,16 @@ public class Staking {
         return requestHandler.sendSignedRequest(baseUrl, ETH_STAKING_WBETH_WRAP_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #ethStakingWbethWrapHistory(Map)}.
+     * <br>
+     * @param parameters see {@link #ethStakingWbethWrapHistory(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> ethStakingWbethWrapHistoryAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, ETH_STAKING_WBETH_WRAP_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String ETH_STAKING_WBETH_UNWRAP_HISTORY = "/sapi/v1/eth-staking/wbeth/history/unwrapHistory";
     /**
      * GET /sapi/v1/eth-staking/wbeth/history/unwrapHistory
@@ -258,6 +368,16 @@ public class Staking {
         return requestHandler.sendSignedRequest(baseUrl, ETH_STAKING_WBETH_UNWRAP_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #ethStakingWbethUnwrapHistory(Map)}.
+     * <br>
+     * @param parameters see {@link #ethStakingWbethUnwrapHistory(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> ethStakingWbethUnwrapHistoryAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, ETH_STAKING_WBETH_UNWRAP_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String ETH_STAKING_WBETH_REWARD_HISTORY = "/sapi/v1/eth-staking/eth/history/wbethRewardsHistory";
     /**
      * GET /sapi/v1/eth-staking/eth/history/wbethRewardsHistory
@@ -278,4 +398,14 @@ public class Staking {
     public String ethStakingWbethRewardHistory(Map<String, Object> parameters) {
         return requestHandler.sendSignedRequest(baseUrl, ETH_STAKING_WBETH_REWARD_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
     }
+
+    /**
+     * Asynchronous version of {@link #ethStakingWbethRewardHistory(Map)}.
+     * <br>
+     * @param parameters see {@link #ethStakingWbethRewardHistory(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> ethStakingWbethRewardHistoryAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, ETH_STAKING_WBETH_REWARD_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
+    }
 }
@@ -1,6 +1,7 @@
 package com.binance.connector.client.impl.spot;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import com.binance.connector.client.enums.HttpMethod;
 import com.binance.connector.client.utils.ParameterChecker;
@@ -34,6 +35,12 @@ public class SubAccount {
         this.showLimitUsage = showLimitUsage;
     }
 
+    public SubAccount(String baseUrl, RequestHandler requestHandler, boolean showLimitUsage) {
+        this.baseUrl = baseUrl;
+        this.requestHandler = requestHandler;
+        this.showLimitUsage = showLimitUsage;
+    }
+
     private final String CREATE_SUB = "/sapi/v1/sub-account/virtualSubAccount";
     /**
      * POST /sapi/v1/sub-account/virtualSubAccount
@@ -53,6 +60,17 @@ public class SubAccount {
         return requestHandler.sendSignedRequest(baseUrl, CREATE_SUB, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #createVirtualSubAccount(Map)}.
+     * <br>
+     * @param parameters see {@link #createVirtualSubAccount(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> createVirtualSubAccountAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "subAccountString", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, CREATE_SUB, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String QUERY_SUB_LIST = "/sapi/v1/sub-account/list";
     /**
      * GET /sapi/v1/sub-account/list
@@ -74,6 +92,16 @@ public class SubAccount {
         return requestHandler.sendSignedRequest(baseUrl, QUERY_SUB_LIST, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #subAccountList(Map)}.
+     * <br>
+     * @param parameters see {@link #subAccountList(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> subAccountListAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, QUERY_SUB_LIST, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String QUERY_SPOT_TRANSFER_HIST = "/sapi/v1/sub-account/sub/transfer/history";
     /**
      * GET /sapi/v1/sub-account/sub/transfer/history
@@ -97,6 +125,16 @@ public class SubAccount {
         return requestHandler.sendSignedRequest(baseUrl, QUERY_SPOT_TRANSFER_HIST, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #spotTransferHistory(Map)}.
+     * <br>
+     * @param parameters see {@link #spotTransferHistory(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> spotTransferHistoryAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, QUERY_SPOT_TRANSFER_HIST, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String FUTURES_TRANSFER = "/sapi/v1/sub-account/futures/internalTransfer";
     /**
      * GET /sapi/v1/sub-account/futures/internalTransfer
@@ -122,6 +160,18 @@ public class SubAccount {
         return requestHandler.sendSignedRequest(baseUrl, FUTURES_TRANSFER, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #getFuturesInternalTransfer(Map)}.
+     * <br>
+     * @param parameters see {@link #getFuturesInternalTransfer(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> getFuturesInternalTransferAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "email", String.class);
+        ParameterChecker.checkParameter(parameters, "futuresType", Integer.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, FUTURES_TRANSFER, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     /**
      * POST /sapi/v1/sub-account/futures/internalTransfer
      * <br>
@@ -148,6 +198,21 @@ public class SubAccount {
         return requestHandler.sendSignedRequest(baseUrl, FUTURES_TRANSFER, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #futuresInternalTransfer(Map)}.
+     * <br>
+     * @param parameters see {@link #futuresInternalTransfer(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> futuresInternalTransferAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "fromEmail", String.class);
+        ParameterChecker.checkParameter(parameters, "toEmail", String.class);
+        ParameterChecker.checkParameter(parameters, "futuresType", Integer.class);
+        ParameterChecker.checkParameter(parameters, "asset", String.class);
+        ParameterChecker.checkRequiredParameter(parameters, "amount");
+        return requestHandler.sendSignedRequestAsync(baseUrl, FUTURES_TRANSFER, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String SUB_ACC_ASSETS = "/sapi/v3/sub-account/assets";
     /**
      * Fetch sub-account assets.
@@ -169,6 +234,17 @@ public class SubAccount {
         return requestHandler.sendSignedRequest(baseUrl, SUB_ACC_ASSETS, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #assets(Map)}.
+     * <br>
+     * @param parameters see {@link #assets(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> assetsAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "email", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, SUB_ACC_ASSETS, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String SPOT_ASSET_SUMMARY = "/sapi/v1/sub-account/spotSummary";
     /**
      * Get BTC valued asset summary of subaccounts.
@@ -191,6 +267,16 @@ public class SubAccount {
         return requestHandler.sendSignedRequest(baseUrl, SPOT_ASSET_SUMMARY, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #spotAccountSummary(Map)}.
+     * <br>
+     * @param parameters see {@link #spotAccountSummary(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> spotAccountSummaryAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, SPOT_ASSET_SUMMARY, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String SUB_DEPOSIT_ADDRESS = "/sapi/v1/capital/deposit/subAddress";
     /**
      * Fetch sub-account deposit address.
@@ -215,6 +301,18 @@ public class SubAccount {
         return requestHandler.sendSignedRequest(baseUrl, SUB_DEPOSIT_ADDRESS, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #depositAddress(Map)}.
+     * <br>
+     * @param parameters see {@link #depositAddress(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> depositAddressAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "email", String.class);
+        ParameterChecker.checkParameter(parameters, "coin", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, SUB_DEPOSIT_ADDRESS, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String SUB_DEPOSIT_HISTORY = "/sapi/v1/capital/deposit/subHisrec";
     /**
      * Fetch sub-account deposit history.
@@ -242,6 +340,17 @@ public class SubAccount {
         return requestHandler.sendSignedRequest(baseUrl, SUB_DEPOSIT_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #depositHistory(Map)}.
+     * <br>
+     * @param parameters see {@link #depositHistory(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> depositHistoryAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "email", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, SUB_DEPOSIT_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String SUB_ACC_STATUS = "/sapi/v1/sub-account/status";
     /**
      * GET /sapi/v1/sub-account/status
@@ -260,6 +369,16 @@ public class SubAccount {
         return requestHandler.sendSignedRequest(baseUrl, SUB_ACC_STATUS, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #accountStatus(Map)}.
+     * <br>
+     * @param parameters see {@link #accountStatus(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> accountStatusAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, SUB_ACC_STATUS, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String ENABLE_MARGIN = "/sapi/v1/sub-account/margin/enable";
     /**
      * POST /sapi/v1/sub-account/margin/enable
@@ -279,6 +398,17 @@ public class SubAccount {
         return requestHandler.sendSignedRequest(baseUrl, ENABLE_MARGIN, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #enableMargin(Map)}.
+     * <br>
+     * @param parameters see {@link #enableMargin(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> enableMarginAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "email", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, ENABLE_MARGIN, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String SUB_ACC_MARGIN = "/sapi/v1/sub-account/margin/account";
     /**
      * GET /sapi/v1/sub-account/margin/account
@@ -298,6 +428,17 @@ public class SubAccount {
         return requestHandler.sendSignedRequest(baseUrl, SUB_ACC_MARGIN, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #marginAccount(Map)}.
+     * <br>
+     * @param parameters see {@link #marginAccount(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> marginAccountAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "email", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, SUB_ACC_MARGIN, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String SUB_ACC_MARGIN_SUMMARY = "/sapi/v1/sub-account/margin/accountSummary";
     /**
      * GET /sapi/v1/sub-account/margin/accountSummary
@@ -315,6 +456,16 @@ public class SubAccount {
         return requestHandler.sendSignedRequest(baseUrl, SUB_ACC_MARGIN_SUMMARY, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #marginAccountSummary(Map)}.
+     * <br>
+     * @param parameters see {@link #marginAccountSummary(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> marginAccountSummaryAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, SUB_ACC_MARGIN_SUMMARY, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String ENABLE_FUTURES = "/sapi/v1/sub-account/futures/enable";
     /**
      * POST /sapi/v1/sub-account/futures/enable
@@ -334,6 +485,17 @@ public class SubAccount {
         return requestHandler.sendSignedRequest(baseUrl, ENABLE_FUTURES, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #enableFutures(Map)}.
+     * <br>
+     * @param parameters see {@link #enableFutures(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> enableFuturesAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "email", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, ENABLE_FUTURES, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String SUB_ACC_FUTURES = "/sapi/v1/sub-account/futures/account";
     /**
      * GET /sapi/v1/sub-account/futures/account
@@ -353,6 +515,17 @@ public class SubAccount {
         return requestHandler.sendSignedRequest(baseUrl, SUB_ACC_FUTURES, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #futuresAccount(Map)}.
+     * <br>
+     * @param parameters see {@link #futuresAccount(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> futuresAccountAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "email", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, SUB_ACC_FUTURES, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String SUB_ACC_FUTURES_SUMMARY = "/sapi/v1/sub-account/futures/accountSummary";
     /**
      * GET /sapi/v1/sub-account/futures/accountSummary
@@ -370,6 +543,16 @@ public class SubAccount {
         return requestHandler.sendSignedRequest(baseUrl, SUB_ACC_FUTURES_SUMMARY, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #futuresAccountSummary(Map)}.
+     * <br>
+     * @param parameters see {@link #futuresAccountSummary(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> futuresAccountSummaryAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, SUB_ACC_FUTURES_SUMMARY, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String SUB_ACC_POSITION_RISK = "/sapi/v1/sub-account/futures/positionRisk";
     /**
      * GET /sapi/v1/sub-account/futures/positionRisk
@@ -389,6 +572,17 @@ public class SubAccount {
         return requestHandler.sendSignedRequest(baseUrl, SUB_ACC_POSITION_RISK, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #futuresPositionRisk(Map)}.
+     * <br>
+     * @param parameters see {@link #futuresPositionRisk(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> futuresPositionRiskAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "email", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, SUB_ACC_POSITION_RISK, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String SUB_ACC_FUTURES_TRANSFER = "/sapi/v1/sub-account/futures/transfer";
     /**
      * POST /sapi/v1/sub-account/futures/transfer
@@ -416,6 +610,20 @@ public class SubAccount {
         return requestHandler.sendSignedRequest(baseUrl, SUB_ACC_FUTURES_TRANSFER, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #futuresTransfer(Map)}.
+     * <br>
+     * @param parameters see {@link #futuresTransfer(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> futuresTransferAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "email", String.class);
+        ParameterChecker.checkParameter(parameters, "asset", String.class);
+        ParameterChecker.checkRequiredParameter(parameters, "amount");
+        ParameterChecker.checkParameter(parameters, "type", Integer.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, SUB_ACC_FUTURES_TRANSFER, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String SUB_ACC_MARGIN_TRANSFER = "/sapi/v1/sub-account/margin/transfer";
     /**
      * POST /sapi/v1/sub-account/margin/transfer
@@ -441,6 +649,20 @@ public class SubAccount {
         return requestHandler.sendSignedRequest(baseUrl, SUB_ACC_MARGIN_TRANSFER, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #marginTransfer(Map)}.
+     * <br>
+     * @param parameters see {@link #marginTransfer(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> marginTransferAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "email", String.class);
+        ParameterChecker.checkParameter(parameters, "asset", String.class);
+        ParameterChecker.checkRequiredParameter(parameters, "amount");
+        ParameterChecker.checkParameter(parameters, "type", Integer.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, SUB_ACC_MARGIN_TRANSFER, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String SUB_TO_SUB = "/sapi/v1/sub-account/transfer/subToSub";
     /**
      * POST /sapi/v1/sub-account/transfer/subToSub
@@ -464,6 +686,19 @@ public class SubAccount {
         return requestHandler.sendSignedRequest(baseUrl, SUB_TO_SUB, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #subAccountToSubAccount(Map)}.
+     * <br>
+     * @param parameters see {@link #subAccountToSubAccount(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> subAccountToSubAccountAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "toEmail", String.class);
+        ParameterChecker.checkParameter(parameters, "asset", String.class);
+        ParameterChecker.checkRequiredParameter(parameters, "amount");
+        return requestHandler.sendSignedRequestAsync(baseUrl, SUB_TO_SUB, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String SUB_TO_MASTER = "/sapi/v1/sub-account/transfer/subToMaster";
     /**
      * POST /sapi/v1/sub-account/transfer/subToMaster
@@ -485,6 +720,18 @@ public class SubAccount {
         return requestHandler.sendSignedRequest(baseUrl, SUB_TO_MASTER, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #subAccountToMaster(Map)}.
+     * <br>
+     * @param parameters see {@link #subAccountToMaster(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> subAccountToMasterAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "asset", String.class);
+        ParameterChecker.checkRequiredParameter(parameters, "amount");
+        return requestHandler.sendSignedRequestAsync(baseUrl, SUB_TO_MASTER, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String SUB_TRANSFER_HIST = "/sapi/v1/sub-account/transfer/subUserHistory";
     /**
      * GET /sapi/v1/sub-account/transfer/subUserHistory
@@ -507,6 +754,16 @@ public class SubAccount {
         return requestHandler.sendSignedRequest(baseUrl, SUB_TRANSFER_HIST, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #transferHistory(Map)}.
+     * <br>
+     * @param parameters see {@link #transferHistory(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> transferHistoryAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, SUB_TRANSFER_HIST, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String SUB_UNIVERSAL_TRANSFER = "/sapi/v1/sub-account/universalTransfer";
     /**
      * POST /sapi/v1/sub-account/universalTransfer
@@ -535,6 +792,20 @@ public class SubAccount {
         return requestHandler.sendSignedRequest(baseUrl, SUB_UNIVERSAL_TRANSFER, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #universalTransfer(Map)}.
+     * <br>
+     * @param parameters see {@link #universalTransfer(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> universalTransferAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "fromAccountType", String.class);
+        ParameterChecker.checkParameter(parameters, "toAccountType", String.class);
+        ParameterChecker.checkParameter(parameters, "asset", String.class);
+        ParameterChecker.checkRequiredParameter(parameters, "amount");
+        return requestHandler.sendSignedRequestAsync(baseUrl, SUB_UNIVERSAL_TRANSFER, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     /**
      * GET /sapi/v1/sub-account/universalTransfer
      * <br>
@@ -558,6 +829,16 @@ public class SubAccount {
         return requestHandler.sendSignedRequest(baseUrl, SUB_UNIVERSAL_TRANSFER, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #queryUniversalTransfer(Map)}.
+     * <br>
+     * @param parameters see {@link #queryUniversalTransfer(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> queryUniversalTransferAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, SUB_UNIVERSAL_TRANSFER, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String SUB_FUTURES_ACCOUNT_V2 = "/sapi/v2/sub-account/futures/account";
     /**
      * GET /sapi/v2/sub-account/futures/account
@@ -579,6 +860,18 @@ public class SubAccount {
         return requestHandler.sendSignedRequest(baseUrl, SUB_FUTURES_ACCOUNT_V2, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #futuresAccountV2(Map)}.
+     * <br>
+     * @param parameters see {@link #futuresAccountV2(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> futuresAccountV2Async(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "email", String.class);
+        ParameterChecker.checkParameter(parameters, "futuresType", Integer.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, SUB_FUTURES_ACCOUNT_V2, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String SUB_FUTURES_ACCOUNT_SUMMARY_V2 = "/sapi/v2/sub-account/futures/accountSummary";
     /**
      * GET /sapi/v2/sub-account/futures/accountSummary
@@ -600,6 +893,17 @@ public class SubAccount {
         return requestHandler.sendSignedRequest(baseUrl, SUB_FUTURES_ACCOUNT_SUMMARY_V2, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #futuresAccountSummaryV2(Map)}.
+     * <br>
+     * @param parameters see {@link #futuresAccountSummaryV2(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> futuresAccountSummaryV2Async(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "futuresType", Integer.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, SUB_FUTURES_ACCOUNT_SUMMARY_V2, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String SUB_FUTURES_POSITION_RISK_V2 = "/sapi/v2/sub-account/futures/positionRisk";
     /**
      * GET /sapi/v2/sub-account/futures/positionRisk
@@ -621,6 +925,18 @@ public class SubAccount {
         return requestHandler.sendSignedRequest(baseUrl, SUB_FUTURES_POSITION_RISK_V2, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #futuresPositionRiskV2(Map)}.
+     * <br>
+     * @param parameters see {@link #futuresPositionRiskV2(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> futuresPositionRiskV2Async(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "email", String.class);
+        ParameterChecker.checkParameter(parameters, "futuresType", Integer.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, SUB_FUTURES_POSITION_RISK_V2, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String ENABLE_LEVERAGE = "/sapi/v1/sub-account/blvt/enable";
     /**
      * GET /sapi/v2/sub-account/futures/positionRisk
@@ -642,6 +958,18 @@ public class SubAccount {
         return requestHandler.sendSignedRequest(baseUrl, ENABLE_LEVERAGE, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #enableLeverageToken(Map)}.
+     * <br>
+     * @param parameters see {@link #enableLeverageToken(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> enableLeverageTokenAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "email", String.class);
+        ParameterChecker.checkParameter(parameters, "enableBlvt", Boolean.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, ENABLE_LEVERAGE, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String IP_RESTRICTION = "/sapi/v1/sub-account/subAccountApi/ipRestriction";
     /**
      * GET /sapi/v1/sub-account/subAccountApi/ipRestriction
@@ -663,6 +991,18 @@ public class SubAccount {
         return requestHandler.sendSignedRequest(baseUrl, IP_RESTRICTION, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #getIpRestriction(Map)}.
+     * <br>
+     * @param parameters see {@link #getIpRestriction(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> getIpRestrictionAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "email", String.class);
+        ParameterChecker.checkParameter(parameters, "subAccountApiKey", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, IP_RESTRICTION, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String IP_LIST = "/sapi/v1/sub-account/subAccountApi/ipRestriction/ipList";
     /**
      * DELETE /sapi/v1/sub-account/subAccountApi/ipRestriction/ipList
@@ -685,6 +1025,18 @@ public class SubAccount {
         return requestHandler.sendSignedRequest(baseUrl, IP_LIST, parameters, HttpMethod.DELETE, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #deleteIpList(Map)}.
+     * <br>
+     * @param parameters see {@link #deleteIpList(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> deleteIpListAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "email", String.class);
+        ParameterChecker.checkParameter(parameters, "subAccountApiKey", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, IP_LIST, parameters, HttpMethod.DELETE, showLimitUsage);
+    }
+
     private final String MANAGED_SUB_DEPOSIT = "/sapi/v1/managed-subaccount/deposit";
     /**
      * POST /sapi/v1/managed-subaccount/deposit
@@ -708,6 +1060,19 @@ public class SubAccount {
         return requestHandler.sendSignedRequest(baseUrl, MANAGED_SUB_DEPOSIT, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #managedSubDeposit(Map)}.
+     * <br>
+     * @param parameters see {@link #managedSubDeposit(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> managedSubDepositAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "toEmail", String.class);
+        ParameterChecker.checkParameter(parameters, "asset", String.class);
+        ParameterChecker.checkRequiredParameter(parameters, "amount");
+        return requestHandler.sendSignedRequestAsync(baseUrl, MANAGED_SUB_DEPOSIT, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String MANAGED_SUB_DETAILS = "/sapi/v1/managed-subaccount/asset";
     /**
      * GET /sapi/v1/managed-subaccount/asset
@@ -727,6 +1092,17 @@ public class SubAccount {
         return requestHandler.sendSignedRequest(baseUrl, MANAGED_SUB_DETAILS, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #managedSubDetails(Map)}.
+     * <br>
+     * @param parameters see {@link #managedSubDetails(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> managedSubDetailsAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "email", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, MANAGED_SUB_DETAILS, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String MANAGED_SUB_WITHDRAW = "/sapi/v1/managed-subaccount/withdraw";
     /**
      * POST /sapi/v1/managed-subaccount/withdraw
@@ -752,6 +1128,19 @@ public class SubAccount {
         return requestHandler.sendSignedRequest(baseUrl, MANAGED_SUB_WITHDRAW, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #managedSubWithdraw(Map)}.
+     * <br>
+     * @param parameters see {@link #managedSubWithdraw(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> managedSubWithdrawAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "fromEmail", String.class);
+        ParameterChecker.checkParameter(parameters, "asset", String.class);
+        ParameterChecker.checkRequiredParameter(parameters, "amount");
+        return requestHandler.sendSignedRequestAsync(baseUrl, MANAGED_SUB_WITHDRAW, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String MANAGED_SUB_SNAPSHOT = "/sapi/v1/managed-subaccount/accountSnapshot";
     /**
      * GET /sapi/v1/managed-subaccount/accountSnapshot
@@ -776,6 +1165,18 @@ public class SubAccount {
         return requestHandler.sendSignedRequest(baseUrl, MANAGED_SUB_SNAPSHOT, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #managedSubAccountSnapshot(Map)}.
+     * <br>
+     * @param parameters see {@link #managedSubAccountSnapshot(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> managedSubAccountSnapshotAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "email", String.class);
+        ParameterChecker.checkParameter(parameters, "type", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, MANAGED_SUB_SNAPSHOT, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String IP_RESTRICTION_V2 = "/sapi/v2/sub-account/subAccountApi/ipRestriction";
     /**
      * POST /sapi/v2/sub-account/subAccountApi/ipRestriction
@@ -799,4 +1200,17 @@ public class SubAccount {
         ParameterChecker.checkParameter(parameters, "status", String.class);
         return requestHandler.sendSignedRequest(baseUrl, IP_RESTRICTION_V2, parameters, HttpMethod.POST, showLimitUsage);
     }
+
+    /**
+     * Asynchronous version of {@link #updateIpRestriction(Map)}.
+     * <br>
+     * @param parameters see {@link #updateIpRestriction(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> updateIpRestrictionAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "email", String.class);
+        ParameterChecker.checkParameter(parameters, "subAccountApiKey", String.class);
+        ParameterChecker.checkParameter(parameters, "status", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, IP_RESTRICTION_V2, parameters, HttpMethod.POST, showLimitUsage);
+    }
 }
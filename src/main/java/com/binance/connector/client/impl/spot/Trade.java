@@ -1,8 +1,11 @@
 package com.binance.connector.client.impl.spot;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import com.binance.connector.client.enums.HttpMethod;
+import com.binance.connector.client.requests.NewOrderRequest;
+import com.binance.connector.client.utils.BinanceResponse;
 import com.binance.connector.client.utils.ParameterChecker;
 import com.binance.connector.client.utils.ProxyAuth;
 import com.binance.connector.client.utils.RequestHandler;
@@ -34,6 +37,12 @@ public class Trade {
         this.showLimitUsage = showLimitUsage;
     }
 
+    public Trade(String baseUrl, RequestHandler requestHandler, boolean showLimitUsage) {
+        this.baseUrl = baseUrl;
+        this.requestHandler = requestHandler;
+        this.showLimitUsage = showLimitUsage;
+    }
+
     private final String TEST_NEW_ORDER = "/api/v3/order/test";
     /**
      * Test new order creation and signature/recvWindow long.
@@ -58,6 +67,43 @@ public class Trade {
         return requestHandler.sendSignedRequest(baseUrl, TEST_NEW_ORDER, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #testNewOrder(Map)}.
+     * <br>
+     * @param parameters see {@link #testNewOrder(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> testNewOrderAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        ParameterChecker.checkParameter(parameters, "side", String.class);
+        ParameterChecker.checkParameter(parameters, "type", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, TEST_NEW_ORDER, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #testNewOrder(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #testNewOrder(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse testNewOrderWithMetadata(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        ParameterChecker.checkParameter(parameters, "side", String.class);
+        ParameterChecker.checkParameter(parameters, "type", String.class);
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, TEST_NEW_ORDER, parameters, HttpMethod.POST);
+    }
+
+    /**
+     * Same as {@link #testNewOrder(Map)} with typed parameters.
+     * <br>
+     * @param request symbol, side and type are mandatory; may be reset and reused once the call has returned
+     * @return String
+     */
+    public String testNewOrder(NewOrderRequest request) {
+        return requestHandler.sendTypedSignedRequest(baseUrl, TEST_NEW_ORDER, request, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String ORDER = "/api/v3/order";
     /**
      * Send in a new order.
@@ -95,6 +141,54 @@ public class Trade {
         return requestHandler.sendSignedRequest(baseUrl, ORDER, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #newOrder(Map)}.
+     * <br>
+     * @param parameters see {@link #newOrder(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> newOrderAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        ParameterChecker.checkParameter(parameters, "side", String.class);
+        ParameterChecker.checkParameter(parameters, "type", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, ORDER, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #newOrder(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #newOrder(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse newOrderWithMetadata(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        ParameterChecker.checkParameter(parameters, "side", String.class);
+        ParameterChecker.checkParameter(parameters, "type", String.class);
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, ORDER, parameters, HttpMethod.POST);
+    }
+
+    /**
+     * Same as {@link #newOrder(Map)} with typed parameters, written into the query
+     * without going through a Map.
+     * <br>
+     * @param request symbol, side and type are mandatory; may be reset and reused once the call has returned
+     * @return String
+     */
+    public String newOrder(NewOrderRequest request) {
+        return requestHandler.sendTypedSignedRequest(baseUrl, ORDER, request, HttpMethod.POST, showLimitUsage);
+    }
+
+    /**
+     * Asynchronous version of {@link #newOrder(NewOrderRequest)}.
+     * <br>
+     * @param request see {@link #newOrder(NewOrderRequest)}; may be reset and reused as soon as this method returns
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> newOrderAsync(NewOrderRequest request) {
+        return requestHandler.sendTypedSignedRequestAsync(baseUrl, ORDER, request, HttpMethod.POST, showLimitUsage);
+    }
+
     /**
      * Cancel an active order.
      * <br><br>
@@ -118,6 +212,29 @@ public class Trade {
         return requestHandler.sendSignedRequest(baseUrl, ORDER, parameters, HttpMethod.DELETE, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #cancelOrder(Map)}.
+     * <br>
+     * @param parameters see {@link #cancelOrder(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> cancelOrderAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, ORDER, parameters, HttpMethod.DELETE, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #cancelOrder(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #cancelOrder(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse cancelOrderWithMetadata(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, ORDER, parameters, HttpMethod.DELETE);
+    }
+
     private final String ALL_OPEN_ORDERS = "/api/v3/openOrders";
     /**
      * Cancels all active orders on a symbol.
@@ -140,6 +257,29 @@ public class Trade {
         return requestHandler.sendSignedRequest(baseUrl, ALL_OPEN_ORDERS, parameters, HttpMethod.DELETE, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #cancelOpenOrders(Map)}.
+     * <br>
+     * @param parameters see {@link #cancelOpenOrders(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> cancelOpenOrdersAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, ALL_OPEN_ORDERS, parameters, HttpMethod.DELETE, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #cancelOpenOrders(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #cancelOpenOrders(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse cancelOpenOrdersWithMetadata(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, ALL_OPEN_ORDERS, parameters, HttpMethod.DELETE);
+    }
+
     /**
      * Check an order's status.
      * <br><br>
@@ -162,6 +302,29 @@ public class Trade {
         return requestHandler.sendSignedRequest(baseUrl, ORDER, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #getOrder(Map)}.
+     * <br>
+     * @param parameters see {@link #getOrder(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> getOrderAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, ORDER, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #getOrder(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #getOrder(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse getOrderWithMetadata(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, ORDER, parameters, HttpMethod.GET);
+    }
+
     private final String CANCEL_REPLACE = "/api/v3/order/cancelReplace";
     /**
      * Cancels an existing order and places a new order on the same symbol.<br>
@@ -207,6 +370,35 @@ public class Trade {
         return requestHandler.sendSignedRequest(baseUrl, CANCEL_REPLACE, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #cancelReplace(Map)}.
+     * <br>
+     * @param parameters see {@link #cancelReplace(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> cancelReplaceAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        ParameterChecker.checkParameter(parameters, "side", String.class);
+        ParameterChecker.checkParameter(parameters, "type", String.class);
+        ParameterChecker.checkParameter(parameters, "cancelReplaceMode", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, CANCEL_REPLACE, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #cancelReplace(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #cancelReplace(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse cancelReplaceWithMetadata(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        ParameterChecker.checkParameter(parameters, "side", String.class);
+        ParameterChecker.checkParameter(parameters, "type", String.class);
+        ParameterChecker.checkParameter(parameters, "cancelReplaceMode", String.class);
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, CANCEL_REPLACE, parameters, HttpMethod.POST);
+    }
+
     /**
      * Get all open orders on a symbol. Careful when accessing this with no symbol.
      * <br><br>
@@ -226,6 +418,27 @@ public class Trade {
         return requestHandler.sendSignedRequest(baseUrl, ALL_OPEN_ORDERS, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #getOpenOrders(Map)}.
+     * <br>
+     * @param parameters see {@link #getOpenOrders(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> getOpenOrdersAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, ALL_OPEN_ORDERS, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #getOpenOrders(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #getOpenOrders(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse getOpenOrdersWithMetadata(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, ALL_OPEN_ORDERS, parameters, HttpMethod.GET);
+    }
+
     private final String ALL_ORDERS = "/api/v3/allOrders";
     /**
      * Get all account orders; active, canceled, or filled.
@@ -251,6 +464,29 @@ public class Trade {
         return requestHandler.sendSignedRequest(baseUrl, ALL_ORDERS, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #getOrders(Map)}.
+     * <br>
+     * @param parameters see {@link #getOrders(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> getOrdersAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, ALL_ORDERS, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #getOrders(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #getOrders(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse getOrdersWithMetadata(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, ALL_ORDERS, parameters, HttpMethod.GET);
+    }
+
     private final String OCO_ORDER = "/api/v3/order/oco";
     /**
      * Send in a new OCO.
@@ -294,6 +530,37 @@ public class Trade {
         return requestHandler.sendSignedRequest(baseUrl, OCO_ORDER, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #ocoOrder(Map)}.
+     * <br>
+     * @param parameters see {@link #ocoOrder(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> ocoOrderAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        ParameterChecker.checkParameter(parameters, "side", String.class);
+        ParameterChecker.checkRequiredParameter(parameters, "quantity");
+        ParameterChecker.checkRequiredParameter(parameters, "price");
+        ParameterChecker.checkRequiredParameter(parameters, "stopPrice");
+        return requestHandler.sendSignedRequestAsync(baseUrl, OCO_ORDER, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #ocoOrder(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #ocoOrder(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse ocoOrderWithMetadata(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        ParameterChecker.checkParameter(parameters, "side", String.class);
+        ParameterChecker.checkRequiredParameter(parameters, "quantity");
+        ParameterChecker.checkRequiredParameter(parameters, "price");
+        ParameterChecker.checkRequiredParameter(parameters, "stopPrice");
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, OCO_ORDER, parameters, HttpMethod.POST);
+    }
+
     private final String OCO_LIST = "/api/v3/orderList";
     /**
      * Cancel an entire Order List.
@@ -318,6 +585,29 @@ public class Trade {
         return requestHandler.sendSignedRequest(baseUrl, OCO_LIST, parameters, HttpMethod.DELETE, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #cancelOCO(Map)}.
+     * <br>
+     * @param parameters see {@link #cancelOCO(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> cancelOCOAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, OCO_LIST, parameters, HttpMethod.DELETE, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #cancelOCO(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #cancelOCO(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse cancelOCOWithMetadata(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, OCO_LIST, parameters, HttpMethod.DELETE);
+    }
+
     /**
      * Retrieves a specific OCO based on provided optional parameters
      * <br><br>
@@ -338,6 +628,27 @@ public class Trade {
         return requestHandler.sendSignedRequest(baseUrl, OCO_LIST, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #getOCOOrder(Map)}.
+     * <br>
+     * @param parameters see {@link #getOCOOrder(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> getOCOOrderAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, OCO_LIST, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #getOCOOrder(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #getOCOOrder(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse getOCOOrderWithMetadata(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, OCO_LIST, parameters, HttpMethod.GET);
+    }
+
     private final String ALL_OCO_LIST = "/api/v3/allOrderList";
     /**
      * Retrieves all OCO based on provided optional parameters
@@ -361,6 +672,27 @@ public class Trade {
         return requestHandler.sendSignedRequest(baseUrl, ALL_OCO_LIST, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #getOCOOrders(Map)}.
+     * <br>
+     * @param parameters see {@link #getOCOOrders(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> getOCOOrdersAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, ALL_OCO_LIST, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #getOCOOrders(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #getOCOOrders(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse getOCOOrdersWithMetadata(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, ALL_OCO_LIST, parameters, HttpMethod.GET);
+    }
+
     private final String ALL_OPEN_OCO_LIST = "/api/v3/openOrderList";
     /**
      * GET /api/v3/openOrderList
@@ -378,6 +710,27 @@ public class Trade {
         return requestHandler.sendSignedRequest(baseUrl, ALL_OPEN_OCO_LIST, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #getOpenOCOOrders(Map)}.
+     * <br>
+     * @param parameters see {@link #getOpenOCOOrders(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> getOpenOCOOrdersAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, ALL_OPEN_OCO_LIST, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #getOpenOCOOrders(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #getOpenOCOOrders(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse getOpenOCOOrdersWithMetadata(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, ALL_OPEN_OCO_LIST, parameters, HttpMethod.GET);
+    }
+
     private final String ACCOUNT_INFO = "/api/v3/account";
     /**
      * Get current account information.
@@ -397,6 +750,27 @@ public class Trade {
         return requestHandler.sendSignedRequest(baseUrl, ACCOUNT_INFO, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #account(Map)}.
+     * <br>
+     * @param parameters see {@link #account(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> accountAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, ACCOUNT_INFO, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #account(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #account(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse accountWithMetadata(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, ACCOUNT_INFO, parameters, HttpMethod.GET);
+    }
+
     private final String ACCOUNT_TRADES = "/api/v3/myTrades";
     /**
      * Get trades for a specific account and symbol.
@@ -423,6 +797,29 @@ public class Trade {
         return requestHandler.sendSignedRequest(baseUrl, ACCOUNT_TRADES, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #myTrades(Map)}.
+     * <br>
+     * @param parameters see {@link #myTrades(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> myTradesAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, ACCOUNT_TRADES, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #myTrades(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #myTrades(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse myTradesWithMetadata(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, ACCOUNT_TRADES, parameters, HttpMethod.GET);
+    }
+
     private final String RATE_LIMIT = "/api/v3/rateLimit/order";
     /**
      * Displays the user's current order count usage for all intervals.
@@ -442,6 +839,27 @@ public class Trade {
         return requestHandler.sendSignedRequest(baseUrl, RATE_LIMIT, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #rateLimitOrder(Map)}.
+     * <br>
+     * @param parameters see {@link #rateLimitOrder(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> rateLimitOrderAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, RATE_LIMIT, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #rateLimitOrder(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #rateLimitOrder(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse rateLimitOrderWithMetadata(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, RATE_LIMIT, parameters, HttpMethod.GET);
+    }
+
     private final String PREVENTED_MATCHES = "/api/v3/myPreventedMatches";
     /**
      * Displays the list of orders that were expired because of STP.
@@ -475,6 +893,29 @@ public class Trade {
         return requestHandler.sendSignedRequest(baseUrl, PREVENTED_MATCHES, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #preventedMatches(Map)}.
+     * <br>
+     * @param parameters see {@link #preventedMatches(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> preventedMatchesAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, PREVENTED_MATCHES, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #preventedMatches(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #preventedMatches(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse preventedMatchesWithMetadata(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, PREVENTED_MATCHES, parameters, HttpMethod.GET);
+    }
+
     private final String SOR_ALLOCATIONS = "/api/v3/myAllocations";
     /**
      * Retrieves allocations resulting from SOR order placement.
@@ -514,6 +955,29 @@ public class Trade {
         return requestHandler.sendSignedRequest(baseUrl, SOR_ALLOCATIONS, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #sorAllocations(Map)}.
+     * <br>
+     * @param parameters see {@link #sorAllocations(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> sorAllocationsAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, SOR_ALLOCATIONS, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #sorAllocations(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #sorAllocations(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse sorAllocationsWithMetadata(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, SOR_ALLOCATIONS, parameters, HttpMethod.GET);
+    }
+
     private final String COMMISSION = "/api/v3/account/commission";
     /**
      * Get current account commission rates.
@@ -534,6 +998,29 @@ public class Trade {
         return requestHandler.sendSignedRequest(baseUrl, COMMISSION, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #commission(Map)}.
+     * <br>
+     * @param parameters see {@link #commission(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> commissionAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, COMMISSION, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #commission(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #commission(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse commissionWithMetadata(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, COMMISSION, parameters, HttpMethod.GET);
+    }
+
     private final String SOR_ORDER = "/api/v3/sor/order";
     /**
      * Places an order using smart order routing (SOR).
@@ -570,6 +1057,35 @@ public class Trade {
         return requestHandler.sendSignedRequest(baseUrl, SOR_ORDER, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #sorOrder(Map)}.
+     * <br>
+     * @param parameters see {@link #sorOrder(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> sorOrderAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        ParameterChecker.checkParameter(parameters, "side", String.class);
+        ParameterChecker.checkParameter(parameters, "type", String.class);
+        ParameterChecker.checkRequiredParameter(parameters, "quantity");
+        return requestHandler.sendSignedRequestAsync(baseUrl, SOR_ORDER, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #sorOrder(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #sorOrder(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse sorOrderWithMetadata(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        ParameterChecker.checkParameter(parameters, "side", String.class);
+        ParameterChecker.checkParameter(parameters, "type", String.class);
+        ParameterChecker.checkRequiredParameter(parameters, "quantity");
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, SOR_ORDER, parameters, HttpMethod.POST);
+    }
+
     private final String TEST_SOR_ORDER = "/api/v3/sor/order/test";
     /**
      * Test new order creation and signature/recvWindow using smart order routing (SOR).
@@ -594,4 +1110,33 @@ public class Trade {
         ParameterChecker.checkRequiredParameter(parameters, "quantity");
         return requestHandler.sendSignedRequest(baseUrl, TEST_SOR_ORDER, parameters, HttpMethod.POST, showLimitUsage);
     }
+
+    /**
+     * Asynchronous version of {@link #testSorOrder(Map)}.
+     * <br>
+     * @param parameters see {@link #testSorOrder(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> testSorOrderAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        ParameterChecker.checkParameter(parameters, "side", String.class);
+        ParameterChecker.checkParameter(parameters, "type", String.class);
+        ParameterChecker.checkRequiredParameter(parameters, "quantity");
+        return requestHandler.sendSignedRequestAsync(baseUrl, TEST_SOR_ORDER, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #testSorOrder(Map)}, returning the status code, rate limit headers, server date
+     * and raw body of the response.
+     * <br>
+     * @param parameters see {@link #testSorOrder(Map)}
+     * @return BinanceResponse
+     */
+    public BinanceResponse testSorOrderWithMetadata(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        ParameterChecker.checkParameter(parameters, "side", String.class);
+        ParameterChecker.checkParameter(parameters, "type", String.class);
+        ParameterChecker.checkRequiredParameter(parameters, "quantity");
+        return requestHandler.sendSignedRequestWithMetadata(baseUrl, TEST_SOR_ORDER, parameters, HttpMethod.POST);
+    }
 }
@@ -1,6 +1,7 @@
 package com.binance.connector.client.impl.spot;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import com.binance.connector.client.enums.HttpMethod;
 import com.binance.connector.client.utils.ParameterChecker;
@@ -26,6 +27,12 @@ public class UserData {
         this.showLimitUsage = showLimitUsage;
     }
 
+    public UserData(String baseUrl, RequestHandler requestHandler, boolean showLimitUsage) {
+        this.baseUrl = baseUrl;
+        this.requestHandler = requestHandler;
+        this.showLimitUsage = showLimitUsage;
+    }
+
     private final String SPOT_LISTEN_KEY = "/api/v3/userDataStream";
     /**
      * Start a new user data stream. The stream will close after 60 minutes unless a keepalive is sent.
@@ -41,6 +48,15 @@ public class UserData {
         return requestHandler.sendApiRequest(baseUrl, SPOT_LISTEN_KEY, null, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #createListenKey()}.
+     * <br>
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> createListenKeyAsync() {
+        return requestHandler.sendApiRequestAsync(baseUrl, SPOT_LISTEN_KEY, null, HttpMethod.POST, showLimitUsage);
+    }
+
     /**
      * Keepalive a user data stream to prevent a time out. User data streams will close after 60 minutes.
      * It's recommended to send a ping about every 30 minutes.
@@ -61,6 +77,17 @@ public class UserData {
         return requestHandler.sendApiRequest(baseUrl, SPOT_LISTEN_KEY, parameters, HttpMethod.PUT, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #extendListenKey(Map)}.
+     * <br>
+     * @param parameters see {@link #extendListenKey(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> extendListenKeyAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "listenKey", String.class);
+        return requestHandler.sendApiRequestAsync(baseUrl, SPOT_LISTEN_KEY, parameters, HttpMethod.PUT, showLimitUsage);
+    }
+
     /**
      * Close out a user data stream.
      * <br><br>
@@ -80,6 +107,17 @@ public class UserData {
         return requestHandler.sendApiRequest(baseUrl, SPOT_LISTEN_KEY, parameters, HttpMethod.DELETE, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #closeListenKey(Map)}.
+     * <br>
+     * @param parameters see {@link #closeListenKey(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> closeListenKeyAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "listenKey", String.class);
+        return requestHandler.sendApiRequestAsync(baseUrl, SPOT_LISTEN_KEY, parameters, HttpMethod.DELETE, showLimitUsage);
+    }
+
     private final String MARGIN_LISTEN_KEY = "/sapi/v1/userDataStream";
     /**
      * POST /sapi/v1/userDataStream
@@ -92,6 +130,15 @@ public class UserData {
         return requestHandler.sendApiRequest(baseUrl, MARGIN_LISTEN_KEY, null, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #createMarginListenKey()}.
+     * <br>
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> createMarginListenKeyAsync() {
+        return requestHandler.sendApiRequestAsync(baseUrl, MARGIN_LISTEN_KEY, null, HttpMethod.POST, showLimitUsage);
+    }
+
     /**
      * PUT /sapi/v1/userDataStream
      * <br>
@@ -109,6 +156,17 @@ public class UserData {
         return requestHandler.sendApiRequest(baseUrl, MARGIN_LISTEN_KEY, parameters, HttpMethod.PUT, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #extendMarginListenKey(Map)}.
+     * <br>
+     * @param parameters see {@link #extendMarginListenKey(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> extendMarginListenKeyAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "listenKey", String.class);
+        return requestHandler.sendApiRequestAsync(baseUrl, MARGIN_LISTEN_KEY, parameters, HttpMethod.PUT, showLimitUsage);
+    }
+
     /**
      * DELETE /sapi/v1/userDataStream
      * <br>
@@ -126,6 +184,17 @@ public class UserData {
         return requestHandler.sendApiRequest(baseUrl, MARGIN_LISTEN_KEY, parameters, HttpMethod.DELETE, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #closeMarginListenKey(Map)}.
+     * <br>
+     * @param parameters see {@link #closeMarginListenKey(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> closeMarginListenKeyAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "listenKey", String.class);
+        return requestHandler.sendApiRequestAsync(baseUrl, MARGIN_LISTEN_KEY, parameters, HttpMethod.DELETE, showLimitUsage);
+    }
+
     private final String ISOLATED_LISTEN_KEY = "/sapi/v1/userDataStream/isolated";
     /**
      * POST /sapi/v1/userDataStream/isolated
@@ -144,6 +213,17 @@ public class UserData {
         return requestHandler.sendApiRequest(baseUrl, ISOLATED_LISTEN_KEY, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #createIsolatedMarginListenKey(Map)}.
+     * <br>
+     * @param parameters see {@link #createIsolatedMarginListenKey(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> createIsolatedMarginListenKeyAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        return requestHandler.sendApiRequestAsync(baseUrl, ISOLATED_LISTEN_KEY, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     /**
      * PUT /sapi/v1/userDataStream/isolated
      * <br>
@@ -163,6 +243,18 @@ public class UserData {
         return requestHandler.sendApiRequest(baseUrl, ISOLATED_LISTEN_KEY, parameters, HttpMethod.PUT, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #extendIsolatedMarginListenKey(Map)}.
+     * <br>
+     * @param parameters see {@link #extendIsolatedMarginListenKey(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> extendIsolatedMarginListenKeyAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        ParameterChecker.checkParameter(parameters, "listenKey", String.class);
+        return requestHandler.sendApiRequestAsync(baseUrl, ISOLATED_LISTEN_KEY, parameters, HttpMethod.PUT, showLimitUsage);
+    }
+
     /**
      * DELETE /sapi/v1/userDataStream/isolated
      * <br>
@@ -181,4 +273,16 @@ public class UserData {
         ParameterChecker.checkParameter(parameters, "listenKey", String.class);
         return requestHandler.sendApiRequest(baseUrl, ISOLATED_LISTEN_KEY, parameters, HttpMethod.DELETE, showLimitUsage);
     }
+
+    /**
+     * Asynchronous version of {@link #closeIsolatedMarginListenKey(Map)}.
+     * <br>
+     * @param parameters see {@link #closeIsolatedMarginListenKey(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> closeIsolatedMarginListenKeyAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "symbol", String.class);
+        ParameterChecker.checkParameter(parameters, "listenKey", String.class);
+        return requestHandler.sendApiRequestAsync(baseUrl, ISOLATED_LISTEN_KEY, parameters, HttpMethod.DELETE, showLimitUsage);
+    }
 }
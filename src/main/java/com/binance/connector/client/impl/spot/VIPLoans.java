@@ -1,6 +1,7 @@
 package com.binance.connector.client.impl.spot;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import com.binance.connector.client.enums.HttpMethod;
 import com.binance.connector.client.utils.ParameterChecker;
@@ -34,6 +35,12 @@ public class VIPLoans {
         this.showLimitUsage = showLimitUsage;
     }
 
+    public VIPLoans(String baseUrl, RequestHandler requestHandler, boolean showLimitUsage) {
+        this.baseUrl = baseUrl;
+        this.requestHandler = requestHandler;
+        this.showLimitUsage = showLimitUsage;
+    }
+
     private final String ONGOING_ORDERS = "/sapi/v1/loan/vip/ongoing/orders";
     /**
      * VIP loan is available for VIP users only.
@@ -60,6 +67,16 @@ public class VIPLoans {
         return requestHandler.sendSignedRequest(baseUrl, ONGOING_ORDERS, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #ongoingOrders(Map)}.
+     * <br>
+     * @param parameters see {@link #ongoingOrders(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> ongoingOrdersAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, ONGOING_ORDERS, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String REPAY = "/sapi/v1/loan/vip/repay";
     /**
      * VIP loan is available for VIP users only.
@@ -84,6 +101,18 @@ public class VIPLoans {
         return requestHandler.sendSignedRequest(baseUrl, REPAY, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #repay(Map)}.
+     * <br>
+     * @param parameters see {@link #repay(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> repayAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "orderId", Long.class);
+        ParameterChecker.checkRequiredParameter(parameters, "amount");
+        return requestHandler.sendSignedRequestAsync(baseUrl, REPAY, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String REPAYMENT_HISTORY = "/sapi/v1/loan/vip/repay/history";
     /**
      * VIP loan is available for VIP users only.
@@ -110,6 +139,16 @@ public class VIPLoans {
         return requestHandler.sendSignedRequest(baseUrl, REPAYMENT_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #repaymentHistory(Map)}.
+     * <br>
+     * @param parameters see {@link #repaymentHistory(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> repaymentHistoryAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, REPAYMENT_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String RENEW = "/sapi/v1/loan/vip/renew";
     /**
      * VIP loan is available for VIP users only.
@@ -133,6 +172,17 @@ public class VIPLoans {
         return requestHandler.sendSignedRequest(baseUrl, RENEW, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #renew(Map)}.
+     * <br>
+     * @param parameters see {@link #renew(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> renewAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "orderId", Long.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, RENEW, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String COLLATERAL_ACCOUNT = "/sapi/v1/loan/vip/collateral/account";
     /**
      * VIP loan is available for VIP users only.
@@ -155,6 +205,16 @@ public class VIPLoans {
         return requestHandler.sendSignedRequest(baseUrl, COLLATERAL_ACCOUNT, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #collateralAccount(Map)}.
+     * <br>
+     * @param parameters see {@link #collateralAccount(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> collateralAccountAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, COLLATERAL_ACCOUNT, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String BORROW = "/sapi/v1/loan/vip/borrow";
     /**
      * VIP loan is available for VIP users only.
@@ -188,6 +248,22 @@ public class VIPLoans {
         return requestHandler.sendSignedRequest(baseUrl, BORROW, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #borrow(Map)}.
+     * <br>
+     * @param parameters see {@link #borrow(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> borrowAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "loanAccountId", Long.class);
+        ParameterChecker.checkParameter(parameters, "loanCoin", String.class);
+        ParameterChecker.checkRequiredParameter(parameters, "loanAmount");
+        ParameterChecker.checkParameter(parameters, "collateralAccountId", String.class);
+        ParameterChecker.checkParameter(parameters, "collateralCoin", String.class);
+        ParameterChecker.checkParameter(parameters, "isFlexibleRate", Boolean.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, BORROW, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String LOANABLE_ASSETS = "/sapi/v1/loan/vip/loanable/data";
     /**
      * Get interest rate and borrow limit of loanable assets. The borrow limit is shown in USD value.
@@ -210,6 +286,16 @@ public class VIPLoans {
         return requestHandler.sendSignedRequest(baseUrl, LOANABLE_ASSETS, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #loanableAssets(Map)}.
+     * <br>
+     * @param parameters see {@link #loanableAssets(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> loanableAssetsAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, LOANABLE_ASSETS, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String COLLATERAL_ASSET_DATA = "/sapi/v1/loan/vip/collateral/data";
     /**
      * Get Collateral Asset Data
@@ -231,6 +317,16 @@ public class VIPLoans {
         return requestHandler.sendSignedRequest(baseUrl, COLLATERAL_ASSET_DATA, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #collateralAsset(Map)}.
+     * <br>
+     * @param parameters see {@link #collateralAsset(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> collateralAssetAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, COLLATERAL_ASSET_DATA, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String ORDER_STATUS = "/sapi/v1/loan/vip/request/data";
     /**
      * Get order status
@@ -253,6 +349,16 @@ public class VIPLoans {
         return requestHandler.sendSignedRequest(baseUrl, ORDER_STATUS, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #orderStatus(Map)}.
+     * <br>
+     * @param parameters see {@link #orderStatus(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> orderStatusAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, ORDER_STATUS, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String BORROW_INTEREST_RATE = "/sapi/v1/loan/vip/request/interestRate";
     /**
      * Get Borrow Interest Rate 
@@ -274,4 +380,15 @@ public class VIPLoans {
         ParameterChecker.checkParameter(parameters, "loanCoin", String.class);
         return requestHandler.sendSignedRequest(baseUrl, BORROW_INTEREST_RATE, parameters, HttpMethod.GET, showLimitUsage);
     }
+
+    /**
+     * Asynchronous version of {@link #borrowInterestRate(Map)}.
+     * <br>
+     * @param parameters see {@link #borrowInterestRate(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> borrowInterestRateAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "loanCoin", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, BORROW_INTEREST_RATE, parameters, HttpMethod.GET, showLimitUsage);
+    }
 }
@@ -2,6 +2,7 @@ package com.binance.connector.client.impl.spot;
 
 import java.util.ArrayList;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import com.binance.connector.client.enums.HttpMethod;
 import com.binance.connector.client.utils.ParameterChecker;
@@ -35,6 +36,12 @@ public class Wallet {
         this.showLimitUsage = showLimitUsage;
     }
 
+    public Wallet(String baseUrl, RequestHandler requestHandler, boolean showLimitUsage) {
+        this.baseUrl = baseUrl;
+        this.requestHandler = requestHandler;
+        this.showLimitUsage = showLimitUsage;
+    }
+
     private final String SYSTEM_STATUS = "/sapi/v1/system/status";
     /**
      * Fetch system status.
@@ -49,6 +56,15 @@ public class Wallet {
         return requestHandler.sendPublicRequest(baseUrl, SYSTEM_STATUS, null, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #systemStatus()}.
+     * <br>
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> systemStatusAsync() {
+        return requestHandler.sendPublicRequestAsync(baseUrl, SYSTEM_STATUS, null, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String COIN_INFO = "/sapi/v1/capital/config/getall";
     /**
      * Get information of coins (available for deposit and withdraw) for user.
@@ -68,6 +84,16 @@ public class Wallet {
         return requestHandler.sendSignedRequest(baseUrl, COIN_INFO, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #coinInfo(Map)}.
+     * <br>
+     * @param parameters see {@link #coinInfo(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> coinInfoAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, COIN_INFO, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String ACCOUNT_SNAPSHOT = "/sapi/v1/accountSnapshot";
     /**
      * - The query time period must be less than 30 days
@@ -94,6 +120,17 @@ public class Wallet {
         return requestHandler.sendSignedRequest(baseUrl, ACCOUNT_SNAPSHOT, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #accountSnapshot(Map)}.
+     * <br>
+     * @param parameters see {@link #accountSnapshot(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> accountSnapshotAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "type", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, ACCOUNT_SNAPSHOT, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String DISABLE_FAST_WITHDRAW = "/sapi/v1/account/disableFastWithdrawSwitch";
     /**
      * - This request will disable fastwithdraw switch under your account.
@@ -114,6 +151,16 @@ public class Wallet {
         return requestHandler.sendSignedRequest(baseUrl, DISABLE_FAST_WITHDRAW, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #disableFastWithdraw(Map)}.
+     * <br>
+     * @param parameters see {@link #disableFastWithdraw(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> disableFastWithdrawAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, DISABLE_FAST_WITHDRAW, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String ENABLE_FAST_WITHDRAW = "/sapi/v1/account/enableFastWithdrawSwitch";
     /**
      * - This request will enable fastwithdraw switch under your account. You need to enable "trade" option for the api key which requests this endpoint.
@@ -134,6 +181,16 @@ public class Wallet {
         return requestHandler.sendSignedRequest(baseUrl, ENABLE_FAST_WITHDRAW, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #enableFastWithdraw(Map)}.
+     * <br>
+     * @param parameters see {@link #enableFastWithdraw(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> enableFastWithdrawAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, ENABLE_FAST_WITHDRAW, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String WITHDRAW = "/sapi/v1/capital/withdraw/apply";
     /**
      * Submit a withdraw request.
@@ -169,6 +226,19 @@ public class Wallet {
         return requestHandler.sendSignedRequest(baseUrl, WITHDRAW, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #withdraw(Map)}.
+     * <br>
+     * @param parameters see {@link #withdraw(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> withdrawAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "coin", String.class);
+        ParameterChecker.checkParameter(parameters, "address", String.class);
+        ParameterChecker.checkRequiredParameter(parameters, "amount");
+        return requestHandler.sendSignedRequestAsync(baseUrl, WITHDRAW, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String DEPOSIT_HISTORY = "/sapi/v1/capital/deposit/hisrec";
     /**
      * Fetch deposit history.
@@ -197,6 +267,16 @@ public class Wallet {
         return requestHandler.sendSignedRequest(baseUrl, DEPOSIT_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #depositHistory(Map)}.
+     * <br>
+     * @param parameters see {@link #depositHistory(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> depositHistoryAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, DEPOSIT_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String WITHDRAW_HISTORY = "/sapi/v1/capital/withdraw/history";
     /**
      * Fetch withdraw history.
@@ -231,6 +311,16 @@ public class Wallet {
         return requestHandler.sendSignedRequest(baseUrl, WITHDRAW_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #withdrawHistory(Map)}.
+     * <br>
+     * @param parameters see {@link #withdrawHistory(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> withdrawHistoryAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, WITHDRAW_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String DEPOSIT_ADDRESS = "/sapi/v1/capital/deposit/address";
     /**
      * Fetch deposit address with network.
@@ -257,6 +347,17 @@ public class Wallet {
         return requestHandler.sendSignedRequest(baseUrl, DEPOSIT_ADDRESS, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #depositAddress(Map)}.
+     * <br>
+     * @param parameters see {@link #depositAddress(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> depositAddressAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "coin", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, DEPOSIT_ADDRESS, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String DEPOSIT_ADDRESSES = "/sapi/v1/capital/deposit/address/list";
     /**
      * Fetch deposit address list with network.
@@ -282,6 +383,17 @@ public class Wallet {
         return requestHandler.sendSignedRequest(baseUrl, DEPOSIT_ADDRESSES, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #depositAddresses(Map)}.
+     * <br>
+     * @param parameters see {@link #depositAddresses(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> depositAddressesAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "coin", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, DEPOSIT_ADDRESSES, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String ACCOUNT_STATUS = "/sapi/v1/account/status";
     /**
      * Fetch account status detail.
@@ -301,6 +413,16 @@ public class Wallet {
         return requestHandler.sendSignedRequest(baseUrl, ACCOUNT_STATUS, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #accountStatus(Map)}.
+     * <br>
+     * @param parameters see {@link #accountStatus(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> accountStatusAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, ACCOUNT_STATUS, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String API_TRADE_STATUS = "/sapi/v1/account/apiTradingStatus";
     /**
      * Fetch account API trading status with details.
@@ -320,6 +442,16 @@ public class Wallet {
         return requestHandler.sendSignedRequest(baseUrl, API_TRADE_STATUS, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #apiTradingStatus(Map)}.
+     * <br>
+     * @param parameters see {@link #apiTradingStatus(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> apiTradingStatusAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, API_TRADE_STATUS, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String DUST_LOG = "/sapi/v1/asset/dribblet";
     /**
      * GET /sapi/v1/asset/dribblet
@@ -339,6 +471,16 @@ public class Wallet {
         return requestHandler.sendSignedRequest(baseUrl, DUST_LOG, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #dustLog(Map)}.
+     * <br>
+     * @param parameters see {@link #dustLog(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> dustLogAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, DUST_LOG, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String BNB_CONVERTIBLE_ASSETS = "/sapi/v1/asset/dust-btc";
     /**
      * POST /sapi/v1/asset/dust-btc
@@ -356,6 +498,16 @@ public class Wallet {
         return requestHandler.sendSignedRequest(baseUrl, BNB_CONVERTIBLE_ASSETS, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #bnbConvertableAssets(Map)}.
+     * <br>
+     * @param parameters see {@link #bnbConvertableAssets(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> bnbConvertableAssetsAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, BNB_CONVERTIBLE_ASSETS, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String DUST_TRANSFER = "/sapi/v1/asset/dust";
     /**
      * Convert dust assets to BNB.
@@ -377,6 +529,17 @@ public class Wallet {
         return requestHandler.sendSignedRequest(baseUrl, DUST_TRANSFER, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #dustTransfer(Map)}.
+     * <br>
+     * @param parameters see {@link #dustTransfer(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> dustTransferAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "asset", ArrayList.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, DUST_TRANSFER, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String ASSET_DIVIDEND = "/sapi/v1/asset/assetDividend";
     /**
      * Query asset dividend record.
@@ -400,6 +563,16 @@ public class Wallet {
         return requestHandler.sendSignedRequest(baseUrl, ASSET_DIVIDEND, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #assetDividend(Map)}.
+     * <br>
+     * @param parameters see {@link #assetDividend(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> assetDividendAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, ASSET_DIVIDEND, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String ASSET_DETAIL = "/sapi/v1/asset/assetDetail";
     /**
      * Fetch details of assets supported on Binance.
@@ -422,6 +595,16 @@ public class Wallet {
         return requestHandler.sendSignedRequest(baseUrl, ASSET_DETAIL, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #assetDetail(Map)}.
+     * <br>
+     * @param parameters see {@link #assetDetail(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> assetDetailAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, ASSET_DETAIL, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String TRADE_FEE = "/sapi/v1/asset/tradeFee";
     /**
      * Fetch trade fee.
@@ -442,6 +625,16 @@ public class Wallet {
         return requestHandler.sendSignedRequest(baseUrl, TRADE_FEE, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #tradeFee(Map)}.
+     * <br>
+     * @param parameters see {@link #tradeFee(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> tradeFeeAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, TRADE_FEE, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String UNIVERSAL_TRANSFER = "/sapi/v1/asset/transfer";
     /**
      * You need to enable Permits Universal Transfer option for the api key which requests this endpoint.
@@ -469,6 +662,19 @@ public class Wallet {
         return requestHandler.sendSignedRequest(baseUrl, UNIVERSAL_TRANSFER, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #universalTransfer(Map)}.
+     * <br>
+     * @param parameters see {@link #universalTransfer(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> universalTransferAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "type", String.class);
+        ParameterChecker.checkParameter(parameters, "asset", String.class);
+        ParameterChecker.checkRequiredParameter(parameters, "amount");
+        return requestHandler.sendSignedRequestAsync(baseUrl, UNIVERSAL_TRANSFER, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     /**
      * GET /sapi/v1/asset/transfer
      * <br>
@@ -493,6 +699,17 @@ public class Wallet {
         return requestHandler.sendSignedRequest(baseUrl, UNIVERSAL_TRANSFER, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #queryUniversalTransfer(Map)}.
+     * <br>
+     * @param parameters see {@link #queryUniversalTransfer(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> queryUniversalTransferAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "type", String.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, UNIVERSAL_TRANSFER, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String FUNDING_WALLET = "/sapi/v1/asset/get-funding-asset";
     /**
      * POST /sapi/v1/asset/get-funding-asset
@@ -512,6 +729,16 @@ public class Wallet {
         return requestHandler.sendSignedRequest(baseUrl, FUNDING_WALLET, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #fundingWallet(Map)}.
+     * <br>
+     * @param parameters see {@link #fundingWallet(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> fundingWalletAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, FUNDING_WALLET, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String API_PERMISSION = "/sapi/v1/account/apiRestrictions";
     /**
      * GET /sapi/v1/account/apiRestrictions
@@ -529,6 +756,16 @@ public class Wallet {
         return requestHandler.sendSignedRequest(baseUrl, API_PERMISSION, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #apiPermission(Map)}.
+     * <br>
+     * @param parameters see {@link #apiPermission(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> apiPermissionAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, API_PERMISSION, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String USER_ASSET = "/sapi/v3/asset/getUserAsset";
     /**
      * Get user assets, just for positive data.
@@ -550,6 +787,16 @@ public class Wallet {
         return requestHandler.sendSignedRequest(baseUrl, USER_ASSET, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #getUserAsset(Map)}.
+     * <br>
+     * @param parameters see {@link #getUserAsset(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> getUserAssetAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, USER_ASSET, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String BUSD_CONVERT = "/sapi/v1/asset/convert-transfer";
     /**
      * Convert transfer, convert between BUSD and stablecoins.
@@ -581,6 +828,21 @@ public class Wallet {
         return requestHandler.sendSignedRequest(baseUrl, BUSD_CONVERT, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #busdConvert(Map)}.
+     * <br>
+     * @param parameters see {@link #busdConvert(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> busdConvertAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "clientTranId", String.class);
+        ParameterChecker.checkParameter(parameters, "asset", String.class);
+        ParameterChecker.checkRequiredParameter(parameters, "amount");
+        ParameterChecker.checkParameter(parameters, "targetAsset", String.class);
+
+        return requestHandler.sendSignedRequestAsync(baseUrl, BUSD_CONVERT, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String BUSD_CONVERT_HISTORY = "/sapi/v1/asset/convert-transfer/queryByPage";
     /**
      * <br><br>
@@ -611,6 +873,19 @@ public class Wallet {
         return requestHandler.sendSignedRequest(baseUrl, BUSD_CONVERT_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #busdConvertHistory(Map)}.
+     * <br>
+     * @param parameters see {@link #busdConvertHistory(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> busdConvertHistoryAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "startTime", Long.class);
+        ParameterChecker.checkParameter(parameters, "endTime", Long.class);
+
+        return requestHandler.sendSignedRequestAsync(baseUrl, BUSD_CONVERT_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
 
     private final String CLOUD_MINING_HISTORY = "/sapi/v1/asset/ledger-transfer/cloud-mining/queryByPage";
     /**
@@ -642,6 +917,19 @@ public class Wallet {
         return requestHandler.sendSignedRequest(baseUrl, CLOUD_MINING_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #cloudMiningHistory(Map)}.
+     * <br>
+     * @param parameters see {@link #cloudMiningHistory(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> cloudMiningHistoryAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "startTime", Long.class);
+        ParameterChecker.checkParameter(parameters, "endTime", Long.class);
+
+        return requestHandler.sendSignedRequestAsync(baseUrl, CLOUD_MINING_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String BUSD_AUTO_CONVERT = "/sapi/v1/capital/contract/convertible-coins";
     /**
      * Get the stable coins set for auto-conversion to BUSD at deposit/withdrawal moments.
@@ -657,6 +945,15 @@ public class Wallet {
         return requestHandler.sendSignedRequest(baseUrl, BUSD_AUTO_CONVERT, null, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #getBusdAutoConvertions()}.
+     * <br>
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> getBusdAutoConvertionsAsync() {
+        return requestHandler.sendSignedRequestAsync(baseUrl, BUSD_AUTO_CONVERT, null, HttpMethod.GET, showLimitUsage);
+    }
+
     /**
      * Switch on/off the BUSD auto-conversion from/to a specific stable coin.
      * 
@@ -679,6 +976,18 @@ public class Wallet {
         return requestHandler.sendSignedRequest(baseUrl, BUSD_AUTO_CONVERT, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #switchBusdAutoConversion(Map)}.
+     * <br>
+     * @param parameters see {@link #switchBusdAutoConversion(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> switchBusdAutoConversionAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "coin", String.class);
+        ParameterChecker.checkParameter(parameters, "enable", Boolean.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, BUSD_AUTO_CONVERT, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String APPLY_ONE_CLICK_ARRIVAL_DEPOSIT = "/sapi/v1/capital/deposit/credit-apply";
     /**
      * Apply deposit credit for expired address (One click arrival)
@@ -703,6 +1012,16 @@ public class Wallet {
         return requestHandler.sendSignedRequest(baseUrl, APPLY_ONE_CLICK_ARRIVAL_DEPOSIT, parameters, HttpMethod.POST, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #applyOneClickArrivalDeposit(Map)}.
+     * <br>
+     * @param parameters see {@link #applyOneClickArrivalDeposit(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> applyOneClickArrivalDepositAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, APPLY_ONE_CLICK_ARRIVAL_DEPOSIT, parameters, HttpMethod.POST, showLimitUsage);
+    }
+
     private final String WALLET_BALANCE = "/sapi/v1/asset/wallet/balance";
     /**
      * Query User Wallet Balance
@@ -723,6 +1042,16 @@ public class Wallet {
         return requestHandler.sendSignedRequest(baseUrl, WALLET_BALANCE, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #walletBalance(Map)}.
+     * <br>
+     * @param parameters see {@link #walletBalance(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> walletBalanceAsync(Map<String, Object> parameters) {
+        return requestHandler.sendSignedRequestAsync(baseUrl, WALLET_BALANCE, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
     private final String QUERY_USER_DELEGATION_HISTORY = "/sapi/v1/asset/custody/transfer-history";
     /**
      * Query User Delegation History
@@ -755,4 +1084,17 @@ public class Wallet {
         return requestHandler.sendSignedRequest(baseUrl, QUERY_USER_DELEGATION_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
     }
 
+    /**
+     * Asynchronous version of {@link #delegationHistory(Map)}.
+     * <br>
+     * @param parameters see {@link #delegationHistory(Map)}
+     * @return CompletableFuture completed with the response in <i>String format</i>
+     */
+    public CompletableFuture<String> delegationHistoryAsync(Map<String, Object> parameters) {
+        ParameterChecker.checkParameter(parameters, "email", String.class);
+        ParameterChecker.checkParameter(parameters, "startTime", Long.class);
+        ParameterChecker.checkParameter(parameters, "endTime", Long.class);
+        return requestHandler.sendSignedRequestAsync(baseUrl, QUERY_USER_DELEGATION_HISTORY, parameters, HttpMethod.GET, showLimitUsage);
+    }
+
 }
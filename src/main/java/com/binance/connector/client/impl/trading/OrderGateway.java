@@ -0,0 +1,494 @@
+package com.binance.connector.client.impl.trading;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.binance.connector.client.WebSocketApiClient;
+import com.binance.connector.client.enums.RateLimitPolicy;
+import com.binance.connector.client.enums.RateLimitType;
+import com.binance.connector.client.exceptions.BinanceClientException;
+import com.binance.connector.client.exceptions.BinanceConnectorException;
+import com.binance.connector.client.exceptions.BinanceServerException;
+import com.binance.connector.client.exceptions.WebSocketNotConnectedException;
+import com.binance.connector.client.impl.spot.Trade;
+import com.binance.connector.client.impl.websocketapi.WebSocketApiTrade;
+import com.binance.connector.client.requests.NewOrderRequest;
+import com.binance.connector.client.utils.ExecutorFactory;
+import com.binance.connector.client.utils.ParameterChecker;
+import com.binance.connector.client.utils.metrics.LatencyHistogram;
+import com.binance.connector.client.utils.ratelimit.OrderCountLimit;
+
+/**
+ * Places and cancels orders over one WebSocket API session, keeping many requests in flight without waiting
+ * for each response.
+ * <pre>
+ * OrderGateway gateway = OrderGateway.builder()
+ *         .webSocketApiClient(wsApiClient)
+ *         .restFallback(spotClient.createTrade())
+ *         .maxInFlight(20)
+ *         .build();
+ * gateway.newOrder("BTCUSDT", "BUY", "LIMIT", parameters).thenAccept(System.out::println);
+ * </pre>
+ * At most {@code maxInFlight} requests wait for their response at a time; the next ones are queued and sent in
+ * order as responses arrive. Cancellations are queued ahead of new orders, as they free the book and are not
+ * counted in the order limits.
+ * <br>
+ * New orders are counted locally against the order limits before they are sent, and the counts reported in the
+ * {@code rateLimits} of the responses are applied. An order that does not fit waits until the interval resets
+ * ({@link RateLimitPolicy#QUEUE}) or fails at once ({@link RateLimitPolicy#REJECT}) with a
+ * {@link BinanceClientException} of HTTP status 429 and error code -1003, without reaching the server.
+ * <br>
+ * The time from sending a request to its response is recorded in {@link #getLatencies()}.
+ * <br>
+ * When the WebSocket API client is not connected, requests are sent with the REST trade endpoints if a fallback
+ * is set; any other failure to send a request fails it. A request already sent on the socket is never sent again: if the connection is lost before its
+ * response, it fails and whether it was executed has to be checked, e.g. with an
+ * {@link com.binance.connector.client.impl.userdata.OrderStateStore}.
+ * <br>
+ * The futures returned are completed after the internal lock is released, so their continuations may call the
+ * gateway again.
+ */
+public final class OrderGateway {
+    public static final int DEFAULT_MAX_IN_FLIGHT = 10;
+    private static final Logger logger = LoggerFactory.getLogger(OrderGateway.class);
+    private static final int HTTP_STATUS_TOO_MANY_REQUESTS = 429;
+    private static final int TOO_MANY_REQUESTS_ERROR_CODE = -1003;
+    private static final String ORDERS_LIMIT = "\"ORDERS\"";
+    private static final String SYMBOL = "symbol";
+    private static final String SIDE = "side";
+    private static final String TYPE = "type";
+    private static final String CANCEL_REPLACE_MODE = "cancelReplaceMode";
+    private static final String REQUEST_ID = "requestId";
+    private static final String PLURAL = "S";
+    private static final long NO_WAIT = 0L;
+    private static final int NO_ORDER = 0;
+    private static final int ONE_ORDER = 1;
+    private static final int MIN_IN_FLIGHT = 1;
+    private static final int START = 0;
+
+    private final WebSocketApiClient webSocketApiClient;
+    private final Trade restFallback;
+    private final int maxInFlight;
+    private final RateLimitPolicy policy;
+    private final OrderCountLimit orderCountLimit;
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final ArrayDeque<OrderRequest> cancels = new ArrayDeque<>();
+    private final ArrayDeque<OrderRequest> orders = new ArrayDeque<>();
+    private final List<Runnable> deferred = new ArrayList<>();
+    private int inFlight;
+    private boolean draining;
+    private boolean drainScheduled;
+    private long sentCount;
+    private long fallbackCount;
+    private long rejectedCount;
+
+    private OrderGateway(Builder builder) {
+        this.webSocketApiClient = builder.webSocketApiClient;
+        this.restFallback = builder.restFallback;
+        this.maxInFlight = builder.maxInFlight;
+        this.policy = builder.policy;
+        this.orderCountLimit = builder.orderCountLimit;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Places an order with {@link WebSocketApiTrade#newOrder(String, String, String, JSONObject)}.
+     *
+     * @param symbol String
+     * @param side String -- BUY or SELL
+     * @param type String
+     * @param parameters JSONObject of the optional parameters, may be null
+     * @return CompletableFuture completed with the response
+     */
+    public CompletableFuture<String> newOrder(String symbol, String side, String type, JSONObject parameters) {
+        ParameterChecker.checkParameterType(symbol, String.class, "symbol");
+        ParameterChecker.checkParameterType(side, String.class, "side");
+        ParameterChecker.checkParameterType(type, String.class, "type");
+        Map<String, Object> values = parameters(parameters);
+        values.put(SYMBOL, symbol);
+        values.put(SIDE, side);
+        values.put(TYPE, type);
+        return submit(new OrderRequest(Kind.NEW_ORDER, values));
+    }
+
+    /**
+     * Same as {@link #newOrder(String, String, String, JSONObject)} with typed parameters.
+     *
+     * @param request symbol, side and type are mandatory; may be reset and reused as soon as this method returns
+     * @return CompletableFuture completed with the response
+     */
+    public CompletableFuture<String> newOrder(NewOrderRequest request) {
+        request.validate();
+        return submit(new OrderRequest(Kind.NEW_ORDER, parameters(request.toJSONObject())));
+    }
+
+    /**
+     * Cancels an order with {@link WebSocketApiTrade#cancelOrder(String, JSONObject)}.
+     *
+     * @param symbol String
+     * @param parameters JSONObject holding orderId or origClientOrderId
+     * @return CompletableFuture completed with the response
+     */
+    public CompletableFuture<String> cancelOrder(String symbol, JSONObject parameters) {
+        ParameterChecker.checkParameterType(symbol, String.class, "symbol");
+        Map<String, Object> values = parameters(parameters);
+        values.put(SYMBOL, symbol);
+        return submit(new OrderRequest(Kind.CANCEL_ORDER, values));
+    }
+
+    /**
+     * Cancels an order and places a new one with
+     * {@link WebSocketApiTrade#cancelReplaceOrder(String, String, String, String, JSONObject)}.
+     *
+     * @param symbol String
+     * @param cancelReplaceMode String -- STOP_ON_FAILURE or ALLOW_FAILURE
+     * @param side String -- BUY or SELL
+     * @param type String
+     * @param parameters JSONObject holding cancelOrderId or cancelOrigClientOrderId and the new order parameters
+     * @return CompletableFuture completed with the response
+     */
+    public CompletableFuture<String> cancelReplaceOrder(String symbol, String cancelReplaceMode, String side, String type, JSONObject parameters) {
+        ParameterChecker.checkParameterType(symbol, String.class, "symbol");
+        ParameterChecker.checkParameterType(cancelReplaceMode, String.class, "cancelReplaceMode");
+        ParameterChecker.checkParameterType(side, String.class, "side");
+        ParameterChecker.checkParameterType(type, String.class, "type");
+        Map<String, Object> values = parameters(parameters);
+        values.put(SYMBOL, symbol);
+        values.put(CANCEL_REPLACE_MODE, cancelReplaceMode);
+        values.put(SIDE, side);
+        values.put(TYPE, type);
+        return submit(new OrderRequest(Kind.CANCEL_REPLACE, values));
+    }
+
+    /**
+     * @return latencies from sending a request on the socket to its response
+     */
+    public LatencyHistogram getLatencies() {
+        return latencies;
+    }
+
+    public OrderCountLimit getOrderCountLimit() {
+        return orderCountLimit;
+    }
+
+    /**
+     * @return number of requests sent and waiting for their response
+     */
+    public synchronized int getInFlightCount() {
+        return inFlight;
+    }
+
+    /**
+     * @return number of requests waiting for room in the window or in the order limits
+     */
+    public synchronized int getQueuedCount() {
+        return cancels.size() + orders.size();
+    }
+
+    /**
+     * @return number of requests sent, on the socket or with the REST fallback
+     */
+    public synchronized long getSentCount() {
+        return sentCount;
+    }
+
+    /**
+     * @return number of requests sent with the REST fallback
+     */
+    public synchronized long getFallbackCount() {
+        return fallbackCount;
+    }
+
+    /**
+     * @return number of orders rejected locally for exceeding the order limits
+     */
+    public synchronized long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    private CompletableFuture<String> submit(OrderRequest request) {
+        synchronized (this) {
+            (request.kind.orders == NO_ORDER ? cancels : orders).addLast(request);
+        }
+        drain();
+        return request.future;
+    }
+
+    /**
+     * Sends the queued requests in order while the window has room and the order limits allow it, then completes
+     * the requests that failed meanwhile, outside the lock. Requests failing as they are sent free their room
+     * within the same loop instead of draining again recursively.
+     */
+    private void drain() {
+        List<Runnable> completions;
+        synchronized (this) {
+            if (draining) {
+                return;
+            }
+            draining = true;
+            try {
+                sendQueued();
+            } finally {
+                draining = false;
+                completions = new ArrayList<>(deferred);
+                deferred.clear();
+            }
+        }
+        for (Runnable completion : completions) {
+            completion.run();
+        }
+    }
+
+    private void sendQueued() {
+        while (inFlight < maxInFlight && !(cancels.isEmpty() && orders.isEmpty())) {
+            if (!cancels.isEmpty()) {
+                dispatch(cancels.pollFirst());
+                continue;
+            }
+            OrderRequest next = orders.peekFirst();
+            long wait = orderCountLimit.tryAcquire(next.kind.orders, System.currentTimeMillis());
+            if (wait == NO_WAIT) {
+                dispatch(orders.pollFirst());
+            } else if (policy == RateLimitPolicy.REJECT) {
+                orders.pollFirst();
+                rejectedCount++;
+                deferred.add(() -> next.future.completeExceptionally(rejected(wait)));
+            } else {
+                if (!drainScheduled) {
+                    drainScheduled = true;
+                    ExecutorFactory.sharedScheduler().schedule(this::scheduledDrain, wait, TimeUnit.MILLISECONDS);
+                }
+                return;
+            }
+        }
+    }
+
+    private void scheduledDrain() {
+        synchronized (this) {
+            drainScheduled = false;
+        }
+        drain();
+    }
+
+    private void dispatch(OrderRequest request) {
+        inFlight++;
+        sentCount++;
+        long sentAt = System.nanoTime();
+        CompletableFuture<String> response;
+        boolean onSocket = true;
+        try {
+            response = sendOnSocket(request);
+        } catch (WebSocketNotConnectedException e) {
+            if (restFallback == null) {
+                response = new CompletableFuture<>();
+                response.completeExceptionally(e);
+            } else {
+                logger.debug("[OrderGateway] WebSocket API unavailable, sending {} with REST: {}", request.kind, e.getMessage());
+                onSocket = false;
+                fallbackCount++;
+                response = sendWithRest(request);
+            }
+        } catch (RuntimeException e) {
+            response = new CompletableFuture<>();
+            response.completeExceptionally(e);
+        }
+        boolean timed = onSocket;
+        response.whenComplete((message, t) -> {
+            Throwable failure = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+            if (timed && (failure == null || failure instanceof BinanceClientException || failure instanceof BinanceServerException)) {
+                latencies.record(System.nanoTime() - sentAt, TimeUnit.NANOSECONDS);
+            }
+            if (message != null && message.contains(ORDERS_LIMIT)) {
+                applyOrderCounts(message);
+            }
+            Runnable completion = () -> {
+                if (failure != null) {
+                    request.future.completeExceptionally(failure);
+                } else {
+                    request.future.complete(message);
+                }
+            };
+            synchronized (this) {
+                inFlight--;
+                if (draining) {
+                    // failed as it was sent, by the thread draining: completed once the lock is released
+                    deferred.add(completion);
+                    return;
+                }
+            }
+            completion.run();
+            drain();
+        });
+    }
+
+    private CompletableFuture<String> sendOnSocket(OrderRequest request) {
+        WebSocketApiTrade trade = webSocketApiClient.trade();
+        JSONObject parameters = new JSONObject(request.parameters);
+        String symbol = String.valueOf(parameters.remove(SYMBOL));
+        switch (request.kind) {
+            case NEW_ORDER:
+                return trade.newOrder(symbol, String.valueOf(parameters.remove(SIDE)), String.valueOf(parameters.remove(TYPE)), parameters);
+            case CANCEL_ORDER:
+                return trade.cancelOrder(symbol, parameters);
+            default:
+                return trade.cancelReplaceOrder(symbol, String.valueOf(parameters.remove(CANCEL_REPLACE_MODE)),
+                        String.valueOf(parameters.remove(SIDE)), String.valueOf(parameters.remove(TYPE)), parameters);
+        }
+    }
+
+    private CompletableFuture<String> sendWithRest(OrderRequest request) {
+        Map<String, Object> parameters = new LinkedHashMap<>(request.parameters);
+        parameters.remove(REQUEST_ID);
+        switch (request.kind) {
+            case NEW_ORDER:
+                return restFallback.newOrderAsync(parameters);
+            case CANCEL_ORDER:
+                return restFallback.cancelOrderAsync(parameters);
+            default:
+                return restFallback.cancelReplaceAsync(parameters);
+        }
+    }
+
+    /**
+     * Applies the order counts of a response, e.g.
+     * {@code "rateLimits":[{"rateLimitType":"ORDERS","interval":"SECOND","intervalNum":10,"limit":50,"count":1}]}.
+     */
+    private void applyOrderCounts(String message) {
+        try {
+            JSONArray rateLimits = new JSONObject(message).optJSONArray("rateLimits");
+            long now = System.currentTimeMillis();
+            for (int i = START; rateLimits != null && i < rateLimits.length(); i++) {
+                JSONObject rateLimit = rateLimits.getJSONObject(i);
+                if (!"ORDERS".equals(rateLimit.optString("rateLimitType"))) {
+                    continue;
+                }
+                long intervalMillis = TimeUnit.valueOf(rateLimit.getString("interval") + PLURAL).toMillis(rateLimit.getInt("intervalNum"));
+                for (RateLimitType type : new RateLimitType[] {RateLimitType.ORDERS_10S, RateLimitType.ORDERS_1D}) {
+                    if (type.getIntervalMillis() == intervalMillis) {
+                        orderCountLimit.update(type, rateLimit.getLong("count"), now);
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.debug("[OrderGateway] Ignoring rate limits of response: {}", e.getMessage());
+        }
+    }
+
+    private static Map<String, Object> parameters(JSONObject parameters) {
+        return parameters == null ? new LinkedHashMap<>() : new LinkedHashMap<>(parameters.toMap());
+    }
+
+    private static BinanceClientException rejected(long wait) {
+        String message = String.format("[OrderGateway] Order would exceed the order limit, retry in %d ms.", wait);
+        return new BinanceClientException(message, message, HTTP_STATUS_TOO_MANY_REQUESTS, TOO_MANY_REQUESTS_ERROR_CODE);
+    }
+
+    private enum Kind {
+        NEW_ORDER(ONE_ORDER),
+        CANCEL_ORDER(NO_ORDER),
+        CANCEL_REPLACE(ONE_ORDER);
+
+        private final int orders;
+
+        Kind(int orders) {
+            this.orders = orders;
+        }
+    }
+
+    private static final class OrderRequest {
+        private final Kind kind;
+        private final Map<String, Object> parameters;
+        private final CompletableFuture<String> future = new CompletableFuture<>();
+
+        private OrderRequest(Kind kind, Map<String, Object> parameters) {
+            this.kind = kind;
+            this.parameters = parameters;
+        }
+    }
+
+    public static final class Builder {
+        private WebSocketApiClient webSocketApiClient;
+        private Trade restFallback;
+        private int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+        private RateLimitPolicy policy = RateLimitPolicy.QUEUE;
+        private OrderCountLimit orderCountLimit;
+
+        private Builder() {
+        }
+
+        /**
+         * @param client connected WebSocket API client the requests are sent with
+         * @return Builder
+         */
+        public Builder webSocketApiClient(WebSocketApiClient client) {
+            this.webSocketApiClient = client;
+            return this;
+        }
+
+        /**
+         * @param trade REST trade endpoints used while the WebSocket API client is not connected
+         * @return Builder
+         */
+        public Builder restFallback(Trade trade) {
+            this.restFallback = trade;
+            return this;
+        }
+
+        /**
+         * @param requests most requests waiting for their response at a time
+         * @return Builder
+         */
+        public Builder maxInFlight(int requests) {
+            if (requests < MIN_IN_FLIGHT) {
+                throw new BinanceConnectorException("[OrderGateway] Max in flight must be positive.");
+            }
+            this.maxInFlight = requests;
+            return this;
+        }
+
+        /**
+         * @param rateLimitPolicy what to do with an order that does not fit in the order limits
+         * @return Builder
+         */
+        public Builder policy(RateLimitPolicy rateLimitPolicy) {
+            if (rateLimitPolicy == null) {
+                throw new BinanceConnectorException("[OrderGateway] Policy cannot be null.");
+            }
+            this.policy = rateLimitPolicy;
+            return this;
+        }
+
+        /**
+         * @param limit order limits, e.g. shared with other gateways of the same account; server defaults if not set
+         * @return Builder
+         */
+        public Builder orderCountLimit(OrderCountLimit limit) {
+            this.orderCountLimit = limit;
+            return this;
+        }
+
+        public OrderGateway build() {
+            if (webSocketApiClient == null) {
+                throw new BinanceConnectorException("[OrderGateway] WebSocket API client cannot be null.");
+            }
+            if (orderCountLimit == null) {
+                orderCountLimit = new OrderCountLimit();
+            }
+            return new OrderGateway(this);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.binance.connector.client.impl.userdata;
+
+import java.util.LinkedHashMap;
+import java.util.concurrent.CompletableFuture;
+
+import com.binance.connector.client.impl.spot.Margin;
+import com.binance.connector.client.impl.spot.Trade;
+import com.binance.connector.client.utils.ParameterChecker;
+
+/**
+ * REST endpoint a {@link BalanceCache} is seeded from.
+ */
+public interface AccountSource {
+    /**
+     * @return future completed with the account and its balances, as returned by the account endpoint
+     */
+    CompletableFuture<String> fetchAccount();
+
+    /**
+     * @param trade spot trade endpoints
+     * @return source of the spot balances
+     */
+    static AccountSource spot(Trade trade) {
+        ParameterChecker.checkParameterType(trade, Trade.class, "trade");
+        return () -> trade.accountAsync(new LinkedHashMap<>());
+    }
+
+    /**
+     * @param margin margin endpoints
+     * @return source of the cross margin balances
+     */
+    static AccountSource margin(Margin margin) {
+        ParameterChecker.checkParameterType(margin, Margin.class, "margin");
+        return () -> margin.accountAsync(new LinkedHashMap<>());
+    }
+}
@@ -0,0 +1,290 @@
+package com.binance.connector.client.impl.userdata;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.binance.connector.client.exceptions.BinanceConnectorException;
+import com.binance.connector.client.utils.SymbolRegistry;
+import com.binance.connector.client.utils.decoder.AccountPositionEvent;
+import com.binance.connector.client.utils.decoder.BalanceUpdateEvent;
+import com.binance.connector.client.utils.websocketcallback.WebSocketGapCallback;
+
+/**
+ * Balances of an account, seeded from one account snapshot and kept from the {@code outboundAccountPosition} and
+ * {@code balanceUpdate} events of the user data stream, so checks before placing an order are local reads
+ * instead of account requests.
+ * <pre>
+ * BalanceCache balances = new BalanceCache(AccountSource.spot(spotClient.createTrade()));
+ * StreamDecoder decoder = new StreamDecoder()
+ *         .onAccountPosition(balances::onAccountPosition)
+ *         .onBalanceUpdate(balances::onBalanceUpdate);
+ * UserDataSession session = UserDataSession.builder()
+ *         .endpoints(ListenKeyEndpoints.spot(spotClient.createUserData()))
+ *         .messageCallback(decoder)
+ *         .gapCallback(balances)
+ *         .build();
+ * session.start();
+ * balances.seed().join();
+ * </pre>
+ * Balances live in flat arrays indexed by the id of their asset and are read without locking. Each change
+ * increments a version; a read of several values is retried while a change is being written, so the free and
+ * locked amounts read together always come from the same change. Changes older than the last applied to an asset
+ * are ignored, whatever order the snapshot and the events arrive in.
+ * <br>
+ * Assets that were never seen have a zero balance.
+ */
+public final class BalanceCache implements WebSocketGapCallback {
+    private static final int INITIAL_ASSETS = 64;
+    private static final int FIELDS = 3;
+    private static final int FREE = 0;
+    private static final int LOCKED = 1;
+    private static final int UPDATED = 2;
+    private static final int START = 0;
+    private static final int NEXT = 1;
+    private static final int GROWTH = 2;
+    private static final long WRITING = 1L;
+    private static final long NEVER = -1L;
+    private static final double ZERO = 0.0;
+    private static final Logger logger = LoggerFactory.getLogger(BalanceCache.class);
+
+    private final AccountSource source;
+    private final SymbolRegistry assets = new SymbolRegistry();
+    private volatile AtomicLongArray balances = emptyBalances(INITIAL_ASSETS);
+    private volatile long version;
+    private long seedCount;
+
+    /**
+     * Cache without a REST source: {@link #seed(String, long)} has to be called by the application.
+     */
+    public BalanceCache() {
+        this(null);
+    }
+
+    /**
+     * @param source endpoint the balances are seeded from, and fetched again from after a gap
+     */
+    public BalanceCache(AccountSource source) {
+        this.source = source;
+    }
+
+    /**
+     * Applies the balances of an {@code outboundAccountPosition} event.
+     *
+     * @param event account position
+     * @return true if a balance changed
+     */
+    public synchronized boolean onAccountPosition(AccountPositionEvent event) {
+        boolean changed = false;
+        version++;
+        for (int i = START; i < event.count(); i++) {
+            if (event.asset(i) == null) {
+                continue;
+            }
+            int id = assets.register(event.asset(i));
+            AtomicLongArray values = capacity(id);
+            if (event.getLastUpdateTime() >= values.get(id * FIELDS + UPDATED)) {
+                set(values, id, event.free(i), event.locked(i), event.getLastUpdateTime());
+                changed = true;
+            }
+        }
+        version++;
+        return changed;
+    }
+
+    /**
+     * Applies the change of a {@code balanceUpdate} event to the free balance of its asset.
+     *
+     * @param event balance update
+     * @return true if the balance changed, false if it already includes the change
+     */
+    public synchronized boolean onBalanceUpdate(BalanceUpdateEvent event) {
+        int id = assets.register(event.getAsset());
+        AtomicLongArray values = capacity(id);
+        int offset = id * FIELDS;
+        if (event.getClearTime() <= values.get(offset + UPDATED)) {
+            return false;
+        }
+        version++;
+        double free = Double.longBitsToDouble(values.get(offset + FREE)) + event.getDelta();
+        set(values, id, free, Double.longBitsToDouble(values.get(offset + LOCKED)), event.getClearTime());
+        version++;
+        return true;
+    }
+
+    /**
+     * Replaces the balances with those of an account snapshot. Assets missing from the snapshot have a zero
+     * balance, unless an event changed them after it.
+     *
+     * @param account response of the spot or margin account endpoint in String format
+     * @param fetchedAt time the request was sent in milliseconds, used when the response has no update time
+     */
+    public synchronized void seed(String account, long fetchedAt) {
+        JSONObject json = new JSONObject(account);
+        JSONArray listed = json.has("balances") ? json.getJSONArray("balances") : json.optJSONArray("userAssets");
+        if (listed == null) {
+            throw new BinanceConnectorException("[BalanceCache] Response holds no balances.");
+        }
+        long time = json.optLong("updateTime", fetchedAt);
+        version++;
+        boolean[] seen = new boolean[assets.size() + listed.length()];
+        for (int i = START; i < listed.length(); i++) {
+            JSONObject balance = listed.getJSONObject(i);
+            int id = assets.register(balance.getString("asset"));
+            AtomicLongArray values = capacity(id);
+            seen[id] = true;
+            if (time >= values.get(id * FIELDS + UPDATED)) {
+                set(values, id, balance.getDouble("free"), balance.getDouble("locked"), time);
+            }
+        }
+        AtomicLongArray values = balances;
+        for (int id = START; id < assets.size(); id++) {
+            if (!seen[id] && time >= values.get(id * FIELDS + UPDATED)) {
+                set(values, id, ZERO, ZERO, time);
+            }
+        }
+        seedCount++;
+        version++;
+    }
+
+    /**
+     * Fetches the account from the source and seeds the balances with it.
+     *
+     * @return future completed once the balances are seeded
+     */
+    public CompletableFuture<Void> seed() {
+        if (source == null) {
+            throw new BinanceConnectorException("[BalanceCache] No account source to seed from.");
+        }
+        long fetchedAt = System.currentTimeMillis();
+        return source.fetchAccount().thenAccept(account -> seed(account, fetchedAt));
+    }
+
+    /**
+     * Fetches the account again after events of the user data stream may have been missed.
+     */
+    @Override
+    public void onGap(int connectionId, long disconnectedAt, long reconnectedAt) {
+        if (source == null) {
+            logger.warn("[BalanceCache] Events missed on connection {} but no account source to seed from.", connectionId);
+            return;
+        }
+        seed().whenComplete((done, t) -> {
+            if (t != null) {
+                logger.warn("[BalanceCache] Seeding failed: {}", t.getMessage());
+            }
+        });
+    }
+
+    /**
+     * @param asset asset, e.g. BTC
+     * @return free balance of the asset
+     */
+    public double free(String asset) {
+        return read(asset, FREE);
+    }
+
+    /**
+     * @param asset asset, e.g. BTC
+     * @return balance of the asset locked in open orders
+     */
+    public double locked(String asset) {
+        return read(asset, LOCKED);
+    }
+
+    /**
+     * @param asset asset, e.g. BTC
+     * @return free and locked balance of the asset
+     */
+    public double total(String asset) {
+        int id = assets.find(asset);
+        if (id == SymbolRegistry.NOT_FOUND) {
+            return ZERO;
+        }
+        while (true) {
+            long before = version;
+            AtomicLongArray values = balances;
+            double total = Double.longBitsToDouble(values.get(id * FIELDS + FREE))
+                    + Double.longBitsToDouble(values.get(id * FIELDS + LOCKED));
+            if ((before & WRITING) == START && before == version) {
+                return total;
+            }
+        }
+    }
+
+    /**
+     * @param asset asset, e.g. BTC
+     * @param quantity quantity an order would need
+     * @return true if the free balance of the asset covers the quantity
+     */
+    public boolean hasFree(String asset, double quantity) {
+        return free(asset) >= quantity;
+    }
+
+    /**
+     * @param asset asset, e.g. BTC
+     * @return time of the last change applied to the asset in milliseconds, or -1 if it was never seen
+     */
+    public long getUpdateTime(String asset) {
+        int id = assets.find(asset);
+        return id == SymbolRegistry.NOT_FOUND ? NEVER : balances.get(id * FIELDS + UPDATED);
+    }
+
+    /**
+     * @return number that increases whenever balances are written, to tell whether values read earlier may be stale
+     */
+    public long getVersion() {
+        while (true) {
+            long current = version;
+            if ((current & WRITING) == START) {
+                return current;
+            }
+        }
+    }
+
+    /**
+     * @return true once the cache was seeded from an account snapshot
+     */
+    public synchronized boolean isSeeded() {
+        return seedCount > START;
+    }
+
+    private double read(String asset, int field) {
+        int id = assets.find(asset);
+        return id == SymbolRegistry.NOT_FOUND ? ZERO : Double.longBitsToDouble(balances.get(id * FIELDS + field));
+    }
+
+    /**
+     * @return the balances, grown and published if the asset does not fit
+     */
+    private AtomicLongArray capacity(int id) {
+        AtomicLongArray values = balances;
+        if (id * FIELDS < values.length()) {
+            return values;
+        }
+        AtomicLongArray larger = emptyBalances(Math.max(values.length() / FIELDS * GROWTH, id + NEXT));
+        for (int i = START; i < values.length(); i++) {
+            larger.set(i, values.get(i));
+        }
+        balances = larger;
+        return larger;
+    }
+
+    private static void set(AtomicLongArray values, int id, double free, double locked, long time) {
+        values.set(id * FIELDS + FREE, Double.doubleToRawLongBits(free));
+        values.set(id * FIELDS + LOCKED, Double.doubleToRawLongBits(locked));
+        values.set(id * FIELDS + UPDATED, time);
+    }
+
+    private static AtomicLongArray emptyBalances(int size) {
+        AtomicLongArray values = new AtomicLongArray(size * FIELDS);
+        for (int id = START; id < size; id++) {
+            values.set(id * FIELDS + UPDATED, NEVER);
+        }
+        return values;
+    }
+}
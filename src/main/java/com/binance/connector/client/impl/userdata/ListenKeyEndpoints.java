@@ -0,0 +1,127 @@
+package com.binance.connector.client.impl.userdata;
+
+import java.util.concurrent.CompletableFuture;
+
+import com.binance.connector.client.impl.spot.UserData;
+import com.binance.connector.client.impl.websocketapi.WebSocketApiUserDataStream;
+import com.binance.connector.client.utils.ParameterChecker;
+
+/**
+ * Endpoints creating, extending and closing the listen keys of one kind of user data stream.
+ */
+public interface ListenKeyEndpoints {
+    /**
+     * @return future completed with the response holding the listen key
+     */
+    CompletableFuture<String> create();
+
+    /**
+     * @param listenKey listen key to keep alive
+     * @return future completed with the response, or failed if the key no longer exists
+     */
+    CompletableFuture<String> extend(String listenKey);
+
+    /**
+     * @param listenKey listen key to close
+     * @return future completed with the response
+     */
+    CompletableFuture<String> close(String listenKey);
+
+    /**
+     * @param userData user data endpoints
+     * @return endpoints of the spot user data stream, /api/v3/userDataStream
+     */
+    static ListenKeyEndpoints spot(UserData userData) {
+        ParameterChecker.checkParameterType(userData, UserData.class, "userData");
+        return new ListenKeyEndpoints() {
+            @Override
+            public CompletableFuture<String> create() {
+                return userData.createListenKeyAsync();
+            }
+
+            @Override
+            public CompletableFuture<String> extend(String listenKey) {
+                return userData.extendListenKeyAsync(UserDataSession.listenKeyParameters(null, listenKey));
+            }
+
+            @Override
+            public CompletableFuture<String> close(String listenKey) {
+                return userData.closeListenKeyAsync(UserDataSession.listenKeyParameters(null, listenKey));
+            }
+        };
+    }
+
+    /**
+     * @param userData user data endpoints
+     * @return endpoints of the cross margin user data stream, /sapi/v1/userDataStream
+     */
+    static ListenKeyEndpoints margin(UserData userData) {
+        ParameterChecker.checkParameterType(userData, UserData.class, "userData");
+        return new ListenKeyEndpoints() {
+            @Override
+            public CompletableFuture<String> create() {
+                return userData.createMarginListenKeyAsync();
+            }
+
+            @Override
+            public CompletableFuture<String> extend(String listenKey) {
+                return userData.extendMarginListenKeyAsync(UserDataSession.listenKeyParameters(null, listenKey));
+            }
+
+            @Override
+            public CompletableFuture<String> close(String listenKey) {
+                return userData.closeMarginListenKeyAsync(UserDataSession.listenKeyParameters(null, listenKey));
+            }
+        };
+    }
+
+    /**
+     * @param userData user data endpoints
+     * @param symbol isolated margin symbol, e.g. BTCUSDT
+     * @return endpoints of the isolated margin user data stream of the symbol, /sapi/v1/userDataStream/isolated
+     */
+    static ListenKeyEndpoints isolatedMargin(UserData userData, String symbol) {
+        ParameterChecker.checkParameterType(userData, UserData.class, "userData");
+        ParameterChecker.checkParameterType(symbol, String.class, "symbol");
+        return new ListenKeyEndpoints() {
+            @Override
+            public CompletableFuture<String> create() {
+                return userData.createIsolatedMarginListenKeyAsync(UserDataSession.listenKeyParameters(symbol, null));
+            }
+
+            @Override
+            public CompletableFuture<String> extend(String listenKey) {
+                return userData.extendIsolatedMarginListenKeyAsync(UserDataSession.listenKeyParameters(symbol, listenKey));
+            }
+
+            @Override
+            public CompletableFuture<String> close(String listenKey) {
+                return userData.closeIsolatedMarginListenKeyAsync(UserDataSession.listenKeyParameters(symbol, listenKey));
+            }
+        };
+    }
+
+    /**
+     * @param userDataStream user data stream requests of a WebSocket API connection
+     * @return endpoints of the spot user data stream, requested over the WebSocket API
+     */
+    static ListenKeyEndpoints webSocketApi(WebSocketApiUserDataStream userDataStream) {
+        ParameterChecker.checkParameterType(userDataStream, WebSocketApiUserDataStream.class, "userDataStream");
+        return new ListenKeyEndpoints() {
+            @Override
+            public CompletableFuture<String> create() {
+                return userDataStream.userDataStreamStart(null);
+            }
+
+            @Override
+            public CompletableFuture<String> extend(String listenKey) {
+                return userDataStream.userDataStreamPing(listenKey, null);
+            }
+
+            @Override
+            public CompletableFuture<String> close(String listenKey) {
+                return userDataStream.userDataStreamStop(listenKey, null);
+            }
+        };
+    }
+}
@@ -0,0 +1,63 @@
+package com.binance.connector.client.impl.userdata;
+
+import java.util.LinkedHashMap;
+import java.util.concurrent.CompletableFuture;
+
+import com.binance.connector.client.impl.spot.Margin;
+import com.binance.connector.client.impl.spot.Trade;
+import com.binance.connector.client.utils.ParameterChecker;
+
+/**
+ * REST endpoints an {@link OrderStateStore} reconciles its orders with.
+ */
+public interface OrderSource {
+    /**
+     * @return future completed with the open orders of every symbol, as returned by the open orders endpoint
+     */
+    CompletableFuture<String> fetchOpenOrders();
+
+    /**
+     * @param symbol symbol of the order
+     * @param orderId id of the order
+     * @return future completed with the order, as returned by the query order endpoint
+     */
+    CompletableFuture<String> fetchOrder(String symbol, long orderId);
+
+    /**
+     * @param trade spot trade endpoints
+     * @return source of the spot orders
+     */
+    static OrderSource spot(Trade trade) {
+        ParameterChecker.checkParameterType(trade, Trade.class, "trade");
+        return new OrderSource() {
+            @Override
+            public CompletableFuture<String> fetchOpenOrders() {
+                return trade.getOpenOrdersAsync(new LinkedHashMap<>());
+            }
+
+            @Override
+            public CompletableFuture<String> fetchOrder(String symbol, long orderId) {
+                return trade.getOrderAsync(OrderStateStore.orderParameters(symbol, orderId));
+            }
+        };
+    }
+
+    /**
+     * @param margin margin endpoints
+     * @return source of the cross margin orders
+     */
+    static OrderSource margin(Margin margin) {
+        ParameterChecker.checkParameterType(margin, Margin.class, "margin");
+        return new OrderSource() {
+            @Override
+            public CompletableFuture<String> fetchOpenOrders() {
+                return margin.getOpenOrdersAsync(new LinkedHashMap<>());
+            }
+
+            @Override
+            public CompletableFuture<String> fetchOrder(String symbol, long orderId) {
+                return margin.getOrderAsync(OrderStateStore.orderParameters(symbol, orderId));
+            }
+        };
+    }
+}
@@ -0,0 +1,194 @@
+package com.binance.connector.client.impl.userdata;
+
+import org.json.JSONObject;
+
+import com.binance.connector.client.enums.Side;
+import com.binance.connector.client.utils.decoder.ExecutionReportEvent;
+
+/**
+ * State of an order after the last execution report or REST response applied to an {@link OrderStateStore}.
+ * <br>
+ * States are immutable: each change of an order publishes a new state, so a state read from the store can be
+ * kept and read from any thread.
+ */
+public final class OrderState {
+    private static final String NEW = "NEW";
+    private static final String PARTIALLY_FILLED = "PARTIALLY_FILLED";
+    private static final String PENDING_NEW = "PENDING_NEW";
+    private static final long NONE = -1L;
+
+    private String symbol;
+    private long orderId;
+    private String clientOrderId;
+    private Side side;
+    private String orderType;
+    private String timeInForce;
+    private String status;
+    private double price;
+    private double quantity;
+    private double stopPrice;
+    private double executedQuantity;
+    private double cumulativeQuoteQuantity;
+    private long creationTime;
+    private long updateTime;
+    private boolean working;
+
+    private OrderState() {
+    }
+
+    /**
+     * @param event execution report
+     * @param clientOrderId client order id the order was placed with
+     */
+    static OrderState of(ExecutionReportEvent event, String clientOrderId) {
+        OrderState state = new OrderState();
+        state.symbol = event.getSymbol();
+        state.orderId = event.getOrderId();
+        state.clientOrderId = clientOrderId;
+        state.side = event.getSide();
+        state.orderType = event.getOrderType();
+        state.timeInForce = event.getTimeInForce();
+        state.status = event.getOrderStatus();
+        state.price = event.getPrice();
+        state.quantity = event.getQuantity();
+        state.stopPrice = event.getStopPrice();
+        state.executedQuantity = event.getCumulativeQuantity();
+        state.cumulativeQuoteQuantity = event.getCumulativeQuoteQuantity();
+        state.creationTime = event.getCreationTime();
+        state.updateTime = event.getTransactionTime();
+        state.working = event.isWorking();
+        return state;
+    }
+
+    /**
+     * @param order order as returned by the REST order and open orders endpoints
+     */
+    static OrderState of(JSONObject order) {
+        OrderState state = new OrderState();
+        state.symbol = order.getString("symbol");
+        state.orderId = order.getLong("orderId");
+        state.clientOrderId = order.getString("clientOrderId");
+        state.side = Side.valueOf(order.getString("side"));
+        state.orderType = order.optString("type", null);
+        state.timeInForce = order.optString("timeInForce", null);
+        state.status = order.getString("status");
+        state.price = order.optDouble("price", Double.NaN);
+        state.quantity = order.optDouble("origQty", Double.NaN);
+        state.stopPrice = order.optDouble("stopPrice", Double.NaN);
+        state.executedQuantity = order.optDouble("executedQty", Double.NaN);
+        state.cumulativeQuoteQuantity = order.optDouble("cummulativeQuoteQty", Double.NaN);
+        state.creationTime = order.optLong("time", NONE);
+        state.updateTime = order.optLong("updateTime", state.creationTime);
+        state.working = order.optBoolean("isWorking", true);
+        return state;
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public long getOrderId() {
+        return orderId;
+    }
+
+    /**
+     * @return client order id the order was placed with, also after a cancel request with another id
+     */
+    public String getClientOrderId() {
+        return clientOrderId;
+    }
+
+    public Side getSide() {
+        return side;
+    }
+
+    /**
+     * @return order type, e.g. LIMIT
+     */
+    public String getOrderType() {
+        return orderType;
+    }
+
+    public String getTimeInForce() {
+        return timeInForce;
+    }
+
+    /**
+     * @return order status, e.g. NEW, PARTIALLY_FILLED, FILLED, CANCELED
+     */
+    public String getStatus() {
+        return status;
+    }
+
+    public double getPrice() {
+        return price;
+    }
+
+    public double getQuantity() {
+        return quantity;
+    }
+
+    public double getStopPrice() {
+        return stopPrice;
+    }
+
+    public double getExecutedQuantity() {
+        return executedQuantity;
+    }
+
+    public double getCumulativeQuoteQuantity() {
+        return cumulativeQuoteQuantity;
+    }
+
+    /**
+     * @return quantity left to execute while the order is open
+     */
+    public double getRemainingQuantity() {
+        return quantity - executedQuantity;
+    }
+
+    public long getCreationTime() {
+        return creationTime;
+    }
+
+    /**
+     * @return transaction time of the last change of the order in milliseconds
+     */
+    public long getUpdateTime() {
+        return updateTime;
+    }
+
+    /**
+     * @return true if the order is on the book, false for a stop order not yet triggered
+     */
+    public boolean isWorking() {
+        return working;
+    }
+
+    /**
+     * @return true until the order is filled, cancelled, rejected or expired
+     */
+    public boolean isOpen() {
+        return isOpen(status);
+    }
+
+    static boolean isOpen(String status) {
+        return NEW.equals(status) || PARTIALLY_FILLED.equals(status) || PENDING_NEW.equals(status);
+    }
+
+    /**
+     * Orders only move forward: a change is older than this state if it happened earlier, executed less,
+     * or reopens a closed order.
+     */
+    boolean isSupersededBy(OrderState next) {
+        return next.updateTime >= updateTime
+                && !(next.executedQuantity < executedQuantity)
+                && (isOpen() || !next.isOpen());
+    }
+
+    @Override
+    public String toString() {
+        return symbol + " " + orderId + " " + clientOrderId + " " + side + " " + orderType + " " + status + " "
+                + executedQuantity + "/" + quantity + " at " + price;
+    }
+}
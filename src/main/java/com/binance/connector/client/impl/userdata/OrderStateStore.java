@@ -0,0 +1,535 @@
+package com.binance.connector.client.impl.userdata;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.binance.connector.client.exceptions.BinanceConnectorException;
+import com.binance.connector.client.utils.SymbolRegistry;
+import com.binance.connector.client.utils.decoder.ExecutionReportEvent;
+import com.binance.connector.client.utils.websocketcallback.WebSocketGapCallback;
+
+/**
+ * Live view of the orders of an account, kept from the {@code executionReport} events of the user data stream
+ * and reconciled with the REST open orders after a reconnection.
+ * <pre>
+ * OrderStateStore orders = new OrderStateStore(OrderSource.spot(spotClient.createTrade()));
+ * StreamDecoder decoder = new StreamDecoder().onExecutionReport(orders::onExecutionReport);
+ * UserDataSession session = UserDataSession.builder()
+ *         .endpoints(ListenKeyEndpoints.spot(spotClient.createUserData()))
+ *         .messageCallback(decoder)
+ *         .gapCallback(orders)
+ *         .build();
+ * </pre>
+ * Orders are found by symbol and order id, since order ids are only unique within a symbol, or by the client
+ * order id they were placed with, and the open orders are indexed by symbol. Lookups take no lock: the orders live in open-addressing tables keyed by primitive ids,
+ * each change publishing a new immutable {@link OrderState}. Changes are applied one at a time and only move
+ * an order forward, so a report or snapshot older than the known state is ignored.
+ * <br>
+ * Closed orders stay available by id until more than {@code closedCapacity} orders have closed after them.
+ */
+public final class OrderStateStore implements WebSocketGapCallback {
+    public static final int DEFAULT_CLOSED_CAPACITY = 10000;
+    private static final int MIN_SLOTS = 64;
+    private static final int LOAD_DIVISOR = 2;
+    private static final int GROWTH = 4;
+    private static final int HASH_SHIFT = 16;
+    private static final int LONG_SHIFT = 32;
+    private static final long HASH_MULTIPLIER = 31L;
+    private static final int START = 0;
+    private static final int NEXT = 1;
+    private static final int NOT_FOUND = -1;
+    private static final long[] NO_ORDERS = new long[START];
+    private static final Object REMOVED = new Object();
+    private static final Logger logger = LoggerFactory.getLogger(OrderStateStore.class);
+
+    private final OrderSource source;
+    private final SymbolRegistry symbols = new SymbolRegistry();
+    private final OrderState[] closedOrders;
+    private int closedHead;
+    private int closedCount;
+    private volatile IdTable byId = new IdTable(MIN_SLOTS, symbols);
+    private volatile ClientIdTable byClientOrderId = new ClientIdTable(MIN_SLOTS);
+    private volatile AtomicReferenceArray<long[]> openBySymbol = new AtomicReferenceArray<>(MIN_SLOTS);
+    private volatile long version;
+    private long reconcileCount;
+
+    /**
+     * Store without a REST source: {@link #reconcile(String, long)} has to be called by the application.
+     */
+    public OrderStateStore() {
+        this(null, DEFAULT_CLOSED_CAPACITY);
+    }
+
+    /**
+     * @param source endpoints the orders are reconciled with after a gap
+     */
+    public OrderStateStore(OrderSource source) {
+        this(source, DEFAULT_CLOSED_CAPACITY);
+    }
+
+    /**
+     * @param source endpoints the orders are reconciled with after a gap, may be null
+     * @param closedCapacity number of closed orders kept available
+     */
+    public OrderStateStore(OrderSource source, int closedCapacity) {
+        if (closedCapacity < NEXT) {
+            throw new BinanceConnectorException("[OrderStateStore] Closed capacity must be positive.");
+        }
+        this.source = source;
+        this.closedOrders = new OrderState[closedCapacity];
+    }
+
+    /**
+     * Applies an execution report, e.g. as the {@code onExecutionReport} callback of a
+     * {@link com.binance.connector.client.utils.decoder.StreamDecoder}.
+     *
+     * @param event execution report
+     * @return true if the order changed, false if the report is older than its known state
+     */
+    public synchronized boolean onExecutionReport(ExecutionReportEvent event) {
+        OrderState previous = byId.get(event.getSymbol(), event.getOrderId());
+        String clientOrderId;
+        if (previous != null) {
+            clientOrderId = previous.getClientOrderId();
+        } else if (event.getOriginalClientOrderId() != null && !event.getOriginalClientOrderId().isEmpty()) {
+            clientOrderId = event.getOriginalClientOrderId();
+        } else {
+            clientOrderId = event.getClientOrderId();
+        }
+        return update(previous, OrderState.of(event, clientOrderId));
+    }
+
+    /**
+     * Applies an order as returned by the query order endpoint.
+     *
+     * @param order response in String format
+     * @return true if the order changed, false if the response is older than its known state
+     */
+    public synchronized boolean applyOrder(String order) {
+        OrderState state = OrderState.of(new JSONObject(order));
+        return update(byId.get(state.getSymbol(), state.getOrderId()), state);
+    }
+
+    /**
+     * Applies the open orders of every symbol and finds the orders still open here that are no longer open
+     * on the server: they were filled or cancelled while events were missed and have to be queried one by one.
+     *
+     * @param openOrders response of the open orders endpoint in String format
+     * @param fetchedAt time the request was sent in milliseconds; orders changed since are not reported missing
+     * @return the orders open here but missing from the response
+     */
+    public synchronized List<OrderState> reconcile(String openOrders, long fetchedAt) {
+        JSONArray orders = new JSONArray(openOrders);
+        int[] listedSymbols = new int[orders.length()];
+        long[] listedIds = new long[orders.length()];
+        for (int i = START; i < listedIds.length; i++) {
+            OrderState state = OrderState.of(orders.getJSONObject(i));
+            listedSymbols[i] = symbols.register(state.getSymbol());
+            listedIds[i] = state.getOrderId();
+            update(byId.get(state.getSymbol(), state.getOrderId()), state);
+        }
+        long[][] listed = bySymbol(listedSymbols, listedIds);
+        List<OrderState> missing = new ArrayList<>();
+        AtomicReferenceArray<long[]> open = openBySymbol;
+        for (int symbol = START; symbol < open.length(); symbol++) {
+            long[] ids = open.get(symbol);
+            if (ids == null) {
+                continue;
+            }
+            long[] symbolListed = symbol < listed.length ? listed[symbol] : NO_ORDERS;
+            String name = symbols.nameOf(symbol);
+            for (long id : ids) {
+                OrderState state = byId.get(name, id);
+                if (Arrays.binarySearch(symbolListed, id) < START && state.getUpdateTime() <= fetchedAt) {
+                    missing.add(state);
+                }
+            }
+        }
+        reconcileCount++;
+        return missing;
+    }
+
+    /**
+     * Fetches the open orders from the source, then each order open here but missing from them.
+     *
+     * @return future completed with the number of missing orders queried
+     */
+    public CompletableFuture<Integer> reconcile() {
+        if (source == null) {
+            throw new BinanceConnectorException("[OrderStateStore] No order source to reconcile with.");
+        }
+        long fetchedAt = System.currentTimeMillis();
+        return source.fetchOpenOrders().thenCompose(response -> {
+            List<OrderState> missing = reconcile(response, fetchedAt);
+            CompletableFuture<?>[] queries = new CompletableFuture<?>[missing.size()];
+            for (int i = START; i < queries.length; i++) {
+                OrderState state = missing.get(i);
+                queries[i] = source.fetchOrder(state.getSymbol(), state.getOrderId()).thenAccept(this::applyOrder);
+            }
+            return CompletableFuture.allOf(queries).thenApply(done -> queries.length);
+        });
+    }
+
+    /**
+     * Reconciles the orders with the source after events of the user data stream may have been missed.
+     */
+    @Override
+    public void onGap(int connectionId, long disconnectedAt, long reconnectedAt) {
+        if (source == null) {
+            logger.warn("[OrderStateStore] Events missed on connection {} but no order source to reconcile with.", connectionId);
+            return;
+        }
+        reconcile().whenComplete((queried, t) -> {
+            if (t != null) {
+                logger.warn("[OrderStateStore] Reconciliation failed: {}", t.getMessage());
+            } else {
+                logger.info("[OrderStateStore] Reconciled after gap on connection {}, {} missing orders queried.", connectionId, queried);
+            }
+        });
+    }
+
+    /**
+     * @param symbol symbol of the order, e.g. BTCUSDT
+     * @param orderId id of the order
+     * @return the state of the order, or null if it is unknown
+     */
+    public OrderState get(String symbol, long orderId) {
+        return byId.get(symbol, orderId);
+    }
+
+    /**
+     * @param clientOrderId client order id the order was placed with
+     * @return the state of the order, or null if it is unknown
+     */
+    public OrderState getByClientOrderId(String clientOrderId) {
+        return byClientOrderId.get(clientOrderId);
+    }
+
+    /**
+     * @param symbol symbol, e.g. BTCUSDT
+     * @return number of open orders of the symbol
+     */
+    public int openOrderCount(String symbol) {
+        return openIds(symbol).length;
+    }
+
+    /**
+     * @param symbol symbol, e.g. BTCUSDT
+     * @return the open orders of the symbol, oldest first
+     */
+    public List<OrderState> openOrders(String symbol) {
+        long[] ids = openIds(symbol);
+        IdTable table = byId;
+        List<OrderState> orders = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            OrderState state = table.get(symbol, id);
+            if (state != null) {
+                orders.add(state);
+            }
+        }
+        return orders;
+    }
+
+    /**
+     * @return number of changes applied, increasing with each of them
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public synchronized long getReconcileCount() {
+        return reconcileCount;
+    }
+
+    private long[] openIds(String symbol) {
+        int id = symbols.find(symbol);
+        AtomicReferenceArray<long[]> open = openBySymbol;
+        if (id == SymbolRegistry.NOT_FOUND || id >= open.length()) {
+            return NO_ORDERS;
+        }
+        long[] ids = open.get(id);
+        return ids == null ? NO_ORDERS : ids;
+    }
+
+    private boolean update(OrderState previous, OrderState state) {
+        if (previous != null && !previous.isSupersededBy(state)) {
+            return false;
+        }
+        IdTable ids = (IdTable) grown(byId);
+        ids.put(state);
+        byId = ids;
+        ClientIdTable clientIds = (ClientIdTable) grown(byClientOrderId);
+        clientIds.put(state);
+        byClientOrderId = clientIds;
+        boolean wasOpen = previous != null && previous.isOpen();
+        if (state.isOpen() != wasOpen) {
+            updateOpen(state.getSymbol(), state.getOrderId(), state.isOpen());
+        }
+        if (!state.isOpen() && (previous == null || wasOpen)) {
+            addClosed(state);
+        }
+        version++;
+        return true;
+    }
+
+    private void updateOpen(String symbol, long orderId, boolean open) {
+        int id = symbols.register(symbol);
+        AtomicReferenceArray<long[]> index = openBySymbol;
+        if (id >= index.length()) {
+            AtomicReferenceArray<long[]> larger = new AtomicReferenceArray<>(Math.max(index.length() * LOAD_DIVISOR, id + NEXT));
+            for (int i = START; i < index.length(); i++) {
+                larger.set(i, index.get(i));
+            }
+            index = larger;
+            openBySymbol = larger;
+        }
+        long[] ids = index.get(id) == null ? NO_ORDERS : index.get(id);
+        if (open) {
+            long[] added = Arrays.copyOf(ids, ids.length + NEXT);
+            added[ids.length] = orderId;
+            index.set(id, added);
+            return;
+        }
+        int position = NOT_FOUND;
+        for (int i = START; i < ids.length && position == NOT_FOUND; i++) {
+            position = ids[i] == orderId ? i : NOT_FOUND;
+        }
+        if (position != NOT_FOUND) {
+            long[] removed = new long[ids.length - NEXT];
+            System.arraycopy(ids, START, removed, START, position);
+            System.arraycopy(ids, position + NEXT, removed, position, removed.length - position);
+            index.set(id, removed);
+        }
+    }
+
+    /**
+     * Remembers a closed order, forgetting the order closed longest ago once the capacity is reached.
+     */
+    private void addClosed(OrderState closed) {
+        if (closedCount == closedOrders.length) {
+            OrderState oldest = byId.get(closedOrders[closedHead].getSymbol(), closedOrders[closedHead].getOrderId());
+            if (oldest != null && !oldest.isOpen()) {
+                byId.remove(oldest);
+                byClientOrderId.remove(oldest);
+            }
+        } else {
+            closedCount++;
+        }
+        closedOrders[closedHead] = closed;
+        closedHead = closedHead + NEXT == closedOrders.length ? START : closedHead + NEXT;
+    }
+
+    /**
+     * @return the table, or a larger copy of its live orders if one more could fill it beyond its load
+     */
+    private static Table grown(Table table) {
+        if ((table.used + NEXT) * LOAD_DIVISOR <= table.slots.length()) {
+            return table;
+        }
+        Table larger = table.newTable(Math.max(MIN_SLOTS, Integer.highestOneBit(Math.max(table.live, NEXT) * GROWTH) * LOAD_DIVISOR));
+        for (int i = START; i < table.slots.length(); i++) {
+            Object slot = table.slots.get(i);
+            if (slot != null && slot != REMOVED) {
+                larger.put((OrderState) slot);
+            }
+        }
+        return larger;
+    }
+
+    /**
+     * @return the order ids of each symbol id, sorted
+     */
+    private long[][] bySymbol(int[] symbolIds, long[] orderIds) {
+        long[][] grouped = new long[symbols.size()][];
+        int[] counts = new int[grouped.length];
+        for (int symbol : symbolIds) {
+            counts[symbol]++;
+        }
+        for (int symbol = START; symbol < grouped.length; symbol++) {
+            grouped[symbol] = new long[counts[symbol]];
+            counts[symbol] = START;
+        }
+        for (int i = START; i < orderIds.length; i++) {
+            grouped[symbolIds[i]][counts[symbolIds[i]]++] = orderIds[i];
+        }
+        for (long[] ids : grouped) {
+            Arrays.sort(ids);
+        }
+        return grouped;
+    }
+
+    static Map<String, Object> orderParameters(String symbol, long orderId) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("symbol", symbol);
+        parameters.put("orderId", orderId);
+        return parameters;
+    }
+
+    /**
+     * Open-addressing table of order states, written by one thread at a time and read without locking:
+     * a slot is published with a volatile write and a removed order leaves a marker so probes go on.
+     */
+    private abstract static class Table {
+        private final AtomicReferenceArray<Object> slots;
+        private final int mask;
+        private int used;
+        private int live;
+
+        Table(int size) {
+            this.slots = new AtomicReferenceArray<>(size);
+            this.mask = size - NEXT;
+        }
+
+        abstract int hashOf(OrderState state);
+
+        abstract boolean sameKey(OrderState a, OrderState b);
+
+        abstract Table newTable(int size);
+
+        void put(OrderState state) {
+            int free = NOT_FOUND;
+            for (int i = hashOf(state) & mask;; i = (i + NEXT) & mask) {
+                Object slot = slots.get(i);
+                if (slot == null) {
+                    if (free == NOT_FOUND) {
+                        free = i;
+                        used++;
+                    }
+                    live++;
+                    slots.set(free, state);
+                    return;
+                }
+                if (slot == REMOVED) {
+                    free = free == NOT_FOUND ? i : free;
+                } else if (sameKey((OrderState) slot, state)) {
+                    slots.set(i, state);
+                    return;
+                }
+            }
+        }
+
+        void remove(OrderState state) {
+            for (int i = hashOf(state) & mask;; i = (i + NEXT) & mask) {
+                Object slot = slots.get(i);
+                if (slot == null) {
+                    return;
+                }
+                if (slot != REMOVED && sameKey((OrderState) slot, state)) {
+                    if (((OrderState) slot).getOrderId() == state.getOrderId()
+                            && ((OrderState) slot).getSymbol().equals(state.getSymbol())) {
+                        slots.set(i, REMOVED);
+                        live--;
+                    }
+                    return;
+                }
+            }
+        }
+
+        int first(int hash) {
+            return hash & mask;
+        }
+
+        int next(int slot) {
+            return (slot + NEXT) & mask;
+        }
+
+        Object slot(int slot) {
+            return slots.get(slot);
+        }
+
+        static int spread(int hash) {
+            return hash ^ (hash >>> HASH_SHIFT);
+        }
+    }
+
+    /**
+     * Orders keyed by the id of their symbol and their order id.
+     */
+    private static final class IdTable extends Table {
+        private final SymbolRegistry symbols;
+
+        IdTable(int size, SymbolRegistry symbols) {
+            super(size);
+            this.symbols = symbols;
+        }
+
+        OrderState get(String symbol, long orderId) {
+            int symbolId = symbols.find(symbol);
+            if (symbolId == SymbolRegistry.NOT_FOUND) {
+                return null;
+            }
+            for (int i = first(hash(symbolId, orderId));; i = next(i)) {
+                Object slot = slot(i);
+                if (slot == null) {
+                    return null;
+                }
+                if (slot != REMOVED && ((OrderState) slot).getOrderId() == orderId && ((OrderState) slot).getSymbol().equals(symbol)) {
+                    return (OrderState) slot;
+                }
+            }
+        }
+
+        @Override
+        int hashOf(OrderState state) {
+            return hash(symbols.register(state.getSymbol()), state.getOrderId());
+        }
+
+        @Override
+        boolean sameKey(OrderState a, OrderState b) {
+            return a.getOrderId() == b.getOrderId() && a.getSymbol().equals(b.getSymbol());
+        }
+
+        @Override
+        Table newTable(int size) {
+            return new IdTable(size, symbols);
+        }
+
+        private static int hash(int symbolId, long orderId) {
+            long key = orderId * HASH_MULTIPLIER + symbolId;
+            return spread((int) (key ^ (key >>> LONG_SHIFT)));
+        }
+    }
+
+    private static final class ClientIdTable extends Table {
+        ClientIdTable(int size) {
+            super(size);
+        }
+
+        OrderState get(String clientOrderId) {
+            for (int i = first(spread(clientOrderId.hashCode()));; i = next(i)) {
+                Object slot = slot(i);
+                if (slot == null) {
+                    return null;
+                }
+                if (slot != REMOVED && clientOrderId.equals(((OrderState) slot).getClientOrderId())) {
+                    return (OrderState) slot;
+                }
+            }
+        }
+
+        @Override
+        int hashOf(OrderState state) {
+            return spread(state.getClientOrderId().hashCode());
+        }
+
+        @Override
+        boolean sameKey(OrderState a, OrderState b) {
+            return a.getClientOrderId().equals(b.getClientOrderId());
+        }
+
+        @Override
+        Table newTable(int size) {
+            return new ClientIdTable(size);
+        }
+    }
+}
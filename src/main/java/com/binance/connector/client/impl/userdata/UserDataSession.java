@@ -0,0 +1,389 @@
+package com.binance.connector.client.impl.userdata;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.binance.connector.client.WebSocketStreamClient;
+import com.binance.connector.client.enums.DefaultUrls;
+import com.binance.connector.client.exceptions.BinanceClientException;
+import com.binance.connector.client.exceptions.BinanceConnectorException;
+import com.binance.connector.client.impl.WebSocketStreamClientImpl;
+import com.binance.connector.client.utils.ExecutorFactory;
+import com.binance.connector.client.utils.ReconnectPolicy;
+import com.binance.connector.client.utils.websocketcallback.WebSocketGapCallback;
+import com.binance.connector.client.utils.websocketcallback.WebSocketMessageCallback;
+
+/**
+ * User data stream kept alive without intervention: the listen key is created, extended every 30 minutes and
+ * replaced when it expires, and the stream connection is reopened after a failure or on the new key.
+ * <br>
+ * Whenever events may have been missed, after a reconnection or once the stream has moved to a new listen key,
+ * the gap callback is called so that the orders and balances kept from the stream can be reconciled with REST.
+ * <pre>
+ * UserDataSession session = UserDataSession.builder()
+ *         .endpoints(ListenKeyEndpoints.spot(spotClient.createUserData()))
+ *         .messageCallback(decoder)
+ *         .gapCallback((connectionId, disconnectedAt, reconnectedAt) -&gt; reconcile())
+ *         .build();
+ * session.start();
+ * </pre>
+ * The session opens its stream on a client of its own and never closes the connections of another client.
+ */
+public final class UserDataSession implements WebSocketMessageCallback, WebSocketGapCallback {
+    public static final long DEFAULT_KEEPALIVE_MILLIS = TimeUnit.MINUTES.toMillis(30);
+    public static final long DEFAULT_RETRY_DELAY_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    private static final String EXPIRED_EVENT = "\"e\":\"listenKeyExpired\"";
+    private static final String LISTEN_KEY = "listenKey";
+    private static final String RESULT = "result";
+    private static final int NO_CONNECTION = -1;
+    private static final int LISTEN_KEY_NOT_FOUND = -1125;
+    private static final long MIN_DELAY = 1L;
+    private static final Logger logger = LoggerFactory.getLogger(UserDataSession.class);
+
+    private final ListenKeyEndpoints endpoints;
+    private final WebSocketStreamClient streamClient;
+    private final WebSocketMessageCallback messageCallback;
+    private final WebSocketGapCallback gapCallback;
+    private final long keepaliveMillis;
+    private final long retryDelayMillis;
+    private String listenKey;
+    private int connectionId = NO_CONNECTION;
+    private ScheduledFuture<?> keepalive;
+    private boolean started;
+    private boolean closed;
+    private boolean rolling;
+    private long keepaliveCount;
+    private long rolloverCount;
+
+    private UserDataSession(Builder builder) {
+        this.endpoints = builder.endpoints;
+        this.messageCallback = builder.messageCallback;
+        this.gapCallback = builder.gapCallback;
+        this.keepaliveMillis = builder.keepaliveMillis;
+        this.retryDelayMillis = builder.retryDelayMillis;
+        WebSocketStreamClientImpl client = new WebSocketStreamClientImpl(builder.streamUrl);
+        client.setReconnectPolicy(builder.reconnectPolicy);
+        client.setGapCallback(this);
+        this.streamClient = client;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Creates the listen key, opens the stream and schedules the keepalives.
+     *
+     * @throws BinanceClientException or another exception of the REST client if the key cannot be created
+     */
+    public synchronized void start() {
+        if (started) {
+            throw new BinanceConnectorException("[UserDataSession] The session has already been started.");
+        }
+        started = true;
+        try {
+            listenKey = parseListenKey(endpoints.create().join());
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+        connectionId = streamClient.listenUserStream(listenKey, this);
+        scheduleKeepalive(keepaliveMillis);
+    }
+
+    /**
+     * Stops the keepalives, closes the stream and closes the listen key.
+     */
+    public void close() {
+        String key;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (keepalive != null) {
+                keepalive.cancel(false);
+            }
+            if (connectionId != NO_CONNECTION) {
+                streamClient.closeConnection(connectionId);
+            }
+            key = listenKey;
+        }
+        if (key != null) {
+            endpoints.close(key).whenComplete((response, t) -> {
+                if (t != null) {
+                    logger.warn("[UserDataSession] Failed to close the listen key: {}", t.getMessage());
+                }
+            });
+        }
+    }
+
+    @Override
+    public void onMessage(String data) {
+        messageCallback.onMessage(data);
+        if (data.contains(EXPIRED_EVENT)) {
+            String key = new JSONObject(data).optString(LISTEN_KEY, null);
+            logger.warn("[UserDataSession] Listen key expired, creating a new one.");
+            rollover(key, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * Forwards the reconnections of the current stream connection to the gap callback.
+     */
+    @Override
+    public void onGap(int reconnectedId, long disconnectedAt, long reconnectedAt) {
+        synchronized (this) {
+            if (reconnectedId != connectionId) {
+                return;
+            }
+        }
+        notifyGap(reconnectedId, disconnectedAt, reconnectedAt);
+    }
+
+    public synchronized String getListenKey() {
+        return listenKey;
+    }
+
+    /**
+     * @return ID of the stream connection, which changes when the listen key is replaced
+     */
+    public synchronized int getConnectionId() {
+        return connectionId;
+    }
+
+    /**
+     * @return number of successful keepalives
+     */
+    public synchronized long getKeepaliveCount() {
+        return keepaliveCount;
+    }
+
+    /**
+     * @return number of times the stream moved to a new listen key
+     */
+    public synchronized long getRolloverCount() {
+        return rolloverCount;
+    }
+
+    /**
+     * Extends the listen key; a key the server no longer knows is replaced, other failures are retried.
+     * Each keepalive schedules the next one, so there is never more than one pending.
+     */
+    private void keepalive() {
+        String key;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            if (rolling) {
+                scheduleKeepalive(keepaliveMillis);
+                return;
+            }
+            key = listenKey;
+        }
+        endpoints.extend(key).whenComplete((response, t) -> {
+            if (t == null) {
+                synchronized (this) {
+                    keepaliveCount++;
+                }
+                scheduleKeepalive(keepaliveMillis);
+                return;
+            }
+            Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+            if (cause instanceof BinanceClientException && ((BinanceClientException) cause).getErrorCode() == LISTEN_KEY_NOT_FOUND) {
+                logger.warn("[UserDataSession] Listen key rejected, creating a new one: {}", cause.getMessage());
+                rollover(key, System.currentTimeMillis());
+                scheduleKeepalive(keepaliveMillis);
+            } else {
+                logger.warn("[UserDataSession] Keepalive failed, retrying in {}ms: {}", retryDelayMillis, cause.getMessage());
+                scheduleKeepalive(retryDelayMillis);
+            }
+        });
+    }
+
+    private synchronized void scheduleKeepalive(long delayMillis) {
+        if (!closed) {
+            keepalive = ExecutorFactory.sharedScheduler().schedule(this::keepalive, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Creates a new listen key to replace {@code expiredKey}, unless it was already replaced.
+     */
+    private void rollover(String expiredKey, long lostAt) {
+        synchronized (this) {
+            if (closed || rolling || expiredKey == null || !expiredKey.equals(listenKey)) {
+                return;
+            }
+            rolling = true;
+        }
+        endpoints.create().whenComplete((response, t) -> onListenKeyCreated(expiredKey, lostAt, response, t));
+    }
+
+    private void onListenKeyCreated(String expiredKey, long lostAt, String response, Throwable t) {
+        int reopenedId;
+        synchronized (this) {
+            rolling = false;
+            String newKey = null;
+            Throwable failure = t;
+            if (failure == null) {
+                try {
+                    newKey = parseListenKey(response);
+                } catch (RuntimeException e) {
+                    failure = e;
+                }
+            }
+            if (closed) {
+                if (newKey != null) {
+                    endpoints.close(newKey);
+                }
+                return;
+            }
+            if (newKey == null) {
+                logger.warn("[UserDataSession] Failed to create a listen key, retrying in {}ms: {}", retryDelayMillis, failure.getMessage());
+                ExecutorFactory.sharedScheduler().schedule(() -> rollover(expiredKey, lostAt), retryDelayMillis, TimeUnit.MILLISECONDS);
+                return;
+            }
+            int oldId = connectionId;
+            listenKey = newKey;
+            connectionId = streamClient.listenUserStream(newKey, this);
+            streamClient.closeConnection(oldId);
+            rolloverCount++;
+            reopenedId = connectionId;
+        }
+        notifyGap(reopenedId, lostAt, System.currentTimeMillis());
+    }
+
+    private void notifyGap(int reopenedId, long disconnectedAt, long reconnectedAt) {
+        if (gapCallback != null) {
+            gapCallback.onGap(reopenedId, disconnectedAt, reconnectedAt);
+        }
+    }
+
+    /**
+     * Reads the key of a REST response, or of the result of a WebSocket API response.
+     */
+    static String parseListenKey(String response) {
+        JSONObject json = new JSONObject(response);
+        JSONObject body = json.has(RESULT) ? json.getJSONObject(RESULT) : json;
+        if (!body.has(LISTEN_KEY)) {
+            throw new BinanceConnectorException("[UserDataSession] No listen key in response: " + response);
+        }
+        return body.getString(LISTEN_KEY);
+    }
+
+    static Map<String, Object> listenKeyParameters(String symbol, String key) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        if (symbol != null) {
+            parameters.put("symbol", symbol);
+        }
+        if (key != null) {
+            parameters.put(LISTEN_KEY, key);
+        }
+        return parameters;
+    }
+
+    public static final class Builder {
+        private ListenKeyEndpoints endpoints;
+        private WebSocketMessageCallback messageCallback;
+        private WebSocketGapCallback gapCallback;
+        private String streamUrl = DefaultUrls.WS_URL;
+        private ReconnectPolicy reconnectPolicy = ReconnectPolicy.defaultPolicy();
+        private long keepaliveMillis = DEFAULT_KEEPALIVE_MILLIS;
+        private long retryDelayMillis = DEFAULT_RETRY_DELAY_MILLIS;
+
+        private Builder() {
+        }
+
+        /**
+         * @param listenKeyEndpoints endpoints of the spot, margin or isolated margin listen keys
+         * @return Builder
+         */
+        public Builder endpoints(ListenKeyEndpoints listenKeyEndpoints) {
+            this.endpoints = listenKeyEndpoints;
+            return this;
+        }
+
+        /**
+         * @param callback called with each message of the stream
+         * @return Builder
+         */
+        public Builder messageCallback(WebSocketMessageCallback callback) {
+            this.messageCallback = callback;
+            return this;
+        }
+
+        /**
+         * @param callback called when events may have been missed, may be null
+         * @return Builder
+         */
+        public Builder gapCallback(WebSocketGapCallback callback) {
+            this.gapCallback = callback;
+            return this;
+        }
+
+        /**
+         * @param url base URL of the WebSocket streams, {@link DefaultUrls#WS_URL} by default
+         * @return Builder
+         */
+        public Builder streamUrl(String url) {
+            this.streamUrl = url;
+            return this;
+        }
+
+        /**
+         * @param policy how the stream connection is reopened, {@link ReconnectPolicy#defaultPolicy()} by default
+         * @return Builder
+         */
+        public Builder reconnectPolicy(ReconnectPolicy policy) {
+            if (policy == null) {
+                throw new BinanceConnectorException("[UserDataSession] Reconnect policy cannot be null.");
+            }
+            this.reconnectPolicy = policy;
+            return this;
+        }
+
+        /**
+         * @param interval time between keepalives, 30 minutes by default; keys expire after 60 minutes
+         * @param unit unit of the interval
+         * @return Builder
+         */
+        public Builder keepaliveInterval(long interval, TimeUnit unit) {
+            if (unit.toMillis(interval) < MIN_DELAY) {
+                throw new BinanceConnectorException("[UserDataSession] Keepalive interval must be positive.");
+            }
+            this.keepaliveMillis = unit.toMillis(interval);
+            return this;
+        }
+
+        /**
+         * @param delay time before a failed keepalive or key creation is retried, 1 minute by default
+         * @param unit unit of the delay
+         * @return Builder
+         */
+        public Builder retryDelay(long delay, TimeUnit unit) {
+            if (unit.toMillis(delay) < MIN_DELAY) {
+                throw new BinanceConnectorException("[UserDataSession] Retry delay must be positive.");
+            }
+            this.retryDelayMillis = unit.toMillis(delay);
+            return this;
+        }
+
+        public UserDataSession build() {
+            if (endpoints == null) {
+                throw new BinanceConnectorException("[UserDataSession] Listen key endpoints are required.");
+            }
+            if (messageCallback == null) {
+                throw new BinanceConnectorException("[UserDataSession] A message callback is required.");
+            }
+            return new UserDataSession(this);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.binance.connector.client.impl.websocketapi;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.json.JSONObject;
 
 import com.binance.connector.client.utils.JSONParser;
@@ -12,7 +14,7 @@ import com.binance.connector.client.utils.websocketapi.WebSocketApiRequestHandle
  * <a href="https://binance-docs.github.io/apidocs/websocket_api/en/#account-requests">Account requests</a>
  * section of the WebSocket API documentation will be implemented in this class.
  * <br>
- * Response will be returned as callback.
+ * Response will be returned as callback and completes the CompletableFuture returned by each request.
  */
 public class WebSocketApiAccount implements WebSocketApiModule {
     
@@ -30,11 +32,12 @@ public class WebSocketApiAccount implements WebSocketApiModule {
      * recvWindow -- optional/int -- The value cannot be greater than 60000 <br>
      * requestId -- optional/String or int <br>
      * 
+     * @return CompletableFuture completed with the response
      * @see <a href="https://binance-docs.github.io/apidocs/websocket_api/en/#account-information-user_data">
      *     https://binance-docs.github.io/apidocs/websocket_api/en/#account-information-user_data</a>
      */
-    public void accountStatus(JSONObject parameters) {
-        this.handler.signedRequest("account.status", parameters);
+    public CompletableFuture<String> accountStatus(JSONObject parameters) {
+        return this.handler.signedRequest("account.status", parameters);
     }
 
     /**
@@ -45,11 +48,12 @@ public class WebSocketApiAccount implements WebSocketApiModule {
      * recvWindow -- optional/int -- The value cannot be greater than 60000 <br>
      * requestId -- optional/String or int <br>
      * 
+     * @return CompletableFuture completed with the response
      * @see <a href="https://binance-docs.github.io/apidocs/websocket_api/en/#account-order-rate-limits-user_data">
      *     https://binance-docs.github.io/apidocs/websocket_api/en/#account-order-rate-limits-user_data</a>
      */
-    public void accountRateLimitsOrders(JSONObject parameters) {
-        this.handler.signedRequest("account.rateLimits.orders", parameters);
+    public CompletableFuture<String> accountRateLimitsOrders(JSONObject parameters) {
+        return this.handler.signedRequest("account.rateLimits.orders", parameters);
     }
 
     /**
@@ -67,14 +71,15 @@ public class WebSocketApiAccount implements WebSocketApiModule {
      * recvWindow -- optional/int -- The value cannot be greater than 60000 <br>
      * requestId -- optional/String or int <br>
      * 
+     * @return CompletableFuture completed with the response
      * @see <a href="https://binance-docs.github.io/apidocs/websocket_api/en/#account-order-history-user_data">
      *     https://binance-docs.github.io/apidocs/websocket_api/en/#account-order-history-user_data</a>
      */
-    public void accountAllOrders(String symbol, JSONObject parameters) {
+    public CompletableFuture<String> accountAllOrders(String symbol, JSONObject parameters) {
         ParameterChecker.checkParameterType(symbol, String.class, "symbol");
         parameters = JSONParser.addKeyValue(parameters, "symbol", symbol);
 
-        this.handler.signedRequest("allOrders", parameters);
+        return this.handler.signedRequest("allOrders", parameters);
     }
 
     /**
@@ -91,11 +96,12 @@ public class WebSocketApiAccount implements WebSocketApiModule {
      * recvWindow -- optional/int -- The value cannot be greater than 60000 <br>
      * requestId -- optional/String or int <br>
      * 
+     * @return CompletableFuture completed with the response
      * @see <a href="https://binance-docs.github.io/apidocs/websocket_api/en/#account-oco-history-user_data">
      *     https://binance-docs.github.io/apidocs/websocket_api/en/#account-oco-history-user_data</a>
      */
-    public void accountAllOcoOrders(JSONObject parameters) {
-        this.handler.signedRequest("allOrderLists", parameters);
+    public CompletableFuture<String> accountAllOcoOrders(JSONObject parameters) {
+        return this.handler.signedRequest("allOrderLists", parameters);
     }
 
     /**
@@ -112,14 +118,15 @@ public class WebSocketApiAccount implements WebSocketApiModule {
      * recvWindow -- optional/int -- The value cannot be greater than 60000 <br>
      * requestId -- optional/String or int <br>
      * 
+     * @return CompletableFuture completed with the response
      * @see <a href="https://binance-docs.github.io/apidocs/websocket_api/en/#account-trade-history-user_data">
      *     https://binance-docs.github.io/apidocs/websocket_api/en/#account-trade-history-user_data</a>
      */
-    public void accountTradeHistory(String symbol, JSONObject parameters) {
+    public CompletableFuture<String> accountTradeHistory(String symbol, JSONObject parameters) {
         ParameterChecker.checkParameterType(symbol, String.class, "symbol");
         parameters = JSONParser.addKeyValue(parameters, "symbol", symbol);
 
-        this.handler.signedRequest("myTrades", parameters);
+        return this.handler.signedRequest("myTrades", parameters);
     }
 
     /**
@@ -135,16 +142,17 @@ public class WebSocketApiAccount implements WebSocketApiModule {
      * recvWindow -- optional/int -- The value cannot be greater than 60000 <br>
      * requestId -- optional/String or int <br>
      * 
+     * @return CompletableFuture completed with the response
      * @see <a href="https://binance-docs.github.io/apidocs/websocket_api/en/#account-prevented-matches-user_data">
      *     https://binance-docs.github.io/apidocs/websocket_api/en/#account-prevented-matches-user_data</a>
      */
-    public void accountPreventedMatches(String symbol, JSONObject parameters) {
+    public CompletableFuture<String> accountPreventedMatches(String symbol, JSONObject parameters) {
         ParameterChecker.checkParameterType(symbol, String.class, "symbol");
         ParameterChecker.checkOneOfParametersRequired(parameters, "preventedMatchId", "orderId");
         ParameterChecker.checkOnlyOneOfParameters(parameters, "preventedMatchId", "orderId");
         parameters = JSONParser.addKeyValue(parameters, "symbol", symbol);
 
-        this.handler.signedRequest("myPreventedMatches", parameters);
+        return this.handler.signedRequest("myPreventedMatches", parameters);
     }
 
     /**
@@ -161,14 +169,15 @@ public class WebSocketApiAccount implements WebSocketApiModule {
      * recvWindow -- optional/int -- The value cannot be greater than 60000 <br>
      * requestId -- optional/String or int <br>
      * 
+     * @return CompletableFuture completed with the response
      * @see <a href="https://binance-docs.github.io/apidocs/websocket_api/en/#account-allocations-user_data">
      *     https://binance-docs.github.io/apidocs/websocket_api/en/#account-allocations-user_data</a>
      */
-    public void accountAllocations(String symbol, JSONObject parameters) {
+    public CompletableFuture<String> accountAllocations(String symbol, JSONObject parameters) {
         ParameterChecker.checkParameterType(symbol, String.class, "symbol");
         parameters = JSONParser.addKeyValue(parameters, "symbol", symbol);
 
-        this.handler.signedRequest("myAllocations", parameters);
+        return this.handler.signedRequest("myAllocations", parameters);
     }
 
     /**
@@ -179,13 +188,14 @@ public class WebSocketApiAccount implements WebSocketApiModule {
      * <br><br>
      * requestId -- optional/String or int <br>
      * 
+     * @return CompletableFuture completed with the response
      * @see <a href="https://binance-docs.github.io/apidocs/websocket_api/en/#account-commission-rates-user_data">
      *     https://binance-docs.github.io/apidocs/websocket_api/en/#account-commission-rates-user_data</a>
      */
-    public void accountCommissionRates(String symbol, JSONObject parameters) {
+    public CompletableFuture<String> accountCommissionRates(String symbol, JSONObject parameters) {
         ParameterChecker.checkParameterType(symbol, String.class, "symbol");
         parameters = JSONParser.addKeyValue(parameters, "symbol", symbol);
 
-        this.handler.signedRequest("account.commission", parameters);
+        return this.handler.signedRequest("account.commission", parameters);
     }
 }
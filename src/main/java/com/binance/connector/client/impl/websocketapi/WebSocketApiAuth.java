@@ -1,5 +1,7 @@
 package com.binance.connector.client.impl.websocketapi;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.json.JSONObject;
 import com.binance.connector.client.utils.websocketapi.WebSocketApiRequestHandler;
 
@@ -9,7 +11,7 @@ import com.binance.connector.client.utils.websocketapi.WebSocketApiRequestHandle
  * <a href="https://binance-docs.github.io/apidocs/websocket_api/en/#authentication-request">Authentication requests</a>
  * section of the WebSocket API documentation will be implemented in this class.
  * <br>
- * Response will be returned as callback.
+ * Response will be returned as callback and completes the CompletableFuture returned by each request.
  */
 public class WebSocketApiAuth implements WebSocketApiModule {
     private WebSocketApiRequestHandler handler;
@@ -22,6 +24,8 @@ public class WebSocketApiAuth implements WebSocketApiModule {
      * Authenticate WebSocket connection using the provided API key.<br>
      * 
      * After calling session.logon, future requests under same connection won't send apiKey and signature parameters. <br>
+     * Only Ed25519 keys can log on; see {@link com.binance.connector.client.impl.WebSocketApiClientImpl#setAutoLogon(boolean)}
+     * to log on again after each reconnection.<br>
      * Calling session.logon multiple times changes the current authenticated API key.<br>
      * 
      * @param parameters JSONObject composed by key-value pairs:
@@ -29,11 +33,12 @@ public class WebSocketApiAuth implements WebSocketApiModule {
      * recvWindow -- optional/int -- The value cannot be greater than 60000<br>
      * requestId -- optional/String or int <br>
      * 
+     * @return CompletableFuture completed with the response
      * @see <a href="https://binance-docs.github.io/apidocs/websocket_api/en/#log-in-with-api-key-signed">
      *     https://binance-docs.github.io/apidocs/websocket_api/en/#log-in-with-api-key-signed</a>
      */
-    public void logon(JSONObject parameters) {
-        this.handler.signedRequest("session.logon", parameters);
+    public CompletableFuture<String> logon(JSONObject parameters) {
+        return this.handler.logon(parameters);
         
     }
 
@@ -44,11 +49,12 @@ public class WebSocketApiAuth implements WebSocketApiModule {
      * <br><br>
      * requestId -- optional/String or int <br>
      * 
+     * @return CompletableFuture completed with the response
      * @see <a href="https://binance-docs.github.io/apidocs/websocket_api/en/#query-session-status">
      *     https://binance-docs.github.io/apidocs/websocket_api/en/#query-session-status</a>
      */
-    public void status(JSONObject parameters) {
-        this.handler.publicRequest("session.status", parameters);
+    public CompletableFuture<String> status(JSONObject parameters) {
+        return this.handler.publicRequest("session.status", parameters);
         
     }
 
@@ -62,11 +68,12 @@ public class WebSocketApiAuth implements WebSocketApiModule {
      * <br><br>
      * requestId -- optional/String or int <br>
      * 
+     * @return CompletableFuture completed with the response
      * @see <a href="https://binance-docs.github.io/apidocs/websocket_api/en/#log-out-of-the-session">
      *     https://binance-docs.github.io/apidocs/websocket_api/en/#log-out-of-the-session</a>
      */
-    public void logout(JSONObject parameters) {
-        this.handler.publicRequest("session.logout", parameters);
+    public CompletableFuture<String> logout(JSONObject parameters) {
+        return this.handler.publicRequest("session.logout", parameters);
         
     }
 
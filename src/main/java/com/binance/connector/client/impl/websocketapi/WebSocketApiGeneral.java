@@ -1,5 +1,7 @@
 package com.binance.connector.client.impl.websocketapi;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.json.JSONObject;
 
 import com.binance.connector.client.utils.ParameterChecker;
@@ -11,7 +13,7 @@ import com.binance.connector.client.utils.websocketapi.WebSocketApiRequestHandle
  * <a href="https://binance-docs.github.io/apidocs/websocket_api/en/#general-info">General requests</a>
  * section of the WebSocket API documentation will be implemented in this class.
  * <br>
- * Response will be returned as callback.
+ * Response will be returned as callback and completes the CompletableFuture returned by each request.
  */
 public class WebSocketApiGeneral implements WebSocketApiModule {
     private WebSocketApiRequestHandler handler;
@@ -30,11 +32,12 @@ public class WebSocketApiGeneral implements WebSocketApiModule {
      * <br><br>
      * requestId -- optional/String or int <br>
      * 
+     * @return CompletableFuture completed with the response
      * @see <a href="https://binance-docs.github.io/apidocs/websocket_api/en/#test-connectivity">
      *     https://binance-docs.github.io/apidocs/websocket_api/en/#test-connectivity</a>
      */
-    public void ping(JSONObject parameters) {
-        this.handler.publicRequest("ping", parameters);
+    public CompletableFuture<String> ping(JSONObject parameters) {
+        return this.handler.publicRequest("ping", parameters);
     }
 
     /**
@@ -44,11 +47,12 @@ public class WebSocketApiGeneral implements WebSocketApiModule {
      * <br><br>
      * requestId -- optional/String or int <br>
      * 
+     * @return CompletableFuture completed with the response
      * @see <a href="https://binance-docs.github.io/apidocs/websocket_api/en/#check-server-time">
      *     https://binance-docs.github.io/apidocs/websocket_api/en/#check-server-time</a>
      */
-    public void serverTime(JSONObject parameters) {
-        this.handler.publicRequest("time", parameters);
+    public CompletableFuture<String> serverTime(JSONObject parameters) {
+        return this.handler.publicRequest("time", parameters);
     }
 
     /**
@@ -66,12 +70,13 @@ public class WebSocketApiGeneral implements WebSocketApiModule {
      * permissions -- optional/Array of String  <br>
      * requestId -- optional/String or int <br>
      * 
+     * @return CompletableFuture completed with the response
      * @see <a href="https://binance-docs.github.io/apidocs/websocket_api/en/#exchange-information">
      *     https://binance-docs.github.io/apidocs/websocket_api/en/#exchange-information</a>
      */
-    public void exchangeInfo(JSONObject parameters) {
+    public CompletableFuture<String> exchangeInfo(JSONObject parameters) {
         ParameterChecker.checkOnlyOneOfParameters(parameters, "symbol", "symbols", "permissions");
-        this.handler.publicRequest("exchangeInfo", parameters);
+        return this.handler.publicRequest("exchangeInfo", parameters);
     }
 
 }
@@ -1,5 +1,7 @@
 package com.binance.connector.client.impl.websocketapi;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.json.JSONObject;
 
 import com.binance.connector.client.utils.JSONParser;
@@ -12,7 +14,7 @@ import com.binance.connector.client.utils.websocketapi.WebSocketApiRequestHandle
  * <a href="https://binance-docs.github.io/apidocs/websocket_api/en/#market-data-requests">Market requests</a>
  * section of the WebSocket API documentation will be implemented in this class.
  * <br>
- * Response will be returned as callback.
+ * Response will be returned as callback and completes the CompletableFuture returned by each request.
  */
 public class WebSocketApiMarket implements WebSocketApiModule {
     private WebSocketApiRequestHandler handler;
@@ -36,13 +38,14 @@ public class WebSocketApiMarket implements WebSocketApiModule {
      * limit -- optional/int -- Default 100; max 5000. <br>
      * requestId -- optional/String or int <br>
      * 
+     * @return CompletableFuture completed with the response
      * @see <a href="https://binance-docs.github.io/apidocs/websocket_api/en/#order-book">
      *     https://binance-docs.github.io/apidocs/websocket_api/en/#order-book</a>
      */
-    public void depth(String symbol, JSONObject parameters) {
+    public CompletableFuture<String> depth(String symbol, JSONObject parameters) {
         ParameterChecker.checkParameterType(symbol, String.class, "symbol");
         parameters = JSONParser.addKeyValue(parameters, "symbol", symbol);
-        this.handler.publicRequest("depth", parameters);
+        return this.handler.publicRequest("depth", parameters);
     }
 
     /**
@@ -54,13 +57,14 @@ public class WebSocketApiMarket implements WebSocketApiModule {
      * limit -- optional/int -- Default 100; max 1000. <br>
      * requestId -- optional/String or int <br>
      * 
+     * @return CompletableFuture completed with the response
      * @see <a href="https://binance-docs.github.io/apidocs/websocket_api/en/#recent-trades">
      *     https://binance-docs.github.io/apidocs/websocket_api/en/#recent-trades</a>
      */
-    public void recentTrades(String symbol, JSONObject parameters) {
+    public CompletableFuture<String> recentTrades(String symbol, JSONObject parameters) {
         ParameterChecker.checkParameterType(symbol, String.class, "symbol");
         parameters = JSONParser.addKeyValue(parameters, "symbol", symbol);
-        this.handler.publicRequest("trades.recent", parameters);
+        return this.handler.publicRequest("trades.recent", parameters);
     }
 
 
@@ -76,13 +80,14 @@ public class WebSocketApiMarket implements WebSocketApiModule {
      * limit -- optional/int -- Default 500; max 1000. <br>
      * requestId -- optional/String or int <br>
      * 
+     * @return CompletableFuture completed with the response
      * @see <a href="https://binance-docs.github.io/apidocs/websocket_api/en/#historical-trades">
      *     https://binance-docs.github.io/apidocs/websocket_api/en/#historical-trades</a>
      */
-    public void historicalTrades(String symbol, JSONObject parameters) {
+    public CompletableFuture<String> historicalTrades(String symbol, JSONObject parameters) {
         ParameterChecker.checkParameterType(symbol, String.class, "symbol");
         parameters = JSONParser.addKeyValue(parameters, "symbol", symbol);
-        this.handler.publicRequest("trades.historical", parameters);
+        return this.handler.publicRequest("trades.historical", parameters);
     }
 
     /**
@@ -100,13 +105,14 @@ public class WebSocketApiMarket implements WebSocketApiModule {
      * endTime -- optional/int <br>
      * requestId -- optional/String or int <br>
      * 
+     * @return CompletableFuture completed with the response
      * @see <a href="https://binance-docs.github.io/apidocs/websocket_api/en/#aggregate-trades">
      *     https://binance-docs.github.io/apidocs/websocket_api/en/#aggregate-trades</a>
      */
-    public void aggTrades(String symbol, JSONObject parameters) {
+    public CompletableFuture<String> aggTrades(String symbol, JSONObject parameters) {
         ParameterChecker.checkParameterType(symbol, String.class, "symbol");
         parameters = JSONParser.addKeyValue(parameters, "symbol", symbol);
-        this.handler.publicRequest("trades.aggregate", parameters);
+        return this.handler.publicRequest("trades.aggregate", parameters);
     }
 
 
@@ -125,17 +131,18 @@ public class WebSocketApiMarket implements WebSocketApiModule {
      * timeZone -- optional/String --  Default: 0 (UTC) <br>
      * requestId -- optional/String or int <br>
      * 
+     * @return CompletableFuture completed with the response
      * @see <a href="https://binance-docs.github.io/apidocs/websocket_api/en/#klines">
      *     https://binance-docs.github.io/apidocs/websocket_api/en/#klines</a>
      */
-    public void klines(String symbol, String interval, JSONObject parameters) {
+    public CompletableFuture<String> klines(String symbol, String interval, JSONObject parameters) {
         ParameterChecker.checkParameterType(symbol, String.class, "symbol");
         ParameterChecker.checkParameterType(interval, String.class, "interval");
 
         parameters = JSONParser.addKeyValue(parameters, "symbol", symbol);
         parameters = JSONParser.addKeyValue(parameters, "interval", interval);
 
-        this.handler.publicRequest("klines", parameters);
+        return this.handler.publicRequest("klines", parameters);
     }
 
     /**
@@ -153,17 +160,18 @@ public class WebSocketApiMarket implements WebSocketApiModule {
      * timeZone -- optional/String --  Default: 0 (UTC) <br>
      * requestId -- optional/String or int <br>
      * 
+     * @return CompletableFuture completed with the response
      * @see <a href="https://binance-docs.github.io/apidocs/websocket_api/en/#ui-klines">
      *     https://binance-docs.github.io/apidocs/websocket_api/en/#ui-klines</a>
      */
-    public void uiKlines(String symbol, String interval, JSONObject parameters) {
+    public CompletableFuture<String> uiKlines(String symbol, String interval, JSONObject parameters) {
         ParameterChecker.checkParameterType(symbol, String.class, "symbol");
         ParameterChecker.checkParameterType(interval, String.class, "interval");
 
         parameters = JSONParser.addKeyValue(parameters, "symbol", symbol);
         parameters = JSONParser.addKeyValue(parameters, "interval", interval);
 
-        this.handler.publicRequest("uiKlines", parameters);
+        return this.handler.publicRequest("uiKlines", parameters);
     }
 
     /**
@@ -174,13 +182,14 @@ public class WebSocketApiMarket implements WebSocketApiModule {
      * <br><br>
      * requestId -- optional/String or int <br>
      * 
+     * @return CompletableFuture completed with the response
      * @see <a href="https://binance-docs.github.io/apidocs/websocket_api/en/#current-average-price">
      *     https://binance-docs.github.io/apidocs/websocket_api/en/#current-average-price</a>
      */
-    public void avgPrice(String symbol, JSONObject parameters) {
+    public CompletableFuture<String> avgPrice(String symbol, JSONObject parameters) {
         ParameterChecker.checkParameterType(symbol, String.class, "symbol");
         parameters = JSONParser.addKeyValue(parameters, "symbol", symbol);
-        this.handler.publicRequest("avgPrice", parameters);
+        return this.handler.publicRequest("avgPrice", parameters);
     }
 
     /**
@@ -193,12 +202,13 @@ public class WebSocketApiMarket implements WebSocketApiModule {
      * type -- optional/String -- Ticker type: FULL (default) or MINI<br>
      * requestId -- optional/String or int <br>
      * 
+     * @return CompletableFuture completed with the response
      * @see <a href="https://binance-docs.github.io/apidocs/websocket_api/en/#24hr-ticker-price-change-statistics">
      *     https://binance-docs.github.io/apidocs/websocket_api/en/#24hr-ticker-price-change-statistics</a>
      */
-    public void ticker24H(JSONObject parameters) {
+    public CompletableFuture<String> ticker24H(JSONObject parameters) {
         ParameterChecker.checkOnlyOneOfParameters(parameters, "symbol", "symbols");
-        this.handler.publicRequest("ticker.24hr", parameters);
+        return this.handler.publicRequest("ticker.24hr", parameters);
     }
 
     /**
@@ -219,13 +229,14 @@ public class WebSocketApiMarket implements WebSocketApiModule {
      * windowSize -- optional/int -- Default "1d"<br>
      * requestId -- optional/String or int <br>
      * 
+     * @return CompletableFuture completed with the response
      * @see <a href="https://binance-docs.github.io/apidocs/websocket_api/en/#rolling-window-price-change-statistics">
      *     https://binance-docs.github.io/apidocs/websocket_api/en/#rolling-window-price-change-statistics</a>
      */
-    public void ticker(JSONObject parameters) {
+    public CompletableFuture<String> ticker(JSONObject parameters) {
         ParameterChecker.checkOnlyOneOfParameters(parameters, "symbol", "symbols");
         ParameterChecker.checkOneOfParametersRequired(parameters, "symbol", "symbols");
-        this.handler.publicRequest("ticker", parameters);
+        return this.handler.publicRequest("ticker", parameters);
     }
 
     /**
@@ -237,12 +248,13 @@ public class WebSocketApiMarket implements WebSocketApiModule {
      * symbols -- optional/Array of String -- Query ticker for multiple symbols<br>
      * requestId -- optional/String or int <br>
      * 
+     * @return CompletableFuture completed with the response
      * @see <a href="https://binance-docs.github.io/apidocs/websocket_api/en/#symbol-price-ticker">
      *     https://binance-docs.github.io/apidocs/websocket_api/en/#symbol-price-ticker</a>
      */
-    public void tickerPrice(JSONObject parameters) {
+    public CompletableFuture<String> tickerPrice(JSONObject parameters) {
         ParameterChecker.checkOnlyOneOfParameters(parameters, "symbol", "symbols");
-        this.handler.publicRequest("ticker.price", parameters);
+        return this.handler.publicRequest("ticker.price", parameters);
     }
 
     /**
@@ -254,12 +266,13 @@ public class WebSocketApiMarket implements WebSocketApiModule {
      * symbols -- optional/Array of String -- Query ticker for multiple symbols<br>
      * requestId -- optional/String or int <br>
      * 
+     * @return CompletableFuture completed with the response
      * @see <a href="https://binance-docs.github.io/apidocs/websocket_api/en/#symbol-order-book-ticker">
      *     https://binance-docs.github.io/apidocs/websocket_api/en/#symbol-order-book-ticker</a>
      */
-    public void tickerBook(JSONObject parameters) {
+    public CompletableFuture<String> tickerBook(JSONObject parameters) {
         ParameterChecker.checkOnlyOneOfParameters(parameters, "symbol", "symbols");
-        this.handler.publicRequest("ticker.book", parameters);
+        return this.handler.publicRequest("ticker.book", parameters);
     }
 
     /**
@@ -275,13 +288,14 @@ public class WebSocketApiMarket implements WebSocketApiModule {
      * type -- optional/String -- Ticker type: FULL (default) or MINI<br>
      * requestId -- optional/String or int <br>
      * 
+     * @return CompletableFuture completed with the response
      * @see <a href="https://binance-docs.github.io/apidocs/websocket_api/en/#trading-day-ticker">
      *     https://binance-docs.github.io/apidocs/websocket_api/en/#trading-day-ticker</a>
      */
-    public void tickerTradingDay(JSONObject parameters) {
+    public CompletableFuture<String> tickerTradingDay(JSONObject parameters) {
         ParameterChecker.checkOnlyOneOfParameters(parameters, "symbol", "symbols");
         ParameterChecker.checkOneOfParametersRequired(parameters, "symbol", "symbols");
-        this.handler.publicRequest("ticker.tradingDay", parameters);
+        return this.handler.publicRequest("ticker.tradingDay", parameters);
     }
 
 }
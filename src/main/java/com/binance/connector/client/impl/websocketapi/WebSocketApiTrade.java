@@ -1,7 +1,10 @@
 package com.binance.connector.client.impl.websocketapi;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.json.JSONObject;
 
+import com.binance.connector.client.requests.NewOrderRequest;
 import com.binance.connector.client.utils.JSONParser;
 import com.binance.connector.client.utils.ParameterChecker;
 import com.binance.connector.client.utils.websocketapi.WebSocketApiRequestHandler;
@@ -12,7 +15,7 @@ import com.binance.connector.client.utils.websocketapi.WebSocketApiRequestHandle
  * <a href="https://binance-docs.github.io/apidocs/websocket_api/en/#trading-requests">Trading requests</a>
  * section of the WebSocket API documentation will be implemented in this class.
  * <br>
- * Response will be returned as callback.
+ * Response will be returned as callback and completes the CompletableFuture returned by each request.
  */
 public class WebSocketApiTrade implements WebSocketApiModule {
     private WebSocketApiRequestHandler handler;
@@ -46,10 +49,11 @@ public class WebSocketApiTrade implements WebSocketApiModule {
      * recvWindow -- optional/int -- The value cannot be greater than 60000<br>
      * requestId -- optional/String or int <br>
      * 
+     * @return CompletableFuture completed with the response
      * @see <a href="https://binance-docs.github.io/apidocs/websocket_api/en/#place-new-order-trade">
      *     https://binance-docs.github.io/apidocs/websocket_api/en/#place-new-order-trade</a>
      */
-    public void newOrder(String symbol, String side, String type, JSONObject parameters) {
+    public CompletableFuture<String> newOrder(String symbol, String side, String type, JSONObject parameters) {
 
         ParameterChecker.checkParameterType(symbol, String.class, "symbol");
         ParameterChecker.checkParameterType(side, String.class, "side");
@@ -59,7 +63,19 @@ public class WebSocketApiTrade implements WebSocketApiModule {
         parameters = JSONParser.addKeyValue(parameters, "side", side);
         parameters = JSONParser.addKeyValue(parameters, "type", type);
         
-        this.handler.signedRequest("order.place", parameters);
+        return this.handler.signedRequest("order.place", parameters);
+    }
+
+    /**
+     * Same as {@link #newOrder(String, String, String, JSONObject)} with typed parameters.
+     * Decimals are sent as plain strings.<br>
+     *
+     * @param request symbol, side and type are mandatory
+     * @return CompletableFuture completed with the response
+     */
+    public CompletableFuture<String> newOrder(NewOrderRequest request) {
+        request.validate();
+        return this.handler.signedRequest("order.place", request.toJSONObject());
     }
 
     /**
@@ -89,10 +105,11 @@ public class WebSocketApiTrade implements WebSocketApiModule {
      * recvWindow -- optional/int -- The value cannot be greater than 60000<br>
      * requestId -- optional/String or int <br>
      * 
+     * @return CompletableFuture completed with the response
      * @see <a href="https://binance-docs.github.io/apidocs/websocket_api/en/#test-new-order-trade">
      *     https://binance-docs.github.io/apidocs/websocket_api/en/#test-new-order-trade</a>
      */
-    public void testNewOrder(String symbol, String side, String type, JSONObject parameters) {
+    public CompletableFuture<String> testNewOrder(String symbol, String side, String type, JSONObject parameters) {
 
         ParameterChecker.checkParameterType(symbol, String.class, "symbol");
         ParameterChecker.checkParameterType(side, String.class, "side");
@@ -102,7 +119,18 @@ public class WebSocketApiTrade implements WebSocketApiModule {
         parameters = JSONParser.addKeyValue(parameters, "side", side);
         parameters = JSONParser.addKeyValue(parameters, "type", type);
         
-        this.handler.signedRequest("order.test", parameters);
+        return this.handler.signedRequest("order.test", parameters);
+    }
+
+    /**
+     * Same as {@link #testNewOrder(String, String, String, JSONObject)} with typed parameters.<br>
+     *
+     * @param request symbol, side and type are mandatory
+     * @return CompletableFuture completed with the response
+     */
+    public CompletableFuture<String> testNewOrder(NewOrderRequest request) {
+        request.validate();
+        return this.handler.signedRequest("order.test", request.toJSONObject());
     }
 
     /**
@@ -118,15 +146,16 @@ public class WebSocketApiTrade implements WebSocketApiModule {
      * recvWindow -- optional/int -- The value cannot be greater than 60000<br>
      * requestId -- optional/String or int <br>
      * 
+     * @return CompletableFuture completed with the response
      * @see <a href="https://binance-docs.github.io/apidocs/websocket_api/en/#query-order-user_data">
      *     https://binance-docs.github.io/apidocs/websocket_api/en/#query-order-user_data</a>
      */
-    public void getOrder(String symbol, JSONObject parameters) {
+    public CompletableFuture<String> getOrder(String symbol, JSONObject parameters) {
         ParameterChecker.checkOneOfParametersRequired(parameters, "orderId", "origClientOrderId");
         ParameterChecker.checkParameterType(symbol, String.class, "symbol");
 
         parameters = JSONParser.addKeyValue(parameters, "symbol", symbol);
-        this.handler.signedRequest("order.status", parameters);
+        return this.handler.signedRequest("order.status", parameters);
     }
 
     /**
@@ -144,15 +173,16 @@ public class WebSocketApiTrade implements WebSocketApiModule {
      * recvWindow -- optional/int -- The value cannot be greater than 60000<br>
      * requestId -- optional/String or int <br>
      * 
+     * @return CompletableFuture completed with the response
      * @see <a href="https://binance-docs.github.io/apidocs/websocket_api/en/#cancel-order-trade">
      *     https://binance-docs.github.io/apidocs/websocket_api/en/#cancel-order-trade</a>
      */
-    public void cancelOrder(String symbol, JSONObject parameters) {
+    public CompletableFuture<String> cancelOrder(String symbol, JSONObject parameters) {
         ParameterChecker.checkOneOfParametersRequired(parameters, "orderId", "origClientOrderId");
         ParameterChecker.checkParameterType(symbol, String.class, "symbol");
 
         parameters = JSONParser.addKeyValue(parameters, "symbol", symbol);
-        this.handler.signedRequest("order.cancel", parameters);
+        return this.handler.signedRequest("order.cancel", parameters);
     }
 
     /**
@@ -186,10 +216,11 @@ public class WebSocketApiTrade implements WebSocketApiModule {
      * recvWindow -- optional/int -- The value cannot be greater than 60000<br>
      * requestId -- optional/String or int <br>
      * 
+     * @return CompletableFuture completed with the response
      * @see <a href="https://binance-docs.github.io/apidocs/websocket_api/en/#cancel-and-replace-order-trade">
      *     https://binance-docs.github.io/apidocs/websocket_api/en/#cancel-and-replace-order-trade</a>
      */
-    public void cancelReplaceOrder(String symbol, String cancelReplaceMode, String side, String type, JSONObject parameters) {
+    public CompletableFuture<String> cancelReplaceOrder(String symbol, String cancelReplaceMode, String side, String type, JSONObject parameters) {
 
         ParameterChecker.checkParameterType(symbol, String.class, "symbol");
         ParameterChecker.checkParameterType(cancelReplaceMode, String.class, "cancelReplaceMode");
@@ -202,7 +233,7 @@ public class WebSocketApiTrade implements WebSocketApiModule {
         parameters = JSONParser.addKeyValue(parameters, "side", side);
         parameters = JSONParser.addKeyValue(parameters, "type", type);
 
-        this.handler.signedRequest("order.cancelReplace", parameters);
+        return this.handler.signedRequest("order.cancelReplace", parameters);
     }
 
      /**
@@ -214,11 +245,12 @@ public class WebSocketApiTrade implements WebSocketApiModule {
      * recvWindow -- optional/int -- The value cannot be greater than 60000<br>
      * requestId -- optional/String or int <br>
      * 
+     * @return CompletableFuture completed with the response
      * @see <a href="https://binance-docs.github.io/apidocs/websocket_api/en/#current-open-orders-user_data">
      *     https://binance-docs.github.io/apidocs/websocket_api/en/#current-open-orders-user_data</a>
      */
-    public void getOpenOrders(JSONObject parameters) {
-        this.handler.signedRequest("openOrders.status", parameters);
+    public CompletableFuture<String> getOpenOrders(JSONObject parameters) {
+        return this.handler.signedRequest("openOrders.status", parameters);
     }
 
     /**
@@ -231,14 +263,15 @@ public class WebSocketApiTrade implements WebSocketApiModule {
      * recvWindow -- optional/int -- The value cannot be greater than 60000<br>
      * requestId -- optional/String or int <br>
      * 
+     * @return CompletableFuture completed with the response
      * @see <a href="https://binance-docs.github.io/apidocs/websocket_api/en/#cancel-open-orders-trade">
      *     https://binance-docs.github.io/apidocs/websocket_api/en/#cancel-open-orders-trade</a>
      */
-    public void cancelAllOpenOrders(String symbol, JSONObject parameters) {
+    public CompletableFuture<String> cancelAllOpenOrders(String symbol, JSONObject parameters) {
         ParameterChecker.checkParameterType(symbol, String.class, "symbol");
 
         parameters = JSONParser.addKeyValue(parameters, "symbol", symbol);
-        this.handler.signedRequest("openOrders.cancelAll", parameters);
+        return this.handler.signedRequest("openOrders.cancelAll", parameters);
     }
 
     /**
@@ -268,10 +301,11 @@ public class WebSocketApiTrade implements WebSocketApiModule {
      * recvWindow -- optional/int -- The value cannot be greater than 60000<br>
      * requestId -- optional/String or int <br>
      * 
+     * @return CompletableFuture completed with the response
      * @see <a href="https://binance-docs.github.io/apidocs/websocket_api/en/#place-new-oco-trade">
      *     https://binance-docs.github.io/apidocs/websocket_api/en/#place-new-oco-trade</a>
      */
-    public void newOcoOrder(String symbol, String side, double price, double quantity, JSONObject parameters) {
+    public CompletableFuture<String> newOcoOrder(String symbol, String side, double price, double quantity, JSONObject parameters) {
         ParameterChecker.checkOneOfParametersRequired(parameters, "stopPrice", "trailingDelta");
         ParameterChecker.checkParameterType(symbol, String.class, "symbol");
         ParameterChecker.checkParameterType(side, String.class, "side");
@@ -283,7 +317,7 @@ public class WebSocketApiTrade implements WebSocketApiModule {
         parameters = JSONParser.addKeyValue(parameters, "price", price);
         parameters = JSONParser.addKeyValue(parameters, "quantity", quantity);
         
-        this.handler.signedRequest("orderList.place", parameters);
+        return this.handler.signedRequest("orderList.place", parameters);
     }
 
     /**
@@ -298,12 +332,13 @@ public class WebSocketApiTrade implements WebSocketApiModule {
      * recvWindow -- optional/int -- The value cannot be greater than 60000 <br>
      * requestId -- optional/String or int <br>
      * 
+     * @return CompletableFuture completed with the response
      * @see <a href="https://binance-docs.github.io/apidocs/websocket_api/en/#query-oco-user_data">
      *     https://binance-docs.github.io/apidocs/websocket_api/en/#query-oco-user_data</a>
      */
-    public void getOcoOrder(JSONObject parameters) {
+    public CompletableFuture<String> getOcoOrder(JSONObject parameters) {
         ParameterChecker.checkOneOfParametersRequired(parameters, "origClientOrderId", "orderListId");
-        this.handler.signedRequest("orderList.status", parameters);
+        return this.handler.signedRequest("orderList.status", parameters);
     }
 
     /**
@@ -321,15 +356,16 @@ public class WebSocketApiTrade implements WebSocketApiModule {
      * recvWindow -- optional/int -- The value cannot be greater than 60000 <br>
      * requestId -- optional/String or int <br>
      * 
+     * @return CompletableFuture completed with the response
      * @see <a href="https://binance-docs.github.io/apidocs/websocket_api/en/#cancel-oco-trade">
      *     https://binance-docs.github.io/apidocs/websocket_api/en/#cancel-oco-trade</a>
      */
-    public void cancelOcoOrder(String symbol, JSONObject parameters) {
+    public CompletableFuture<String> cancelOcoOrder(String symbol, JSONObject parameters) {
         ParameterChecker.checkOneOfParametersRequired(parameters, "listClientOrderId", "orderListId");
         ParameterChecker.checkParameterType(symbol, String.class, "symbol");
         
         parameters = JSONParser.addKeyValue(parameters, "symbol", symbol);
-        this.handler.signedRequest("orderList.cancel", parameters);
+        return this.handler.signedRequest("orderList.cancel", parameters);
     }
 
     /**
@@ -343,11 +379,12 @@ public class WebSocketApiTrade implements WebSocketApiModule {
      * recvWindow -- optional/int -- The value cannot be greater than 60000 <br>
      * requestId -- optional/String or int <br>
      * 
+     * @return CompletableFuture completed with the response
      * @see <a href="https://binance-docs.github.io/apidocs/websocket_api/en/#current-open-ocos-user_data">
      *     https://binance-docs.github.io/apidocs/websocket_api/en/#current-open-ocos-user_data</a>
      */
-    public void getOpenOcoOrders(JSONObject parameters) {
-        this.handler.signedRequest("openOrderLists.status", parameters);
+    public CompletableFuture<String> getOpenOcoOrders(JSONObject parameters) {
+        return this.handler.signedRequest("openOrderLists.status", parameters);
     }
 
     /**
@@ -371,10 +408,11 @@ public class WebSocketApiTrade implements WebSocketApiModule {
      * recvWindow -- optional/int -- The value cannot be greater than 60000<br>
      * requestId -- optional/String or int <br>
      * 
+     * @return CompletableFuture completed with the response
      * @see <a href="https://binance-docs.github.io/apidocs/websocket_api/en/#place-new-order-using-sor-trade">
      *     https://binance-docs.github.io/apidocs/websocket_api/en/#place-new-order-using-sor-trade</a>
      */
-    public void newSorOrder(String symbol, String side, String type, double quantity, JSONObject parameters) {
+    public CompletableFuture<String> newSorOrder(String symbol, String side, String type, double quantity, JSONObject parameters) {
         ParameterChecker.checkParameterType(symbol, String.class, "symbol");
         ParameterChecker.checkParameterType(side, String.class, "side");
         ParameterChecker.checkParameterType(type, String.class, "type");
@@ -385,7 +423,7 @@ public class WebSocketApiTrade implements WebSocketApiModule {
         parameters = JSONParser.addKeyValue(parameters, "type", type);
         parameters = JSONParser.addKeyValue(parameters, "quantity", quantity);
         
-        this.handler.signedRequest("sor.order.place", parameters);
+        return this.handler.signedRequest("sor.order.place", parameters);
     }
 
     /**
@@ -410,10 +448,11 @@ public class WebSocketApiTrade implements WebSocketApiModule {
      * recvWindow -- optional/int -- The value cannot be greater than 60000<br>
      * requestId -- optional/String or int <br>
      * 
+     * @return CompletableFuture completed with the response
      * @see <a href="https://binance-docs.github.io/apidocs/websocket_api/en/#test-new-order-using-sor-trade">
      *     https://binance-docs.github.io/apidocs/websocket_api/en/#test-new-order-using-sor-trade</a>
      */
-    public void testNewSorOrder(String symbol, String side, String type, double quantity, JSONObject parameters) {
+    public CompletableFuture<String> testNewSorOrder(String symbol, String side, String type, double quantity, JSONObject parameters) {
         ParameterChecker.checkParameterType(symbol, String.class, "symbol");
         ParameterChecker.checkParameterType(side, String.class, "side");
         ParameterChecker.checkParameterType(type, String.class, "type");
@@ -424,7 +463,7 @@ public class WebSocketApiTrade implements WebSocketApiModule {
         parameters = JSONParser.addKeyValue(parameters, "type", type);
         parameters = JSONParser.addKeyValue(parameters, "quantity", quantity);
         
-        this.handler.signedRequest("sor.order.test", parameters);
+        return this.handler.signedRequest("sor.order.test", parameters);
     }
 
 }
\ No newline at end of file
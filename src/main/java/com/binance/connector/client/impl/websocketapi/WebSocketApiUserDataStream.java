@@ -1,5 +1,7 @@
 package com.binance.connector.client.impl.websocketapi;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.json.JSONObject;
 
 import com.binance.connector.client.utils.JSONParser;
@@ -12,7 +14,7 @@ import com.binance.connector.client.utils.websocketapi.WebSocketApiRequestHandle
  * <a href="https://binance-docs.github.io/apidocs/websocket_api/en/#user-data-stream-requests">User Data Stream requests</a>
  * section of the WebSocket API documentation will be implemented in this class.
  * <br>
- * Response will be returned as callback.
+ * Response will be returned as callback and completes the CompletableFuture returned by each request.
  */
 public class WebSocketApiUserDataStream implements WebSocketApiModule {
     
@@ -33,11 +35,12 @@ public class WebSocketApiUserDataStream implements WebSocketApiModule {
      * <br><br>
      * requestId -- optional/String or int <br>
      * 
+     * @return CompletableFuture completed with the response
      * @see <a href="https://binance-docs.github.io/apidocs/websocket_api/en/#start-user-data-stream-user_stream">
      *     https://binance-docs.github.io/apidocs/websocket_api/en/#start-user-data-stream-user_stream</a>
      */
-    public void userDataStreamStart(JSONObject parameters) {
-        this.handler.apiRequest("userDataStream.start", parameters);
+    public CompletableFuture<String> userDataStreamStart(JSONObject parameters) {
+        return this.handler.apiRequest("userDataStream.start", parameters);
     }
 
     /**
@@ -54,13 +57,14 @@ public class WebSocketApiUserDataStream implements WebSocketApiModule {
      * <br><br>
      * requestId -- optional/String or int <br>
      * 
+     * @return CompletableFuture completed with the response
      * @see <a href="https://binance-docs.github.io/apidocs/websocket_api/en/#ping-user-data-stream-user_stream">
      *     https://binance-docs.github.io/apidocs/websocket_api/en/#ping-user-data-stream-user_stream</a>
      */
-    public void userDataStreamPing(String listenKey, JSONObject parameters) {
+    public CompletableFuture<String> userDataStreamPing(String listenKey, JSONObject parameters) {
         ParameterChecker.checkParameterType(listenKey, String.class, "listenKey");
         parameters = JSONParser.addKeyValue(parameters, "listenKey", listenKey);
-        this.handler.apiRequest("userDataStream.ping", parameters);
+        return this.handler.apiRequest("userDataStream.ping", parameters);
     }
 
     /**
@@ -71,12 +75,13 @@ public class WebSocketApiUserDataStream implements WebSocketApiModule {
      * <br><br>
      * requestId -- optional/String or int <br>
      * 
+     * @return CompletableFuture completed with the response
      * @see <a href="https://binance-docs.github.io/apidocs/websocket_api/en/#stop-user-data-stream-user_stream">
      *     https://binance-docs.github.io/apidocs/websocket_api/en/#stop-user-data-stream-user_stream</a>
      */
-    public void userDataStreamStop(String listenKey, JSONObject parameters) {
+    public CompletableFuture<String> userDataStreamStop(String listenKey, JSONObject parameters) {
         ParameterChecker.checkParameterType(listenKey, String.class, "listenKey");
         parameters = JSONParser.addKeyValue(parameters, "listenKey", listenKey);
-        this.handler.apiRequest("userDataStream.stop", parameters);
+        return this.handler.apiRequest("userDataStream.stop", parameters);
     }
 }
@@ -0,0 +1,71 @@
+package com.binance.connector.client.requests;
+
+import java.math.BigDecimal;
+
+import org.json.JSONObject;
+
+import com.binance.connector.client.exceptions.BinanceConnectorException;
+import com.binance.connector.client.utils.DecimalWriter;
+import com.binance.connector.client.utils.QueryEncoder;
+
+/**
+ * Mutable decimal parameter kept as an unscaled long and a scale, so it can be set and written
+ * without allocating.
+ */
+final class FixedPoint {
+    private static final int UNSET = -1;
+    private static final int MIN_SCALE = 0;
+
+    private final String name;
+    private long unscaled;
+    private int scale = UNSET;
+
+    FixedPoint(String name) {
+        this.name = name;
+    }
+
+    void set(long unscaledValue, int valueScale) {
+        if (valueScale < MIN_SCALE) {
+            throw new BinanceConnectorException(String.format("\"%s\" scale must not be negative.", name));
+        }
+        this.unscaled = unscaledValue;
+        this.scale = valueScale;
+    }
+
+    void set(BigDecimal value) {
+        if (value == null) {
+            clear();
+            return;
+        }
+        BigDecimal plain = value.scale() < MIN_SCALE ? value.setScale(MIN_SCALE) : value;
+        try {
+            set(plain.unscaledValue().longValueExact(), plain.scale());
+        } catch (ArithmeticException e) {
+            throw new BinanceConnectorException(String.format("\"%s\" has too many digits: %s", name, value.toPlainString()));
+        }
+    }
+
+    void clear() {
+        this.scale = UNSET;
+    }
+
+    boolean isSet() {
+        return scale != UNSET;
+    }
+
+    BigDecimal toBigDecimal() {
+        return isSet() ? BigDecimal.valueOf(unscaled, scale) : null;
+    }
+
+    void writeTo(QueryEncoder encoder) {
+        if (isSet()) {
+            encoder.appendDecimal(name, unscaled, scale);
+        }
+    }
+
+    void writeTo(JSONObject parameters) {
+        if (isSet()) {
+            parameters.put(name, DecimalWriter.toString(unscaled, scale));
+        }
+    }
+}
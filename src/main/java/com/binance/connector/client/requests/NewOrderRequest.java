@@ -0,0 +1,332 @@
+package com.binance.connector.client.requests;
+
+import java.math.BigDecimal;
+
+import org.json.JSONObject;
+
+import com.binance.connector.client.enums.NewOrderRespType;
+import com.binance.connector.client.enums.OrderType;
+import com.binance.connector.client.enums.SelfTradePreventionMode;
+import com.binance.connector.client.enums.Side;
+import com.binance.connector.client.enums.TimeInForce;
+import com.binance.connector.client.utils.ParameterChecker;
+import com.binance.connector.client.utils.QueryEncoder;
+
+/**
+ * Parameters of a new order, for {@code POST /api/v3/order}, {@code POST /api/v3/order/test}
+ * and the {@code order.place} and {@code order.test} WebSocket API requests.
+ * <br>
+ * Decimals are kept as an unscaled long and a scale, and enums and integers are written straight into the
+ * query, so neither a Map nor boxed values are created per order. The request is mutable and not thread safe;
+ * it can be {@link #reset()} and reused, e.g. from a pool, once the call it was passed to has returned.
+ * <pre>
+ * NewOrderRequest request = new NewOrderRequest()
+ *         .symbol("BNBUSDT")
+ *         .side(Side.BUY)
+ *         .type(OrderType.LIMIT)
+ *         .timeInForce(TimeInForce.GTC)
+ *         .quantity(1, 2)       // 0.01
+ *         .price(3105000, 4);   // 310.5
+ * client.createTrade().newOrder(request);
+ * </pre>
+ */
+public final class NewOrderRequest implements RequestParameters {
+    private static final long UNSET = Long.MIN_VALUE;
+
+    private final FixedPoint quantity = new FixedPoint("quantity");
+    private final FixedPoint quoteOrderQty = new FixedPoint("quoteOrderQty");
+    private final FixedPoint price = new FixedPoint("price");
+    private final FixedPoint stopPrice = new FixedPoint("stopPrice");
+    private final FixedPoint icebergQty = new FixedPoint("icebergQty");
+    private String symbol;
+    private Side side;
+    private OrderType type;
+    private TimeInForce timeInForce;
+    private String newClientOrderId;
+    private long strategyId = UNSET;
+    private long strategyType = UNSET;
+    private long trailingDelta = UNSET;
+    private NewOrderRespType newOrderRespType;
+    private SelfTradePreventionMode selfTradePreventionMode;
+    private long recvWindow = UNSET;
+
+    /**
+     * Clears every parameter, so the request can be reused.
+     *
+     * @return this
+     */
+    public NewOrderRequest reset() {
+        quantity.clear();
+        quoteOrderQty.clear();
+        price.clear();
+        stopPrice.clear();
+        icebergQty.clear();
+        symbol = null;
+        side = null;
+        type = null;
+        timeInForce = null;
+        newClientOrderId = null;
+        strategyId = UNSET;
+        strategyType = UNSET;
+        trailingDelta = UNSET;
+        newOrderRespType = null;
+        selfTradePreventionMode = null;
+        recvWindow = UNSET;
+        return this;
+    }
+
+    public NewOrderRequest symbol(String orderSymbol) {
+        this.symbol = orderSymbol;
+        return this;
+    }
+
+    public NewOrderRequest side(Side orderSide) {
+        this.side = orderSide;
+        return this;
+    }
+
+    public NewOrderRequest type(OrderType orderType) {
+        this.type = orderType;
+        return this;
+    }
+
+    public NewOrderRequest timeInForce(TimeInForce orderTimeInForce) {
+        this.timeInForce = orderTimeInForce;
+        return this;
+    }
+
+    /**
+     * @param unscaled unscaled quantity
+     * @param scale number of fraction digits, e.g. 2 for {@code 0.01} with an unscaled value of 1
+     * @return this
+     */
+    public NewOrderRequest quantity(long unscaled, int scale) {
+        quantity.set(unscaled, scale);
+        return this;
+    }
+
+    public NewOrderRequest quantity(BigDecimal value) {
+        quantity.set(value);
+        return this;
+    }
+
+    /**
+     * @param unscaled unscaled quote quantity
+     * @param scale number of fraction digits
+     * @return this
+     */
+    public NewOrderRequest quoteOrderQty(long unscaled, int scale) {
+        quoteOrderQty.set(unscaled, scale);
+        return this;
+    }
+
+    public NewOrderRequest quoteOrderQty(BigDecimal value) {
+        quoteOrderQty.set(value);
+        return this;
+    }
+
+    /**
+     * @param unscaled unscaled price
+     * @param scale number of fraction digits
+     * @return this
+     */
+    public NewOrderRequest price(long unscaled, int scale) {
+        price.set(unscaled, scale);
+        return this;
+    }
+
+    public NewOrderRequest price(BigDecimal value) {
+        price.set(value);
+        return this;
+    }
+
+    public NewOrderRequest newClientOrderId(String clientOrderId) {
+        this.newClientOrderId = clientOrderId;
+        return this;
+    }
+
+    public NewOrderRequest strategyId(long id) {
+        this.strategyId = id;
+        return this;
+    }
+
+    /**
+     * @param strategy the value cannot be less than 1000000
+     * @return this
+     */
+    public NewOrderRequest strategyType(int strategy) {
+        this.strategyType = strategy;
+        return this;
+    }
+
+    /**
+     * Used with STOP_LOSS, STOP_LOSS_LIMIT, TAKE_PROFIT, and TAKE_PROFIT_LIMIT orders.
+     *
+     * @param unscaled unscaled stop price
+     * @param scale number of fraction digits
+     * @return this
+     */
+    public NewOrderRequest stopPrice(long unscaled, int scale) {
+        stopPrice.set(unscaled, scale);
+        return this;
+    }
+
+    public NewOrderRequest stopPrice(BigDecimal value) {
+        stopPrice.set(value);
+        return this;
+    }
+
+    /**
+     * Used with STOP_LOSS, STOP_LOSS_LIMIT, TAKE_PROFIT, and TAKE_PROFIT_LIMIT orders.
+     *
+     * @param delta trailing delta in basis points
+     * @return this
+     */
+    public NewOrderRequest trailingDelta(long delta) {
+        this.trailingDelta = delta;
+        return this;
+    }
+
+    /**
+     * Used with LIMIT, STOP_LOSS_LIMIT, and TAKE_PROFIT_LIMIT to create an iceberg order.
+     *
+     * @param unscaled unscaled iceberg quantity
+     * @param scale number of fraction digits
+     * @return this
+     */
+    public NewOrderRequest icebergQty(long unscaled, int scale) {
+        icebergQty.set(unscaled, scale);
+        return this;
+    }
+
+    public NewOrderRequest icebergQty(BigDecimal value) {
+        icebergQty.set(value);
+        return this;
+    }
+
+    public NewOrderRequest newOrderRespType(NewOrderRespType respType) {
+        this.newOrderRespType = respType;
+        return this;
+    }
+
+    public NewOrderRequest selfTradePreventionMode(SelfTradePreventionMode mode) {
+        this.selfTradePreventionMode = mode;
+        return this;
+    }
+
+    /**
+     * @param window the value cannot be greater than 60000
+     * @return this
+     */
+    public NewOrderRequest recvWindow(long window) {
+        this.recvWindow = window;
+        return this;
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public Side getSide() {
+        return side;
+    }
+
+    public OrderType getType() {
+        return type;
+    }
+
+    /**
+     * @return quantity, or null if not set
+     */
+    public BigDecimal getQuantity() {
+        return quantity.toBigDecimal();
+    }
+
+    /**
+     * @return price, or null if not set
+     */
+    public BigDecimal getPrice() {
+        return price.toBigDecimal();
+    }
+
+    @Override
+    public void validate() {
+        ParameterChecker.checkParameterType(symbol, String.class, "symbol");
+        ParameterChecker.checkParameterType(side, Side.class, "side");
+        ParameterChecker.checkParameterType(type, OrderType.class, "type");
+    }
+
+    @Override
+    public void writeTo(QueryEncoder encoder) {
+        encoder.appendParameter("symbol", symbol);
+        encoder.appendParameter("side", side);
+        encoder.appendParameter("type", type);
+        if (timeInForce != null) {
+            encoder.appendParameter("timeInForce", timeInForce);
+        }
+        quantity.writeTo(encoder);
+        quoteOrderQty.writeTo(encoder);
+        price.writeTo(encoder);
+        if (newClientOrderId != null) {
+            encoder.appendParameter("newClientOrderId", newClientOrderId);
+        }
+        if (strategyId != UNSET) {
+            encoder.appendParameter("strategyId", strategyId);
+        }
+        if (strategyType != UNSET) {
+            encoder.appendParameter("strategyType", strategyType);
+        }
+        stopPrice.writeTo(encoder);
+        if (trailingDelta != UNSET) {
+            encoder.appendParameter("trailingDelta", trailingDelta);
+        }
+        icebergQty.writeTo(encoder);
+        if (newOrderRespType != null) {
+            encoder.appendParameter("newOrderRespType", newOrderRespType);
+        }
+        if (selfTradePreventionMode != null) {
+            encoder.appendParameter("selfTradePreventionMode", selfTradePreventionMode);
+        }
+        if (recvWindow != UNSET) {
+            encoder.appendParameter("recvWindow", recvWindow);
+        }
+    }
+
+    @Override
+    public JSONObject toJSONObject() {
+        JSONObject parameters = new JSONObject();
+        parameters.put("symbol", symbol);
+        parameters.put("side", side.name());
+        parameters.put("type", type.name());
+        if (timeInForce != null) {
+            parameters.put("timeInForce", timeInForce.name());
+        }
+        quantity.writeTo(parameters);
+        quoteOrderQty.writeTo(parameters);
+        price.writeTo(parameters);
+        if (newClientOrderId != null) {
+            parameters.put("newClientOrderId", newClientOrderId);
+        }
+        if (strategyId != UNSET) {
+            parameters.put("strategyId", strategyId);
+        }
+        if (strategyType != UNSET) {
+            parameters.put("strategyType", strategyType);
+        }
+        stopPrice.writeTo(parameters);
+        if (trailingDelta != UNSET) {
+            parameters.put("trailingDelta", trailingDelta);
+        }
+        icebergQty.writeTo(parameters);
+        if (newOrderRespType != null) {
+            parameters.put("newOrderRespType", newOrderRespType.name());
+        }
+        if (selfTradePreventionMode != null) {
+            parameters.put("selfTradePreventionMode", selfTradePreventionMode.name());
+        }
+        if (recvWindow != UNSET) {
+            parameters.put("recvWindow", recvWindow);
+        }
+        return parameters;
+    }
+}
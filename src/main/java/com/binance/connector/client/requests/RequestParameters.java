@@ -0,0 +1,30 @@
+package com.binance.connector.client.requests;
+
+import org.json.JSONObject;
+
+import com.binance.connector.client.utils.QueryEncoder;
+
+/**
+ * Typed parameters of a request, written straight into the query of a REST request
+ * or into the params of a WebSocket API request.
+ */
+public interface RequestParameters {
+    /**
+     * Checks that the mandatory parameters are set.
+     *
+     * @throws com.binance.connector.client.exceptions.BinanceConnectorException if one is missing
+     */
+    void validate();
+
+    /**
+     * Appends the parameters that are set to the query, without the timestamp and signature.
+     *
+     * @param encoder encoder of the query
+     */
+    void writeTo(QueryEncoder encoder);
+
+    /**
+     * @return a new JSONObject with the parameters that are set, decimals as plain strings without trailing zeros
+     */
+    JSONObject toJSONObject();
+}
@@ -0,0 +1,95 @@
+package com.binance.connector.client.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.binance.connector.client.enums.RateLimitType;
+
+import okhttp3.Headers;
+
+/**
+ * Successful response of a REST request, keeping the body as received.
+ * <br>
+ * Unlike {@code showLimitUsage}, which wraps the body in a JSON string together with the weight headers,
+ * the body is neither copied nor re-serialized and the rate limit headers are parsed once.
+ */
+public final class BinanceResponse {
+    private final int statusCode;
+    private final Headers headers;
+    private final Map<RateLimitType, Long> limitUsage;
+    private final Date serverDate;
+    private final byte[] body;
+
+    public BinanceResponse(int statusCode, Headers headers, byte[] body) {
+        this.statusCode = statusCode;
+        this.headers = headers;
+        this.limitUsage = parseLimitUsage(headers);
+        this.serverDate = headers.getDate("Date");
+        this.body = body;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * @return all headers of the response
+     */
+    public Headers getHeaders() {
+        return headers;
+    }
+
+    /**
+     * @return usage reported by the server for each limit present in the headers
+     */
+    public Map<RateLimitType, Long> getLimitUsage() {
+        return limitUsage;
+    }
+
+    /**
+     * @param type limit
+     * @return usage reported by the server, or null if the header is missing
+     */
+    public Long getLimitUsage(RateLimitType type) {
+        return limitUsage.get(type);
+    }
+
+    /**
+     * @return value of the {@code Date} header, with a precision of one second, or null if missing
+     */
+    public Date getServerDate() {
+        return serverDate;
+    }
+
+    /**
+     * @return body as received, not copied; must not be modified
+     */
+    public byte[] getBody() {
+        return body;
+    }
+
+    /**
+     * @return body decoded as UTF-8
+     */
+    public String getBodyAsString() {
+        return new String(body, StandardCharsets.UTF_8);
+    }
+
+    private static Map<RateLimitType, Long> parseLimitUsage(Headers headers) {
+        Map<RateLimitType, Long> usage = new EnumMap<>(RateLimitType.class);
+        for (RateLimitType type : RateLimitType.values()) {
+            String value = headers.get(type.getHeader());
+            if (value != null) {
+                try {
+                    usage.put(type, Long.parseLong(value.trim()));
+                } catch (NumberFormatException e) {
+                    continue;
+                }
+            }
+        }
+        return Collections.unmodifiableMap(usage);
+    }
+}
@@ -0,0 +1,175 @@
+package com.binance.connector.client.utils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+/**
+ * Formats decimals the way the connector sends them: plain notation, no grouping, no trailing zeros
+ * and at most 30 fraction digits rounded half-even, i.e. like a {@link DecimalFormat} with the pattern
+ * {@code #,##0.###}, 30 maximum fraction digits, grouping disabled and {@link Locale#ENGLISH} symbols.
+ * <br>
+ * Every method is thread safe. Doubles of up to 15 significant digits, which covers prices and quantities,
+ * and fixed-point longs are written digit by digit without allocating; other doubles fall back to a
+ * {@link DecimalFormat} kept per thread, so the output is the same for every value.
+ */
+public final class DecimalWriter {
+    /**
+     * Returned by the {@code write} methods when the value was not written.
+     */
+    static final int NOT_WRITTEN = -1;
+    /**
+     * Room needed in the buffer by {@link #write(double, byte[], int)} and {@link #write(long, int, byte[], int)}:
+     * a sign, {@code 0.} and 30 digits.
+     */
+    static final int MAX_LENGTH = 33;
+
+    private static final int MAX_FRACTION_DIGITS = 30;
+    private static final int MAX_FAST_SCALE = 22;
+    private static final double MAX_FAST_VALUE = 1e15;
+    private static final double[] POW10 = powersOfTen();
+    private static final int ZERO = 0;
+    private static final int ONE = 1;
+    private static final int RADIX = 10;
+    private static final ThreadLocal<DecimalFormat> FORMAT = ThreadLocal.withInitial(DecimalWriter::newDecimalFormat);
+
+    private DecimalWriter() {
+    }
+
+    /**
+     * @param value value to format
+     * @return value in plain notation; {@code NaN} or the infinity sign for non finite values
+     */
+    public static String toString(double value) {
+        byte[] buffer = new byte[MAX_LENGTH];
+        int end = write(value, buffer, ZERO);
+        if (end == NOT_WRITTEN) {
+            return FORMAT.get().format(value);
+        }
+        return new String(buffer, ZERO, end, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * @param value value to format
+     * @return value in plain notation, rounded to 30 fraction digits
+     */
+    public static String toString(BigDecimal value) {
+        BigDecimal rounded = value.scale() > MAX_FRACTION_DIGITS ? value.setScale(MAX_FRACTION_DIGITS, RoundingMode.HALF_EVEN) : value;
+        if (rounded.signum() == ZERO) {
+            return value.signum() < ZERO ? "-0" : "0";
+        }
+        return rounded.stripTrailingZeros().toPlainString();
+    }
+
+    /**
+     * @param unscaled unscaled value
+     * @param scale number of fraction digits of {@code unscaled}
+     * @return {@code unscaled * 10^-scale} in plain notation, rounded to 30 fraction digits
+     */
+    public static String toString(long unscaled, int scale) {
+        byte[] buffer = new byte[MAX_LENGTH];
+        int end = write(unscaled, scale, buffer, ZERO);
+        if (end == NOT_WRITTEN) {
+            return toString(BigDecimal.valueOf(unscaled, scale));
+        }
+        return new String(buffer, ZERO, end, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Writes the value as ASCII if it has at most 15 significant digits.
+     *
+     * @param value value to write
+     * @param buffer destination, with at least {@link #MAX_LENGTH} bytes from {@code offset}
+     * @param offset position of the first byte
+     * @return position after the last byte written, or {@link #NOT_WRITTEN}
+     */
+    static int write(double value, byte[] buffer, int offset) {
+        if (value == ZERO) {
+            if (Double.doubleToRawLongBits(value) < ZERO) {
+                buffer[offset++] = '-';
+            }
+            buffer[offset++] = '0';
+            return offset;
+        }
+        double abs = Math.abs(value);
+        if (!(abs < MAX_FAST_VALUE)) {
+            return NOT_WRITTEN;
+        }
+        // The first scale at which the value is an integer below 10^15 gives its shortest representation:
+        // both the integer and the power of ten are exact doubles, so the division is correctly rounded
+        for (int scale = ZERO; scale <= MAX_FAST_SCALE; scale++) {
+            double scaled = abs * POW10[scale];
+            if (scaled >= MAX_FAST_VALUE) {
+                return NOT_WRITTEN;
+            }
+            long unscaled = Math.round(scaled);
+            if (unscaled / POW10[scale] == abs) {
+                return write(value < ZERO ? -unscaled : unscaled, scale, buffer, offset);
+            }
+        }
+        return NOT_WRITTEN;
+    }
+
+    /**
+     * Writes {@code unscaled * 10^-scale} as ASCII, without trailing zeros.
+     *
+     * @param unscaled unscaled value
+     * @param scale number of fraction digits, from 0 to 30
+     * @param buffer destination, with at least {@link #MAX_LENGTH} bytes from {@code offset}
+     * @param offset position of the first byte
+     * @return position after the last byte written, or {@link #NOT_WRITTEN} if the scale is out of range
+     */
+    static int write(long unscaled, int scale, byte[] buffer, int offset) {
+        if (scale < ZERO || scale > MAX_FRACTION_DIGITS || unscaled == Long.MIN_VALUE) {
+            return NOT_WRITTEN;
+        }
+        while (scale > ZERO && unscaled % RADIX == ZERO) {
+            unscaled /= RADIX;
+            scale--;
+        }
+        if (unscaled < ZERO) {
+            buffer[offset++] = '-';
+            unscaled = -unscaled;
+        }
+        int start = offset;
+        int digits = ZERO;
+        do {
+            buffer[offset++] = (byte) ('0' + unscaled % RADIX);
+            unscaled /= RADIX;
+            if (++digits == scale) {
+                buffer[offset++] = '.';
+            }
+        } while (unscaled > ZERO || digits < scale);
+        if (buffer[offset - ONE] == '.') {
+            buffer[offset++] = '0';
+        }
+        for (int i = start, j = offset - ONE; i < j; i++, j--) {
+            byte tmp = buffer[i];
+            buffer[i] = buffer[j];
+            buffer[j] = tmp;
+        }
+        return offset;
+    }
+
+    private static DecimalFormat newDecimalFormat() {
+        // Overrides the default Locale
+        DecimalFormatSymbols symbols = new DecimalFormatSymbols(Locale.ENGLISH);
+        DecimalFormat df = new DecimalFormat("#,##0.###", symbols);
+        df.setMaximumFractionDigits(MAX_FRACTION_DIGITS);
+        df.setGroupingUsed(false);
+        return df;
+    }
+
+    private static double[] powersOfTen() {
+        double[] powers = new double[MAX_FAST_SCALE + ONE];
+        double power = ONE;
+        for (int i = ZERO; i < powers.length; i++) {
+            powers[i] = power;
+            power *= RADIX;
+        }
+        return powers;
+    }
+}
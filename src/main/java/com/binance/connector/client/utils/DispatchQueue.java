@@ -0,0 +1,270 @@
+package com.binance.connector.client.utils;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.binance.connector.client.enums.OverflowPolicy;
+import com.binance.connector.client.utils.websocketcallback.WebSocketMessageCallback;
+
+/**
+ * Bounded stage between the reader thread of a WebSocket connection and its callbacks.
+ * <br>
+ * The reader only appends to a lock-free {@link RingBuffer}; one task at a time drains it on the executor,
+ * so callbacks keep their order. When the consumer falls behind the {@link OverflowPolicy} decides what
+ * happens to new messages:
+ * <ul>
+ * <li>BLOCK - the reader waits for room, pushing back on the socket</li>
+ * <li>DROP_OLDEST - the oldest queued message is discarded</li>
+ * <li>DROP_NEWEST - the new message is discarded</li>
+ * <li>CONFLATE - only the latest message of each stream is kept; the queue holds one entry per stream
+ * and the reader only waits when more streams than the capacity are pending</li>
+ * </ul>
+ * Open, closing, closed, failure and gap events are never dropped or conflated.
+ * Binary frames are only dropped with DROP_NEWEST.
+ * Responses to SUBSCRIBE and other requests are never conflated either.
+ */
+public final class DispatchQueue {
+    private static final Logger logger = LoggerFactory.getLogger(DispatchQueue.class);
+    private static final long PARK_NANOS = 50000L;
+    private static final String STREAM_PREFIX = "{\"stream\":\"";
+    private static final String CONNECTION_STREAM = "";
+    private static final String[] RESPONSE_PREFIXES = {"{\"result\":", "{\"error\":", "{\"id\":"};
+    private static final char QUOTE = '"';
+
+    private final RingBuffer<Object> buffer;
+    private final OverflowPolicy policy;
+    private final Executor executor;
+    private final WebSocketMessageCallback consumer;
+    private final Map<String, String> latest = new ConcurrentHashMap<>();
+    private final Queue<Runnable> displacedEvents = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder conflated = new LongAdder();
+    private final LongAdder blocked = new LongAdder();
+
+    /**
+     * @param capacity number of queued entries, rounded up to a power of two
+     * @param policy what to do with messages arriving while the queue is full
+     * @param executor executor draining the queue, or null for a shared pool of daemon threads;
+     *                 with BLOCK it must not run tasks on the calling thread
+     * @param consumer callback receiving the messages
+     */
+    public DispatchQueue(int capacity, OverflowPolicy policy, Executor executor, WebSocketMessageCallback consumer) {
+        ParameterChecker.checkParameterType(policy, OverflowPolicy.class, "policy");
+        ParameterChecker.checkParameterType(consumer, WebSocketMessageCallback.class, "consumer");
+        this.buffer = new RingBuffer<>(capacity);
+        this.policy = policy;
+        this.executor = executor == null ? DefaultExecutorHolder.EXECUTOR : executor;
+        this.consumer = consumer;
+    }
+
+    /**
+     * Queues a message for the consumer according to the overflow policy.
+     *
+     * @param text message received on the socket
+     */
+    public void offerMessage(String text) {
+        switch (policy) {
+            case DROP_NEWEST:
+                if (!buffer.offer(text)) {
+                    dropped.increment();
+                }
+                break;
+            case DROP_OLDEST:
+                while (!buffer.offer(text)) {
+                    discardOldest();
+                }
+                break;
+            case CONFLATE:
+                String stream = streamOf(text);
+                if (null == stream) {
+                    offerBlocking((Runnable) () -> consumer.onMessage(text));
+                } else if (null != latest.put(stream, text)) {
+                    conflated.increment();
+                } else {
+                    offerBlocking(stream);
+                }
+                break;
+            default:
+                offerBlocking(text);
+                break;
+        }
+        schedule();
+    }
+
+    /**
+     * Queues the delivery of a binary frame. Its bytes cannot be conflated or handed over, so the frame is
+     * discarded when the queue is full with DROP_NEWEST and waits for room with the other policies.
+     *
+     * @param frame delivery of the frame to its callback
+     */
+    public void offerFrame(Runnable frame) {
+        if (policy == OverflowPolicy.DROP_NEWEST) {
+            if (!buffer.offer(frame)) {
+                dropped.increment();
+            }
+        } else {
+            offerBlocking(frame);
+        }
+        schedule();
+    }
+
+    /**
+     * Queues a connection event, behind the messages already queued. Events are never dropped.
+     *
+     * @param event callback to run
+     */
+    public void offerEvent(Runnable event) {
+        offerBlocking(event);
+        schedule();
+    }
+
+    public OverflowPolicy getPolicy() {
+        return policy;
+    }
+
+    public int getCapacity() {
+        return buffer.capacity();
+    }
+
+    /**
+     * @return number of entries waiting for the consumer
+     */
+    public int getDepth() {
+        return buffer.size();
+    }
+
+    /**
+     * @return number of messages discarded by DROP_OLDEST or DROP_NEWEST, or because the executor rejected the consumer
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * @return number of messages replaced by a newer message of the same stream before being delivered
+     */
+    public long getConflatedCount() {
+        return conflated.sum();
+    }
+
+    /**
+     * @return number of times the reader had to wait for room in the queue
+     */
+    public long getBlockedCount() {
+        return blocked.sum();
+    }
+
+    private void offerBlocking(Object entry) {
+        if (buffer.offer(entry)) {
+            return;
+        }
+        blocked.increment();
+        do {
+            schedule();
+            LockSupport.parkNanos(PARK_NANOS);
+        } while (!buffer.offer(entry));
+    }
+
+    /**
+     * Events are older than anything left in the buffer, so the consumer delivers a displaced event first.
+     */
+    private void discardOldest() {
+        Object oldest = buffer.poll();
+        if (oldest instanceof Runnable) {
+            displacedEvents.add((Runnable) oldest);
+        } else if (null != oldest) {
+            dropped.increment();
+        }
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                scheduled.set(false);
+                logger.error("Executor rejected the consumer, {} message(s) not delivered", buffer.size(), e);
+                clear();
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            Object entry;
+            while ((entry = next()) != null) {
+                try {
+                    deliver(entry);
+                } catch (RuntimeException e) {
+                    logger.error("Callback failed", e);
+                }
+            }
+        } finally {
+            scheduled.set(false);
+            if (!buffer.isEmpty() || !displacedEvents.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+
+    private Object next() {
+        Runnable event = displacedEvents.poll();
+        return null != event ? event : buffer.poll();
+    }
+
+    private void deliver(Object entry) {
+        if (entry instanceof Runnable) {
+            ((Runnable) entry).run();
+            return;
+        }
+        String text = policy == OverflowPolicy.CONFLATE ? latest.remove(entry) : (String) entry;
+        if (null != text) {
+            consumer.onMessage(text);
+        }
+    }
+
+    private void clear() {
+        Object entry;
+        while ((entry = buffer.poll()) != null) {
+            if (!(entry instanceof Runnable)) {
+                dropped.increment();
+            }
+        }
+        displacedEvents.clear();
+        latest.clear();
+    }
+
+    /**
+     * @return stream of a combined stream message, the whole connection for a raw stream message,
+     *         or null for a response, which is not conflated
+     */
+    private static String streamOf(String text) {
+        if (text.startsWith(STREAM_PREFIX)) {
+            int end = text.indexOf(QUOTE, STREAM_PREFIX.length());
+            if (end > STREAM_PREFIX.length()) {
+                return text.substring(STREAM_PREFIX.length(), end);
+            }
+        }
+        for (String prefix : RESPONSE_PREFIXES) {
+            if (text.startsWith(prefix)) {
+                return null;
+            }
+        }
+        return CONNECTION_STREAM;
+    }
+
+    private static final class DefaultExecutorHolder {
+        private static final Executor EXECUTOR = ExecutorFactory.newPlatformThreadExecutor();
+    }
+}
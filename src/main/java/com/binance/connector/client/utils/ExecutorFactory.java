@@ -0,0 +1,103 @@
+package com.binance.connector.client.utils;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates the executors used to run blocking REST calls and WebSocket callbacks off the calling thread.
+ * <br>
+ * Virtual threads are looked up reflectively, so the connector still runs on JDKs older than 21.
+ * On those JDKs {@link #newVirtualThreadExecutor()} falls back to a cached pool of daemon platform threads.
+ */
+public final class ExecutorFactory {
+    private static final Logger logger = LoggerFactory.getLogger(ExecutorFactory.class);
+    private static final String THREAD_NAME_PREFIX = "binance-connector-";
+    private static final String SCHEDULER_THREAD_NAME_PREFIX = "binance-connector-scheduler-";
+    private static final int SCHEDULER_THREADS = 1;
+    private static final Method NEW_VIRTUAL_THREAD_EXECUTOR = findVirtualThreadExecutorMethod();
+
+    private ExecutorFactory() {
+    }
+
+    /**
+     * @return true if the running JDK supports virtual threads
+     */
+    public static boolean isVirtualThreadSupported() {
+        return NEW_VIRTUAL_THREAD_EXECUTOR != null;
+    }
+
+    /**
+     * Creates an executor that starts a new virtual thread for each task. On JDKs without
+     * virtual threads a cached pool of daemon platform threads is returned instead.
+     *
+     * @return ExecutorService
+     */
+    public static ExecutorService newVirtualThreadExecutor() {
+        if (NEW_VIRTUAL_THREAD_EXECUTOR != null) {
+            try {
+                return (ExecutorService) NEW_VIRTUAL_THREAD_EXECUTOR.invoke(null);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                logger.warn("Failed to create virtual thread executor, falling back to platform threads", e);
+            }
+        } else {
+            logger.info("Virtual threads are not supported by this JDK, falling back to platform threads");
+        }
+        return newPlatformThreadExecutor();
+    }
+
+    /**
+     * @return a cached pool of daemon platform threads
+     */
+    public static ExecutorService newPlatformThreadExecutor() {
+        return Executors.newCachedThreadPool(daemonThreadFactory(THREAD_NAME_PREFIX));
+    }
+
+    /**
+     * @param namePrefix prefix of the thread names, followed by a counter
+     * @return ThreadFactory creating daemon platform threads
+     */
+    public static ThreadFactory daemonThreadFactory(String namePrefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Timer shared by the connector for reconnections and request timeouts, running on one daemon thread
+     * created on first use. Tasks must be short; cancelled tasks are removed right away.
+     *
+     * @return ScheduledExecutorService
+     */
+    public static ScheduledExecutorService sharedScheduler() {
+        return SchedulerHolder.SCHEDULER;
+    }
+
+    private static Method findVirtualThreadExecutorMethod() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static final class SchedulerHolder {
+        private static final ScheduledExecutorService SCHEDULER = newScheduler();
+
+        private static ScheduledExecutorService newScheduler() {
+            ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(SCHEDULER_THREADS, daemonThreadFactory(SCHEDULER_THREAD_NAME_PREFIX));
+            scheduler.setRemoveOnCancelPolicy(true);
+            return scheduler;
+        }
+    }
+}
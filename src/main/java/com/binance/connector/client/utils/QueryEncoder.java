@@ -0,0 +1,337 @@
+package com.binance.connector.client.utils;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Map;
+
+import com.binance.connector.client.utils.signaturegenerator.HmacSignatureGenerator;
+import com.binance.connector.client.utils.signaturegenerator.SignatureGenerator;
+
+/**
+ * Writes query parameters into a reusable byte buffer, form-encoded like {@link java.net.URLEncoder},
+ * and signs the buffer in place.
+ * <br>
+ * One encoder is kept per thread and handed out by {@link #get()}, so after warm-up a signed query is built
+ * without intermediate Strings: integers are written digit by digit, strings are percent-encoded char by char,
+ * and an HMAC signature is computed over the buffer and hex-encoded into it.
+ * <br>
+ * The encoder returned by {@link #get()} is cleared on each call, so it must be fully consumed before
+ * {@link #get()} is called again on the same thread. Code that may run while it is in use, such as a
+ * signature generator or a metrics hook, uses an encoder of its own from {@link #create()}.
+ */
+public final class QueryEncoder {
+    private static final ThreadLocal<QueryEncoder> ENCODER = ThreadLocal.withInitial(QueryEncoder::new);
+    private static final int INITIAL_CAPACITY = 512;
+    private static final int EMPTY = 0;
+    private static final int ONE = 1;
+    private static final int GROWTH_FACTOR = 2;
+    private static final int MAX_MAC_LENGTH = 64;
+    private static final int HEX_DIGITS_PER_BYTE = 2;
+    private static final int UTF8_MAX_BYTES = 4;
+    private static final int PERCENT_ENCODED_LENGTH = 3;
+    private static final byte[] UPPER_HEX = {'0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'A', 'B', 'C', 'D', 'E', 'F'};
+    private static final byte[] LOWER_HEX = {'0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f'};
+    private static final byte[] SIGNATURE = {'s', 'i', 'g', 'n', 'a', 't', 'u', 'r', 'e', '='};
+    private static final boolean[] UNRESERVED = unreserved();
+    private static final int ASCII_LIMIT = 0x80;
+    private static final int TWO_BYTES_LIMIT = 0x800;
+    private static final int LOW_NIBBLE = 0x0F;
+    private static final int NIBBLE_BITS = 4;
+    private static final int SIX_BITS = 6;
+    private static final int TWELVE_BITS = 12;
+    private static final int EIGHTEEN_BITS = 18;
+    private static final int CONTINUATION = 0x80;
+    private static final int CONTINUATION_MASK = 0x3F;
+    private static final int TWO_BYTES_PREFIX = 0xC0;
+    private static final int THREE_BYTES_PREFIX = 0xE0;
+    private static final int FOUR_BYTES_PREFIX = 0xF0;
+    private static final int RADIX = 10;
+    private static final int MAX_LONG_DIGITS = 20;
+
+    private final byte[] digest = new byte[MAX_MAC_LENGTH];
+    private byte[] buffer = new byte[INITIAL_CAPACITY];
+    private int length;
+
+    private QueryEncoder() {
+    }
+
+    /**
+     * @return a new encoder, independent of the one of the current thread
+     */
+    public static QueryEncoder create() {
+        return new QueryEncoder();
+    }
+
+    /**
+     * @return the cleared encoder of the current thread
+     */
+    public static QueryEncoder get() {
+        QueryEncoder encoder = ENCODER.get();
+        encoder.length = EMPTY;
+        return encoder;
+    }
+
+    /**
+     * Appends {@code key=value} for each entry, in iteration order of the map.
+     *
+     * @param parameters parameters to append, may be null
+     * @return this
+     */
+    public QueryEncoder appendParameters(Map<String, Object> parameters) {
+        if (parameters != null) {
+            for (Map.Entry<String, Object> entry : parameters.entrySet()) {
+                appendParameter(entry.getKey(), entry.getValue());
+            }
+        }
+        return this;
+    }
+
+    /**
+     * @param key parameter name, written as is unless it contains non ASCII characters
+     * @param value parameter value; doubles and BigDecimals are formatted by {@link DecimalWriter},
+     *              other values through {@code toString()}
+     * @return this
+     */
+    public QueryEncoder appendParameter(String key, Object value) {
+        appendSeparator();
+        appendKey(key);
+        appendByte('=');
+        if (value instanceof Long || value instanceof Integer || value instanceof Short) {
+            appendLong(((Number) value).longValue());
+        } else if (value instanceof Double) {
+            appendDouble((Double) value);
+        } else if (value instanceof BigDecimal) {
+            appendEncoded(DecimalWriter.toString((BigDecimal) value));
+        } else {
+            appendEncoded(value.toString());
+        }
+        return this;
+    }
+
+    /**
+     * @param key parameter name
+     * @param value parameter value, written digit by digit
+     * @return this
+     */
+    public QueryEncoder appendParameter(String key, long value) {
+        appendSeparator();
+        appendKey(key);
+        appendByte('=');
+        appendLong(value);
+        return this;
+    }
+
+    /**
+     * Appends the fixed-point decimal {@code unscaled * 10^-scale} in plain notation and without trailing zeros,
+     * e.g. 12345 with a scale of 2 as {@code 123.45} and 500 with a scale of 5 as {@code 0.005}.
+     *
+     * @param key parameter name
+     * @param unscaled unscaled value
+     * @param scale number of fraction digits
+     * @return this
+     */
+    public QueryEncoder appendDecimal(String key, long unscaled, int scale) {
+        appendSeparator();
+        appendKey(key);
+        appendByte('=');
+        ensureCapacity(DecimalWriter.MAX_LENGTH);
+        int end = DecimalWriter.write(unscaled, scale, buffer, length);
+        if (end == DecimalWriter.NOT_WRITTEN) {
+            appendEncoded(DecimalWriter.toString(BigDecimal.valueOf(unscaled, scale)));
+        } else {
+            length = end;
+        }
+        return this;
+    }
+
+    /**
+     * Signs the parameters written so far and appends them the {@code signature} parameter.
+     * HMAC signatures are computed and hex-encoded in place; other generators receive the query as a String.
+     *
+     * @param signatureGenerator generator of the signature
+     * @return this
+     */
+    public QueryEncoder appendSignature(SignatureGenerator signatureGenerator) {
+        if (signatureGenerator instanceof HmacSignatureGenerator) {
+            int macLength = ((HmacSignatureGenerator) signatureGenerator).sign(buffer, EMPTY, length, digest);
+            appendSeparator();
+            ensureCapacity(SIGNATURE.length + macLength * HEX_DIGITS_PER_BYTE);
+            System.arraycopy(SIGNATURE, EMPTY, buffer, length, SIGNATURE.length);
+            length += SIGNATURE.length;
+            for (int i = EMPTY; i < macLength; i++) {
+                buffer[length++] = LOWER_HEX[(digest[i] >> NIBBLE_BITS) & LOW_NIBBLE];
+                buffer[length++] = LOWER_HEX[digest[i] & LOW_NIBBLE];
+            }
+        } else {
+            appendParameter("signature", signatureGenerator.getSignature(buffer, EMPTY, length));
+        }
+        return this;
+    }
+
+    /**
+     * @return the internal buffer, valid up to {@link #length()}
+     */
+    public byte[] buffer() {
+        return buffer;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    /**
+     * @param baseUrl base URL
+     * @param urlPath path of the endpoint
+     * @return full URL with the encoded query
+     */
+    public String toUrl(String baseUrl, String urlPath) {
+        StringBuilder sb = new StringBuilder(baseUrl.length() + urlPath.length() + length + ONE)
+                .append(baseUrl).append(urlPath);
+        if (length > EMPTY) {
+            sb.append('?');
+            appendTo(sb);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @param sb builder to append the encoded query to
+     * @return {@code sb}
+     */
+    public StringBuilder appendTo(StringBuilder sb) {
+        for (int i = EMPTY; i < length; i++) {
+            sb.append((char) buffer[i]);
+        }
+        return sb;
+    }
+
+    @Override
+    public String toString() {
+        return appendTo(new StringBuilder(length)).toString();
+    }
+
+    private void appendSeparator() {
+        if (length > EMPTY) {
+            appendByte('&');
+        }
+    }
+
+    private void appendByte(char c) {
+        ensureCapacity(ONE);
+        buffer[length++] = (byte) c;
+    }
+
+    private void appendDouble(double value) {
+        ensureCapacity(DecimalWriter.MAX_LENGTH);
+        int end = DecimalWriter.write(value, buffer, length);
+        if (end == DecimalWriter.NOT_WRITTEN) {
+            appendEncoded(DecimalWriter.toString(value));
+        } else {
+            length = end;
+        }
+    }
+
+    private void appendLong(long value) {
+        if (value == Long.MIN_VALUE) {
+            appendEncoded(Long.toString(value));
+            return;
+        }
+        ensureCapacity(MAX_LONG_DIGITS);
+        if (value < EMPTY) {
+            buffer[length++] = '-';
+            value = -value;
+        }
+        int start = length;
+        do {
+            buffer[length++] = (byte) ('0' + value % RADIX);
+            value /= RADIX;
+        } while (value > EMPTY);
+        reverse(start, length - ONE);
+    }
+
+    private void reverse(int from, int to) {
+        for (int i = from, j = to; i < j; i++, j--) {
+            byte tmp = buffer[i];
+            buffer[i] = buffer[j];
+            buffer[j] = tmp;
+        }
+    }
+
+    private void appendKey(String key) {
+        int size = key.length();
+        for (int i = EMPTY; i < size; i++) {
+            char c = key.charAt(i);
+            if (c >= ASCII_LIMIT) {
+                appendEncoded(key.substring(i));
+                return;
+            }
+            ensureCapacity(ONE);
+            buffer[length++] = (byte) c;
+        }
+    }
+
+    private void appendEncoded(CharSequence s) {
+        int size = s.length();
+        for (int i = EMPTY; i < size; i++) {
+            char c = s.charAt(i);
+            if (c < ASCII_LIMIT && UNRESERVED[c]) {
+                ensureCapacity(ONE);
+                buffer[length++] = (byte) c;
+            } else if (c == ' ') {
+                ensureCapacity(ONE);
+                buffer[length++] = '+';
+            } else {
+                ensureCapacity(UTF8_MAX_BYTES * PERCENT_ENCODED_LENGTH);
+                if (c < ASCII_LIMIT) {
+                    appendPercent(c);
+                } else if (c < TWO_BYTES_LIMIT) {
+                    appendPercent(TWO_BYTES_PREFIX | (c >> SIX_BITS));
+                    appendPercent(CONTINUATION | (c & CONTINUATION_MASK));
+                } else if (Character.isHighSurrogate(c) && i + ONE < size && Character.isLowSurrogate(s.charAt(i + ONE))) {
+                    int codePoint = Character.toCodePoint(c, s.charAt(++i));
+                    appendPercent(FOUR_BYTES_PREFIX | (codePoint >> EIGHTEEN_BITS));
+                    appendPercent(CONTINUATION | ((codePoint >> TWELVE_BITS) & CONTINUATION_MASK));
+                    appendPercent(CONTINUATION | ((codePoint >> SIX_BITS) & CONTINUATION_MASK));
+                    appendPercent(CONTINUATION | (codePoint & CONTINUATION_MASK));
+                } else if (Character.isSurrogate(c)) {
+                    // Unpaired surrogates are replaced, like URLEncoder does
+                    appendPercent('?');
+                } else {
+                    appendPercent(THREE_BYTES_PREFIX | (c >> TWELVE_BITS));
+                    appendPercent(CONTINUATION | ((c >> SIX_BITS) & CONTINUATION_MASK));
+                    appendPercent(CONTINUATION | (c & CONTINUATION_MASK));
+                }
+            }
+        }
+    }
+
+    private void appendPercent(int b) {
+        buffer[length++] = '%';
+        buffer[length++] = UPPER_HEX[(b >> NIBBLE_BITS) & LOW_NIBBLE];
+        buffer[length++] = UPPER_HEX[b & LOW_NIBBLE];
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * GROWTH_FACTOR, length + extra));
+        }
+    }
+
+    private static boolean[] unreserved() {
+        boolean[] table = new boolean[ASCII_LIMIT];
+        for (char c = 'a'; c <= 'z'; c++) {
+            table[c] = true;
+        }
+        for (char c = 'A'; c <= 'Z'; c++) {
+            table[c] = true;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            table[c] = true;
+        }
+        table['.'] = true;
+        table['-'] = true;
+        table['*'] = true;
+        table['_'] = true;
+        return table;
+    }
+}
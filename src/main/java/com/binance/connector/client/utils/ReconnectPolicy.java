@@ -0,0 +1,155 @@
+package com.binance.connector.client.utils;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.binance.connector.client.exceptions.BinanceConnectorException;
+
+/**
+ * How a {@link WebSocketConnection} recovers from a lost connection and when it replaces a connection
+ * before the server drops it.
+ * <br>
+ * After a failure or an unexpected close the connection is dialled again after an exponential backoff,
+ * {@code initialDelay * multiplier^attempt} capped at {@code maxDelay}, of which a random part of
+ * {@code jitter} is removed so that many clients disconnected together do not reconnect together.
+ * <br>
+ * Binance closes every stream connection after 24 hours. A connection older than {@code maxConnectionAge}
+ * is replaced by a new one, opened while the old one is still delivering messages.
+ * <pre>
+ * ReconnectPolicy policy = ReconnectPolicy.builder()
+ *         .initialDelay(500, TimeUnit.MILLISECONDS)
+ *         .maxDelay(30, TimeUnit.SECONDS)
+ *         .build();
+ * </pre>
+ */
+public final class ReconnectPolicy {
+    private static final long DEFAULT_INITIAL_DELAY_MILLIS = 500L;
+    private static final long DEFAULT_MAX_DELAY_MILLIS = TimeUnit.SECONDS.toMillis(30);
+    private static final double DEFAULT_MULTIPLIER = 2.0;
+    private static final double DEFAULT_JITTER = 0.5;
+    private static final long DEFAULT_MAX_CONNECTION_AGE_MILLIS = TimeUnit.HOURS.toMillis(23) + TimeUnit.MINUTES.toMillis(50);
+    private static final long NO_MAX_AGE = 0L;
+    private static final long MIN_DELAY = 0L;
+    private static final double MIN_MULTIPLIER = 1.0;
+    private static final double MIN_JITTER = 0.0;
+    private static final double MAX_JITTER = 1.0;
+
+    private final long initialDelayMillis;
+    private final long maxDelayMillis;
+    private final double multiplier;
+    private final double jitter;
+    private final long maxConnectionAgeMillis;
+
+    private ReconnectPolicy(Builder builder) {
+        this.initialDelayMillis = builder.initialDelayMillis;
+        this.maxDelayMillis = builder.maxDelayMillis;
+        this.multiplier = builder.multiplier;
+        this.jitter = builder.jitter;
+        this.maxConnectionAgeMillis = builder.maxConnectionAgeMillis;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return policy with the default delays, replacing connections after 23 hours and 50 minutes
+     */
+    public static ReconnectPolicy defaultPolicy() {
+        return new Builder().build();
+    }
+
+    /**
+     * @param attempt number of reconnections attempted since the connection was lost, starting at 0
+     * @return delay before the next attempt, in milliseconds
+     */
+    public long delayMillis(int attempt) {
+        double delay = Math.min(initialDelayMillis * Math.pow(multiplier, attempt), maxDelayMillis);
+        return (long) (delay * (MAX_JITTER - jitter * ThreadLocalRandom.current().nextDouble()));
+    }
+
+    /**
+     * @return age in milliseconds after which a connection is replaced, 0 if connections are never replaced
+     */
+    public long getMaxConnectionAgeMillis() {
+        return maxConnectionAgeMillis;
+    }
+
+    public static final class Builder {
+        private long initialDelayMillis = DEFAULT_INITIAL_DELAY_MILLIS;
+        private long maxDelayMillis = DEFAULT_MAX_DELAY_MILLIS;
+        private double multiplier = DEFAULT_MULTIPLIER;
+        private double jitter = DEFAULT_JITTER;
+        private long maxConnectionAgeMillis = DEFAULT_MAX_CONNECTION_AGE_MILLIS;
+
+        private Builder() {
+        }
+
+        /**
+         * @param delay delay before the first reconnection attempt
+         * @param unit unit of {@code delay}
+         * @return Builder
+         */
+        public Builder initialDelay(long delay, TimeUnit unit) {
+            if (delay < MIN_DELAY || unit == null) {
+                throw new BinanceConnectorException("[ReconnectPolicy] Initial delay must not be negative.");
+            }
+            this.initialDelayMillis = unit.toMillis(delay);
+            return this;
+        }
+
+        /**
+         * @param delay longest delay between two reconnection attempts
+         * @param unit unit of {@code delay}
+         * @return Builder
+         */
+        public Builder maxDelay(long delay, TimeUnit unit) {
+            if (delay < MIN_DELAY || unit == null) {
+                throw new BinanceConnectorException("[ReconnectPolicy] Max delay must not be negative.");
+            }
+            this.maxDelayMillis = unit.toMillis(delay);
+            return this;
+        }
+
+        /**
+         * @param backoffMultiplier factor applied to the delay after each failed attempt, at least 1
+         * @return Builder
+         */
+        public Builder multiplier(double backoffMultiplier) {
+            if (!(backoffMultiplier >= MIN_MULTIPLIER)) {
+                throw new BinanceConnectorException("[ReconnectPolicy] Multiplier must be at least 1.");
+            }
+            this.multiplier = backoffMultiplier;
+            return this;
+        }
+
+        /**
+         * @param randomFraction fraction of the delay removed at random, between 0 for none and 1
+         * @return Builder
+         */
+        public Builder jitter(double randomFraction) {
+            if (!(randomFraction >= MIN_JITTER && randomFraction <= MAX_JITTER)) {
+                throw new BinanceConnectorException("[ReconnectPolicy] Jitter must be between 0 and 1.");
+            }
+            this.jitter = randomFraction;
+            return this;
+        }
+
+        /**
+         * @param age age after which a connection is replaced, 0 to keep connections until the server closes them
+         * @param unit unit of {@code age}
+         * @return Builder
+         */
+        public Builder maxConnectionAge(long age, TimeUnit unit) {
+            if (age < NO_MAX_AGE || unit == null) {
+                throw new BinanceConnectorException("[ReconnectPolicy] Max connection age must not be negative.");
+            }
+            this.maxConnectionAgeMillis = unit.toMillis(age);
+            return this;
+        }
+
+        public ReconnectPolicy build() {
+            return new ReconnectPolicy(this);
+        }
+    }
+}
@@ -2,41 +2,181 @@ package com.binance.connector.client.utils;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.binance.connector.client.enums.HttpMethod;
 import com.binance.connector.client.exceptions.BinanceConnectorException;
+import com.binance.connector.client.requests.RequestParameters;
+import com.binance.connector.client.utils.metrics.RequestMetrics;
+import com.binance.connector.client.utils.ratelimit.RateLimiter;
 import com.binance.connector.client.utils.signaturegenerator.Ed25519SignatureGenerator;
 import com.binance.connector.client.utils.signaturegenerator.HmacSignatureGenerator;
 import com.binance.connector.client.utils.signaturegenerator.RsaSignatureGenerator;
 import com.binance.connector.client.utils.signaturegenerator.SignatureGenerator;
 
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+
 public class RequestHandler {
     private final String apiKey;
     private final SignatureGenerator signatureGenerator;
     private static final Logger logger = LoggerFactory.getLogger(RequestHandler.class);
     private final ProxyAuth proxy;
+    private final OkHttpClient httpClient;
+    private final Executor executor;
+    private final RequestMetrics metrics;
+    private final RateLimiter rateLimiter;
 
     public RequestHandler(String apiKey, ProxyAuth proxy) {
         this(apiKey, null, proxy);
     }
 
     public RequestHandler(String apiKey, SignatureGenerator signatureGenerator, ProxyAuth proxy) {
+        this(apiKey, signatureGenerator, proxy, null);
+    }
+
+    /**
+     * @param apiKey API key
+     * @param signatureGenerator signature generator for SIGNED endpoints, may be null
+     * @param proxy proxy the requests are routed through, may be null
+     * @param httpClient client used to execute the requests; when null the shared
+     *                   {@link com.binance.connector.client.utils.httpclient.HttpClientSingleton} is used
+     */
+    public RequestHandler(String apiKey, SignatureGenerator signatureGenerator, ProxyAuth proxy, OkHttpClient httpClient) {
+        this(apiKey, signatureGenerator, proxy, httpClient, null);
+    }
+
+    /**
+     * @param apiKey API key
+     * @param signatureGenerator signature generator for SIGNED endpoints, may be null
+     * @param proxy proxy the requests are routed through, may be null
+     * @param httpClient client used to execute the requests, may be null
+     * @param executor executor running the blocking calls of the asynchronous senders;
+     *                 when null the calls are enqueued on the OkHttp dispatcher instead
+     */
+    public RequestHandler(String apiKey, SignatureGenerator signatureGenerator, ProxyAuth proxy, OkHttpClient httpClient, Executor executor) {
+        this(apiKey, signatureGenerator, proxy, httpClient, executor, null);
+    }
+
+    /**
+     * @param apiKey API key
+     * @param signatureGenerator signature generator for SIGNED endpoints, may be null
+     * @param proxy proxy the requests are routed through, may be null
+     * @param httpClient client used to execute the requests, may be null
+     * @param executor executor running the blocking calls of the asynchronous senders, may be null
+     * @param metrics metrics every request is reported to, may be null
+     */
+    public RequestHandler(String apiKey, SignatureGenerator signatureGenerator, ProxyAuth proxy, OkHttpClient httpClient, Executor executor, RequestMetrics metrics) {
         this.apiKey = apiKey;
         this.signatureGenerator = signatureGenerator;
         this.proxy = proxy;
+        this.httpClient = httpClient;
+        this.executor = executor;
+        this.metrics = metrics;
+        this.rateLimiter = findRateLimiter(httpClient);
     }
 
     public String sendPublicRequest(String baseUrl, String urlPath, Map<String, Object> parameters, HttpMethod httpMethod, boolean showLimitUsage) {
+        return ResponseHandler.handleResponse(httpClient, buildPublicRequest(baseUrl, urlPath, parameters, httpMethod), showLimitUsage, proxy);
+    }
+
+    public String sendApiRequest(String baseUrl, String urlPath, Map<String, Object> parameters, HttpMethod httpMethod, boolean showLimitUsage) {
+        return ResponseHandler.handleResponse(httpClient, buildApiRequest(baseUrl, urlPath, parameters, httpMethod), showLimitUsage, proxy);
+    }
+
+    public String sendSignedRequest(String baseUrl, String urlPath, Map<String, Object> parameters, HttpMethod httpMethod, boolean showLimitUsage) {
+        return ResponseHandler.handleResponse(httpClient, buildSignedRequest(baseUrl, urlPath, parameters, httpMethod), showLimitUsage, proxy);
+    }
+
+    /**
+     * Same as {@link #sendSignedRequest(String, String, Map, HttpMethod, boolean)} with typed parameters,
+     * written into the query without going through a Map.
+     */
+    public String sendTypedSignedRequest(String baseUrl, String urlPath, RequestParameters parameters, HttpMethod httpMethod, boolean showLimitUsage) {
+        return ResponseHandler.handleResponse(httpClient, buildSignedRequest(baseUrl, urlPath, parameters, httpMethod), showLimitUsage, proxy);
+    }
+
+    /**
+     * Same as {@link #sendPublicRequest(String, String, Map, HttpMethod, boolean)} but returns the response
+     * as received, with its status code, rate limit headers and raw body.
+     */
+    public BinanceResponse sendPublicRequestWithMetadata(String baseUrl, String urlPath, Map<String, Object> parameters, HttpMethod httpMethod) {
+        return ResponseHandler.handleResponseWithMetadata(httpClient, buildPublicRequest(baseUrl, urlPath, parameters, httpMethod), proxy);
+    }
+
+    /**
+     * Same as {@link #sendApiRequest(String, String, Map, HttpMethod, boolean)} but returns the response
+     * as received, with its status code, rate limit headers and raw body.
+     */
+    public BinanceResponse sendApiRequestWithMetadata(String baseUrl, String urlPath, Map<String, Object> parameters, HttpMethod httpMethod) {
+        return ResponseHandler.handleResponseWithMetadata(httpClient, buildApiRequest(baseUrl, urlPath, parameters, httpMethod), proxy);
+    }
+
+    /**
+     * Same as {@link #sendSignedRequest(String, String, Map, HttpMethod, boolean)} but returns the response
+     * as received, with its status code, rate limit headers and raw body.
+     */
+    public BinanceResponse sendSignedRequestWithMetadata(String baseUrl, String urlPath, Map<String, Object> parameters, HttpMethod httpMethod) {
+        return ResponseHandler.handleResponseWithMetadata(httpClient, buildSignedRequest(baseUrl, urlPath, parameters, httpMethod), proxy);
+    }
+
+    /**
+     * Same as {@link #sendPublicRequest(String, String, Map, HttpMethod, boolean)} but does not block the calling thread.
+     * Validation errors are thrown immediately, errors from the server complete the future exceptionally.
+     */
+    public CompletableFuture<String> sendPublicRequestAsync(String baseUrl, String urlPath, Map<String, Object> parameters, HttpMethod httpMethod, boolean showLimitUsage) {
+        return sendAsync(buildPublicRequest(baseUrl, urlPath, parameters, httpMethod), showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #sendApiRequest(String, String, Map, HttpMethod, boolean)} but does not block the calling thread.
+     * Validation errors are thrown immediately, errors from the server complete the future exceptionally.
+     */
+    public CompletableFuture<String> sendApiRequestAsync(String baseUrl, String urlPath, Map<String, Object> parameters, HttpMethod httpMethod, boolean showLimitUsage) {
+        return sendAsync(buildApiRequest(baseUrl, urlPath, parameters, httpMethod), showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #sendSignedRequest(String, String, Map, HttpMethod, boolean)} but does not block the calling thread.
+     * Validation errors are thrown immediately, errors from the server complete the future exceptionally.
+     */
+    public CompletableFuture<String> sendSignedRequestAsync(String baseUrl, String urlPath, Map<String, Object> parameters, HttpMethod httpMethod, boolean showLimitUsage) {
+        return sendAsync(buildSignedRequest(baseUrl, urlPath, parameters, httpMethod), showLimitUsage);
+    }
+
+    /**
+     * Same as {@link #sendTypedSignedRequest(String, String, RequestParameters, HttpMethod, boolean)} but does not block the calling thread.
+     * Validation errors are thrown immediately, errors from the server complete the future exceptionally.
+     */
+    public CompletableFuture<String> sendTypedSignedRequestAsync(String baseUrl, String urlPath, RequestParameters parameters, HttpMethod httpMethod, boolean showLimitUsage) {
+        return sendAsync(buildSignedRequest(baseUrl, urlPath, parameters, httpMethod), showLimitUsage);
+    }
+
+    private CompletableFuture<String> sendAsync(Request request, boolean showLimitUsage) {
+        if (executor == null) {
+            if (rateLimiter != null) {
+                // wait for the rate limit here rather than on a dispatcher thread
+                return rateLimiter.acquireAsync(request)
+                        .thenCompose(permitted -> ResponseHandler.handleResponseAsync(httpClient, permitted, showLimitUsage, proxy));
+            }
+            return ResponseHandler.handleResponseAsync(httpClient, request, showLimitUsage, proxy);
+        }
+        return CompletableFuture.supplyAsync(() -> ResponseHandler.handleResponse(httpClient, request, showLimitUsage, proxy), executor);
+    }
+
+    private Request buildPublicRequest(String baseUrl, String urlPath, Map<String, Object> parameters, HttpMethod httpMethod) {
         String fullUrl = UrlBuilder.buildFullUrl(baseUrl, urlPath, parameters);
         logger.info("{} {}", httpMethod, fullUrl);
 
-        return ResponseHandler.handleResponse(RequestBuilder.buildPublicRequest(fullUrl, httpMethod), showLimitUsage, proxy);
+        return tag(RequestBuilder.buildPublicRequest(fullUrl, httpMethod));
     }
 
-    public String sendApiRequest(String baseUrl, String urlPath, Map<String, Object> parameters, HttpMethod httpMethod, boolean showLimitUsage) {
+    private Request buildApiRequest(String baseUrl, String urlPath, Map<String, Object> parameters, HttpMethod httpMethod) {
         if (null == apiKey || apiKey.isEmpty()) {
             throw new BinanceConnectorException("[RequestHandler] API key cannot be null or empty!");
         }
@@ -44,24 +184,64 @@ public class RequestHandler {
         String fullUrl = UrlBuilder.buildFullUrl(baseUrl, urlPath, parameters);
         logger.info("{} {}", httpMethod, fullUrl);
 
-        return ResponseHandler.handleResponse(RequestBuilder.buildApiKeyRequest(fullUrl, httpMethod, apiKey), showLimitUsage, proxy);
+        return tag(RequestBuilder.buildApiKeyRequest(fullUrl, httpMethod, apiKey));
+    }
+
+    private Request buildSignedRequest(String baseUrl, String urlPath, Map<String, Object> parameters, HttpMethod httpMethod) {
+        checkSignedRequestKeys();
+
+        parameters = (parameters == null) ? new HashMap<String, Object>() : parameters;
+        parameters.putIfAbsent("timestamp", System.currentTimeMillis());
+
+        // The query is encoded once and signed in place, the signature is not added to the parameters
+        String fullUrl = QueryEncoder.get()
+                .appendParameters(parameters)
+                .appendSignature(signatureGenerator)
+                .toUrl(baseUrl, urlPath);
+        logger.info("{} {}", httpMethod, fullUrl);
+
+        return tag(RequestBuilder.buildApiKeyRequest(fullUrl, httpMethod, apiKey));
+    }
+
+    private Request buildSignedRequest(String baseUrl, String urlPath, RequestParameters parameters, HttpMethod httpMethod) {
+        checkSignedRequestKeys();
+        parameters.validate();
+
+        QueryEncoder encoder = QueryEncoder.get();
+        parameters.writeTo(encoder);
+        String fullUrl = encoder
+                .appendParameter("timestamp", System.currentTimeMillis())
+                .appendSignature(signatureGenerator)
+                .toUrl(baseUrl, urlPath);
+        logger.info("{} {}", httpMethod, fullUrl);
+
+        return tag(RequestBuilder.buildApiKeyRequest(fullUrl, httpMethod, apiKey));
+    }
+
+    private static RateLimiter findRateLimiter(OkHttpClient httpClient) {
+        if (httpClient != null) {
+            for (Interceptor interceptor : httpClient.interceptors()) {
+                if (interceptor instanceof RateLimiter) {
+                    return (RateLimiter) interceptor;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The metrics travel with the request, so ResponseHandler reports to them on whichever thread completes it.
+     */
+    private Request tag(Request request) {
+        return metrics == null ? request : request.newBuilder().tag(RequestMetrics.class, metrics).build();
     }
 
-    public String sendSignedRequest(String baseUrl, String urlPath, Map<String, Object> parameters, HttpMethod httpMethod, boolean showLimitUsage) {                          
+    private void checkSignedRequestKeys() {
         if (signatureGenerator.getClass() == HmacSignatureGenerator.class && (null == apiKey || apiKey.isEmpty())) {
             throw new BinanceConnectorException("[RequestHandler] Secret key/API key cannot be null or empty!");
         }
         if ((signatureGenerator.getClass() == RsaSignatureGenerator.class || signatureGenerator.getClass() == Ed25519SignatureGenerator.class) && (null == apiKey || apiKey.isEmpty())) {
             throw new BinanceConnectorException("[RequestHandler] Private key/API key cannot be null or empty!");
         }
-
-        parameters = (parameters == null) ? new HashMap<String, Object>() : parameters;
-        parameters.putIfAbsent("timestamp", UrlBuilder.buildTimestamp());
-        parameters.put("signature", this.signatureGenerator.getSignature(UrlBuilder.joinQueryParameters(parameters)));
-
-        String fullUrl = UrlBuilder.buildFullUrl(baseUrl, urlPath, parameters);
-        logger.info("{} {}", httpMethod, fullUrl);
-
-        return ResponseHandler.handleResponse(RequestBuilder.buildApiKeyRequest(fullUrl, httpMethod, apiKey), showLimitUsage, proxy);
     }
 }
@@ -3,6 +3,9 @@ package com.binance.connector.client.utils;
 import java.io.IOException;
 import java.net.ConnectException;
 import java.net.UnknownHostException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
 
 import org.json.JSONException;
 import org.json.JSONObject;
@@ -11,52 +14,229 @@ import com.binance.connector.client.exceptions.BinanceClientException;
 import com.binance.connector.client.exceptions.BinanceConnectorException;
 import com.binance.connector.client.exceptions.BinanceServerException;
 import com.binance.connector.client.utils.httpclient.HttpClientSingleton;
+import com.binance.connector.client.utils.metrics.RequestMetrics;
 
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
+import okhttp3.RequestBody;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
 
 public final class ResponseHandler {
-    private static OkHttpClient client;
     private static final int HTTP_STATUS_CODE_400 = 400;
     private static final int HTTP_STATUS_CODE_499 = 499;
     private static final int HTTP_STATUS_CODE_500 = 500;
+    private static final byte[] EMPTY_BODY = {};
+    private static final long EMPTY_LENGTH = 0L;
 
     private ResponseHandler() {
     }
 
     public static String handleResponse(Request request, boolean showLimitUsage, ProxyAuth proxy) {
-        client = HttpClientSingleton.getHttpClient(proxy);
-        try (Response response = client.newCall(request).execute()) {
-            if (null == response) {
-                throw new BinanceServerException("[ResponseHandler] No response from server");
-            }
+        return handleResponse(null, request, showLimitUsage, proxy);
+    }
+
+    /**
+     * Executes the request on the given client.
+     *
+     * @param client client owning the connection pool, already configured with {@code proxy};
+     *               when null the shared {@link HttpClientSingleton} is used
+     * @param request request to execute
+     * @param showLimitUsage wrap the body together with the rate limit headers
+     * @param proxy proxy the request is routed through, used for error reporting
+     * @return String
+     */
+    public static String handleResponse(OkHttpClient client, Request request, boolean showLimitUsage, ProxyAuth proxy) {
+        return execute(client, request, proxy, (response, body) -> processResponse(response, body, showLimitUsage));
+    }
+
+    /**
+     * Executes the request on the given client and returns the response without converting the body.
+     *
+     * @param client client owning the connection pool, already configured with {@code proxy};
+     *               when null the shared {@link HttpClientSingleton} is used
+     * @param request request to execute
+     * @param proxy proxy the request is routed through, used for error reporting
+     * @return BinanceResponse
+     */
+    public static BinanceResponse handleResponseWithMetadata(OkHttpClient client, Request request, ProxyAuth proxy) {
+        return execute(client, request, proxy, ResponseHandler::processResponseWithMetadata);
+    }
+
+    /**
+     * Enqueues the request on the dispatcher of the given client instead of blocking the calling thread.
+     * <br>
+     * The returned future is completed exceptionally with the same exceptions
+     * {@link #handleResponse(OkHttpClient, Request, boolean, ProxyAuth)} would throw.
+     *
+     * @param client client owning the connection pool, already configured with {@code proxy};
+     *               when null the shared {@link HttpClientSingleton} is used
+     * @param request request to execute
+     * @param showLimitUsage wrap the body together with the rate limit headers
+     * @param proxy proxy the request is routed through, used for error reporting
+     * @return CompletableFuture
+     */
+    public static CompletableFuture<String> handleResponseAsync(OkHttpClient client, Request request, boolean showLimitUsage, ProxyAuth proxy) {
+        return enqueue(client, request, proxy, (response, body) -> processResponse(response, body, showLimitUsage));
+    }
 
-            String responseAsString = getResponseBodyAsString(response.body());
+    /**
+     * Asynchronous version of {@link #handleResponseWithMetadata(OkHttpClient, Request, ProxyAuth)}.
+     *
+     * @param client client owning the connection pool, already configured with {@code proxy};
+     *               when null the shared {@link HttpClientSingleton} is used
+     * @param request request to execute
+     * @param proxy proxy the request is routed through, used for error reporting
+     * @return CompletableFuture
+     */
+    public static CompletableFuture<BinanceResponse> handleResponseWithMetadataAsync(OkHttpClient client, Request request, ProxyAuth proxy) {
+        return enqueue(client, request, proxy, ResponseHandler::processResponseWithMetadata);
+    }
 
-            if (response.code() >= HTTP_STATUS_CODE_400 && response.code() <= HTTP_STATUS_CODE_499) {
-                throw handleErrorResponse(responseAsString, response.code());
-            } else if (response.code() >= HTTP_STATUS_CODE_500) {
-                throw new BinanceServerException(responseAsString, response.code());
+    private static <T> T execute(OkHttpClient client, Request request, ProxyAuth proxy, ResponseReader<T> reader) {
+        if (client == null) {
+            client = HttpClientSingleton.getHttpClient(proxy);
+        }
+        RequestMetrics metrics = metricsOf(request);
+        long start = onRequest(metrics, request);
+        Response response;
+        try {
+            response = client.newCall(request).execute();
+        } catch (IOException | IllegalStateException e) {
+            metrics.onFailure(request.method(), request.url().encodedPath(), System.nanoTime() - start);
+            throw toConnectorException(e, proxy);
+        }
+        try (Response r = response) {
+            return read(r, reader, metrics, start);
+        } catch (IOException | IllegalStateException e) {
+            throw toConnectorException(e, proxy);
+        }
+    }
+
+    private static <T> CompletableFuture<T> enqueue(OkHttpClient client, Request request, ProxyAuth proxy, ResponseReader<T> reader) {
+        if (client == null) {
+            client = HttpClientSingleton.getHttpClient(proxy);
+        }
+        RequestMetrics metrics = metricsOf(request);
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Call call = client.newCall(request);
+        long start = onRequest(metrics, request);
+        call.enqueue(new Callback() {
+            @Override
+            public void onResponse(Call c, Response response) {
+                try (Response r = response) {
+                    future.complete(read(r, reader, metrics, start));
+                } catch (IOException | IllegalStateException e) {
+                    future.completeExceptionally(toConnectorException(e, proxy));
+                } catch (RuntimeException e) {
+                    future.completeExceptionally(e);
+                }
             }
 
-            if (showLimitUsage) {
-                return getLimitUsage(response, responseAsString);
-            } else {
-                return responseAsString;
+            @Override
+            public void onFailure(Call c, IOException e) {
+                metrics.onFailure(request.method(), request.url().encodedPath(), System.nanoTime() - start);
+                future.completeExceptionally(toConnectorException(e, proxy));
+            }
+        });
+        future.whenComplete((result, t) -> {
+            if (future.isCancelled()) {
+                call.cancel();
             }
+        });
+        return future;
+    }
+
+    private static RequestMetrics metricsOf(Request request) {
+        RequestMetrics metrics = request.tag(RequestMetrics.class);
+        return metrics != null ? metrics : RequestMetrics.NOOP;
+    }
+
+    private static long onRequest(RequestMetrics metrics, Request request) {
+        long bytes = request.url().toString().length();
+        RequestBody body = request.body();
+        if (body != null) {
+            try {
+                bytes += Math.max(body.contentLength(), EMPTY_LENGTH);
+            } catch (IOException e) {
+                // the length of the body is unknown until it is written, only the url is counted
+            }
+        }
+        metrics.onRequest(request.method(), request.url().encodedPath(), bytes);
+        return System.nanoTime();
+    }
+
+    /**
+     * Reads the whole body, converts the response and reports it to the metrics, with the error code
+     * of the exception thrown for a 4XX response.
+     */
+    private static <T> T read(Response response, ResponseReader<T> reader, RequestMetrics metrics, long start) throws IOException {
+        Request request = response.request();
+        byte[] body;
+        try {
+            body = null != response.body() ? response.body().bytes() : EMPTY_BODY;
         } catch (IOException | IllegalStateException e) {
-            String exceptionMsg = "OKHTTP Error: ";
-            if (proxy != null) {
-                if ((e.getClass().equals(ConnectException.class))) {
-                    exceptionMsg = "Proxy Connection Error: ";
-                } else if ((e.getClass().equals(UnknownHostException.class))) {
-                    exceptionMsg = "Proxy Unknown Host Error: ";
-                }
+            metrics.onFailure(request.method(), request.url().encodedPath(), System.nanoTime() - start);
+            throw e;
+        }
+        int errorCode = RequestMetrics.NO_ERROR_CODE;
+        try {
+            return reader.read(response, body);
+        } catch (BinanceClientException e) {
+            errorCode = e.getErrorCode();
+            throw e;
+        } finally {
+            metrics.onResponse(request.method(), request.url().encodedPath(), response.code(), errorCode, System.nanoTime() - start, body.length);
+        }
+    }
+
+    private static String processResponse(Response response, byte[] body, boolean showLimitUsage) {
+        if (null == response) {
+            throw new BinanceServerException("[ResponseHandler] No response from server");
+        }
+
+        String responseAsString = new String(body, charsetOf(response.body()));
+
+        if (response.code() >= HTTP_STATUS_CODE_400 && response.code() <= HTTP_STATUS_CODE_499) {
+            throw handleErrorResponse(responseAsString, response.code());
+        } else if (response.code() >= HTTP_STATUS_CODE_500) {
+            throw new BinanceServerException(responseAsString, response.code());
+        }
+
+        if (showLimitUsage) {
+            return getLimitUsage(response, responseAsString);
+        } else {
+            return responseAsString;
+        }
+    }
+
+    private static BinanceResponse processResponseWithMetadata(Response response, byte[] bytes) {
+        if (null == response) {
+            throw new BinanceServerException("[ResponseHandler] No response from server");
+        }
+
+        if (response.code() >= HTTP_STATUS_CODE_400 && response.code() <= HTTP_STATUS_CODE_499) {
+            throw handleErrorResponse(new String(bytes, StandardCharsets.UTF_8), response.code());
+        } else if (response.code() >= HTTP_STATUS_CODE_500) {
+            throw new BinanceServerException(new String(bytes, StandardCharsets.UTF_8), response.code());
+        }
+
+        return new BinanceResponse(response.code(), response.headers(), bytes);
+    }
+
+    private static BinanceConnectorException toConnectorException(Exception e, ProxyAuth proxy) {
+        String exceptionMsg = "OKHTTP Error: ";
+        if (proxy != null) {
+            if ((e.getClass().equals(ConnectException.class))) {
+                exceptionMsg = "Proxy Connection Error: ";
+            } else if ((e.getClass().equals(UnknownHostException.class))) {
+                exceptionMsg = "Proxy Unknown Host Error: ";
             }
-            throw new BinanceConnectorException("[ResponseHandler] " + exceptionMsg + e.getMessage());
         }
+        return new BinanceConnectorException("[ResponseHandler] " + exceptionMsg + e.getMessage());
     }
 
     private static String getLimitUsage(Response response, String resposeBodyAsString) {
@@ -80,11 +260,12 @@ public final class ResponseHandler {
         }
     }
 
-    private static String getResponseBodyAsString(ResponseBody body) throws IOException {
-        if (null != body) {
-            return body.string();
-        } else {
-            return "";
-        }
+    private interface ResponseReader<T> {
+        T read(Response response, byte[] body);
+    }
+
+    private static Charset charsetOf(ResponseBody body) {
+        MediaType contentType = null != body ? body.contentType() : null;
+        return null != contentType ? contentType.charset(StandardCharsets.UTF_8) : StandardCharsets.UTF_8;
     }
 }
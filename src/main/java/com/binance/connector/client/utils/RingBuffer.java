@@ -0,0 +1,113 @@
+package com.binance.connector.client.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.binance.connector.client.exceptions.BinanceConnectorException;
+
+/**
+ * Bounded lock-free queue for any number of producers and consumers.
+ * <br>
+ * Each slot carries a sequence number telling whether it is free for the producer of a given position or
+ * filled for its consumer, so offer and poll only contend on one compare-and-set and never allocate.
+ * The capacity is rounded up to a power of two.
+ *
+ * @param <E> type of the elements
+ */
+public final class RingBuffer<E> {
+    private static final int MIN_CAPACITY = 1;
+    private static final int MAX_CAPACITY = 1073741824;
+    private static final long NEXT = 1L;
+    private static final int FIRST = 0;
+    private static final long MATCH = 0L;
+
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * @param capacity minimum number of elements the buffer holds, between 1 and 2^30
+     */
+    public RingBuffer(int capacity) {
+        if (capacity < MIN_CAPACITY || capacity > MAX_CAPACITY) {
+            throw new BinanceConnectorException("[RingBuffer] capacity must be between " + MIN_CAPACITY + " and " + MAX_CAPACITY);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size += size;
+        }
+        this.mask = size - MIN_CAPACITY;
+        this.sequences = new AtomicLongArray(size);
+        this.elements = new AtomicReferenceArray<>(size);
+        for (int i = FIRST; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * @param element element to append, not null
+     * @return false if the buffer is full
+     */
+    public boolean offer(E element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == MATCH) {
+                if (tail.compareAndSet(position, position + NEXT)) {
+                    elements.lazySet(index, element);
+                    sequences.set(index, position + NEXT);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < MATCH) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * @return the oldest element, or null if the buffer is empty
+     */
+    public E poll() {
+        long position = head.get();
+        while (true) {
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - (position + NEXT);
+            if (difference == MATCH) {
+                if (head.compareAndSet(position, position + NEXT)) {
+                    E element = elements.get(index);
+                    elements.lazySet(index, null);
+                    sequences.set(index, position + mask + NEXT);
+                    return element;
+                }
+                position = head.get();
+            } else if (difference < MATCH) {
+                return null;
+            } else {
+                position = head.get();
+            }
+        }
+    }
+
+    /**
+     * @return number of elements, exact only when no offer or poll is in progress
+     */
+    public int size() {
+        long size = tail.get() - head.get();
+        return (int) Math.max(MATCH, Math.min(size, capacity()));
+    }
+
+    public boolean isEmpty() {
+        return tail.get() == head.get();
+    }
+
+    public int capacity() {
+        return mask + MIN_CAPACITY;
+    }
+}
@@ -0,0 +1,162 @@
+package com.binance.connector.client.utils;
+
+import java.util.Arrays;
+
+/**
+ * Interns symbols into dense ids, so per-symbol state can live in flat arrays indexed by id.
+ * <br>
+ * Lookups are lock-free and can be made from a region of a message without creating a String.
+ * A new symbol copies the table under a lock; symbols are never removed, so an id stays valid for
+ * the life of the registry.
+ */
+public final class SymbolRegistry {
+    public static final int NOT_FOUND = -1;
+    private static final int INITIAL_SLOTS = 1024;
+    private static final int HASH_MULTIPLIER = 31;
+    private static final int HASH_SHIFT = 16;
+    private static final int LOAD_DIVISOR = 2;
+    private static final int START = 0;
+    private static final int EMPTY = 0;
+    private static final int NEXT = 1;
+
+    private final Object lock = new Object();
+    private volatile Table table = new Table(INITIAL_SLOTS, new String[START]);
+
+    /**
+     * @param symbol symbol, as sent by the server
+     * @return the id of the symbol, or {@link #NOT_FOUND} if it was never registered
+     */
+    public int find(CharSequence symbol) {
+        return table.find(symbol, START, symbol.length(), hash(symbol, START, symbol.length()));
+    }
+
+    /**
+     * @param text text holding the symbol, e.g. a message
+     * @param start start of the symbol in the text, inclusive
+     * @param end end of the symbol in the text, exclusive
+     * @return the id of the symbol, or {@link #NOT_FOUND} if it was never registered
+     */
+    public int find(CharSequence text, int start, int end) {
+        return table.find(text, start, end, hash(text, start, end));
+    }
+
+    /**
+     * @param symbol symbol, as sent by the server
+     * @return the id of the symbol, registering it if needed
+     */
+    public int register(CharSequence symbol) {
+        return register(symbol, START, symbol.length());
+    }
+
+    /**
+     * @param text text holding the symbol, e.g. a message
+     * @param start start of the symbol in the text, inclusive
+     * @param end end of the symbol in the text, exclusive
+     * @return the id of the symbol, registering it if needed
+     */
+    public int register(CharSequence text, int start, int end) {
+        int hash = hash(text, start, end);
+        int id = table.find(text, start, end, hash);
+        if (id != NOT_FOUND) {
+            return id;
+        }
+        synchronized (lock) {
+            Table current = table;
+            id = current.find(text, start, end, hash);
+            if (id == NOT_FOUND) {
+                id = current.names.length;
+                table = current.with(text.subSequence(start, end).toString(), hash);
+            }
+            return id;
+        }
+    }
+
+    /**
+     * @param id id returned by {@link #register(CharSequence)}
+     * @return the symbol
+     */
+    public String nameOf(int id) {
+        return table.names[id];
+    }
+
+    /**
+     * @return number of symbols, ids run from 0 to size - 1
+     */
+    public int size() {
+        return table.names.length;
+    }
+
+    private static int hash(CharSequence text, int start, int end) {
+        int hash = EMPTY;
+        for (int i = start; i < end; i++) {
+            hash = HASH_MULTIPLIER * hash + text.charAt(i);
+        }
+        return hash ^ (hash >>> HASH_SHIFT);
+    }
+
+    /**
+     * Open addressing table of ids, slots hold id + 1 so that 0 marks a free slot.
+     */
+    private static final class Table {
+        private final int[] slots;
+        private final String[] names;
+
+        private Table(int slotCount, String[] names) {
+            this(new int[slotCount], names);
+            for (int id = START; id < names.length; id++) {
+                insert(id, hash(names[id], START, names[id].length()));
+            }
+        }
+
+        private Table(int[] slots, String[] names) {
+            this.slots = slots;
+            this.names = names;
+        }
+
+        private int find(CharSequence text, int start, int end, int hash) {
+            int mask = slots.length - NEXT;
+            for (int index = hash & mask;; index = (index + NEXT) & mask) {
+                int slot = slots[index];
+                if (slot == EMPTY) {
+                    return NOT_FOUND;
+                }
+                String name = names[slot - NEXT];
+                if (matches(name, text, start, end)) {
+                    return slot - NEXT;
+                }
+            }
+        }
+
+        private Table with(String name, int hash) {
+            String[] grown = Arrays.copyOf(names, names.length + NEXT);
+            grown[names.length] = name;
+            if (grown.length > slots.length / LOAD_DIVISOR) {
+                return new Table(slots.length + slots.length, grown);
+            }
+            Table table = new Table(slots.clone(), grown);
+            table.insert(names.length, hash);
+            return table;
+        }
+
+        private void insert(int id, int hash) {
+            int mask = slots.length - NEXT;
+            int index = hash & mask;
+            while (slots[index] != EMPTY) {
+                index = (index + NEXT) & mask;
+            }
+            slots[index] = id + NEXT;
+        }
+
+        private static boolean matches(String name, CharSequence text, int start, int end) {
+            if (name.length() != end - start) {
+                return false;
+            }
+            for (int i = START; i < name.length(); i++) {
+                if (name.charAt(i) != text.charAt(start + i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -3,29 +3,22 @@ package com.binance.connector.client.utils;
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
-import java.text.DecimalFormat;
-import java.text.DecimalFormatSymbols;
 import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.Locale;
 import java.util.Map;
 
 
 public final class UrlBuilder {
     private static final int DIFF_TILL_POSITION_INDEX = 1;
-    private static final int MAX_DECIMAL_DIGITS = 30;
-    private static DecimalFormat df;
 
     private UrlBuilder() {
     }
 
+    /**
+     * Uses an encoder of its own, so it can be called while the encoder of the thread is in use,
+     * e.g. from a signature generator or a metrics hook.
+     */
     public static String buildFullUrl(String baseUrl, String urlPath, Map<String, Object> parameters) {
-        StringBuilder sb = new StringBuilder(baseUrl).append(urlPath);
-        if (parameters != null && !parameters.isEmpty()) {
-            sb.append("?");
-            sb.append(joinQueryParameters(parameters));
-        }
-        return sb.toString();
+        return QueryEncoder.create().appendParameters(parameters).toUrl(baseUrl, urlPath);
     }
 
     public static String buildStreamUrl(String baseUrl, ArrayList<String> streams) {
@@ -48,31 +41,13 @@ public final class UrlBuilder {
 
     /**
      * Joins query parameters from a Map into a StringBuilder representation.
+     * Uses an encoder of its own, like {@link #buildFullUrl(String, String, Map)}.
      * @param sb The StringBuilder to append the query parameters to.
      * @param params The Map containing the query parameters.
      * @return The StringBuilder representation of the joined query parameters.
     */
     public static StringBuilder joinQueryParameters(StringBuilder sb, Map<String, Object> params) {
-        if (params != null && !params.isEmpty()) {
-            Iterator<String> keys = params.keySet().iterator();
-            while (keys.hasNext()) {
-                String key = keys.next();
-                sb.append(key);
-                sb.append("=");
-
-                String value;
-                if (params.get(key) instanceof Double) {
-                    value = getFormatter().format(params.get(key));
-                } else {
-                    value = params.get(key).toString();
-                }
-                sb.append(urlEncode(value));
-
-                sb.append("&");
-            }
-            sb.deleteCharAt(sb.length() - DIFF_TILL_POSITION_INDEX);
-        }
-        return sb;
+        return QueryEncoder.create().appendParameters(params).appendTo(sb);
     }
 
     /**
@@ -114,15 +89,4 @@ public final class UrlBuilder {
         return String.valueOf(System.currentTimeMillis());
     }
 
-    private static DecimalFormat getFormatter() {
-        if (null == df) {
-            // Overrides the default Locale
-            DecimalFormatSymbols symbols = new DecimalFormatSymbols(Locale.ENGLISH);
-            df = new DecimalFormat("#,##0.###", symbols);
-            df.setMaximumFractionDigits(MAX_DECIMAL_DIGITS);
-            df.setGroupingUsed(false);
-        }
-        return df;
-    }
-
 }
@@ -1,15 +1,25 @@
 package com.binance.connector.client.utils;
 
+import java.io.IOException;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.json.JSONArray;
 import org.json.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.binance.connector.client.exceptions.BinanceConnectorException;
+import com.binance.connector.client.enums.OverflowPolicy;
+import com.binance.connector.client.exceptions.WebSocketNotConnectedException;
+import com.binance.connector.client.utils.websocketcallback.WebSocketBinaryCallback;
 import com.binance.connector.client.utils.websocketcallback.WebSocketClosedCallback;
 import com.binance.connector.client.utils.websocketcallback.WebSocketClosingCallback;
 import com.binance.connector.client.utils.websocketcallback.WebSocketFailureCallback;
+import com.binance.connector.client.utils.websocketcallback.WebSocketGapCallback;
 import com.binance.connector.client.utils.websocketcallback.WebSocketMessageCallback;
 import com.binance.connector.client.utils.websocketcallback.WebSocketOpenCallback;
 
@@ -18,13 +28,29 @@ import okhttp3.Request;
 import okhttp3.Response;
 import okhttp3.WebSocket;
 import okhttp3.WebSocketListener;
+import okio.ByteString;
 
+/**
+ * WebSocket connection delivering the events of one socket to the callbacks.
+ * <br>
+ * With a {@link ReconnectPolicy} the connection survives the loss of its socket: after a failure or a close
+ * initiated by the server, the same URL is dialled again with a jittered exponential backoff, the streams
+ * subscribed through {@link #send(String)} are subscribed again and a {@link WebSocketGapCallback} is told
+ * about the time without messages. Sockets reaching the maximum age of the policy are replaced by a new socket
+ * opened beside them; the old one keeps delivering until the new one delivers its first message or the old one
+ * is closed, so a few messages may be received twice but none are missed.
+ */
 public class WebSocketConnection extends WebSocketListener {
     private static final AtomicInteger connectionCounter = new AtomicInteger(0);
     private static final int NORMAL_CLOSURE_STATUS = 1000;
+    private static final int FIRST_ATTEMPT = 0;
+    private static final long NOT_DISCONNECTED = 0L;
+    private static final long NO_MAX_AGE = 0L;
+    private static final long MAX_DEFERRED_BODY_BYTES = 65536L;
+    private static final int RESUBSCRIBE_ID = 0;
+    private static final String RESUBSCRIBE_SUFFIX = ",\"id\":" + RESUBSCRIBE_ID + "}";
     private static final Logger logger = LoggerFactory.getLogger(WebSocketConnection.class);
     private static OkHttpClient client;
-    private static boolean sessionStatus;
 
     private final int connectionId;
     private final Object mutex;
@@ -33,11 +59,25 @@ public class WebSocketConnection extends WebSocketListener {
 
     private final WebSocketOpenCallback onOpenCallback;
     private final WebSocketMessageCallback onMessageCallback;
+    private final WebSocketBinaryCallback onBinaryCallback;
     private final WebSocketClosingCallback onClosingCallback;
     private final WebSocketClosedCallback onClosedCallback;
     private final WebSocketFailureCallback onFailureCallback;
+    private final Set<String> subscriptions = new LinkedHashSet<>();
 
     private WebSocket webSocket;
+    private WebSocket replacement;
+    private boolean replacementOpen;
+    private WebSocket resubscribing;
+    private Executor callbackExecutor;
+    private DispatchQueue dispatchQueue;
+    private ReconnectPolicy reconnectPolicy;
+    private WebSocketGapCallback onGapCallback;
+    private boolean closed;
+    private int attempt = FIRST_ATTEMPT;
+    private long disconnectedAt = NOT_DISCONNECTED;
+    private ScheduledFuture<?> reconnectTask;
+    private ScheduledFuture<?> replaceTask;
 
     public WebSocketConnection(
 			WebSocketOpenCallback onOpenCallback,
@@ -50,6 +90,7 @@ public class WebSocketConnection extends WebSocketListener {
     ) {
         this.onOpenCallback = onOpenCallback;
         this.onMessageCallback = onMessageCallback;
+        this.onBinaryCallback = onMessageCallback instanceof WebSocketBinaryCallback ? (WebSocketBinaryCallback) onMessageCallback : null;
         this.onClosingCallback = onClosingCallback;
         this.onClosedCallback = onClosedCallback;
         this.onFailureCallback = onFailureCallback;
@@ -65,6 +106,7 @@ public class WebSocketConnection extends WebSocketListener {
         synchronized (mutex) {
             if (null == webSocket) {
                 logger.info("[Connection {}] Connecting to {}", connectionId, streamName);
+                closed = false;
                 webSocket = client.newWebSocket(request, this);
             } else {
                 logger.info("[Connection {}] is already connected to {}", connectionId, streamName);
@@ -72,60 +114,400 @@ public class WebSocketConnection extends WebSocketListener {
         }
     }
 
+    /**
+     * Delivers the callbacks of this connection on the given executor instead of the OkHttp reader thread,
+     * so a slow consumer does not stall the socket. Callbacks keep their order and never run concurrently.
+     * The responses passed to the open and failure callbacks then hold a copy of up to 64 KiB of their body.
+     *
+     * @param executor executor running the callbacks, or null to run them on the reader thread
+     */
+    public void setCallbackExecutor(Executor executor) {
+        this.callbackExecutor = executor == null ? null : new SerialExecutor(executor);
+    }
+
+    /**
+     * Delivers the callbacks of this connection through a bounded queue drained on the given executor.
+     * The reader thread never waits on the callbacks, except with {@link OverflowPolicy#BLOCK} when the queue is full.
+     * Takes precedence over {@link #setCallbackExecutor(Executor)}.
+     *
+     * @param capacity number of queued messages, rounded up to a power of two
+     * @param policy what to do with messages arriving while the queue is full
+     * @param executor executor draining the queue, or null for a shared pool of daemon threads
+     */
+    public void setDispatchQueue(int capacity, OverflowPolicy policy, Executor executor) {
+        this.dispatchQueue = new DispatchQueue(capacity, policy, executor, onMessageCallback);
+    }
+
+    /**
+     * @return the queue set by {@link #setDispatchQueue(int, OverflowPolicy, Executor)}, to read its depth and
+     *         drop counters, or null
+     */
+    public DispatchQueue getDispatchQueue() {
+        return dispatchQueue;
+    }
+
+    /**
+     * @param policy how to reconnect after the socket is lost and when to replace it, or null to never reconnect
+     */
+    public void setReconnectPolicy(ReconnectPolicy policy) {
+        synchronized (mutex) {
+            this.reconnectPolicy = policy;
+        }
+    }
+
+    /**
+     * @param gapCallback called after the connection has been reopened, may be null
+     */
+    public void setGapCallback(WebSocketGapCallback gapCallback) {
+        this.onGapCallback = gapCallback;
+    }
+
     public int getConnectionId() {
         return connectionId;
     }
 
-    public boolean getSessionStatus() {
-        return sessionStatus;
+    /**
+     * @return true if a socket is open or being opened
+     */
+    public boolean isConnected() {
+        synchronized (mutex) {
+            return null != webSocket;
+        }
     }
 
     public void send(String message) {
-        if (null == webSocket) {
-            throw new BinanceConnectorException("No WebSocket connection. Please connect first!");
-        } 
-        webSocket.send(message);
+        WebSocket ws;
+        synchronized (mutex) {
+            ws = webSocket;
+            if (null == ws) {
+                throw new WebSocketNotConnectedException("No WebSocket connection. Please connect first!");
+            }
+            if (message.contains("SUBSCRIBE")) {
+                trackSubscriptions(message);
+            }
+        }
+        ws.send(message);
     }
 
     public void close() {
-        if (null != webSocket) {
+        WebSocket ws;
+        WebSocket pending;
+        synchronized (mutex) {
+            closed = true;
+            cancelTasks();
+            ws = webSocket;
+            pending = replacement;
+            replacement = null;
+            replacementOpen = false;
+        }
+        if (null != pending) {
+            pending.cancel();
+        }
+        if (null != ws) {
             logger.info("[Connection {}] Closing connection to {}", connectionId, streamName);
-            webSocket.close(NORMAL_CLOSURE_STATUS, null);
+            ws.close(NORMAL_CLOSURE_STATUS, null);
         }
     }
 
     @Override
     public void onOpen(WebSocket ws, Response response) {
+        long gapStart;
+        synchronized (mutex) {
+            if (ws == replacement) {
+                logger.info("[Connection {}] Replacement connected to Server", connectionId);
+                replacementOpen = true;
+                resubscribe(ws);
+                return;
+            }
+            if (ws != webSocket) {
+                return;
+            }
+            gapStart = disconnectedAt;
+            disconnectedAt = NOT_DISCONNECTED;
+            attempt = FIRST_ATTEMPT;
+            if (gapStart != NOT_DISCONNECTED) {
+                resubscribe(ws);
+            }
+            scheduleReplace();
+        }
         logger.info("[Connection {}] Connected to Server", connectionId);
-        onOpenCallback.onOpen(response);
+        if (gapStart != NOT_DISCONNECTED) {
+            long now = System.currentTimeMillis();
+            WebSocketGapCallback gapCallback = onGapCallback;
+            if (null != gapCallback) {
+                dispatch(() -> gapCallback.onGap(connectionId, gapStart, now));
+            }
+        }
+        Response opened = detach(response);
+        dispatch(() -> onOpenCallback.onOpen(opened));
     }
 
     @Override
     public void onClosing(WebSocket ws, int code, String reason) {
         super.onClosing(ws, code, reason);
-        onClosingCallback.onClosing(code, reason);
+        boolean handingOver;
+        synchronized (mutex) {
+            if (ws != webSocket) {
+                return;
+            }
+            handingOver = replacementOpen;
+        }
+        ws.close(NORMAL_CLOSURE_STATUS, null);
+        if (handingOver) {
+            return;
+        }
+        dispatch(() -> onClosingCallback.onClosing(code, reason));
     }
 
     @Override
     public void onClosed(WebSocket ws, int code, String reason) {
         super.onClosed(ws, code, reason);
-        onClosedCallback.onClosed(code, reason);
+        synchronized (mutex) {
+            if (ws != webSocket || handOver()) {
+                return;
+            }
+            disconnected();
+        }
+        dispatch(() -> onClosedCallback.onClosed(code, reason));
     }
 
     @Override
     public void onMessage(WebSocket ws, String text) {
+        if (accept(ws, text)) {
+            deliver(text);
+        }
+    }
+
+    /**
+     * Hands a binary frame to the message callback without building a String when it implements
+     * {@link WebSocketBinaryCallback}, otherwise as UTF-8 text.
+     */
+    @Override
+    public void onMessage(WebSocket ws, ByteString bytes) {
+        if (!accept(ws, null)) {
+            return;
+        }
+        if (null == onBinaryCallback) {
+            deliver(bytes.utf8());
+            return;
+        }
+        Runnable frame = () -> onBinaryCallback.onMessage(bytes.asByteBuffer());
+        DispatchQueue queue = dispatchQueue;
+        if (null != queue) {
+            queue.offerFrame(frame);
+        } else {
+            dispatch(frame);
+        }
+    }
+
+    /**
+     * @param text text of the message, null for a binary frame
+     * @return false if the message is not to be delivered: received on a socket being replaced, or the
+     *         response to the SUBSCRIBE sent after a reconnection
+     */
+    private boolean accept(WebSocket ws, String text) {
+        WebSocket replaced = null;
+        synchronized (mutex) {
+            if (ws == resubscribing && null != text) {
+                resubscribing = null;
+                if (text.endsWith(RESUBSCRIBE_SUFFIX)) {
+                    return false;
+                }
+            }
+            if (ws == replacement) {
+                replaced = webSocket;
+                webSocket = ws;
+                replacement = null;
+                replacementOpen = false;
+                scheduleReplace();
+            } else if (ws != webSocket) {
+                return false;
+            }
+        }
+        if (null != replaced) {
+            logger.info("[Connection {}] Replaced connection to {}", connectionId, streamName);
+            replaced.close(NORMAL_CLOSURE_STATUS, "Replaced");
+        }
+        return true;
+    }
 
-        // session status
-        if (text.contains("authorizedSince")) {
-            JSONObject result =  new JSONObject(text).getJSONObject("result");
-            WebSocketConnection.sessionStatus = !result.isNull("authorizedSince");
+    private void deliver(String text) {
+        DispatchQueue queue = dispatchQueue;
+        if (null != queue) {
+            queue.offerMessage(text);
+        } else {
+            dispatch(() -> onMessageCallback.onMessage(text));
         }
-        onMessageCallback.onMessage(text);
     }
 
     @Override
     public void onFailure(WebSocket ws, Throwable t, Response response) {
+        synchronized (mutex) {
+            if (ws == replacement) {
+                logger.warn("[Connection {}] Failed to open replacement connection, retrying", connectionId, t);
+                replacement = null;
+                replacementOpen = false;
+                if (null != reconnectPolicy) {
+                    scheduleReplace(reconnectPolicy.delayMillis(FIRST_ATTEMPT));
+                }
+                return;
+            }
+            if (ws != webSocket || handOver()) {
+                return;
+            }
+            disconnected();
+        }
         logger.error("[Connection {}] Failure", connectionId, t);
-        onFailureCallback.onFailure(t, response);
+        Response failed = detach(response);
+        dispatch(() -> onFailureCallback.onFailure(t, failed));
+    }
+
+    /**
+     * Keeps the streams subscribed on this connection, to subscribe them again on a new socket.
+     */
+    private void trackSubscriptions(String message) {
+        JSONObject json = new JSONObject(message);
+        JSONArray params = json.optJSONArray("params");
+        if (null == params) {
+            return;
+        }
+        String method = json.optString("method");
+        for (Object stream : params) {
+            if ("SUBSCRIBE".equals(method)) {
+                subscriptions.add(String.valueOf(stream));
+            } else if ("UNSUBSCRIBE".equals(method)) {
+                subscriptions.remove(String.valueOf(stream));
+            }
+        }
+    }
+
+    private void resubscribe(WebSocket ws) {
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        resubscribing = ws;
+        ws.send("{\"method\":\"SUBSCRIBE\",\"params\":" + new JSONArray(subscriptions) + RESUBSCRIBE_SUFFIX);
+    }
+
+    /**
+     * Promotes an open replacement when the socket it replaces is lost before the replacement delivered
+     * a message, e.g. on a quiet stream. Nothing was missed, so this is not a disconnection.
+     *
+     * @return true if the replacement took over
+     */
+    private boolean handOver() {
+        if (null == replacement || !replacementOpen) {
+            return false;
+        }
+        logger.info("[Connection {}] Replaced connection to {}", connectionId, streamName);
+        webSocket = replacement;
+        replacement = null;
+        replacementOpen = false;
+        disconnectedAt = NOT_DISCONNECTED;
+        attempt = FIRST_ATTEMPT;
+        scheduleReplace();
+        return true;
+    }
+
+    private void disconnected() {
+        webSocket = null;
+        if (null != replaceTask) {
+            replaceTask.cancel(false);
+            replaceTask = null;
+        }
+        if (null != replacement) {
+            // the replacement is still being opened, it takes over as the reconnection
+            webSocket = replacement;
+            replacement = null;
+        }
+        if (closed || null == reconnectPolicy) {
+            return;
+        }
+        if (disconnectedAt == NOT_DISCONNECTED) {
+            disconnectedAt = System.currentTimeMillis();
+        }
+        if (null != webSocket) {
+            return;
+        }
+        long delay = reconnectPolicy.delayMillis(attempt++);
+        logger.info("[Connection {}] Reconnecting to {} in {} ms", connectionId, streamName, delay);
+        reconnectTask = ExecutorFactory.sharedScheduler().schedule(this::reconnect, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void reconnect() {
+        synchronized (mutex) {
+            reconnectTask = null;
+            if (closed || null != webSocket) {
+                return;
+            }
+            logger.info("[Connection {}] Reconnecting to {}", connectionId, streamName);
+            webSocket = client.newWebSocket(request, this);
+        }
+    }
+
+    private void scheduleReplace() {
+        if (null != reconnectPolicy) {
+            scheduleReplace(reconnectPolicy.getMaxConnectionAgeMillis());
+        }
+    }
+
+    private void scheduleReplace(long delay) {
+        if (null != replaceTask) {
+            replaceTask.cancel(false);
+            replaceTask = null;
+        }
+        if (null != reconnectPolicy && reconnectPolicy.getMaxConnectionAgeMillis() != NO_MAX_AGE && !closed) {
+            replaceTask = ExecutorFactory.sharedScheduler().schedule(this::replace, delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void replace() {
+        synchronized (mutex) {
+            replaceTask = null;
+            if (closed || null == webSocket || null != replacement) {
+                return;
+            }
+            logger.info("[Connection {}] Opening replacement connection to {}", connectionId, streamName);
+            replacement = client.newWebSocket(request, this);
+        }
+    }
+
+    private void cancelTasks() {
+        if (null != reconnectTask) {
+            reconnectTask.cancel(false);
+            reconnectTask = null;
+        }
+        if (null != replaceTask) {
+            replaceTask.cancel(false);
+            replaceTask = null;
+        }
+    }
+
+    /**
+     * OkHttp closes the response once the listener returns, so a callback running later on an executor
+     * gets a copy holding the start of the body, e.g. the error of a rejected upgrade.
+     */
+    private Response detach(Response response) {
+        if (null == response || null == response.body() || (null == dispatchQueue && null == callbackExecutor)) {
+            return response;
+        }
+        try {
+            return response.newBuilder().body(response.peekBody(MAX_DEFERRED_BODY_BYTES)).build();
+        } catch (IOException e) {
+            logger.debug("[Connection {}] Failed to read the response body", connectionId, e);
+            return response;
+        }
+    }
+
+    private void dispatch(Runnable callback) {
+        DispatchQueue queue = dispatchQueue;
+        Executor executor = callbackExecutor;
+        if (null != queue) {
+            queue.offerEvent(callback);
+        } else if (executor == null) {
+            callback.run();
+        } else {
+            executor.execute(callback);
+        }
     }
 }
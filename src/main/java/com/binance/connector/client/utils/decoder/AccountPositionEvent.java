@@ -0,0 +1,105 @@
+package com.binance.connector.client.utils.decoder;
+
+import java.util.Arrays;
+
+import com.binance.connector.client.utils.SymbolRegistry;
+
+/**
+ * {@code outboundAccountPosition} event of the user data stream, holding the balances of the assets that changed.
+ */
+public final class AccountPositionEvent extends StreamEvent {
+    private static final int INITIAL_BALANCES = 8;
+    private static final int EMPTY = 0;
+
+    private String[] assets = new String[INITIAL_BALANCES];
+    private double[] free = new double[INITIAL_BALANCES];
+    private double[] locked = new double[INITIAL_BALANCES];
+    private int count;
+    private long lastUpdateTime;
+
+    public long getLastUpdateTime() {
+        return lastUpdateTime;
+    }
+
+    /**
+     * @return number of balances in the event
+     */
+    public int count() {
+        return count;
+    }
+
+    /**
+     * @param index index of the balance, in the order of the message
+     */
+    public String asset(int index) {
+        return assets[index];
+    }
+
+    public double free(int index) {
+        return free[index];
+    }
+
+    public double locked(int index) {
+        return locked[index];
+    }
+
+    @Override
+    void readEventField(JsonScanner scanner, SymbolRegistry names) {
+        switch (scanner.tokenChar()) {
+            case 'u':
+                lastUpdateTime = scanner.readLong();
+                break;
+            case 'B':
+                readBalances(scanner, names);
+                break;
+            default:
+                scanner.skipValue();
+                break;
+        }
+    }
+
+    private void readBalances(JsonScanner scanner, SymbolRegistry names) {
+        count = EMPTY;
+        if (!scanner.enterArray()) {
+            scanner.skipValue();
+            return;
+        }
+        while (scanner.nextElement()) {
+            if (!scanner.enterObject()) {
+                scanner.skipValue();
+                continue;
+            }
+            if (count == assets.length) {
+                assets = Arrays.copyOf(assets, count + count);
+                free = Arrays.copyOf(free, count + count);
+                locked = Arrays.copyOf(locked, count + count);
+            }
+            assets[count] = null;
+            free[count] = Double.NaN;
+            locked[count] = Double.NaN;
+            while (scanner.nextField()) {
+                switch (scanner.tokenChar()) {
+                    case 'a':
+                        assets[count] = readName(scanner, names);
+                        break;
+                    case 'f':
+                        free[count] = scanner.readDouble();
+                        break;
+                    case 'l':
+                        locked[count] = scanner.readDouble();
+                        break;
+                    default:
+                        scanner.skipValue();
+                        break;
+                }
+            }
+            count++;
+        }
+    }
+
+    @Override
+    void clearEvent() {
+        count = EMPTY;
+        lastUpdateTime = NONE;
+    }
+}
@@ -0,0 +1,88 @@
+package com.binance.connector.client.utils.decoder;
+
+import com.binance.connector.client.utils.SymbolRegistry;
+
+/**
+ * {@code aggTrade} event of the aggregate trade stream.
+ */
+public final class AggTradeEvent extends StreamEvent {
+    private long aggregateTradeId;
+    private double price;
+    private double quantity;
+    private long firstTradeId;
+    private long lastTradeId;
+    private long tradeTime;
+    private boolean buyerMaker;
+
+    public long getAggregateTradeId() {
+        return aggregateTradeId;
+    }
+
+    public double getPrice() {
+        return price;
+    }
+
+    public double getQuantity() {
+        return quantity;
+    }
+
+    public long getFirstTradeId() {
+        return firstTradeId;
+    }
+
+    public long getLastTradeId() {
+        return lastTradeId;
+    }
+
+    public long getTradeTime() {
+        return tradeTime;
+    }
+
+    /**
+     * @return true if the buyer was the maker, i.e. the trades were sells from the taker
+     */
+    public boolean isBuyerMaker() {
+        return buyerMaker;
+    }
+
+    @Override
+    void readEventField(JsonScanner scanner, SymbolRegistry names) {
+        switch (scanner.tokenChar()) {
+            case 'a':
+                aggregateTradeId = scanner.readLong();
+                break;
+            case 'p':
+                price = scanner.readDouble();
+                break;
+            case 'q':
+                quantity = scanner.readDouble();
+                break;
+            case 'f':
+                firstTradeId = scanner.readLong();
+                break;
+            case 'l':
+                lastTradeId = scanner.readLong();
+                break;
+            case 'T':
+                tradeTime = scanner.readLong();
+                break;
+            case 'm':
+                buyerMaker = scanner.readBoolean();
+                break;
+            default:
+                scanner.skipValue();
+                break;
+        }
+    }
+
+    @Override
+    void clearEvent() {
+        aggregateTradeId = NONE;
+        price = Double.NaN;
+        quantity = Double.NaN;
+        firstTradeId = NONE;
+        lastTradeId = NONE;
+        tradeTime = NONE;
+        buyerMaker = false;
+    }
+}
@@ -0,0 +1,55 @@
+package com.binance.connector.client.utils.decoder;
+
+import com.binance.connector.client.utils.SymbolRegistry;
+
+/**
+ * {@code balanceUpdate} event of the user data stream, sent for a deposit, a withdrawal or a transfer.
+ */
+public final class BalanceUpdateEvent extends StreamEvent {
+    private String asset;
+    private double delta;
+    private long clearTime;
+
+    public String getAsset() {
+        return asset;
+    }
+
+    /**
+     * @return change of the free balance, negative for a withdrawal
+     */
+    public double getDelta() {
+        return delta;
+    }
+
+    /**
+     * @return time the change was made in milliseconds
+     */
+    public long getClearTime() {
+        return clearTime;
+    }
+
+    @Override
+    void readEventField(JsonScanner scanner, SymbolRegistry names) {
+        switch (scanner.tokenChar()) {
+            case 'a':
+                asset = readName(scanner, names);
+                break;
+            case 'd':
+                delta = scanner.readDouble();
+                break;
+            case 'T':
+                clearTime = scanner.readLong();
+                break;
+            default:
+                scanner.skipValue();
+                break;
+        }
+    }
+
+    @Override
+    void clearEvent() {
+        asset = null;
+        delta = Double.NaN;
+        clearTime = NONE;
+    }
+}
@@ -0,0 +1,67 @@
+package com.binance.connector.client.utils.decoder;
+
+import com.binance.connector.client.utils.SymbolRegistry;
+
+/**
+ * Best bid and ask of the book ticker stream, which carries no event type or time.
+ */
+public final class BookTickerEvent extends StreamEvent {
+    private long updateId;
+    private double bidPrice;
+    private double bidQuantity;
+    private double askPrice;
+    private double askQuantity;
+
+    public long getUpdateId() {
+        return updateId;
+    }
+
+    public double getBidPrice() {
+        return bidPrice;
+    }
+
+    public double getBidQuantity() {
+        return bidQuantity;
+    }
+
+    public double getAskPrice() {
+        return askPrice;
+    }
+
+    public double getAskQuantity() {
+        return askQuantity;
+    }
+
+    @Override
+    void readEventField(JsonScanner scanner, SymbolRegistry names) {
+        switch (scanner.tokenChar()) {
+            case 'u':
+                updateId = scanner.readLong();
+                break;
+            case 'b':
+                bidPrice = scanner.readDouble();
+                break;
+            case 'B':
+                bidQuantity = scanner.readDouble();
+                break;
+            case 'a':
+                askPrice = scanner.readDouble();
+                break;
+            case 'A':
+                askQuantity = scanner.readDouble();
+                break;
+            default:
+                scanner.skipValue();
+                break;
+        }
+    }
+
+    @Override
+    void clearEvent() {
+        updateId = NONE;
+        bidPrice = Double.NaN;
+        bidQuantity = Double.NaN;
+        askPrice = Double.NaN;
+        askQuantity = Double.NaN;
+    }
+}
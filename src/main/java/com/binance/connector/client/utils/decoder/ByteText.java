@@ -0,0 +1,64 @@
+package com.binance.connector.client.utils.decoder;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Character view of a UTF-8 frame, so that a {@link JsonScanner} reads the bytes in place.
+ * <br>
+ * Each byte is one character: the JSON structure, numbers and the ASCII symbols and keys of Binance messages
+ * read the same as in the decoded text, without decoding the frame. Strings are decoded from UTF-8 only when
+ * requested through {@link #subSequence(int, int)} or {@link #toString()}. A string value mixing escapes and
+ * non-ASCII characters is the one case read differently than from a String.
+ * <br>
+ * A view is reusable through {@link #wrap(ByteBuffer)} but not thread-safe.
+ */
+public final class ByteText implements CharSequence {
+    private static final int BYTE_MASK = 0xFF;
+    private static final int START = 0;
+
+    private ByteBuffer buffer;
+    private int offset;
+    private int length;
+
+    /**
+     * @param bytes frame to read, from its position to its limit; the position is left unchanged
+     * @return this view
+     */
+    public ByteText wrap(ByteBuffer bytes) {
+        this.buffer = bytes;
+        this.offset = bytes.position();
+        this.length = bytes.remaining();
+        return this;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        return (char) (buffer.get(offset + index) & BYTE_MASK);
+    }
+
+    /**
+     * @return the region decoded from UTF-8
+     */
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        byte[] bytes = new byte[end - start];
+        for (int i = START; i < bytes.length; i++) {
+            bytes[i] = buffer.get(offset + start + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return the whole frame decoded from UTF-8
+     */
+    @Override
+    public String toString() {
+        return subSequence(START, length).toString();
+    }
+}
@@ -0,0 +1,114 @@
+package com.binance.connector.client.utils.decoder;
+
+import java.util.Arrays;
+
+import com.binance.connector.client.enums.Side;
+import com.binance.connector.client.utils.SymbolRegistry;
+
+/**
+ * {@code depthUpdate} event of the diff depth stream. The changed levels are read into arrays that grow as
+ * needed and are kept across messages; a quantity of 0 removes the level.
+ */
+public final class DepthUpdateEvent extends StreamEvent {
+    private static final int INITIAL_LEVELS = 64;
+    private static final int EMPTY = 0;
+
+    private final Levels bids = new Levels();
+    private final Levels asks = new Levels();
+    private long firstUpdateId;
+    private long lastUpdateId;
+
+    public long getFirstUpdateId() {
+        return firstUpdateId;
+    }
+
+    public long getLastUpdateId() {
+        return lastUpdateId;
+    }
+
+    /**
+     * @return number of changed levels on the side, BUY for the bids
+     */
+    public int count(Side side) {
+        return levels(side).count;
+    }
+
+    /**
+     * @param index index of the level, in the order of the message
+     */
+    public double price(Side side, int index) {
+        return levels(side).prices[index];
+    }
+
+    /**
+     * @param index index of the level, in the order of the message
+     */
+    public double quantity(Side side, int index) {
+        return levels(side).quantities[index];
+    }
+
+    @Override
+    void readEventField(JsonScanner scanner, SymbolRegistry names) {
+        switch (scanner.tokenChar()) {
+            case 'U':
+                firstUpdateId = scanner.readLong();
+                break;
+            case 'u':
+                lastUpdateId = scanner.readLong();
+                break;
+            case 'b':
+                bids.read(scanner);
+                break;
+            case 'a':
+                asks.read(scanner);
+                break;
+            default:
+                scanner.skipValue();
+                break;
+        }
+    }
+
+    @Override
+    void clearEvent() {
+        firstUpdateId = NONE;
+        lastUpdateId = NONE;
+        bids.count = EMPTY;
+        asks.count = EMPTY;
+    }
+
+    private Levels levels(Side side) {
+        return side == Side.BUY ? bids : asks;
+    }
+
+    private static final class Levels {
+        private double[] prices = new double[INITIAL_LEVELS];
+        private double[] quantities = new double[INITIAL_LEVELS];
+        private int count;
+
+        private void read(JsonScanner scanner) {
+            count = EMPTY;
+            if (!scanner.enterArray()) {
+                scanner.skipValue();
+                return;
+            }
+            while (scanner.nextElement()) {
+                if (!scanner.enterArray()) {
+                    scanner.skipValue();
+                    continue;
+                }
+                if (count == prices.length) {
+                    prices = Arrays.copyOf(prices, count + count);
+                    quantities = Arrays.copyOf(quantities, count + count);
+                }
+                scanner.nextElement();
+                prices[count] = scanner.readDouble();
+                scanner.nextElement();
+                quantities[count] = scanner.readDouble();
+                count++;
+                while (scanner.nextElement()) {
+                    scanner.skipValue();
+                }
+            }
+        }
+    }
+}
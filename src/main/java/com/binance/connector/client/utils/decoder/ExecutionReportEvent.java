@@ -0,0 +1,298 @@
+package com.binance.connector.client.utils.decoder;
+
+import com.binance.connector.client.enums.Side;
+import com.binance.connector.client.utils.SymbolRegistry;
+
+/**
+ * {@code executionReport} event of the user data stream, sent for each change of an order.
+ * <br>
+ * Types, statuses and assets are shared String instances across messages.
+ */
+public final class ExecutionReportEvent extends StreamEvent {
+    private static final long NO_ORDER_LIST = -1L;
+
+    private String clientOrderId;
+    private Side side;
+    private String orderType;
+    private String timeInForce;
+    private double quantity;
+    private double price;
+    private double stopPrice;
+    private long orderListId;
+    private String originalClientOrderId;
+    private String executionType;
+    private String orderStatus;
+    private String rejectReason;
+    private long orderId;
+    private double lastExecutedQuantity;
+    private double cumulativeQuantity;
+    private double lastExecutedPrice;
+    private double commission;
+    private String commissionAsset;
+    private long transactionTime;
+    private long tradeId;
+    private boolean working;
+    private boolean maker;
+    private long creationTime;
+    private double cumulativeQuoteQuantity;
+    private double lastQuoteQuantity;
+    private double quoteOrderQuantity;
+
+    public String getClientOrderId() {
+        return clientOrderId;
+    }
+
+    public Side getSide() {
+        return side;
+    }
+
+    /**
+     * @return order type, e.g. LIMIT
+     */
+    public String getOrderType() {
+        return orderType;
+    }
+
+    public String getTimeInForce() {
+        return timeInForce;
+    }
+
+    public double getQuantity() {
+        return quantity;
+    }
+
+    public double getPrice() {
+        return price;
+    }
+
+    public double getStopPrice() {
+        return stopPrice;
+    }
+
+    /**
+     * @return id of the order list of the order, -1 if it is not part of one
+     */
+    public long getOrderListId() {
+        return orderListId;
+    }
+
+    /**
+     * @return client order id of the order being cancelled, null otherwise
+     */
+    public String getOriginalClientOrderId() {
+        return originalClientOrderId;
+    }
+
+    /**
+     * @return execution type, e.g. NEW, TRADE, CANCELED, REJECTED, EXPIRED
+     */
+    public String getExecutionType() {
+        return executionType;
+    }
+
+    /**
+     * @return order status after the execution, e.g. PARTIALLY_FILLED
+     */
+    public String getOrderStatus() {
+        return orderStatus;
+    }
+
+    public String getRejectReason() {
+        return rejectReason;
+    }
+
+    public long getOrderId() {
+        return orderId;
+    }
+
+    public double getLastExecutedQuantity() {
+        return lastExecutedQuantity;
+    }
+
+    public double getCumulativeQuantity() {
+        return cumulativeQuantity;
+    }
+
+    public double getLastExecutedPrice() {
+        return lastExecutedPrice;
+    }
+
+    public double getCommission() {
+        return commission;
+    }
+
+    public String getCommissionAsset() {
+        return commissionAsset;
+    }
+
+    public long getTransactionTime() {
+        return transactionTime;
+    }
+
+    /**
+     * @return id of the trade of a TRADE execution, -1 otherwise
+     */
+    public long getTradeId() {
+        return tradeId;
+    }
+
+    /**
+     * @return true if the order is on the book
+     */
+    public boolean isWorking() {
+        return working;
+    }
+
+    public boolean isMaker() {
+        return maker;
+    }
+
+    public long getCreationTime() {
+        return creationTime;
+    }
+
+    public double getCumulativeQuoteQuantity() {
+        return cumulativeQuoteQuantity;
+    }
+
+    public double getLastQuoteQuantity() {
+        return lastQuoteQuantity;
+    }
+
+    public double getQuoteOrderQuantity() {
+        return quoteOrderQuantity;
+    }
+
+    @Override
+    void readEventField(JsonScanner scanner, SymbolRegistry names) {
+        switch (scanner.tokenChar()) {
+            case 'c':
+                clientOrderId = scanner.readString();
+                break;
+            case 'S':
+                side = readSide(scanner);
+                break;
+            case 'o':
+                orderType = readName(scanner, names);
+                break;
+            case 'f':
+                timeInForce = readName(scanner, names);
+                break;
+            case 'q':
+                quantity = scanner.readDouble();
+                break;
+            case 'p':
+                price = scanner.readDouble();
+                break;
+            case 'P':
+                stopPrice = scanner.readDouble();
+                break;
+            case 'g':
+                orderListId = scanner.readLong();
+                break;
+            case 'C':
+                originalClientOrderId = scanner.readString();
+                break;
+            default:
+                readExecutionField(scanner, names);
+                break;
+        }
+    }
+
+    private void readExecutionField(JsonScanner scanner, SymbolRegistry names) {
+        switch (scanner.tokenChar()) {
+            case 'x':
+                executionType = readName(scanner, names);
+                break;
+            case 'X':
+                orderStatus = readName(scanner, names);
+                break;
+            case 'r':
+                rejectReason = readName(scanner, names);
+                break;
+            case 'i':
+                orderId = scanner.readLong();
+                break;
+            case 'l':
+                lastExecutedQuantity = scanner.readDouble();
+                break;
+            case 'z':
+                cumulativeQuantity = scanner.readDouble();
+                break;
+            case 'L':
+                lastExecutedPrice = scanner.readDouble();
+                break;
+            case 'n':
+                commission = scanner.readDouble();
+                break;
+            case 'N':
+                commissionAsset = readName(scanner, names);
+                break;
+            default:
+                readTradeField(scanner);
+                break;
+        }
+    }
+
+    private void readTradeField(JsonScanner scanner) {
+        switch (scanner.tokenChar()) {
+            case 'T':
+                transactionTime = scanner.readLong();
+                break;
+            case 't':
+                tradeId = scanner.readLong();
+                break;
+            case 'w':
+                working = scanner.readBoolean();
+                break;
+            case 'm':
+                maker = scanner.readBoolean();
+                break;
+            case 'O':
+                creationTime = scanner.readLong();
+                break;
+            case 'Z':
+                cumulativeQuoteQuantity = scanner.readDouble();
+                break;
+            case 'Y':
+                lastQuoteQuantity = scanner.readDouble();
+                break;
+            case 'Q':
+                quoteOrderQuantity = scanner.readDouble();
+                break;
+            default:
+                scanner.skipValue();
+                break;
+        }
+    }
+
+    @Override
+    void clearEvent() {
+        clientOrderId = null;
+        side = null;
+        orderType = null;
+        timeInForce = null;
+        quantity = Double.NaN;
+        price = Double.NaN;
+        stopPrice = Double.NaN;
+        orderListId = NO_ORDER_LIST;
+        originalClientOrderId = null;
+        executionType = null;
+        orderStatus = null;
+        rejectReason = null;
+        orderId = NONE;
+        lastExecutedQuantity = Double.NaN;
+        cumulativeQuantity = Double.NaN;
+        lastExecutedPrice = Double.NaN;
+        commission = Double.NaN;
+        commissionAsset = null;
+        transactionTime = NONE;
+        tradeId = NO_ORDER_LIST;
+        working = false;
+        maker = false;
+        creationTime = NONE;
+        cumulativeQuoteQuantity = Double.NaN;
+        lastQuoteQuantity = Double.NaN;
+        quoteOrderQuantity = Double.NaN;
+    }
+}
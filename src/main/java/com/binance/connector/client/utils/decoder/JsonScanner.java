@@ -0,0 +1,407 @@
+package com.binance.connector.client.utils.decoder;
+
+import com.binance.connector.client.exceptions.BinanceConnectorException;
+
+/**
+ * Forward-only cursor over a JSON text, reading values in place without building a tree.
+ * <br>
+ * The caller drives the structure it expects: enter an array or object, step through its elements or fields,
+ * read the values it needs and skip the others. Keys and string tokens are exposed as a region of the text so
+ * they can be compared or looked up without creating a String. Numbers, quoted or not, are parsed directly
+ * from the characters.
+ * <br>
+ * A scanner is reusable through {@link #reset(CharSequence)} but not thread-safe.
+ */
+public final class JsonScanner {
+    private static final int RADIX = 10;
+    private static final int MAX_EXACT_SCALE = 22;
+    private static final long MAX_EXACT_MANTISSA = 9007199254740992L;
+    private static final long MAX_MANTISSA_BEFORE_DIGIT = 922337203685477579L;
+    private static final int HEX_RADIX = 16;
+    private static final int UNICODE_ESCAPE_LENGTH = 4;
+    private static final int ONE = 1;
+    private static final int ESCAPE_LENGTH = 2;
+    private static final int NONE = -1;
+    private static final int START = 0;
+    private static final long ZERO = 0L;
+    private static final double[] POWERS_OF_TEN = new double[MAX_EXACT_SCALE + ONE];
+
+    static {
+        double power = ONE;
+        for (int i = START; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = power;
+            power *= RADIX;
+        }
+    }
+
+    private CharSequence text;
+    private int position;
+    private int length;
+    private int tokenStart = NONE;
+    private int tokenEnd = NONE;
+
+    /**
+     * @param json text to scan, positioned at its first character
+     * @return this scanner
+     */
+    public JsonScanner reset(CharSequence json) {
+        this.text = json;
+        this.position = START;
+        this.length = json.length();
+        this.tokenStart = NONE;
+        this.tokenEnd = NONE;
+        return this;
+    }
+
+    public CharSequence text() {
+        return text;
+    }
+
+    public int position() {
+        return position;
+    }
+
+    /**
+     * @return the next non-whitespace character, without consuming it, or 0 at the end of the text
+     */
+    public char peek() {
+        skipWhitespace();
+        return position < length ? text.charAt(position) : Character.MIN_VALUE;
+    }
+
+    /**
+     * Consumes a '[' if it is the next character.
+     *
+     * @return true if an array was entered
+     */
+    public boolean enterArray() {
+        return consume('[');
+    }
+
+    /**
+     * Consumes a '{' if it is the next character.
+     *
+     * @return true if an object was entered
+     */
+    public boolean enterObject() {
+        return consume('{');
+    }
+
+    /**
+     * Moves to the next element of the array entered last.
+     *
+     * @return true if a value follows, false if the closing ']' was consumed
+     */
+    public boolean nextElement() {
+        return next(']');
+    }
+
+    /**
+     * Moves to the next field of the object entered last and reads its key, leaving the cursor on the value.
+     *
+     * @return true if a field follows, false if the closing '}' was consumed
+     */
+    public boolean nextField() {
+        if (!next('}')) {
+            return false;
+        }
+        readStringToken();
+        expect(':');
+        return true;
+    }
+
+    /**
+     * @return true if the last key or string token is exactly {@code name}
+     */
+    public boolean tokenIs(String name) {
+        int tokenLength = tokenEnd - tokenStart;
+        if (tokenLength != name.length()) {
+            return false;
+        }
+        for (int i = START; i < tokenLength; i++) {
+            if (text.charAt(tokenStart + i) != name.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the character of a one-character key or string token, or 0 for any other length
+     */
+    public char tokenChar() {
+        return tokenEnd - tokenStart == ONE ? text.charAt(tokenStart) : Character.MIN_VALUE;
+    }
+
+    /**
+     * @return start of the last key or string token in the text, inclusive
+     */
+    public int tokenStart() {
+        return tokenStart;
+    }
+
+    /**
+     * @return end of the last key or string token in the text, exclusive
+     */
+    public int tokenEnd() {
+        return tokenEnd;
+    }
+
+    /**
+     * Reads a string value without unescaping it, exposing it as {@link #tokenStart()} and {@link #tokenEnd()}.
+     */
+    public void readStringToken() {
+        expect('"');
+        tokenStart = position;
+        while (position < length) {
+            char c = text.charAt(position);
+            if (c == '"') {
+                tokenEnd = position++;
+                return;
+            }
+            position += c == '\\' ? ESCAPE_LENGTH : ONE;
+        }
+        throw error("unterminated string");
+    }
+
+    /**
+     * @return the string value, unescaped, or null for a JSON null
+     */
+    public String readString() {
+        if (peek() == 'n') {
+            skipLiteral();
+            return null;
+        }
+        readStringToken();
+        StringBuilder builder = null;
+        for (int i = tokenStart; i < tokenEnd; i++) {
+            char c = text.charAt(i);
+            if (c == '\\') {
+                if (builder == null) {
+                    builder = new StringBuilder(tokenEnd - tokenStart).append(text, tokenStart, i);
+                }
+                i = unescape(i + ONE, builder);
+            } else if (builder != null) {
+                builder.append(c);
+            }
+        }
+        return builder == null ? text.subSequence(tokenStart, tokenEnd).toString() : builder.toString();
+    }
+
+    /**
+     * Reads a number, or a string holding a number as Binance sends prices and quantities.
+     *
+     * @return the value, or NaN for a JSON null or an empty string
+     */
+    public double readDouble() {
+        char first = peek();
+        if (first == 'n') {
+            skipLiteral();
+            return Double.NaN;
+        }
+        boolean quoted = first == '"';
+        if (quoted) {
+            position++;
+        }
+        int start = position;
+        boolean negative = consumeSign();
+        long mantissa = ZERO;
+        int scale = START;
+        int digits = START;
+        boolean fraction = false;
+        boolean exact = true;
+        while (position < length) {
+            char c = text.charAt(position);
+            if (c >= '0' && c <= '9') {
+                if (mantissa > MAX_MANTISSA_BEFORE_DIGIT) {
+                    exact = false;
+                } else {
+                    mantissa = mantissa * RADIX + (c - '0');
+                }
+                digits++;
+                if (fraction) {
+                    scale++;
+                }
+            } else if (c == '.' && !fraction) {
+                fraction = true;
+            } else if (c == 'e' || c == 'E' || c == '+' || c == '-') {
+                exact = false;
+            } else {
+                break;
+            }
+            position++;
+        }
+        int end = position;
+        if (quoted) {
+            expect('"');
+        }
+        if (digits == START) {
+            if (quoted && end == start) {
+                return Double.NaN;
+            }
+            throw error("number expected");
+        }
+        if (exact && mantissa <= MAX_EXACT_MANTISSA && scale <= MAX_EXACT_SCALE) {
+            // both operands are exact doubles, so the division is correctly rounded
+            double value = mantissa / POWERS_OF_TEN[scale];
+            return negative ? -value : value;
+        }
+        return Double.parseDouble(text.subSequence(start, end).toString());
+    }
+
+    /**
+     * Reads an integer number, quoted or not.
+     *
+     * @return the value, or 0 for a JSON null
+     */
+    public long readLong() {
+        char first = peek();
+        if (first == 'n') {
+            skipLiteral();
+            return ZERO;
+        }
+        boolean quoted = first == '"';
+        if (quoted) {
+            position++;
+        }
+        boolean negative = consumeSign();
+        long value = ZERO;
+        int start = position;
+        while (position < length) {
+            char c = text.charAt(position);
+            if (c < '0' || c > '9') {
+                break;
+            }
+            value = value * RADIX + (c - '0');
+            position++;
+        }
+        if (position == start) {
+            throw error("integer expected");
+        }
+        if (quoted) {
+            expect('"');
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * @return the boolean value, false for a JSON null
+     */
+    public boolean readBoolean() {
+        boolean value = peek() == 't';
+        skipLiteral();
+        return value;
+    }
+
+    /**
+     * Skips the value under the cursor, with everything nested in it.
+     */
+    public void skipValue() {
+        char c = peek();
+        if (c == '"') {
+            readStringToken();
+        } else if (c == '{') {
+            position++;
+            while (nextField()) {
+                skipValue();
+            }
+        } else if (c == '[') {
+            position++;
+            while (nextElement()) {
+                skipValue();
+            }
+        } else {
+            skipLiteral();
+        }
+    }
+
+    private boolean next(char close) {
+        char c = peek();
+        if (c == ',') {
+            position++;
+            c = peek();
+        }
+        if (c == close) {
+            position++;
+            return false;
+        }
+        if (position >= length) {
+            throw error("'" + close + "' expected");
+        }
+        return true;
+    }
+
+    private boolean consume(char c) {
+        if (peek() == c) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean consumeSign() {
+        if (position < length && text.charAt(position) == '-') {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(char c) {
+        if (!consume(c)) {
+            throw error("'" + c + "' expected");
+        }
+    }
+
+    private void skipLiteral() {
+        int start = position;
+        while (position < length) {
+            char c = text.charAt(position);
+            if (c == ',' || c == '}' || c == ']' || Character.isWhitespace(c)) {
+                break;
+            }
+            position++;
+        }
+        if (position == start) {
+            throw error("value expected");
+        }
+    }
+
+    private void skipWhitespace() {
+        while (position < length && Character.isWhitespace(text.charAt(position))) {
+            position++;
+        }
+    }
+
+    private int unescape(int index, StringBuilder builder) {
+        char c = text.charAt(index);
+        switch (c) {
+            case 'b':
+                builder.append('\b');
+                return index;
+            case 'f':
+                builder.append('\f');
+                return index;
+            case 'n':
+                builder.append('\n');
+                return index;
+            case 'r':
+                builder.append('\r');
+                return index;
+            case 't':
+                builder.append('\t');
+                return index;
+            case 'u':
+                int end = index + UNICODE_ESCAPE_LENGTH;
+                builder.append((char) Integer.parseInt(text.subSequence(index + ONE, end + ONE).toString(), HEX_RADIX));
+                return end;
+            default:
+                builder.append(c);
+                return index;
+        }
+    }
+
+    private BinanceConnectorException error(String message) {
+        return new BinanceConnectorException("[JsonScanner] " + message + " at position " + position);
+    }
+}
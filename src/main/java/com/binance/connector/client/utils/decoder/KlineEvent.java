@@ -0,0 +1,173 @@
+package com.binance.connector.client.utils.decoder;
+
+import com.binance.connector.client.utils.SymbolRegistry;
+
+/**
+ * {@code kline} event of the kline/candlestick stream, with the fields of its nested kline.
+ */
+public final class KlineEvent extends StreamEvent {
+    private long openTime;
+    private long closeTime;
+    private String interval;
+    private long firstTradeId;
+    private long lastTradeId;
+    private double open;
+    private double close;
+    private double high;
+    private double low;
+    private double volume;
+    private long tradeCount;
+    private boolean closed;
+    private double quoteVolume;
+    private double takerBuyVolume;
+    private double takerBuyQuoteVolume;
+
+    public long getOpenTime() {
+        return openTime;
+    }
+
+    public long getCloseTime() {
+        return closeTime;
+    }
+
+    /**
+     * @return interval of the kline, e.g. 1m
+     */
+    public String getInterval() {
+        return interval;
+    }
+
+    public long getFirstTradeId() {
+        return firstTradeId;
+    }
+
+    public long getLastTradeId() {
+        return lastTradeId;
+    }
+
+    public double getOpen() {
+        return open;
+    }
+
+    public double getClose() {
+        return close;
+    }
+
+    public double getHigh() {
+        return high;
+    }
+
+    public double getLow() {
+        return low;
+    }
+
+    public double getVolume() {
+        return volume;
+    }
+
+    public long getTradeCount() {
+        return tradeCount;
+    }
+
+    /**
+     * @return true for the final update of the kline, false while it is still open
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    public double getQuoteVolume() {
+        return quoteVolume;
+    }
+
+    public double getTakerBuyVolume() {
+        return takerBuyVolume;
+    }
+
+    public double getTakerBuyQuoteVolume() {
+        return takerBuyQuoteVolume;
+    }
+
+    @Override
+    void readEventField(JsonScanner scanner, SymbolRegistry names) {
+        if (scanner.tokenChar() != 'k' || !scanner.enterObject()) {
+            scanner.skipValue();
+            return;
+        }
+        while (scanner.nextField()) {
+            readKlineField(scanner, names);
+        }
+    }
+
+    private void readKlineField(JsonScanner scanner, SymbolRegistry names) {
+        switch (scanner.tokenChar()) {
+            case 't':
+                openTime = scanner.readLong();
+                break;
+            case 'T':
+                closeTime = scanner.readLong();
+                break;
+            case 'i':
+                interval = readName(scanner, names);
+                break;
+            case 'f':
+                firstTradeId = scanner.readLong();
+                break;
+            case 'L':
+                lastTradeId = scanner.readLong();
+                break;
+            case 'o':
+                open = scanner.readDouble();
+                break;
+            case 'c':
+                close = scanner.readDouble();
+                break;
+            case 'h':
+                high = scanner.readDouble();
+                break;
+            case 'l':
+                low = scanner.readDouble();
+                break;
+            case 'v':
+                volume = scanner.readDouble();
+                break;
+            case 'n':
+                tradeCount = scanner.readLong();
+                break;
+            case 'x':
+                closed = scanner.readBoolean();
+                break;
+            case 'q':
+                quoteVolume = scanner.readDouble();
+                break;
+            case 'V':
+                takerBuyVolume = scanner.readDouble();
+                break;
+            case 'Q':
+                takerBuyQuoteVolume = scanner.readDouble();
+                break;
+            default:
+                scanner.skipValue();
+                break;
+        }
+    }
+
+    @Override
+    void clearEvent() {
+        openTime = NONE;
+        closeTime = NONE;
+        interval = null;
+        firstTradeId = NONE;
+        lastTradeId = NONE;
+        open = Double.NaN;
+        close = Double.NaN;
+        high = Double.NaN;
+        low = Double.NaN;
+        volume = Double.NaN;
+        tradeCount = NONE;
+        closed = false;
+        quoteVolume = Double.NaN;
+        takerBuyVolume = Double.NaN;
+        takerBuyQuoteVolume = Double.NaN;
+    }
+}
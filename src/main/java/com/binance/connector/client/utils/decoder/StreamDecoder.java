@@ -0,0 +1,215 @@
+package com.binance.connector.client.utils.decoder;
+
+import java.nio.ByteBuffer;
+
+import com.binance.connector.client.utils.SymbolRegistry;
+import com.binance.connector.client.utils.websocketcallback.StreamEventCallback;
+import com.binance.connector.client.utils.websocketcallback.WebSocketBinaryCallback;
+import com.binance.connector.client.utils.websocketcallback.WebSocketMessageCallback;
+
+/**
+ * Decodes stream messages in one pass into reusable event objects handed to typed callbacks, without building
+ * a JSON tree.
+ * <br>
+ * Pass the decoder as the message callback of any stream, raw or combined, including the user data stream and
+ * the events of a WebSocket API user data subscription. The {@code trade}, {@code aggTrade}, {@code kline},
+ * {@code depthUpdate}, {@code 24hrTicker}, {@code executionReport}, {@code outboundAccountPosition} and
+ * {@code balanceUpdate} events and the book ticker are recognised; only the events with a callback are decoded,
+ * everything else, such as responses and other event types, is passed as text to
+ * {@link #onOther(WebSocketMessageCallback)}.
+ * <pre>
+ * StreamDecoder decoder = new StreamDecoder()
+ *         .onTrade(trade -&gt; System.out.println(trade.getSymbol() + " " + trade.getPrice()));
+ * client.tradeStream("btcusdt", decoder);
+ * </pre>
+ * Binary frames are decoded from their bytes, through a {@link ByteText} view, without creating a String.
+ * <br>
+ * Each event object is reused for the next message of its type and must not be kept after its callback.
+ * Messages are decoded one at a time.
+ */
+public final class StreamDecoder implements WebSocketMessageCallback, WebSocketBinaryCallback {
+    private static final char EVENT_TYPE_KEY = 'e';
+    private static final char BOOK_TICKER_KEY = 'u';
+    private static final String DATA_KEY = "data";
+    private static final String EVENT_KEY = "event";
+
+    private final JsonScanner scanner = new JsonScanner();
+    private final ByteText frame = new ByteText();
+    private final SymbolRegistry names;
+    private final Route<TradeEvent> trade = new Route<>("trade", new TradeEvent());
+    private final Route<AggTradeEvent> aggTrade = new Route<>("aggTrade", new AggTradeEvent());
+    private final Route<KlineEvent> kline = new Route<>("kline", new KlineEvent());
+    private final Route<DepthUpdateEvent> depthUpdate = new Route<>("depthUpdate", new DepthUpdateEvent());
+    private final Route<TickerEvent> ticker = new Route<>("24hrTicker", new TickerEvent());
+    private final Route<ExecutionReportEvent> executionReport = new Route<>("executionReport", new ExecutionReportEvent());
+    private final Route<AccountPositionEvent> accountPosition = new Route<>("outboundAccountPosition", new AccountPositionEvent());
+    private final Route<BalanceUpdateEvent> balanceUpdate = new Route<>("balanceUpdate", new BalanceUpdateEvent());
+    private final Route<BookTickerEvent> bookTicker = new Route<>("bookTicker", new BookTickerEvent());
+    private final Route<?>[] typedRoutes = {trade, aggTrade, kline, depthUpdate, ticker, executionReport, accountPosition,
+        balanceUpdate, bookTicker};
+    private WebSocketMessageCallback other;
+
+    public StreamDecoder() {
+        this(new SymbolRegistry());
+    }
+
+    /**
+     * @param names registry the symbols, assets and statuses are interned in, may be shared
+     */
+    public StreamDecoder(SymbolRegistry names) {
+        this.names = names;
+    }
+
+    public StreamDecoder onTrade(StreamEventCallback<TradeEvent> callback) {
+        trade.callback = callback;
+        return this;
+    }
+
+    public StreamDecoder onAggTrade(StreamEventCallback<AggTradeEvent> callback) {
+        aggTrade.callback = callback;
+        return this;
+    }
+
+    public StreamDecoder onKline(StreamEventCallback<KlineEvent> callback) {
+        kline.callback = callback;
+        return this;
+    }
+
+    public StreamDecoder onDepthUpdate(StreamEventCallback<DepthUpdateEvent> callback) {
+        depthUpdate.callback = callback;
+        return this;
+    }
+
+    public StreamDecoder onTicker(StreamEventCallback<TickerEvent> callback) {
+        ticker.callback = callback;
+        return this;
+    }
+
+    public StreamDecoder onBookTicker(StreamEventCallback<BookTickerEvent> callback) {
+        bookTicker.callback = callback;
+        return this;
+    }
+
+    public StreamDecoder onExecutionReport(StreamEventCallback<ExecutionReportEvent> callback) {
+        executionReport.callback = callback;
+        return this;
+    }
+
+    public StreamDecoder onAccountPosition(StreamEventCallback<AccountPositionEvent> callback) {
+        accountPosition.callback = callback;
+        return this;
+    }
+
+    public StreamDecoder onBalanceUpdate(StreamEventCallback<BalanceUpdateEvent> callback) {
+        balanceUpdate.callback = callback;
+        return this;
+    }
+
+    /**
+     * @param callback called with the text of the messages that are not a recognised event
+     * @return this decoder
+     */
+    public StreamDecoder onOther(WebSocketMessageCallback callback) {
+        this.other = callback;
+        return this;
+    }
+
+    @Override
+    public void onMessage(String data) {
+        decode(data);
+    }
+
+    @Override
+    public void onMessage(ByteBuffer data) {
+        decode(data);
+    }
+
+    /**
+     * Decodes a UTF-8 message in place and calls the callback of its event type.
+     *
+     * @param message message received from a stream, read from its position to its limit
+     * @return true if the message was an event with a callback
+     */
+    public synchronized boolean decode(ByteBuffer message) {
+        return decode(frame.wrap(message));
+    }
+
+    /**
+     * Decodes a message and calls the callback of its event type.
+     *
+     * @param message message received from a stream
+     * @return true if the message was an event with a callback
+     */
+    public synchronized boolean decode(CharSequence message) {
+        scanner.reset(message);
+        Route<?> route = scanner.enterObject() ? readObject() : null;
+        if (null != route) {
+            route.dispatch();
+            return true;
+        }
+        if (null != other) {
+            other.onMessage(message.toString());
+        }
+        return false;
+    }
+
+    /**
+     * Finds the event type from the first fields of the object, going into the envelope of a combined stream
+     * or of a user data subscription, then reads the remaining fields into the event.
+     */
+    private Route<?> readObject() {
+        while (scanner.nextField()) {
+            char key = scanner.tokenChar();
+            if (key == EVENT_TYPE_KEY) {
+                scanner.readStringToken();
+                Route<?> route = routeOfType();
+                if (null != route) {
+                    readFields(route.event);
+                }
+                return route;
+            } else if (key == BOOK_TICKER_KEY && null != bookTicker.callback) {
+                bookTicker.event.clear();
+                bookTicker.event.readField(scanner, names);
+                readFields(bookTicker.event);
+                return bookTicker;
+            } else if ((scanner.tokenIs(DATA_KEY) || scanner.tokenIs(EVENT_KEY)) && scanner.enterObject()) {
+                return readObject();
+            }
+            scanner.skipValue();
+        }
+        return null;
+    }
+
+    private Route<?> routeOfType() {
+        for (Route<?> route : typedRoutes) {
+            if (scanner.tokenIs(route.type) && null != route.callback) {
+                route.event.clear();
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private void readFields(StreamEvent event) {
+        while (scanner.nextField()) {
+            event.readField(scanner, names);
+        }
+    }
+
+    private static final class Route<E extends StreamEvent> {
+        private final String type;
+        private final E event;
+        private StreamEventCallback<E> callback;
+
+        private Route(String type, E event) {
+            this.type = type;
+            this.event = event;
+        }
+
+        private void dispatch() {
+            if (null != callback) {
+                callback.onEvent(event);
+            }
+        }
+    }
+}
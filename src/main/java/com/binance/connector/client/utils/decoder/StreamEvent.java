@@ -0,0 +1,81 @@
+package com.binance.connector.client.utils.decoder;
+
+import com.binance.connector.client.enums.Side;
+import com.binance.connector.client.utils.SymbolRegistry;
+
+/**
+ * Event decoded by a {@link StreamDecoder}, holding the fields shared by all the stream events.
+ * <br>
+ * An event object is reused for every message of its type and is only valid during the callback.
+ */
+public abstract class StreamEvent {
+    static final long NONE = 0L;
+
+    private long eventTime;
+    private String symbol;
+
+    StreamEvent() {
+    }
+
+    /**
+     * @return event time in milliseconds
+     */
+    public long getEventTime() {
+        return eventTime;
+    }
+
+    /**
+     * @return symbol of the event, null for events without one
+     */
+    public String getSymbol() {
+        return symbol;
+    }
+
+    /**
+     * Reads the value of the field whose key was just read by the scanner.
+     */
+    void readField(JsonScanner scanner, SymbolRegistry names) {
+        switch (scanner.tokenChar()) {
+            case 'E':
+                eventTime = scanner.readLong();
+                break;
+            case 's':
+                symbol = readName(scanner, names);
+                break;
+            default:
+                readEventField(scanner, names);
+                break;
+        }
+    }
+
+    /**
+     * Resets the fields before the next message.
+     */
+    void clear() {
+        eventTime = NONE;
+        symbol = null;
+        clearEvent();
+    }
+
+    abstract void readEventField(JsonScanner scanner, SymbolRegistry names);
+
+    abstract void clearEvent();
+
+    /**
+     * Reads a short string value repeated across messages, such as a symbol, an asset or a status, without
+     * creating a String once it has been seen.
+     */
+    static String readName(JsonScanner scanner, SymbolRegistry names) {
+        if (scanner.peek() == 'n') {
+            scanner.skipValue();
+            return null;
+        }
+        scanner.readStringToken();
+        return names.nameOf(names.register(scanner.text(), scanner.tokenStart(), scanner.tokenEnd()));
+    }
+
+    static Side readSide(JsonScanner scanner) {
+        scanner.readStringToken();
+        return scanner.tokenIs("BUY") ? Side.BUY : Side.SELL;
+    }
+}
@@ -0,0 +1,107 @@
+package com.binance.connector.client.utils.decoder;
+
+import java.util.Arrays;
+
+import com.binance.connector.client.enums.TickerField;
+import com.binance.connector.client.utils.SymbolRegistry;
+
+/**
+ * {@code 24hrTicker} event of the individual and all market ticker streams, its values read by {@link TickerField}.
+ */
+public final class TickerEvent extends StreamEvent {
+    private static final TickerField[] FIELDS = TickerField.values();
+    private static final int KEY_RANGE = 128;
+    private static final TickerField[] FIELDS_BY_KEY = new TickerField[KEY_RANGE];
+    private static final long NAN_BITS = Double.doubleToRawLongBits(Double.NaN);
+
+    static {
+        for (TickerField field : FIELDS) {
+            FIELDS_BY_KEY[field.getKey()] = field;
+        }
+    }
+
+    private final long[] values = new long[FIELDS.length];
+    private long openTime;
+    private long closeTime;
+    private long firstTradeId;
+    private long lastTradeId;
+
+    /**
+     * @return the value of the field, NaN for a price or quantity missing from the event
+     */
+    public double get(TickerField field) {
+        if (field == TickerField.EVENT_TIME) {
+            return getEventTime();
+        }
+        long bits = values[field.ordinal()];
+        return field.isIntegral() ? bits : Double.longBitsToDouble(bits);
+    }
+
+    /**
+     * @return the value of an integral field, e.g. {@link TickerField#TRADE_COUNT}
+     */
+    public long getLong(TickerField field) {
+        if (field == TickerField.EVENT_TIME) {
+            return getEventTime();
+        }
+        long bits = values[field.ordinal()];
+        return field.isIntegral() ? bits : (long) Double.longBitsToDouble(bits);
+    }
+
+    public long getOpenTime() {
+        return openTime;
+    }
+
+    public long getCloseTime() {
+        return closeTime;
+    }
+
+    public long getFirstTradeId() {
+        return firstTradeId;
+    }
+
+    public long getLastTradeId() {
+        return lastTradeId;
+    }
+
+    @Override
+    void readEventField(JsonScanner scanner, SymbolRegistry names) {
+        char key = scanner.tokenChar();
+        TickerField field = key < KEY_RANGE ? FIELDS_BY_KEY[key] : null;
+        if (null != field) {
+            values[field.ordinal()] = field.isIntegral() ? scanner.readLong() : Double.doubleToRawLongBits(scanner.readDouble());
+            return;
+        }
+        switch (key) {
+            case 'O':
+                openTime = scanner.readLong();
+                break;
+            case 'C':
+                closeTime = scanner.readLong();
+                break;
+            case 'F':
+                firstTradeId = scanner.readLong();
+                break;
+            case 'L':
+                lastTradeId = scanner.readLong();
+                break;
+            default:
+                scanner.skipValue();
+                break;
+        }
+    }
+
+    @Override
+    void clearEvent() {
+        Arrays.fill(values, NAN_BITS);
+        for (TickerField field : FIELDS) {
+            if (field.isIntegral()) {
+                values[field.ordinal()] = NONE;
+            }
+        }
+        openTime = NONE;
+        closeTime = NONE;
+        firstTradeId = NONE;
+        lastTradeId = NONE;
+    }
+}
@@ -0,0 +1,70 @@
+package com.binance.connector.client.utils.decoder;
+
+import com.binance.connector.client.utils.SymbolRegistry;
+
+/**
+ * {@code trade} event of the trade stream.
+ */
+public final class TradeEvent extends StreamEvent {
+    private long tradeId;
+    private double price;
+    private double quantity;
+    private long tradeTime;
+    private boolean buyerMaker;
+
+    public long getTradeId() {
+        return tradeId;
+    }
+
+    public double getPrice() {
+        return price;
+    }
+
+    public double getQuantity() {
+        return quantity;
+    }
+
+    public long getTradeTime() {
+        return tradeTime;
+    }
+
+    /**
+     * @return true if the buyer was the maker, i.e. the trade was a sell from the taker
+     */
+    public boolean isBuyerMaker() {
+        return buyerMaker;
+    }
+
+    @Override
+    void readEventField(JsonScanner scanner, SymbolRegistry names) {
+        switch (scanner.tokenChar()) {
+            case 't':
+                tradeId = scanner.readLong();
+                break;
+            case 'p':
+                price = scanner.readDouble();
+                break;
+            case 'q':
+                quantity = scanner.readDouble();
+                break;
+            case 'T':
+                tradeTime = scanner.readLong();
+                break;
+            case 'm':
+                buyerMaker = scanner.readBoolean();
+                break;
+            default:
+                scanner.skipValue();
+                break;
+        }
+    }
+
+    @Override
+    void clearEvent() {
+        tradeId = NONE;
+        price = Double.NaN;
+        quantity = Double.NaN;
+        tradeTime = NONE;
+        buyerMaker = false;
+    }
+}
@@ -0,0 +1,255 @@
+package com.binance.connector.client.utils.httpclient;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import com.binance.connector.client.exceptions.BinanceConnectorException;
+import com.binance.connector.client.utils.ProxyAuth;
+
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+
+/**
+ * Transport settings used to build the {@link OkHttpClient} owned by a REST client.
+ * <br>
+ * Each client built from a config gets its own connection pool and dispatcher, so warm
+ * connections and TLS sessions are never torn down by another client changing its proxy.
+ * To share one transport across several clients, build it once and pass the same
+ * {@link OkHttpClient} to each of them.
+ */
+public final class HttpClientConfig {
+    private static final int DEFAULT_MAX_IDLE_CONNECTIONS = 5;
+    private static final long DEFAULT_KEEP_ALIVE_MILLIS = TimeUnit.MINUTES.toMillis(5);
+    private static final int DEFAULT_MAX_REQUESTS = 64;
+    private static final int DEFAULT_MAX_REQUESTS_PER_HOST = 5;
+    private static final long DEFAULT_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(10);
+    private static final long NO_TIMEOUT = 0L;
+    private static final int MIN_COUNT = 1;
+
+    private final int maxIdleConnections;
+    private final long keepAliveMillis;
+    private final int maxRequests;
+    private final int maxRequestsPerHost;
+    private final boolean http2;
+    private final long connectTimeoutMillis;
+    private final long readTimeoutMillis;
+    private final long writeTimeoutMillis;
+    private final long callTimeoutMillis;
+
+    private HttpClientConfig(Builder builder) {
+        this.maxIdleConnections = builder.maxIdleConnections;
+        this.keepAliveMillis = builder.keepAliveMillis;
+        this.maxRequests = builder.maxRequests;
+        this.maxRequestsPerHost = builder.maxRequestsPerHost;
+        this.http2 = builder.http2;
+        this.connectTimeoutMillis = builder.connectTimeoutMillis;
+        this.readTimeoutMillis = builder.readTimeoutMillis;
+        this.writeTimeoutMillis = builder.writeTimeoutMillis;
+        this.callTimeoutMillis = builder.callTimeoutMillis;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static HttpClientConfig defaultConfig() {
+        return new Builder().build();
+    }
+
+    /**
+     * Builds a new {@link OkHttpClient} with its own connection pool and dispatcher.
+     *
+     * @return OkHttpClient
+     */
+    public OkHttpClient buildHttpClient() {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(maxRequests);
+        dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+
+        OkHttpClient.Builder builder = new OkHttpClient.Builder()
+                .connectionPool(new ConnectionPool(maxIdleConnections, keepAliveMillis, TimeUnit.MILLISECONDS))
+                .dispatcher(dispatcher)
+                .connectTimeout(connectTimeoutMillis, TimeUnit.MILLISECONDS)
+                .readTimeout(readTimeoutMillis, TimeUnit.MILLISECONDS)
+                .writeTimeout(writeTimeoutMillis, TimeUnit.MILLISECONDS)
+                .callTimeout(callTimeoutMillis, TimeUnit.MILLISECONDS);
+        if (http2) {
+            builder.protocols(Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1));
+        } else {
+            builder.protocols(Collections.singletonList(Protocol.HTTP_1_1));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Derives a client that routes through the given proxy while sharing the connection pool
+     * and dispatcher of {@code httpClient}.
+     *
+     * @param httpClient base client
+     * @param proxy proxy to apply, or null to use the base client as is
+     * @return OkHttpClient
+     */
+    public static OkHttpClient withProxy(OkHttpClient httpClient, ProxyAuth proxy) {
+        if (proxy == null) {
+            return httpClient;
+        }
+        OkHttpClient.Builder builder = httpClient.newBuilder().proxy(proxy.getProxy());
+        if (proxy.getAuth() != null) {
+            builder.proxyAuthenticator(proxy.getAuth());
+        }
+        return builder.build();
+    }
+
+    public int getMaxIdleConnections() {
+        return maxIdleConnections;
+    }
+
+    public long getKeepAliveMillis() {
+        return keepAliveMillis;
+    }
+
+    public int getMaxRequests() {
+        return maxRequests;
+    }
+
+    public int getMaxRequestsPerHost() {
+        return maxRequestsPerHost;
+    }
+
+    public boolean isHttp2() {
+        return http2;
+    }
+
+    public long getConnectTimeoutMillis() {
+        return connectTimeoutMillis;
+    }
+
+    public long getReadTimeoutMillis() {
+        return readTimeoutMillis;
+    }
+
+    public long getWriteTimeoutMillis() {
+        return writeTimeoutMillis;
+    }
+
+    public long getCallTimeoutMillis() {
+        return callTimeoutMillis;
+    }
+
+    public static final class Builder {
+        private int maxIdleConnections = DEFAULT_MAX_IDLE_CONNECTIONS;
+        private long keepAliveMillis = DEFAULT_KEEP_ALIVE_MILLIS;
+        private int maxRequests = DEFAULT_MAX_REQUESTS;
+        private int maxRequestsPerHost = DEFAULT_MAX_REQUESTS_PER_HOST;
+        private boolean http2 = true;
+        private long connectTimeoutMillis = DEFAULT_TIMEOUT_MILLIS;
+        private long readTimeoutMillis = DEFAULT_TIMEOUT_MILLIS;
+        private long writeTimeoutMillis = DEFAULT_TIMEOUT_MILLIS;
+        private long callTimeoutMillis = NO_TIMEOUT;
+
+        private Builder() {
+        }
+
+        /**
+         * @param count maximum number of idle connections kept in the pool
+         * @return Builder
+         */
+        public Builder poolSize(int count) {
+            if (count < MIN_COUNT) {
+                throw new BinanceConnectorException("[HttpClientConfig] Pool size must be positive.");
+            }
+            this.maxIdleConnections = count;
+            return this;
+        }
+
+        /**
+         * @param duration time an idle connection is kept alive in the pool
+         * @param unit unit of {@code duration}
+         * @return Builder
+         */
+        public Builder keepAlive(long duration, TimeUnit unit) {
+            this.keepAliveMillis = toPositiveMillis(duration, unit, "Keep-alive");
+            return this;
+        }
+
+        /**
+         * @param count maximum number of requests executed concurrently by the dispatcher
+         * @return Builder
+         */
+        public Builder maxRequests(int count) {
+            if (count < MIN_COUNT) {
+                throw new BinanceConnectorException("[HttpClientConfig] Max requests must be positive.");
+            }
+            this.maxRequests = count;
+            return this;
+        }
+
+        /**
+         * @param count maximum number of requests executed concurrently against a single host
+         * @return Builder
+         */
+        public Builder maxRequestsPerHost(int count) {
+            if (count < MIN_COUNT) {
+                throw new BinanceConnectorException("[HttpClientConfig] Max requests per host must be positive.");
+            }
+            this.maxRequestsPerHost = count;
+            return this;
+        }
+
+        /**
+         * @param enabled true to negotiate HTTP/2 when the server supports it, false to force HTTP/1.1
+         * @return Builder
+         */
+        public Builder preferHttp2(boolean enabled) {
+            this.http2 = enabled;
+            return this;
+        }
+
+        public Builder connectTimeout(long timeout, TimeUnit unit) {
+            this.connectTimeoutMillis = toMillis(timeout, unit, "Connect timeout");
+            return this;
+        }
+
+        public Builder readTimeout(long timeout, TimeUnit unit) {
+            this.readTimeoutMillis = toMillis(timeout, unit, "Read timeout");
+            return this;
+        }
+
+        public Builder writeTimeout(long timeout, TimeUnit unit) {
+            this.writeTimeoutMillis = toMillis(timeout, unit, "Write timeout");
+            return this;
+        }
+
+        /**
+         * @param timeout limit for a complete call including DNS, connecting, writing and reading; 0 disables it
+         * @param unit unit of {@code timeout}
+         * @return Builder
+         */
+        public Builder callTimeout(long timeout, TimeUnit unit) {
+            this.callTimeoutMillis = toMillis(timeout, unit, "Call timeout");
+            return this;
+        }
+
+        public HttpClientConfig build() {
+            return new HttpClientConfig(this);
+        }
+
+        private static long toMillis(long timeout, TimeUnit unit, String name) {
+            if (timeout < NO_TIMEOUT || unit == null) {
+                throw new BinanceConnectorException(String.format("[HttpClientConfig] %s must not be negative.", name));
+            }
+            return unit.toMillis(timeout);
+        }
+
+        private static long toPositiveMillis(long duration, TimeUnit unit, String name) {
+            long millis = toMillis(duration, unit, name);
+            if (millis == NO_TIMEOUT) {
+                throw new BinanceConnectorException(String.format("[HttpClientConfig] %s must be positive.", name));
+            }
+            return millis;
+        }
+    }
+}
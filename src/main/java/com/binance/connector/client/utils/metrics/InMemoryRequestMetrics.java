@@ -0,0 +1,129 @@
+package com.binance.connector.client.utils.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps every measure in memory: a {@link LatencyHistogram} per endpoint, counters per HTTP status and per
+ * Binance error code, request and response bytes and the number of requests in flight.
+ * <br>
+ * Meant to be read periodically, e.g. by a reporter exporting the tail latencies to a monitoring system,
+ * or queried from tests:
+ * <pre>
+ * InMemoryRequestMetrics metrics = new InMemoryRequestMetrics();
+ * spotClient.setRequestMetrics(metrics);
+ * ...
+ * long p99 = metrics.getLatencyHistogram("POST", "/api/v3/order").getValueAtPercentile(99);
+ * </pre>
+ */
+public final class InMemoryRequestMetrics implements RequestMetrics {
+    private static final long ZERO = 0L;
+    private static final int MIN_STATUS_CODE = 0;
+    private static final int MAX_STATUS_CODE = 599;
+    private static final int STATUS_CODES = MAX_STATUS_CODE + 1;
+
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, LatencyHistogram>> latencies = new ConcurrentHashMap<>();
+    private final AtomicLongArray statusCodes = new AtomicLongArray(STATUS_CODES);
+    private final ConcurrentHashMap<Integer, LongAdder> errorCodes = new ConcurrentHashMap<>();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder requestBytes = new LongAdder();
+    private final LongAdder responseBytes = new LongAdder();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    @Override
+    public void onRequest(String method, String endpoint, long bytes) {
+        inFlight.incrementAndGet();
+        requestBytes.add(bytes);
+    }
+
+    @Override
+    public void onResponse(String method, String endpoint, int statusCode, int errorCode, long latencyNanos, long bytes) {
+        inFlight.decrementAndGet();
+        responseBytes.add(bytes);
+        histogram(method, endpoint).record(latencyNanos, TimeUnit.NANOSECONDS);
+        statusCodes.incrementAndGet(Math.min(Math.max(statusCode, MIN_STATUS_CODE), MAX_STATUS_CODE));
+        if (errorCode != NO_ERROR_CODE) {
+            errorCodes.computeIfAbsent(errorCode, k -> new LongAdder()).increment();
+        }
+    }
+
+    @Override
+    public void onFailure(String method, String endpoint, long latencyNanos) {
+        inFlight.decrementAndGet();
+        failures.increment();
+        histogram(method, endpoint).record(latencyNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @param method HTTP method
+     * @param endpoint path of the request, e.g. {@code /api/v3/order}
+     * @return latencies of the responses and failures of the endpoint, or null if it was never called
+     */
+    public LatencyHistogram getLatencyHistogram(String method, String endpoint) {
+        Map<String, LatencyHistogram> histograms = latencies.get(method);
+        return histograms == null ? null : histograms.get(endpoint);
+    }
+
+    /**
+     * @return latency histograms keyed by {@code METHOD path}, sorted
+     */
+    public Map<String, LatencyHistogram> getLatencyHistograms() {
+        Map<String, LatencyHistogram> histograms = new TreeMap<>();
+        latencies.forEach((method, byEndpoint) -> byEndpoint.forEach((endpoint, histogram) -> histograms.put(method + " " + endpoint, histogram)));
+        return Collections.unmodifiableMap(histograms);
+    }
+
+    /**
+     * @param statusCode HTTP status
+     * @return number of responses received with this status
+     */
+    public long getStatusCodeCount(int statusCode) {
+        return statusCode < MIN_STATUS_CODE || statusCode > MAX_STATUS_CODE ? ZERO : statusCodes.get(statusCode);
+    }
+
+    /**
+     * @param errorCode Binance error code, e.g. -1021
+     * @return number of responses received with this error code
+     */
+    public long getErrorCodeCount(int errorCode) {
+        LongAdder counter = errorCodes.get(errorCode);
+        return counter == null ? ZERO : counter.sum();
+    }
+
+    /**
+     * @return number of requests that failed without a response
+     */
+    public long getFailureCount() {
+        return failures.sum();
+    }
+
+    public long getRequestBytes() {
+        return requestBytes.sum();
+    }
+
+    public long getResponseBytes() {
+        return responseBytes.sum();
+    }
+
+    /**
+     * @return number of requests sent and not yet completed
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private LatencyHistogram histogram(String method, String endpoint) {
+        ConcurrentHashMap<String, LatencyHistogram> histograms = latencies.get(method);
+        if (histograms == null) {
+            histograms = latencies.computeIfAbsent(method, k -> new ConcurrentHashMap<>());
+        }
+        LatencyHistogram histogram = histograms.get(endpoint);
+        return histogram != null ? histogram : histograms.computeIfAbsent(endpoint, k -> new LatencyHistogram());
+    }
+}
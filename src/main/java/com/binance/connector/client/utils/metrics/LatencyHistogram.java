@@ -0,0 +1,110 @@
+package com.binance.connector.client.utils.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free log-linear histogram of latencies, with a resolution of one microsecond and a relative error
+ * below 1.6%, in the manner of HdrHistogram with 2 significant digits.
+ * <br>
+ * Values below 128 microseconds have a bucket each; above, every power of two is split in 64 buckets.
+ * Latencies are recorded in microseconds up to about 19 hours, longer ones are counted in the last bucket.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_COUNT = 128;
+    private static final int SUB_BUCKET_HALF_BITS = 6;
+    private static final int SUB_BUCKET_HALF = 64;
+    private static final long MAX_VALUE = 0xFFFFFFFFFL;
+    private static final int BUCKET_COUNT = index(MAX_VALUE) + 1;
+    private static final double PERCENT = 100.0;
+    private static final int ZERO = 0;
+    private static final int ONE = 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, ZERO);
+
+    /**
+     * @param latency latency to record, negative values are counted as 0
+     * @param unit unit of {@code latency}
+     */
+    public void record(long latency, TimeUnit unit) {
+        long micros = Math.min(Math.max(unit.toMicros(latency), ZERO), MAX_VALUE);
+        counts.incrementAndGet(index(micros));
+        count.increment();
+        sum.add(micros);
+        max.accumulate(micros);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * @return highest recorded latency in microseconds
+     */
+    public long getMaxMicros() {
+        return max.get();
+    }
+
+    /**
+     * @return mean latency in microseconds, 0 if empty
+     */
+    public double getMeanMicros() {
+        long n = count.sum();
+        return n == ZERO ? ZERO : (double) sum.sum() / n;
+    }
+
+    /**
+     * @param percentile between 0 and 100, e.g. 99.9
+     * @return latency in microseconds under which {@code percentile}% of the recorded latencies fall,
+     *         rounded up to the end of their bucket; 0 if empty
+     */
+    public long getValueAtPercentile(double percentile) {
+        long total = count.sum();
+        if (total == ZERO) {
+            return ZERO;
+        }
+        long target = Math.max(ONE, (long) Math.ceil(Math.min(percentile, PERCENT) / PERCENT * total));
+        long cumulated = ZERO;
+        for (int i = ZERO; i < BUCKET_COUNT; i++) {
+            cumulated += counts.get(i);
+            if (cumulated >= target) {
+                return Math.min(highestEquivalentValue(i), getMaxMicros());
+            }
+        }
+        return getMaxMicros();
+    }
+
+    /**
+     * Clears the histogram. Latencies recorded concurrently may be partially kept.
+     */
+    public void reset() {
+        for (int i = ZERO; i < BUCKET_COUNT; i++) {
+            counts.set(i, ZERO);
+        }
+        count.reset();
+        sum.reset();
+        max.reset();
+    }
+
+    static int index(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = Long.SIZE - ONE - Long.numberOfLeadingZeros(value) - SUB_BUCKET_HALF_BITS;
+        return SUB_BUCKET_COUNT + (shift - ONE) * SUB_BUCKET_HALF + (int) (value >>> shift) - SUB_BUCKET_HALF;
+    }
+
+    static long highestEquivalentValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_HALF + ONE;
+        long subBucket = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_HALF + SUB_BUCKET_HALF;
+        return ((subBucket + ONE) << shift) - ONE;
+    }
+}
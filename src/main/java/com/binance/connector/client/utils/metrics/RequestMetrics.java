@@ -0,0 +1,58 @@
+package com.binance.connector.client.utils.metrics;
+
+/**
+ * Receives a measure of every REST request sent by the connector.
+ * <br>
+ * Each request is reported once by {@link #onRequest}, then either by {@link #onResponse} when a response was
+ * received, whatever its status, or by {@link #onFailure} when the call failed without one. The callbacks run on
+ * the thread executing the request, so implementations must be thread safe, fast and must not throw.
+ * <br>
+ * {@code endpoint} is the path of the request, e.g. {@code /api/v3/order}, without the query.
+ */
+public interface RequestMetrics {
+    /**
+     * Error code reported when the response carries none.
+     */
+    int NO_ERROR_CODE = 0;
+
+    /**
+     * Discards every measure; used when no metrics are configured.
+     */
+    RequestMetrics NOOP = new RequestMetrics() {
+        @Override
+        public void onRequest(String method, String endpoint, long requestBytes) {
+        }
+
+        @Override
+        public void onResponse(String method, String endpoint, int statusCode, int errorCode, long latencyNanos, long responseBytes) {
+        }
+
+        @Override
+        public void onFailure(String method, String endpoint, long latencyNanos) {
+        }
+    };
+
+    /**
+     * @param method HTTP method
+     * @param endpoint path of the request
+     * @param requestBytes length of the URL and body
+     */
+    void onRequest(String method, String endpoint, long requestBytes);
+
+    /**
+     * @param method HTTP method
+     * @param endpoint path of the request
+     * @param statusCode HTTP status of the response
+     * @param errorCode Binance error code of a 4XX response, {@link #NO_ERROR_CODE} otherwise
+     * @param latencyNanos time from sending the request to reading the whole body
+     * @param responseBytes length of the body
+     */
+    void onResponse(String method, String endpoint, int statusCode, int errorCode, long latencyNanos, long responseBytes);
+
+    /**
+     * @param method HTTP method
+     * @param endpoint path of the request
+     * @param latencyNanos time from sending the request to the failure
+     */
+    void onFailure(String method, String endpoint, long latencyNanos);
+}
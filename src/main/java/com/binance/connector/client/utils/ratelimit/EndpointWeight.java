@@ -0,0 +1,30 @@
+package com.binance.connector.client.utils.ratelimit;
+
+import com.binance.connector.client.enums.RateLimitType;
+
+/**
+ * Cost of a single request: the weight charged to one weight limit and the number of orders it places.
+ */
+public final class EndpointWeight {
+    private final int weight;
+    private final RateLimitType type;
+    private final int orders;
+
+    public EndpointWeight(int weight, RateLimitType type, int orders) {
+        this.weight = weight;
+        this.type = type;
+        this.orders = orders;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    public RateLimitType getType() {
+        return type;
+    }
+
+    public int getOrders() {
+        return orders;
+    }
+}
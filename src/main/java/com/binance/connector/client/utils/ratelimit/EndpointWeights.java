@@ -0,0 +1,286 @@
+package com.binance.connector.client.utils.ratelimit;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.binance.connector.client.enums.HttpMethod;
+import com.binance.connector.client.enums.RateLimitType;
+
+import okhttp3.HttpUrl;
+
+/**
+ * Request weights of the Market, Trade and Margin endpoints.
+ * <br>
+ * Endpoints that are not listed cost 1 on the IP weight limit of their path
+ * ({@code /api} or {@code /sapi}). Weights that depend on the parameters, such as the
+ * depth limit or the number of symbols of a ticker request, are computed from the URL.
+ *
+ * @see <a href="https://binance-docs.github.io/apidocs/spot/en/#limits">
+ *     https://binance-docs.github.io/apidocs/spot/en/#limits</a>
+ */
+public final class EndpointWeights {
+    private static final String API_PREFIX = "/api/";
+    private static final String SAPI_PREFIX = "/sapi/";
+    private static final int NOT_FOUND = -1;
+    private static final int DEFAULT_WEIGHT = 1;
+    private static final int NO_ORDER = 0;
+    private static final int SINGLE_ORDER = 1;
+    private static final int LIST_ORDERS = 2;
+
+    private static final String DEPTH = "GET /api/v3/depth";
+    private static final int DEPTH_DEFAULT_LIMIT = 100;
+    private static final int DEPTH_LIMIT_100 = 100;
+    private static final int DEPTH_LIMIT_500 = 500;
+    private static final int DEPTH_LIMIT_1000 = 1000;
+    private static final int DEPTH_WEIGHT_100 = 5;
+    private static final int DEPTH_WEIGHT_500 = 25;
+    private static final int DEPTH_WEIGHT_1000 = 50;
+    private static final int DEPTH_WEIGHT_5000 = 250;
+
+    private static final String TICKER_24H = "GET /api/v3/ticker/24hr";
+    private static final int TICKER_24H_SYMBOLS_20 = 20;
+    private static final int TICKER_24H_SYMBOLS_100 = 100;
+    private static final int TICKER_24H_WEIGHT_20 = 2;
+    private static final int TICKER_24H_WEIGHT_100 = 40;
+    private static final int TICKER_24H_WEIGHT_ALL = 80;
+
+    private static final String TICKER_PRICE = "GET /api/v3/ticker/price";
+    private static final String BOOK_TICKER = "GET /api/v3/ticker/bookTicker";
+    private static final int SINGLE_SYMBOL_WEIGHT = 2;
+    private static final int ALL_SYMBOLS_WEIGHT = 4;
+
+    private static final String ROLLING_TICKER = "GET /api/v3/ticker";
+    private static final String TRADING_DAY_TICKER = "GET /api/v3/ticker/tradingDay";
+    private static final int WEIGHT_PER_SYMBOL = 4;
+    private static final int MAX_TICKER_WEIGHT = 200;
+    private static final int ONE_SYMBOL = 1;
+
+    private static final String OPEN_ORDERS = "GET /api/v3/openOrders";
+    private static final int OPEN_ORDERS_ALL_SYMBOLS_WEIGHT = 80;
+
+    private static final String TEST_ORDER = "POST /api/v3/order/test";
+    private static final String TEST_SOR_ORDER = "POST /api/v3/sor/order/test";
+    private static final int COMMISSION_RATES_WEIGHT = 20;
+
+    private static final Map<String, EndpointWeight> WEIGHTS = table(
+            // Market
+            ip(HttpMethod.GET, "/api/v3/ping", 1),
+            ip(HttpMethod.GET, "/api/v3/time", 1),
+            ip(HttpMethod.GET, "/api/v3/exchangeInfo", 20),
+            ip(HttpMethod.GET, "/api/v3/trades", 25),
+            ip(HttpMethod.GET, "/api/v3/historicalTrades", 25),
+            ip(HttpMethod.GET, "/api/v3/aggTrades", 2),
+            ip(HttpMethod.GET, "/api/v3/klines", 2),
+            ip(HttpMethod.GET, "/api/v3/uiKlines", 2),
+            ip(HttpMethod.GET, "/api/v3/avgPrice", 2),
+            // Trade
+            ip(HttpMethod.POST, "/api/v3/order/test", 1),
+            order(HttpMethod.POST, "/api/v3/order", 1, SINGLE_ORDER),
+            ip(HttpMethod.GET, "/api/v3/order", 4),
+            ip(HttpMethod.DELETE, "/api/v3/order", 1),
+            ip(HttpMethod.GET, "/api/v3/openOrders", 6),
+            ip(HttpMethod.DELETE, "/api/v3/openOrders", 1),
+            order(HttpMethod.POST, "/api/v3/order/cancelReplace", 1, SINGLE_ORDER),
+            ip(HttpMethod.GET, "/api/v3/allOrders", 20),
+            order(HttpMethod.POST, "/api/v3/order/oco", 1, LIST_ORDERS),
+            ip(HttpMethod.GET, "/api/v3/orderList", 4),
+            ip(HttpMethod.DELETE, "/api/v3/orderList", 1),
+            ip(HttpMethod.GET, "/api/v3/allOrderList", 20),
+            ip(HttpMethod.GET, "/api/v3/openOrderList", 6),
+            ip(HttpMethod.GET, "/api/v3/account", 20),
+            ip(HttpMethod.GET, "/api/v3/myTrades", 20),
+            ip(HttpMethod.GET, "/api/v3/rateLimit/order", 40),
+            ip(HttpMethod.GET, "/api/v3/myPreventedMatches", 20),
+            ip(HttpMethod.GET, "/api/v3/myAllocations", 20),
+            ip(HttpMethod.GET, "/api/v3/account/commission", 20),
+            order(HttpMethod.POST, "/api/v3/sor/order", 1, SINGLE_ORDER),
+            ip(HttpMethod.POST, "/api/v3/sor/order/test", 1),
+            // Margin
+            ip(HttpMethod.GET, "/sapi/v1/margin/allAssets", 1),
+            ip(HttpMethod.GET, "/sapi/v1/margin/allPairs", 1),
+            ip(HttpMethod.GET, "/sapi/v1/margin/priceIndex", 10),
+            uid(HttpMethod.POST, "/sapi/v1/margin/order", 6),
+            ip(HttpMethod.GET, "/sapi/v1/margin/order", 10),
+            ip(HttpMethod.DELETE, "/sapi/v1/margin/order", 10),
+            ip(HttpMethod.GET, "/sapi/v1/margin/openOrders", 10),
+            ip(HttpMethod.DELETE, "/sapi/v1/margin/openOrders", 1),
+            ip(HttpMethod.GET, "/sapi/v1/margin/transfer", 1),
+            ip(HttpMethod.GET, "/sapi/v1/margin/repay", 10),
+            ip(HttpMethod.GET, "/sapi/v1/margin/interestHistory", 1),
+            ip(HttpMethod.GET, "/sapi/v1/margin/forceLiquidationRec", 1),
+            ip(HttpMethod.GET, "/sapi/v1/margin/account", 10),
+            ip(HttpMethod.GET, "/sapi/v1/margin/allOrders", 200),
+            uid(HttpMethod.POST, "/sapi/v1/margin/order/oco", 6),
+            ip(HttpMethod.GET, "/sapi/v1/margin/orderList", 10),
+            uid(HttpMethod.DELETE, "/sapi/v1/margin/orderList", 1),
+            ip(HttpMethod.GET, "/sapi/v1/margin/allOrderList", 200),
+            ip(HttpMethod.GET, "/sapi/v1/margin/openOrderList", 10),
+            ip(HttpMethod.GET, "/sapi/v1/margin/myTrades", 10),
+            ip(HttpMethod.GET, "/sapi/v1/margin/maxBorrowable", 50),
+            ip(HttpMethod.GET, "/sapi/v1/margin/maxTransferable", 50),
+            ip(HttpMethod.GET, "/sapi/v1/margin/isolated/account", 10),
+            ip(HttpMethod.GET, "/sapi/v1/margin/isolated/accountLimit", 1),
+            ip(HttpMethod.GET, "/sapi/v1/margin/isolated/allPairs", 10),
+            ip(HttpMethod.GET, "/sapi/v1/bnbBurn", 1),
+            ip(HttpMethod.POST, "/sapi/v1/bnbBurn", 1),
+            ip(HttpMethod.GET, "/sapi/v1/margin/interestRateHistory", 1),
+            ip(HttpMethod.GET, "/sapi/v1/margin/crossMarginData", 5),
+            ip(HttpMethod.GET, "/sapi/v1/margin/crossMarginCollateralRatio", 100),
+            uid(HttpMethod.POST, "/sapi/v1/margin/max-leverage", 3000),
+            ip(HttpMethod.GET, "/sapi/v1/margin/isolatedMarginData", 1),
+            ip(HttpMethod.GET, "/sapi/v1/margin/isolatedMarginTier", 1),
+            ip(HttpMethod.GET, "/sapi/v1/margin/rateLimit/order", 20),
+            uid(HttpMethod.GET, "/sapi/v1/margin/available-inventory", 50),
+            ip(HttpMethod.GET, "/sapi/v1/margin/capital-flow", 100),
+            ip(HttpMethod.GET, "/sapi/v1/margin/delist-schedule", 100),
+            ip(HttpMethod.GET, "/sapi/v1/margin/next-hourly-interest-rate", 100),
+            ip(HttpMethod.GET, "/sapi/v1/margin/exchange-small-liability", 100),
+            uid(HttpMethod.POST, "/sapi/v1/margin/exchange-small-liability", 3000),
+            ip(HttpMethod.GET, "/sapi/v1/margin/exchange-small-liability-history", 100),
+            ip(HttpMethod.GET, "/sapi/v1/margin/leverageBracket", 1),
+            ip(HttpMethod.GET, "/sapi/v1/margin/tradeCoeff", 10)
+    );
+
+    private EndpointWeights() {
+    }
+
+    /**
+     * @param method HTTP method of the request
+     * @param url full URL of the request, including the query string
+     * @return weight of the request
+     */
+    public static EndpointWeight of(String method, HttpUrl url) {
+        String path = endpointPath(url.encodedPath());
+        String key = method + " " + path;
+        switch (key) {
+            case DEPTH:
+                return new EndpointWeight(depthWeight(url), RateLimitType.REQUEST_WEIGHT, NO_ORDER);
+            case TICKER_24H:
+                return new EndpointWeight(ticker24hWeight(url), RateLimitType.REQUEST_WEIGHT, NO_ORDER);
+            case TICKER_PRICE:
+            case BOOK_TICKER:
+                return new EndpointWeight(url.queryParameter("symbol") != null ? SINGLE_SYMBOL_WEIGHT : ALL_SYMBOLS_WEIGHT,
+                        RateLimitType.REQUEST_WEIGHT, NO_ORDER);
+            case ROLLING_TICKER:
+            case TRADING_DAY_TICKER:
+                return new EndpointWeight(Math.min(WEIGHT_PER_SYMBOL * symbolCount(url), MAX_TICKER_WEIGHT),
+                        RateLimitType.REQUEST_WEIGHT, NO_ORDER);
+            case OPEN_ORDERS:
+                if (url.queryParameter("symbol") == null) {
+                    return new EndpointWeight(OPEN_ORDERS_ALL_SYMBOLS_WEIGHT, RateLimitType.REQUEST_WEIGHT, NO_ORDER);
+                }
+                break;
+            case TEST_ORDER:
+            case TEST_SOR_ORDER:
+                if ("true".equalsIgnoreCase(url.queryParameter("computeCommissionRates"))) {
+                    return new EndpointWeight(COMMISSION_RATES_WEIGHT, RateLimitType.REQUEST_WEIGHT, NO_ORDER);
+                }
+                break;
+            default:
+                break;
+        }
+        EndpointWeight weight = WEIGHTS.get(key);
+        if (weight != null) {
+            return weight;
+        }
+        RateLimitType type = path.startsWith(SAPI_PREFIX) ? RateLimitType.SAPI_IP_WEIGHT : RateLimitType.REQUEST_WEIGHT;
+        return new EndpointWeight(DEFAULT_WEIGHT, type, NO_ORDER);
+    }
+
+    /**
+     * Strips any prefix of the base URL, such as a gateway path, in front of {@code /api/} or {@code /sapi/}.
+     */
+    private static String endpointPath(String path) {
+        int index = path.indexOf(SAPI_PREFIX);
+        if (index == NOT_FOUND) {
+            index = path.indexOf(API_PREFIX);
+        }
+        return index == NOT_FOUND ? path : path.substring(index);
+    }
+
+    private static int depthWeight(HttpUrl url) {
+        int limit = DEPTH_DEFAULT_LIMIT;
+        String value = url.queryParameter("limit");
+        if (value != null) {
+            try {
+                limit = Integer.parseInt(value);
+            } catch (NumberFormatException e) {
+                limit = DEPTH_DEFAULT_LIMIT;
+            }
+        }
+        if (limit <= DEPTH_LIMIT_100) {
+            return DEPTH_WEIGHT_100;
+        } else if (limit <= DEPTH_LIMIT_500) {
+            return DEPTH_WEIGHT_500;
+        } else if (limit <= DEPTH_LIMIT_1000) {
+            return DEPTH_WEIGHT_1000;
+        }
+        return DEPTH_WEIGHT_5000;
+    }
+
+    private static int ticker24hWeight(HttpUrl url) {
+        if (url.queryParameter("symbol") == null && url.queryParameter("symbols") == null) {
+            return TICKER_24H_WEIGHT_ALL;
+        }
+        int count = symbolCount(url);
+        if (count <= TICKER_24H_SYMBOLS_20) {
+            return TICKER_24H_WEIGHT_20;
+        } else if (count <= TICKER_24H_SYMBOLS_100) {
+            return TICKER_24H_WEIGHT_100;
+        }
+        return TICKER_24H_WEIGHT_ALL;
+    }
+
+    /**
+     * Counts the symbols of a {@code symbols=["A","B"]} parameter. Requests without symbols
+     * are charged as a request for the whole market.
+     */
+    private static int symbolCount(HttpUrl url) {
+        if (url.queryParameter("symbol") != null) {
+            return ONE_SYMBOL;
+        }
+        String symbols = url.queryParameter("symbols");
+        if (symbols == null) {
+            return MAX_TICKER_WEIGHT;
+        }
+        int count = ONE_SYMBOL;
+        for (char c : symbols.toCharArray()) {
+            if (c == ',') {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static Entry ip(HttpMethod method, String path, int weight) {
+        RateLimitType type = path.startsWith(SAPI_PREFIX) ? RateLimitType.SAPI_IP_WEIGHT : RateLimitType.REQUEST_WEIGHT;
+        return new Entry(method, path, new EndpointWeight(weight, type, NO_ORDER));
+    }
+
+    private static Entry uid(HttpMethod method, String path, int weight) {
+        return new Entry(method, path, new EndpointWeight(weight, RateLimitType.SAPI_UID_WEIGHT, NO_ORDER));
+    }
+
+    private static Entry order(HttpMethod method, String path, int weight, int orders) {
+        return new Entry(method, path, new EndpointWeight(weight, RateLimitType.REQUEST_WEIGHT, orders));
+    }
+
+    private static Map<String, EndpointWeight> table(Entry... entries) {
+        Map<String, EndpointWeight> table = new HashMap<>();
+        for (Entry entry : entries) {
+            table.put(entry.key, entry.weight);
+        }
+        return Collections.unmodifiableMap(table);
+    }
+
+    private static final class Entry {
+        private final String key;
+        private final EndpointWeight weight;
+
+        private Entry(HttpMethod method, String path, EndpointWeight weight) {
+            this.key = method + " " + path;
+            this.weight = weight;
+        }
+    }
+}
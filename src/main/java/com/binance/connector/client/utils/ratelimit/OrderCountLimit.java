@@ -0,0 +1,94 @@
+package com.binance.connector.client.utils.ratelimit;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.binance.connector.client.enums.RateLimitType;
+import com.binance.connector.client.exceptions.BinanceConnectorException;
+
+/**
+ * Local count of the orders placed against the 10 seconds and daily order limits, for orders that are not
+ * sent through a {@link RateLimiter}, such as the orders of the WebSocket API.
+ * <br>
+ * The counts reported by the server can be applied with {@link #update(RateLimitType, long, long)}; as with the
+ * request weights, the larger of the local and server counts is kept.
+ */
+public final class OrderCountLimit {
+    private static final long NO_WAIT = 0L;
+    private static final int MIN_LIMIT = 1;
+
+    private final Map<RateLimitType, RateLimitWindow> windows = new EnumMap<>(RateLimitType.class);
+
+    /**
+     * Limits of {@link RateLimitType#ORDERS_10S} and {@link RateLimitType#ORDERS_1D} by default.
+     */
+    public OrderCountLimit() {
+        this(RateLimitType.ORDERS_10S.getDefaultLimit(), RateLimitType.ORDERS_1D.getDefaultLimit());
+    }
+
+    /**
+     * @param tenSecondsLimit orders allowed per 10 seconds
+     * @param dailyLimit orders allowed per day
+     */
+    public OrderCountLimit(int tenSecondsLimit, int dailyLimit) {
+        if (tenSecondsLimit < MIN_LIMIT || dailyLimit < MIN_LIMIT) {
+            throw new BinanceConnectorException("[OrderCountLimit] Limits must be positive.");
+        }
+        windows.put(RateLimitType.ORDERS_10S, new RateLimitWindow(tenSecondsLimit, RateLimitType.ORDERS_10S.getIntervalMillis()));
+        windows.put(RateLimitType.ORDERS_1D, new RateLimitWindow(dailyLimit, RateLimitType.ORDERS_1D.getIntervalMillis()));
+    }
+
+    /**
+     * Counts the orders if they fit in both limits.
+     *
+     * @param orders number of orders to place
+     * @param now current time in milliseconds
+     * @return 0 if the orders were counted, otherwise milliseconds to wait before they fit
+     */
+    public synchronized long tryAcquire(int orders, long now) {
+        long wait = NO_WAIT;
+        for (RateLimitWindow window : windows.values()) {
+            wait = Math.max(wait, window.waitMillis(orders, now));
+        }
+        if (wait > NO_WAIT) {
+            return wait;
+        }
+        for (RateLimitWindow window : windows.values()) {
+            window.acquire(orders, now);
+        }
+        return NO_WAIT;
+    }
+
+    /**
+     * @param type {@link RateLimitType#ORDERS_10S} or {@link RateLimitType#ORDERS_1D}
+     * @param used number of orders the server counted in the current interval
+     * @param now current time in milliseconds
+     */
+    public synchronized void update(RateLimitType type, long used, long now) {
+        window(type).update(used, now);
+    }
+
+    /**
+     * @param type {@link RateLimitType#ORDERS_10S} or {@link RateLimitType#ORDERS_1D}
+     * @return number of orders counted in the current interval
+     */
+    public synchronized long getUsed(RateLimitType type) {
+        return window(type).getUsed(System.currentTimeMillis());
+    }
+
+    /**
+     * @param type {@link RateLimitType#ORDERS_10S} or {@link RateLimitType#ORDERS_1D}
+     * @return configured limit
+     */
+    public int getLimit(RateLimitType type) {
+        return window(type).getLimit();
+    }
+
+    private RateLimitWindow window(RateLimitType type) {
+        RateLimitWindow window = windows.get(type);
+        if (window == null) {
+            throw new BinanceConnectorException("[OrderCountLimit] Not an order limit: " + type);
+        }
+        return window;
+    }
+}
@@ -0,0 +1,68 @@
+package com.binance.connector.client.utils.ratelimit;
+
+/**
+ * Usage of one limit within a fixed interval aligned on the epoch, like the intervals of the server.
+ * Not thread safe, guarded by {@link RateLimiter}.
+ */
+final class RateLimitWindow {
+    private static final long NO_WAIT = 0L;
+    private static final long EMPTY = 0L;
+
+    private final int limit;
+    private final long intervalMillis;
+    private long windowStart;
+    private long used;
+
+    RateLimitWindow(int limit, long intervalMillis) {
+        this.limit = limit;
+        this.intervalMillis = intervalMillis;
+    }
+
+    /**
+     * @return milliseconds to wait before {@code weight} fits in the window, 0 if it fits now
+     */
+    long waitMillis(long weight, long now) {
+        roll(now);
+        if (used == EMPTY || used + weight <= limit) {
+            return NO_WAIT;
+        }
+        return windowStart + intervalMillis - now;
+    }
+
+    void acquire(long weight, long now) {
+        roll(now);
+        used += weight;
+    }
+
+    /**
+     * Applies the usage reported by the server. The larger of both values is kept, as requests
+     * still in flight are counted locally but not yet by the server, while other clients sharing
+     * the IP are only counted by the server.
+     */
+    void update(long serverUsed, long now) {
+        roll(now);
+        used = Math.max(used, serverUsed);
+    }
+
+    long getUsed(long now) {
+        roll(now);
+        return used;
+    }
+
+    int getLimit() {
+        return limit;
+    }
+
+    long windowEnd(long now) {
+        roll(now);
+        return windowStart + intervalMillis;
+    }
+
+    private void roll(long now) {
+        long start = now - now % intervalMillis;
+        if (start != windowStart) {
+            windowStart = start;
+            used = EMPTY;
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package com.binance.connector.client.utils.ratelimit;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.binance.connector.client.enums.RateLimitPolicy;
+import com.binance.connector.client.enums.RateLimitType;
+import com.binance.connector.client.exceptions.BinanceConnectorException;
+import com.binance.connector.client.utils.ExecutorFactory;
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * Client side limiter pacing requests against the IP weight, UID weight and order count limits.
+ * <br>
+ * Each request is charged its {@link EndpointWeights endpoint weight} before it is sent, and the usage
+ * reported by the server in the {@code X-MBX-USED-WEIGHT-*}, {@code X-SAPI-USED-*} and
+ * {@code X-MBX-ORDER-COUNT-*} headers is applied to every response. A 429 or 418 response blocks all
+ * requests until its {@code Retry-After} has passed.
+ * <br>
+ * A request that does not fit is either delayed until the interval resets ({@link RateLimitPolicy#QUEUE})
+ * or rejected ({@link RateLimitPolicy#REJECT}). Rejected requests never reach the server and fail like a
+ * server side rate limit, with a {@link com.binance.connector.client.exceptions.BinanceClientException}
+ * of HTTP status 429 and error code -1003.
+ * <br>
+ * Queued synchronous requests wait on the calling thread. Asynchronous requests wait in
+ * {@link #acquireAsync(Request)} before they are enqueued, so they never hold an OkHttp dispatcher thread.
+ * <br>
+ * Limits apply per IP and per account, so one instance should be shared by every client of a process:
+ * <pre>
+ * RateLimiter rateLimiter = RateLimiter.builder().build();
+ * spotClient.setRateLimiter(rateLimiter);
+ * </pre>
+ */
+public final class RateLimiter implements Interceptor {
+    private static final Logger logger = LoggerFactory.getLogger(RateLimiter.class);
+    private static final int HTTP_STATUS_TOO_MANY_REQUESTS = 429;
+    private static final int HTTP_STATUS_IP_BANNED = 418;
+    private static final int TOO_MANY_REQUESTS_ERROR_CODE = -1003;
+    private static final MediaType JSON_TYPE = MediaType.parse("application/json; charset=utf-8");
+    private static final long DEFAULT_MAX_WAIT_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    private static final long SECOND_MILLIS = TimeUnit.SECONDS.toMillis(1);
+    private static final long NO_WAIT = 0L;
+    private static final int NO_ORDER = 0;
+    private static final int MIN_LIMIT = 1;
+
+    private final Map<RateLimitType, RateLimitWindow> windows = new EnumMap<>(RateLimitType.class);
+    private final RateLimitPolicy policy;
+    private final long maxWaitMillis;
+    private long bannedUntil;
+
+    private RateLimiter(Builder builder) {
+        for (RateLimitType type : RateLimitType.values()) {
+            windows.put(type, new RateLimitWindow(builder.limits.get(type), type.getIntervalMillis()));
+        }
+        this.policy = builder.policy;
+        this.maxWaitMillis = builder.maxWaitMillis;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        EndpointWeight cost = EndpointWeights.of(request.method(), request.url());
+
+        Permit permit = request.tag(Permit.class);
+        if (permit != null) {
+            return permit.granted() ? proceed(chain, cost) : rejected(request, permit.retryMillis);
+        }
+
+        long waited = NO_WAIT;
+        long wait = tryAcquire(cost);
+        while (wait > NO_WAIT) {
+            if (mustReject(request, waited, wait)) {
+                return rejected(request, wait);
+            }
+            sleep(wait);
+            waited += wait;
+            wait = tryAcquire(cost);
+        }
+        return proceed(chain, cost);
+    }
+
+    /**
+     * Waits for room in the limits without blocking a thread, for requests enqueued on the OkHttp dispatcher.
+     * The returned request carries the outcome, so {@link #intercept(Chain)} sends or rejects it without waiting again.
+     *
+     * @param request request to be sent through a client using this limiter
+     * @return future completed with the request to enqueue once it fits, or once it is to be rejected
+     */
+    public CompletableFuture<Request> acquireAsync(Request request) {
+        CompletableFuture<Request> future = new CompletableFuture<>();
+        acquireLater(request, EndpointWeights.of(request.method(), request.url()), NO_WAIT, future);
+        return future;
+    }
+
+    /**
+     * @param type limit
+     * @return usage of the limit in its current interval, as counted locally or reported by the server
+     */
+    public synchronized long getUsed(RateLimitType type) {
+        return windows.get(type).getUsed(System.currentTimeMillis());
+    }
+
+    /**
+     * @param type limit
+     * @return configured limit
+     */
+    public int getLimit(RateLimitType type) {
+        return windows.get(type).getLimit();
+    }
+
+    /**
+     * @return epoch millis until which requests are held back after a 429 or 418 response, 0 if never
+     */
+    public synchronized long getBannedUntil() {
+        return bannedUntil;
+    }
+
+    private synchronized long tryAcquire(EndpointWeight cost) {
+        long now = System.currentTimeMillis();
+        long wait = Math.max(bannedUntil - now, windows.get(cost.getType()).waitMillis(cost.getWeight(), now));
+        if (cost.getOrders() > NO_ORDER) {
+            wait = Math.max(wait, windows.get(RateLimitType.ORDERS_10S).waitMillis(cost.getOrders(), now));
+            wait = Math.max(wait, windows.get(RateLimitType.ORDERS_1D).waitMillis(cost.getOrders(), now));
+        }
+        if (wait > NO_WAIT) {
+            return wait;
+        }
+        windows.get(cost.getType()).acquire(cost.getWeight(), now);
+        if (cost.getOrders() > NO_ORDER) {
+            windows.get(RateLimitType.ORDERS_10S).acquire(cost.getOrders(), now);
+            windows.get(RateLimitType.ORDERS_1D).acquire(cost.getOrders(), now);
+        }
+        return NO_WAIT;
+    }
+
+    private void acquireLater(Request request, EndpointWeight cost, long waited, CompletableFuture<Request> future) {
+        long wait = tryAcquire(cost);
+        if (wait == NO_WAIT) {
+            future.complete(request.newBuilder().tag(Permit.class, new Permit(NO_WAIT)).build());
+        } else if (mustReject(request, waited, wait)) {
+            future.complete(request.newBuilder().tag(Permit.class, new Permit(wait)).build());
+        } else {
+            ExecutorFactory.sharedScheduler().schedule(() -> acquireLater(request, cost, waited + wait, future), wait, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private boolean mustReject(Request request, long waited, long wait) {
+        if (policy == RateLimitPolicy.REJECT || waited + wait > maxWaitMillis) {
+            logger.warn("[RateLimiter] Rejected {} {}, limit resets in {} ms", request.method(), request.url().encodedPath(), wait);
+            return true;
+        }
+        return false;
+    }
+
+    private Response proceed(Chain chain, EndpointWeight cost) throws IOException {
+        Response response = chain.proceed(chain.request());
+        update(cost, response);
+        return response;
+    }
+
+    private synchronized void update(EndpointWeight cost, Response response) {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<RateLimitType, RateLimitWindow> entry : windows.entrySet()) {
+            String value = response.header(entry.getKey().getHeader());
+            if (value != null) {
+                try {
+                    entry.getValue().update(Long.parseLong(value.trim()), now);
+                } catch (NumberFormatException e) {
+                    logger.debug("[RateLimiter] Ignoring header {}: {}", entry.getKey().getHeader(), value);
+                }
+            }
+        }
+
+        if (response.code() == HTTP_STATUS_TOO_MANY_REQUESTS || response.code() == HTTP_STATUS_IP_BANNED) {
+            long until = windows.get(cost.getType()).windowEnd(now);
+            String retryAfter = response.header("Retry-After");
+            if (retryAfter != null) {
+                try {
+                    until = now + TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter.trim()));
+                } catch (NumberFormatException e) {
+                    logger.debug("[RateLimiter] Ignoring header Retry-After: {}", retryAfter);
+                }
+            }
+            bannedUntil = Math.max(bannedUntil, until);
+            logger.warn("[RateLimiter] Received HTTP {}, holding requests back for {} ms", response.code(), bannedUntil - now);
+        }
+    }
+
+    private static Response rejected(Request request, long wait) {
+        JSONObject body = new JSONObject();
+        body.put("code", TOO_MANY_REQUESTS_ERROR_CODE);
+        body.put("msg", String.format("[RateLimiter] Request would exceed the rate limit, retry in %d ms.", wait));
+        return new Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_1_1)
+                .code(HTTP_STATUS_TOO_MANY_REQUESTS)
+                .message("Too Many Requests")
+                .header("Retry-After", String.valueOf(-Math.floorDiv(-wait, SECOND_MILLIS)))
+                .body(ResponseBody.create(body.toString(), JSON_TYPE))
+                .build();
+    }
+
+    private static void sleep(long millis) throws InterruptedIOException {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("[RateLimiter] Interrupted while waiting for the rate limit");
+        }
+    }
+
+    /**
+     * Outcome of {@link #acquireAsync(Request)}, attached to the request as a tag.
+     */
+    private static final class Permit {
+        private final long retryMillis;
+
+        private Permit(long retryMillis) {
+            this.retryMillis = retryMillis;
+        }
+
+        private boolean granted() {
+            return retryMillis == NO_WAIT;
+        }
+    }
+
+    public static final class Builder {
+        private final Map<RateLimitType, Integer> limits = new EnumMap<>(RateLimitType.class);
+        private RateLimitPolicy policy = RateLimitPolicy.QUEUE;
+        private long maxWaitMillis = DEFAULT_MAX_WAIT_MILLIS;
+
+        private Builder() {
+            for (RateLimitType type : RateLimitType.values()) {
+                limits.put(type, type.getDefaultLimit());
+            }
+        }
+
+        /**
+         * @param type limit to configure
+         * @param limit maximum usage per interval, e.g. lower than the server limit to keep headroom
+         *              for other processes sharing the IP
+         * @return Builder
+         */
+        public Builder limit(RateLimitType type, int limit) {
+            if (type == null || limit < MIN_LIMIT) {
+                throw new BinanceConnectorException("[RateLimiter] Limit must be positive.");
+            }
+            limits.put(type, limit);
+            return this;
+        }
+
+        /**
+         * @param rateLimitPolicy what to do with a request that does not fit in the current interval
+         * @return Builder
+         */
+        public Builder policy(RateLimitPolicy rateLimitPolicy) {
+            if (rateLimitPolicy == null) {
+                throw new BinanceConnectorException("[RateLimiter] Policy cannot be null.");
+            }
+            this.policy = rateLimitPolicy;
+            return this;
+        }
+
+        /**
+         * @param timeout longest time a request is queued before it is rejected
+         * @param unit unit of {@code timeout}
+         * @return Builder
+         */
+        public Builder maxWait(long timeout, TimeUnit unit) {
+            if (timeout < NO_WAIT || unit == null) {
+                throw new BinanceConnectorException("[RateLimiter] Max wait must not be negative.");
+            }
+            this.maxWaitMillis = unit.toMillis(timeout);
+            return this;
+        }
+
+        public RateLimiter build() {
+            return new RateLimiter(this);
+        }
+    }
+}
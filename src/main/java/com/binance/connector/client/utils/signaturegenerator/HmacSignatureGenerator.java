@@ -1,5 +1,7 @@
 package com.binance.connector.client.utils.signaturegenerator;
 
+import java.security.GeneralSecurityException;
+
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 import org.apache.commons.codec.binary.Hex;
@@ -8,23 +10,66 @@ import com.binance.connector.client.utils.ParameterChecker;
 
 public final class HmacSignatureGenerator implements SignatureGenerator {
     private static final String HMAC_SHA256 = "HmacSHA256";
-    private String apiSecret;
+    private static final int START = 0;
+    private final SecretKeySpec secretKeySpec;
+    private final Mac prototype;
+    // Mac instances are not thread safe, each thread signs with its own clone of the initialized prototype
+    private final ThreadLocal<Mac> mac = ThreadLocal.withInitial(this::newMac);
 
     public HmacSignatureGenerator(String apiSecret) {
         ParameterChecker.checkParameterType(apiSecret, String.class, "apiSecret");
-        this.apiSecret = apiSecret;
+        this.secretKeySpec = new SecretKeySpec(apiSecret.getBytes(), HMAC_SHA256);
+        this.prototype = initMac();
     }
 
     public String getSignature(String data) {
-        byte[] hmacSha256;
+        return Hex.encodeHexString(mac.get().doFinal(data.getBytes()));
+    }
+
+    @Override
+    public String getSignature(byte[] payload, int offset, int length) {
+        Mac m = mac.get();
+        m.update(payload, offset, length);
+        return Hex.encodeHexString(m.doFinal());
+    }
+
+    /**
+     * Computes the raw HMAC-SHA256 of {@code length} bytes of {@code payload} into {@code output}, without allocating.
+     *
+     * @param payload buffer holding the payload
+     * @param offset start of the payload in the buffer
+     * @param length length of the payload
+     * @param output array receiving the MAC from index 0, at least 32 bytes long
+     * @return number of bytes written to {@code output}
+     */
+    public int sign(byte[] payload, int offset, int length, byte[] output) {
+        Mac m = mac.get();
+        m.update(payload, offset, length);
         try {
-            SecretKeySpec secretKeySpec = new SecretKeySpec(apiSecret.getBytes(), HMAC_SHA256);
-            Mac mac = Mac.getInstance(HMAC_SHA256);
-            mac.init(secretKeySpec);
-            hmacSha256 = mac.doFinal(data.getBytes());
+            m.doFinal(output, START);
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException("Failed to calculate hmac-sha256", e);
+        }
+        return m.getMacLength();
+    }
+
+    private Mac initMac() {
+        try {
+            Mac m = Mac.getInstance(HMAC_SHA256);
+            m.init(secretKeySpec);
+            return m;
         } catch (Exception e) {
             throw new RuntimeException("Failed to calculate hmac-sha256", e);
         }
-        return Hex.encodeHexString(hmacSha256);
+    }
+
+    private Mac newMac() {
+        synchronized (prototype) {
+            try {
+                return (Mac) prototype.clone();
+            } catch (CloneNotSupportedException e) {
+                return initMac();
+            }
+        }
     }
 }
@@ -1,5 +1,20 @@
 package com.binance.connector.client.utils.signaturegenerator;
 
+import java.nio.charset.StandardCharsets;
+
 public interface SignatureGenerator {
     String getSignature(String payload);
+
+    /**
+     * Signs {@code length} bytes of {@code payload} starting at {@code offset}.
+     * Implementations able to sign the bytes directly should override it to avoid decoding the payload.
+     *
+     * @param payload buffer holding the ASCII payload
+     * @param offset start of the payload in the buffer
+     * @param length length of the payload
+     * @return signature
+     */
+    default String getSignature(byte[] payload, int offset, int length) {
+        return getSignature(new String(payload, offset, length, StandardCharsets.US_ASCII));
+    }
 }
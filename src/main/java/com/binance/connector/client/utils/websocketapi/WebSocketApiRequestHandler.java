@@ -1,19 +1,66 @@
 package com.binance.connector.client.utils.websocketapi;
 
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
 import com.binance.connector.client.enums.RequestType;
+import com.binance.connector.client.enums.SessionState;
+import com.binance.connector.client.exceptions.BinanceClientException;
 import com.binance.connector.client.exceptions.BinanceConnectorException;
+import com.binance.connector.client.exceptions.BinanceServerException;
+import com.binance.connector.client.utils.ExecutorFactory;
 import com.binance.connector.client.utils.JSONParser;
 import com.binance.connector.client.utils.ParameterChecker;
 import com.binance.connector.client.utils.UrlBuilder;
 import com.binance.connector.client.utils.WebSocketConnection;
+import com.binance.connector.client.utils.signaturegenerator.Ed25519SignatureGenerator;
 import com.binance.connector.client.utils.signaturegenerator.SignatureGenerator;
 
+import org.json.JSONException;
 import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+/**
+ * Sends the requests of the WebSocket API and matches the responses to them by id.
+ * <br>
+ * Each request returns a CompletableFuture completed with the response when it arrives, completed
+ * exceptionally with a {@link BinanceClientException} or {@link BinanceServerException} when the response
+ * has an error status, and with a {@link BinanceConnectorException} when no response arrives before the
+ * request timeout or the connection is lost first.
+ * <br>
+ * The handler also follows the authentication of its connection. Once a {@code session.logon} succeeds, signed
+ * and API key requests are sent without API key, timestamp and signature, skipping the sorting and signing of
+ * their parameters, until a {@code session.logout}, a {@code session.status} reporting no session, or the loss
+ * of the connection. With {@link #setAutoLogon(boolean)}, the session is logged on each time the connection opens.
+ */
 public class WebSocketApiRequestHandler {
+    public static final long DEFAULT_REQUEST_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(10);
+    private static final String ID_PREFIX = "{\"id\":";
+    private static final String STRING_ID_PREFIX = ID_PREFIX + "\"";
+    private static final String STATUS_KEY = "\"status\":";
+    private static final int HTTP_STATUS_OK = 200;
+    private static final int HTTP_STATUS_CODE_400 = 400;
+    private static final int HTTP_STATUS_CODE_499 = 499;
+    private static final int NOT_FOUND = -1;
+    private static final long NO_TIMEOUT = 0L;
+    private static final String SESSION_LOGON = "session.logon";
+    private static final String SESSION_STATUS = "session.status";
+    private static final String SESSION_LOGOUT = "session.logout";
+    private static final String AUTHORIZED_SINCE = "authorizedSince";
+    private static final Logger logger = LoggerFactory.getLogger(WebSocketApiRequestHandler.class);
+
     private final SignatureGenerator signatureGenerator;
     private final String apiKey;
+    private final Map<String, PendingRequest> pendingRequests = new ConcurrentHashMap<>();
     private WebSocketConnection connection;
+    private volatile long requestTimeoutMillis = DEFAULT_REQUEST_TIMEOUT_MILLIS;
+    private volatile SessionState sessionState = SessionState.LOGGED_OUT;
+    private volatile boolean autoLogon;
 
     public WebSocketApiRequestHandler(WebSocketConnection connection, String apiKey, SignatureGenerator signatureGenerator) {
         if (connection == null) {
@@ -24,37 +71,124 @@ public class WebSocketApiRequestHandler {
         this.signatureGenerator = signatureGenerator;
     }
 
-    public void publicRequest(String method) {
-        this.request(RequestType.PUBLIC, method, null);
+    /**
+     * @param timeout time to wait for the response of each request sent afterwards, 0 to wait forever
+     * @param unit unit of {@code timeout}
+     */
+    public void setRequestTimeout(long timeout, TimeUnit unit) {
+        if (timeout < NO_TIMEOUT || unit == null) {
+            throw new BinanceConnectorException("[WebSocketApiRequestHandler] Request timeout must not be negative.");
+        }
+        this.requestTimeoutMillis = unit.toMillis(timeout);
+    }
+
+    /**
+     * @return number of requests sent and waiting for their response
+     */
+    public int getPendingRequestCount() {
+        return pendingRequests.size();
+    }
+
+    public CompletableFuture<String> publicRequest(String method) {
+        return this.request(RequestType.PUBLIC, method, null);
+    }
+
+    public CompletableFuture<String> publicRequest(String method, JSONObject parameters) {
+        return this.request(RequestType.PUBLIC, method, parameters);
+    }
+
+    /**
+     * @param enabled true to send a {@code session.logon} each time the connection opens, which needs an
+     *                Ed25519 key
+     */
+    public void setAutoLogon(boolean enabled) {
+        if (enabled) {
+            checkLogon();
+        }
+        this.autoLogon = enabled;
+    }
+
+    /**
+     * @return authentication state of the connection
+     */
+    public SessionState getSessionState() {
+        return sessionState;
     }
 
-    public void publicRequest(String method, JSONObject parameters) {
-        this.request(RequestType.PUBLIC, method, parameters);
+    public CompletableFuture<String> apiRequest(String method, JSONObject parameters) {
+        RequestType requestType = sessionState == SessionState.AUTHORIZED ? RequestType.PUBLIC : RequestType.WITH_API_KEY;
+        return this.request(requestType, method, parameters);
     }
 
-    public void apiRequest(String method, JSONObject parameters) {
-        RequestType requestType = this.connection.getSessionStatus() ? RequestType.PUBLIC : RequestType.WITH_API_KEY;
-        this.request(requestType, method, parameters);
+    public CompletableFuture<String> signedRequest(String method, JSONObject parameters) {
+        RequestType requestType = sessionState == SessionState.AUTHORIZED ? RequestType.PUBLIC : RequestType.SIGNED;
+        return this.request(requestType, method, parameters);
     }
 
-    public void signedRequest(String method, JSONObject parameters) {
-        RequestType requestType = this.connection.getSessionStatus() ? RequestType.PUBLIC : RequestType.SIGNED;
-        this.request(requestType, method, parameters);
+    /**
+     * Authenticates the connection with the API key, which needs an Ed25519 key.
+     *
+     * @param parameters parameters of the request, may be null
+     * @return CompletableFuture completed with the response
+     */
+    public CompletableFuture<String> logon(JSONObject parameters) {
+        checkLogon();
+        return this.request(RequestType.SIGNED, SESSION_LOGON, parameters);
     }
 
-    public void request(RequestType requestType, String method, JSONObject parameters) {
+    /**
+     * Called when the connection opens, including after a reconnection.
+     */
+    public void onConnected() {
+        sessionState = SessionState.LOGGED_OUT;
+        if (!autoLogon) {
+            return;
+        }
+        logon(null).whenComplete((response, t) -> {
+            if (t != null) {
+                logger.warn("[WebSocketApiRequestHandler] Session logon failed: {}", t.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Called when the connection is closed or lost: the session ends with it and the pending requests fail.
+     *
+     * @param reason why the connection ended
+     */
+    public void onDisconnected(String reason) {
+        sessionState = SessionState.LOGGED_OUT;
+        failPendingRequests(reason);
+    }
+
+    public CompletableFuture<String> request(RequestType requestType, String method, JSONObject parameters) {
+        return request(requestType, method, parameters, requestTimeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Same as {@link #request(RequestType, String, JSONObject)} with its own timeout.
+     *
+     * @param requestType how the request is authenticated
+     * @param method method of the request, e.g. order.place
+     * @param parameters parameters of the request, may be null
+     * @param timeout time to wait for the response, 0 to wait forever
+     * @param unit unit of {@code timeout}
+     * @return CompletableFuture completed with the response
+     */
+    public CompletableFuture<String> request(RequestType requestType, String method, JSONObject parameters, long timeout, TimeUnit unit) {
         Object requestId = ParameterChecker.processId(JSONParser.pullValue(parameters, "requestId"), "requestId"); 
         ParameterChecker.checkParameterType(method, String.class, "method");
+        String message;
 
         switch (requestType) {
             case PUBLIC:
-                this.connection.send(JSONParser.buildJSONString(requestId, method, parameters));
+                message = JSONParser.buildJSONString(requestId, method, parameters);
                 break;
             case WITH_API_KEY:
                 ParameterChecker.checkParameterType(this.apiKey, String.class, "apiKey");
                 parameters = JSONParser.addKeyValue(parameters, "apiKey", this.apiKey);
 
-                this.connection.send(JSONParser.buildJSONString(requestId, method, parameters));
+                message = JSONParser.buildJSONString(requestId, method, parameters);
                 break;
             case SIGNED:
                 ParameterChecker.checkParameterType(this.apiKey, String.class, "apiKey");
@@ -69,10 +203,176 @@ public class WebSocketApiRequestHandler {
                 String signature = this.signatureGenerator.getSignature(payload);
                 parameters.put("signature", signature);
 
-                this.connection.send(JSONParser.buildJSONString(requestId, method, parameters));
+                message = JSONParser.buildJSONString(requestId, method, parameters);
                 break;
             default:
                 throw new BinanceConnectorException("[WebSocketApiRequestHandler] Invalid request type: " + requestType);
         }
+        CompletableFuture<String> response = send(String.valueOf(requestId), message, unit.toMillis(timeout));
+        // only once sent, a logon that fails to go out leaves the state as it was
+        if (SESSION_LOGON.equals(method)) {
+            sessionState = SessionState.LOGGING_ON;
+        }
+        if (SESSION_LOGON.equals(method) || SESSION_STATUS.equals(method) || SESSION_LOGOUT.equals(method)) {
+            response.whenComplete(this::onSessionResponse);
+        }
+        return response;
+    }
+
+    /**
+     * Session responses hold the time the session was authorized, null when it is not.
+     */
+    private void onSessionResponse(String response, Throwable t) {
+        if (t != null) {
+            if (sessionState == SessionState.LOGGING_ON) {
+                sessionState = SessionState.LOGGED_OUT;
+            }
+            return;
+        }
+        try {
+            JSONObject result = new JSONObject(response).getJSONObject("result");
+            sessionState = result.isNull(AUTHORIZED_SINCE) ? SessionState.LOGGED_OUT : SessionState.AUTHORIZED;
+        } catch (JSONException e) {
+            logger.warn("[WebSocketApiRequestHandler] Unexpected session response: {}", response);
+        }
+    }
+
+    private void checkLogon() {
+        checkLogon(this.apiKey, this.signatureGenerator);
+    }
+
+    /**
+     * @param apiKey API key of the session
+     * @param signatureGenerator signature generator of the session
+     * @throws BinanceConnectorException unless the key can log a session on, which needs an Ed25519 key
+     */
+    public static void checkLogon(String apiKey, SignatureGenerator signatureGenerator) {
+        ParameterChecker.checkParameterType(apiKey, String.class, "apiKey");
+        if (!(signatureGenerator instanceof Ed25519SignatureGenerator)) {
+            throw new BinanceConnectorException("[WebSocketApiRequestHandler] Session logon needs an Ed25519 key.");
+        }
+    }
+
+    /**
+     * Completes the request the message responds to, if any. Called for every message of the connection.
+     *
+     * @param message message received on the connection
+     * @return true if the message was the response to a pending request
+     */
+    public boolean onMessage(String message) {
+        if (pendingRequests.isEmpty()) {
+            return false;
+        }
+        String id = responseId(message);
+        PendingRequest pending = id == null ? null : pendingRequests.remove(id);
+        if (pending == null) {
+            return false;
+        }
+        pending.cancelTimeout();
+        int status = responseStatus(message);
+        if (status == HTTP_STATUS_OK || status == NOT_FOUND) {
+            pending.future.complete(message);
+        } else if (status >= HTTP_STATUS_CODE_400 && status <= HTTP_STATUS_CODE_499) {
+            pending.future.completeExceptionally(clientException(message, status));
+        } else {
+            pending.future.completeExceptionally(new BinanceServerException(message, status));
+        }
+        return true;
+    }
+
+    /**
+     * Fails every pending request, e.g. when the connection is lost, as their responses will never arrive.
+     *
+     * @param reason why the requests failed
+     */
+    public void failPendingRequests(String reason) {
+        Iterator<PendingRequest> iter = pendingRequests.values().iterator();
+        while (iter.hasNext()) {
+            PendingRequest pending = iter.next();
+            iter.remove();
+            pending.cancelTimeout();
+            pending.future.completeExceptionally(new BinanceConnectorException("[WebSocketApiRequestHandler] " + reason));
+        }
+    }
+
+    private CompletableFuture<String> send(String id, String message, long timeoutMillis) {
+        PendingRequest pending = new PendingRequest();
+        if (pendingRequests.putIfAbsent(id, pending) != null) {
+            throw new BinanceConnectorException("[WebSocketApiRequestHandler] A request with id " + id + " is already pending.");
+        }
+        try {
+            this.connection.send(message);
+        } catch (RuntimeException e) {
+            pendingRequests.remove(id, pending);
+            throw e;
+        }
+        if (timeoutMillis > NO_TIMEOUT && !pending.future.isDone()) {
+            pending.timeout = ExecutorFactory.sharedScheduler().schedule(() -> {
+                if (pendingRequests.remove(id, pending)) {
+                    pending.future.completeExceptionally(new BinanceConnectorException(
+                            "[WebSocketApiRequestHandler] No response to request " + id + " after " + timeoutMillis + " ms"));
+                }
+            }, timeoutMillis, TimeUnit.MILLISECONDS);
+        }
+        // the request is forgotten when the caller cancels it
+        pending.future.whenComplete((response, t) -> {
+            if (pending.future.isCancelled() && pendingRequests.remove(id, pending)) {
+                pending.cancelTimeout();
+            }
+        });
+        return pending.future;
+    }
+
+    /**
+     * Responses start with their id, e.g. {@code {"id":"e2a85d9f-07a5-4f94-8d5f-789dc3deb097","status":200,...}}.
+     */
+    private static String responseId(String message) {
+        if (message.startsWith(STRING_ID_PREFIX)) {
+            int end = message.indexOf('"', STRING_ID_PREFIX.length());
+            return end == NOT_FOUND ? null : message.substring(STRING_ID_PREFIX.length(), end);
+        } else if (message.startsWith(ID_PREFIX)) {
+            int end = message.indexOf(',', ID_PREFIX.length());
+            return end == NOT_FOUND ? null : message.substring(ID_PREFIX.length(), end);
+        }
+        try {
+            Object id = new JSONObject(message).opt("id");
+            return id == null || JSONObject.NULL.equals(id) ? null : String.valueOf(id);
+        } catch (JSONException e) {
+            return null;
+        }
+    }
+
+    private static int responseStatus(String message) {
+        int start = message.indexOf(STATUS_KEY);
+        if (start == NOT_FOUND) {
+            return NOT_FOUND;
+        }
+        start += STATUS_KEY.length();
+        int end = start;
+        while (end < message.length() && Character.isDigit(message.charAt(end))) {
+            end++;
+        }
+        return end == start ? NOT_FOUND : Integer.parseInt(message.substring(start, end));
+    }
+
+    private static BinanceClientException clientException(String message, int status) {
+        try {
+            JSONObject error = new JSONObject(message).getJSONObject("error");
+            return new BinanceClientException(message, error.optString("msg"), status, error.optInt("code"));
+        } catch (JSONException e) {
+            return new BinanceClientException(message, status);
+        }
+    }
+
+    private static final class PendingRequest {
+        private final CompletableFuture<String> future = new CompletableFuture<>();
+        private volatile ScheduledFuture<?> timeout;
+
+        private void cancelTimeout() {
+            ScheduledFuture<?> task = timeout;
+            if (task != null) {
+                task.cancel(false);
+            }
+        }
     }
 }
@@ -0,0 +1,11 @@
+package com.binance.connector.client.utils.websocketcallback;
+
+@FunctionalInterface
+public interface StreamEventCallback<E> {
+    /**
+     * onEvent will be called with each decoded event of its type.
+     *
+     * @param event The event, reused for the next message: copy the values to keep them.
+     */
+    void onEvent(E event);
+}
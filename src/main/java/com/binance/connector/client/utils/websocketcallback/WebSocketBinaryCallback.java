@@ -0,0 +1,19 @@
+package com.binance.connector.client.utils.websocketcallback;
+
+import java.nio.ByteBuffer;
+
+@FunctionalInterface
+public interface WebSocketBinaryCallback {
+    /**
+     * onMessage will be called when a binary frame is received from server.
+     * <br>
+     * A message callback also implementing this interface receives the binary frames of its connection;
+     * other message callbacks receive them decoded as UTF-8 text.
+     * <br>
+     * The Binance JSON streams are sent as text frames, which OkHttp always delivers as a {@code String}:
+     * their messages still go to {@link WebSocketMessageCallback#onMessage(String)}, never to this method.
+     *
+     * @param data Read-only view of the frame, valid during the call only.
+     */
+    void onMessage(ByteBuffer data);
+}
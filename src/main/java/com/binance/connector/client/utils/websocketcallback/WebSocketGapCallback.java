@@ -0,0 +1,15 @@
+package com.binance.connector.client.utils.websocketcallback;
+
+@FunctionalInterface
+public interface WebSocketGapCallback {
+    /**
+     * onGap will be called when a connection lost by failure or closed by the server has been reopened.
+     * Messages sent by the server in between were missed, so local state built from the stream,
+     * e.g. an order book, has to be synchronised again.
+     *
+     * @param connectionId ID of the connection that was reopened
+     * @param disconnectedAt epoch millis at which the connection was lost
+     * @param reconnectedAt epoch millis at which the connection was reopened
+     */
+    void onGap(int connectionId, long disconnectedAt, long reconnectedAt);
+}
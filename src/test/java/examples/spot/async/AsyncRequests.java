@@ -0,0 +1,27 @@
+package examples.spot.async;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import com.binance.connector.client.SpotClient;
+import com.binance.connector.client.impl.SpotClientImpl;
+
+public final class AsyncRequests {
+    private AsyncRequests() {
+    }
+
+    public static void main(String[] args) {
+        SpotClient client = new SpotClientImpl();
+
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("symbol", "BTCUSDT");
+
+        CompletableFuture<String> depth = client.createMarket().depthAsync(parameters);
+        CompletableFuture<String> time = client.createMarket().timeAsync();
+
+        CompletableFuture.allOf(depth, time).join();
+        System.out.println(depth.join());
+        System.out.println(time.join());
+    }
+}
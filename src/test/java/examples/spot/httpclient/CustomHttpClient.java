@@ -0,0 +1,40 @@
+package examples.spot.httpclient;
+
+import java.util.concurrent.TimeUnit;
+
+import com.binance.connector.client.SpotClient;
+import com.binance.connector.client.impl.SpotClientImpl;
+import com.binance.connector.client.utils.httpclient.HttpClientConfig;
+
+import okhttp3.OkHttpClient;
+
+public final class CustomHttpClient {
+    private CustomHttpClient() {
+    }
+
+    private static final int poolSize = 20;
+    private static final int maxRequestsPerHost = 32;
+    private static final long keepAliveMinutes = 5;
+    private static final long timeoutSeconds = 5;
+
+    public static void main(String[] args) {
+        HttpClientConfig config = HttpClientConfig.builder()
+                .poolSize(poolSize)
+                .keepAlive(keepAliveMinutes, TimeUnit.MINUTES)
+                .maxRequestsPerHost(maxRequestsPerHost)
+                .preferHttp2(true)
+                .connectTimeout(timeoutSeconds, TimeUnit.SECONDS)
+                .readTimeout(timeoutSeconds, TimeUnit.SECONDS)
+                .build();
+
+        SpotClient client = new SpotClientImpl();
+        client.setHttpClientConfig(config);
+        System.out.println(client.createMarket().time());
+
+        // Share the same connection pool and dispatcher with a second client
+        OkHttpClient sharedHttpClient = client.getHttpClient();
+        SpotClient otherClient = new SpotClientImpl();
+        otherClient.setHttpClient(sharedHttpClient);
+        System.out.println(otherClient.createMarket().time());
+    }
+}
@@ -0,0 +1,38 @@
+package examples.spot.ratelimit;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.binance.connector.client.SpotClient;
+import com.binance.connector.client.enums.RateLimitPolicy;
+import com.binance.connector.client.enums.RateLimitType;
+import com.binance.connector.client.impl.SpotClientImpl;
+import com.binance.connector.client.utils.ratelimit.RateLimiter;
+
+public final class RateLimitedRequests {
+    private RateLimitedRequests() {
+    }
+
+    private static final int requestWeightLimit = 5000;
+    private static final long maxWaitSeconds = 10;
+    private static final int limit = 5000;
+
+    public static void main(String[] args) {
+        RateLimiter rateLimiter = RateLimiter.builder()
+                .limit(RateLimitType.REQUEST_WEIGHT, requestWeightLimit)
+                .policy(RateLimitPolicy.QUEUE)
+                .maxWait(maxWaitSeconds, TimeUnit.SECONDS)
+                .build();
+
+        SpotClient client = new SpotClientImpl();
+        client.setRateLimiter(rateLimiter);
+
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("symbol", "BNBUSDT");
+        parameters.put("limit", limit);
+
+        System.out.println(client.createMarket().depth(parameters));
+        System.out.println("Used weight: " + rateLimiter.getUsed(RateLimitType.REQUEST_WEIGHT));
+    }
+}
@@ -0,0 +1,41 @@
+package examples.websocketapi.authentication;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+
+import com.binance.connector.client.enums.DefaultUrls;
+import com.binance.connector.client.impl.WebSocketApiClientImpl;
+import com.binance.connector.client.utils.ReconnectPolicy;
+import com.binance.connector.client.utils.signaturegenerator.Ed25519SignatureGenerator;
+
+import examples.PrivateConfig;
+
+public final class AutoLogon {
+
+    private AutoLogon() {
+    }
+
+    private static final int waitTime = 60000;
+
+    public static void main(String[] args) throws InterruptedException, FileNotFoundException, IOException {
+
+        Ed25519SignatureGenerator signatureGenerator = new Ed25519SignatureGenerator(PrivateConfig.TESTNET_PRIVATE_KEY_PATH);
+        WebSocketApiClientImpl wsApiClient = new WebSocketApiClientImpl(PrivateConfig.TESTNET_API_KEY, signatureGenerator, DefaultUrls.TESTNET_WS_API_URL);
+        wsApiClient.setAutoLogon(true);
+        wsApiClient.setReconnectPolicy(ReconnectPolicy.builder().build());
+
+        wsApiClient.connect(((message) -> {
+            System.out.println(message);
+        }));
+
+        // sent without signature once the session is logged on
+        wsApiClient.account().accountStatus(null).thenAccept(response -> {
+            System.out.println(wsApiClient.getSessionState() + " " + response);
+        });
+
+        Thread.sleep(waitTime);
+
+        wsApiClient.close();
+
+    }
+}
@@ -1,12 +1,15 @@
 package examples.websocketapi.authentication;
 
+import java.io.FileNotFoundException;
+import java.io.IOException;
+
 import org.json.JSONObject;
 
 import com.binance.connector.client.WebSocketApiClient;
 import com.binance.connector.client.enums.DefaultUrls;
 import com.binance.connector.client.impl.WebSocketApiClientImpl;
 import com.binance.connector.client.impl.websocketapi.WebSocketApiAuth;
-import com.binance.connector.client.utils.signaturegenerator.HmacSignatureGenerator;
+import com.binance.connector.client.utils.signaturegenerator.Ed25519SignatureGenerator;
 
 import examples.PrivateConfig;
 
@@ -17,9 +20,9 @@ public final class Logon {
 
     private static final int waitTime = 60000;
 
-    public static void main(String[] args) throws InterruptedException {
+    public static void main(String[] args) throws InterruptedException, FileNotFoundException, IOException {
 
-        HmacSignatureGenerator signatureGenerator = new HmacSignatureGenerator(PrivateConfig.TESTNET_SECRET_KEY);
+        Ed25519SignatureGenerator signatureGenerator = new Ed25519SignatureGenerator(PrivateConfig.TESTNET_PRIVATE_KEY_PATH);
         WebSocketApiClient wsApiClient = new WebSocketApiClientImpl(PrivateConfig.TESTNET_API_KEY, signatureGenerator, DefaultUrls.TESTNET_WS_API_URL);
 
         wsApiClient.connect(((message) -> {
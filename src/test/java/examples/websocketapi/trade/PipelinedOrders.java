@@ -0,0 +1,55 @@
+package examples.websocketapi.trade;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.json.JSONObject;
+
+import com.binance.connector.client.WebSocketApiClient;
+import com.binance.connector.client.enums.DefaultUrls;
+import com.binance.connector.client.impl.SpotClientImpl;
+import com.binance.connector.client.impl.WebSocketApiClientImpl;
+import com.binance.connector.client.impl.trading.OrderGateway;
+import com.binance.connector.client.utils.signaturegenerator.HmacSignatureGenerator;
+
+import examples.PrivateConfig;
+
+public final class PipelinedOrders {
+
+    private PipelinedOrders() {
+    }
+
+    private static final double quantity = 0.001;
+    private static final int first = 0;
+    private static final int orderCount = 20;
+    private static final int maxInFlight = 5;
+    private static final double p99 = 99.0;
+
+    public static void main(String[] args) {
+
+        HmacSignatureGenerator signatureGenerator = new HmacSignatureGenerator(PrivateConfig.TESTNET_SECRET_KEY);
+        WebSocketApiClient wsApiClient = new WebSocketApiClientImpl(PrivateConfig.TESTNET_API_KEY, signatureGenerator, DefaultUrls.TESTNET_WS_API_URL);
+        wsApiClient.connect(message -> { });
+        SpotClientImpl spotClient = new SpotClientImpl(PrivateConfig.TESTNET_API_KEY, PrivateConfig.TESTNET_SECRET_KEY, DefaultUrls.TESTNET_URL);
+
+        OrderGateway gateway = OrderGateway.builder()
+                .webSocketApiClient(wsApiClient)
+                .restFallback(spotClient.createTrade())
+                .maxInFlight(maxInFlight)
+                .build();
+
+        CompletableFuture<?>[] responses = new CompletableFuture<?>[orderCount];
+        boolean buy = true;
+        for (int i = first; i < orderCount; i++) {
+            JSONObject params = new JSONObject();
+            params.put("quantity", quantity);
+            responses[i] = gateway.newOrder("BTCUSDT", buy ? "BUY" : "SELL", "MARKET", params)
+                    .thenAccept(System.out::println);
+            buy = !buy;
+        }
+        CompletableFuture.allOf(responses).exceptionally(t -> null).join();
+
+        System.out.println("Sent: " + gateway.getSentCount() + ", with REST: " + gateway.getFallbackCount()
+                + ", p99 ack latency: " + gateway.getLatencies().getValueAtPercentile(p99) + " us");
+        wsApiClient.close();
+    }
+}
@@ -0,0 +1,31 @@
+package examples.websocketstream;
+
+import java.util.concurrent.TimeUnit;
+
+import com.binance.connector.client.WebSocketStreamClient;
+import com.binance.connector.client.enums.TickerField;
+import com.binance.connector.client.impl.WebSocketStreamClientImpl;
+import com.binance.connector.client.impl.marketdata.TickerCache;
+import com.binance.connector.client.impl.marketdata.TickerSnapshot;
+
+public final class AllTickerCache {
+    private static final long WAIT_SECONDS = 5;
+
+    private AllTickerCache() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        WebSocketStreamClient client = new WebSocketStreamClientImpl();
+        TickerCache cache = new TickerCache();
+        client.allTickerStream(cache);
+
+        TimeUnit.SECONDS.sleep(WAIT_SECONDS);
+        System.out.println(cache.size() + " symbols, BTCUSDT last price " + cache.get("BTCUSDT", TickerField.LAST_PRICE));
+
+        TickerSnapshot snapshot = new TickerSnapshot();
+        if (cache.snapshot(cache.symbolId("ETHUSDT"), snapshot)) {
+            System.out.println(snapshot.getSymbol() + " " + snapshot.get(TickerField.BID_PRICE) + " / " + snapshot.get(TickerField.ASK_PRICE));
+        }
+        client.closeAllConnections();
+    }
+}
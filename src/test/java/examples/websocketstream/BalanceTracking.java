@@ -0,0 +1,42 @@
+package examples.websocketstream;
+
+import java.util.concurrent.TimeUnit;
+
+import com.binance.connector.client.enums.DefaultUrls;
+import com.binance.connector.client.impl.SpotClientImpl;
+import com.binance.connector.client.impl.userdata.AccountSource;
+import com.binance.connector.client.impl.userdata.BalanceCache;
+import com.binance.connector.client.impl.userdata.ListenKeyEndpoints;
+import com.binance.connector.client.impl.userdata.UserDataSession;
+import com.binance.connector.client.utils.decoder.StreamDecoder;
+
+import examples.PrivateConfig;
+
+public final class BalanceTracking {
+    private static final long RUN_SECONDS = 60;
+    private static final double ORDER_QUANTITY = 0.01;
+
+    private BalanceTracking() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        SpotClientImpl spotClient = new SpotClientImpl(PrivateConfig.TESTNET_API_KEY, PrivateConfig.TESTNET_SECRET_KEY, DefaultUrls.TESTNET_URL);
+        BalanceCache balances = new BalanceCache(AccountSource.spot(spotClient.createTrade()));
+        StreamDecoder decoder = new StreamDecoder()
+                .onAccountPosition(balances::onAccountPosition)
+                .onBalanceUpdate(balances::onBalanceUpdate);
+        UserDataSession session = UserDataSession.builder()
+                .endpoints(ListenKeyEndpoints.spot(spotClient.createUserData()))
+                .streamUrl(DefaultUrls.TESTNET_WS_URL)
+                .messageCallback(decoder)
+                .gapCallback(balances)
+                .build();
+        session.start();
+        balances.seed().join();
+
+        TimeUnit.SECONDS.sleep(RUN_SECONDS);
+        System.out.println("Free BTC: " + balances.free("BTC") + ", locked: " + balances.locked("BTC"));
+        System.out.println("Can sell " + ORDER_QUANTITY + " BTC: " + balances.hasFree("BTC", ORDER_QUANTITY));
+        session.close();
+    }
+}
@@ -0,0 +1,57 @@
+package examples.websocketstream;
+
+import com.binance.connector.client.WebSocketStreamClient;
+import com.binance.connector.client.enums.CandleField;
+import com.binance.connector.client.impl.SpotClientImpl;
+import com.binance.connector.client.impl.WebSocketStreamClientImpl;
+import com.binance.connector.client.impl.marketdata.CandleEngine;
+import com.binance.connector.client.impl.marketdata.CandleSeries;
+
+public final class CandleBars {
+    private static final int SEED_KLINES = 1000;
+    private static final int AVERAGE_LENGTH = 20;
+    private static final long SLEEP_MILLIS = 1000;
+    private static final int SECONDS = 30;
+    private static final int FIRST = 0;
+    private static final int NEWEST = 1;
+
+    private CandleBars() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        WebSocketStreamClient client = new WebSocketStreamClientImpl();
+        double[] closes = new double[AVERAGE_LENGTH];
+
+        // 15 minute candles seeded from the 1 minute klines and rolled forward from the kline stream
+        CandleEngine quarters = CandleEngine.builder().symbol("BTCUSDT").interval("15m")
+                .listener(engine -> {
+                    CandleSeries series = engine.getSeries();
+                    int count = series.copy(CandleField.CLOSE, closes);
+                    double sum = FIRST;
+                    for (int i = FIRST; i < count; i++) {
+                        sum += closes[i];
+                    }
+                    System.out.println("15m close average over " + count + " candles: " + sum / count);
+                })
+                .build();
+        quarters.seed(new SpotClientImpl().createMarket(), "1m", SEED_KLINES);
+        client.klineStream("btcusdt", "1m", quarters);
+
+        // 5 second candles from the trades, closed every second even without a trade
+        CandleEngine bars = CandleEngine.builder().symbol("BTCUSDT").interval("5s")
+                .listener(engine -> {
+                    CandleSeries series = engine.getSeries();
+                    int last = series.size() - NEWEST;
+                    System.out.println("5s candle " + series.getOpenTime(last) + " close " + series.get(CandleField.CLOSE, last)
+                            + " volume " + series.get(CandleField.VOLUME, last));
+                })
+                .build();
+        client.tradeStream("btcusdt", bars);
+
+        for (int second = FIRST; second < SECONDS; second++) {
+            Thread.sleep(SLEEP_MILLIS);
+            bars.advance(System.currentTimeMillis());
+        }
+        client.closeAllConnections();
+    }
+}
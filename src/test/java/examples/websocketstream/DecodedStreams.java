@@ -0,0 +1,36 @@
+package examples.websocketstream;
+
+import java.util.ArrayList;
+
+import com.binance.connector.client.WebSocketStreamClient;
+import com.binance.connector.client.enums.Side;
+import com.binance.connector.client.impl.WebSocketStreamClientImpl;
+import com.binance.connector.client.utils.decoder.StreamDecoder;
+
+public final class DecodedStreams {
+    private DecodedStreams() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        final long sleepTime = 3000;
+        WebSocketStreamClient client = new WebSocketStreamClientImpl();
+
+        StreamDecoder decoder = new StreamDecoder()
+                .onTrade(trade -> System.out.println(trade.getSymbol() + " trade " + trade.getQuantity() + " at " + trade.getPrice()))
+                .onKline(kline -> System.out.println(kline.getSymbol() + " " + kline.getInterval() + " close " + kline.getClose()
+                        + (kline.isClosed() ? " (final)" : "")))
+                .onDepthUpdate(depth -> System.out.println(depth.getSymbol() + " " + depth.count(Side.BUY) + " bids and "
+                        + depth.count(Side.SELL) + " asks changed up to " + depth.getLastUpdateId()))
+                .onOther(System.out::println);
+
+        ArrayList<String> streams = new ArrayList<>();
+        streams.add("btcusdt@trade");
+        streams.add("btcusdt@kline_1m");
+        streams.add("btcusdt@depth");
+
+        client.combineStreams(streams, decoder);
+
+        Thread.sleep(sleepTime);
+        client.closeAllConnections();
+    }
+}
@@ -0,0 +1,39 @@
+package examples.websocketstream;
+
+import java.util.concurrent.TimeUnit;
+
+import com.binance.connector.client.WebSocketStreamClient;
+import com.binance.connector.client.enums.Side;
+import com.binance.connector.client.impl.SpotClientImpl;
+import com.binance.connector.client.impl.WebSocketStreamClientImpl;
+import com.binance.connector.client.impl.marketdata.LocalOrderBook;
+import com.binance.connector.client.utils.ReconnectPolicy;
+
+public final class LocalOrderBookStream {
+    private static final int SPEED = 100;
+    private static final int LEVELS = 5;
+    private static final double QUANTITY = 1.5;
+    private static final long WAIT_SECONDS = 10;
+
+    private LocalOrderBookStream() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        LocalOrderBook book = new LocalOrderBook("BTCUSDT", new SpotClientImpl().createMarket());
+        double[] prices = new double[LEVELS];
+        double[] quantities = new double[LEVELS];
+        book.setListener(b -> {
+            int levels = b.top(Side.SELL, LEVELS, prices, quantities);
+            System.out.println("best bid " + b.bestBid() + ", " + levels + " asks from " + b.bestAsk()
+                    + ", buying " + QUANTITY + " costs " + b.vwap(Side.SELL, QUANTITY) + " on average");
+        });
+
+        WebSocketStreamClient client = new WebSocketStreamClientImpl();
+        client.setReconnectPolicy(ReconnectPolicy.defaultPolicy());
+        client.setGapCallback(book);
+        client.diffDepthStream("btcusdt", SPEED, book);
+
+        TimeUnit.SECONDS.sleep(WAIT_SECONDS);
+        client.closeAllConnections();
+    }
+}
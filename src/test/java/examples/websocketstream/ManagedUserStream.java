@@ -0,0 +1,34 @@
+package examples.websocketstream;
+
+import java.util.concurrent.TimeUnit;
+
+import com.binance.connector.client.enums.DefaultUrls;
+import com.binance.connector.client.impl.SpotClientImpl;
+import com.binance.connector.client.impl.userdata.ListenKeyEndpoints;
+import com.binance.connector.client.impl.userdata.UserDataSession;
+
+import examples.PrivateConfig;
+
+public final class ManagedUserStream {
+    private static final long RUN_MINUTES = 90;
+
+    private ManagedUserStream() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        SpotClientImpl spotClient = new SpotClientImpl(PrivateConfig.TESTNET_API_KEY, PrivateConfig.TESTNET_SECRET_KEY, DefaultUrls.TESTNET_URL);
+        UserDataSession session = UserDataSession.builder()
+                .endpoints(ListenKeyEndpoints.spot(spotClient.createUserData()))
+                .streamUrl(DefaultUrls.TESTNET_WS_URL)
+                .messageCallback(System.out::println)
+                .gapCallback((connectionId, disconnectedAt, reconnectedAt) ->
+                        System.out.println("Events between " + disconnectedAt + " and " + reconnectedAt + " may have been missed"))
+                .build();
+        session.start();
+
+        // the listen key outlives its 60 minutes validity
+        TimeUnit.MINUTES.sleep(RUN_MINUTES);
+        System.out.println("Keepalives: " + session.getKeepaliveCount() + ", new keys: " + session.getRolloverCount());
+        session.close();
+    }
+}
@@ -0,0 +1,29 @@
+package examples.websocketstream;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.binance.connector.client.impl.WebSocketStreamMultiplexer;
+import com.binance.connector.client.utils.ReconnectPolicy;
+
+public final class MultiplexedStreams {
+    private MultiplexedStreams() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        final long sleepTime = 3000;
+        WebSocketStreamMultiplexer multiplexer = new WebSocketStreamMultiplexer();
+        multiplexer.setReconnectPolicy(ReconnectPolicy.defaultPolicy());
+
+        List<String> streams = Arrays.asList("btcusdt@bookTicker", "ethusdt@bookTicker", "bnbusdt@bookTicker");
+        multiplexer.subscribe(streams, ((event) -> {
+            System.out.println(event);
+        }));
+
+        Thread.sleep(sleepTime);
+        multiplexer.unsubscribe("ethusdt@bookTicker");
+
+        Thread.sleep(sleepTime);
+        multiplexer.close();
+    }
+}
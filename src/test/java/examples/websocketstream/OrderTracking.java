@@ -0,0 +1,42 @@
+package examples.websocketstream;
+
+import java.util.concurrent.TimeUnit;
+
+import com.binance.connector.client.enums.DefaultUrls;
+import com.binance.connector.client.impl.SpotClientImpl;
+import com.binance.connector.client.impl.userdata.ListenKeyEndpoints;
+import com.binance.connector.client.impl.userdata.OrderSource;
+import com.binance.connector.client.impl.userdata.OrderStateStore;
+import com.binance.connector.client.impl.userdata.UserDataSession;
+import com.binance.connector.client.utils.decoder.StreamDecoder;
+
+import examples.PrivateConfig;
+
+public final class OrderTracking {
+    private static final long RUN_SECONDS = 60;
+
+    private OrderTracking() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        SpotClientImpl spotClient = new SpotClientImpl(PrivateConfig.TESTNET_API_KEY, PrivateConfig.TESTNET_SECRET_KEY, DefaultUrls.TESTNET_URL);
+        OrderStateStore orders = new OrderStateStore(OrderSource.spot(spotClient.createTrade()));
+        StreamDecoder decoder = new StreamDecoder().onExecutionReport(event -> {
+            if (orders.onExecutionReport(event)) {
+                System.out.println(orders.get(event.getSymbol(), event.getOrderId()));
+            }
+        });
+        UserDataSession session = UserDataSession.builder()
+                .endpoints(ListenKeyEndpoints.spot(spotClient.createUserData()))
+                .streamUrl(DefaultUrls.TESTNET_WS_URL)
+                .messageCallback(decoder)
+                .gapCallback(orders)
+                .build();
+        session.start();
+        orders.reconcile().join();
+
+        TimeUnit.SECONDS.sleep(RUN_SECONDS);
+        System.out.println("Open BTCUSDT orders: " + orders.openOrders("BTCUSDT"));
+        session.close();
+    }
+}
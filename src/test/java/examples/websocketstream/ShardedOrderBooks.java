@@ -0,0 +1,49 @@
+package examples.websocketstream;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import com.binance.connector.client.enums.Side;
+import com.binance.connector.client.impl.SpotClientImpl;
+import com.binance.connector.client.impl.WebSocketStreamMultiplexer;
+import com.binance.connector.client.impl.marketdata.OrderBookManager;
+import com.binance.connector.client.impl.marketdata.OrderBookSnapshot;
+import com.binance.connector.client.utils.ReconnectPolicy;
+
+public final class ShardedOrderBooks {
+    private static final int SHARDS = 2;
+    private static final int FIRST_SHARD = 0;
+    private static final int SPEED = 100;
+    private static final double QUANTITY = 1.5;
+    private static final long WAIT_SECONDS = 10;
+
+    private ShardedOrderBooks() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        OrderBookManager books = OrderBookManager.builder()
+                .market(new SpotClientImpl().createMarket())
+                .shards(SHARDS)
+                .build();
+        books.add(Arrays.asList("BTCUSDT", "ETHUSDT", "BNBUSDT", "SOLUSDT"));
+
+        WebSocketStreamMultiplexer multiplexer = new WebSocketStreamMultiplexer();
+        multiplexer.setReconnectPolicy(ReconnectPolicy.defaultPolicy());
+        multiplexer.setGapCallback(books);
+        multiplexer.subscribe(books.getStreams(SPEED), books);
+
+        TimeUnit.SECONDS.sleep(WAIT_SECONDS);
+        OrderBookSnapshot snapshot = books.newSnapshot();
+        for (String symbol : Arrays.asList("BTCUSDT", "ETHUSDT", "BNBUSDT", "SOLUSDT")) {
+            books.snapshot(symbol, snapshot);
+            System.out.println(symbol + " synchronised " + snapshot.isSynchronized() + ", best bid " + snapshot.bestBid()
+                    + ", buying " + QUANTITY + " costs " + snapshot.vwap(Side.SELL, QUANTITY) + " on average");
+        }
+        for (int shard = FIRST_SHARD; shard < books.getShardCount(); shard++) {
+            System.out.println(books.getShardStats(shard));
+        }
+
+        multiplexer.close();
+        books.close();
+    }
+}
@@ -0,0 +1,136 @@
+package unit;
+
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.binance.connector.client.utils.DecimalWriter;
+import com.binance.connector.client.utils.UrlBuilder;
+
+public class TestDecimalWriter {
+    private final int maxFractionDigits = 30;
+    private final int randomValues = 200000;
+    private final long seed = 42;
+    private final long maxUnscaled = 1000000000000000L;
+    private final int maxScale = 23;
+    private final double radix = 10;
+    private final int maxLongScale = 35;
+    private final int threads = 8;
+    private final int iterations = 20000;
+    private final int parametersPerQuery = 4;
+    private final long timeoutSeconds = 60;
+    private final int zero = 0;
+    private final double[] values = {
+        0.0, -0.0, 1.0, -1.0, 0.1, 0.0006, 10000.1, 1.123456789101112, 0.30000000000000004, 123456789.12345678,
+        1e15, 1e-7, 1e22, 1e23, 1e300, 1.5e-30, 2.5e-30, 5e-31, 1.2345678901234567e-20, Double.MIN_VALUE,
+        Double.MAX_VALUE, Long.MAX_VALUE, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY
+    };
+    private final String[] bigDecimals = {
+        "0", "-0.0000", "1E+3", "123.4500", "-1E-40", "1.5E-30", "0.0000000000000000000000000000015",
+        "123456789012345678901234567890.123456789"
+    };
+
+    private DecimalFormat newDecimalFormat() {
+        DecimalFormat df = new DecimalFormat("#,##0.###", new DecimalFormatSymbols(Locale.ENGLISH));
+        df.setMaximumFractionDigits(maxFractionDigits);
+        df.setGroupingUsed(false);
+        return df;
+    }
+
+    @Test
+    public void testDoubles() {
+        DecimalFormat df = newDecimalFormat();
+        for (double value : values) {
+            assertEquals(df.format(value), DecimalWriter.toString(value));
+        }
+    }
+
+    @Test
+    public void testRandomDoubles() {
+        DecimalFormat df = newDecimalFormat();
+        Random random = new Random(seed);
+        for (int i = zero; i < randomValues; i++) {
+            double bits = Double.longBitsToDouble(random.nextLong());
+            assertEquals(df.format(bits), DecimalWriter.toString(bits));
+            double price = (random.nextLong() % maxUnscaled) / Math.pow(radix, random.nextInt(maxScale));
+            assertEquals(df.format(price), DecimalWriter.toString(price));
+        }
+    }
+
+    @Test
+    public void testBigDecimals() {
+        DecimalFormat df = newDecimalFormat();
+        for (String value : bigDecimals) {
+            assertEquals(df.format(new BigDecimal(value)), DecimalWriter.toString(new BigDecimal(value)));
+        }
+    }
+
+    @Test
+    public void testScaledLongs() {
+        DecimalFormat df = newDecimalFormat();
+        Random random = new Random(seed);
+        for (int i = zero; i < randomValues; i++) {
+            long unscaled = random.nextLong() >> random.nextInt(Long.SIZE);
+            int scale = random.nextInt(maxLongScale);
+            assertEquals(df.format(BigDecimal.valueOf(unscaled, scale)), DecimalWriter.toString(unscaled, scale));
+        }
+        assertEquals(df.format(BigDecimal.valueOf(Long.MIN_VALUE, maxFractionDigits)), DecimalWriter.toString(Long.MIN_VALUE, maxFractionDigits));
+    }
+
+    @Test
+    public void testConcurrentQueries() throws Exception {
+        List<Map<String, Object>> queries = new ArrayList<>();
+        List<String> expected = new ArrayList<>();
+        DecimalFormat df = newDecimalFormat();
+        Random random = new Random(seed);
+        for (int i = zero; i < iterations; i++) {
+            Map<String, Object> parameters = new LinkedHashMap<>();
+            StringBuilder sb = new StringBuilder();
+            for (int j = zero; j < parametersPerQuery; j++) {
+                double value = Double.longBitsToDouble(random.nextLong()) % maxUnscaled;
+                parameters.put("p" + j, value);
+                sb.append(sb.length() > zero ? "&" : "").append("p").append(j).append('=').append(UrlBuilder.urlEncode(df.format(value)));
+            }
+            queries.add(parameters);
+            expected.add(sb.toString());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(threads);
+        List<Future<Integer>> mismatches = new ArrayList<>();
+        for (int t = zero; t < threads; t++) {
+            mismatches.add(executor.submit(() -> {
+                start.countDown();
+                start.await();
+                int count = zero;
+                for (int i = zero; i < iterations; i++) {
+                    if (!expected.get(i).equals(UrlBuilder.joinQueryParameters(queries.get(i)))) {
+                        count++;
+                    }
+                }
+                return count;
+            }));
+        }
+        int total = zero;
+        for (Future<Integer> future : mismatches) {
+            total += future.get(timeoutSeconds, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        assertEquals(zero, total);
+    }
+}
@@ -0,0 +1,131 @@
+package unit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.binance.connector.client.enums.OverflowPolicy;
+import com.binance.connector.client.utils.DispatchQueue;
+import com.binance.connector.client.utils.ExecutorFactory;
+
+public class TestDispatchQueue {
+    private final int capacity = 4;
+    private final int messageCount = 10;
+    private final long timeoutSeconds = 5;
+    private final int first = 0;
+    private final int conflatedCount = 2;
+    private final int blockedCount = 1;
+    private final long pollMillis = 1;
+    private final Deque<Runnable> tasks = new ArrayDeque<>();
+    private final Executor manualExecutor = tasks::add;
+
+    private void runTasks() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private List<String> messages(int to) {
+        List<String> messages = new ArrayList<>();
+        for (int i = first; i < to; i++) {
+            messages.add("{\"e\":\"trade\",\"t\":" + i + "}");
+        }
+        return messages;
+    }
+
+    @Test
+    public void testDropNewest() {
+        List<String> received = new ArrayList<>();
+        DispatchQueue queue = new DispatchQueue(capacity, OverflowPolicy.DROP_NEWEST, manualExecutor, received::add);
+        messages(messageCount).forEach(queue::offerMessage);
+        assertEquals(capacity, queue.getDepth());
+        assertEquals(messageCount - capacity, queue.getDroppedCount());
+
+        runTasks();
+        assertEquals(messages(capacity), received);
+        assertEquals(first, queue.getDepth());
+    }
+
+    @Test
+    public void testDropOldestKeepsEvents() {
+        List<String> received = new ArrayList<>();
+        DispatchQueue queue = new DispatchQueue(capacity, OverflowPolicy.DROP_OLDEST, manualExecutor, received::add);
+        queue.offerEvent(() -> received.add("open"));
+        messages(messageCount).forEach(queue::offerMessage);
+        assertEquals(messageCount - capacity, queue.getDroppedCount());
+
+        runTasks();
+        List<String> expected = new ArrayList<>(Collections.singletonList("open"));
+        expected.addAll(messages(messageCount).subList(messageCount - capacity, messageCount));
+        assertEquals(expected, received);
+    }
+
+    @Test
+    public void testConflateKeepsLatestPerStream() {
+        List<String> received = new ArrayList<>();
+        DispatchQueue queue = new DispatchQueue(capacity, OverflowPolicy.CONFLATE, manualExecutor, received::add);
+        String btcOld = "{\"stream\":\"btcusdt@bookTicker\",\"data\":{\"b\":\"1\"}}";
+        String ethOld = "{\"stream\":\"ethusdt@bookTicker\",\"data\":{\"b\":\"2\"}}";
+        String response = "{\"result\":null,\"id\":1}";
+        String btcNew = "{\"stream\":\"btcusdt@bookTicker\",\"data\":{\"b\":\"3\"}}";
+        String ethNew = "{\"stream\":\"ethusdt@bookTicker\",\"data\":{\"b\":\"4\"}}";
+        Arrays.asList(btcOld, ethOld, response, btcNew, ethNew).forEach(queue::offerMessage);
+        assertEquals(conflatedCount, queue.getConflatedCount());
+        assertEquals(first, queue.getDroppedCount());
+
+        runTasks();
+        assertEquals(Arrays.asList(btcNew, ethNew, response), received);
+    }
+
+    @Test
+    public void testBlockWaitsForConsumer() throws InterruptedException {
+        ExecutorService executor = ExecutorFactory.newPlatformThreadExecutor();
+        List<String> received = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch release = new CountDownLatch(blockedCount);
+        CountDownLatch produced = new CountDownLatch(blockedCount);
+        DispatchQueue queue = new DispatchQueue(capacity, OverflowPolicy.BLOCK, executor, text -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            received.add(text);
+        });
+        try {
+            Thread producer = new Thread(() -> {
+                messages(messageCount).forEach(queue::offerMessage);
+                produced.countDown();
+            });
+            producer.start();
+            long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(timeoutSeconds);
+            while (queue.getBlockedCount() < blockedCount && System.currentTimeMillis() < deadline) {
+                Thread.sleep(pollMillis);
+            }
+            assertTrue(queue.getBlockedCount() >= blockedCount);
+            assertEquals(blockedCount, produced.getCount());
+
+            release.countDown();
+            assertTrue(produced.await(timeoutSeconds, TimeUnit.SECONDS));
+            while (received.size() < messageCount && System.currentTimeMillis() < deadline) {
+                Thread.sleep(pollMillis);
+            }
+            assertEquals(messages(messageCount), received);
+            assertEquals(first, queue.getDroppedCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package unit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.binance.connector.client.exceptions.BinanceConnectorException;
+import com.binance.connector.client.utils.decoder.JsonScanner;
+
+public class TestJsonScanner {
+    private final String event = "{\"e\":\"trade\", \"E\":1672515782136, \"s\":\"BNBBTC\", \"t\":12345,"
+            + " \"p\":\"0.00100000\", \"q\":\"-1.5e2\", \"m\":true, \"x\":null,"
+            + " \"nested\":{\"a\":[1,{\"b\":\"c\\\"d\"}]}, \"text\":\"a\\nb\\u0041\"}";
+    private final long eventTime = 1672515782136L;
+    private final long tradeId = 12345L;
+    private final double price = 0.001;
+    private final double quantity = -150;
+    private final double delta = 0;
+
+    @Test
+    public void testReadFields() {
+        JsonScanner scanner = new JsonScanner().reset(event);
+        assertTrue(scanner.enterObject());
+
+        assertTrue(scanner.nextField());
+        assertEquals('e', scanner.tokenChar());
+        scanner.skipValue();
+        assertTrue(scanner.nextField());
+        assertEquals(eventTime, scanner.readLong());
+        assertTrue(scanner.nextField());
+        assertEquals("BNBBTC", scanner.readString());
+        assertTrue(scanner.nextField());
+        assertEquals(tradeId, scanner.readLong());
+        assertTrue(scanner.nextField());
+        assertEquals(price, scanner.readDouble(), delta);
+        assertTrue(scanner.nextField());
+        assertEquals(quantity, scanner.readDouble(), delta);
+        assertTrue(scanner.nextField());
+        assertTrue(scanner.readBoolean());
+        assertTrue(scanner.nextField());
+        assertTrue(Double.isNaN(scanner.readDouble()));
+        assertTrue(scanner.nextField());
+        assertTrue(scanner.tokenIs("nested"));
+        scanner.skipValue();
+        assertTrue(scanner.nextField());
+        assertEquals("a\nbA", scanner.readString());
+        assertFalse(scanner.nextField());
+    }
+
+    @Test
+    public void testReadArray() {
+        JsonScanner scanner = new JsonScanner().reset("[ [\"1.5\", \"2\"], null ]");
+        assertTrue(scanner.enterArray());
+        assertTrue(scanner.nextElement());
+        assertTrue(scanner.enterArray());
+        assertTrue(scanner.nextElement());
+        assertEquals(Double.parseDouble("1.5"), scanner.readDouble(), delta);
+        assertTrue(scanner.nextElement());
+        assertEquals(Double.parseDouble("2"), scanner.readDouble(), delta);
+        assertFalse(scanner.nextElement());
+        assertTrue(scanner.nextElement());
+        assertNull(scanner.readString());
+        assertFalse(scanner.nextElement());
+    }
+
+    @Test
+    public void testMalformed() {
+        JsonScanner scanner = new JsonScanner().reset("{\"p\":\"abc\"}");
+        assertTrue(scanner.enterObject());
+        assertTrue(scanner.nextField());
+        assertThrows(BinanceConnectorException.class, scanner::readDouble);
+    }
+}
@@ -1,16 +1,24 @@
 package unit;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 import org.junit.Before;
 import org.junit.Test;
 
+import com.binance.connector.client.enums.RateLimitType;
 import com.binance.connector.client.exceptions.BinanceClientException;
 import com.binance.connector.client.exceptions.BinanceServerException;
+import com.binance.connector.client.utils.BinanceResponse;
 import com.binance.connector.client.utils.ResponseHandler;
 
+import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
@@ -19,6 +27,7 @@ public class TestResponseHandler {
     private MockWebServer mockWebServer;
     private Request request;
     private final String VALID_RESPONSE = "VALID";
+    private final long usedWeight = 42;
 
     @Before
     public void init() {
@@ -75,4 +84,82 @@ public class TestResponseHandler {
         BinanceServerException thrown = assertThrows(BinanceServerException.class, () -> ResponseHandler.handleResponse(request, false, null));
         assertTrue(thrown.getMessage().contains(mockErrorMsg));
     }
+
+    @Test
+    public void testHandleResponseAsync() {
+        mockWebServer.enqueue(new MockResponse()
+                .addHeader("Content-Type", "application/json; charset=utf-8")
+                .setResponseCode(MockData.HTTP_STATUS_OK)
+                .setBody(VALID_RESPONSE));
+
+        CompletableFuture<String> result = ResponseHandler.handleResponseAsync(new OkHttpClient(), request, false, null);
+        assertEquals(VALID_RESPONSE, result.join());
+    }
+
+    @Test
+    public void testAsyncWith400JSONErrorMsg() {
+        String mockErrorMsg = "{\"code\":-1000, \"msg\":\"error\"}";
+        mockWebServer.enqueue(new MockResponse()
+                .addHeader("Content-Type", "application/json; charset=utf-8")
+                .setResponseCode(MockData.HTTP_STATUS_CLIENT_ERROR)
+                .setBody(mockErrorMsg));
+
+        CompletableFuture<String> result = ResponseHandler.handleResponseAsync(new OkHttpClient(), request, false, null);
+        CompletionException thrown = assertThrows(CompletionException.class, result::join);
+        assertTrue(thrown.getCause() instanceof BinanceClientException);
+        assertTrue(thrown.getCause().getMessage().contains(mockErrorMsg));
+    }
+
+    @Test
+    public void testAsyncWith500ErrorMsg() {
+        String mockErrorMsg = "Error Message";
+        mockWebServer.enqueue(new MockResponse()
+                .addHeader("Content-Type", "application/json; charset=utf-8")
+                .setResponseCode(MockData.HTTP_STATUS_SERVER_ERROR)
+                .setBody(mockErrorMsg));
+
+        CompletableFuture<String> result = ResponseHandler.handleResponseAsync(new OkHttpClient(), request, false, null);
+        CompletionException thrown = assertThrows(CompletionException.class, result::join);
+        assertTrue(thrown.getCause() instanceof BinanceServerException);
+    }
+
+    @Test
+    public void testHandleResponseWithMetadata() {
+        mockWebServer.enqueue(new MockResponse()
+                .addHeader("Content-Type", "application/json; charset=utf-8")
+                .addHeader("X-MBX-USED-WEIGHT-1M", usedWeight)
+                .addHeader("Date", "Mon, 02 Jan 2023 15:04:05 GMT")
+                .setResponseCode(MockData.HTTP_STATUS_OK)
+                .setBody(VALID_RESPONSE));
+
+        BinanceResponse result = ResponseHandler.handleResponseWithMetadata(new OkHttpClient(), request, null);
+        assertEquals(MockData.HTTP_STATUS_OK, result.getStatusCode());
+        assertEquals(VALID_RESPONSE, result.getBodyAsString());
+        assertEquals(Long.valueOf(usedWeight), result.getLimitUsage(RateLimitType.REQUEST_WEIGHT));
+        assertNull(result.getLimitUsage(RateLimitType.SAPI_UID_WEIGHT));
+        assertNotNull(result.getServerDate());
+    }
+
+    @Test
+    public void testWithMetadataWith400JSONErrorMsg() {
+        String mockErrorMsg = "{\"code\":-1000, \"msg\":\"error\"}";
+        mockWebServer.enqueue(new MockResponse()
+                .addHeader("Content-Type", "application/json; charset=utf-8")
+                .setResponseCode(MockData.HTTP_STATUS_CLIENT_ERROR)
+                .setBody(mockErrorMsg));
+
+        BinanceClientException thrown = assertThrows(BinanceClientException.class, () -> ResponseHandler.handleResponseWithMetadata(new OkHttpClient(), request, null));
+        assertTrue(thrown.getMessage().contains(mockErrorMsg));
+    }
+
+    @Test
+    public void testHandleResponseWithMetadataAsync() {
+        mockWebServer.enqueue(new MockResponse()
+                .addHeader("Content-Type", "application/json; charset=utf-8")
+                .setResponseCode(MockData.HTTP_STATUS_OK)
+                .setBody(VALID_RESPONSE));
+
+        CompletableFuture<BinanceResponse> result = ResponseHandler.handleResponseWithMetadataAsync(new OkHttpClient(), request, null);
+        assertEquals(VALID_RESPONSE, result.join().getBodyAsString());
+    }
 }
@@ -0,0 +1,93 @@
+package unit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import com.binance.connector.client.exceptions.BinanceConnectorException;
+import com.binance.connector.client.utils.ExecutorFactory;
+import com.binance.connector.client.utils.RingBuffer;
+
+public class TestRingBuffer {
+    private final int requestedCapacity = 5;
+    private final int capacity = 8;
+    private final int threads = 4;
+    private final int perProducer = 100000;
+    private final long timeoutSeconds = 10;
+    private final int first = 0;
+    private final int invalidCapacity = 0;
+    private final long firstValue = 1;
+
+    @Test
+    public void testCapacityIsRoundedUpAndFifo() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(requestedCapacity);
+        assertEquals(capacity, buffer.capacity());
+        for (int i = first; i < capacity; i++) {
+            assertTrue(buffer.offer(i));
+        }
+        assertFalse(buffer.offer(capacity));
+        assertEquals(capacity, buffer.size());
+        for (int i = first; i < capacity; i++) {
+            assertEquals(Integer.valueOf(i), buffer.poll());
+        }
+        assertNull(buffer.poll());
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test(expected = BinanceConnectorException.class)
+    public void testInvalidCapacity() {
+        new RingBuffer<>(invalidCapacity);
+    }
+
+    @Test
+    public void testConcurrentProducersAndConsumers() throws InterruptedException {
+        RingBuffer<Long> buffer = new RingBuffer<>(capacity);
+        ExecutorService executor = ExecutorFactory.newPlatformThreadExecutor();
+        long total = (long) threads * perProducer;
+        AtomicLong consumed = new AtomicLong();
+        AtomicLong sum = new AtomicLong();
+        CountDownLatch done = new CountDownLatch(threads + threads);
+        try {
+            for (int t = first; t < threads; t++) {
+                executor.execute(() -> {
+                    for (long i = firstValue; i <= perProducer; i++) {
+                        while (!buffer.offer(i)) {
+                            Thread.yield();
+                        }
+                    }
+                    done.countDown();
+                });
+                executor.execute(() -> {
+                    while (consumed.get() < total) {
+                        Long value = buffer.poll();
+                        if (value != null) {
+                            sum.addAndGet(value);
+                            consumed.incrementAndGet();
+                        } else {
+                            Thread.yield();
+                        }
+                    }
+                    done.countDown();
+                });
+            }
+            assertTrue(done.await(timeoutSeconds, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        long perProducerSum = first;
+        for (long i = firstValue; i <= perProducer; i++) {
+            perProducerSum += i;
+        }
+        assertEquals(total, consumed.get());
+        assertEquals(threads * perProducerSum, sum.get());
+        assertTrue(buffer.isEmpty());
+    }
+}
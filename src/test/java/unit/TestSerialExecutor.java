@@ -0,0 +1,95 @@
+package unit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.binance.connector.client.enums.HttpMethod;
+import com.binance.connector.client.impl.SpotClientImpl;
+import com.binance.connector.client.utils.ExecutorFactory;
+import com.binance.connector.client.utils.SerialExecutor;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockWebServer;
+
+public class TestSerialExecutor {
+    private final int taskCount = 1000;
+    private final int maxConcurrentTasks = 1;
+    private final long timeoutSeconds = 5;
+    private ExecutorService executor;
+
+    @Before
+    public void init() {
+        executor = ExecutorFactory.newVirtualThreadExecutor();
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testTasksRunInSubmissionOrder() throws InterruptedException {
+        SerialExecutor serialExecutor = new SerialExecutor(executor);
+        List<Integer> results = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(taskCount);
+
+        List<Integer> expected = new ArrayList<>();
+        while (expected.size() < taskCount) {
+            Integer value = expected.size();
+            expected.add(value);
+            serialExecutor.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                results.add(value);
+                running.decrementAndGet();
+                done.countDown();
+            });
+        }
+
+        assertTrue(done.await(timeoutSeconds, TimeUnit.SECONDS));
+        assertEquals(maxConcurrentTasks, maxRunning.get());
+        assertEquals(expected, results);
+    }
+
+    @Test
+    public void testFailingTaskDoesNotStopQueue() throws InterruptedException {
+        SerialExecutor serialExecutor = new SerialExecutor(executor);
+        CountDownLatch done = new CountDownLatch(maxConcurrentTasks);
+
+        serialExecutor.execute(() -> {
+            throw new IllegalStateException("failure");
+        });
+        serialExecutor.execute(done::countDown);
+
+        assertTrue(done.await(timeoutSeconds, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testAsyncRequestOnExecutor() throws Exception {
+        MockWebServer mockWebServer = new MockWebServer();
+        String baseUrl = mockWebServer.url(MockData.PREFIX).toString();
+        Dispatcher dispatcher = MockWebServerDispatcher.getDispatcher(MockData.PREFIX, "/api/v3/time", MockData.MOCK_RESPONSE, HttpMethod.GET, MockData.HTTP_STATUS_OK);
+        mockWebServer.setDispatcher(dispatcher);
+
+        SpotClientImpl client = new SpotClientImpl(baseUrl);
+        client.setExecutor(executor);
+        CompletableFuture<String> future = client.createMarket().timeAsync();
+
+        assertEquals(MockData.MOCK_RESPONSE, future.get(timeoutSeconds, TimeUnit.SECONDS));
+        mockWebServer.shutdown();
+    }
+}
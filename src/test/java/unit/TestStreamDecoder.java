@@ -0,0 +1,213 @@
+package unit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.binance.connector.client.enums.Side;
+import com.binance.connector.client.enums.TickerField;
+import com.binance.connector.client.utils.decoder.AccountPositionEvent;
+import com.binance.connector.client.utils.decoder.BalanceUpdateEvent;
+import com.binance.connector.client.utils.decoder.ExecutionReportEvent;
+import com.binance.connector.client.utils.decoder.KlineEvent;
+import com.binance.connector.client.utils.decoder.StreamDecoder;
+import com.binance.connector.client.utils.decoder.TradeEvent;
+
+public class TestStreamDecoder {
+    private final double delta = 1e-9;
+    private final long eventTime = 1672515782136L;
+    private final long tradeId = 12345;
+    private final long tradeCount = 100;
+    private final long orderId = 4293153;
+    private final long updateId = 400900217;
+    private final long clearTime = 1573200697068L;
+    private final int first = 0;
+    private final int second = 1;
+    private final int two = 2;
+    private final int one = 1;
+
+    private final String trade = "{\"e\":\"trade\",\"E\":1672515782136,\"s\":\"BNBBTC\",\"t\":12345,\"p\":\"0.001\","
+            + "\"q\":\"100\",\"T\":1672515782136,\"m\":true,\"M\":true}";
+    private final String kline = "{\"stream\":\"bnbbtc@kline_1m\",\"data\":{\"e\":\"kline\",\"E\":1672515782136,\"s\":\"BNBBTC\","
+            + "\"k\":{\"t\":1672515780000,\"T\":1672515839999,\"s\":\"BNBBTC\",\"i\":\"1m\",\"f\":100,\"L\":200,\"o\":\"0.0010\","
+            + "\"c\":\"0.0020\",\"h\":\"0.0025\",\"l\":\"0.0015\",\"v\":\"1000\",\"n\":100,\"x\":false,\"q\":\"1.0000\","
+            + "\"V\":\"500\",\"Q\":\"0.500\",\"B\":\"123456\"}}}";
+    private final String depth = "{\"e\":\"depthUpdate\",\"E\":1672515782136,\"s\":\"BNBBTC\",\"U\":157,\"u\":160,"
+            + "\"b\":[[\"0.0024\",\"10\"],[\"0.0023\",\"0\"]],\"a\":[[\"0.0026\",\"100\"]]}";
+    private final String bookTicker = "{\"u\":400900217,\"s\":\"BNBUSDT\",\"b\":\"25.35190000\",\"B\":\"31.21000000\","
+            + "\"a\":\"25.36520000\",\"A\":\"40.66000000\"}";
+    private final String ticker = "{\"e\":\"24hrTicker\",\"E\":1672515782136,\"s\":\"BNBBTC\",\"p\":\"0.0015\",\"P\":\"250.00\","
+            + "\"w\":\"0.0018\",\"x\":\"0.0009\",\"c\":\"0.0025\",\"Q\":\"10\",\"b\":\"0.0024\",\"B\":\"10\",\"a\":\"0.0026\","
+            + "\"A\":\"100\",\"o\":\"0.0010\",\"h\":\"0.0025\",\"l\":\"0.0010\",\"v\":\"10000\",\"q\":\"18\",\"O\":0,"
+            + "\"C\":86400000,\"F\":0,\"L\":18150,\"n\":100}";
+    private final String executionReport = "{\"subscriptionId\":0,\"event\":{\"e\":\"executionReport\",\"E\":1499405658658,"
+            + "\"s\":\"ETHBTC\",\"c\":\"mUvoqJxFIILMdfAW5iGSOW\",\"S\":\"BUY\",\"o\":\"LIMIT\",\"f\":\"GTC\",\"q\":\"1.00000000\","
+            + "\"p\":\"0.10264410\",\"P\":\"0.00000000\",\"F\":\"0.00000000\",\"g\":-1,\"C\":\"\",\"x\":\"TRADE\","
+            + "\"X\":\"PARTIALLY_FILLED\",\"r\":\"NONE\",\"i\":4293153,\"l\":\"0.50000000\",\"z\":\"0.50000000\","
+            + "\"L\":\"0.10264410\",\"n\":\"0.00050000\",\"N\":\"BNB\",\"T\":1499405658657,\"t\":12,\"I\":8641984,\"w\":true,"
+            + "\"m\":false,\"M\":false,\"O\":1499405658657,\"Z\":\"0.05132205\",\"Y\":\"0.05132205\",\"Q\":\"0.00000000\"}}";
+    private final String accountPosition = "{\"e\":\"outboundAccountPosition\",\"E\":1564034571105,\"u\":1564034571073,"
+            + "\"B\":[{\"a\":\"ETH\",\"f\":\"10000.000000\",\"l\":\"0.000000\"},{\"a\":\"BTC\",\"f\":\"1.5\",\"l\":\"0.5\"}]}";
+    private final String balanceUpdate = "{\"e\":\"balanceUpdate\",\"E\":1573200697110,\"a\":\"BTC\",\"d\":\"100.00000000\","
+            + "\"T\":1573200697068}";
+
+    @Test
+    public void testDecodesMarketEvents() {
+        List<String> decoded = new ArrayList<>();
+        StreamDecoder decoder = new StreamDecoder()
+                .onTrade(event -> {
+                    assertEquals(eventTime, event.getEventTime());
+                    assertEquals("BNBBTC", event.getSymbol());
+                    assertEquals(tradeId, event.getTradeId());
+                    assertEquals(Double.parseDouble("0.001"), event.getPrice(), delta);
+                    assertEquals(Double.parseDouble("100"), event.getQuantity(), delta);
+                    assertTrue(event.isBuyerMaker());
+                    decoded.add("trade");
+                })
+                .onKline(event -> {
+                    assertEquals("1m", event.getInterval());
+                    assertEquals(Double.parseDouble("0.0025"), event.getHigh(), delta);
+                    assertEquals(Double.parseDouble("0.500"), event.getTakerBuyQuoteVolume(), delta);
+                    assertEquals(tradeCount, event.getTradeCount());
+                    assertFalse(event.isClosed());
+                    decoded.add("kline");
+                })
+                .onDepthUpdate(event -> {
+                    assertEquals(two, event.count(Side.BUY));
+                    assertEquals(one, event.count(Side.SELL));
+                    assertEquals(Double.parseDouble("0.0023"), event.price(Side.BUY, second), delta);
+                    assertEquals(Double.parseDouble("0"), event.quantity(Side.BUY, second), delta);
+                    assertEquals(Double.parseDouble("100"), event.quantity(Side.SELL, first), delta);
+                    decoded.add("depthUpdate");
+                })
+                .onBookTicker(event -> {
+                    assertEquals(updateId, event.getUpdateId());
+                    assertEquals("BNBUSDT", event.getSymbol());
+                    assertEquals(Double.parseDouble("25.36520000"), event.getAskPrice(), delta);
+                    decoded.add("bookTicker");
+                })
+                .onTicker(event -> {
+                    assertEquals(Double.parseDouble("0.0025"), event.get(TickerField.LAST_PRICE), delta);
+                    assertEquals(tradeCount, event.getLong(TickerField.TRADE_COUNT));
+                    assertEquals(eventTime, event.getLong(TickerField.EVENT_TIME));
+                    decoded.add("24hrTicker");
+                });
+
+        assertTrue(decoder.decode(trade));
+        assertTrue(decoder.decode(kline));
+        assertTrue(decoder.decode(depth));
+        assertTrue(decoder.decode(bookTicker));
+        assertTrue(decoder.decode(ticker));
+        List<String> expected = new ArrayList<>();
+        expected.add("trade");
+        expected.add("kline");
+        expected.add("depthUpdate");
+        expected.add("bookTicker");
+        expected.add("24hrTicker");
+        assertEquals(expected, decoded);
+    }
+
+    @Test
+    public void testDecodesUserDataEvents() {
+        List<ExecutionReportEvent> reports = new ArrayList<>();
+        List<AccountPositionEvent> positions = new ArrayList<>();
+        List<BalanceUpdateEvent> updates = new ArrayList<>();
+        StreamDecoder decoder = new StreamDecoder()
+                .onExecutionReport(event -> {
+                    assertEquals(Side.BUY, event.getSide());
+                    assertEquals("LIMIT", event.getOrderType());
+                    assertEquals("TRADE", event.getExecutionType());
+                    assertEquals("PARTIALLY_FILLED", event.getOrderStatus());
+                    assertEquals(orderId, event.getOrderId());
+                    assertEquals("mUvoqJxFIILMdfAW5iGSOW", event.getClientOrderId());
+                    assertEquals(Double.parseDouble("0.50000000"), event.getCumulativeQuantity(), delta);
+                    assertEquals("BNB", event.getCommissionAsset());
+                    assertTrue(event.isWorking());
+                    reports.add(event);
+                })
+                .onAccountPosition(event -> {
+                    assertEquals(two, event.count());
+                    assertEquals("BTC", event.asset(second));
+                    assertEquals(Double.parseDouble("0.5"), event.locked(second), delta);
+                    positions.add(event);
+                })
+                .onBalanceUpdate(event -> {
+                    assertEquals("BTC", event.getAsset());
+                    assertEquals(Double.parseDouble("100"), event.getDelta(), delta);
+                    assertEquals(clearTime, event.getClearTime());
+                    updates.add(event);
+                });
+
+        assertTrue(decoder.decode(executionReport));
+        assertTrue(decoder.decode(accountPosition));
+        assertEquals(one, reports.size());
+        assertEquals(one, positions.size());
+        assertTrue(decoder.decode(balanceUpdate));
+        assertEquals(one, updates.size());
+    }
+
+    @Test
+    public void testReusesEventsAndInternsNames() {
+        List<TradeEvent> events = new ArrayList<>();
+        List<String> symbols = new ArrayList<>();
+        StreamDecoder decoder = new StreamDecoder().onTrade(event -> {
+            events.add(event);
+            symbols.add(event.getSymbol());
+        });
+        decoder.onMessage(trade);
+        decoder.onMessage(trade.replace("12345", "12346"));
+        assertSame(events.get(first), events.get(second));
+        assertSame(symbols.get(first), symbols.get(second));
+    }
+
+    @Test
+    public void testForwardsOtherMessages() {
+        List<String> others = new ArrayList<>();
+        List<KlineEvent> klines = new ArrayList<>();
+        StreamDecoder decoder = new StreamDecoder()
+                .onKline(klines::add)
+                .onOther(others::add);
+        String response = "{\"result\":null,\"id\":1}";
+        String miniTicker = "{\"e\":\"24hrMiniTicker\",\"E\":1672515782136,\"s\":\"BNBBTC\",\"c\":\"0.0025\"}";
+
+        assertFalse(decoder.decode(response));
+        assertFalse(decoder.decode(miniTicker));
+        // no callback for trades or book tickers
+        assertFalse(decoder.decode(trade));
+        assertFalse(decoder.decode(bookTicker));
+        assertTrue(decoder.decode(kline));
+        assertEquals(one, klines.size());
+        List<String> expected = new ArrayList<>();
+        expected.add(response);
+        expected.add(miniTicker);
+        expected.add(trade);
+        expected.add(bookTicker);
+        assertEquals(expected, others);
+    }
+
+    @Test
+    public void testDecodesBytesInPlace() {
+        List<String> clientOrderIds = new ArrayList<>();
+        List<String> others = new ArrayList<>();
+        StreamDecoder decoder = new StreamDecoder()
+                .onExecutionReport(event -> clientOrderIds.add(event.getClientOrderId()))
+                .onOther(others::add);
+        String unicode = executionReport.replace("mUvoqJxFIILMdfAW5iGSOW", "ordre-\u00e9t\u00e9");
+        ByteBuffer frame = ByteBuffer.wrap(unicode.getBytes(StandardCharsets.UTF_8)).asReadOnlyBuffer();
+
+        decoder.onMessage(frame);
+        assertEquals("ordre-\u00e9t\u00e9", clientOrderIds.get(first));
+        assertEquals(first, frame.position());
+        String response = "{\"result\":null,\"id\":1}";
+        assertFalse(decoder.decode(ByteBuffer.wrap(response.getBytes(StandardCharsets.UTF_8))));
+        assertEquals(response, others.get(first));
+    }
+}
@@ -9,7 +9,9 @@ import java.util.Map;
 
 import org.junit.Test;
 
+import com.binance.connector.client.utils.QueryEncoder;
 import com.binance.connector.client.utils.UrlBuilder;
+import com.binance.connector.client.utils.signaturegenerator.SignatureGenerator;
 
 public class TestUrlBuilder {
     private final String baseUrl = "www.test.com";
@@ -34,6 +36,16 @@ public class TestUrlBuilder {
             add("stream3");
         }};
 
+    @Test
+    public void testNestedInEncoderOfThread() {
+        // a generator building a URL while the encoder of the thread holds the query to sign
+        SignatureGenerator nested = payload -> String.valueOf(UrlBuilder.joinQueryParameters(mockDoubleParameters).length());
+        String signed = QueryEncoder.get().appendParameters(mockParameters).appendSignature(nested).toString();
+        String query = "key1=value1&key2=2&key3=0.0006";
+        int nestedLength = "key1=1.123456789101112&key2=10000.1".length();
+        assertEquals(query + "&signature=" + nestedLength, signed);
+    }
+
     @Test
     public void testBuildFullUrl() {
         String fullUrl = "www.test.com/url/path?key1=value1&key2=2&key3=0.0006";
@@ -84,6 +96,24 @@ public class TestUrlBuilder {
         assertEquals(joinedQuery, buildQuery);
     }
 
+    @Test
+    public void testJoinQueryParametersEncodesLikeUrlEncoder() {
+        String value = "a b&c=d/e+f~g.h-i*j_k\u00fc\u20ac\ud83d\ude00\ud83d";
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("key", value);
+        assertEquals("key=" + UrlBuilder.urlEncode(value), UrlBuilder.joinQueryParameters(parameters));
+    }
+
+    @Test
+    public void testJoinQueryParametersWithLongValues() {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("min", Long.MIN_VALUE);
+        parameters.put("max", Long.MAX_VALUE);
+        parameters.put("negative", -intValue);
+        String joinedQuery = String.format("min=%d&max=%d&negative=%d", Long.MIN_VALUE, Long.MAX_VALUE, -intValue);
+        assertEquals(joinedQuery, UrlBuilder.joinQueryParameters(parameters));
+    }
+
     @Test
     public void testBuildStreamUrl() {
         String streamUrl = "www.test.com/stream?streams=stream1/stream2/stream3";
@@ -0,0 +1,288 @@
+package unit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.binance.connector.client.enums.OverflowPolicy;
+import com.binance.connector.client.utils.ExecutorFactory;
+import com.binance.connector.client.utils.ReconnectPolicy;
+import com.binance.connector.client.utils.RequestBuilder;
+import com.binance.connector.client.utils.WebSocketConnection;
+import com.binance.connector.client.utils.decoder.StreamDecoder;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Response;
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okio.ByteString;
+
+public class TestWebSocketConnection {
+    private MockWebServer mockWebServer;
+    private OkHttpClient client;
+    private final long timeoutSeconds = 5;
+    private final long delayMillis = 10;
+    private final long maxAgeMillis = 200;
+    private final int normalClosure = 1000;
+    private final int goingAway = 1001;
+    private final int opens = 2;
+    private final int open = 1;
+    private final int queueCapacity = 16;
+    private final int forbidden = 403;
+    private final long callbackDelayMillis = 100;
+    private final String rejection = "{\"code\":-2015,\"msg\":\"Invalid API-key, IP, or permissions for action.\"}";
+    private final String subscribe = "{\"method\":\"SUBSCRIBE\",\"params\":[\"btcusdt@trade\"],\"id\":7}";
+    private final String resubscribe = "{\"method\":\"SUBSCRIBE\",\"params\":[\"btcusdt@trade\"],\"id\":0}";
+
+    @Before
+    public void init() {
+        this.mockWebServer = new MockWebServer();
+        this.client = new OkHttpClient();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        mockWebServer.shutdown();
+        client.dispatcher().executorService().shutdown();
+    }
+
+    @Test
+    public void testReconnectAfterServerClose() throws Exception {
+        ServerSocket first = new ServerSocket();
+        ServerSocket second = new ServerSocket();
+        mockWebServer.enqueue(new MockResponse().withWebSocketUpgrade(first));
+        mockWebServer.enqueue(new MockResponse().withWebSocketUpgrade(second));
+
+        BlockingQueue<String> messages = new LinkedBlockingQueue<>();
+        BlockingQueue<Long> gaps = new LinkedBlockingQueue<>();
+        CountDownLatch opened = new CountDownLatch(opens);
+        WebSocketConnection connection = newConnection(opened, messages);
+        connection.setReconnectPolicy(ReconnectPolicy.builder().initialDelay(delayMillis, TimeUnit.MILLISECONDS).build());
+        connection.setGapCallback((connectionId, disconnectedAt, reconnectedAt) -> gaps.add(reconnectedAt - disconnectedAt));
+        connection.connect();
+
+        WebSocket server = first.opened.poll(timeoutSeconds, TimeUnit.SECONDS);
+        assertNotNull(server);
+        connection.send(subscribe);
+        assertEquals(subscribe, first.messages.poll(timeoutSeconds, TimeUnit.SECONDS));
+        server.close(goingAway, "Going away");
+
+        WebSocket replayed = second.opened.poll(timeoutSeconds, TimeUnit.SECONDS);
+        assertNotNull(replayed);
+        assertEquals(resubscribe, second.messages.poll(timeoutSeconds, TimeUnit.SECONDS));
+        replayed.send("{\"result\":null,\"id\":0}");
+        replayed.send("trade");
+
+        assertEquals("trade", messages.poll(timeoutSeconds, TimeUnit.SECONDS));
+        assertNotNull(gaps.poll(timeoutSeconds, TimeUnit.SECONDS));
+        assertTrue(opened.await(timeoutSeconds, TimeUnit.SECONDS));
+        connection.close();
+    }
+
+    @Test
+    public void testReplaceBeforeMaxAge() throws Exception {
+        ServerSocket first = new ServerSocket();
+        ServerSocket second = new ServerSocket();
+        mockWebServer.enqueue(new MockResponse().withWebSocketUpgrade(first));
+        mockWebServer.enqueue(new MockResponse().withWebSocketUpgrade(second));
+
+        BlockingQueue<String> messages = new LinkedBlockingQueue<>();
+        BlockingQueue<Long> gaps = new LinkedBlockingQueue<>();
+        WebSocketConnection connection = newConnection(new CountDownLatch(open), messages);
+        connection.setReconnectPolicy(ReconnectPolicy.builder().maxConnectionAge(maxAgeMillis, TimeUnit.MILLISECONDS).build());
+        connection.setGapCallback((connectionId, disconnectedAt, reconnectedAt) -> gaps.add(reconnectedAt - disconnectedAt));
+        connection.connect();
+
+        WebSocket old = first.opened.poll(timeoutSeconds, TimeUnit.SECONDS);
+        assertNotNull(old);
+        old.send("old");
+        assertEquals("old", messages.poll(timeoutSeconds, TimeUnit.SECONDS));
+
+        WebSocket replacement = second.opened.poll(timeoutSeconds, TimeUnit.SECONDS);
+        assertNotNull(replacement);
+        old.send("still old");
+        assertEquals("still old", messages.poll(timeoutSeconds, TimeUnit.SECONDS));
+        replacement.send("new");
+        assertEquals("new", messages.poll(timeoutSeconds, TimeUnit.SECONDS));
+
+        assertEquals(Integer.valueOf(normalClosure), first.closing.poll(timeoutSeconds, TimeUnit.SECONDS));
+        assertTrue(gaps.isEmpty());
+        connection.close();
+    }
+
+    @Test
+    public void testOpenReplacementTakesOverWithoutMessage() throws Exception {
+        ServerSocket first = new ServerSocket();
+        ServerSocket second = new ServerSocket();
+        ServerSocket third = new ServerSocket();
+        mockWebServer.enqueue(new MockResponse().withWebSocketUpgrade(first));
+        mockWebServer.enqueue(new MockResponse().withWebSocketUpgrade(second));
+        mockWebServer.enqueue(new MockResponse().withWebSocketUpgrade(third));
+
+        BlockingQueue<Long> gaps = new LinkedBlockingQueue<>();
+        BlockingQueue<Integer> closed = new LinkedBlockingQueue<>();
+        WebSocketConnection connection = new WebSocketConnection(response -> { }, text -> { }, (code, reason) -> { },
+                (code, reason) -> closed.add(code), (t, response) -> { }, RequestBuilder.buildWebSocketRequest(mockWebServer.url("/ws").toString()), client);
+        connection.setReconnectPolicy(ReconnectPolicy.builder().maxConnectionAge(maxAgeMillis, TimeUnit.MILLISECONDS).build());
+        connection.setGapCallback((connectionId, disconnectedAt, reconnectedAt) -> gaps.add(reconnectedAt - disconnectedAt));
+        connection.connect();
+
+        WebSocket old = first.opened.poll(timeoutSeconds, TimeUnit.SECONDS);
+        assertNotNull(old);
+        connection.send(subscribe);
+        assertEquals(subscribe, first.messages.poll(timeoutSeconds, TimeUnit.SECONDS));
+
+        // the replacement is open, as its SUBSCRIBE shows, but has not delivered anything when the old socket is cut
+        assertEquals(resubscribe, second.messages.poll(timeoutSeconds, TimeUnit.SECONDS));
+        old.close(goingAway, "Going away");
+        assertEquals(Integer.valueOf(normalClosure), first.closing.poll(timeoutSeconds, TimeUnit.SECONDS));
+
+        // the replacement took over and is replaced in turn at its maximum age
+        assertNotNull(third.opened.poll(timeoutSeconds, TimeUnit.SECONDS));
+        assertEquals(resubscribe, third.messages.poll(timeoutSeconds, TimeUnit.SECONDS));
+        assertTrue(gaps.isEmpty());
+        assertTrue(closed.isEmpty());
+        connection.close();
+    }
+
+    @Test
+    public void testConnectAgainAfterCloseWithoutPolicy() throws Exception {
+        ServerSocket first = new ServerSocket();
+        ServerSocket second = new ServerSocket();
+        mockWebServer.enqueue(new MockResponse().withWebSocketUpgrade(first));
+        mockWebServer.enqueue(new MockResponse().withWebSocketUpgrade(second));
+
+        BlockingQueue<Integer> closed = new LinkedBlockingQueue<>();
+        WebSocketConnection connection = new WebSocketConnection(response -> { }, text -> { }, (code, reason) -> { },
+                (code, reason) -> closed.add(code), (t, response) -> { }, RequestBuilder.buildWebSocketRequest(mockWebServer.url("/ws").toString()), client);
+        connection.connect();
+
+        WebSocket server = first.opened.poll(timeoutSeconds, TimeUnit.SECONDS);
+        assertNotNull(server);
+        server.close(goingAway, "Going away");
+        assertEquals(Integer.valueOf(goingAway), closed.poll(timeoutSeconds, TimeUnit.SECONDS));
+        assertFalse(connection.isConnected());
+
+        connection.connect();
+        assertNotNull(second.opened.poll(timeoutSeconds, TimeUnit.SECONDS));
+        connection.close();
+    }
+
+    @Test
+    public void testDispatchQueueDeliversOffReaderThread() throws Exception {
+        ServerSocket first = new ServerSocket();
+        mockWebServer.enqueue(new MockResponse().withWebSocketUpgrade(first));
+
+        BlockingQueue<String> messages = new LinkedBlockingQueue<>();
+        BlockingQueue<String> threads = new LinkedBlockingQueue<>();
+        CountDownLatch opened = new CountDownLatch(open);
+        WebSocketConnection connection = new WebSocketConnection(response -> opened.countDown(), text -> {
+            threads.add(Thread.currentThread().getName());
+            messages.add(text);
+        }, (code, reason) -> { }, (code, reason) -> { }, (t, response) -> { },
+                RequestBuilder.buildWebSocketRequest(mockWebServer.url("/ws").toString()), client);
+        connection.setDispatchQueue(queueCapacity, OverflowPolicy.DROP_NEWEST, null);
+        connection.connect();
+
+        WebSocket server = first.opened.poll(timeoutSeconds, TimeUnit.SECONDS);
+        assertNotNull(server);
+        assertTrue(opened.await(timeoutSeconds, TimeUnit.SECONDS));
+        server.send("trade");
+
+        assertEquals("trade", messages.poll(timeoutSeconds, TimeUnit.SECONDS));
+        assertFalse(threads.poll().startsWith("OkHttp"));
+        assertEquals(OverflowPolicy.DROP_NEWEST, connection.getDispatchQueue().getPolicy());
+        assertEquals(queueCapacity, connection.getDispatchQueue().getCapacity());
+        connection.close();
+    }
+
+    @Test
+    public void testDeferredFailureReadsRejection() throws Exception {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(forbidden).setBody(rejection));
+
+        BlockingQueue<String> bodies = new LinkedBlockingQueue<>();
+        WebSocketConnection connection = new WebSocketConnection(response -> { }, text -> { }, (code, reason) -> { }, (code, reason) -> { },
+                (t, response) -> {
+                    try {
+                        bodies.add(response.code() + " " + response.body().string());
+                    } catch (IOException | IllegalStateException e) {
+                        bodies.add(String.valueOf(e.getMessage()));
+                    }
+                }, RequestBuilder.buildWebSocketRequest(mockWebServer.url("/ws").toString()), client);
+        // the callback runs well after OkHttp has closed the response
+        connection.setCallbackExecutor(command -> ExecutorFactory.sharedScheduler().schedule(command, callbackDelayMillis, TimeUnit.MILLISECONDS));
+        connection.connect();
+
+        assertEquals(forbidden + " " + rejection, bodies.poll(timeoutSeconds, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testBinaryFrames() throws Exception {
+        ServerSocket first = new ServerSocket();
+        ServerSocket second = new ServerSocket();
+        mockWebServer.enqueue(new MockResponse().withWebSocketUpgrade(first));
+        mockWebServer.enqueue(new MockResponse().withWebSocketUpgrade(second));
+        String trade = "{\"e\":\"trade\",\"E\":1672515782136,\"s\":\"BNBBTC\",\"t\":12345,\"p\":\"0.001\",\"q\":\"100\"}";
+
+        BlockingQueue<String> decoded = new LinkedBlockingQueue<>();
+        StreamDecoder decoder = new StreamDecoder().onTrade(event -> decoded.add(event.getSymbol() + " " + event.getPrice()));
+        WebSocketConnection binary = new WebSocketConnection(response -> { }, decoder, (code, reason) -> { },
+                (code, reason) -> { }, (t, response) -> { }, RequestBuilder.buildWebSocketRequest(mockWebServer.url("/ws").toString()), client);
+        binary.connect();
+        WebSocket server = first.opened.poll(timeoutSeconds, TimeUnit.SECONDS);
+        assertNotNull(server);
+        server.send(ByteString.encodeUtf8(trade));
+        assertEquals("BNBBTC 0.001", decoded.poll(timeoutSeconds, TimeUnit.SECONDS));
+
+        // a text callback receives the frame decoded
+        BlockingQueue<String> messages = new LinkedBlockingQueue<>();
+        WebSocketConnection text = newConnection(new CountDownLatch(open), messages);
+        text.connect();
+        WebSocket textServer = second.opened.poll(timeoutSeconds, TimeUnit.SECONDS);
+        assertNotNull(textServer);
+        textServer.send(ByteString.encodeUtf8(trade));
+        assertEquals(trade, messages.poll(timeoutSeconds, TimeUnit.SECONDS));
+        binary.close();
+        text.close();
+    }
+
+    private WebSocketConnection newConnection(CountDownLatch opened, BlockingQueue<String> messages) {
+        return new WebSocketConnection(response -> opened.countDown(), messages::add, (code, reason) -> { },
+                (code, reason) -> { }, (t, response) -> { }, RequestBuilder.buildWebSocketRequest(mockWebServer.url("/ws").toString()), client);
+    }
+
+    private static final class ServerSocket extends WebSocketListener {
+        private final BlockingQueue<WebSocket> opened = new LinkedBlockingQueue<>();
+        private final BlockingQueue<String> messages = new LinkedBlockingQueue<>();
+        private final BlockingQueue<Integer> closing = new LinkedBlockingQueue<>();
+
+        @Override
+        public void onOpen(WebSocket webSocket, Response response) {
+            opened.add(webSocket);
+        }
+
+        @Override
+        public void onMessage(WebSocket webSocket, String text) {
+            messages.add(text);
+        }
+
+        @Override
+        public void onClosing(WebSocket webSocket, int code, String reason) {
+            closing.add(code);
+            webSocket.close(code, null);
+        }
+    }
+}
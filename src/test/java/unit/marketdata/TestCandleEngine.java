@@ -0,0 +1,200 @@
+package unit.marketdata;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.binance.connector.client.enums.CandleField;
+import com.binance.connector.client.exceptions.BinanceConnectorException;
+import com.binance.connector.client.impl.marketdata.CandleEngine;
+import com.binance.connector.client.impl.marketdata.CandleSeries;
+
+public class TestCandleEngine {
+    private final double delta = 1e-9;
+    private final long fiveSeconds = TimeUnit.SECONDS.toMillis(5);
+    private final long oneSecond = TimeUnit.SECONDS.toMillis(1);
+    private final long oneMinute = TimeUnit.MINUTES.toMillis(1);
+    private final long fiveMinutes = TimeUnit.MINUTES.toMillis(5);
+    private final long ninetySeconds = TimeUnit.SECONDS.toMillis(90);
+    private final long tradeStart = 1700000000000L;
+    private final long klineStart = 1699999800000L;
+    private final long late = 1000L;
+    private final long firstTrade = 100L;
+    private final long secondTrade = 2000L;
+    private final long lastTrade = 4999L;
+    private final long laterTrade = 15001L;
+    private final long daysPerWeek = 7L;
+    private final long oneDay = TimeUnit.DAYS.toMillis(1);
+    private final long oneWeek = TimeUnit.DAYS.toMillis(daysPerWeek);
+    private final long monday = 1704067200000L;
+    private final int two = 2;
+    private final int one = 1;
+    private final int first = 0;
+    private final int second = 1;
+    private final int third = 2;
+    private final int fourth = 3;
+    private final int candles = 3;
+    private final int seededKlines = 6;
+    private final int trades = 5;
+
+    @Test
+    public void testResamplesTradesAndFillsGaps() {
+        AtomicInteger closed = new AtomicInteger();
+        CandleEngine engine = CandleEngine.builder().symbol("btcusdt").interval("5s")
+                .listener(candle -> closed.incrementAndGet()).build();
+        assertEquals("BTCUSDT", engine.getSymbol());
+        assertEquals(fiveSeconds, engine.getIntervalMillis());
+
+        engine.onTrade(tradeStart + firstTrade, Double.parseDouble("10"), Double.parseDouble("1"));
+        engine.onTrade(tradeStart + secondTrade, Double.parseDouble("12"), Double.parseDouble("2"));
+        engine.onTrade(tradeStart + lastTrade, Double.parseDouble("9"), Double.parseDouble("1"));
+        assertTrue(engine.hasCurrent());
+        assertEquals(Double.parseDouble("12"), engine.getCurrent(CandleField.HIGH), delta);
+        engine.onTrade(tradeStart + laterTrade, Double.parseDouble("11"), Double.parseDouble("1"));
+        // late trades of closed candles are ignored
+        engine.onTrade(tradeStart + late, Double.parseDouble("100"), Double.parseDouble("1"));
+
+        CandleSeries series = engine.getSeries();
+        assertEquals(candles, series.size());
+        assertEquals(candles, closed.get());
+        assertEquals(tradeStart, series.getOpenTime(first));
+        assertEquals(Double.parseDouble("10"), series.get(CandleField.OPEN, first), delta);
+        assertEquals(Double.parseDouble("12"), series.get(CandleField.HIGH, first), delta);
+        assertEquals(Double.parseDouble("9"), series.get(CandleField.LOW, first), delta);
+        assertEquals(Double.parseDouble("9"), series.get(CandleField.CLOSE, first), delta);
+        assertEquals(Double.parseDouble("4"), series.get(CandleField.VOLUME, first), delta);
+        assertEquals(Double.parseDouble("43"), series.get(CandleField.QUOTE_VOLUME, first), delta);
+        assertEquals(candles, series.getTradeCount(first));
+        // intervals without trades are flat at the previous close
+        assertEquals(tradeStart + fiveSeconds, series.getOpenTime(second));
+        assertEquals(Double.parseDouble("9"), series.get(CandleField.HIGH, third), delta);
+        assertEquals(Double.parseDouble("0"), series.get(CandleField.VOLUME, third), delta);
+        assertEquals(tradeStart + fiveSeconds * candles, engine.getCurrentOpenTime());
+        assertEquals(Double.parseDouble("11"), engine.getCurrent(CandleField.CLOSE), delta);
+
+        engine.advance(tradeStart + fiveSeconds * (candles + one));
+        assertFalse(engine.hasCurrent());
+        double[] closes = new double[fourth + one];
+        assertEquals(fourth + one, series.copy(CandleField.CLOSE, closes));
+        assertEquals(Double.parseDouble("11"), closes[fourth], delta);
+        assertEquals(Double.parseDouble("9"), closes[first], delta);
+    }
+
+    @Test
+    public void testSeedsAndResamplesKlines() {
+        CandleEngine engine = CandleEngine.builder().symbol("BNBBTC").interval("5m").build();
+        StringBuilder response = new StringBuilder("[");
+        for (int minute = first; minute < seededKlines; minute++) {
+            response.append(minute == first ? "" : ",").append(row(minute));
+        }
+        assertEquals(seededKlines, engine.seed(response.append("]")));
+
+        CandleSeries series = engine.getSeries();
+        assertEquals(second, series.size());
+        assertEquals(klineStart, series.getOpenTime(first));
+        assertEquals(Double.parseDouble("1.0"), series.get(CandleField.OPEN, first), delta);
+        assertEquals(Double.parseDouble("1.5"), series.get(CandleField.HIGH, first), delta);
+        assertEquals(Double.parseDouble("0.0"), series.get(CandleField.LOW, first), delta);
+        assertEquals(Double.parseDouble("1.4"), series.get(CandleField.CLOSE, first), delta);
+        assertEquals(Double.parseDouble("50"), series.get(CandleField.VOLUME, first), delta);
+        assertEquals(Double.parseDouble("2.5"), series.get(CandleField.QUOTE_VOLUME, first), delta);
+        assertEquals(Double.parseDouble("50"), series.getTradeCount(first), delta);
+        assertEquals(Double.parseDouble("10"), engine.getCurrent(CandleField.VOLUME), delta);
+
+        // an update of the open kline replaces it, a closed kline completing the candle closes it
+        engine.onMessage(kline(seededKlines - one, "2.0", "25", false));
+        assertEquals(Double.parseDouble("25"), engine.getCurrent(CandleField.VOLUME), delta);
+        engine.onMessage(kline(seededKlines + fourth, "3.0", "5", true));
+        assertFalse(engine.hasCurrent());
+        assertEquals(third, series.size());
+        assertEquals(klineStart + fiveMinutes, series.getOpenTime(second));
+        assertEquals(Double.parseDouble("1.5"), series.get(CandleField.OPEN, second), delta);
+        assertEquals(Double.parseDouble("3.0"), series.get(CandleField.CLOSE, second), delta);
+        assertEquals(Double.parseDouble("30"), series.get(CandleField.VOLUME, second), delta);
+        // events of other symbols are ignored
+        engine.onMessage(kline(seededKlines + fourth + one, "3.0", "5", false).replace("BNBBTC", "ETHBTC"));
+        assertFalse(engine.hasCurrent());
+    }
+
+    @Test
+    public void testRingKeepsNewestCandles() {
+        CandleEngine engine = CandleEngine.builder().symbol("BTCUSDT").intervalMillis(oneSecond).capacity(candles).build();
+        for (int index = first; index < trades; index++) {
+            engine.onTrade(index * oneSecond, index, Double.parseDouble("1"));
+        }
+        engine.advance(trades * oneSecond);
+
+        CandleSeries series = engine.getSeries();
+        assertEquals(candles, series.size());
+        assertEquals(candles, series.capacity());
+        assertEquals(trades, series.getAppendedCount());
+        assertEquals(third * oneSecond, series.getOpenTime(first));
+        double[] closes = new double[third];
+        assertEquals(third, series.copy(CandleField.CLOSE, closes));
+        assertEquals(Double.parseDouble("3"), closes[first], delta);
+        assertEquals(Double.parseDouble("4"), closes[second], delta);
+        long[] openTimes = new long[trades];
+        assertEquals(candles, series.copyOpenTimes(openTimes));
+        assertEquals(fourth * oneSecond, openTimes[second]);
+        assertThrows(IndexOutOfBoundsException.class, () -> series.get(CandleField.CLOSE, candles));
+    }
+
+    @Test
+    public void testIntervals() {
+        assertEquals(fiveMinutes, CandleEngine.intervalMillis("5m"));
+        assertEquals(TimeUnit.DAYS.toMillis(daysPerWeek), CandleEngine.intervalMillis("1w"));
+        assertThrows(BinanceConnectorException.class, () -> CandleEngine.intervalMillis("1M"));
+        assertThrows(BinanceConnectorException.class, () -> CandleEngine.intervalMillis("m"));
+        assertThrows(BinanceConnectorException.class, () -> CandleEngine.builder().interval("5m").build());
+
+        CandleEngine engine = CandleEngine.builder().symbol("BNBBTC").intervalMillis(ninetySeconds).build();
+        assertThrows(BinanceConnectorException.class, () -> engine.seed("[" + row(first) + "]"));
+        assertThrows(BinanceConnectorException.class, () -> engine.seed("{\"code\":-1121,\"msg\":\"Invalid symbol.\"}"));
+    }
+
+    @Test
+    public void testWeeklyCandlesOpenOnMonday() {
+        CandleEngine weekly = CandleEngine.builder().symbol("BNBBTC").interval("1w").build();
+        assertEquals(two, weekly.seed("[" + row(monday, oneWeek) + "," + row(monday + oneWeek, oneWeek) + "]"));
+        assertEquals(one, weekly.getSeries().size());
+        assertEquals(monday, weekly.getSeries().getOpenTime(first));
+        assertEquals(monday + oneWeek, weekly.getCurrentOpenTime());
+
+        // daily klines from Monday to Sunday make one weekly candle
+        CandleEngine resampled = CandleEngine.builder().symbol("BNBBTC").interval("1w").build();
+        StringBuilder response = new StringBuilder("[");
+        for (int day = first; day <= daysPerWeek; day++) {
+            response.append(day == first ? "" : ",").append(row(monday + day * oneDay, oneDay));
+        }
+        resampled.seed(response.append("]"));
+        assertEquals(one, resampled.getSeries().size());
+        assertEquals(monday, resampled.getSeries().getOpenTime(first));
+        assertEquals(Double.parseDouble("70"), resampled.getSeries().get(CandleField.VOLUME, first), delta);
+    }
+
+    /**
+     * One minute kline of the REST response, with a volume of 10 and a high rising by 0.1 each minute.
+     */
+    private String row(int minute) {
+        long open = klineStart + minute * oneMinute;
+        return "[" + open + ",\"1." + minute + "\",\"1." + (minute + one) + "\",\"0." + minute + "\",\"1." + minute
+                + "\",\"10\"," + (open + oneMinute - one) + ",\"0.5\",10,\"5\",\"0.25\",\"0\"]";
+    }
+
+    private String row(long open, long length) {
+        return "[" + open + ",\"1.0\",\"1.0\",\"1.0\",\"1.0\",\"10\"," + (open + length - one) + ",\"10\",10,\"5\",\"5\",\"0\"]";
+    }
+
+    private String kline(int minute, String close, String volume, boolean closed) {
+        long open = klineStart + minute * oneMinute;
+        return "{\"e\":\"kline\",\"E\":" + open + ",\"s\":\"BNBBTC\",\"k\":{\"t\":" + open + ",\"T\":" + (open + oneMinute - one)
+                + ",\"s\":\"BNBBTC\",\"i\":\"1m\",\"f\":100,\"L\":200,\"o\":\"1.5\",\"c\":\"" + close + "\",\"h\":\"" + close
+                + "\",\"l\":\"1.5\",\"v\":\"" + volume + "\",\"n\":10,\"x\":" + closed + ",\"q\":\"1.0\",\"V\":\"1\",\"Q\":\"0.5\"}}";
+    }
+}
@@ -0,0 +1,103 @@
+package unit.marketdata;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Test;
+
+import com.binance.connector.client.enums.Side;
+import com.binance.connector.client.impl.marketdata.LocalOrderBook;
+
+public class TestLocalOrderBook {
+    private final double delta = 1e-9;
+    private final int limit = 100;
+    private final int oneFetch = 1;
+    private final int secondLevel = 1;
+    private final long noResync = 0;
+    private final long snapshotId = 100;
+    private final long afterFirstEvents = 103;
+    private final long afterResync = 210;
+    private final int oneResync = 1;
+    private final String snapshot = "{\"lastUpdateId\":100,\"bids\":[[\"10.0\",\"1\"],[\"9.0\",\"2\"]],\"asks\":[[\"11.0\",\"1\"],[\"12.0\",\"2\"]]}";
+    private final Deque<CompletableFuture<String>> fetches = new ArrayDeque<>();
+
+    private LocalOrderBook book() {
+        return new LocalOrderBook("bnbbtc", limit, (symbol, fetchLimit) -> {
+            assertEquals("BNBBTC", symbol);
+            assertEquals(limit, fetchLimit);
+            CompletableFuture<String> fetch = new CompletableFuture<>();
+            fetches.add(fetch);
+            return fetch;
+        });
+    }
+
+    private static String event(String first, String last, String bids, String asks) {
+        return "{\"e\":\"depthUpdate\",\"E\":1672515782136,\"s\":\"BNBBTC\",\"U\":" + first + ",\"u\":" + last
+                + ",\"b\":" + bids + ",\"a\":" + asks + "}";
+    }
+
+    @Test
+    public void testBuffersEventsUntilSnapshot() {
+        LocalOrderBook book = book();
+        book.onMessage(event("95", "99", "[[\"10.0\",\"5\"]]", "[]"));
+        book.onMessage(event("100", "101", "[[\"10.5\",\"1\"]]", "[]"));
+        book.onMessage(event("102", "103", "[]", "[[\"11.0\",\"0\"]]"));
+        assertFalse(book.isSynchronized());
+        assertEquals(oneFetch, fetches.size());
+
+        fetches.poll().complete(snapshot);
+        assertTrue(book.isSynchronized());
+        assertEquals(afterFirstEvents, book.getLastUpdateId());
+        // the first event is older than the snapshot and is not applied
+        assertEquals(Double.parseDouble("10.5"), book.bestBid(), delta);
+        assertEquals(Double.parseDouble("1"), book.quantity(Side.BUY, secondLevel), delta);
+        assertEquals(Double.parseDouble("12.0"), book.bestAsk(), delta);
+
+        book.onMessage(event("104", "104", "[]", "[[\"11.5\",\"3\"]]"));
+        assertEquals(Double.parseDouble("11.5"), book.bestAsk(), delta);
+        // received twice, ignored
+        book.onMessage(event("104", "104", "[]", "[[\"11.5\",\"0\"]]"));
+        assertEquals(Double.parseDouble("11.5"), book.bestAsk(), delta);
+        // other symbols of a combined stream are ignored
+        book.onMessage("{\"stream\":\"ethbtc@depth\",\"data\":" + event("105", "105", "[[\"50.0\",\"1\"]]", "[]").replace("BNBBTC", "ETHBTC") + "}");
+        assertEquals(Double.parseDouble("10.5"), book.bestBid(), delta);
+    }
+
+    @Test
+    public void testGapTriggersResync() {
+        LocalOrderBook book = book();
+        book.onMessage(event("101", "101", "[]", "[]"));
+        fetches.poll().complete(snapshot);
+        assertTrue(book.isSynchronized());
+
+        book.onMessage(event("200", "201", "[[\"10.0\",\"0\"]]", "[]"));
+        assertFalse(book.isSynchronized());
+        assertEquals(oneResync, book.getResyncCount());
+        assertEquals(oneFetch, fetches.size());
+
+        book.onMessage(event("202", "210", "[]", "[]"));
+        fetches.poll().complete("{\"lastUpdateId\":205,\"bids\":[[\"8.0\",\"1\"]],\"asks\":[[\"13.0\",\"1\"]]}");
+        assertTrue(book.isSynchronized());
+        assertEquals(afterResync, book.getLastUpdateId());
+        assertEquals(Double.parseDouble("8.0"), book.bestBid(), delta);
+    }
+
+    @Test
+    public void testSnapshotOlderThanEventsIsFetchedAgain() {
+        LocalOrderBook book = book();
+        book.onMessage(event("150", "151", "[]", "[]"));
+        fetches.poll().complete(snapshot);
+        assertFalse(book.isSynchronized());
+        assertEquals(oneFetch, fetches.size());
+
+        fetches.poll().complete(snapshot.replace("100", "150"));
+        assertTrue(book.isSynchronized());
+        assertTrue(book.getLastUpdateId() > snapshotId);
+        assertEquals(noResync, book.getResyncCount());
+    }
+}
@@ -0,0 +1,91 @@
+package unit.marketdata;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.binance.connector.client.enums.Side;
+import com.binance.connector.client.impl.marketdata.OrderBook;
+
+public class TestOrderBook {
+    private final double delta = 1e-9;
+    private final double none = 0;
+    private final double bestBid = 100;
+    private final double secondBid = 99;
+    private final double thirdBid = 98;
+    private final double bestAsk = 101;
+    private final double secondAsk = 102;
+    private final double thirdAsk = 103;
+    private final double missingAsk = 104;
+    private final double small = 1;
+    private final double medium = 2;
+    private final double large = 3;
+    private final double updated = 5;
+    private final double tooMuch = 7;
+    private final int best = 0;
+    private final int second = 1;
+    private final int levels = 3;
+    private final int manyLevels = 1000;
+
+    private OrderBook book() {
+        OrderBook book = new OrderBook();
+        book.update(Side.BUY, secondBid, small);
+        book.update(Side.BUY, bestBid, medium);
+        book.update(Side.BUY, thirdBid, large);
+        book.update(Side.SELL, secondAsk, small);
+        book.update(Side.SELL, bestAsk, medium);
+        book.update(Side.SELL, thirdAsk, large);
+        return book;
+    }
+
+    @Test
+    public void testLevelsAreSortedBestFirst() {
+        OrderBook book = book();
+        assertEquals(bestBid, book.bestBid(), delta);
+        assertEquals(bestAsk, book.bestAsk(), delta);
+        assertEquals(secondBid, book.price(Side.BUY, second), delta);
+        assertEquals(secondAsk, book.price(Side.SELL, second), delta);
+        assertEquals(levels, book.depth(Side.BUY));
+        assertTrue(Double.isNaN(book.price(Side.SELL, levels)));
+    }
+
+    @Test
+    public void testUpdateAndRemove() {
+        OrderBook book = book();
+        book.update(Side.BUY, bestBid, updated);
+        assertEquals(updated, book.quantity(Side.BUY, best), delta);
+        book.update(Side.BUY, bestBid, none);
+        assertEquals(secondBid, book.bestBid(), delta);
+        book.update(Side.SELL, missingAsk, none);
+        assertEquals(levels, book.depth(Side.SELL));
+        book.clear();
+        assertTrue(Double.isNaN(book.bestAsk()));
+    }
+
+    @Test
+    public void testTopAndVwap() {
+        OrderBook book = book();
+        double[] prices = new double[levels + second];
+        double[] quantities = new double[levels + second];
+        assertEquals(levels, book.top(Side.SELL, prices.length, prices, quantities));
+        assertEquals(bestAsk, prices[best], delta);
+        assertEquals(medium, quantities[best], delta);
+        assertEquals(thirdAsk, prices[levels - second], delta);
+
+        assertEquals((medium * bestAsk + small * secondAsk) / large, book.vwap(Side.SELL, large), delta);
+        assertTrue(Double.isNaN(book.vwap(Side.SELL, tooMuch)));
+        assertEquals(bestBid, book.vwap(Side.BUY, small), delta);
+    }
+
+    @Test
+    public void testManyLevelsGrow() {
+        OrderBook book = new OrderBook();
+        for (int i = second; i <= manyLevels; i++) {
+            book.update(Side.SELL, i, i);
+        }
+        assertEquals(manyLevels, book.depth(Side.SELL));
+        assertEquals(second, book.bestAsk(), delta);
+        assertEquals(manyLevels, book.price(Side.SELL, manyLevels - second), delta);
+    }
+}
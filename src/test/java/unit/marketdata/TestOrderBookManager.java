@@ -0,0 +1,178 @@
+package unit.marketdata;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.BooleanSupplier;
+
+import org.junit.Test;
+
+import com.binance.connector.client.enums.Side;
+import com.binance.connector.client.exceptions.BinanceConnectorException;
+import com.binance.connector.client.impl.marketdata.OrderBookManager;
+import com.binance.connector.client.impl.marketdata.OrderBookShardStats;
+import com.binance.connector.client.impl.marketdata.OrderBookSnapshot;
+
+public class TestOrderBookManager {
+    private final double delta = 1e-9;
+    private final int limit = 100;
+    private final int twoShards = 2;
+    private final int twoLevels = 2;
+    private final int speed = 100;
+    private final int fastBudget = 300000;
+    private final int slowBudget = 5;
+    private final long fastInterval = 1;
+    private final long slowInterval = 60000;
+    private final int twoFetches = 2;
+    private final int noFetch = 0;
+    private final int oneFetch = 1;
+    private final long twoResyncs = 2;
+    private final int firstShard = 0;
+    private final int secondShard = 1;
+    private final int secondLevel = 1;
+    private final int oneSymbol = 1;
+    private final long oneUpdate = 1;
+    private final int connectionId = 1;
+    private final long timeoutMillis = 5000;
+    private final String snapshot = "{\"lastUpdateId\":100,\"bids\":[[\"10.0\",\"1\"],[\"9.0\",\"2\"]],\"asks\":[[\"11.0\",\"1\"],[\"12.0\",\"2\"]]}";
+    private final Queue<CompletableFuture<String>> fetches = new ConcurrentLinkedQueue<>();
+
+    private OrderBookManager manager(int budget) {
+        return OrderBookManager.builder()
+                .shards(twoShards)
+                .snapshotLimit(limit)
+                .snapshotWeightPerMinute(budget)
+                .topLevels(twoLevels)
+                .snapshotSource((symbol, fetchLimit) -> {
+                    CompletableFuture<String> fetch = new CompletableFuture<>();
+                    fetches.add(fetch);
+                    return fetch;
+                })
+                .build();
+    }
+
+    private static String event(String symbol, String first, String last, String bids) {
+        return "{\"stream\":\"" + symbol.toLowerCase() + "@depth@100ms\",\"data\":{\"e\":\"depthUpdate\",\"E\":1672515782136,\"s\":\""
+                + symbol + "\",\"U\":" + first + ",\"u\":" + last + ",\"b\":" + bids + ",\"a\":[]}}";
+    }
+
+    private void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (!condition.getAsBoolean()) {
+            assertTrue("condition not met in time", System.currentTimeMillis() < deadline);
+            Thread.sleep(fastInterval);
+        }
+    }
+
+    private boolean synced(OrderBookManager manager, String symbol) {
+        OrderBookSnapshot into = manager.newSnapshot();
+        return manager.snapshot(symbol, into) && into.isSynchronized();
+    }
+
+    private void synchronise(OrderBookManager manager, String first, String last, String depth) throws InterruptedException {
+        // events received before the snapshots are requested are dropped, not buffered
+        manager.onMessage(event("BNBBTC", first, last, "[]"));
+        manager.onMessage(event("ETHBTC", first, last, "[]"));
+        await(() -> fetches.size() == twoFetches);
+        manager.onMessage(event("BNBBTC", first, last, "[[\"10.5\",\"1\"]]"));
+        manager.onMessage(event("ETHBTC", first, last, "[[\"20.5\",\"1\"]]"));
+        fetches.poll().complete(depth);
+        fetches.poll().complete(depth);
+        await(() -> synced(manager, "BNBBTC") && synced(manager, "ETHBTC"));
+    }
+
+    @Test
+    public void testShardsAndSynchronisesBooks() throws InterruptedException {
+        OrderBookManager manager = manager(fastBudget);
+        try {
+            manager.add(Arrays.asList("bnbbtc", "ETHBTC"));
+            assertNotEquals(manager.getShard("BNBBTC"), manager.getShard("ETHBTC"));
+            assertEquals(Arrays.asList("bnbbtc@depth@100ms", "ethbtc@depth@100ms"), manager.getStreams(speed));
+            assertEquals(fastInterval, manager.getFetchIntervalMillis());
+
+            synchronise(manager, "101", "101", snapshot);
+            OrderBookSnapshot into = manager.newSnapshot();
+            assertTrue(manager.snapshot("bnbbtc", into));
+            assertEquals("BNBBTC", into.getSymbol());
+            assertEquals(Double.parseDouble("10.5"), into.bestBid(), delta);
+            assertEquals(Double.parseDouble("10.0"), into.price(Side.BUY, secondLevel), delta);
+            assertEquals(twoLevels, into.depth(Side.SELL));
+            assertEquals(Double.parseDouble("11.5"), into.vwap(Side.SELL, twoLevels), delta);
+            assertEquals(Double.parseDouble("20.5"), manager.bestBid("ETHBTC"), delta);
+            assertFalse(manager.snapshot("XRPBTC", into));
+
+            manager.onMessage(event("BNBBTC", "102", "102", "[[\"10.7\",\"1\"]]"));
+            await(() -> manager.bestBid("BNBBTC") == Double.parseDouble("10.7"));
+            OrderBookShardStats stats = manager.getShardStats(manager.getShard("BNBBTC"));
+            assertEquals(oneSymbol, stats.getSymbolCount());
+            assertTrue(stats.getUpdateCount() >= oneUpdate);
+        } finally {
+            manager.close();
+        }
+    }
+
+    @Test
+    public void testGapResynchronisesEveryBook() throws InterruptedException {
+        OrderBookManager manager = manager(fastBudget);
+        try {
+            manager.add(Arrays.asList("BNBBTC", "ETHBTC"));
+            synchronise(manager, "101", "101", snapshot);
+
+            manager.onGap(connectionId, System.currentTimeMillis(), System.currentTimeMillis());
+            await(() -> !synced(manager, "BNBBTC") && !synced(manager, "ETHBTC"));
+            assertTrue(Double.isNaN(manager.bestBid("BNBBTC")));
+
+            synchronise(manager, "300", "301", snapshot.replace("100", "300"));
+            long resyncs = manager.getShardStats(firstShard).getResyncCount() + manager.getShardStats(secondShard).getResyncCount();
+            assertEquals(twoResyncs, resyncs);
+        } finally {
+            manager.close();
+        }
+    }
+
+    @Test
+    public void testSnapshotFetchesArePaced() throws InterruptedException {
+        OrderBookManager manager = manager(slowBudget);
+        try {
+            manager.add(Arrays.asList("BNBBTC", "ETHBTC"));
+            assertEquals(slowInterval, manager.getFetchIntervalMillis());
+            manager.onMessage(event("BNBBTC", "101", "101", "[]"));
+            manager.onMessage(event("ETHBTC", "101", "101", "[]"));
+            await(() -> manager.getPendingFetchCount() == twoFetches);
+            assertEquals(noFetch, fetches.size());
+        } finally {
+            manager.close();
+        }
+    }
+
+    @Test
+    public void testStaleSnapshotIsFetchedAgain() throws InterruptedException {
+        OrderBookManager manager = manager(fastBudget);
+        try {
+            manager.add(Arrays.asList("BNBBTC"));
+            manager.onMessage(event("BNBBTC", "101", "101", "[]"));
+            await(() -> fetches.size() == oneFetch);
+            manager.onMessage(event("BNBBTC", "150", "150", "[]"));
+            fetches.poll().complete(snapshot);
+
+            await(() -> fetches.size() == oneFetch);
+            manager.onMessage(event("BNBBTC", "151", "151", "[[\"10.5\",\"1\"]]"));
+            fetches.poll().complete(snapshot.replace("100", "150"));
+            await(() -> synced(manager, "BNBBTC"));
+            assertEquals(Double.parseDouble("10.5"), manager.bestBid("BNBBTC"), delta);
+        } finally {
+            manager.close();
+        }
+    }
+
+    @Test(expected = BinanceConnectorException.class)
+    public void testSnapshotSourceIsRequired() {
+        OrderBookManager.builder().build();
+    }
+}
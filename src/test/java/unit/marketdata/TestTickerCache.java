@@ -0,0 +1,121 @@
+package unit.marketdata;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+
+import com.binance.connector.client.enums.TickerField;
+import com.binance.connector.client.impl.marketdata.TickerCache;
+import com.binance.connector.client.impl.marketdata.TickerSnapshot;
+import com.binance.connector.client.utils.SymbolRegistry;
+
+public class TestTickerCache {
+    private final String allTickers = "[{\"e\":\"24hrTicker\",\"E\":123456789,\"s\":\"BTCUSDT\",\"p\":\"-100.5\",\"P\":\"-0.25\","
+            + "\"w\":\"40100.1\",\"x\":\"40200\",\"c\":\"40099.5\",\"Q\":\"0.01\",\"b\":\"40099.4\",\"B\":\"1.2\",\"a\":\"40099.5\","
+            + "\"A\":\"0.8\",\"o\":\"40200\",\"h\":\"40500\",\"l\":\"39800\",\"v\":\"1000\",\"q\":\"40100000\",\"O\":0,\"C\":86400000,"
+            + "\"F\":0,\"L\":18150,\"n\":18151},"
+            + "{\"e\":\"24hrTicker\",\"E\":123456789,\"s\":\"ETHUSDT\",\"c\":\"2500.25\",\"v\":\"500\",\"n\":42}]";
+    private final String combinedMiniTickers = "{\"stream\":\"!miniTicker@arr\",\"data\":[{\"e\":\"24hrMiniTicker\","
+            + "\"E\":123456790,\"s\":\"BTCUSDT\",\"c\":\"40100\",\"o\":\"40200\",\"h\":\"40500\",\"l\":\"39800\",\"v\":\"1001\",\"q\":\"40140100\"}]}";
+    private final String bookTicker = "{\"u\":400900217,\"s\":\"BNBUSDT\",\"b\":\"25.35190000\",\"B\":\"31.21000000\","
+            + "\"a\":\"25.36520000\",\"A\":\"40.66000000\"}";
+    private final double delta = 0;
+    private final long eventTime = 123456789L;
+    private final long nextEventTime = 123456790L;
+    private final long tradeCount = 18151L;
+    private final long updateId = 400900217L;
+    private final int symbolCount = 3;
+    private final int updates = 4;
+    private final int readers = 4;
+    private final int writes = 20000;
+    private final long timeoutSeconds = 10;
+    private final int first = 0;
+
+    @Test
+    public void testAllTickerArray() {
+        TickerCache cache = new TickerCache();
+        cache.onMessage(allTickers);
+
+        int btc = cache.symbolId("BTCUSDT");
+        assertEquals("BTCUSDT", cache.symbolOf(btc));
+        assertEquals(Double.parseDouble("40099.5"), cache.get(btc, TickerField.LAST_PRICE), delta);
+        assertEquals(Double.parseDouble("-100.5"), cache.get(btc, TickerField.PRICE_CHANGE), delta);
+        assertEquals(Double.parseDouble("40099.4"), cache.get(btc, TickerField.BID_PRICE), delta);
+        assertEquals(eventTime, cache.getLong(btc, TickerField.EVENT_TIME));
+        assertEquals(tradeCount, cache.getLong(btc, TickerField.TRADE_COUNT));
+        assertEquals(Double.parseDouble("2500.25"), cache.get("ETHUSDT", TickerField.LAST_PRICE), delta);
+        assertTrue(Double.isNaN(cache.get("ETHUSDT", TickerField.BID_PRICE)));
+        assertTrue(Double.isNaN(cache.get("XRPUSDT", TickerField.LAST_PRICE)));
+        assertEquals(SymbolRegistry.NOT_FOUND, cache.symbolId("XRPUSDT"));
+    }
+
+    @Test
+    public void testUpdatesInPlaceFromCombinedAndBookTicker() {
+        TickerCache cache = new TickerCache();
+        cache.onMessage(allTickers);
+        cache.onMessage(combinedMiniTickers);
+        cache.onMessage(bookTicker);
+
+        TickerSnapshot snapshot = new TickerSnapshot();
+        assertTrue(cache.snapshot(cache.symbolId("BTCUSDT"), snapshot));
+        assertEquals("BTCUSDT", snapshot.getSymbol());
+        assertEquals(Double.parseDouble("40100"), snapshot.get(TickerField.LAST_PRICE), delta);
+        assertEquals(nextEventTime, snapshot.getLong(TickerField.EVENT_TIME));
+        // not part of the mini ticker, kept from the full ticker
+        assertEquals(Double.parseDouble("40099.4"), snapshot.get(TickerField.BID_PRICE), delta);
+
+        assertTrue(cache.snapshot(cache.symbolId("BNBUSDT"), snapshot));
+        assertEquals(updateId, snapshot.getLong(TickerField.BOOK_UPDATE_ID));
+        assertEquals(Double.parseDouble("25.3652"), snapshot.get(TickerField.ASK_PRICE), delta);
+        assertFalse(cache.snapshot(SymbolRegistry.NOT_FOUND, snapshot));
+
+        assertEquals(symbolCount, cache.size());
+        assertEquals(updates, cache.getUpdateCount());
+    }
+
+    @Test
+    public void testSnapshotsAreConsistentUnderConcurrentWrites() throws InterruptedException {
+        TickerCache cache = new TickerCache();
+        cache.onMessage("{\"s\":\"BTCUSDT\",\"b\":\"0\",\"a\":\"0\"}");
+        int btc = cache.symbolId("BTCUSDT");
+        AtomicBoolean consistent = new AtomicBoolean(true);
+        AtomicBoolean running = new AtomicBoolean(true);
+        CountDownLatch done = new CountDownLatch(readers);
+        for (int r = first; r < readers; r++) {
+            Thread reader = new Thread(() -> {
+                TickerSnapshot snapshot = new TickerSnapshot();
+                while (running.get()) {
+                    cache.snapshot(btc, snapshot);
+                    if (snapshot.get(TickerField.BID_PRICE) != snapshot.get(TickerField.ASK_PRICE)) {
+                        consistent.set(false);
+                    }
+                }
+                done.countDown();
+            });
+            reader.setDaemon(true);
+            reader.start();
+        }
+        for (int i = first; i < writes; i++) {
+            cache.onMessage("{\"s\":\"BTCUSDT\",\"b\":\"" + i + "\",\"a\":\"" + i + "\"}");
+        }
+        running.set(false);
+        assertTrue(done.await(timeoutSeconds, TimeUnit.SECONDS));
+        assertTrue(consistent.get());
+    }
+
+    @Test
+    public void testSharedRegistry() {
+        SymbolRegistry registry = new SymbolRegistry();
+        int eth = registry.register("ETHUSDT");
+        TickerCache cache = new TickerCache(registry);
+        cache.onMessage(allTickers);
+        assertEquals(eth, cache.symbolId("ETHUSDT"));
+        assertEquals(registry.find("BTCUSDT"), cache.symbolId("BTCUSDT"));
+    }
+}
@@ -0,0 +1,55 @@
+package unit.signature;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.binance.connector.client.utils.QueryEncoder;
+import com.binance.connector.client.utils.signaturegenerator.HmacSignatureGenerator;
+
+public class TestHmacSignatureGenerator {
+    private final String secret = "NhqPtmdSJYdKjVHjA7PZj4Mge3R5YNiP1e3UZjInClVN65XAbvqqM6A7H5fATj0j";
+    private final String payload = "symbol=LTCBTC&side=BUY&type=LIMIT&timeInForce=GTC&quantity=1&price=0.1&recvWindow=5000&timestamp=1499827319559";
+    private final String signature = "c8db56825ae71d6d79447849e617115f4a920fa2acdcab2b053c4b2838bd6b71";
+    private final long recvWindow = 5000;
+    private final long timestamp = 1499827319559L;
+    private final int quantity = 1;
+    private final int offset = 0;
+
+    @Test
+    public void testSigning() {
+        HmacSignatureGenerator signatureGenerator = new HmacSignatureGenerator(secret);
+        assertEquals(signature, signatureGenerator.getSignature(payload));
+        assertEquals(signature, signatureGenerator.getSignature(payload));
+    }
+
+    @Test
+    public void testSigningBytes() {
+        HmacSignatureGenerator signatureGenerator = new HmacSignatureGenerator(secret);
+        byte[] bytes = payload.getBytes(StandardCharsets.US_ASCII);
+        assertEquals(signature, signatureGenerator.getSignature(bytes, offset, bytes.length));
+    }
+
+    @Test
+    public void testSigningInPlace() {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("symbol", "LTCBTC");
+        parameters.put("side", "BUY");
+        parameters.put("type", "LIMIT");
+        parameters.put("timeInForce", "GTC");
+        parameters.put("quantity", quantity);
+        parameters.put("price", "0.1");
+        parameters.put("recvWindow", recvWindow);
+        parameters.put("timestamp", timestamp);
+
+        String query = QueryEncoder.get()
+                .appendParameters(parameters)
+                .appendSignature(new HmacSignatureGenerator(secret))
+                .toString();
+        assertEquals(payload + "&signature=" + signature, query);
+    }
+}
@@ -0,0 +1,105 @@
+package unit.spot.httpclient;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.binance.connector.client.SpotClient;
+import com.binance.connector.client.enums.HttpMethod;
+import com.binance.connector.client.exceptions.BinanceConnectorException;
+import com.binance.connector.client.impl.SpotClientImpl;
+import com.binance.connector.client.utils.ProxyAuth;
+import com.binance.connector.client.utils.httpclient.HttpClientConfig;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockWebServer;
+import unit.MockData;
+import unit.MockWebServerDispatcher;
+
+public class TestHttpClient {
+    private MockWebServer mockWebServer;
+    private String baseUrl;
+    private final Integer proxyPort = 1234;
+    private final int poolSize = 16;
+    private final int maxRequestsPerHost = 32;
+    private final long timeoutSeconds = 3;
+    private final int invalidPoolSize = 0;
+    private final long invalidTimeout = -1;
+
+    @Before
+    public void init() {
+        this.mockWebServer = new MockWebServer();
+        this.baseUrl = mockWebServer.url(MockData.PREFIX).toString();
+        Dispatcher dispatcher = MockWebServerDispatcher.getDispatcher(MockData.PREFIX, "/api/v3/time", MockData.MOCK_RESPONSE, HttpMethod.GET, MockData.HTTP_STATUS_OK);
+        mockWebServer.setDispatcher(dispatcher);
+    }
+
+    @Test
+    public void testConfigIsAppliedToHttpClient() {
+        HttpClientConfig config = HttpClientConfig.builder()
+                .poolSize(poolSize)
+                .maxRequestsPerHost(maxRequestsPerHost)
+                .preferHttp2(false)
+                .connectTimeout(timeoutSeconds, TimeUnit.SECONDS)
+                .callTimeout(timeoutSeconds, TimeUnit.SECONDS)
+                .build();
+        OkHttpClient httpClient = config.buildHttpClient();
+
+        assertEquals(maxRequestsPerHost, httpClient.dispatcher().getMaxRequestsPerHost());
+        assertEquals(Collections.singletonList(Protocol.HTTP_1_1), httpClient.protocols());
+        assertEquals(TimeUnit.SECONDS.toMillis(timeoutSeconds), httpClient.connectTimeoutMillis());
+        assertEquals(TimeUnit.SECONDS.toMillis(timeoutSeconds), httpClient.callTimeoutMillis());
+    }
+
+    @Test
+    public void testInvalidConfig() {
+        assertThrows(BinanceConnectorException.class, () -> HttpClientConfig.builder().poolSize(invalidPoolSize));
+        assertThrows(BinanceConnectorException.class, () -> HttpClientConfig.builder().readTimeout(invalidTimeout, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testClientsOwnSeparateHttpClients() {
+        SpotClient client = new SpotClientImpl(baseUrl);
+        SpotClient otherClient = new SpotClientImpl(baseUrl);
+
+        assertEquals(MockData.MOCK_RESPONSE, client.createMarket().time());
+        assertEquals(MockData.MOCK_RESPONSE, otherClient.createMarket().time());
+        assertNotSame(client.getHttpClient().connectionPool(), otherClient.getHttpClient().connectionPool());
+    }
+
+    @Test
+    public void testSharedHttpClient() {
+        SpotClient client = new SpotClientImpl(baseUrl);
+        SpotClient otherClient = new SpotClientImpl(baseUrl);
+        otherClient.setHttpClient(client.getHttpClient());
+
+        assertEquals(MockData.MOCK_RESPONSE, otherClient.createMarket().time());
+        assertSame(client.getHttpClient(), otherClient.getHttpClient());
+    }
+
+    @Test
+    public void testProxyKeepsConnectionPool() {
+        SpotClient client = new SpotClientImpl(baseUrl);
+        OkHttpClient httpClient = client.getHttpClient();
+        assertEquals(MockData.MOCK_RESPONSE, client.createMarket().time());
+
+        Proxy proxyConn = new Proxy(Proxy.Type.HTTP, new InetSocketAddress("127.0.0.1", proxyPort));
+        client.setProxy(new ProxyAuth(proxyConn, null));
+        assertThrows(BinanceConnectorException.class, () -> client.createMarket().time());
+
+        client.unsetProxy();
+        assertEquals(MockData.MOCK_RESPONSE, client.createMarket().time());
+        assertSame(httpClient, client.getHttpClient());
+    }
+}
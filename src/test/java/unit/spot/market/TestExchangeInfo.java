@@ -14,6 +14,7 @@ import com.binance.connector.client.SpotClient;
 import com.binance.connector.client.enums.HttpMethod;
 import com.binance.connector.client.exceptions.BinanceConnectorException;
 import com.binance.connector.client.impl.SpotClientImpl;
+import com.binance.connector.client.utils.BinanceResponse;
 import com.binance.connector.client.utils.UrlBuilder;
 
 import okhttp3.mockwebserver.Dispatcher;
@@ -44,6 +45,20 @@ public class TestExchangeInfo {
         assertEquals(MockData.MOCK_RESPONSE, result);
     }
 
+    @Test
+    public void testExchangeInfoWithMetadata() {
+        String path = "/api/v3/exchangeInfo";
+        Map<String, Object> parameters = new LinkedHashMap<>();
+
+        Dispatcher dispatcher = MockWebServerDispatcher.getDispatcher(MockData.PREFIX, path, MockData.MOCK_RESPONSE, HttpMethod.GET, MockData.HTTP_STATUS_OK);
+        mockWebServer.setDispatcher(dispatcher);
+
+        SpotClient client = new SpotClientImpl(baseUrl);
+        BinanceResponse result = client.createMarket().exchangeInfoWithMetadata(parameters);
+        assertEquals(MockData.HTTP_STATUS_OK, result.getStatusCode());
+        assertEquals(MockData.MOCK_RESPONSE, result.getBodyAsString());
+    }
+
     @Test
     public void testExchangeInfoWithOneSymbol() {
         String path = "/api/v3/exchangeInfo?symbol=BNBUSD";
@@ -0,0 +1,113 @@
+package unit.spot.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.binance.connector.client.SpotClient;
+import com.binance.connector.client.exceptions.BinanceClientException;
+import com.binance.connector.client.exceptions.BinanceConnectorException;
+import com.binance.connector.client.impl.SpotClientImpl;
+import com.binance.connector.client.utils.metrics.InMemoryRequestMetrics;
+import com.binance.connector.client.utils.metrics.LatencyHistogram;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import unit.MockData;
+
+public class TestRequestMetrics {
+    private MockWebServer mockWebServer;
+    private String baseUrl;
+    private final String invalidSymbol = "{\"code\":-1121,\"msg\":\"Invalid symbol.\"}";
+    private final int invalidSymbolErrorCode = -1121;
+    private final int requests = 3;
+    private final int successes = 2;
+    private final int failures = 1;
+    private final int zero = 0;
+    private final long latencies = 1000;
+    private final long first = 1;
+    private final long median = 500;
+    private final long p99 = 990;
+    private final double maxRelativeError = 0.016;
+    private final double percentile50 = 50;
+    private final double percentile99 = 99;
+    private final double percentile100 = 100;
+
+    @Before
+    public void init() {
+        this.mockWebServer = new MockWebServer();
+        // without the trailing slash, so the endpoints are recorded as /api/v3/...
+        this.baseUrl = mockWebServer.url("").toString().replaceAll("/$", "");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        mockWebServer.shutdown();
+    }
+
+    @Test
+    public void testResponses() {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(MockData.HTTP_STATUS_OK).setBody(MockData.MOCK_RESPONSE));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(MockData.HTTP_STATUS_OK).setBody(MockData.MOCK_RESPONSE));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(MockData.HTTP_STATUS_CLIENT_ERROR).setBody(invalidSymbol));
+
+        InMemoryRequestMetrics metrics = new InMemoryRequestMetrics();
+        SpotClient client = new SpotClientImpl(baseUrl);
+        client.setRequestMetrics(metrics);
+
+        client.createMarket().ping();
+        client.createMarket().pingAsync().join();
+        CompletionException e = assertThrows(CompletionException.class, () -> client.createMarket().pingAsync().join());
+        assertTrue(e.getCause() instanceof BinanceClientException);
+
+        assertEquals(successes, metrics.getStatusCodeCount(MockData.HTTP_STATUS_OK));
+        assertEquals(failures, metrics.getStatusCodeCount(MockData.HTTP_STATUS_CLIENT_ERROR));
+        assertEquals(failures, metrics.getErrorCodeCount(invalidSymbolErrorCode));
+        assertEquals(zero, metrics.getFailureCount());
+        assertEquals(zero, metrics.getInFlight());
+        assertEquals(requests, metrics.getLatencyHistogram("GET", "/api/v3/ping").getCount());
+        assertTrue(metrics.getLatencyHistograms().containsKey("GET /api/v3/ping"));
+        assertTrue(metrics.getRequestBytes() > zero);
+        assertEquals(successes * MockData.MOCK_RESPONSE.length() + invalidSymbol.length(), metrics.getResponseBytes());
+        assertNull(metrics.getLatencyHistogram("POST", "/api/v3/ping"));
+    }
+
+    @Test
+    public void testFailure() throws IOException {
+        InMemoryRequestMetrics metrics = new InMemoryRequestMetrics();
+        SpotClient client = new SpotClientImpl(baseUrl);
+        client.setRequestMetrics(metrics);
+        mockWebServer.shutdown();
+
+        assertThrows(BinanceConnectorException.class, () -> client.createMarket().ping());
+        assertEquals(failures, metrics.getFailureCount());
+        assertEquals(zero, metrics.getInFlight());
+        assertEquals(failures, metrics.getLatencyHistogram("GET", "/api/v3/ping").getCount());
+    }
+
+    @Test
+    public void testLatencyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(zero, histogram.getValueAtPercentile(percentile99));
+        for (long i = first; i <= latencies; i++) {
+            histogram.record(i, TimeUnit.MICROSECONDS);
+        }
+        assertEquals(latencies, histogram.getCount());
+        assertEquals(latencies, histogram.getMaxMicros());
+        assertEquals(latencies, histogram.getValueAtPercentile(percentile100));
+        assertEquals(median, histogram.getValueAtPercentile(percentile50), median * maxRelativeError);
+        assertEquals(p99, histogram.getValueAtPercentile(percentile99), p99 * maxRelativeError);
+
+        histogram.reset();
+        assertEquals(zero, histogram.getCount());
+    }
+}
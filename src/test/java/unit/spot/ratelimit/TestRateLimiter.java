@@ -0,0 +1,177 @@
+package unit.spot.ratelimit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.binance.connector.client.enums.RateLimitPolicy;
+import com.binance.connector.client.enums.RateLimitType;
+import com.binance.connector.client.exceptions.BinanceClientException;
+import com.binance.connector.client.impl.SpotClientImpl;
+import com.binance.connector.client.utils.ratelimit.EndpointWeight;
+import com.binance.connector.client.utils.ratelimit.EndpointWeights;
+import com.binance.connector.client.utils.ratelimit.RateLimiter;
+
+import okhttp3.Dispatcher;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import unit.MockData;
+
+public class TestRateLimiter {
+    private MockWebServer mockWebServer;
+    private String baseUrl;
+    private final int httpStatusTooManyRequests = 429;
+    private final int tooManyRequestsErrorCode = -1003;
+    private final long usedWeight = 5990;
+    private final int depthWeight = 250;
+    private final int tickerWeight = 80;
+    private final int marginOrderWeight = 6;
+    private final int defaultWeight = 1;
+    private final int singleOrder = 1;
+    private final long maxWaitSeconds = 5;
+    private final long retryAfterSeconds = 1;
+    private final long banSeconds = 60;
+    private final int oneDispatcherThread = 1;
+
+    @Before
+    public void init() {
+        this.mockWebServer = new MockWebServer();
+        this.baseUrl = mockWebServer.url(MockData.PREFIX).toString();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        mockWebServer.shutdown();
+    }
+
+    @Test
+    public void testEndpointWeights() {
+        EndpointWeight depth = EndpointWeights.of("GET", HttpUrl.get("https://api.binance.com/api/v3/depth?symbol=BNBUSDT&limit=5000"));
+        assertEquals(depthWeight, depth.getWeight());
+        assertEquals(RateLimitType.REQUEST_WEIGHT, depth.getType());
+
+        EndpointWeight ticker = EndpointWeights.of("GET", HttpUrl.get("https://api.binance.com/api/v3/ticker/24hr"));
+        assertEquals(tickerWeight, ticker.getWeight());
+
+        EndpointWeight order = EndpointWeights.of("POST", HttpUrl.get("https://api.binance.com/api/v3/order?symbol=BNBUSDT"));
+        assertEquals(singleOrder, order.getOrders());
+
+        EndpointWeight marginOrder = EndpointWeights.of("POST", HttpUrl.get("https://api.binance.com/sapi/v1/margin/order"));
+        assertEquals(marginOrderWeight, marginOrder.getWeight());
+        assertEquals(RateLimitType.SAPI_UID_WEIGHT, marginOrder.getType());
+
+        EndpointWeight unknown = EndpointWeights.of("GET", HttpUrl.get("https://api.binance.com/sapi/v1/system/status"));
+        assertEquals(defaultWeight, unknown.getWeight());
+        assertEquals(RateLimitType.SAPI_IP_WEIGHT, unknown.getType());
+    }
+
+    @Test
+    public void testRejectWhenUsedWeightReportedByServer() {
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(MockData.HTTP_STATUS_OK)
+                .setHeader(RateLimitType.REQUEST_WEIGHT.getHeader(), usedWeight)
+                .setBody(MockData.MOCK_RESPONSE));
+
+        RateLimiter rateLimiter = RateLimiter.builder().policy(RateLimitPolicy.REJECT).build();
+        SpotClientImpl client = new SpotClientImpl(baseUrl);
+        client.setRateLimiter(rateLimiter);
+
+        assertEquals(MockData.MOCK_RESPONSE, client.createMarket().time());
+        assertTrue(rateLimiter.getUsed(RateLimitType.REQUEST_WEIGHT) >= usedWeight);
+
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        BinanceClientException thrown = assertThrows(BinanceClientException.class, () -> client.createMarket().exchangeInfo(parameters));
+        assertEquals(httpStatusTooManyRequests, thrown.getHttpStatusCode());
+        assertEquals(tooManyRequestsErrorCode, thrown.getErrorCode());
+        assertEquals(singleOrder, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    public void testRetryAfterBlocksFollowingRequests() {
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(httpStatusTooManyRequests)
+                .setHeader("Retry-After", banSeconds)
+                .setBody("{\"code\": -1003, \"msg\": \"Too many requests.\"}"));
+
+        RateLimiter rateLimiter = RateLimiter.builder().policy(RateLimitPolicy.REJECT).build();
+        SpotClientImpl client = new SpotClientImpl(baseUrl);
+        client.setRateLimiter(rateLimiter);
+
+        assertThrows(BinanceClientException.class, () -> client.createMarket().time());
+        assertTrue(rateLimiter.getBannedUntil() > System.currentTimeMillis());
+
+        BinanceClientException thrown = assertThrows(BinanceClientException.class, () -> client.createMarket().ping());
+        assertEquals(tooManyRequestsErrorCode, thrown.getErrorCode());
+        assertEquals(singleOrder, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    public void testQueueWaitsUntilRetryAfter() {
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(httpStatusTooManyRequests)
+                .setHeader("Retry-After", retryAfterSeconds)
+                .setBody("{\"code\": -1003, \"msg\": \"Too many requests.\"}"));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(MockData.HTTP_STATUS_OK).setBody(MockData.MOCK_RESPONSE));
+
+        RateLimiter rateLimiter = RateLimiter.builder()
+                .policy(RateLimitPolicy.QUEUE)
+                .maxWait(maxWaitSeconds, TimeUnit.SECONDS)
+                .build();
+        SpotClientImpl client = new SpotClientImpl(baseUrl);
+        client.setRateLimiter(rateLimiter);
+
+        assertThrows(BinanceClientException.class, () -> client.createMarket().time());
+        long bannedUntil = rateLimiter.getBannedUntil();
+
+        assertEquals(MockData.MOCK_RESPONSE, client.createMarket().time());
+        assertTrue(System.currentTimeMillis() >= bannedUntil);
+    }
+
+    @Test
+    public void testQueuedAsyncRequestDoesNotHoldDispatcher() throws Exception {
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(httpStatusTooManyRequests)
+                .setHeader("Retry-After", retryAfterSeconds)
+                .setBody("{\"code\": -1003, \"msg\": \"Too many requests.\"}"));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(MockData.HTTP_STATUS_OK).setBody(MockData.MOCK_RESPONSE));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(MockData.HTTP_STATUS_OK).setBody(MockData.MOCK_RESPONSE));
+
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(oneDispatcherThread);
+        OkHttpClient httpClient = new OkHttpClient.Builder().dispatcher(dispatcher).build();
+
+        RateLimiter rateLimiter = RateLimiter.builder()
+                .policy(RateLimitPolicy.QUEUE)
+                .maxWait(maxWaitSeconds, TimeUnit.SECONDS)
+                .build();
+        SpotClientImpl limited = new SpotClientImpl(baseUrl);
+        limited.setHttpClient(httpClient);
+        limited.setRateLimiter(rateLimiter);
+        SpotClientImpl unlimited = new SpotClientImpl(baseUrl);
+        unlimited.setHttpClient(httpClient);
+
+        assertThrows(BinanceClientException.class, () -> limited.createMarket().time());
+        long bannedUntil = rateLimiter.getBannedUntil();
+
+        // the queued request waits on a timer, the dispatcher keeps serving other requests
+        CompletableFuture<String> queued = limited.createMarket().timeAsync();
+        assertEquals(MockData.MOCK_RESPONSE, unlimited.createMarket().pingAsync().get(maxWaitSeconds, TimeUnit.SECONDS));
+        assertFalse(queued.isDone());
+
+        assertEquals(MockData.MOCK_RESPONSE, queued.get(maxWaitSeconds, TimeUnit.SECONDS));
+        assertTrue(System.currentTimeMillis() >= bannedUntil);
+    }
+}
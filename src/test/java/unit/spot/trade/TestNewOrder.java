@@ -5,6 +5,7 @@ import static org.junit.Assert.assertThrows;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -59,4 +60,29 @@ public class TestNewOrder {
         String result = client.createTrade().newOrder(parameters);
         assertEquals(MockData.MOCK_RESPONSE, result);
     }
+
+    @Test
+    public void testNewOrderAsync() {
+        String path = "/api/v3/order?symbol=BNBUSDT&side=BUY&type=MARKET&quantity=0.01";
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("symbol", "BNBUSDT");
+        parameters.put("side", "BUY");
+        parameters.put("type", "MARKET");
+        parameters.put("quantity", quantity);
+
+        Dispatcher dispatcher = MockWebServerDispatcher.getDispatcher(MockData.PREFIX, path, MockData.MOCK_RESPONSE, HttpMethod.POST, MockData.HTTP_STATUS_OK);
+        mockWebServer.setDispatcher(dispatcher);
+
+        SpotClient client = new SpotClientImpl(MockData.API_KEY, MockData.SECRET_KEY, baseUrl);
+        CompletableFuture<String> result = client.createTrade().newOrderAsync(parameters);
+        assertEquals(MockData.MOCK_RESPONSE, result.join());
+    }
+
+    @Test
+    public void testNewOrderAsyncWithoutParameters() {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+
+        SpotClient client = new SpotClientImpl(MockData.API_KEY, MockData.SECRET_KEY, baseUrl);
+        assertThrows(BinanceConnectorException.class, () -> client.createTrade().newOrderAsync(parameters));
+    }
 }
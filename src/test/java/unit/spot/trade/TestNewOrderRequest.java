@@ -0,0 +1,149 @@
+package unit.spot.trade;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.binance.connector.client.SpotClient;
+import com.binance.connector.client.enums.HttpMethod;
+import com.binance.connector.client.enums.NewOrderRespType;
+import com.binance.connector.client.enums.OrderType;
+import com.binance.connector.client.enums.SelfTradePreventionMode;
+import com.binance.connector.client.enums.Side;
+import com.binance.connector.client.enums.TimeInForce;
+import com.binance.connector.client.exceptions.BinanceConnectorException;
+import com.binance.connector.client.impl.SpotClientImpl;
+import com.binance.connector.client.requests.NewOrderRequest;
+import com.binance.connector.client.utils.QueryEncoder;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockWebServer;
+import unit.MockData;
+import unit.MockWebServerDispatcher;
+
+public class TestNewOrderRequest {
+    private MockWebServer mockWebServer;
+    private String baseUrl;
+
+    private final long unscaledQuantity = 1;
+    private final int quantityScale = 2;
+    private final long unscaledPrice = 3105000;
+    private final int priceScale = 4;
+    private final long unscaledStopPrice = -5;
+    private final int stopPriceScale = 3;
+    private final long strategyId = 12;
+    private final int strategyType = 1000000;
+    private final long recvWindow = 5000;
+    private final int negativeScale = -1;
+
+    @Before
+    public void init() {
+        this.mockWebServer = new MockWebServer();
+        this.baseUrl = mockWebServer.url(MockData.PREFIX).toString();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        mockWebServer.shutdown();
+    }
+
+    @Test
+    public void testWriteTo() {
+        NewOrderRequest request = new NewOrderRequest()
+                .symbol("BNBUSDT")
+                .side(Side.BUY)
+                .type(OrderType.LIMIT)
+                .timeInForce(TimeInForce.GTC)
+                .quantity(unscaledQuantity, quantityScale)
+                .price(unscaledPrice, priceScale)
+                .newClientOrderId("my order")
+                .strategyId(strategyId)
+                .strategyType(strategyType)
+                .stopPrice(unscaledStopPrice, stopPriceScale)
+                .icebergQty(new BigDecimal("1E+2"))
+                .newOrderRespType(NewOrderRespType.ACK)
+                .selfTradePreventionMode(SelfTradePreventionMode.EXPIRE_MAKER)
+                .recvWindow(recvWindow);
+
+        QueryEncoder encoder = QueryEncoder.get();
+        request.writeTo(encoder);
+        assertEquals("symbol=BNBUSDT&side=BUY&type=LIMIT&timeInForce=GTC&quantity=0.01&price=310.5"
+                + "&newClientOrderId=my+order&strategyId=12&strategyType=1000000&stopPrice=-0.005&icebergQty=100"
+                + "&newOrderRespType=ACK&selfTradePreventionMode=EXPIRE_MAKER&recvWindow=5000", encoder.toString());
+    }
+
+    @Test
+    public void testToJSONObject() {
+        NewOrderRequest request = new NewOrderRequest()
+                .symbol("BNBUSDT")
+                .side(Side.SELL)
+                .type(OrderType.MARKET)
+                .quantity(new BigDecimal("0.10"));
+
+        JSONObject parameters = request.toJSONObject();
+        assertEquals("SELL", parameters.getString("side"));
+        assertEquals("MARKET", parameters.getString("type"));
+        assertEquals("0.1", parameters.getString("quantity"));
+        assertFalse(parameters.has("price"));
+    }
+
+    @Test
+    public void testReset() {
+        NewOrderRequest request = new NewOrderRequest()
+                .symbol("BNBUSDT")
+                .side(Side.BUY)
+                .type(OrderType.LIMIT)
+                .price(unscaledPrice, priceScale)
+                .recvWindow(recvWindow)
+                .reset()
+                .symbol("ETHUSDT")
+                .side(Side.SELL)
+                .type(OrderType.MARKET);
+
+        assertNull(request.getPrice());
+        QueryEncoder encoder = QueryEncoder.get();
+        request.writeTo(encoder);
+        assertEquals("symbol=ETHUSDT&side=SELL&type=MARKET", encoder.toString());
+    }
+
+    @Test
+    public void testInvalidParameters() {
+        assertThrows(BinanceConnectorException.class, () -> new NewOrderRequest().side(Side.BUY).type(OrderType.MARKET).validate());
+        assertThrows(BinanceConnectorException.class, () -> new NewOrderRequest().quantity(unscaledQuantity, negativeScale));
+        assertThrows(BinanceConnectorException.class, () -> new NewOrderRequest().price(new BigDecimal("123456789012345678901234567890")));
+    }
+
+    @Test
+    public void testNewOrder() {
+        String path = "/api/v3/order?symbol=BNBUSDT&side=BUY&type=MARKET&quantity=0.01&timestamp=";
+        Dispatcher dispatcher = MockWebServerDispatcher.getDispatcher(MockData.PREFIX, path, MockData.MOCK_RESPONSE, HttpMethod.POST, MockData.HTTP_STATUS_OK);
+        mockWebServer.setDispatcher(dispatcher);
+
+        NewOrderRequest request = new NewOrderRequest()
+                .symbol("BNBUSDT")
+                .side(Side.BUY)
+                .type(OrderType.MARKET)
+                .quantity(unscaledQuantity, quantityScale);
+
+        SpotClient client = new SpotClientImpl(MockData.API_KEY, MockData.SECRET_KEY, baseUrl);
+        assertEquals(MockData.MOCK_RESPONSE, client.createTrade().newOrder(request));
+        assertEquals(MockData.MOCK_RESPONSE, client.createTrade().newOrderAsync(request).join());
+    }
+
+    @Test
+    public void testNewOrderWithoutMandatoryParameters() {
+        SpotClient client = new SpotClientImpl(MockData.API_KEY, MockData.SECRET_KEY, baseUrl);
+        NewOrderRequest request = new NewOrderRequest().symbol("BNBUSDT").side(Side.BUY);
+        assertThrows(BinanceConnectorException.class, () -> client.createTrade().newOrder(request));
+        assertThrows(BinanceConnectorException.class, () -> client.createTrade().newOrderAsync(request));
+    }
+}
@@ -0,0 +1,296 @@
+package unit.trading;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.binance.connector.client.WebSocketApiClient;
+import com.binance.connector.client.enums.RateLimitPolicy;
+import com.binance.connector.client.enums.RateLimitType;
+import com.binance.connector.client.enums.SessionState;
+import com.binance.connector.client.exceptions.BinanceClientException;
+import com.binance.connector.client.exceptions.BinanceConnectorException;
+import com.binance.connector.client.exceptions.WebSocketNotConnectedException;
+import com.binance.connector.client.impl.SpotClientImpl;
+import com.binance.connector.client.impl.trading.OrderGateway;
+import com.binance.connector.client.impl.websocketapi.WebSocketApiAccount;
+import com.binance.connector.client.impl.websocketapi.WebSocketApiAuth;
+import com.binance.connector.client.impl.websocketapi.WebSocketApiGeneral;
+import com.binance.connector.client.impl.websocketapi.WebSocketApiMarket;
+import com.binance.connector.client.impl.websocketapi.WebSocketApiTrade;
+import com.binance.connector.client.impl.websocketapi.WebSocketApiUserDataStream;
+import com.binance.connector.client.utils.ReconnectPolicy;
+import com.binance.connector.client.utils.WebSocketConnection;
+import com.binance.connector.client.utils.ratelimit.OrderCountLimit;
+import com.binance.connector.client.utils.websocketapi.WebSocketApiRequestHandler;
+import com.binance.connector.client.utils.websocketcallback.WebSocketClosedCallback;
+import com.binance.connector.client.utils.websocketcallback.WebSocketClosingCallback;
+import com.binance.connector.client.utils.websocketcallback.WebSocketFailureCallback;
+import com.binance.connector.client.utils.websocketcallback.WebSocketMessageCallback;
+import com.binance.connector.client.utils.websocketcallback.WebSocketOpenCallback;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import unit.MockData;
+
+public class TestOrderGateway {
+    private final long noWaitMillis = 100;
+    private final long timeoutSeconds = 5;
+    private final long serverOrderCount = 5;
+    private final int tooManyRequestsErrorCode = -1003;
+    private final int oneOrder = 1;
+    private final int dailyLimit = 100;
+    private final int none = 0;
+    private final int one = 1;
+    private final int manyOrders = 5000;
+
+    private final BlockingQueue<String> sent = new LinkedBlockingQueue<>();
+    private volatile boolean connected = true;
+    private WebSocketApiRequestHandler handler;
+    private MockWebServer mockWebServer;
+
+    @Before
+    public void init() {
+        WebSocketConnection connection = new WebSocketConnection(response -> { }, text -> { }, (code, reason) -> { },
+                (code, reason) -> { }, (t, response) -> { }, MockData.WS_REQUEST, null) {
+            @Override
+            public void send(String message) {
+                if (!connected) {
+                    throw new WebSocketNotConnectedException("No WebSocket connection. Please connect first!");
+                }
+                sent.add(message);
+            }
+        };
+        handler = new WebSocketApiRequestHandler(connection, MockData.API_KEY, MockData.HMAC_SIGNATURE_GENERATOR);
+        mockWebServer = new MockWebServer();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        mockWebServer.shutdown();
+    }
+
+    @Test
+    public void testKeepsWindowAndSendsCancelsFirst() throws Exception {
+        OrderGateway gateway = OrderGateway.builder()
+                .webSocketApiClient(new FakeClient())
+                .maxInFlight(one)
+                .build();
+        CompletableFuture<String> first = gateway.newOrder("BNBUSDT", "BUY", "MARKET", order("o1"));
+        CompletableFuture<String> second = gateway.newOrder("BNBUSDT", "BUY", "MARKET", order("o2"));
+        CompletableFuture<String> cancel = gateway.cancelOrder("BNBUSDT", order("c1").put("orderId", one));
+        assertEquals("o1", nextId());
+        assertNull(sent.poll(noWaitMillis, TimeUnit.MILLISECONDS));
+        assertEquals(one, gateway.getInFlightCount());
+        assertEquals(one + one, gateway.getQueuedCount());
+
+        String response = "{\"id\":\"o1\",\"status\":200,\"result\":{\"orderId\":1},\"rateLimits\":[{\"rateLimitType\":\"ORDERS\","
+                + "\"interval\":\"SECOND\",\"intervalNum\":10,\"limit\":50,\"count\":5}]}";
+        assertTrue(handler.onMessage(response));
+        assertEquals(response, first.get(timeoutSeconds, TimeUnit.SECONDS));
+        assertEquals(serverOrderCount, gateway.getOrderCountLimit().getUsed(RateLimitType.ORDERS_10S));
+
+        // the cancellation queued after the second order is sent before it
+        assertEquals("c1", nextId());
+        assertFalse(second.isDone());
+        handler.onMessage("{\"id\":\"c1\",\"status\":200,\"result\":{}}");
+        assertTrue(cancel.isDone());
+        assertEquals("o2", nextId());
+        handler.onMessage("{\"id\":\"o2\",\"status\":400,\"error\":{\"code\":-2010,\"msg\":\"Account has insufficient balance.\"}}");
+        assertTrue(assertThrows(ExecutionException.class, second::get).getCause() instanceof BinanceClientException);
+
+        assertEquals(none, gateway.getInFlightCount());
+        assertEquals(one + one + one, gateway.getLatencies().getCount());
+        assertEquals(one + one + one, gateway.getSentCount());
+    }
+
+    @Test
+    public void testRejectsOrdersOverLimit() throws Exception {
+        OrderGateway gateway = OrderGateway.builder()
+                .webSocketApiClient(new FakeClient())
+                .orderCountLimit(new OrderCountLimit(oneOrder, dailyLimit))
+                .policy(RateLimitPolicy.REJECT)
+                .build();
+        gateway.newOrder("BNBUSDT", "BUY", "MARKET", order("o1"));
+        CompletableFuture<String> rejected = gateway.newOrder("BNBUSDT", "BUY", "MARKET", order("o2"));
+        gateway.cancelOrder("BNBUSDT", order("c1").put("orderId", one));
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> rejected.get(timeoutSeconds, TimeUnit.SECONDS));
+        assertEquals(tooManyRequestsErrorCode, ((BinanceClientException) e.getCause()).getErrorCode());
+        assertEquals("o1", nextId());
+        assertEquals("c1", nextId());
+        assertEquals(one, gateway.getRejectedCount());
+        assertEquals(oneOrder, gateway.getOrderCountLimit().getUsed(RateLimitType.ORDERS_1D));
+    }
+
+    @Test
+    public void testFallsBackToRest() throws Exception {
+        BlockingQueue<String> paths = new LinkedBlockingQueue<>();
+        mockWebServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                paths.add(request.getMethod() + " " + request.getPath());
+                return new MockResponse().setResponseCode(MockData.HTTP_STATUS_OK).setBody(MockData.MOCK_RESPONSE);
+            }
+        });
+        SpotClientImpl spotClient = new SpotClientImpl(MockData.API_KEY, MockData.SECRET_KEY, mockWebServer.url(MockData.PREFIX).toString());
+        OrderGateway gateway = OrderGateway.builder()
+                .webSocketApiClient(new FakeClient())
+                .restFallback(spotClient.createTrade())
+                .build();
+        connected = false;
+
+        assertEquals(MockData.MOCK_RESPONSE, gateway.newOrder("BNBUSDT", "BUY", "MARKET", order("o1")).get(timeoutSeconds, TimeUnit.SECONDS));
+        String path = paths.poll(timeoutSeconds, TimeUnit.SECONDS);
+        assertTrue(path.startsWith("POST "));
+        assertTrue(path.contains("/api/v3/order?"));
+        assertTrue(path.contains("symbol=BNBUSDT"));
+        assertFalse(path.contains("requestId"));
+        assertEquals(one, gateway.getFallbackCount());
+        assertEquals(none, gateway.getLatencies().getCount());
+        assertEquals(none, handler.getPendingRequestCount());
+
+        OrderGateway socketOnly = OrderGateway.builder().webSocketApiClient(new FakeClient()).build();
+        CompletableFuture<String> failed = socketOnly.newOrder("BNBUSDT", "BUY", "MARKET", order("o2"));
+        assertTrue(assertThrows(ExecutionException.class, failed::get).getCause() instanceof BinanceConnectorException);
+        assertEquals(none, socketOnly.getInFlightCount());
+        assertThrows(BinanceConnectorException.class, () -> OrderGateway.builder().build());
+    }
+
+    @Test
+    public void testFallsBackOnlyWhenDisconnected() throws Exception {
+        SpotClientImpl spotClient = new SpotClientImpl(MockData.API_KEY, MockData.SECRET_KEY, mockWebServer.url(MockData.PREFIX).toString());
+        OrderGateway gateway = OrderGateway.builder()
+                .webSocketApiClient(new FakeClient())
+                .restFallback(spotClient.createTrade())
+                .build();
+        gateway.newOrder("BNBUSDT", "BUY", "MARKET", order("o1"));
+        // a request id already pending is an error of the request, not of the connection
+        CompletableFuture<String> duplicate = gateway.newOrder("BNBUSDT", "BUY", "MARKET", order("o1"));
+        assertTrue(assertThrows(ExecutionException.class, duplicate::get).getCause() instanceof BinanceConnectorException);
+        assertEquals(none, gateway.getFallbackCount());
+        assertEquals(none, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    public void testCompletesFailuresOutsideLock() throws Exception {
+        OrderGateway gateway = OrderGateway.builder()
+                .webSocketApiClient(new FakeClient())
+                .maxInFlight(one)
+                .orderCountLimit(new OrderCountLimit(manyOrders + one, manyOrders + one))
+                .build();
+        CompletableFuture<String> first = gateway.newOrder("BNBUSDT", "BUY", "MARKET", order("o1"));
+        List<CompletableFuture<String>> queued = new ArrayList<>();
+        for (int i = none; i < manyOrders; i++) {
+            queued.add(gateway.newOrder("BNBUSDT", "BUY", "MARKET", order("q" + i)));
+        }
+        AtomicBoolean locked = new AtomicBoolean();
+        CompletableFuture<String> last = queued.get(manyOrders - one);
+        last.whenComplete((response, t) -> locked.set(Thread.holdsLock(gateway)));
+        nextId();
+
+        // each queued order fails as it is sent, without draining the queue recursively
+        connected = false;
+        handler.onMessage("{\"id\":\"o1\",\"status\":200,\"result\":{}}");
+        assertNotNull(first.get(timeoutSeconds, TimeUnit.SECONDS));
+        assertThrows(ExecutionException.class, () -> last.get(timeoutSeconds, TimeUnit.SECONDS));
+        for (CompletableFuture<String> order : queued) {
+            assertTrue(order.isCompletedExceptionally());
+        }
+        assertFalse(locked.get());
+        assertEquals(none, gateway.getInFlightCount());
+        assertEquals(none, gateway.getQueuedCount());
+    }
+
+    private JSONObject order(String requestId) {
+        return new JSONObject().put("requestId", requestId).put("quantity", one);
+    }
+
+    private String nextId() throws InterruptedException {
+        return new JSONObject(sent.poll(timeoutSeconds, TimeUnit.SECONDS)).getString("id");
+    }
+
+    private final class FakeClient implements WebSocketApiClient {
+        private final WebSocketApiTrade trade = new WebSocketApiTrade(handler);
+
+        @Override
+        public void connect(WebSocketMessageCallback onMessageCallback) {
+        }
+
+        @Override
+        public void connect(WebSocketOpenCallback onOpenCallback, WebSocketMessageCallback onMessageCallback, WebSocketClosingCallback onClosingCallback,
+                WebSocketClosedCallback onClosedCallback, WebSocketFailureCallback onFailureCallback) {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public void setRequestTimeout(long timeout, TimeUnit unit) {
+        }
+
+        @Override
+        public void setAutoLogon(boolean enabled) {
+        }
+
+        @Override
+        public void setReconnectPolicy(ReconnectPolicy policy) {
+        }
+
+        @Override
+        public SessionState getSessionState() {
+            return SessionState.LOGGED_OUT;
+        }
+
+        @Override
+        public WebSocketApiAccount account() {
+            return null;
+        }
+
+        @Override
+        public WebSocketApiAuth auth() {
+            return null;
+        }
+
+        @Override
+        public WebSocketApiGeneral general() {
+            return null;
+        }
+
+        @Override
+        public WebSocketApiMarket market() {
+            return null;
+        }
+
+        @Override
+        public WebSocketApiTrade trade() {
+            return trade;
+        }
+
+        @Override
+        public WebSocketApiUserDataStream userDataStream() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package unit.userdata;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Test;
+
+import com.binance.connector.client.impl.userdata.BalanceCache;
+import com.binance.connector.client.utils.decoder.StreamDecoder;
+
+public class TestBalanceCache {
+    private final long snapshotAt = 1573200697000L;
+    private final long earlier = 1573200696000L;
+    private final long later = 1573200698000L;
+    private final long latest = 1573200699000L;
+    private final long never = -1L;
+    private final int manyAssets = 200;
+    private final int first = 0;
+    private final int one = 1;
+    private final double delta = 1e-9;
+    private final double none = 0.0;
+    private final double btcFree = 1.5;
+    private final double btcLocked = 0.5;
+    private final double ethFree = 10.0;
+
+    private final String spotAccount = "{\"makerCommission\":15,\"canTrade\":true,\"updateTime\":1573200697000,"
+            + "\"accountType\":\"SPOT\",\"balances\":[{\"asset\":\"BTC\",\"free\":\"1.50000000\",\"locked\":\"0.50000000\"},"
+            + "{\"asset\":\"ETH\",\"free\":\"10.00000000\",\"locked\":\"0.00000000\"}],\"permissions\":[\"SPOT\"]}";
+    private final String marginAccount = "{\"borrowEnabled\":true,\"marginLevel\":\"11.64405625\",\"userAssets\":["
+            + "{\"asset\":\"BTC\",\"borrowed\":\"0.00000000\",\"free\":\"1.50000000\",\"interest\":\"0.00000000\","
+            + "\"locked\":\"0.50000000\",\"netAsset\":\"2.00000000\"}]}";
+
+    private final BalanceCache cache = new BalanceCache();
+    private final StreamDecoder decoder = new StreamDecoder()
+            .onAccountPosition(cache::onAccountPosition)
+            .onBalanceUpdate(cache::onBalanceUpdate);
+
+    @Test
+    public void testSeedsFromSnapshot() {
+        assertFalse(cache.isSeeded());
+        assertEquals(none, cache.free("BTC"), delta);
+        assertEquals(never, cache.getUpdateTime("BTC"));
+
+        cache.seed(spotAccount, later);
+        assertTrue(cache.isSeeded());
+        assertEquals(btcFree, cache.free("BTC"), delta);
+        assertEquals(btcLocked, cache.locked("BTC"), delta);
+        assertEquals(btcFree + btcLocked, cache.total("BTC"), delta);
+        assertEquals(ethFree, cache.free("ETH"), delta);
+        assertEquals(snapshotAt, cache.getUpdateTime("ETH"));
+        assertTrue(cache.hasFree("BTC", btcFree));
+        assertFalse(cache.hasFree("BTC", btcFree + btcLocked));
+
+        // a margin account has no update time, the time of the request is used
+        BalanceCache margin = new BalanceCache();
+        margin.seed(marginAccount, later);
+        assertEquals(btcLocked, margin.locked("BTC"), delta);
+        assertEquals(later, margin.getUpdateTime("BTC"));
+    }
+
+    @Test
+    public void testAppliesEventsNewerThanSnapshot() {
+        cache.seed(spotAccount, later);
+        long version = cache.getVersion();
+
+        // the snapshot already includes this position
+        decoder.decode(position(earlier, "BTC", "9", "0"));
+        assertEquals(btcFree, cache.free("BTC"), delta);
+
+        decoder.decode(balanceUpdate(later, "BTC", "1"));
+        assertEquals(btcFree + one, cache.free("BTC"), delta);
+        decoder.decode(position(latest, "BTC", "0.5", "1.5"));
+        assertEquals(btcLocked, cache.free("BTC"), delta);
+        assertEquals(btcFree, cache.locked("BTC"), delta);
+        // a deposit already counted in the position
+        decoder.decode(balanceUpdate(latest, "BTC", "1"));
+        assertEquals(btcLocked, cache.free("BTC"), delta);
+        assertTrue(cache.getVersion() > version);
+
+        // the assets missing from a newer snapshot are emptied, those changed since are kept
+        cache.seed("{\"updateTime\":1573200698500,\"balances\":[{\"asset\":\"BNB\",\"free\":\"2\",\"locked\":\"0\"}]}", latest);
+        assertEquals(none, cache.free("ETH"), delta);
+        assertEquals(btcLocked, cache.free("BTC"), delta);
+        assertEquals(btcFree + btcLocked, cache.free("BNB"), delta);
+    }
+
+    @Test
+    public void testGrowsWithAssets() {
+        for (int i = first; i < manyAssets; i++) {
+            decoder.decode(position(later, "A" + i, Integer.toString(i), "0"));
+        }
+        assertEquals(manyAssets - one, cache.free("A" + (manyAssets - one)), delta);
+        assertEquals(none, cache.free("A0"), delta);
+        assertEquals(later, cache.getUpdateTime("A0"));
+    }
+
+    @Test
+    public void testSeedsFromSource() {
+        BalanceCache seeded = new BalanceCache(() -> CompletableFuture.completedFuture(spotAccount));
+        seeded.seed().join();
+        assertEquals(ethFree, seeded.free("ETH"), delta);
+    }
+
+    private String position(long time, String asset, String free, String locked) {
+        return "{\"e\":\"outboundAccountPosition\",\"E\":" + time + ",\"u\":" + time + ",\"B\":[{\"a\":\"" + asset
+                + "\",\"f\":\"" + free + "\",\"l\":\"" + locked + "\"}]}";
+    }
+
+    private String balanceUpdate(long time, String asset, String change) {
+        return "{\"e\":\"balanceUpdate\",\"E\":" + time + ",\"a\":\"" + asset + "\",\"d\":\"" + change + "\",\"T\":" + time + "}";
+    }
+}
@@ -0,0 +1,178 @@
+package unit.userdata;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Test;
+
+import com.binance.connector.client.impl.userdata.OrderSource;
+import com.binance.connector.client.impl.userdata.OrderState;
+import com.binance.connector.client.impl.userdata.OrderStateStore;
+import com.binance.connector.client.utils.decoder.StreamDecoder;
+
+public class TestOrderStateStore {
+    private final long firstOrder = 4293153L;
+    private final long secondOrder = 4293154L;
+    private final long thirdOrder = 4293155L;
+    private final long placedAt = 1499405658000L;
+    private final long filledAt = 1499405659000L;
+    private final long staleAt = 1499405658500L;
+    private final long doneAt = 1499405660000L;
+    private final int manyOrders = 200;
+    private final int closedCapacity = 2;
+    private final int first = 0;
+    private final int none = 0;
+    private final int one = 1;
+    private final int two = 2;
+    private final double half = 0.5;
+    private final double delta = 0.0;
+
+    private final OrderStateStore store = new OrderStateStore();
+    private final StreamDecoder decoder = new StreamDecoder().onExecutionReport(store::onExecutionReport);
+
+    @Test
+    public void testAppliesReportsInOrder() {
+        decoder.decode(report("ETHBTC", firstOrder, "web1", "", "NEW", "0", placedAt));
+        decoder.decode(report("ETHBTC", firstOrder, "web1", "", "PARTIALLY_FILLED", "0.5", filledAt));
+        assertEquals(one, store.openOrderCount("ETHBTC"));
+
+        // a report delayed behind a later one changes nothing
+        decoder.decode(report("ETHBTC", firstOrder, "web1", "", "NEW", "0", staleAt));
+        OrderState state = store.get("ETHBTC", firstOrder);
+        assertEquals("PARTIALLY_FILLED", state.getStatus());
+        assertEquals(half, state.getExecutedQuantity(), delta);
+        assertEquals(half, state.getRemainingQuantity(), delta);
+        assertEquals(two, store.getVersion());
+
+        decoder.decode(report("ETHBTC", firstOrder, "web1", "", "FILLED", "1", doneAt));
+        assertEquals("FILLED", store.getByClientOrderId("web1").getStatus());
+        assertFalse(store.get("ETHBTC", firstOrder).isOpen());
+        assertEquals(none, store.openOrderCount("ETHBTC"));
+        assertTrue(store.openOrders("ETHBTC").isEmpty());
+    }
+
+    @Test
+    public void testKeepsClientOrderIdOfCanceledOrders() {
+        decoder.decode(report("ETHBTC", firstOrder, "web1", "", "NEW", "0", placedAt));
+        decoder.decode(report("BNBBTC", secondOrder, "web2", "", "NEW", "0", placedAt));
+        decoder.decode(report("ETHBTC", firstOrder, "cancel1", "web1", "CANCELED", "0", filledAt));
+        // an order first seen when canceled is known by the id it was placed with
+        decoder.decode(report("ETHBTC", thirdOrder, "cancel3", "web3", "CANCELED", "0", filledAt));
+
+        assertEquals("CANCELED", store.getByClientOrderId("web1").getStatus());
+        assertNull(store.getByClientOrderId("cancel1"));
+        assertEquals(thirdOrder, store.getByClientOrderId("web3").getOrderId());
+        assertEquals(none, store.openOrderCount("ETHBTC"));
+        assertEquals(one, store.openOrderCount("BNBBTC"));
+        assertEquals(secondOrder, store.openOrders("BNBBTC").get(first).getOrderId());
+        assertEquals(none, store.openOrderCount("XRPBTC"));
+    }
+
+    @Test
+    public void testReconcilesWithOpenOrders() {
+        decoder.decode(report("ETHBTC", firstOrder, "web1", "", "NEW", "0", placedAt));
+        decoder.decode(report("ETHBTC", secondOrder, "web2", "", "NEW", "0", placedAt));
+
+        // the second order was filled while the stream was down, a third one placed elsewhere
+        String openOrders = "[" + order(firstOrder, "web1", "PARTIALLY_FILLED", "0.5", filledAt) + ","
+                + order(thirdOrder, "app3", "NEW", "0", filledAt) + "]";
+        List<OrderState> missing = store.reconcile(openOrders, doneAt);
+        assertEquals(one, missing.size());
+        assertEquals(secondOrder, missing.get(first).getOrderId());
+        assertEquals("PARTIALLY_FILLED", store.get("ETHBTC", firstOrder).getStatus());
+        assertEquals("app3", store.getByClientOrderId("app3").getClientOrderId());
+        assertEquals(one, store.getReconcileCount());
+
+        assertTrue(store.applyOrder(order(secondOrder, "web2", "FILLED", "1", filledAt)));
+        assertFalse(store.applyOrder(order(secondOrder, "web2", "NEW", "0", placedAt)));
+        assertEquals(two, store.openOrderCount("ETHBTC"));
+        assertEquals("FILLED", store.get("ETHBTC", secondOrder).getStatus());
+    }
+
+    @Test
+    public void testKeysOrdersBySymbol() {
+        // order ids are only unique within a symbol
+        decoder.decode(report("ETHBTC", firstOrder, "web1", "", "NEW", "0", placedAt));
+        decoder.decode(report("BTCUSDT", firstOrder, "web2", "", "NEW", "0", placedAt));
+        assertEquals("web1", store.get("ETHBTC", firstOrder).getClientOrderId());
+        assertEquals("web2", store.get("BTCUSDT", firstOrder).getClientOrderId());
+        assertEquals(one, store.openOrderCount("ETHBTC"));
+        assertEquals(one, store.openOrderCount("BTCUSDT"));
+        assertNull(store.get("BNBBTC", firstOrder));
+
+        String openOrders = "[" + order(firstOrder, "web2", "NEW", "0", filledAt).replace("ETHBTC", "BTCUSDT") + "]";
+        List<OrderState> missing = store.reconcile(openOrders, doneAt);
+        assertEquals(one, missing.size());
+        assertEquals("ETHBTC", missing.get(first).getSymbol());
+
+        decoder.decode(report("BTCUSDT", firstOrder, "web2", "", "FILLED", "1", doneAt));
+        assertEquals("NEW", store.get("ETHBTC", firstOrder).getStatus());
+        assertEquals("FILLED", store.get("BTCUSDT", firstOrder).getStatus());
+        assertEquals(one, store.openOrderCount("ETHBTC"));
+        assertEquals(none, store.openOrderCount("BTCUSDT"));
+    }
+
+    @Test
+    public void testQueriesMissingOrdersAfterGap() {
+        OrderStateStore reconciled = new OrderStateStore(new OrderSource() {
+            @Override
+            public CompletableFuture<String> fetchOpenOrders() {
+                return CompletableFuture.completedFuture("[]");
+            }
+
+            @Override
+            public CompletableFuture<String> fetchOrder(String symbol, long orderId) {
+                return CompletableFuture.completedFuture(order(orderId, "web1", "CANCELED", "0", filledAt));
+            }
+        });
+        new StreamDecoder().onExecutionReport(reconciled::onExecutionReport)
+                .decode(report("ETHBTC", firstOrder, "web1", "", "NEW", "0", placedAt));
+
+        assertEquals(one, reconciled.reconcile().join().intValue());
+        assertEquals("CANCELED", reconciled.get("ETHBTC", firstOrder).getStatus());
+        assertEquals(none, reconciled.openOrderCount("ETHBTC"));
+    }
+
+    @Test
+    public void testForgetsOldestClosedOrders() {
+        OrderStateStore bounded = new OrderStateStore(null, closedCapacity);
+        StreamDecoder boundedDecoder = new StreamDecoder().onExecutionReport(bounded::onExecutionReport);
+        for (int i = first; i < manyOrders; i++) {
+            boundedDecoder.decode(report("ETHBTC", firstOrder + i, "web" + i, "", "NEW", "0", placedAt));
+        }
+        assertEquals(manyOrders, bounded.openOrderCount("ETHBTC"));
+        assertNotNull(bounded.getByClientOrderId("web" + (manyOrders - one)));
+
+        boundedDecoder.decode(report("ETHBTC", firstOrder, "web0", "", "FILLED", "1", doneAt));
+        boundedDecoder.decode(report("ETHBTC", secondOrder, "web1", "", "FILLED", "1", doneAt));
+        boundedDecoder.decode(report("ETHBTC", thirdOrder, "web2", "", "FILLED", "1", doneAt));
+        assertNull(bounded.get("ETHBTC", firstOrder));
+        assertNull(bounded.getByClientOrderId("web0"));
+        assertNotNull(bounded.get("ETHBTC", secondOrder));
+        assertNotNull(bounded.get("ETHBTC", thirdOrder));
+        assertEquals(manyOrders - two - one, bounded.openOrderCount("ETHBTC"));
+    }
+
+    private String report(String symbol, long orderId, String clientOrderId, String originalClientOrderId, String status,
+            String executed, long time) {
+        return "{\"e\":\"executionReport\",\"E\":" + time + ",\"s\":\"" + symbol + "\",\"c\":\"" + clientOrderId + "\","
+                + "\"S\":\"BUY\",\"o\":\"LIMIT\",\"f\":\"GTC\",\"q\":\"1.00000000\",\"p\":\"0.10264410\",\"P\":\"0.00000000\","
+                + "\"F\":\"0.00000000\",\"g\":-1,\"C\":\"" + originalClientOrderId + "\",\"x\":\"TRADE\",\"X\":\"" + status + "\","
+                + "\"r\":\"NONE\",\"i\":" + orderId + ",\"l\":\"0\",\"z\":\"" + executed + "\",\"L\":\"0\",\"n\":\"0\","
+                + "\"N\":\"BNB\",\"T\":" + time + ",\"t\":-1,\"I\":8641984,\"w\":true,\"m\":false,\"M\":false,"
+                + "\"O\":" + placedAt + ",\"Z\":\"0\",\"Y\":\"0\",\"Q\":\"0\"}";
+    }
+
+    private String order(long orderId, String clientOrderId, String status, String executed, long time) {
+        return "{\"symbol\":\"ETHBTC\",\"orderId\":" + orderId + ",\"orderListId\":-1,\"clientOrderId\":\"" + clientOrderId + "\","
+                + "\"price\":\"0.10264410\",\"origQty\":\"1.00000000\",\"executedQty\":\"" + executed + "\","
+                + "\"cummulativeQuoteQty\":\"0\",\"status\":\"" + status + "\",\"timeInForce\":\"GTC\",\"type\":\"LIMIT\","
+                + "\"side\":\"BUY\",\"stopPrice\":\"0.0\",\"time\":" + placedAt + ",\"updateTime\":" + time + ",\"isWorking\":true}";
+    }
+}
@@ -0,0 +1,206 @@
+package unit.userdata;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.binance.connector.client.exceptions.BinanceClientException;
+import com.binance.connector.client.impl.userdata.ListenKeyEndpoints;
+import com.binance.connector.client.impl.userdata.UserDataSession;
+import com.binance.connector.client.utils.ReconnectPolicy;
+
+import okhttp3.Response;
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+public class TestUserDataSession {
+    private final long timeoutSeconds = 5;
+    private final long keepaliveMillis = 50;
+    private final int listenKeyNotFound = -1125;
+    private final int badRequest = 400;
+    private final int tooManyRequests = 429;
+    private final int tooManyRequestsCode = -1003;
+    private final int rateLimitedKeepalives = 3;
+    private final long observedIntervals = 10;
+    private final long maxKeepalives = 15;
+    private final long oneRollover = 1L;
+    private final long none = 0L;
+    private final String report = "{\"e\":\"executionReport\",\"E\":1499405658658,\"s\":\"ETHBTC\",\"i\":4293153}";
+    private final String expired = "{\"e\":\"listenKeyExpired\",\"E\":1576653824250,\"listenKey\":\"key1\"}";
+
+    private MockWebServer mockWebServer;
+    private final BlockingQueue<String> paths = new LinkedBlockingQueue<>();
+    private final BlockingQueue<WebSocket> sockets = new LinkedBlockingQueue<>();
+
+    @Before
+    public void init() throws IOException {
+        mockWebServer = new MockWebServer();
+        mockWebServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                paths.add(request.getPath());
+                return new MockResponse().withWebSocketUpgrade(new WebSocketListener() {
+                    @Override
+                    public void onOpen(WebSocket webSocket, Response response) {
+                        sockets.add(webSocket);
+                    }
+
+                    @Override
+                    public void onClosing(WebSocket webSocket, int code, String reason) {
+                        webSocket.close(code, null);
+                    }
+                });
+            }
+        });
+        mockWebServer.start();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        mockWebServer.shutdown();
+    }
+
+    @Test
+    public void testKeepsAliveAndReplacesRejectedKey() throws InterruptedException {
+        FakeEndpoints endpoints = new FakeEndpoints();
+        BlockingQueue<String> messages = new LinkedBlockingQueue<>();
+        BlockingQueue<Integer> gaps = new LinkedBlockingQueue<>();
+        UserDataSession session = newSession(endpoints, messages, gaps);
+        try {
+            session.start();
+            assertEquals("key1", session.getListenKey());
+            assertEquals("/ws/key1", paths.poll(timeoutSeconds, TimeUnit.SECONDS));
+            WebSocket server = sockets.poll(timeoutSeconds, TimeUnit.SECONDS);
+            assertNotNull(server);
+            server.send(report);
+            assertEquals(report, messages.poll(timeoutSeconds, TimeUnit.SECONDS));
+            assertEquals("key1", endpoints.extended.poll(timeoutSeconds, TimeUnit.SECONDS));
+
+            // the server no longer knows the key: a new one is created and the stream moves to it
+            int firstConnection = session.getConnectionId();
+            endpoints.rejectKeepalives = true;
+            assertEquals("/ws/key2", paths.poll(timeoutSeconds, TimeUnit.SECONDS));
+            Integer gap = gaps.poll(timeoutSeconds, TimeUnit.SECONDS);
+            assertNotNull(gap);
+            assertEquals(session.getConnectionId(), gap.intValue());
+            assertNotEquals(firstConnection, session.getConnectionId());
+            assertEquals("key2", session.getListenKey());
+            assertEquals(oneRollover, session.getRolloverCount());
+            assertTrue(session.getKeepaliveCount() > none);
+        } finally {
+            session.close();
+        }
+        assertEquals("key2", endpoints.closed.poll(timeoutSeconds, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testReplacesExpiredKey() throws InterruptedException {
+        FakeEndpoints endpoints = new FakeEndpoints();
+        BlockingQueue<String> messages = new LinkedBlockingQueue<>();
+        BlockingQueue<Integer> gaps = new LinkedBlockingQueue<>();
+        UserDataSession session = newSession(endpoints, messages, gaps);
+        try {
+            session.start();
+            assertEquals("/ws/key1", paths.poll(timeoutSeconds, TimeUnit.SECONDS));
+            WebSocket server = sockets.poll(timeoutSeconds, TimeUnit.SECONDS);
+            assertNotNull(server);
+            endpoints.rejectKeepalives = true;
+            server.send(expired);
+            assertEquals(expired, messages.poll(timeoutSeconds, TimeUnit.SECONDS));
+            assertEquals("/ws/key2", paths.poll(timeoutSeconds, TimeUnit.SECONDS));
+            assertNotNull(gaps.poll(timeoutSeconds, TimeUnit.SECONDS));
+            WebSocket replacement = sockets.poll(timeoutSeconds, TimeUnit.SECONDS);
+            assertNotNull(replacement);
+            replacement.send(report);
+            assertEquals(report, messages.poll(timeoutSeconds, TimeUnit.SECONDS));
+            assertEquals(oneRollover, session.getRolloverCount());
+        } finally {
+            session.close();
+        }
+    }
+
+    @Test
+    public void testRetriesRateLimitedKeepaliveOnOneSchedule() throws InterruptedException {
+        FakeEndpoints endpoints = new FakeEndpoints();
+        endpoints.rateLimited.set(rateLimitedKeepalives);
+        UserDataSession session = newSession(endpoints, new LinkedBlockingQueue<>(), new LinkedBlockingQueue<>());
+        try {
+            session.start();
+            assertEquals("key1", endpoints.extended.poll(timeoutSeconds, TimeUnit.SECONDS));
+
+            // a rate limit is not a lost key, and each retry replaces the pending keepalive instead of adding one
+            long since = endpoints.attempts.get();
+            Thread.sleep(observedIntervals * keepaliveMillis);
+            assertTrue(endpoints.attempts.get() - since <= maxKeepalives);
+            assertEquals("key1", session.getListenKey());
+            assertEquals(none, session.getRolloverCount());
+        } finally {
+            session.close();
+        }
+    }
+
+    private UserDataSession newSession(FakeEndpoints endpoints, BlockingQueue<String> messages, BlockingQueue<Integer> gaps) {
+        return UserDataSession.builder()
+                .endpoints(endpoints)
+                .streamUrl(mockWebServer.url("").toString().replaceAll("/$", ""))
+                .messageCallback(messages::add)
+                .gapCallback((connectionId, disconnectedAt, reconnectedAt) -> gaps.add(connectionId))
+                .reconnectPolicy(ReconnectPolicy.defaultPolicy())
+                .keepaliveInterval(keepaliveMillis, TimeUnit.MILLISECONDS)
+                .retryDelay(keepaliveMillis, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    private final class FakeEndpoints implements ListenKeyEndpoints {
+        private final AtomicInteger created = new AtomicInteger();
+        private final BlockingQueue<String> extended = new LinkedBlockingQueue<>();
+        private final BlockingQueue<String> closed = new LinkedBlockingQueue<>();
+        private final AtomicInteger attempts = new AtomicInteger();
+        private final AtomicInteger rateLimited = new AtomicInteger();
+        private volatile boolean rejectKeepalives;
+
+        @Override
+        public CompletableFuture<String> create() {
+            return CompletableFuture.completedFuture("{\"listenKey\":\"key" + created.incrementAndGet() + "\"}");
+        }
+
+        @Override
+        public CompletableFuture<String> extend(String listenKey) {
+            CompletableFuture<String> response = new CompletableFuture<>();
+            attempts.incrementAndGet();
+            if (rateLimited.getAndDecrement() > none) {
+                response.completeExceptionally(new BinanceClientException("Too many requests.",
+                        "Too many requests.", tooManyRequests, tooManyRequestsCode));
+            } else if (rejectKeepalives && "key1".equals(listenKey)) {
+                response.completeExceptionally(new BinanceClientException("This listenKey does not exist.",
+                        "This listenKey does not exist.", badRequest, listenKeyNotFound));
+            } else {
+                extended.add(listenKey);
+                response.complete("{}");
+            }
+            return response;
+        }
+
+        @Override
+        public CompletableFuture<String> close(String listenKey) {
+            closed.add(listenKey);
+            return CompletableFuture.completedFuture("{}");
+        }
+    }
+}
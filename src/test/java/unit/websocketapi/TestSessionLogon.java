@@ -0,0 +1,176 @@
+package unit.websocketapi;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.binance.connector.client.WebSocketApiClient;
+import com.binance.connector.client.enums.SessionState;
+import com.binance.connector.client.exceptions.BinanceConnectorException;
+import com.binance.connector.client.exceptions.WebSocketNotConnectedException;
+import com.binance.connector.client.impl.WebSocketApiClientImpl;
+import com.binance.connector.client.utils.ReconnectPolicy;
+import com.binance.connector.client.utils.WebSocketConnection;
+import com.binance.connector.client.utils.signaturegenerator.Ed25519SignatureGenerator;
+import com.binance.connector.client.utils.websocketapi.WebSocketApiRequestHandler;
+
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import unit.MockData;
+
+public class TestSessionLogon {
+    private final String pemPath = "src/test/java/unit/signature/Ed25519PrivateKeyExample.pem";
+    private final long authorizedSince = 1649729878532L;
+    private final long timeoutSeconds = 5;
+    private final long maxAgeMillis = 60000;
+    private final BlockingQueue<String> sent = new LinkedBlockingQueue<>();
+    private volatile boolean connected = true;
+    private WebSocketConnection connection;
+    private WebSocketApiRequestHandler handler;
+    private MockWebServer mockWebServer;
+
+    @Before
+    public void init() throws IOException {
+        connection = new WebSocketConnection(response -> { }, text -> { }, (code, reason) -> { },
+                (code, reason) -> { }, (t, response) -> { }, MockData.WS_REQUEST, null) {
+            @Override
+            public void send(String message) {
+                if (!connected) {
+                    throw new WebSocketNotConnectedException("No WebSocket connection. Please connect first!");
+                }
+                sent.add(message);
+            }
+        };
+        handler = new WebSocketApiRequestHandler(connection, MockData.API_KEY, new Ed25519SignatureGenerator(pemPath));
+        mockWebServer = new MockWebServer();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        mockWebServer.shutdown();
+    }
+
+    @Test
+    public void testLogonOnConnect() throws Exception {
+        handler.setAutoLogon(true);
+        handler.onConnected();
+        JSONObject logon = new JSONObject(sent.take());
+        assertEquals("session.logon", logon.getString("method"));
+        assertTrue(logon.getJSONObject("params").has("signature"));
+        assertEquals(SessionState.LOGGING_ON, handler.getSessionState());
+
+        handler.onMessage(sessionResponse(logon.get("id"), authorizedSince));
+        assertEquals(SessionState.AUTHORIZED, handler.getSessionState());
+
+        handler.signedRequest("order.place", new JSONObject().put("symbol", "BNBUSDT"));
+        handler.apiRequest("userDataStream.start", null);
+        JSONObject order = new JSONObject(sent.take()).getJSONObject("params");
+        assertFalse(order.has("signature"));
+        assertFalse(order.has("apiKey"));
+        assertFalse(order.has("timestamp"));
+        assertFalse(new JSONObject(sent.take()).has("params"));
+
+        // the session ends with the connection
+        handler.onDisconnected("Connection closed");
+        assertEquals(SessionState.LOGGED_OUT, handler.getSessionState());
+        handler.signedRequest("order.place", new JSONObject().put("symbol", "BNBUSDT"));
+        assertTrue(new JSONObject(sent.take()).getJSONObject("params").has("signature"));
+    }
+
+    @Test
+    public void testSessionResponses() throws Exception {
+        handler.logon(null);
+        JSONObject logon = new JSONObject(sent.take());
+        handler.onMessage("{\"id\":\"" + logon.get("id") + "\",\"status\":401,\"error\":{\"code\":-1022,"
+                + "\"msg\":\"Signature for this request is not valid.\"}}");
+        assertEquals(SessionState.LOGGED_OUT, handler.getSessionState());
+
+        handler.logon(null);
+        handler.onMessage(sessionResponse(new JSONObject(sent.take()).get("id"), authorizedSince));
+        assertEquals(SessionState.AUTHORIZED, handler.getSessionState());
+
+        handler.publicRequest("session.status", null);
+        handler.onMessage(sessionResponse(new JSONObject(sent.take()).get("id"), null));
+        assertEquals(SessionState.LOGGED_OUT, handler.getSessionState());
+
+        // without autoLogon a new connection is not logged on
+        handler.onConnected();
+        assertEquals(SessionState.LOGGED_OUT, handler.getSessionState());
+        assertTrue(sent.isEmpty());
+    }
+
+    @Test
+    public void testNeedsEd25519Key() {
+        WebSocketApiRequestHandler hmacHandler = new WebSocketApiRequestHandler(connection, MockData.API_KEY, MockData.HMAC_SIGNATURE_GENERATOR);
+        assertThrows(BinanceConnectorException.class, () -> hmacHandler.setAutoLogon(true));
+        assertThrows(BinanceConnectorException.class, () -> hmacHandler.logon(null));
+
+        WebSocketApiClient client = new WebSocketApiClientImpl(MockData.API_KEY, MockData.HMAC_SIGNATURE_GENERATOR);
+        assertThrows(BinanceConnectorException.class, () -> client.setAutoLogon(true));
+        assertThrows(BinanceConnectorException.class,
+                () -> client.setReconnectPolicy(ReconnectPolicy.builder().maxConnectionAge(maxAgeMillis, TimeUnit.MILLISECONDS).build()));
+        assertEquals(SessionState.LOGGED_OUT, client.getSessionState());
+    }
+
+    @Test
+    public void testFailedLogonSendLeavesSessionLoggedOut() {
+        connected = false;
+        assertThrows(WebSocketNotConnectedException.class, () -> handler.logon(null));
+        assertEquals(SessionState.LOGGED_OUT, handler.getSessionState());
+    }
+
+    @Test
+    public void testClientLogsOn() throws Exception {
+        BlockingQueue<JSONObject> received = new LinkedBlockingQueue<>();
+        mockWebServer.enqueue(new MockResponse().withWebSocketUpgrade(new WebSocketListener() {
+            @Override
+            public void onMessage(WebSocket webSocket, String text) {
+                JSONObject request = new JSONObject(text);
+                received.add(request);
+                Object since = "session.logon".equals(request.getString("method")) ? authorizedSince : null;
+                webSocket.send(sessionResponse(request.get("id"), since));
+            }
+
+            @Override
+            public void onClosing(WebSocket webSocket, int code, String reason) {
+                webSocket.close(code, null);
+            }
+        }));
+
+        WebSocketApiClientImpl client = new WebSocketApiClientImpl(MockData.API_KEY, new Ed25519SignatureGenerator(pemPath),
+                mockWebServer.url("/ws-api/v3").toString());
+        client.setAutoLogon(true);
+        client.connect(message -> { });
+        assertEquals("session.logon", received.poll(timeoutSeconds, TimeUnit.SECONDS).getString("method"));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        while (client.getSessionState() != SessionState.AUTHORIZED && System.nanoTime() < deadline) {
+            Thread.yield();
+        }
+        assertEquals(SessionState.AUTHORIZED, client.getSessionState());
+
+        client.account().accountStatus(null).get(timeoutSeconds, TimeUnit.SECONDS);
+        JSONObject account = received.poll(timeoutSeconds, TimeUnit.SECONDS);
+        assertEquals("account.status", account.getString("method"));
+        assertFalse(account.has("params"));
+        client.close();
+    }
+
+    private String sessionResponse(Object id, Object since) {
+        JSONObject result = new JSONObject().put("apiKey", MockData.API_KEY).put("authorizedSince", since == null ? JSONObject.NULL : since)
+                .put("connectedSince", authorizedSince).put("returnRateLimits", false).put("serverTime", authorizedSince);
+        return new JSONObject().put("id", id).put("status", MockData.HTTP_STATUS_OK).put("result", result).toString();
+    }
+}
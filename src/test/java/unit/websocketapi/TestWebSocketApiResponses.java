@@ -0,0 +1,150 @@
+package unit.websocketapi;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.binance.connector.client.WebSocketApiClient;
+import com.binance.connector.client.enums.RequestType;
+import com.binance.connector.client.exceptions.BinanceClientException;
+import com.binance.connector.client.exceptions.BinanceConnectorException;
+import com.binance.connector.client.exceptions.BinanceServerException;
+import com.binance.connector.client.impl.WebSocketApiClientImpl;
+import com.binance.connector.client.utils.WebSocketConnection;
+import com.binance.connector.client.utils.websocketapi.WebSocketApiRequestHandler;
+
+import okhttp3.Response;
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import unit.MockData;
+
+public class TestWebSocketApiResponses {
+    private final BlockingQueue<String> sent = new LinkedBlockingQueue<>();
+    private final long timeoutMillis = 50;
+    private final long timeoutSeconds = 5;
+    private final int requestId = 42;
+    private final int invalidSymbolErrorCode = -1121;
+    private final int badRequest = 400;
+    private final int zero = 0;
+    private final int goingAway = 1001;
+    private WebSocketApiRequestHandler handler;
+    private MockWebServer mockWebServer;
+
+    @Before
+    public void init() {
+        WebSocketConnection connection = new WebSocketConnection(response -> { }, text -> { }, (code, reason) -> { },
+                (code, reason) -> { }, (t, response) -> { }, MockData.WS_REQUEST, null) {
+            @Override
+            public void send(String message) {
+                sent.add(message);
+            }
+        };
+        handler = new WebSocketApiRequestHandler(connection, MockData.API_KEY, MockData.HMAC_SIGNATURE_GENERATOR);
+        mockWebServer = new MockWebServer();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        mockWebServer.shutdown();
+    }
+
+    @Test
+    public void testResponseCompletesRequest() throws Exception {
+        CompletableFuture<String> ping = handler.publicRequest("ping", new JSONObject().put("requestId", "ping-1"));
+        CompletableFuture<String> time = handler.publicRequest("time", new JSONObject().put("requestId", requestId));
+        assertEquals("ping-1", new JSONObject(sent.take()).getString("id"));
+
+        String timeResponse = "{\"id\":42,\"status\":200,\"result\":{\"serverTime\":1656400526260}}";
+        assertTrue(handler.onMessage(timeResponse));
+        assertEquals(timeResponse, time.get());
+        assertFalse(ping.isDone());
+
+        String pingResponse = "{\"status\":200,\"result\":{},\"id\":\"ping-1\"}";
+        assertTrue(handler.onMessage(pingResponse));
+        assertEquals(pingResponse, ping.get());
+        assertFalse(handler.onMessage(pingResponse));
+        assertEquals(zero, handler.getPendingRequestCount());
+    }
+
+    @Test
+    public void testErrorResponse() {
+        CompletableFuture<String> order = handler.signedRequest("order.test", new JSONObject().put("requestId", "order-1").put("symbol", "BTC"));
+        handler.onMessage("{\"id\":\"order-1\",\"status\":400,\"error\":{\"code\":-1121,\"msg\":\"Invalid symbol.\"}}");
+        ExecutionException e = assertThrows(ExecutionException.class, order::get);
+        BinanceClientException cause = (BinanceClientException) e.getCause();
+        assertEquals(invalidSymbolErrorCode, cause.getErrorCode());
+        assertEquals(badRequest, cause.getHttpStatusCode());
+
+        CompletableFuture<String> ping = handler.publicRequest("ping", new JSONObject().put("requestId", "ping-1"));
+        handler.onMessage("{\"id\":\"ping-1\",\"status\":503,\"error\":{\"code\":-1007,\"msg\":\"Timeout\"}}");
+        assertTrue(assertThrows(ExecutionException.class, ping::get).getCause() instanceof BinanceServerException);
+    }
+
+    @Test
+    public void testTimeoutAndDisconnect() {
+        CompletableFuture<String> slow = handler.request(RequestType.PUBLIC, "ping", null, timeoutMillis, TimeUnit.MILLISECONDS);
+        assertTrue(assertThrows(ExecutionException.class, () -> slow.get(timeoutSeconds, TimeUnit.SECONDS)).getCause() instanceof BinanceConnectorException);
+
+        CompletableFuture<String> pending = handler.publicRequest("ping", null);
+        handler.failPendingRequests("Connection closed");
+        assertTrue(assertThrows(ExecutionException.class, pending::get).getCause() instanceof BinanceConnectorException);
+        assertEquals(zero, handler.getPendingRequestCount());
+
+        assertThrows(BinanceConnectorException.class, () -> handler.setRequestTimeout(-timeoutMillis, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testDuplicateRequestId() {
+        handler.publicRequest("ping", new JSONObject().put("requestId", "ping-1"));
+        assertThrows(BinanceConnectorException.class, () -> handler.publicRequest("ping", new JSONObject().put("requestId", "ping-1")));
+    }
+
+    @Test
+    public void testClient() throws Exception {
+        BlockingQueue<WebSocket> sockets = new LinkedBlockingQueue<>();
+        mockWebServer.enqueue(new MockResponse().withWebSocketUpgrade(new WebSocketListener() {
+            @Override
+            public void onOpen(WebSocket webSocket, Response response) {
+                sockets.add(webSocket);
+            }
+
+            @Override
+            public void onMessage(WebSocket webSocket, String text) {
+                Object id = new JSONObject(text).get("id");
+                if ("time".equals(new JSONObject(text).getString("method"))) {
+                    webSocket.send(new JSONObject().put("id", id).put("status", MockData.HTTP_STATUS_OK).toString());
+                }
+            }
+        }));
+
+        BlockingQueue<String> messages = new LinkedBlockingQueue<>();
+        WebSocketApiClient client = new WebSocketApiClientImpl(MockData.API_KEY, MockData.HMAC_SIGNATURE_GENERATOR, mockWebServer.url("/ws-api/v3").toString());
+        client.connect(messages::add);
+        String response = client.general().serverTime(null).get(timeoutSeconds, TimeUnit.SECONDS);
+        assertEquals(response, messages.poll(timeoutSeconds, TimeUnit.SECONDS));
+
+        CompletableFuture<String> unanswered = client.general().ping(null);
+        WebSocket server = sockets.poll(timeoutSeconds, TimeUnit.SECONDS);
+        assertNotNull(server);
+        server.close(goingAway, "Going away");
+        ExecutionException e = assertThrows(ExecutionException.class, () -> unanswered.get(timeoutSeconds, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof BinanceConnectorException);
+    }
+
+}
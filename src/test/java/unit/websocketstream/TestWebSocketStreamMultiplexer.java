@@ -0,0 +1,180 @@
+package unit.websocketstream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.binance.connector.client.exceptions.BinanceConnectorException;
+import com.binance.connector.client.impl.WebSocketStreamMultiplexer;
+
+import okhttp3.Response;
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+
+public class TestWebSocketStreamMultiplexer {
+    private MockWebServer mockWebServer;
+    private String baseUrl;
+    private final ServerSockets server = new ServerSockets();
+    private final long timeoutSeconds = 5;
+    private final int streamsPerConnection = 2;
+    private final int connections = 2;
+    private final int oneConnection = 1;
+    private final int normalClosure = 1000;
+    private final int tooManyStreams = 1025;
+    private final int internalError = 1011;
+    private final int manyStreams = 10;
+    private final int none = 0;
+
+    @Before
+    public void init() {
+        this.mockWebServer = new MockWebServer();
+        this.baseUrl = mockWebServer.url("").toString().replaceAll("/$", "");
+        mockWebServer.enqueue(new MockResponse().withWebSocketUpgrade(server));
+        mockWebServer.enqueue(new MockResponse().withWebSocketUpgrade(server));
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        mockWebServer.shutdown();
+    }
+
+    @Test
+    public void testSubscribeAndRoute() throws Exception {
+        BlockingQueue<String> events = new LinkedBlockingQueue<>();
+        BlockingQueue<String> btc = new LinkedBlockingQueue<>();
+        WebSocketStreamMultiplexer multiplexer = new WebSocketStreamMultiplexer(baseUrl, streamsPerConnection);
+        multiplexer.subscribe(Arrays.asList("btcusdt@trade", "ethusdt@trade", "bnbusdt@trade"), events::add);
+        multiplexer.subscribe("btcusdt@trade", btc::add);
+        assertEquals(connections, multiplexer.getConnectionCount());
+        assertEquals("/stream", mockWebServer.takeRequest().getPath());
+
+        Received first = server.poll();
+        Received second = server.poll();
+        Received full = first.params().length() == streamsPerConnection ? first : second;
+        Received single = full == first ? second : first;
+        assertEquals("SUBSCRIBE", full.json.getString("method"));
+        assertEquals("[\"btcusdt@trade\",\"ethusdt@trade\"]", full.params().toString());
+        assertEquals("[\"bnbusdt@trade\"]", single.params().toString());
+
+        full.socket.send("{\"result\":null,\"id\":" + full.json.getInt("id") + "}");
+        full.socket.send("{\"stream\":\"btcusdt@trade\",\"data\":{\"e\":\"trade\",\"s\":\"BTCUSDT\"}}");
+        assertEquals("{\"e\":\"trade\",\"s\":\"BTCUSDT\"}", btc.poll(timeoutSeconds, TimeUnit.SECONDS));
+        full.socket.send("{\"data\":{\"s\":\"ETHUSDT\"},\"stream\":\"ethusdt@trade\"}");
+        assertEquals("{\"s\":\"ETHUSDT\"}", events.poll(timeoutSeconds, TimeUnit.SECONDS));
+        single.socket.send("{\"stream\":\"bnbusdt@trade\",\"data\":{\"s\":\"BNBUSDT\"}}");
+        assertEquals("{\"s\":\"BNBUSDT\"}", events.poll(timeoutSeconds, TimeUnit.SECONDS));
+
+        multiplexer.unsubscribe("bnbusdt@trade");
+        assertEquals(Integer.valueOf(normalClosure), server.closing.poll(timeoutSeconds, TimeUnit.SECONDS));
+        assertEquals(oneConnection, multiplexer.getConnectionCount());
+
+        multiplexer.unsubscribe("ethusdt@trade");
+        Received unsubscribe = server.poll();
+        assertEquals("UNSUBSCRIBE", unsubscribe.json.getString("method"));
+        assertEquals("[\"ethusdt@trade\"]", unsubscribe.params().toString());
+        assertEquals(Collections.singleton("btcusdt@trade"), multiplexer.getStreams());
+        multiplexer.close();
+    }
+
+    @Test
+    public void testBatchesSubscriptions() throws Exception {
+        WebSocketStreamMultiplexer multiplexer = new WebSocketStreamMultiplexer(baseUrl);
+        Set<String> subscribed = new HashSet<>();
+        for (int i = none; i < manyStreams; i++) {
+            multiplexer.subscribe("stream" + i + "@trade", event -> { });
+        }
+        int messages = none;
+        while (subscribed.size() < manyStreams) {
+            for (Object stream : server.poll().params()) {
+                subscribed.add(String.valueOf(stream));
+            }
+            messages++;
+        }
+        assertTrue(messages < manyStreams);
+        assertEquals(oneConnection, multiplexer.getConnectionCount());
+        assertEquals(subscribed, multiplexer.getStreams());
+        multiplexer.close();
+    }
+
+    @Test
+    public void testDropsLostConnection() throws Exception {
+        WebSocketStreamMultiplexer multiplexer = new WebSocketStreamMultiplexer(baseUrl);
+        multiplexer.subscribe("btcusdt@trade", event -> { });
+        server.poll().socket.close(internalError, "Internal error");
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        while (multiplexer.getConnectionCount() != none && System.nanoTime() < deadline) {
+            Thread.yield();
+        }
+        assertEquals(none, multiplexer.getConnectionCount());
+        assertTrue(multiplexer.getStreams().isEmpty());
+
+        // subscribed again on a new connection
+        multiplexer.subscribe("btcusdt@trade", event -> { });
+        assertEquals("[\"btcusdt@trade\"]", server.poll().params().toString());
+        assertEquals(oneConnection, multiplexer.getConnectionCount());
+        multiplexer.close();
+    }
+
+    @Test
+    public void testInvalidStreamsPerConnection() {
+        assertThrows(BinanceConnectorException.class, () -> new WebSocketStreamMultiplexer(baseUrl, tooManyStreams));
+    }
+
+    private static final class Received {
+        private final WebSocket socket;
+        private final JSONObject json;
+
+        private Received(WebSocket socket, String text) {
+            this.socket = socket;
+            this.json = new JSONObject(text);
+        }
+
+        private JSONArray params() {
+            return json.getJSONArray("params");
+        }
+    }
+
+    private final class ServerSockets extends WebSocketListener {
+        private final BlockingQueue<Received> messages = new LinkedBlockingQueue<>();
+        private final BlockingQueue<Integer> closing = new LinkedBlockingQueue<>();
+
+        @Override
+        public void onOpen(WebSocket webSocket, Response response) {
+        }
+
+        @Override
+        public void onMessage(WebSocket webSocket, String text) {
+            messages.add(new Received(webSocket, text));
+        }
+
+        @Override
+        public void onClosing(WebSocket webSocket, int code, String reason) {
+            closing.add(code);
+            webSocket.close(code, null);
+        }
+
+        private Received poll() throws InterruptedException {
+            Received received = messages.poll(timeoutSeconds, TimeUnit.SECONDS);
+            assertNotNull(received);
+            return received;
+        }
+    }
+}